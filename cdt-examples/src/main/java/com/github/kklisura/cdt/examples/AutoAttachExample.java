@@ -0,0 +1,82 @@
+package com.github.kklisura.cdt.examples;
+
+import com.github.kklisura.cdt.launch.ChromeLauncher;
+import com.github.kklisura.cdt.protocol.commands.Network;
+import com.github.kklisura.cdt.protocol.commands.Page;
+import com.github.kklisura.cdt.protocol.types.target.TargetInfo;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.ChromeService;
+import com.github.kklisura.cdt.services.types.ChildSessionListener;
+import com.github.kklisura.cdt.services.types.ChromeTab;
+
+/**
+ * Auto attach example with DevTools java client.
+ *
+ * <p>The following example will open chrome, create a tab with about:blank url, enable auto-attach
+ * to child targets and log requests and console messages of the page as well as its out-of-process
+ * iframes and workers. All child targets share the web socket connection of the tab.
+ *
+ * @author Kenan Klisura
+ */
+public class AutoAttachExample {
+  public static void main(String[] args) throws InterruptedException {
+    // Create chrome launcher.
+    try (final ChromeLauncher launcher = new ChromeLauncher()) {
+      // Launch chrome either as headless (true) or regular (false).
+      final ChromeService chromeService = launcher.launch(false);
+
+      // Create empty tab ie about:blank.
+      final ChromeTab tab = chromeService.createTab();
+
+      // Get DevTools service to this tab
+      try (final ChromeDevToolsService devToolsService = chromeService.createDevToolsService(tab)) {
+        logRequestsAndConsole("page", devToolsService);
+
+        // Child targets are paused until onAttached returns so no request is missed.
+        devToolsService.enableAutoAttach(
+            new ChildSessionListener() {
+              @Override
+              public void onAttached(ChromeDevToolsService childService, TargetInfo targetInfo) {
+                System.out.printf(
+                    "attached: %s %s%s",
+                    targetInfo.getType(), targetInfo.getUrl(), System.lineSeparator());
+
+                logRequestsAndConsole(targetInfo.getType(), childService);
+              }
+
+              @Override
+              public void onDetached(ChromeDevToolsService childService, TargetInfo targetInfo) {
+                System.out.printf("detached: %s%s", targetInfo.getUrl(), System.lineSeparator());
+              }
+            });
+
+        // Navigate to a page embedding cross-site iframes.
+        final Page page = devToolsService.getPage();
+        page.enable();
+        page.navigate("https://www.youtube.com/embed/dQw4w9WgXcQ");
+
+        Thread.sleep(10000);
+      }
+
+      // Close the tab.
+      chromeService.closeTab(tab);
+    }
+  }
+
+  private static void logRequestsAndConsole(String name, ChromeDevToolsService devToolsService) {
+    final Network network = devToolsService.getNetwork();
+    network.onRequestWillBeSent(
+        event ->
+            System.out.printf(
+                "%s request: %s%s", name, event.getRequest().getUrl(), System.lineSeparator()));
+    network.enable();
+
+    devToolsService
+        .getRuntime()
+        .onConsoleAPICalled(
+            event ->
+                System.out.printf(
+                    "%s console: %s%s", name, event.getType(), System.lineSeparator()));
+    devToolsService.getRuntime().enable();
+  }
+}
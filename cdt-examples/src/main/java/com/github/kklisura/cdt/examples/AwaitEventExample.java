@@ -0,0 +1,49 @@
+package com.github.kklisura.cdt.examples;
+
+import com.github.kklisura.cdt.launch.ChromeLauncher;
+import com.github.kklisura.cdt.protocol.commands.Page;
+import com.github.kklisura.cdt.protocol.events.page.LoadEventFired;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.ChromeService;
+import com.github.kklisura.cdt.services.types.ChromeTab;
+
+/**
+ * Await event example with DevTools java client.
+ *
+ * <p>The following example will open chrome, create a tab with about:blank url, navigate to
+ * github.com and wait for the page load event. The load event subscription is registered before
+ * navigation is triggered so the event can not be missed, and no thread is parked while waiting.
+ *
+ * @author Kenan Klisura
+ */
+public class AwaitEventExample {
+  public static void main(String[] args) {
+    // Create chrome launcher.
+    try (final ChromeLauncher launcher = new ChromeLauncher()) {
+      // Launch chrome either as headless (true) or regular (false).
+      final ChromeService chromeService = launcher.launch(false);
+
+      // Create empty tab ie about:blank.
+      final ChromeTab tab = chromeService.createTab();
+
+      // Get DevTools service to this tab
+      try (final ChromeDevToolsService devToolsService = chromeService.createDevToolsService(tab)) {
+        final Page page = devToolsService.getPage();
+
+        // Enable page events.
+        page.enable();
+
+        // Navigate to github.com and wait (at most 30 seconds) for load event.
+        devToolsService
+            .awaitAfter(() -> page.navigate("http://github.com"), page::onLoadEventFired, 30)
+            .thenAccept(
+                (LoadEventFired event) ->
+                    System.out.println("Page loaded at " + event.getTimestamp()))
+            .join();
+      }
+
+      // Close the tab.
+      chromeService.closeTab(tab);
+    }
+  }
+}
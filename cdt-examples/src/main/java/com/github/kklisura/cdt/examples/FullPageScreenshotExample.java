@@ -9,10 +9,11 @@ import com.github.kklisura.cdt.protocol.types.page.Viewport;
 import com.github.kklisura.cdt.services.ChromeDevToolsService;
 import com.github.kklisura.cdt.services.ChromeService;
 import com.github.kklisura.cdt.services.types.ChromeTab;
-import java.io.File;
-import java.io.FileOutputStream;
+import com.github.kklisura.cdt.utils.BinaryCommands;
 import java.io.IOException;
-import java.util.Base64;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Takes a full page screenshot. The output screenshot dimensions will be page width x page height,
@@ -44,9 +45,18 @@ public class FullPageScreenshotExample {
     viewport.setWidth(width);
     viewport.setHeight(height);
 
-    dump(
-        outputFilename,
-        page.captureScreenshot(CaptureScreenshotFormat.PNG, 100, viewport, Boolean.TRUE));
+    // Screenshot data is decoded straight into the file.
+    try (FileChannel channel =
+        FileChannel.open(
+            Paths.get(outputFilename),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      BinaryCommands.captureScreenshot(
+          devToolsService, CaptureScreenshotFormat.PNG, 100, viewport, Boolean.TRUE, channel);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
   }
 
   public static void main(String[] args) {
@@ -84,24 +94,4 @@ public class FullPageScreenshotExample {
 
     devToolsService.waitUntilClosed();
   }
-
-  private static void dump(String fileName, String data) {
-    FileOutputStream fileOutputStream = null;
-    try {
-      File file = new File(fileName);
-      fileOutputStream = new FileOutputStream(file);
-      fileOutputStream.write(Base64.getDecoder().decode(data));
-    } catch (IOException e) {
-      e.printStackTrace();
-    } finally {
-      if (fileOutputStream != null) {
-        try {
-          fileOutputStream.flush();
-          fileOutputStream.close();
-        } catch (IOException e) {
-          e.printStackTrace();
-        }
-      }
-    }
-  }
 }
@@ -0,0 +1,160 @@
+package com.github.kklisura.cdt.examples;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.kklisura.cdt.protocol.codecs.ProtocolCodecs;
+import com.github.kklisura.cdt.protocol.types.dom.Node;
+import com.github.kklisura.cdt.protocol.types.network.Response;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Json codec benchmark with DevTools java client.
+ *
+ * <p>The following example compares decoding of large protocol payloads, ie. a DOM.Node tree as
+ * returned by DOM.getDocument with depth -1 and a batch of Network.Response objects, with
+ * reflective Jackson binding and with generated streaming codecs. It does not need a running
+ * chrome.
+ *
+ * @author Kenan Klisura
+ */
+public class JsonCodecBenchmarkExample {
+  private static final int WARMUP_ITERATIONS = 200;
+  private static final int MEASURED_ITERATIONS = 200;
+
+  private static final int DOM_DEPTH = 6;
+  private static final int DOM_CHILDREN = 5;
+
+  private static final int RESPONSES = 2000;
+
+  private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+  public static void main(String[] args) throws IOException {
+    final ObjectMapper reflectiveMapper = createObjectMapper();
+    final ObjectMapper codecMapper =
+        createObjectMapper().registerModule(ProtocolCodecs.createModule());
+
+    final byte[] domTree = reflectiveMapper.writeValueAsBytes(createNode(1, 0));
+    final byte[] responses = reflectiveMapper.writeValueAsBytes(createResponses());
+
+    benchmark("DOM.Node tree", domTree, reflectiveMapper.readerFor(Node.class), "reflective");
+    benchmark("DOM.Node tree", domTree, codecMapper.readerFor(Node.class), "codecs");
+
+    benchmark(
+        "Network.Response",
+        responses,
+        reflectiveMapper.readerFor(
+            reflectiveMapper.getTypeFactory().constructCollectionType(List.class, Response.class)),
+        "reflective");
+    benchmark(
+        "Network.Response",
+        responses,
+        codecMapper.readerFor(
+            codecMapper.getTypeFactory().constructCollectionType(List.class, Response.class)),
+        "codecs");
+  }
+
+  private static void benchmark(String name, byte[] payload, ObjectReader reader, String binding)
+      throws IOException {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      reader.readValue(payload);
+    }
+
+    final long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      reader.readValue(payload);
+    }
+    final long elapsed = System.nanoTime() - start;
+
+    final double millisPerOp =
+        elapsed / (double) TimeUnit.MILLISECONDS.toNanos(1) / MEASURED_ITERATIONS;
+    final double megabytesPerSecond =
+        payload.length * (double) MEASURED_ITERATIONS / (1024 * 1024) / (elapsed / 1e9);
+
+    System.out.printf(
+        "%-16s %-10s %8.3f ms/op %8.1f MB/s (%d KB)%n",
+        name, binding, millisPerOp, megabytesPerSecond, payload.length / 1024);
+  }
+
+  private static ObjectNode createNode(int nodeId, int depth) {
+    final ObjectNode node = NODE_FACTORY.objectNode();
+    node.put("nodeId", nodeId);
+    node.put("backendNodeId", nodeId);
+    node.put("nodeType", 1);
+    node.put("nodeName", "DIV");
+    node.put("localName", "div");
+    node.put("nodeValue", "");
+    node.putArray("attributes").add("class").add("item item-" + nodeId).add("id").add("n" + nodeId);
+
+    if (depth < DOM_DEPTH) {
+      node.put("childNodeCount", DOM_CHILDREN);
+
+      final ArrayNode children = node.putArray("children");
+      for (int i = 0; i < DOM_CHILDREN; i++) {
+        final ObjectNode child = createNode(nodeId * DOM_CHILDREN + i, depth + 1);
+        child.put("parentId", nodeId);
+        children.add(child);
+      }
+    } else {
+      node.put("childNodeCount", 0);
+    }
+
+    return node;
+  }
+
+  private static ArrayNode createResponses() {
+    final ArrayNode responses = NODE_FACTORY.arrayNode();
+    for (int i = 0; i < RESPONSES; i++) {
+      final ObjectNode response = responses.addObject();
+      response.put("url", "https://example.com/assets/" + i + ".js");
+      response.put("status", 200);
+      response.put("statusText", "OK");
+      response
+          .putObject("headers")
+          .put("content-type", "application/javascript")
+          .put("content-length", String.valueOf(1000 + i))
+          .put("cache-control", "max-age=3600");
+      response.put("mimeType", "application/javascript");
+      response.put("connectionReused", true);
+      response.put("connectionId", 26);
+      response.put("remoteIPAddress", "93.184.216.34");
+      response.put("remotePort", 443);
+      response.put("fromDiskCache", false);
+      response.put("fromServiceWorker", false);
+      response.put("encodedDataLength", 1034.5 + i);
+      response
+          .putObject("timing")
+          .put("requestTime", 25713.245161 + i)
+          .put("proxyStart", -1)
+          .put("proxyEnd", -1)
+          .put("dnsStart", 0.213)
+          .put("dnsEnd", 12.554)
+          .put("connectStart", 12.554)
+          .put("connectEnd", 98.104)
+          .put("sslStart", 40.345)
+          .put("sslEnd", 98.098)
+          .put("workerStart", -1)
+          .put("workerReady", -1)
+          .put("sendStart", 98.305)
+          .put("sendEnd", 98.374)
+          .put("pushStart", 0)
+          .put("pushEnd", 0)
+          .put("receiveHeadersEnd", 188.447);
+      response.put("protocol", "h2");
+      response.put("securityState", "secure");
+    }
+    return responses;
+  }
+
+  private static ObjectMapper createObjectMapper() {
+    return new ObjectMapper()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  }
+}
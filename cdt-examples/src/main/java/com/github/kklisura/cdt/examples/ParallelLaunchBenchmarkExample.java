@@ -0,0 +1,78 @@
+package com.github.kklisura.cdt.examples;
+
+import com.github.kklisura.cdt.launch.ChromeLauncher;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.ChromeService;
+import com.github.kklisura.cdt.services.types.ChromeTab;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parallel launch benchmark with DevTools java client.
+ *
+ * <p>The following example measures launch-to-first-command latency, ie. time from launching a
+ * headless chrome until the first DevTools command on a new tab returns. It compares a single
+ * launch with 16 chromes launched in parallel with {@link ChromeLauncher#launchAsync()}.
+ *
+ * @author Kenan Klisura
+ */
+public class ParallelLaunchBenchmarkExample {
+  private static final int[] PARALLEL_LAUNCHES = {1, 16};
+
+  public static void main(String[] args) {
+    for (int parallelLaunches : PARALLEL_LAUNCHES) {
+      benchmark(parallelLaunches);
+    }
+  }
+
+  private static void benchmark(int parallelLaunches) {
+    final List<ChromeLauncher> launchers = new ArrayList<>();
+    final List<CompletableFuture<Long>> latencies = new ArrayList<>();
+
+    try {
+      final long start = System.nanoTime();
+
+      for (int i = 0; i < parallelLaunches; i++) {
+        final ChromeLauncher launcher = new ChromeLauncher();
+        launchers.add(launcher);
+
+        // Launch chrome and run the first command as soon as it is up.
+        latencies.add(
+            launcher
+                .launchAsync()
+                .thenApply(ParallelLaunchBenchmarkExample::runFirstCommand)
+                .thenApply(unused -> System.nanoTime() - start));
+      }
+
+      CompletableFuture.allOf(latencies.toArray(new CompletableFuture<?>[0])).join();
+
+      final long total = System.nanoTime() - start;
+
+      long sum = 0;
+      long max = 0;
+      for (CompletableFuture<Long> latency : latencies) {
+        sum += latency.join();
+        max = Math.max(max, latency.join());
+      }
+
+      System.out.printf(
+          "%2d parallel launches: avg %d ms, max %d ms, total %d ms%n",
+          parallelLaunches,
+          TimeUnit.NANOSECONDS.toMillis(sum / parallelLaunches),
+          TimeUnit.NANOSECONDS.toMillis(max),
+          TimeUnit.NANOSECONDS.toMillis(total));
+    } finally {
+      launchers.forEach(ChromeLauncher::close);
+    }
+  }
+
+  private static String runFirstCommand(ChromeService chromeService) {
+    final ChromeTab tab = chromeService.createTab();
+
+    try (final ChromeDevToolsService devToolsService = chromeService.createDevToolsService(tab)) {
+      return devToolsService.getBrowser().getVersion().getProduct();
+    }
+  }
+}
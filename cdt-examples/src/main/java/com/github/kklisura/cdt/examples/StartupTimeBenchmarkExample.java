@@ -0,0 +1,55 @@
+package com.github.kklisura.cdt.examples;
+
+import com.github.kklisura.cdt.launch.ChromeLauncher;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.ChromeService;
+import com.github.kklisura.cdt.services.types.ChromeTab;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup time benchmark with DevTools java client.
+ *
+ * <p>The following example measures the startup time of a short-lived screenshot worker: time from
+ * process start until main is entered, and time spent launching chrome, creating a dev tools
+ * service and taking the first screenshot. Run it on a JVM and as a GraalVM native executable to
+ * compare both, ie.
+ *
+ * <pre>
+ *   native-image -cp ... com.github.kklisura.cdt.examples.StartupTimeBenchmarkExample
+ * </pre>
+ *
+ * @author Kenan Klisura
+ */
+public class StartupTimeBenchmarkExample {
+  public static void main(String[] args) {
+    final long processUptime = ManagementFactory.getRuntimeMXBean().getUptime();
+
+    long start = System.nanoTime();
+
+    try (final ChromeLauncher launcher = new ChromeLauncher()) {
+      final ChromeService chromeService = launcher.launch(true);
+      final long launch = elapsedMillis(start);
+
+      start = System.nanoTime();
+      final ChromeTab tab = chromeService.createTab();
+
+      try (final ChromeDevToolsService devToolsService = chromeService.createDevToolsService(tab)) {
+        final long createService = elapsedMillis(start);
+
+        start = System.nanoTime();
+        final String screenshot = devToolsService.getPage().captureScreenshot();
+        final long screenshotTime = elapsedMillis(start);
+
+        System.out.printf(
+            "uptime at main %d ms, launch %d ms, create service %d ms, "
+                + "first screenshot %d ms (%d bytes base64)%n",
+            processUptime, launch, createService, screenshotTime, screenshot.length());
+      }
+    }
+  }
+
+  private static long elapsedMillis(long start) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+}
@@ -1,24 +1,21 @@
 package com.github.kklisura.cdt.examples;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.kklisura.cdt.launch.ChromeLauncher;
 import com.github.kklisura.cdt.protocol.commands.Page;
-import com.github.kklisura.cdt.protocol.commands.Tracing;
 import com.github.kklisura.cdt.services.ChromeDevToolsService;
 import com.github.kklisura.cdt.services.ChromeService;
 import com.github.kklisura.cdt.services.types.ChromeTab;
-import java.io.File;
+import com.github.kklisura.cdt.tracing.TraceRecorder;
 import java.io.IOException;
-import java.util.LinkedList;
-import java.util.List;
+import java.nio.file.Paths;
 
 /**
- * Tracing example.
+ * Tracing example. Trace is streamed directly to a tracing.json file.
  *
  * @author Kenan Klisura
  */
 public class TracingExample {
-  public static void main(String[] args) {
+  public static void main(String[] args) throws IOException {
     // Create chrome launcher.
     final ChromeLauncher launcher = new ChromeLauncher();
 
@@ -33,54 +30,24 @@ public class TracingExample {
 
     // Get individual commands
     final Page page = devToolsService.getPage();
-    final Tracing tracing = devToolsService.getTracing();
-
-    final List<Object> dataCollectedList = new LinkedList<>();
-
-    // Add tracing data to dataCollectedList
-    tracing.onDataCollected(
-        event -> {
-          if (event.getValue() != null) {
-            dataCollectedList.addAll(event.getValue());
-          }
-        });
-
-    // When tracing is complete, dump dataCollectedList to JSON file.
-    tracing.onTracingComplete(
-        event -> {
-          // Dump tracing to file.
-          System.out.println("Tracing completed! Dumping to a file.");
-
-          dump("tracing.json", dataCollectedList);
-
-          devToolsService.close();
-        });
-
-    page.onLoadEventFired(
-        event -> {
-          tracing.end();
-        });
 
     // Enable page events.
     page.enable();
 
-    // Start tracing
-    tracing.start();
+    // Start tracing into tracing.json file.
+    final TraceRecorder traceRecorder = new TraceRecorder(devToolsService);
+    traceRecorder.start(Paths.get("tracing.json"));
 
-    // Navigate to github.com.
-    page.navigate("http://github.com");
-
-    devToolsService.waitUntilClosed();
-  }
+    // Navigate to github.com and wait for load event.
+    devToolsService
+        .awaitAfter(() -> page.navigate("http://github.com"), page::onLoadEventFired)
+        .join();
 
-  private static void dump(String fileName, List<Object> data) {
-    final ObjectMapper objectMapper = new ObjectMapper();
+    // Stop tracing and wait until trace is written.
+    traceRecorder.stop();
+    System.out.println("Tracing completed! Trace written to tracing.json file.");
 
-    try {
-      File file = new File(fileName);
-      objectMapper.writeValue(file, data);
-    } catch (IOException e) {
-      e.printStackTrace();
-    }
+    devToolsService.close();
+    launcher.close();
   }
 }
@@ -0,0 +1,374 @@
+package com.github.kklisura.cdt.cluster;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.services.impl.ChromeServiceImpl.ABOUT_BLANK_PAGE;
+
+import com.github.kklisura.cdt.cluster.config.ChromeClusterConfiguration;
+import com.github.kklisura.cdt.cluster.exceptions.ChromeClusterException;
+import com.github.kklisura.cdt.launch.ChromeArguments;
+import com.github.kklisura.cdt.launch.ChromeLauncher;
+import com.github.kklisura.cdt.launch.exceptions.ChromeProcessException;
+import com.github.kklisura.cdt.pool.BrowserContextLease;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cluster of chrome processes launched and supervised by {@link ChromeLauncher}s. New tabs and
+ * browser contexts are routed to the least loaded chrome process, ie. the one with the fewest
+ * active tabs and leased browser contexts; if CPU sampling is enabled, CPU usage breaks the ties.
+ * Crashed chrome processes are restarted transparently in the background, while new work is routed
+ * to the running ones.
+ *
+ * <p>Chrome processes are recycled after a number of created tabs, after some time or when JS heap
+ * usage crosses a threshold, see {@link ChromeClusterConfiguration}. Recycled process stops
+ * accepting new work while a replacement is started in the background, and is closed once its
+ * in-flight tabs and browser contexts are done.
+ *
+ * <pre>{@code
+ * try (ChromeCluster cluster = new ChromeCluster(configuration)) {
+ *   try (ChromeClusterTab tab = cluster.createTab("https://github.com")) {
+ *     ChromeDevToolsService devToolsService = tab.getDevToolsService();
+ *     ...
+ *   }
+ * }
+ * }</pre>
+ *
+ * @author Kenan Klisura
+ */
+public class ChromeCluster implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChromeCluster.class);
+
+  private static final Comparator<ChromeClusterNode> LOAD_COMPARATOR =
+      Comparator.comparingInt(ChromeClusterNode::getLoad)
+          .thenComparingDouble(ChromeClusterNode::getCpuUsage);
+
+  private final ChromeClusterConfiguration configuration;
+
+  private final List<ChromeClusterNode> nodes;
+
+  private final ScheduledExecutorService supervisor;
+
+  private volatile boolean closed;
+
+  /**
+   * Launches a new cluster of headless chrome processes with default arguments.
+   *
+   * @param configuration Cluster configuration.
+   * @throws ChromeProcessException If any of the chrome processes fails to start.
+   */
+  public ChromeCluster(ChromeClusterConfiguration configuration) {
+    this(configuration, ChromeArguments.defaults(true).build(), ChromeLauncher::new);
+  }
+
+  /**
+   * Launches a new cluster of chrome processes given chrome arguments.
+   *
+   * @param configuration Cluster configuration.
+   * @param chromeArguments Chrome arguments used for every process.
+   * @throws ChromeProcessException If any of the chrome processes fails to start.
+   */
+  public ChromeCluster(ChromeClusterConfiguration configuration, ChromeArguments chromeArguments) {
+    this(configuration, chromeArguments, ChromeLauncher::new);
+  }
+
+  /**
+   * Launches a new cluster of chrome processes given chrome arguments and a launcher factory.
+   *
+   * @param configuration Cluster configuration.
+   * @param chromeArguments Chrome arguments used for every process.
+   * @param chromeLauncherFactory Factory creating a launcher per chrome process.
+   * @throws ChromeProcessException If any of the chrome processes fails to start.
+   */
+  public ChromeCluster(
+      ChromeClusterConfiguration configuration,
+      ChromeArguments chromeArguments,
+      ChromeLauncherFactory chromeLauncherFactory) {
+    this.configuration = configuration;
+
+    // Launch all chrome processes in parallel.
+    List<ChromeClusterNode> clusterNodes = new ArrayList<>(configuration.getProcessCount());
+    List<CompletableFuture<Void>> startups = new ArrayList<>(configuration.getProcessCount());
+    for (int i = 0; i < configuration.getProcessCount(); i++) {
+      ChromeClusterNode node =
+          new ChromeClusterNode(i, chromeLauncherFactory, chromeArguments, configuration);
+      clusterNodes.add(node);
+      startups.add(node.startAsync());
+    }
+
+    try {
+      CompletableFuture.allOf(startups.toArray(new CompletableFuture<?>[0])).join();
+    } catch (CompletionException e) {
+      clusterNodes.forEach(ChromeClusterNode::close);
+
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new ChromeClusterException("Failed starting chrome cluster.", e.getCause());
+    }
+    this.nodes = Collections.unmodifiableList(clusterNodes);
+
+    supervisor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "cdt-cluster-supervisor");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    if (configuration.getSupervisionInterval() > 0) {
+      supervisor.scheduleWithFixedDelay(
+          this::supervise,
+          configuration.getSupervisionInterval(),
+          configuration.getSupervisionInterval(),
+          TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Creates a new tab with about:blank url on the least loaded chrome process.
+   *
+   * @return Cluster tab.
+   * @throws ChromeClusterException If cluster is closed or no chrome process is available.
+   */
+  public ChromeClusterTab createTab() {
+    return createTab(ABOUT_BLANK_PAGE);
+  }
+
+  /**
+   * Creates a new tab on the least loaded chrome process.
+   *
+   * @param url Tab url.
+   * @return Cluster tab.
+   * @throws ChromeClusterException If cluster is closed or no chrome process is available.
+   */
+  public ChromeClusterTab createTab(String url) {
+    awaitRunningNode();
+
+    ChromeClusterNode node;
+    ChromeClusterProcess process;
+
+    // Reserve the slot while selecting, so concurrent callers spread over processes.
+    synchronized (nodes) {
+      node = selectNode();
+      process = node.reserveTab();
+    }
+
+    recycleIfNeeded(node);
+
+    try {
+      return process.createTab(node, url);
+    } catch (RuntimeException e) {
+      process.cancelTab();
+      throw new ChromeClusterException("Failed creating tab on cluster node " + node.getIndex(), e);
+    }
+  }
+
+  /**
+   * Leases a new browser context on the least loaded chrome process.
+   *
+   * @return Browser context lease.
+   * @throws ChromeClusterException If cluster is closed or no chrome process is available.
+   * @throws com.github.kklisura.cdt.pool.exceptions.BrowserContextPoolException If browser context
+   *     can not be leased.
+   */
+  public BrowserContextLease leaseBrowserContext() {
+    awaitRunningNode();
+
+    ChromeClusterNode node;
+    synchronized (nodes) {
+      node = selectNode();
+    }
+    return node.getBrowserContextPool().lease();
+  }
+
+  /**
+   * Gets the cluster nodes.
+   *
+   * @return Cluster nodes.
+   */
+  public List<ChromeClusterNode> getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Returns true if cluster is closed.
+   *
+   * @return True if cluster is closed.
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /** Closes all chrome processes. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    supervisor.shutdownNow();
+
+    nodes.forEach(ChromeClusterNode::close);
+  }
+
+  /**
+   * Restarts a crashed chrome process on the calling thread if none of the processes is running, so
+   * callers do not fail while the whole cluster is being restarted. Cluster lock is not held while
+   * restarting.
+   */
+  private void awaitRunningNode() {
+    if (closed) {
+      throw new ChromeClusterException("Chrome cluster is closed.");
+    }
+
+    for (ChromeClusterNode node : nodes) {
+      if (node.isAlive()) {
+        return;
+      }
+    }
+
+    for (ChromeClusterNode node : nodes) {
+      try {
+        node.ensureRunning();
+        return;
+      } catch (RuntimeException e) {
+        LOGGER.error("Failed restarting chrome process of cluster node {}", node.getIndex(), e);
+      }
+    }
+  }
+
+  /**
+   * Selects the least loaded running node. Crashed nodes are skipped and restarted on supervisor
+   * thread, so a restart does not block callers holding the cluster lock.
+   *
+   * @return Selected node.
+   */
+  private ChromeClusterNode selectNode() {
+    if (closed) {
+      throw new ChromeClusterException("Chrome cluster is closed.");
+    }
+
+    ChromeClusterNode selected = null;
+    ChromeClusterNode selectedDraining = null;
+    for (ChromeClusterNode node : nodes) {
+      if (!node.isAlive()) {
+        restartInBackground(node);
+        continue;
+      }
+
+      if (node.isDraining()) {
+        if (selectedDraining == null || LOAD_COMPARATOR.compare(node, selectedDraining) < 0) {
+          selectedDraining = node;
+        }
+      } else if (selected == null || LOAD_COMPARATOR.compare(node, selected) < 0) {
+        selected = node;
+      }
+    }
+
+    // Draining processes are used only if every process is draining, not to fail requests while
+    // replacements are starting.
+    if (selected == null) {
+      selected = selectedDraining;
+    }
+
+    if (selected == null) {
+      throw new ChromeClusterException("No chrome process is available.");
+    }
+    return selected;
+  }
+
+  private void supervise() {
+    for (ChromeClusterNode node : nodes) {
+      if (closed) {
+        return;
+      }
+
+      try {
+        node.ensureRunning();
+
+        if (configuration.isCpuSamplingEnabled()) {
+          node.sampleCpuUsage();
+        }
+
+        if (configuration.getRecycleHeapUsageThreshold() > 0) {
+          node.sampleHeapUsage();
+        }
+
+        node.closeDrainedProcesses();
+
+        recycleIfNeeded(node);
+      } catch (Exception e) {
+        LOGGER.error("Failed supervising cluster node {}", node.getIndex(), e);
+      }
+    }
+  }
+
+  private void restartInBackground(ChromeClusterNode node) {
+    if (!closed && node.requestRestart()) {
+      try {
+        supervisor.execute(() -> restart(node));
+      } catch (RejectedExecutionException e) {
+        // Cluster got closed in the meantime.
+      }
+    }
+  }
+
+  private void restart(ChromeClusterNode node) {
+    try {
+      node.restart();
+    } catch (RuntimeException e) {
+      LOGGER.error("Failed restarting chrome process of cluster node {}", node.getIndex(), e);
+    }
+  }
+
+  private void recycleIfNeeded(ChromeClusterNode node) {
+    if (!closed && node.shouldRecycle()) {
+      try {
+        supervisor.execute(node::recycle);
+      } catch (RejectedExecutionException e) {
+        // Cluster got closed in the meantime.
+      }
+    }
+  }
+
+  /** Chrome launcher factory. */
+  @FunctionalInterface
+  public interface ChromeLauncherFactory {
+    /**
+     * Creates a new launcher for a single chrome process.
+     *
+     * @return Chrome launcher.
+     */
+    ChromeLauncher create();
+  }
+}
@@ -0,0 +1,401 @@
+package com.github.kklisura.cdt.cluster;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.cluster.ChromeCluster.ChromeLauncherFactory;
+import com.github.kklisura.cdt.cluster.config.ChromeClusterConfiguration;
+import com.github.kklisura.cdt.launch.ChromeArguments;
+import com.github.kklisura.cdt.launch.exceptions.ChromeProcessException;
+import com.github.kklisura.cdt.pool.BrowserContextPool;
+import com.github.kklisura.cdt.services.ChromeService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single chrome process slot supervised by a chrome cluster. Load of the node is the number of
+ * active tabs and leased browser contexts of its current chrome process.
+ *
+ * <p>When the current process crosses a recycle threshold it drains: it stops accepting new tabs
+ * and browser contexts while a replacement process is started in the background. Once the
+ * replacement is up it is swapped in, and the retired process is closed after its in-flight work
+ * completes or the drain timeout expires.
+ *
+ * @author Kenan Klisura
+ */
+public class ChromeClusterNode {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChromeClusterNode.class);
+
+  /** Number of last chrome output lines logged when chrome process crashes. */
+  private static final int CRASH_OUTPUT_LINES = 20;
+
+  private final int index;
+
+  private final ChromeLauncherFactory chromeLauncherFactory;
+
+  private final ChromeArguments chromeArguments;
+
+  private final ChromeClusterConfiguration configuration;
+
+  private final Set<ChromeClusterProcess> retiringProcesses = ConcurrentHashMap.newKeySet();
+
+  private volatile ChromeClusterProcess process;
+
+  private volatile int restartCount;
+
+  private volatile int recycleCount;
+
+  private boolean recycling;
+
+  private final AtomicBoolean restartRequested = new AtomicBoolean();
+
+  private volatile boolean closed;
+
+  /**
+   * Creates a new cluster node.
+   *
+   * @param index Node index within the cluster.
+   * @param chromeLauncherFactory Chrome launcher factory.
+   * @param chromeArguments Chrome arguments.
+   * @param configuration Cluster configuration.
+   */
+  ChromeClusterNode(
+      int index,
+      ChromeLauncherFactory chromeLauncherFactory,
+      ChromeArguments chromeArguments,
+      ChromeClusterConfiguration configuration) {
+    this.index = index;
+    this.chromeLauncherFactory = chromeLauncherFactory;
+    this.chromeArguments = chromeArguments;
+    this.configuration = configuration;
+  }
+
+  /**
+   * Gets the node index within the cluster.
+   *
+   * @return Node index.
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Gets the chrome service of the current chrome process.
+   *
+   * @return Chrome service.
+   */
+  public ChromeService getChromeService() {
+    return process.getChromeService();
+  }
+
+  /**
+   * Gets number of active tabs created through the cluster on the current chrome process.
+   *
+   * @return Active tab count.
+   */
+  public int getActiveTabCount() {
+    return process.getActiveTabCount();
+  }
+
+  /**
+   * Gets number of leased browser contexts on the current chrome process.
+   *
+   * @return Leased browser context count.
+   */
+  public int getLeasedContextCount() {
+    return process.getLeasedContextCount();
+  }
+
+  /**
+   * Gets the load of this node, ie. number of active tabs and leased browser contexts.
+   *
+   * @return Load.
+   */
+  public int getLoad() {
+    return process.getLoad();
+  }
+
+  /**
+   * Gets the last sampled CPU usage, in CPU seconds per second summed over all chrome processes.
+   * Always 0 if CPU sampling is disabled.
+   *
+   * @return CPU usage.
+   */
+  public double getCpuUsage() {
+    return process.getCpuUsage();
+  }
+
+  /**
+   * Gets the last sampled JS heap usage in bytes, summed over tabs with connected dev tools
+   * service. Always 0 if heap usage threshold is not set.
+   *
+   * @return Heap usage in bytes.
+   */
+  public long getHeapUsage() {
+    return process.getHeapUsage();
+  }
+
+  /**
+   * Gets how many times the chrome process has been restarted after a crash.
+   *
+   * @return Restart count.
+   */
+  public int getRestartCount() {
+    return restartCount;
+  }
+
+  /**
+   * Gets how many times the chrome process has been recycled.
+   *
+   * @return Recycle count.
+   */
+  public int getRecycleCount() {
+    return recycleCount;
+  }
+
+  /**
+   * Gets number of retired chrome processes still finishing their in-flight work.
+   *
+   * @return Retiring process count.
+   */
+  public int getRetiringCount() {
+    return retiringProcesses.size();
+  }
+
+  /**
+   * Returns true if chrome process of this node is running.
+   *
+   * @return True if chrome process is alive.
+   */
+  public boolean isAlive() {
+    ChromeClusterProcess current = process;
+    return current != null && current.isAlive();
+  }
+
+  /**
+   * Returns true if current chrome process is draining, ie. does not accept new tabs or browser
+   * contexts until the replacement process is swapped in.
+   *
+   * @return True if draining.
+   */
+  public boolean isDraining() {
+    return process.isDraining();
+  }
+
+  /**
+   * Launches the chrome process.
+   *
+   * @throws ChromeProcessException If chrome process fails to start.
+   */
+  synchronized void start() {
+    process = ChromeClusterProcess.launch(chromeLauncherFactory, chromeArguments, configuration);
+  }
+
+  /**
+   * Launches the chrome process asynchronously.
+   *
+   * @return Future completed once chrome process is started or exceptionally with {@link
+   *     ChromeProcessException} if it fails to start.
+   */
+  CompletableFuture<Void> startAsync() {
+    return ChromeClusterProcess.launchAsync(chromeLauncherFactory, chromeArguments, configuration)
+        .thenAccept(
+            started -> {
+              synchronized (this) {
+                process = started;
+              }
+            });
+  }
+
+  /**
+   * Restarts the chrome process if it is not running anymore. Tabs and browser contexts of the
+   * crashed process are lost.
+   *
+   * @throws ChromeProcessException If chrome process fails to restart.
+   */
+  synchronized void ensureRunning() {
+    if (closed || isAlive()) {
+      return;
+    }
+
+    LOGGER.warn(
+        "Chrome process of cluster node {} is not running. Restarting it... Chrome output: {}",
+        index,
+        lastLines(process.getChromeOutput(), CRASH_OUTPUT_LINES));
+
+    process.close();
+    start();
+    restartCount++;
+  }
+
+  /**
+   * Requests a restart of a crashed chrome process. Does not block on a restart in progress.
+   *
+   * @return True if chrome process is not running and restart has not been requested already.
+   */
+  boolean requestRestart() {
+    return !closed && !isAlive() && restartRequested.compareAndSet(false, true);
+  }
+
+  /**
+   * Restarts the chrome process if it is not running anymore, completing a requested restart.
+   *
+   * @throws ChromeProcessException If chrome process fails to restart.
+   */
+  void restart() {
+    try {
+      ensureRunning();
+    } finally {
+      restartRequested.set(false);
+    }
+  }
+
+  /**
+   * Returns true if current chrome process crossed a recycle threshold and is not being recycled
+   * already.
+   *
+   * @return True if node should be recycled.
+   */
+  synchronized boolean shouldRecycle() {
+    return !closed && !recycling && process.shouldRecycle();
+  }
+
+  /**
+   * Recycles the current chrome process: drains it, launches a replacement and swaps it in. If the
+   * replacement fails to start, current process resumes accepting work.
+   */
+  void recycle() {
+    ChromeClusterProcess retiring;
+    synchronized (this) {
+      if (closed || recycling) {
+        return;
+      }
+      recycling = true;
+      retiring = process;
+      retiring.startDraining();
+    }
+
+    LOGGER.info("Recycling chrome process of cluster node {}...", index);
+
+    try {
+      ChromeClusterProcess replacement =
+          ChromeClusterProcess.launch(chromeLauncherFactory, chromeArguments, configuration);
+
+      synchronized (this) {
+        if (closed) {
+          replacement.close();
+          return;
+        }
+
+        process = replacement;
+        retiringProcesses.add(retiring);
+        recycleCount++;
+      }
+
+      LOGGER.info("Chrome process of cluster node {} recycled.", index);
+
+      closeDrainedProcesses();
+    } catch (RuntimeException e) {
+      LOGGER.error("Failed starting replacement chrome process of cluster node {}", index, e);
+      retiring.stopDraining();
+    } finally {
+      synchronized (this) {
+        recycling = false;
+      }
+    }
+  }
+
+  /** Closes retired chrome processes that finished their in-flight work. */
+  void closeDrainedProcesses() {
+    for (ChromeClusterProcess retiring : new ArrayList<>(retiringProcesses)) {
+      if (retiring.isDrained() && retiringProcesses.remove(retiring)) {
+        retiring.close();
+      }
+    }
+  }
+
+  /**
+   * Reserves a tab slot on the current chrome process.
+   *
+   * @return Current chrome process.
+   */
+  ChromeClusterProcess reserveTab() {
+    ChromeClusterProcess current = process;
+    current.reserveTab();
+    return current;
+  }
+
+  /**
+   * Closes a tab and frees its slot.
+   *
+   * @param tab Cluster tab.
+   */
+  void releaseTab(ChromeClusterTab tab) {
+    tab.getProcess().releaseTab(tab);
+
+    if (retiringProcesses.contains(tab.getProcess())) {
+      closeDrainedProcesses();
+    }
+  }
+
+  /**
+   * Gets the browser context pool of the current chrome process, creating it if needed.
+   *
+   * @return Browser context pool.
+   */
+  BrowserContextPool getBrowserContextPool() {
+    return process.getBrowserContextPool();
+  }
+
+  /** Samples CPU time of the current chrome process. */
+  void sampleCpuUsage() {
+    process.sampleCpuUsage();
+  }
+
+  /** Samples JS heap usage of the current chrome process. */
+  void sampleHeapUsage() {
+    process.sampleHeapUsage();
+  }
+
+  /** Closes current and retiring chrome processes. */
+  synchronized void close() {
+    closed = true;
+
+    for (ChromeClusterProcess retiring : retiringProcesses) {
+      retiring.close();
+    }
+    retiringProcesses.clear();
+
+    if (process != null) {
+      process.close();
+    }
+  }
+
+  private static String lastLines(List<String> lines, int count) {
+    return String.join(
+        System.lineSeparator(), lines.subList(Math.max(0, lines.size() - count), lines.size()));
+  }
+}
@@ -0,0 +1,344 @@
+package com.github.kklisura.cdt.cluster;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.cluster.ChromeCluster.ChromeLauncherFactory;
+import com.github.kklisura.cdt.cluster.config.ChromeClusterConfiguration;
+import com.github.kklisura.cdt.launch.ChromeArguments;
+import com.github.kklisura.cdt.launch.ChromeLauncher;
+import com.github.kklisura.cdt.launch.exceptions.ChromeProcessException;
+import com.github.kklisura.cdt.pool.BrowserContextPool;
+import com.github.kklisura.cdt.protocol.types.runtime.HeapUsage;
+import com.github.kklisura.cdt.protocol.types.systeminfo.ProcessInfo;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.ChromeService;
+import com.github.kklisura.cdt.services.types.ChromeTab;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Running chrome process of a cluster node. Node replaces its process when the process crashes or
+ * gets recycled.
+ *
+ * @author Kenan Klisura
+ */
+final class ChromeClusterProcess {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChromeClusterProcess.class);
+
+  private final ChromeLauncher chromeLauncher;
+
+  private final ChromeService chromeService;
+
+  private final ChromeClusterConfiguration configuration;
+
+  private final long startTime = System.nanoTime();
+
+  private final AtomicInteger activeTabs = new AtomicInteger();
+
+  private final AtomicInteger createdTabs = new AtomicInteger();
+
+  private final Set<ChromeClusterTab> tabs = ConcurrentHashMap.newKeySet();
+
+  private BrowserContextPool browserContextPool;
+
+  private ChromeDevToolsService browserDevToolsService;
+
+  private volatile double cpuUsage;
+
+  private double lastCpuTime;
+
+  private long lastSampleTime;
+
+  private volatile long heapUsage;
+
+  private volatile long drainStartTime;
+
+  private volatile boolean closed;
+
+  private ChromeClusterProcess(
+      ChromeLauncher chromeLauncher,
+      ChromeService chromeService,
+      ChromeClusterConfiguration configuration) {
+    this.chromeLauncher = chromeLauncher;
+    this.chromeService = chromeService;
+    this.configuration = configuration;
+  }
+
+  /**
+   * Launches a new chrome process.
+   *
+   * @param chromeLauncherFactory Chrome launcher factory.
+   * @param chromeArguments Chrome arguments.
+   * @param configuration Cluster configuration.
+   * @return Chrome cluster process.
+   * @throws ChromeProcessException If chrome process fails to start.
+   */
+  static ChromeClusterProcess launch(
+      ChromeLauncherFactory chromeLauncherFactory,
+      ChromeArguments chromeArguments,
+      ChromeClusterConfiguration configuration) {
+    ChromeLauncher launcher = chromeLauncherFactory.create();
+    try {
+      return new ChromeClusterProcess(launcher, launcher.launch(chromeArguments), configuration);
+    } catch (RuntimeException e) {
+      launcher.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Launches a new chrome process asynchronously.
+   *
+   * @param chromeLauncherFactory Chrome launcher factory.
+   * @param chromeArguments Chrome arguments.
+   * @param configuration Cluster configuration.
+   * @return Future completed with chrome cluster process or exceptionally with {@link
+   *     ChromeProcessException} if chrome process fails to start.
+   */
+  static CompletableFuture<ChromeClusterProcess> launchAsync(
+      ChromeLauncherFactory chromeLauncherFactory,
+      ChromeArguments chromeArguments,
+      ChromeClusterConfiguration configuration) {
+    ChromeLauncher launcher = chromeLauncherFactory.create();
+
+    CompletableFuture<ChromeClusterProcess> future = new CompletableFuture<>();
+    launcher
+        .launchAsync(chromeArguments)
+        .whenComplete(
+            (chromeService, throwable) -> {
+              if (throwable != null) {
+                launcher.close();
+                future.completeExceptionally(throwable);
+              } else {
+                future.complete(new ChromeClusterProcess(launcher, chromeService, configuration));
+              }
+            });
+    return future;
+  }
+
+  ChromeService getChromeService() {
+    return chromeService;
+  }
+
+  boolean isAlive() {
+    return !closed && chromeLauncher.isAlive();
+  }
+
+  List<String> getChromeOutput() {
+    return chromeLauncher.getChromeOutput();
+  }
+
+  int getActiveTabCount() {
+    return activeTabs.get();
+  }
+
+  synchronized int getLeasedContextCount() {
+    return browserContextPool != null ? browserContextPool.getLeasedCount() : 0;
+  }
+
+  int getLoad() {
+    return getActiveTabCount() + getLeasedContextCount();
+  }
+
+  double getCpuUsage() {
+    return cpuUsage;
+  }
+
+  long getHeapUsage() {
+    return heapUsage;
+  }
+
+  boolean isDraining() {
+    return drainStartTime != 0;
+  }
+
+  void startDraining() {
+    drainStartTime = System.nanoTime();
+  }
+
+  void stopDraining() {
+    drainStartTime = 0;
+  }
+
+  /**
+   * Returns true if draining process has no in-flight work left or drain timeout has expired.
+   *
+   * @return True if process is drained.
+   */
+  boolean isDrained() {
+    if (getLoad() == 0) {
+      return true;
+    }
+
+    long drainTimeout = TimeUnit.SECONDS.toNanos(configuration.getRecycleDrainTimeout());
+    return isDraining() && System.nanoTime() - drainStartTime >= drainTimeout;
+  }
+
+  /**
+   * Returns true if process has crossed any of the configured recycle thresholds.
+   *
+   * @return True if process should be recycled.
+   */
+  boolean shouldRecycle() {
+    if (configuration.getRecycleAfterTabs() > 0
+        && createdTabs.get() >= configuration.getRecycleAfterTabs()) {
+      return true;
+    }
+
+    if (configuration.getRecycleAfterTime() > 0
+        && System.nanoTime() - startTime
+            >= TimeUnit.SECONDS.toNanos(configuration.getRecycleAfterTime())) {
+      return true;
+    }
+
+    return configuration.getRecycleHeapUsageThreshold() > 0
+        && heapUsage >= configuration.getRecycleHeapUsageThreshold();
+  }
+
+  void reserveTab() {
+    activeTabs.incrementAndGet();
+    createdTabs.incrementAndGet();
+  }
+
+  void cancelTab() {
+    activeTabs.decrementAndGet();
+  }
+
+  ChromeClusterTab createTab(ChromeClusterNode node, String url) {
+    ChromeTab tab = chromeService.createTab(url);
+
+    ChromeClusterTab clusterTab = new ChromeClusterTab(node, this, tab);
+    tabs.add(clusterTab);
+    return clusterTab;
+  }
+
+  /**
+   * Closes a tab and frees its slot. Tabs of closed processes are only dropped.
+   *
+   * @param tab Cluster tab.
+   */
+  void releaseTab(ChromeClusterTab tab) {
+    if (!tabs.remove(tab) || closed) {
+      return;
+    }
+
+    activeTabs.decrementAndGet();
+    try {
+      chromeService.closeTab(tab.getTab());
+    } catch (Exception e) {
+      LOGGER.warn("Failed closing tab {}", tab.getTab().getId(), e);
+    }
+  }
+
+  synchronized BrowserContextPool getBrowserContextPool() {
+    if (browserContextPool == null) {
+      browserContextPool =
+          new BrowserContextPool(chromeService, configuration.getBrowserContextPoolConfiguration());
+    }
+    return browserContextPool;
+  }
+
+  /** Samples CPU time of all chrome processes and updates CPU usage. */
+  synchronized void sampleCpuUsage() {
+    if (!isAlive()) {
+      return;
+    }
+
+    if (browserDevToolsService == null || browserDevToolsService.isClosed()) {
+      browserDevToolsService = chromeService.createBrowserDevToolsService();
+    }
+
+    double cpuTime = 0;
+    for (ProcessInfo processInfo : browserDevToolsService.getSystemInfo().getProcessInfo()) {
+      if (processInfo.getCpuTime() != null) {
+        cpuTime += processInfo.getCpuTime();
+      }
+    }
+
+    long now = System.nanoTime();
+    if (lastSampleTime != 0) {
+      double elapsed = (double) (now - lastSampleTime) / TimeUnit.SECONDS.toNanos(1);
+      // Exited renderers drop out of the sum, so never report negative usage.
+      cpuUsage = Math.max(0, (cpuTime - lastCpuTime) / elapsed);
+    }
+
+    lastCpuTime = cpuTime;
+    lastSampleTime = now;
+  }
+
+  /**
+   * Samples used JS heap size of tabs whose dev tools service is connected and updates heap usage.
+   * Tabs without dev tools connection are not connected to just for sampling.
+   */
+  void sampleHeapUsage() {
+    if (!isAlive()) {
+      return;
+    }
+
+    long usedSize = 0;
+    for (ChromeClusterTab tab : tabs) {
+      ChromeDevToolsService devToolsService = tab.getConnectedDevToolsService();
+      if (devToolsService == null || devToolsService.isClosed()) {
+        continue;
+      }
+
+      try {
+        HeapUsage tabHeapUsage = devToolsService.getRuntime().getHeapUsage();
+        if (tabHeapUsage.getUsedSize() != null) {
+          usedSize += tabHeapUsage.getUsedSize().longValue();
+        }
+      } catch (Exception e) {
+        LOGGER.debug("Failed sampling heap usage of tab {}", tab.getTab().getId(), e);
+      }
+    }
+
+    heapUsage = usedSize;
+  }
+
+  /** Closes the chrome process. */
+  synchronized void close() {
+    closed = true;
+
+    if (browserContextPool != null) {
+      try {
+        browserContextPool.close();
+      } catch (Exception e) {
+        LOGGER.debug("Failed closing browser context pool.", e);
+      }
+    }
+
+    if (browserDevToolsService != null) {
+      try {
+        browserDevToolsService.close();
+      } catch (Exception e) {
+        LOGGER.debug("Failed closing browser dev tools service.", e);
+      }
+    }
+
+    chromeLauncher.close();
+  }
+}
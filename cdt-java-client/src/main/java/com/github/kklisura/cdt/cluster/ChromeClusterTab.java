@@ -0,0 +1,116 @@
+package com.github.kklisura.cdt.cluster;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.ChromeService;
+import com.github.kklisura.cdt.services.types.ChromeTab;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tab created by a chrome cluster. Closing the cluster tab closes the tab and frees its slot on the
+ * chrome process, so it can be used in try-with-resources block.
+ *
+ * @author Kenan Klisura
+ */
+public class ChromeClusterTab implements AutoCloseable {
+  private final ChromeClusterNode node;
+
+  private final ChromeClusterProcess process;
+
+  private final ChromeTab tab;
+
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  private volatile ChromeDevToolsService devToolsService;
+
+  /**
+   * Creates a new cluster tab.
+   *
+   * @param node Node running the tab.
+   * @param process Chrome process running the tab.
+   * @param tab Chrome tab.
+   */
+  ChromeClusterTab(ChromeClusterNode node, ChromeClusterProcess process, ChromeTab tab) {
+    this.node = node;
+    this.process = process;
+    this.tab = tab;
+  }
+
+  /**
+   * Gets the cluster node running this tab.
+   *
+   * @return Cluster node.
+   */
+  public ChromeClusterNode getNode() {
+    return node;
+  }
+
+  /**
+   * Gets the chrome tab.
+   *
+   * @return Chrome tab.
+   */
+  public ChromeTab getTab() {
+    return tab;
+  }
+
+  /**
+   * Gets the chrome service of the process running this tab.
+   *
+   * @return Chrome service.
+   */
+  public ChromeService getChromeService() {
+    return process.getChromeService();
+  }
+
+  /**
+   * Gets the dev tools service connected to this tab. Service is cached by the chrome service and
+   * is closed when this tab is closed.
+   *
+   * @return Dev tools service.
+   */
+  public ChromeDevToolsService getDevToolsService() {
+    devToolsService = process.getChromeService().createDevToolsService(tab);
+    return devToolsService;
+  }
+
+  /** Closes the tab. */
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      node.releaseTab(this);
+    }
+  }
+
+  ChromeClusterProcess getProcess() {
+    return process;
+  }
+
+  /**
+   * Gets the dev tools service if it has been connected by the caller.
+   *
+   * @return Dev tools service or null.
+   */
+  ChromeDevToolsService getConnectedDevToolsService() {
+    return devToolsService;
+  }
+}
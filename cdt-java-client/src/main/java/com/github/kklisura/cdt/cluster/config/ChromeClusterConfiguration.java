@@ -0,0 +1,217 @@
+package com.github.kklisura.cdt.cluster.config;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.pool.config.BrowserContextPoolConfiguration;
+
+/**
+ * Chrome cluster configuration.
+ *
+ * @author Kenan Klisura
+ */
+public class ChromeClusterConfiguration {
+  /** Default number of chrome processes. */
+  private static final int DEFAULT_PROCESS_COUNT = 2;
+
+  /** Default supervision interval in seconds. */
+  private static final long DEFAULT_SUPERVISION_INTERVAL = 5;
+
+  /** Default drain timeout of recycled chrome processes in seconds. */
+  private static final long DEFAULT_RECYCLE_DRAIN_TIMEOUT = 60;
+
+  /** Number of chrome processes. */
+  private int processCount = DEFAULT_PROCESS_COUNT;
+
+  /** Supervision interval in seconds. */
+  private long supervisionInterval = DEFAULT_SUPERVISION_INTERVAL;
+
+  /** Sample process CPU time on supervision. */
+  private boolean cpuSamplingEnabled;
+
+  /** Number of created tabs after which chrome process is recycled. 0 disables it. */
+  private int recycleAfterTabs;
+
+  /** Time in seconds after which chrome process is recycled. 0 disables it. */
+  private long recycleAfterTime;
+
+  /** Used JS heap size in bytes at which chrome process is recycled. 0 disables it. */
+  private long recycleHeapUsageThreshold;
+
+  /** Time in seconds to wait for in-flight work of recycled chrome process. */
+  private long recycleDrainTimeout = DEFAULT_RECYCLE_DRAIN_TIMEOUT;
+
+  /** Configuration of the per-process browser context pools. */
+  private BrowserContextPoolConfiguration browserContextPoolConfiguration =
+      new BrowserContextPoolConfiguration();
+
+  /**
+   * Gets number of chrome processes.
+   *
+   * @return Process count.
+   */
+  public int getProcessCount() {
+    return processCount;
+  }
+
+  /**
+   * Sets number of chrome processes.
+   *
+   * @param processCount Process count.
+   */
+  public void setProcessCount(int processCount) {
+    this.processCount = processCount;
+  }
+
+  /**
+   * Gets supervision interval in seconds.
+   *
+   * @return Supervision interval in seconds.
+   */
+  public long getSupervisionInterval() {
+    return supervisionInterval;
+  }
+
+  /**
+   * Sets supervision interval in seconds. On each supervision crashed chrome processes are
+   * restarted, CPU time and heap usage are sampled if enabled and recycle thresholds are checked. 0
+   * disables the background supervision; crashed processes are then restarted only when routing new
+   * requests and only the tab count recycle threshold applies.
+   *
+   * @param supervisionInterval Supervision interval in seconds.
+   */
+  public void setSupervisionInterval(long supervisionInterval) {
+    this.supervisionInterval = supervisionInterval;
+  }
+
+  /**
+   * Returns true if process CPU time is sampled on supervision.
+   *
+   * @return True if CPU sampling is enabled.
+   */
+  public boolean isCpuSamplingEnabled() {
+    return cpuSamplingEnabled;
+  }
+
+  /**
+   * Sets CPU sampling. If enabled, SystemInfo.getProcessInfo is sampled on each supervision and CPU
+   * usage breaks ties between chrome processes with equal number of active tabs.
+   *
+   * @param cpuSamplingEnabled CPU sampling enabled.
+   */
+  public void setCpuSamplingEnabled(boolean cpuSamplingEnabled) {
+    this.cpuSamplingEnabled = cpuSamplingEnabled;
+  }
+
+  /**
+   * Gets the configuration of the per-process browser context pools.
+   *
+   * @return Browser context pool configuration.
+   */
+  public BrowserContextPoolConfiguration getBrowserContextPoolConfiguration() {
+    return browserContextPoolConfiguration;
+  }
+
+  /**
+   * Sets the configuration of the per-process browser context pools.
+   *
+   * @param browserContextPoolConfiguration Browser context pool configuration.
+   */
+  public void setBrowserContextPoolConfiguration(
+      BrowserContextPoolConfiguration browserContextPoolConfiguration) {
+    this.browserContextPoolConfiguration = browserContextPoolConfiguration;
+  }
+
+  /**
+   * Gets number of created tabs after which chrome process is recycled.
+   *
+   * @return Number of tabs.
+   */
+  public int getRecycleAfterTabs() {
+    return recycleAfterTabs;
+  }
+
+  /**
+   * Sets number of created tabs after which chrome process is recycled. 0 disables it.
+   *
+   * @param recycleAfterTabs Number of tabs.
+   */
+  public void setRecycleAfterTabs(int recycleAfterTabs) {
+    this.recycleAfterTabs = recycleAfterTabs;
+  }
+
+  /**
+   * Gets time in seconds after which chrome process is recycled.
+   *
+   * @return Time in seconds.
+   */
+  public long getRecycleAfterTime() {
+    return recycleAfterTime;
+  }
+
+  /**
+   * Sets time in seconds after which chrome process is recycled. Checked on each supervision. 0
+   * disables it.
+   *
+   * @param recycleAfterTime Time in seconds.
+   */
+  public void setRecycleAfterTime(long recycleAfterTime) {
+    this.recycleAfterTime = recycleAfterTime;
+  }
+
+  /**
+   * Gets used JS heap size in bytes at which chrome process is recycled.
+   *
+   * @return Heap usage threshold in bytes.
+   */
+  public long getRecycleHeapUsageThreshold() {
+    return recycleHeapUsageThreshold;
+  }
+
+  /**
+   * Sets used JS heap size in bytes at which chrome process is recycled. Heap usage is sampled on
+   * each supervision with Runtime.getHeapUsage over tabs whose dev tools service is connected. 0
+   * disables it.
+   *
+   * @param recycleHeapUsageThreshold Heap usage threshold in bytes.
+   */
+  public void setRecycleHeapUsageThreshold(long recycleHeapUsageThreshold) {
+    this.recycleHeapUsageThreshold = recycleHeapUsageThreshold;
+  }
+
+  /**
+   * Gets time in seconds to wait for in-flight work of recycled chrome process.
+   *
+   * @return Drain timeout in seconds.
+   */
+  public long getRecycleDrainTimeout() {
+    return recycleDrainTimeout;
+  }
+
+  /**
+   * Sets time in seconds to wait for in-flight work of recycled chrome process before it is closed
+   * regardless.
+   *
+   * @param recycleDrainTimeout Drain timeout in seconds.
+   */
+  public void setRecycleDrainTimeout(long recycleDrainTimeout) {
+    this.recycleDrainTimeout = recycleDrainTimeout;
+  }
+}
@@ -0,0 +1,275 @@
+package com.github.kklisura.cdt.dynamic;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.kklisura.cdt.dynamic.exceptions.DynamicProtocolException;
+import com.github.kklisura.cdt.dynamic.types.MethodDescriptor;
+import com.github.kklisura.cdt.dynamic.types.ParameterDescriptor;
+import com.github.kklisura.cdt.dynamic.types.ValueType;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Dynamic client calls commands and subscribes to events by their method names, ie.
+ *
+ * <pre>{@code
+ * DynamicClient client = new DynamicClient(devToolsService, chromeService.getProtocol());
+ * client.on("Page.loadEventFired", event -> System.out.println(event.get("timestamp")));
+ * client.call("Page.enable");
+ * client.call("Page.navigate", Collections.singletonMap("url", "https://github.com"));
+ * }</pre>
+ *
+ * Commands and events are validated against a protocol definition loaded at runtime, so domains of
+ * a browser version do not need generated classes. Calls are sent through the same command invoker
+ * as the generated commands.
+ *
+ * @author Kenan Klisura
+ */
+public class DynamicClient {
+  private final CommandInvoker commandInvoker;
+  private final DynamicProtocol protocol;
+
+  /**
+   * Instantiates a new dynamic client.
+   *
+   * @param commandInvoker Command invoker, ie. dev tools service.
+   * @param protocol Protocol definition.
+   */
+  public DynamicClient(CommandInvoker commandInvoker, DynamicProtocol protocol) {
+    this.commandInvoker = commandInvoker;
+    this.protocol = protocol;
+  }
+
+  /**
+   * Calls a command without params.
+   *
+   * @param method Command method, ie. Page.enable.
+   * @return Command result.
+   * @throws DynamicProtocolException If command is unknown.
+   */
+  public JsonNode call(String method) {
+    return call(method, null);
+  }
+
+  /**
+   * Calls a command.
+   *
+   * @param method Command method, ie. Page.navigate.
+   * @param params Command params. Null for no params.
+   * @return Command result.
+   * @throws DynamicProtocolException If command is unknown or params are not valid.
+   */
+  public JsonNode call(String method, Map<String, Object> params) {
+    return call(method, params, null, JsonNode.class);
+  }
+
+  /**
+   * Calls a command and reads the result or a single return value of the result as a given type.
+   *
+   * @param method Command method, ie. Runtime.evaluate.
+   * @param params Command params. Null for no params.
+   * @param returnProperty Return value name or null to read whole result.
+   * @param returnType Return class type.
+   * @param <T> Type of a return class.
+   * @return Command result or its return value.
+   * @throws DynamicProtocolException If command is unknown, params are not valid or command has no
+   *     such return value.
+   */
+  public <T> T call(
+      String method, Map<String, Object> params, String returnProperty, Class<T> returnType) {
+    MethodDescriptor command = protocol.getCommand(method);
+    if (command == null) {
+      throw new DynamicProtocolException("Unknown command " + method + ".");
+    }
+
+    if (params != null) {
+      validateParams(command, params);
+    } else {
+      validateParams(command, Collections.emptyMap());
+    }
+
+    if (returnProperty != null && command.getReturn(returnProperty) == null) {
+      throw new DynamicProtocolException(
+          "Unknown return value " + returnProperty + " of " + method + ".");
+    }
+
+    return commandInvoker.invoke(
+        method,
+        params == null || params.isEmpty() ? null : params,
+        returnProperty,
+        returnType,
+        null);
+  }
+
+  /**
+   * Subscribes to an event.
+   *
+   * @param method Event method, ie. Page.loadEventFired.
+   * @param eventHandler Event handler receiving event params.
+   * @return Event listener.
+   * @throws DynamicProtocolException If event is unknown.
+   */
+  public EventListener on(String method, EventHandler<JsonNode> eventHandler) {
+    return on(method, eventHandler, JsonNode.class);
+  }
+
+  /**
+   * Subscribes to an event and reads its params as a given type.
+   *
+   * @param method Event method, ie. Page.loadEventFired.
+   * @param eventHandler Event handler.
+   * @param eventType Event type.
+   * @param <T> Type of an event.
+   * @return Event listener.
+   * @throws DynamicProtocolException If event is unknown.
+   */
+  public <T> EventListener on(String method, EventHandler<T> eventHandler, Class<T> eventType) {
+    MethodDescriptor event = protocol.getEvent(method);
+    if (event == null) {
+      throw new DynamicProtocolException("Unknown event " + method + ".");
+    }
+
+    return commandInvoker.addEventListener(
+        event.getDomain(), event.getName(), eventHandler, eventType);
+  }
+
+  /**
+   * Gets the protocol this client validates commands and events against.
+   *
+   * @return Dynamic protocol.
+   */
+  public DynamicProtocol getProtocol() {
+    return protocol;
+  }
+
+  private static void validateParams(MethodDescriptor command, Map<String, Object> params) {
+    for (Map.Entry<String, Object> param : params.entrySet()) {
+      ParameterDescriptor parameter = command.getParameter(param.getKey());
+      if (parameter == null) {
+        throw new DynamicProtocolException(
+            "Unknown parameter " + param.getKey() + " of " + command.getMethod() + ".");
+      }
+      if (param.getValue() != null) {
+        validateValue(command, parameter, param.getValue());
+      }
+    }
+
+    for (ParameterDescriptor parameter : command.getParameters()) {
+      if (!parameter.isOptional() && params.get(parameter.getName()) == null) {
+        throw new DynamicProtocolException(
+            "Missing parameter " + parameter.getName() + " of " + command.getMethod() + ".");
+      }
+    }
+  }
+
+  private static void validateValue(
+      MethodDescriptor command, ParameterDescriptor parameter, Object value) {
+    if (!isValueOfType(parameter.getType(), value)) {
+      throw invalidValue(command, parameter, value, parameter.getType());
+    }
+
+    // Protocol enums are validated by their types, so only string values are checked.
+    if (parameter.getEnumValues() != null
+        && value instanceof String
+        && !parameter.getEnumValues().contains(value)) {
+      throw new DynamicProtocolException(
+          "Invalid value "
+              + value
+              + " of parameter "
+              + parameter.getName()
+              + " of "
+              + command.getMethod()
+              + ", expected one of "
+              + parameter.getEnumValues()
+              + ".");
+    }
+
+    if (parameter.getItemType() != null && parameter.getItemType() != ValueType.ANY) {
+      if (value instanceof Collection) {
+        for (Object item : (Collection<?>) value) {
+          if (item != null && !isValueOfType(parameter.getItemType(), item)) {
+            throw invalidValue(command, parameter, item, parameter.getItemType());
+          }
+        }
+      } else if (value instanceof Object[]) {
+        for (Object item : (Object[]) value) {
+          if (item != null && !isValueOfType(parameter.getItemType(), item)) {
+            throw invalidValue(command, parameter, item, parameter.getItemType());
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks if a value is of a given type. Objects can be passed as maps or as any other object that
+   * serializes to json object, ie. generated protocol types. Enums are passed as strings.
+   *
+   * @param type Value type.
+   * @param value Value.
+   * @return True if value is of a given type.
+   */
+  private static boolean isValueOfType(ValueType type, Object value) {
+    switch (type) {
+      case STRING:
+        return value instanceof String || value instanceof Enum;
+      case INTEGER:
+        return value instanceof Integer
+            || value instanceof Long
+            || value instanceof Short
+            || value instanceof Byte;
+      case NUMBER:
+        return value instanceof Number;
+      case BOOLEAN:
+        return value instanceof Boolean;
+      case ARRAY:
+        return value instanceof Collection || value.getClass().isArray();
+      case OBJECT:
+        return !(value instanceof CharSequence
+            || value instanceof Number
+            || value instanceof Boolean
+            || value instanceof Collection
+            || value.getClass().isArray());
+      default:
+        return true;
+    }
+  }
+
+  private static DynamicProtocolException invalidValue(
+      MethodDescriptor command, ParameterDescriptor parameter, Object value, ValueType type) {
+    return new DynamicProtocolException(
+        "Invalid value "
+            + value
+            + " of parameter "
+            + parameter.getName()
+            + " of "
+            + command.getMethod()
+            + ", expected "
+            + type.name().toLowerCase(Locale.ROOT)
+            + ".");
+  }
+}
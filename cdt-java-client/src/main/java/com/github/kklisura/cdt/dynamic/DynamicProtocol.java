@@ -0,0 +1,263 @@
+package com.github.kklisura.cdt.dynamic;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kklisura.cdt.dynamic.exceptions.DynamicProtocolException;
+import com.github.kklisura.cdt.dynamic.types.MethodDescriptor;
+import com.github.kklisura.cdt.dynamic.types.ParameterDescriptor;
+import com.github.kklisura.cdt.dynamic.types.ValueType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dev tools protocol definition loaded at runtime, ie. from /json/protocol endpoint of a running
+ * browser or from browser_protocol.json and js_protocol.json files. Commands and events are kept as
+ * method descriptor tables with referenced types resolved up front, so looking up and validating a
+ * method call does not need to walk the protocol definition.
+ *
+ * @author Kenan Klisura
+ */
+public class DynamicProtocol {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final String DOMAINS_PROPERTY = "domains";
+  private static final String DOMAIN_PROPERTY = "domain";
+  private static final String TYPES_PROPERTY = "types";
+  private static final String COMMANDS_PROPERTY = "commands";
+  private static final String EVENTS_PROPERTY = "events";
+  private static final String PARAMETERS_PROPERTY = "parameters";
+  private static final String RETURNS_PROPERTY = "returns";
+  private static final String ID_PROPERTY = "id";
+  private static final String NAME_PROPERTY = "name";
+  private static final String TYPE_PROPERTY = "type";
+  private static final String REF_PROPERTY = "$ref";
+  private static final String ITEMS_PROPERTY = "items";
+  private static final String ENUM_PROPERTY = "enum";
+  private static final String OPTIONAL_PROPERTY = "optional";
+  private static final String EXPERIMENTAL_PROPERTY = "experimental";
+  private static final String DEPRECATED_PROPERTY = "deprecated";
+
+  private final Map<String, MethodDescriptor> commands;
+  private final Map<String, MethodDescriptor> events;
+
+  private DynamicProtocol(
+      Map<String, MethodDescriptor> commands, Map<String, MethodDescriptor> events) {
+    this.commands = commands;
+    this.events = events;
+  }
+
+  /**
+   * Reads a protocol definition from input streams, ie. browser_protocol.json and js_protocol.json.
+   * Domains of all input streams are merged in a single protocol.
+   *
+   * @param inputStreams Protocol definition input streams.
+   * @return Dynamic protocol.
+   * @throws IOException If reading fails.
+   * @throws DynamicProtocolException If protocol definition is invalid.
+   */
+  public static DynamicProtocol read(InputStream... inputStreams) throws IOException {
+    List<JsonNode> protocols = new ArrayList<>(inputStreams.length);
+    for (InputStream inputStream : inputStreams) {
+      protocols.add(OBJECT_MAPPER.readTree(inputStream));
+    }
+    return read(protocols);
+  }
+
+  /**
+   * Reads a protocol definition from parsed protocol json documents. Domains of all documents are
+   * merged in a single protocol.
+   *
+   * @param protocols Protocol definitions.
+   * @return Dynamic protocol.
+   * @throws DynamicProtocolException If protocol definition is invalid.
+   */
+  public static DynamicProtocol read(List<JsonNode> protocols) {
+    List<JsonNode> domains = new ArrayList<>();
+    for (JsonNode protocol : protocols) {
+      JsonNode protocolDomains = protocol.get(DOMAINS_PROPERTY);
+      if (protocolDomains == null || !protocolDomains.isArray()) {
+        throw new DynamicProtocolException("Protocol definition has no domains.");
+      }
+      protocolDomains.forEach(domains::add);
+    }
+
+    Map<String, JsonNode> types = new HashMap<>();
+    for (JsonNode domain : domains) {
+      String domainName = getText(domain, DOMAIN_PROPERTY);
+      for (JsonNode type : getArray(domain, TYPES_PROPERTY)) {
+        types.put(domainName + "." + getText(type, ID_PROPERTY), type);
+      }
+    }
+
+    Map<String, MethodDescriptor> commands = new LinkedHashMap<>();
+    Map<String, MethodDescriptor> events = new LinkedHashMap<>();
+
+    for (JsonNode domain : domains) {
+      String domainName = getText(domain, DOMAIN_PROPERTY);
+      for (JsonNode command : getArray(domain, COMMANDS_PROPERTY)) {
+        MethodDescriptor descriptor = buildMethodDescriptor(domainName, command, types);
+        commands.put(descriptor.getMethod(), descriptor);
+      }
+      for (JsonNode event : getArray(domain, EVENTS_PROPERTY)) {
+        MethodDescriptor descriptor = buildMethodDescriptor(domainName, event, types);
+        events.put(descriptor.getMethod(), descriptor);
+      }
+    }
+
+    return new DynamicProtocol(
+        Collections.unmodifiableMap(commands), Collections.unmodifiableMap(events));
+  }
+
+  /**
+   * Returns a command given its method name.
+   *
+   * @param method Method name, ie. Page.navigate.
+   * @return Command descriptor or null if protocol has no such command.
+   */
+  public MethodDescriptor getCommand(String method) {
+    return commands.get(method);
+  }
+
+  /**
+   * Returns an event given its method name.
+   *
+   * @param method Method name, ie. Page.loadEventFired.
+   * @return Event descriptor or null if protocol has no such event.
+   */
+  public MethodDescriptor getEvent(String method) {
+    return events.get(method);
+  }
+
+  public Collection<MethodDescriptor> getCommands() {
+    return commands.values();
+  }
+
+  public Collection<MethodDescriptor> getEvents() {
+    return events.values();
+  }
+
+  private static MethodDescriptor buildMethodDescriptor(
+      String domainName, JsonNode method, Map<String, JsonNode> types) {
+    return new MethodDescriptor(
+        domainName,
+        getText(method, NAME_PROPERTY),
+        method.path(EXPERIMENTAL_PROPERTY).asBoolean(false),
+        method.path(DEPRECATED_PROPERTY).asBoolean(false),
+        buildParameterDescriptors(domainName, getArray(method, PARAMETERS_PROPERTY), types),
+        buildParameterDescriptors(domainName, getArray(method, RETURNS_PROPERTY), types));
+  }
+
+  private static List<ParameterDescriptor> buildParameterDescriptors(
+      String domainName, Iterable<JsonNode> parameters, Map<String, JsonNode> types) {
+    List<ParameterDescriptor> result = new ArrayList<>();
+    for (JsonNode parameter : parameters) {
+      String name = getText(parameter, NAME_PROPERTY);
+      JsonNode type = resolveType(domainName, parameter, types);
+
+      ValueType valueType = getValueType(type);
+      ValueType itemType = null;
+      if (valueType == ValueType.ARRAY) {
+        JsonNode items = type.get(ITEMS_PROPERTY);
+        itemType =
+            items != null ? getValueType(resolveType(domainName, items, types)) : ValueType.ANY;
+      }
+
+      Set<String> enumValues = null;
+      JsonNode enumNode = type.get(ENUM_PROPERTY);
+      if (enumNode != null) {
+        enumValues = new LinkedHashSet<>();
+        for (JsonNode enumValue : enumNode) {
+          enumValues.add(enumValue.asText());
+        }
+      }
+
+      result.add(
+          new ParameterDescriptor(
+              name,
+              parameter.path(OPTIONAL_PROPERTY).asBoolean(false),
+              valueType,
+              itemType,
+              enumValues));
+    }
+    return result;
+  }
+
+  /**
+   * Resolves a referenced type of a parameter. Unqualified references refer to types of the same
+   * domain.
+   *
+   * @param domainName Domain name of a parameter.
+   * @param parameter Parameter definition.
+   * @param types Types by qualified id.
+   * @return Referenced type or parameter itself if it does not reference any type.
+   */
+  private static JsonNode resolveType(
+      String domainName, JsonNode parameter, Map<String, JsonNode> types) {
+    JsonNode ref = parameter.get(REF_PROPERTY);
+    if (ref == null) {
+      return parameter;
+    }
+
+    String typeName = ref.asText();
+    if (typeName.indexOf('.') == -1) {
+      typeName = domainName + "." + typeName;
+    }
+
+    JsonNode type = types.get(typeName);
+    if (type == null) {
+      throw new DynamicProtocolException("Unknown type " + typeName + " in " + domainName + ".");
+    }
+    return type;
+  }
+
+  private static ValueType getValueType(JsonNode type) {
+    String typeName = getText(type, TYPE_PROPERTY);
+    ValueType valueType = ValueType.fromProtocolType(typeName);
+    if (valueType == null) {
+      throw new DynamicProtocolException("Unknown protocol type " + typeName + ".");
+    }
+    return valueType;
+  }
+
+  private static String getText(JsonNode node, String property) {
+    JsonNode value = node.get(property);
+    if (value == null || !value.isTextual()) {
+      throw new DynamicProtocolException("Protocol definition is missing " + property + ".");
+    }
+    return value.asText();
+  }
+
+  private static Iterable<JsonNode> getArray(JsonNode node, String property) {
+    JsonNode value = node.get(property);
+    return value != null ? value : Collections.emptyList();
+  }
+}
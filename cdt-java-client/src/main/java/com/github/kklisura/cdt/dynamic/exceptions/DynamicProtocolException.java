@@ -0,0 +1,48 @@
+package com.github.kklisura.cdt.dynamic.exceptions;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Dynamic protocol exception raised when a protocol definition can not be read or when a method
+ * call or event subscription does not conform to the protocol definition.
+ *
+ * @author Kenan Klisura
+ */
+public class DynamicProtocolException extends RuntimeException {
+  /**
+   * Instantiates a new dynamic protocol exception.
+   *
+   * @param message Message.
+   */
+  public DynamicProtocolException(String message) {
+    super(message);
+  }
+
+  /**
+   * Instantiates a new dynamic protocol exception.
+   *
+   * @param message Message.
+   * @param cause Root exception cause.
+   */
+  public DynamicProtocolException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,136 @@
+package com.github.kklisura.cdt.dynamic.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Method descriptor of a protocol command or event.
+ *
+ * @author Kenan Klisura
+ */
+public final class MethodDescriptor {
+  private final String domain;
+
+  private final String name;
+
+  private final boolean experimental;
+
+  private final boolean deprecated;
+
+  private final Map<String, ParameterDescriptor> parameters;
+
+  private final Map<String, ParameterDescriptor> returns;
+
+  /**
+   * Instantiates a new method descriptor.
+   *
+   * @param domain Domain name.
+   * @param name Command or event name.
+   * @param experimental True if method is experimental.
+   * @param deprecated True if method is deprecated.
+   * @param parameters Command or event parameters.
+   * @param returns Command return values. Empty for events.
+   */
+  public MethodDescriptor(
+      String domain,
+      String name,
+      boolean experimental,
+      boolean deprecated,
+      List<ParameterDescriptor> parameters,
+      List<ParameterDescriptor> returns) {
+    this.domain = domain;
+    this.name = name;
+    this.experimental = experimental;
+    this.deprecated = deprecated;
+    this.parameters = toMap(parameters);
+    this.returns = toMap(returns);
+  }
+
+  public String getDomain() {
+    return domain;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns a method name, ie. Page.navigate.
+   *
+   * @return Method name.
+   */
+  public String getMethod() {
+    return domain + "." + name;
+  }
+
+  public boolean isExperimental() {
+    return experimental;
+  }
+
+  public boolean isDeprecated() {
+    return deprecated;
+  }
+
+  public Collection<ParameterDescriptor> getParameters() {
+    return parameters.values();
+  }
+
+  /**
+   * Returns a parameter given its name.
+   *
+   * @param name Parameter name.
+   * @return Parameter descriptor or null if method has no such parameter.
+   */
+  public ParameterDescriptor getParameter(String name) {
+    return parameters.get(name);
+  }
+
+  public Collection<ParameterDescriptor> getReturns() {
+    return returns.values();
+  }
+
+  /**
+   * Returns a return value given its name.
+   *
+   * @param name Return value name.
+   * @return Return value descriptor or null if command has no such return value.
+   */
+  public ParameterDescriptor getReturn(String name) {
+    return returns.get(name);
+  }
+
+  private static Map<String, ParameterDescriptor> toMap(List<ParameterDescriptor> parameters) {
+    if (parameters.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, ParameterDescriptor> result = new LinkedHashMap<>(parameters.size() * 2);
+    for (ParameterDescriptor parameter : parameters) {
+      result.put(parameter.getName(), parameter);
+    }
+    return Collections.unmodifiableMap(result);
+  }
+}
@@ -0,0 +1,78 @@
+package com.github.kklisura.cdt.dynamic.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Set;
+
+/**
+ * Parameter descriptor of a protocol method or event.
+ *
+ * @author Kenan Klisura
+ */
+public final class ParameterDescriptor {
+  private final String name;
+
+  private final boolean optional;
+
+  private final ValueType type;
+
+  private final ValueType itemType;
+
+  private final Set<String> enumValues;
+
+  /**
+   * Instantiates a new parameter descriptor.
+   *
+   * @param name Parameter name.
+   * @param optional True if parameter is optional.
+   * @param type Value type.
+   * @param itemType Value type of array items or null if parameter is not an array.
+   * @param enumValues Allowed string values or null if parameter is not an enum.
+   */
+  public ParameterDescriptor(
+      String name, boolean optional, ValueType type, ValueType itemType, Set<String> enumValues) {
+    this.name = name;
+    this.optional = optional;
+    this.type = type;
+    this.itemType = itemType;
+    this.enumValues = enumValues;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isOptional() {
+    return optional;
+  }
+
+  public ValueType getType() {
+    return type;
+  }
+
+  public ValueType getItemType() {
+    return itemType;
+  }
+
+  public Set<String> getEnumValues() {
+    return enumValues;
+  }
+}
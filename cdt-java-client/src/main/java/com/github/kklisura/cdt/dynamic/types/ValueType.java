@@ -0,0 +1,65 @@
+package com.github.kklisura.cdt.dynamic.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Value type of a protocol parameter. Referenced protocol types are resolved to their value type.
+ *
+ * @author Kenan Klisura
+ */
+public enum ValueType {
+  STRING,
+  INTEGER,
+  NUMBER,
+  BOOLEAN,
+  ARRAY,
+  OBJECT,
+  ANY;
+
+  /**
+   * Returns a value type of a protocol type name, ie. string or integer. Binary values are base64
+   * encoded strings.
+   *
+   * @param type Protocol type name.
+   * @return Value type or null if type name is unknown.
+   */
+  public static ValueType fromProtocolType(String type) {
+    switch (type) {
+      case "string":
+      case "binary":
+        return STRING;
+      case "integer":
+        return INTEGER;
+      case "number":
+        return NUMBER;
+      case "boolean":
+        return BOOLEAN;
+      case "array":
+        return ARRAY;
+      case "object":
+        return OBJECT;
+      case "any":
+        return ANY;
+      default:
+        return null;
+    }
+  }
+}
@@ -21,6 +21,7 @@ package com.github.kklisura.cdt.launch;
  */
 
 import static com.github.kklisura.cdt.utils.ChromeDevToolsUtils.closeQuietly;
+import static com.github.kklisura.cdt.utils.FilesUtils.copyDirectory;
 import static com.github.kklisura.cdt.utils.FilesUtils.deleteQuietly;
 import static com.github.kklisura.cdt.utils.FilesUtils.randomTempDir;
 
@@ -28,24 +29,37 @@ import com.github.kklisura.cdt.launch.config.ChromeLauncherConfiguration;
 import com.github.kklisura.cdt.launch.exceptions.ChromeProcessException;
 import com.github.kklisura.cdt.launch.exceptions.ChromeProcessTimeoutException;
 import com.github.kklisura.cdt.launch.support.ProcessLauncher;
+import com.github.kklisura.cdt.launch.support.ProcessOutputBuffer;
+import com.github.kklisura.cdt.launch.support.ProfileJanitor;
 import com.github.kklisura.cdt.launch.support.annotations.ChromeArgument;
 import com.github.kklisura.cdt.launch.support.impl.ProcessLauncherImpl;
 import com.github.kklisura.cdt.services.ChromeService;
 import com.github.kklisura.cdt.services.impl.ChromeServiceImpl;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
@@ -67,6 +81,18 @@ public class ChromeLauncher implements AutoCloseable {
   private static final Pattern DEVTOOLS_LISTENING_LINE_PATTERN =
       Pattern.compile("^DevTools listening on ws:\\/\\/.+?:(\\d+)\\/");
 
+  /** Files of the chrome that created user data dir template, which are not copied. */
+  private static final Set<String> USER_DATA_DIR_TEMPLATE_EXCLUDED_FILES =
+      new HashSet<>(
+          Arrays.asList(
+              "SingletonLock", "SingletonSocket", "SingletonCookie", "DevToolsActivePort"));
+
+  /** File chrome writes into user data dir once dev tools server is listening. */
+  private static final String DEVTOOLS_ACTIVE_PORT_FILE = "DevToolsActivePort";
+
+  /** Poll interval in milliseconds for file systems without native watch support. */
+  private static final long DEVTOOLS_ACTIVE_PORT_POLL_INTERVAL = 50;
+
   private static final String[] CHROME_BINARIES =
       new String[] {
         "/usr/bin/chromium",
@@ -81,7 +107,7 @@ public class ChromeLauncher implements AutoCloseable {
 
   private Process chromeProcess;
 
-  private Thread shutdownHookThread = new Thread(this::close);
+  private Thread shutdownHookThread = new Thread(this::closeOnShutdown);
 
   private ProcessLauncher processLauncher;
 
@@ -92,6 +118,10 @@ public class ChromeLauncher implements AutoCloseable {
 
   private Path userDataDirPath;
 
+  private volatile boolean shuttingDown;
+
+  private volatile ProcessOutputBuffer chromeOutput;
+
   /** Instantiates a new Chrome launcher. */
   public ChromeLauncher() {
     this(new ChromeLauncherConfiguration());
@@ -135,7 +165,8 @@ public class ChromeLauncher implements AutoCloseable {
    * @param chromeArguments the chrome arguments
    * @return Chrome service.
    * @throws IllegalStateException If chrome process has already been started.
-   * @throws ChromeProcessException If an I/O error occurs during chrome process start.
+   * @throws ChromeProcessException If an I/O error occurs during chrome process start or chrome
+   *     exits before dev tools server is up.
    * @throws ChromeProcessTimeoutException If timeout expired while waiting for chrome to start.
    */
   public ChromeService launch(Path chromeBinaryPath, ChromeArguments chromeArguments)
@@ -150,7 +181,8 @@ public class ChromeLauncher implements AutoCloseable {
    * @param chromeArguments the chrome arguments
    * @return Chrome service.
    * @throws IllegalStateException If chrome process has already been started.
-   * @throws ChromeProcessException If an I/O error occurs during chrome process start.
+   * @throws ChromeProcessException If an I/O error occurs during chrome process start or chrome
+   *     exits before dev tools server is up.
    * @throws ChromeProcessTimeoutException If timeout expired while waiting for chrome to start.
    */
   public ChromeService launch(ChromeArguments chromeArguments) throws ChromeProcessException {
@@ -163,7 +195,8 @@ public class ChromeLauncher implements AutoCloseable {
    * @param headless Headless flag.
    * @return Chrome service.
    * @throws IllegalStateException If chrome process has already been started.
-   * @throws ChromeProcessException If an I/O error occurs during chrome process start.
+   * @throws ChromeProcessException If an I/O error occurs during chrome process start or chrome
+   *     exits before dev tools server is up.
    * @throws ChromeProcessTimeoutException If timeout expired while waiting for chrome to start.
    */
   public ChromeService launch(boolean headless) throws ChromeProcessException {
@@ -175,13 +208,71 @@ public class ChromeLauncher implements AutoCloseable {
    *
    * @return Chrome service.
    * @throws IllegalStateException If chrome process has already been started.
-   * @throws ChromeProcessException If an I/O error occurs during chrome process start.
+   * @throws ChromeProcessException If an I/O error occurs during chrome process start or chrome
+   *     exits before dev tools server is up.
    * @throws ChromeProcessTimeoutException If timeout expired while waiting for chrome to start.
    */
   public ChromeService launch() throws ChromeProcessException {
     return launch(true);
   }
 
+  /**
+   * Launches a chrome asynchronously given its path and arguments. Launching several chromes this
+   * way starts them in parallel.
+   *
+   * @param chromeBinaryPath the chrome binary path
+   * @param chromeArguments the chrome arguments
+   * @return Future completed with chrome service or exceptionally with the same exceptions as
+   *     {@link #launch(Path, ChromeArguments)}.
+   */
+  public CompletableFuture<ChromeService> launchAsync(
+      Path chromeBinaryPath, ChromeArguments chromeArguments) {
+    final CompletableFuture<ChromeService> future = new CompletableFuture<>();
+
+    SharedExecutor.INSTANCE.execute(
+        () -> {
+          try {
+            future.complete(launch(chromeBinaryPath, chromeArguments));
+          } catch (Throwable e) {
+            future.completeExceptionally(e);
+          }
+        });
+
+    return future;
+  }
+
+  /**
+   * Launches a chrome asynchronously given its arguments.
+   *
+   * @param chromeArguments the chrome arguments
+   * @return Future completed with chrome service.
+   * @throws RuntimeException If chrome binary could not be found.
+   */
+  public CompletableFuture<ChromeService> launchAsync(ChromeArguments chromeArguments) {
+    return launchAsync(getChromeBinaryPath(), chromeArguments);
+  }
+
+  /**
+   * Launches a chrome asynchronously with default arguments.
+   *
+   * @param headless Headless flag.
+   * @return Future completed with chrome service.
+   * @throws RuntimeException If chrome binary could not be found.
+   */
+  public CompletableFuture<ChromeService> launchAsync(boolean headless) {
+    return launchAsync(getChromeBinaryPath(), ChromeArguments.defaults(headless).build());
+  }
+
+  /**
+   * Launches a headless chrome asynchronously with default arguments.
+   *
+   * @return Future completed with chrome service.
+   * @throws RuntimeException If chrome binary could not be found.
+   */
+  public CompletableFuture<ChromeService> launchAsync() {
+    return launchAsync(true);
+  }
+
   /**
    * Returns the chrome binary path.
    *
@@ -229,7 +320,7 @@ public class ChromeLauncher implements AutoCloseable {
 
         chromeProcess.destroyForcibly();
       } finally {
-        deleteQuietly(userDataDirPath);
+        deleteUserDataDir();
       }
 
       try {
@@ -237,6 +328,9 @@ public class ChromeLauncher implements AutoCloseable {
       } catch (IllegalStateException e) {
         // Ignore this exceptions; We're removing hook even we're still in shutdown.
       }
+    } else if (chromeProcess != null && userDataDirPath != null) {
+      // Chrome process has crashed or exited on its own.
+      deleteUserDataDir();
     }
   }
 
@@ -264,6 +358,18 @@ public class ChromeLauncher implements AutoCloseable {
     return chromeProcess != null && chromeProcess.isAlive();
   }
 
+  /**
+   * Returns the last lines of chrome process output, ie. for diagnostics after chrome crashed.
+   * Output of the last launched chrome process is kept until chrome is launched again. Number of
+   * kept lines is set with {@link ChromeLauncherConfiguration#setOutputBufferSize(int)}.
+   *
+   * @return Chrome output lines, oldest line first. Empty if chrome has not been launched.
+   */
+  public List<String> getChromeOutput() {
+    ProcessOutputBuffer output = chromeOutput;
+    return output != null ? output.getLines() : new ArrayList<>();
+  }
+
   /**
    * Launches a chrome process given a chrome binary and its arguments.
    *
@@ -271,7 +377,8 @@ public class ChromeLauncher implements AutoCloseable {
    * @param chromeArguments Chrome arguments.
    * @return Port on which devtools is listening.
    * @throws IllegalStateException If chrome process has already been started.
-   * @throws ChromeProcessException If an I/O error occurs during chrome process start.
+   * @throws ChromeProcessException If an I/O error occurs during chrome process start or chrome
+   *     exits before dev tools server is up.
    * @throws ChromeProcessTimeoutException If timeout expired while waiting for chrome to start.
    */
   private int launchChromeProcess(Path chromeBinary, ChromeArguments chromeArguments)
@@ -289,17 +396,34 @@ public class ChromeLauncher implements AutoCloseable {
       String userDatDir = randomTempDir(TEMP_PREFIX);
       userDataDirPath = Paths.get(userDatDir);
       argumentsMap.put(ChromeArguments.USER_DATA_DIR_ARGUMENT, userDatDir);
+
+      if (configuration.getUserDataDirTemplate() != null) {
+        try {
+          copyUserDataDirTemplate(
+              Paths.get(configuration.getUserDataDirTemplate()), userDataDirPath);
+        } catch (IOException e) {
+          shutdownHookRegistry.remove(shutdownHookThread);
+          deleteUserDataDir();
+
+          throw new ChromeProcessException("Failed copying user data dir template.", e);
+        }
+      }
     }
 
     List<String> arguments = argsMapToArgsList(argumentsMap);
 
+    // Stale port file of a previous run would be mistaken for this run's dev tools server.
+    Path userDataDir =
+        Paths.get(argumentsMap.get(ChromeArguments.USER_DATA_DIR_ARGUMENT).toString());
+    deleteDevToolsActivePortFile(userDataDir);
+
     LOGGER.info(
         "Launching chrome process {} with arguments {}", chromeBinary.toString(), argumentsMap);
 
     try {
       chromeProcess = processLauncher.launch(chromeBinary.toString(), arguments);
 
-      return waitForDevToolsServer(chromeProcess);
+      return waitForDevToolsServer(chromeProcess, userDataDir);
     } catch (IOException e) {
       // Unsubscribe from registry on exceptions.
       shutdownHookRegistry.remove(shutdownHookThread);
@@ -312,69 +436,253 @@ public class ChromeLauncher implements AutoCloseable {
   }
 
   /**
-   * Waits for DevTools server is up on chrome process.
+   * Waits for DevTools server is up on chrome process. Server is up once chrome either prints the
+   * DevTools listening line or writes DevToolsActivePort file into its user data dir, whichever
+   * comes first.
    *
    * @param process Chrome process.
+   * @param userDataDir Chrome user data dir.
    * @return DevTools listening port.
    * @throws ChromeProcessTimeoutException If timeout expired while waiting for chrome process.
+   * @throws ChromeProcessException If chrome exits before dev tools server is up.
    */
-  private int waitForDevToolsServer(final Process process) throws ChromeProcessTimeoutException {
-    final AtomicInteger port = new AtomicInteger();
-    final AtomicBoolean success = new AtomicBoolean(false);
-    final AtomicReference<String> chromeOutput = new AtomicReference<>("");
-
+  private int waitForDevToolsServer(final Process process, final Path userDataDir)
+      throws ChromeProcessTimeoutException {
+    final CompletableFuture<Integer> port = new CompletableFuture<>();
+    final ProcessOutputBuffer output =
+        new ProcessOutputBuffer(
+            configuration.getOutputBufferSize(),
+            configuration.getOutputLogFile(),
+            configuration.getOutputLogFileSize(),
+            configuration.getOutputLogFileCount());
+    chromeOutput = output;
+
+    // Chrome output is drained for the lifetime of the process, so it never fills the pipe.
     Thread readLineThread =
         new Thread(
             () -> {
-              StringBuilder chromeOutputBuilder = new StringBuilder();
               BufferedReader reader = null;
+              Exception failure = null;
               try {
                 reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
 
                 // Wait for DevTools listening line and extract port number.
                 String line;
                 while ((line = reader.readLine()) != null) {
-                  Matcher matcher = DEVTOOLS_LISTENING_LINE_PATTERN.matcher(line);
-                  if (matcher.find()) {
-                    port.set(Integer.parseInt(matcher.group(1)));
-                    success.set(true);
-                    break;
+                  if (!port.isDone()) {
+                    Matcher matcher = DEVTOOLS_LISTENING_LINE_PATTERN.matcher(line);
+                    if (matcher.find()) {
+                      port.complete(Integer.parseInt(matcher.group(1)));
+                    }
                   }
 
-                  if (chromeOutputBuilder.length() != 0) {
-                    chromeOutputBuilder.append(System.lineSeparator());
-                  }
-                  chromeOutputBuilder.append(line);
-                  chromeOutput.set(chromeOutputBuilder.toString());
+                  output.append(line);
                 }
               } catch (Exception e) {
-                LOGGER.error("Failed while waiting for dev tools server.", e);
+                if (!port.isDone()) {
+                  LOGGER.error("Failed while waiting for dev tools server.", e);
+                }
+                failure = e;
               } finally {
                 closeQuietly(reader);
+                output.close();
               }
-            });
+
+              // Chrome output ended without listening line; chrome has exited.
+              port.completeExceptionally(
+                  failure != null ? failure : new IllegalStateException("Chrome output ended."));
+            },
+            "cdt-chrome-output");
+    readLineThread.setDaemon(true);
+
+    Thread activePortThread =
+        new Thread(() -> watchDevToolsActivePortFile(userDataDir, port), "cdt-active-port");
+    activePortThread.setDaemon(true);
 
     readLineThread.start();
+    activePortThread.start();
 
     try {
-      readLineThread.join(TimeUnit.SECONDS.toMillis(configuration.getStartupWaitTime()));
+      return port.get(configuration.getStartupWaitTime(), TimeUnit.SECONDS);
+    } catch (TimeoutException e) {
+      close(readLineThread);
 
-      if (!success.get()) {
-        close(readLineThread);
+      throw new ChromeProcessTimeoutException(
+          "Failed while waiting for chrome to start: "
+              + "Timeout expired! Chrome output: "
+              + output);
+    } catch (ExecutionException e) {
+      close(readLineThread);
 
-        throw new ChromeProcessTimeoutException(
-            "Failed while waiting for chrome to start: "
-                + "Timeout expired! Chrome output: "
-                + chromeOutput.get());
-      }
+      throw new ChromeProcessException(
+          "Failed while waiting for chrome to start: "
+              + "Chrome exited before becoming ready! Chrome output: "
+              + output,
+          e.getCause());
     } catch (InterruptedException e) {
       close(readLineThread);
 
       LOGGER.error("Interrupted while waiting for dev tools server.", e);
       throw new RuntimeException("Interrupted while waiting for dev tools server.", e);
+    } finally {
+      activePortThread.interrupt();
+    }
+  }
+
+  /**
+   * Watches user data dir until chrome writes DevToolsActivePort file or port future completes.
+   * Falls back to polling if the file system can not be watched.
+   *
+   * @param userDataDir Chrome user data dir.
+   * @param port Port future completed with the port from the file.
+   */
+  private static void watchDevToolsActivePortFile(
+      Path userDataDir, CompletableFuture<Integer> port) {
+    WatchService watchService = null;
+    try {
+      try {
+        watchService = userDataDir.getFileSystem().newWatchService();
+        userDataDir.register(
+            watchService,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY);
+      } catch (Exception e) {
+        LOGGER.debug("Failed watching {}. Polling it instead.", userDataDir, e);
+      }
+
+      while (!port.isDone()) {
+        Integer activePort = readDevToolsActivePortFile(userDataDir);
+        if (activePort != null) {
+          port.complete(activePort);
+          return;
+        }
+
+        if (watchService != null) {
+          WatchKey watchKey =
+              watchService.poll(DEVTOOLS_ACTIVE_PORT_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+          if (watchKey != null) {
+            watchKey.pollEvents();
+            watchKey.reset();
+          }
+        } else {
+          Thread.sleep(DEVTOOLS_ACTIVE_PORT_POLL_INTERVAL);
+        }
+      }
+    } catch (InterruptedException e) {
+      // Dev tools server is up or launch has failed.
+    } finally {
+      closeQuietly(watchService);
+    }
+  }
+
+  /**
+   * Reads dev tools port from DevToolsActivePort file. First line of the file is the port, second
+   * one is the browser target path.
+   *
+   * @param userDataDir Chrome user data dir.
+   * @return Port or null if file is missing or not written completely.
+   */
+  private static Integer readDevToolsActivePortFile(Path userDataDir) {
+    Path activePortFile = userDataDir.resolve(DEVTOOLS_ACTIVE_PORT_FILE);
+    if (!Files.isRegularFile(activePortFile)) {
+      return null;
+    }
+
+    try {
+      List<String> lines = Files.readAllLines(activePortFile, StandardCharsets.UTF_8);
+      if (lines.size() < 2) {
+        return null;
+      }
+      return Integer.parseInt(lines.get(0).trim());
+    } catch (IOException | NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static void deleteDevToolsActivePortFile(Path userDataDir) {
+    try {
+      Files.deleteIfExists(userDataDir.resolve(DEVTOOLS_ACTIVE_PORT_FILE));
+    } catch (IOException e) {
+      LOGGER.warn("Failed deleting stale {} file.", DEVTOOLS_ACTIVE_PORT_FILE, e);
+    }
+  }
+
+  /**
+   * Copies user data dir template into a user data dir according to configured copy mode. Chrome
+   * singleton lock and port files are not copied, since they belong to the chrome that created the
+   * template.
+   *
+   * @param template User data dir template.
+   * @param userDataDir User data dir.
+   * @throws IOException If copying fails.
+   */
+  private void copyUserDataDirTemplate(Path template, Path userDataDir) throws IOException {
+    switch (configuration.getUserDataDirCopyMode()) {
+      case REFLINK:
+        if (reflinkDirectory(template, userDataDir)) {
+          for (String excludedFile : USER_DATA_DIR_TEMPLATE_EXCLUDED_FILES) {
+            Files.deleteIfExists(userDataDir.resolve(excludedFile));
+          }
+          break;
+        }
+        copyDirectory(template, userDataDir, USER_DATA_DIR_TEMPLATE_EXCLUDED_FILES);
+        break;
+      default:
+        copyDirectory(template, userDataDir, USER_DATA_DIR_TEMPLATE_EXCLUDED_FILES);
+    }
+  }
+
+  /**
+   * Clones directory contents with {@code cp --reflink=auto}, which uses copy-on-write clones where
+   * the file system supports it and copies otherwise.
+   *
+   * @param source Source directory.
+   * @param target Target directory.
+   * @return False if cp is not available or fails.
+   */
+  private static boolean reflinkDirectory(Path source, Path target) {
+    try {
+      Process process =
+          new ProcessBuilder(
+                  "cp", "-R", "--reflink=auto", source.toString() + "/.", target.toString())
+              .redirectErrorStream(true)
+              .start();
+
+      // Drain cp output so it never blocks on a full pipe.
+      try (InputStream inputStream = process.getInputStream()) {
+        byte[] buffer = new byte[1024];
+        while (inputStream.read(buffer) != -1) {
+          // Ignore output.
+        }
+      }
+
+      return process.waitFor() == 0;
+    } catch (IOException e) {
+      LOGGER.debug("Failed cloning {} with cp. Copying it instead.", source, e);
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
     }
+  }
+
+  /**
+   * Closes chrome from the shutdown hook. JVM halts once shutdown hooks complete, without waiting
+   * for the profile janitor, so user data dir is deleted synchronously.
+   */
+  private void closeOnShutdown() {
+    shuttingDown = true;
+    close();
+  }
 
-    return port.get();
+  /** Deletes generated user data dir, in the background if configured so and not shutting down. */
+  private void deleteUserDataDir() {
+    if (configuration.isAsyncUserDataDirCleanup() && !shuttingDown && userDataDirPath != null) {
+      ProfileJanitor.delete(userDataDirPath);
+    } else {
+      deleteQuietly(userDataDirPath);
+    }
+    userDataDirPath = null;
   }
 
   private void close(Thread thread) {
@@ -457,4 +765,15 @@ public class ChromeLauncher implements AutoCloseable {
 
   /** Runtime based shutdown hook. */
   public static class RuntimeShutdownHookRegistry implements ShutdownHookRegistry {}
+
+  /** Lazily created executor for async launches. */
+  private static class SharedExecutor {
+    private static final ExecutorService INSTANCE =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread = new Thread(runnable, "cdt-chrome-launcher");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
 }
@@ -35,6 +35,15 @@ public class ChromeLauncherConfiguration {
   /** 5 seconds wait time for threads to stop. */
   private static final int THREAD_JOIN_WAIT_TIME = 5;
 
+  /** Default number of chrome output lines kept in memory. */
+  private static final int DEFAULT_OUTPUT_BUFFER_SIZE = 1000;
+
+  /** Default chrome output log file size in bytes before it is rotated. */
+  private static final long DEFAULT_OUTPUT_LOG_FILE_SIZE = 10 * 1024 * 1024;
+
+  /** Default number of rotated chrome output log files. */
+  private static final int DEFAULT_OUTPUT_LOG_FILE_COUNT = 3;
+
   /** Startup wait time in seconds. */
   private int startupWaitTime = DEFAULT_STARTUP_WAIT_TIME;
 
@@ -44,6 +53,27 @@ public class ChromeLauncherConfiguration {
   /** Waits for threads to quite in seconds. */
   private int threadWaitTime = THREAD_JOIN_WAIT_TIME;
 
+  /** Pre-initialised user data dir copied for each launch. */
+  private String userDataDirTemplate;
+
+  /** How user data dir template is copied. */
+  private UserDataDirCopyMode userDataDirCopyMode = UserDataDirCopyMode.COPY;
+
+  /** Delete user data dir in the background on close. */
+  private boolean asyncUserDataDirCleanup;
+
+  /** Number of chrome output lines kept in memory. */
+  private int outputBufferSize = DEFAULT_OUTPUT_BUFFER_SIZE;
+
+  /** File chrome output is written to. */
+  private String outputLogFile;
+
+  /** Chrome output log file size in bytes before it is rotated. */
+  private long outputLogFileSize = DEFAULT_OUTPUT_LOG_FILE_SIZE;
+
+  /** Number of rotated chrome output log files. */
+  private int outputLogFileCount = DEFAULT_OUTPUT_LOG_FILE_COUNT;
+
   /**
    * Gets startup wait time.
    *
@@ -97,4 +127,150 @@ public class ChromeLauncherConfiguration {
   public void setThreadWaitTime(int threadWaitTime) {
     this.threadWaitTime = threadWaitTime;
   }
+
+  /**
+   * Gets user data dir template.
+   *
+   * @return User data dir template path.
+   */
+  public String getUserDataDirTemplate() {
+    return userDataDirTemplate;
+  }
+
+  /**
+   * Sets user data dir template, ie. a pre-initialised user data dir copied into a fresh temp dir
+   * for each launch, so chrome does not initialise the profile on startup. Template is not used if
+   * user data dir is passed in chrome arguments.
+   *
+   * @param userDataDirTemplate User data dir template path.
+   */
+  public void setUserDataDirTemplate(String userDataDirTemplate) {
+    this.userDataDirTemplate = userDataDirTemplate;
+  }
+
+  /**
+   * Gets user data dir template copy mode.
+   *
+   * @return Copy mode.
+   */
+  public UserDataDirCopyMode getUserDataDirCopyMode() {
+    return userDataDirCopyMode;
+  }
+
+  /**
+   * Sets user data dir template copy mode. Default {@link UserDataDirCopyMode#COPY}.
+   *
+   * @param userDataDirCopyMode Copy mode.
+   */
+  public void setUserDataDirCopyMode(UserDataDirCopyMode userDataDirCopyMode) {
+    this.userDataDirCopyMode = userDataDirCopyMode;
+  }
+
+  /**
+   * Returns true if user data dir is deleted in the background on close.
+   *
+   * @return True if user data dir cleanup is asynchronous.
+   */
+  public boolean isAsyncUserDataDirCleanup() {
+    return asyncUserDataDirCleanup;
+  }
+
+  /**
+   * Sets asynchronous user data dir cleanup. If enabled, user data dir is deleted by the profile
+   * janitor off the closing thread, instead of recursively deleting it in {@code close}. When
+   * chrome is closed from the JVM shutdown hook, user data dir is always deleted synchronously.
+   *
+   * @param asyncUserDataDirCleanup Asynchronous user data dir cleanup.
+   */
+  public void setAsyncUserDataDirCleanup(boolean asyncUserDataDirCleanup) {
+    this.asyncUserDataDirCleanup = asyncUserDataDirCleanup;
+  }
+
+  /**
+   * Gets number of chrome output lines kept in memory.
+   *
+   * @return Number of chrome output lines.
+   */
+  public int getOutputBufferSize() {
+    return outputBufferSize;
+  }
+
+  /**
+   * Sets number of chrome output lines kept in memory. Chrome output is drained for the lifetime of
+   * the chrome process and only the last lines are kept, see {@code
+   * ChromeLauncher#getChromeOutput()}. Default 1000 lines.
+   *
+   * @param outputBufferSize Number of chrome output lines.
+   */
+  public void setOutputBufferSize(int outputBufferSize) {
+    this.outputBufferSize = outputBufferSize;
+  }
+
+  /**
+   * Gets chrome output log file.
+   *
+   * @return Chrome output log file path.
+   */
+  public String getOutputLogFile() {
+    return outputLogFile;
+  }
+
+  /**
+   * Sets chrome output log file. If set, all chrome output is also written to this file, which is
+   * rotated once it exceeds output log file size. Use a separate file for each launcher.
+   *
+   * @param outputLogFile Chrome output log file path.
+   */
+  public void setOutputLogFile(String outputLogFile) {
+    this.outputLogFile = outputLogFile;
+  }
+
+  /**
+   * Gets chrome output log file size in bytes before it is rotated.
+   *
+   * @return Chrome output log file size in bytes.
+   */
+  public long getOutputLogFileSize() {
+    return outputLogFileSize;
+  }
+
+  /**
+   * Sets chrome output log file size in bytes before it is rotated. Default 10MB.
+   *
+   * @param outputLogFileSize Chrome output log file size in bytes.
+   */
+  public void setOutputLogFileSize(long outputLogFileSize) {
+    this.outputLogFileSize = outputLogFileSize;
+  }
+
+  /**
+   * Gets number of rotated chrome output log files.
+   *
+   * @return Number of rotated log files.
+   */
+  public int getOutputLogFileCount() {
+    return outputLogFileCount;
+  }
+
+  /**
+   * Sets number of rotated chrome output log files kept next to the current log file, ie. {@code
+   * chrome.log.1}, {@code chrome.log.2}. Default 3.
+   *
+   * @param outputLogFileCount Number of rotated log files.
+   */
+  public void setOutputLogFileCount(int outputLogFileCount) {
+    this.outputLogFileCount = outputLogFileCount;
+  }
+
+  /** User data dir template copy mode. */
+  public enum UserDataDirCopyMode {
+    /** Copies template files. */
+    COPY,
+
+    /**
+     * Clones template files with copy-on-write reflinks where the file system supports it, ie.
+     * btrfs or xfs, using {@code cp --reflink=auto}. Falls back to copying otherwise.
+     */
+    REFLINK
+  }
 }
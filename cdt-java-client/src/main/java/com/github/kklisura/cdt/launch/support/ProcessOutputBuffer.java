@@ -0,0 +1,197 @@
+package com.github.kklisura.cdt.launch.support;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.utils.ChromeDevToolsUtils.closeQuietly;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process output buffer keeps the last lines of process output in a bounded in-memory ring buffer
+ * and optionally writes all lines to a log file, rotated once it exceeds a given size.
+ *
+ * @author Kenan Klisura
+ */
+public class ProcessOutputBuffer implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProcessOutputBuffer.class);
+
+  private static final byte[] LINE_SEPARATOR =
+      System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+  private final int capacity;
+  private final Deque<String> lines;
+
+  private final Path logFile;
+  private final long logFileSize;
+  private final int logFileCount;
+
+  private OutputStream logOutputStream;
+  private long logOutputSize;
+  private boolean logFileFailed;
+  private boolean closed;
+
+  /**
+   * Creates a new process output buffer without a log file.
+   *
+   * @param capacity Number of lines kept in memory.
+   */
+  public ProcessOutputBuffer(int capacity) {
+    this(capacity, null, 0, 0);
+  }
+
+  /**
+   * Creates a new process output buffer.
+   *
+   * @param capacity Number of lines kept in memory.
+   * @param logFile Log file all lines are written to or null.
+   * @param logFileSize Log file size in bytes before it is rotated. Non-positive disables rotation.
+   * @param logFileCount Number of rotated log files kept.
+   */
+  public ProcessOutputBuffer(int capacity, String logFile, long logFileSize, int logFileCount) {
+    this.capacity = Math.max(0, capacity);
+    this.lines = new ArrayDeque<>(Math.min(this.capacity, 64));
+    this.logFile = logFile != null ? Paths.get(logFile) : null;
+    this.logFileSize = logFileSize;
+    this.logFileCount = Math.max(0, logFileCount);
+  }
+
+  /**
+   * Appends a line of output.
+   *
+   * @param line Output line.
+   */
+  public synchronized void append(String line) {
+    if (closed) {
+      return;
+    }
+
+    if (capacity != 0) {
+      if (lines.size() == capacity) {
+        lines.removeFirst();
+      }
+      lines.addLast(line);
+    }
+
+    if (logFile != null && !logFileFailed) {
+      writeLogLine(line);
+    }
+  }
+
+  /**
+   * Returns the last lines of output, oldest line first.
+   *
+   * @return Output lines.
+   */
+  public synchronized List<String> getLines() {
+    return new ArrayList<>(lines);
+  }
+
+  /**
+   * Returns the last lines of output joined with line separator.
+   *
+   * @return Output.
+   */
+  @Override
+  public synchronized String toString() {
+    return String.join(System.lineSeparator(), lines);
+  }
+
+  /** Closes the log file. Lines kept in memory are still available. */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    closeQuietly(logOutputStream);
+    logOutputStream = null;
+  }
+
+  private void writeLogLine(String line) {
+    try {
+      if (logOutputStream == null) {
+        openLogFile();
+      }
+
+      byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+      logOutputStream.write(bytes);
+      logOutputStream.write(LINE_SEPARATOR);
+      logOutputStream.flush();
+      logOutputSize += bytes.length + LINE_SEPARATOR.length;
+
+      if (logFileSize > 0 && logOutputSize >= logFileSize) {
+        closeQuietly(logOutputStream);
+        logOutputStream = null;
+        rotateLogFiles();
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Failed writing process output to {}. Disabling log file.", logFile, e);
+      closeQuietly(logOutputStream);
+      logOutputStream = null;
+      logFileFailed = true;
+    }
+  }
+
+  private void openLogFile() throws IOException {
+    Path parent = logFile.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+
+    logOutputStream =
+        Files.newOutputStream(
+            logFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND,
+            StandardOpenOption.WRITE);
+    logOutputSize = Files.size(logFile);
+  }
+
+  private void rotateLogFiles() throws IOException {
+    if (logFileCount == 0) {
+      Files.deleteIfExists(logFile);
+      return;
+    }
+
+    Files.deleteIfExists(rotatedLogFile(logFileCount));
+    for (int i = logFileCount - 1; i >= 1; i--) {
+      Path rotated = rotatedLogFile(i);
+      if (Files.exists(rotated)) {
+        Files.move(rotated, rotatedLogFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    Files.move(logFile, rotatedLogFile(1), StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private Path rotatedLogFile(int index) {
+    return logFile.resolveSibling(logFile.getFileName() + "." + index);
+  }
+}
@@ -0,0 +1,88 @@
+package com.github.kklisura.cdt.launch.support;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.services.utils.ConfigurationUtils.systemProperty;
+import static com.github.kklisura.cdt.utils.FilesUtils.deleteQuietly;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Profile janitor deletes user data dirs of closed chrome processes in the background, so deleting
+ * large profile caches does not slow down closing chrome. Number of concurrent deletions is bounded
+ * to keep the disk available for running chrome processes.
+ *
+ * <p>Janitor threads are not daemon threads, so pending deletions keep the JVM running when the
+ * last application thread ends; idle threads time out and do not keep the JVM running. Deletions
+ * still pending on {@link System#exit(int)} or a signal are lost, as the JVM halts once shutdown
+ * hooks complete. Chrome launcher closed from its shutdown hook deletes the user data dir
+ * synchronously for that reason.
+ *
+ * @author Kenan Klisura
+ */
+public final class ProfileJanitor {
+  public static final String CONCURRENCY_PROPERTY =
+      "com.github.kklisura.cdt.launch.support.profileJanitorConcurrency";
+
+  private static final int DEFAULT_CONCURRENCY = 2;
+
+  private static final long KEEP_ALIVE_TIME = 5;
+
+  /** Empty ctor. */
+  private ProfileJanitor() {
+    // Empty ctor.
+  }
+
+  /**
+   * Deletes the files/directories on a given path in the background.
+   *
+   * @param path Path to delete.
+   * @return Future completed once path is deleted.
+   */
+  public static CompletableFuture<Void> delete(Path path) {
+    return CompletableFuture.runAsync(() -> deleteQuietly(path), SharedExecutor.INSTANCE);
+  }
+
+  /** Lazily created executor for deletions. */
+  private static class SharedExecutor {
+    private static final ThreadPoolExecutor INSTANCE = createExecutor();
+
+    private static ThreadPoolExecutor createExecutor() {
+      int concurrency =
+          (int) Math.max(1, systemProperty(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY));
+
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              concurrency,
+              concurrency,
+              KEEP_ALIVE_TIME,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              runnable -> new Thread(runnable, "cdt-profile-janitor"));
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.github.kklisura.cdt.pool;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.services.impl.ChromeServiceImpl.ABOUT_BLANK_PAGE;
+
+import com.github.kklisura.cdt.pool.exceptions.BrowserContextPoolException;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lease of an isolated browser context. Browser context does not share cookies, storage or cache
+ * with other contexts, similar to an incognito profile. Closing the lease disposes the context
+ * together with all its tabs, so the lease can be used in try-with-resources block.
+ *
+ * @author Kenan Klisura
+ */
+public class BrowserContextLease implements AutoCloseable {
+  private final BrowserContextPool browserContextPool;
+
+  private final ChromeDevToolsService browserDevToolsService;
+
+  private final String browserContextId;
+
+  private final List<ChromeDevToolsService> tabs = new CopyOnWriteArrayList<>();
+
+  private final AtomicBoolean released = new AtomicBoolean(false);
+
+  /**
+   * Creates a new browser context lease.
+   *
+   * @param browserContextPool Browser context pool.
+   * @param browserDevToolsService Browser dev tools service.
+   * @param browserContextId Browser context id.
+   */
+  BrowserContextLease(
+      BrowserContextPool browserContextPool,
+      ChromeDevToolsService browserDevToolsService,
+      String browserContextId) {
+    this.browserContextPool = browserContextPool;
+    this.browserDevToolsService = browserDevToolsService;
+    this.browserContextId = browserContextId;
+  }
+
+  /**
+   * Gets the browser context id.
+   *
+   * @return Browser context id.
+   */
+  public String getBrowserContextId() {
+    return browserContextId;
+  }
+
+  /**
+   * Creates a new tab with about:blank url in this browser context.
+   *
+   * @return Dev tools service of the created tab.
+   */
+  public ChromeDevToolsService createTab() {
+    return createTab(ABOUT_BLANK_PAGE);
+  }
+
+  /**
+   * Creates a new tab in this browser context. Created tab shares the web socket connection of the
+   * browser dev tools service.
+   *
+   * @param url Url.
+   * @return Dev tools service of the created tab.
+   * @throws BrowserContextPoolException If lease is already released.
+   */
+  public ChromeDevToolsService createTab(String url) {
+    if (released.get()) {
+      throw new BrowserContextPoolException("Browser context lease is released.");
+    }
+
+    String targetId =
+        browserDevToolsService
+            .getTarget()
+            .createTarget(url, null, null, browserContextId, null, null, null);
+
+    ChromeDevToolsService tab = browserDevToolsService.attachToTarget(targetId);
+    tabs.add(tab);
+    return tab;
+  }
+
+  /**
+   * Gets the tabs created in this browser context.
+   *
+   * @return Dev tools services of created tabs.
+   */
+  public List<ChromeDevToolsService> getTabs() {
+    return Collections.unmodifiableList(tabs);
+  }
+
+  /** Disposes the browser context and releases it back to the pool. */
+  @Override
+  public void close() {
+    browserContextPool.release(this);
+  }
+
+  /**
+   * Marks this lease as released.
+   *
+   * @return False if lease is already released.
+   */
+  boolean markReleased() {
+    return released.compareAndSet(false, true);
+  }
+}
@@ -0,0 +1,244 @@
+package com.github.kklisura.cdt.pool;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.pool.config.BrowserContextPoolConfiguration;
+import com.github.kklisura.cdt.pool.exceptions.BrowserContextPoolException;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.ChromeService;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of isolated browser contexts within a single browser. Creating a browser context with
+ * Target.createBrowserContext takes milliseconds compared to launching a new chrome process, while
+ * still isolating cookies, storage and cache between leases.
+ *
+ * <p>All contexts and their tabs are controlled over a single web socket connection to the browser
+ * target. Number of concurrently leased contexts is limited by configured max contexts.
+ *
+ * <pre>{@code
+ * try (BrowserContextLease lease = browserContextPool.lease()) {
+ *   ChromeDevToolsService tab = lease.createTab("https://github.com");
+ *   ...
+ * }
+ * }</pre>
+ *
+ * @author Kenan Klisura
+ */
+public class BrowserContextPool implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(BrowserContextPool.class);
+
+  private final ChromeDevToolsService browserDevToolsService;
+
+  private final boolean isBrowserDevToolsServiceOwned;
+
+  private final BrowserContextPoolConfiguration configuration;
+
+  private final Set<BrowserContextLease> leases = ConcurrentHashMap.newKeySet();
+
+  private final Semaphore permits;
+
+  private volatile boolean closed;
+
+  /**
+   * Creates a new browser context pool with default configuration.
+   *
+   * @param chromeService Chrome service.
+   */
+  public BrowserContextPool(ChromeService chromeService) {
+    this(chromeService, new BrowserContextPoolConfiguration());
+  }
+
+  /**
+   * Creates a new browser context pool connecting to the browser target of a given chrome service.
+   * Browser connection is closed when pool is closed.
+   *
+   * @param chromeService Chrome service.
+   * @param configuration Browser context pool configuration.
+   */
+  public BrowserContextPool(
+      ChromeService chromeService, BrowserContextPoolConfiguration configuration) {
+    this(chromeService.createBrowserDevToolsService(), true, configuration);
+  }
+
+  /**
+   * Creates a new browser context pool given a browser dev tools service. Browser dev tools service
+   * is not closed when pool is closed.
+   *
+   * @param browserDevToolsService Dev tools service connected to the browser target.
+   * @param configuration Browser context pool configuration.
+   */
+  public BrowserContextPool(
+      ChromeDevToolsService browserDevToolsService, BrowserContextPoolConfiguration configuration) {
+    this(browserDevToolsService, false, configuration);
+  }
+
+  private BrowserContextPool(
+      ChromeDevToolsService browserDevToolsService,
+      boolean isBrowserDevToolsServiceOwned,
+      BrowserContextPoolConfiguration configuration) {
+    this.browserDevToolsService = browserDevToolsService;
+    this.isBrowserDevToolsServiceOwned = isBrowserDevToolsServiceOwned;
+    this.configuration = configuration;
+    this.permits = new Semaphore(configuration.getMaxContexts(), true);
+  }
+
+  /**
+   * Leases a new browser context waiting at most configured lease timeout if max contexts are
+   * leased.
+   *
+   * @return Browser context lease.
+   * @throws BrowserContextPoolException If timeout expires, pool is closed or context creation
+   *     fails.
+   */
+  public BrowserContextLease lease() {
+    return lease(configuration.getLeaseTimeout(), TimeUnit.SECONDS);
+  }
+
+  /**
+   * Leases a new browser context waiting at most given timeout if max contexts are leased.
+   *
+   * @param timeout Timeout. 0 for infinite timeout.
+   * @param timeUnit Timeout unit.
+   * @return Browser context lease.
+   * @throws BrowserContextPoolException If timeout expires, pool is closed or context creation
+   *     fails.
+   */
+  public BrowserContextLease lease(long timeout, TimeUnit timeUnit) {
+    checkNotClosed();
+
+    try {
+      if (timeout == 0) {
+        permits.acquire();
+      } else if (!permits.tryAcquire(timeout, timeUnit)) {
+        throw new BrowserContextPoolException(
+            "Timeout expired while waiting for a browser context.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BrowserContextPoolException("Interrupted while waiting for a browser context.", e);
+    }
+
+    try {
+      checkNotClosed();
+
+      String browserContextId = browserDevToolsService.getTarget().createBrowserContext();
+
+      BrowserContextLease lease =
+          new BrowserContextLease(this, browserDevToolsService, browserContextId);
+      leases.add(lease);
+      return lease;
+    } catch (BrowserContextPoolException e) {
+      permits.release();
+      throw e;
+    } catch (RuntimeException e) {
+      permits.release();
+      throw new BrowserContextPoolException("Failed creating browser context.", e);
+    }
+  }
+
+  /**
+   * Disposes the leased browser context together with all its tabs. Releasing already released
+   * lease has no effect.
+   *
+   * @param lease Browser context lease.
+   */
+  public void release(BrowserContextLease lease) {
+    if (!lease.markReleased()) {
+      return;
+    }
+
+    leases.remove(lease);
+
+    try {
+      browserDevToolsService.getTarget().disposeBrowserContext(lease.getBrowserContextId());
+    } catch (Exception e) {
+      LOGGER.warn("Failed disposing browser context {}", lease.getBrowserContextId(), e);
+    } finally {
+      // Tabs get detached by disposing the context; this closes the ones that were not.
+      for (ChromeDevToolsService tab : lease.getTabs()) {
+        closeQuietly(tab);
+      }
+
+      permits.release();
+    }
+  }
+
+  /**
+   * Returns number of leased browser contexts.
+   *
+   * @return Number of leased browser contexts.
+   */
+  public int getLeasedCount() {
+    return leases.size();
+  }
+
+  /**
+   * Returns true if pool is closed.
+   *
+   * @return True if pool is closed.
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /** Closes the pool disposing all leased browser contexts. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    for (BrowserContextLease lease : new ArrayList<>(leases)) {
+      release(lease);
+    }
+
+    if (isBrowserDevToolsServiceOwned) {
+      closeQuietly(browserDevToolsService);
+    }
+
+    // Wake up callers waiting for a browser context.
+    permits.release(configuration.getMaxContexts());
+  }
+
+  private void checkNotClosed() {
+    if (closed) {
+      throw new BrowserContextPoolException("Browser context pool is closed.");
+    }
+  }
+
+  private static void closeQuietly(ChromeDevToolsService devToolsService) {
+    try {
+      if (!devToolsService.isClosed()) {
+        devToolsService.close();
+      }
+    } catch (Exception e) {
+      LOGGER.debug("Failed closing dev tools service.", e);
+    }
+  }
+}
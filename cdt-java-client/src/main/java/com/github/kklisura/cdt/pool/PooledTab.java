@@ -0,0 +1,69 @@
+package com.github.kklisura.cdt.pool;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.types.ChromeTab;
+
+/**
+ * Tab owned by the tab pool together with its connected dev tools service.
+ *
+ * @author Kenan Klisura
+ */
+class PooledTab {
+  private final ChromeTab tab;
+
+  private final ChromeDevToolsService devToolsService;
+
+  private int uses;
+
+  /**
+   * Creates a new pooled tab.
+   *
+   * @param tab Chrome tab.
+   * @param devToolsService Dev tools service connected to the tab.
+   */
+  PooledTab(ChromeTab tab, ChromeDevToolsService devToolsService) {
+    this.tab = tab;
+    this.devToolsService = devToolsService;
+  }
+
+  ChromeTab getTab() {
+    return tab;
+  }
+
+  ChromeDevToolsService getDevToolsService() {
+    return devToolsService;
+  }
+
+  /**
+   * Increments number of leases of this tab.
+   *
+   * @return Number of leases including the current one.
+   */
+  int incrementUses() {
+    return ++uses;
+  }
+
+  int getUses() {
+    return uses;
+  }
+}
@@ -0,0 +1,112 @@
+package com.github.kklisura.cdt.pool;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.types.ChromeTab;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lease of a pooled tab. Closing the lease returns the tab to the pool, so the lease can be used in
+ * try-with-resources block.
+ *
+ * @author Kenan Klisura
+ */
+public class TabLease implements AutoCloseable {
+  private final TabPool tabPool;
+
+  private final PooledTab pooledTab;
+
+  private final Set<String> origins = ConcurrentHashMap.newKeySet();
+
+  private final Set<String> requestUrls = ConcurrentHashMap.newKeySet();
+
+  private final AtomicBoolean released = new AtomicBoolean(false);
+
+  /**
+   * Creates a new tab lease.
+   *
+   * @param tabPool Tab pool.
+   * @param pooledTab Leased tab.
+   */
+  TabLease(TabPool tabPool, PooledTab pooledTab) {
+    this.tabPool = tabPool;
+    this.pooledTab = pooledTab;
+  }
+
+  /**
+   * Gets the leased tab.
+   *
+   * @return Chrome tab.
+   */
+  public ChromeTab getTab() {
+    return pooledTab.getTab();
+  }
+
+  /**
+   * Gets the dev tools service connected to the leased tab. Service must not be closed by the
+   * caller.
+   *
+   * @return Dev tools service.
+   */
+  public ChromeDevToolsService getDevToolsService() {
+    return pooledTab.getDevToolsService();
+  }
+
+  /** Releases the tab back to the pool. */
+  @Override
+  public void close() {
+    tabPool.release(this);
+  }
+
+  PooledTab getPooledTab() {
+    return pooledTab;
+  }
+
+  /**
+   * Gets the origins visited during this lease.
+   *
+   * @return Visited origins.
+   */
+  Set<String> getOrigins() {
+    return origins;
+  }
+
+  /**
+   * Gets the URLs requested during this lease, including subresource requests.
+   *
+   * @return Requested URLs.
+   */
+  Set<String> getRequestUrls() {
+    return requestUrls;
+  }
+
+  /**
+   * Marks this lease as released.
+   *
+   * @return False if lease is already released.
+   */
+  boolean markReleased() {
+    return released.compareAndSet(false, true);
+  }
+}
@@ -0,0 +1,467 @@
+package com.github.kklisura.cdt.pool;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.services.impl.ChromeServiceImpl.ABOUT_BLANK_PAGE;
+
+import com.github.kklisura.cdt.pool.config.TabPoolConfiguration;
+import com.github.kklisura.cdt.pool.exceptions.TabPoolException;
+import com.github.kklisura.cdt.protocol.commands.Network;
+import com.github.kklisura.cdt.protocol.types.network.Cookie;
+import com.github.kklisura.cdt.protocol.types.page.FrameTree;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.ChromeService;
+import com.github.kklisura.cdt.services.types.ChromeTab;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of pre-warmed tabs. Tabs are created and connected when the pool is created and domains are
+ * enabled by the configured tab initializer, so leasing a tab does not pay for tab creation,
+ * connection or domain enabling.
+ *
+ * <p>Released tabs are reset: the tab is navigated to about:blank, cookies of hosts requested
+ * during the lease and storage of visited origins are cleared and all event listeners are removed.
+ * Requests of subresources are tracked only if the Network domain is enabled, which default tab
+ * initializer does. Tabs failing the reset or exceeding configured max uses are closed and replaced
+ * with new ones.
+ *
+ * <p>Please note that tabs share the default browser context, so cookies and storage of a host
+ * requested by a lease are cleared for other leased tabs as well. Use {@link BrowserContextPool} if
+ * leases need to be fully isolated.
+ *
+ * <pre>{@code
+ * try (TabLease lease = tabPool.lease()) {
+ *   lease.getDevToolsService().getPage().navigate("https://github.com");
+ * }
+ * }</pre>
+ *
+ * @author Kenan Klisura
+ */
+public class TabPool implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(TabPool.class);
+
+  private static final String ALL_STORAGE_TYPES = "all";
+
+  private static final String HTTP_ORIGIN_PREFIX = "http://";
+  private static final String HTTPS_ORIGIN_PREFIX = "https://";
+
+  private final ChromeService chromeService;
+
+  private final TabPoolConfiguration configuration;
+
+  private final BlockingDeque<PooledTab> idleTabs = new LinkedBlockingDeque<>();
+
+  private final Set<TabLease> leases = ConcurrentHashMap.newKeySet();
+
+  private final Semaphore permits;
+
+  private volatile boolean closed;
+
+  /**
+   * Creates a new tab pool with default configuration.
+   *
+   * @param chromeService Chrome service.
+   * @throws TabPoolException If creating tabs fails.
+   */
+  public TabPool(ChromeService chromeService) {
+    this(chromeService, new TabPoolConfiguration());
+  }
+
+  /**
+   * Creates a new tab pool. All tabs are created and initialized before this constructor returns.
+   *
+   * @param chromeService Chrome service.
+   * @param configuration Tab pool configuration.
+   * @throws TabPoolException If creating tabs fails.
+   */
+  public TabPool(ChromeService chromeService, TabPoolConfiguration configuration) {
+    this.chromeService = chromeService;
+    this.configuration = configuration;
+    this.permits = new Semaphore(configuration.getPoolSize(), true);
+
+    try {
+      for (int i = 0; i < configuration.getPoolSize(); i++) {
+        idleTabs.offerLast(createPooledTab());
+      }
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Leases a tab waiting at most configured lease timeout for a tab to become available.
+   *
+   * @return Tab lease.
+   * @throws TabPoolException If timeout expires, pool is closed or tab creation fails.
+   */
+  public TabLease lease() {
+    return lease(configuration.getLeaseTimeout(), TimeUnit.SECONDS);
+  }
+
+  /**
+   * Leases a tab waiting at most given timeout for a tab to become available.
+   *
+   * @param timeout Timeout. 0 for infinite timeout.
+   * @param timeUnit Timeout unit.
+   * @return Tab lease.
+   * @throws TabPoolException If timeout expires, pool is closed or tab creation fails.
+   */
+  public TabLease lease(long timeout, TimeUnit timeUnit) {
+    checkNotClosed();
+
+    try {
+      if (timeout == 0) {
+        permits.acquire();
+      } else if (!permits.tryAcquire(timeout, timeUnit)) {
+        throw new TabPoolException("Timeout expired while waiting for a tab.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TabPoolException("Interrupted while waiting for a tab.", e);
+    }
+
+    try {
+      checkNotClosed();
+
+      PooledTab pooledTab = idleTabs.pollFirst();
+      if (pooledTab == null) {
+        pooledTab = createPooledTab();
+      }
+      pooledTab.incrementUses();
+
+      TabLease lease = new TabLease(this, pooledTab);
+      trackOrigins(lease);
+
+      leases.add(lease);
+      return lease;
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Releases the leased tab back to the pool. Tab is reset and returned to the pool or closed and
+   * replaced if reset fails or its max uses are exceeded. Releasing already released lease has no
+   * effect.
+   *
+   * @param lease Tab lease.
+   */
+  public void release(TabLease lease) {
+    if (!lease.markReleased()) {
+      return;
+    }
+
+    leases.remove(lease);
+
+    final PooledTab pooledTab = lease.getPooledTab();
+    try {
+      if (closed) {
+        discard(pooledTab);
+      } else if (isExhausted(pooledTab) || !reset(lease)) {
+        discard(pooledTab);
+        replenish();
+      } else {
+        idleTabs.offerFirst(pooledTab);
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Returns number of idle tabs.
+   *
+   * @return Number of idle tabs.
+   */
+  public int getIdleCount() {
+    return idleTabs.size();
+  }
+
+  /**
+   * Returns number of leased tabs.
+   *
+   * @return Number of leased tabs.
+   */
+  public int getLeasedCount() {
+    return leases.size();
+  }
+
+  /**
+   * Returns true if pool is closed.
+   *
+   * @return True if pool is closed.
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /** Closes the pool, closing all idle and leased tabs. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    PooledTab pooledTab;
+    while ((pooledTab = idleTabs.pollFirst()) != null) {
+      discard(pooledTab);
+    }
+
+    for (TabLease lease : new ArrayList<>(leases)) {
+      release(lease);
+    }
+
+    // Wake up callers waiting for a tab.
+    permits.release(configuration.getPoolSize());
+  }
+
+  private PooledTab createPooledTab() {
+    final ChromeTab tab;
+    try {
+      tab = chromeService.createTab();
+    } catch (RuntimeException e) {
+      throw new TabPoolException("Failed creating tab.", e);
+    }
+
+    PooledTab pooledTab = null;
+    try {
+      ChromeDevToolsService devToolsService =
+          chromeService.createDevToolsService(
+              tab, configuration.getDevToolsServiceConfigurationSupplier().get());
+      pooledTab = new PooledTab(tab, devToolsService);
+
+      if (configuration.getTabInitializer() != null) {
+        configuration.getTabInitializer().accept(devToolsService);
+      }
+
+      return pooledTab;
+    } catch (RuntimeException e) {
+      if (pooledTab != null) {
+        discard(pooledTab);
+      } else {
+        closeTab(tab);
+      }
+      throw new TabPoolException("Failed initializing tab.", e);
+    }
+  }
+
+  /** Creates a replacement for a discarded tab so the next lease does not pay for it. */
+  private void replenish() {
+    if (closed) {
+      return;
+    }
+
+    try {
+      idleTabs.offerLast(createPooledTab());
+    } catch (TabPoolException e) {
+      // Tab is going to be created on next lease.
+      LOGGER.warn("Failed creating replacement tab.", e);
+    }
+  }
+
+  private boolean isExhausted(PooledTab pooledTab) {
+    return configuration.getMaxUses() > 0 && pooledTab.getUses() >= configuration.getMaxUses();
+  }
+
+  /**
+   * Records origins of frames navigated and URLs requested during the lease, so their cookies and
+   * storage can be cleared on reset.
+   *
+   * @param lease Tab lease.
+   */
+  private void trackOrigins(TabLease lease) {
+    ChromeDevToolsService devToolsService = lease.getDevToolsService();
+    devToolsService
+        .getPage()
+        .onFrameNavigated(event -> lease.getOrigins().add(event.getFrame().getSecurityOrigin()));
+    devToolsService
+        .getNetwork()
+        .onRequestWillBeSent(event -> lease.getRequestUrls().add(event.getRequest().getUrl()));
+  }
+
+  /**
+   * Resets the leased tab.
+   *
+   * @param lease Tab lease.
+   * @return False if reset fails.
+   */
+  private boolean reset(TabLease lease) {
+    final ChromeDevToolsService devToolsService = lease.getDevToolsService();
+    if (devToolsService.isClosed()) {
+      return false;
+    }
+
+    try {
+      Set<String> origins = new HashSet<>(lease.getOrigins());
+      collectOrigins(devToolsService.getPage().getFrameTree(), origins);
+
+      List<String> webOrigins = new ArrayList<>();
+      Set<String> hosts = new HashSet<>();
+      for (String origin : origins) {
+        if (isWebOrigin(origin)) {
+          webOrigins.add(origin);
+          addHost(origin, hosts);
+        }
+      }
+      for (String requestUrl : lease.getRequestUrls()) {
+        if (isWebOrigin(requestUrl)) {
+          addHost(requestUrl, hosts);
+        }
+      }
+
+      devToolsService.removeAllEventListeners();
+      devToolsService.getPage().navigate(ABOUT_BLANK_PAGE);
+
+      if (!hosts.isEmpty()) {
+        // Only cookies of requested hosts are deleted, since clearing browser cookies would clear
+        // cookies of tabs still leased to other callers. Any cookie set while loading a URL
+        // domain-matches its host, regardless of the cookie path.
+        Network network = devToolsService.getNetwork();
+        List<Cookie> cookies = network.getAllCookies();
+        if (cookies != null) {
+          for (Cookie cookie : cookies) {
+            if (domainMatches(cookie.getDomain(), hosts)) {
+              network.deleteCookies(cookie.getName(), null, cookie.getDomain(), cookie.getPath());
+            }
+          }
+        }
+      }
+
+      for (String origin : webOrigins) {
+        devToolsService.getStorage().clearDataForOrigin(origin, ALL_STORAGE_TYPES);
+      }
+
+      return true;
+    } catch (Exception e) {
+      LOGGER.warn("Failed resetting tab {}, tab will be discarded.", lease.getTab().getId(), e);
+      return false;
+    }
+  }
+
+  private void discard(PooledTab pooledTab) {
+    try {
+      pooledTab.getDevToolsService().close();
+    } catch (Exception e) {
+      LOGGER.debug("Failed closing dev tools service of tab {}", pooledTab.getTab().getId(), e);
+    }
+
+    closeTab(pooledTab.getTab());
+  }
+
+  private void closeTab(ChromeTab tab) {
+    try {
+      chromeService.closeTab(tab);
+    } catch (Exception e) {
+      LOGGER.debug("Failed closing tab {}", tab.getId(), e);
+    }
+  }
+
+  private void checkNotClosed() {
+    if (closed) {
+      throw new TabPoolException("Tab pool is closed.");
+    }
+  }
+
+  /**
+   * Collects web origins of a frame tree.
+   *
+   * @param frameTree Frame tree.
+   * @param origins Resulting origins.
+   */
+  private static void collectOrigins(FrameTree frameTree, Set<String> origins) {
+    if (frameTree == null) {
+      return;
+    }
+
+    if (frameTree.getFrame() != null) {
+      origins.add(frameTree.getFrame().getSecurityOrigin());
+    }
+
+    List<FrameTree> childFrames = frameTree.getChildFrames();
+    if (childFrames != null) {
+      for (FrameTree childFrame : childFrames) {
+        collectOrigins(childFrame, origins);
+      }
+    }
+  }
+
+  /**
+   * Adds a host of a web URL or origin.
+   *
+   * @param url URL or origin.
+   * @param hosts Resulting hosts.
+   */
+  private static void addHost(String url, Set<String> hosts) {
+    try {
+      String host = new URI(url).getHost();
+      if (host != null) {
+        hosts.add(host.toLowerCase(Locale.ROOT));
+      }
+    } catch (URISyntaxException e) {
+      LOGGER.debug("Failed parsing host of {}", url, e);
+    }
+  }
+
+  /**
+   * Returns true if a cookie domain matches any of the hosts, ie. cookie is set for the host or one
+   * of its parent domains.
+   *
+   * @param cookieDomain Cookie domain.
+   * @param hosts Hosts.
+   * @return True if cookie domain matches a host.
+   */
+  private static boolean domainMatches(String cookieDomain, Set<String> hosts) {
+    if (cookieDomain == null) {
+      return false;
+    }
+
+    String domain =
+        (cookieDomain.startsWith(".") ? cookieDomain.substring(1) : cookieDomain)
+            .toLowerCase(Locale.ROOT);
+    for (String host : hosts) {
+      if (host.equals(domain) || host.endsWith("." + domain)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isWebOrigin(String origin) {
+    return origin != null
+        && (origin.startsWith(HTTP_ORIGIN_PREFIX) || origin.startsWith(HTTPS_ORIGIN_PREFIX));
+  }
+}
@@ -0,0 +1,76 @@
+package com.github.kklisura.cdt.pool.config;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Browser context pool configuration.
+ *
+ * @author Kenan Klisura
+ */
+public class BrowserContextPoolConfiguration {
+  /** Default max number of concurrently leased browser contexts. */
+  private static final int DEFAULT_MAX_CONTEXTS = 8;
+
+  /** Default lease wait time in seconds. */
+  private static final long DEFAULT_LEASE_TIMEOUT = 60;
+
+  /** Max number of concurrently leased browser contexts. */
+  private int maxContexts = DEFAULT_MAX_CONTEXTS;
+
+  /** Lease wait time in seconds. */
+  private long leaseTimeout = DEFAULT_LEASE_TIMEOUT;
+
+  /**
+   * Gets max number of concurrently leased browser contexts.
+   *
+   * @return Max contexts.
+   */
+  public int getMaxContexts() {
+    return maxContexts;
+  }
+
+  /**
+   * Sets max number of concurrently leased browser contexts per browser.
+   *
+   * @param maxContexts Max contexts.
+   */
+  public void setMaxContexts(int maxContexts) {
+    this.maxContexts = maxContexts;
+  }
+
+  /**
+   * Gets lease wait time in seconds.
+   *
+   * @return Lease wait time in seconds.
+   */
+  public long getLeaseTimeout() {
+    return leaseTimeout;
+  }
+
+  /**
+   * Sets lease wait time in seconds. 0 for infinite wait time.
+   *
+   * @param leaseTimeout Lease wait time in seconds.
+   */
+  public void setLeaseTimeout(long leaseTimeout) {
+    this.leaseTimeout = leaseTimeout;
+  }
+}
@@ -0,0 +1,157 @@
+package com.github.kklisura.cdt.pool.config;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.config.ChromeDevToolsServiceConfiguration;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Tab pool configuration.
+ *
+ * @author Kenan Klisura
+ */
+public class TabPoolConfiguration {
+  /** Default number of tabs in the pool. */
+  private static final int DEFAULT_POOL_SIZE = 4;
+
+  /** Default number of leases after which a tab is recycled. */
+  private static final int DEFAULT_MAX_USES = 100;
+
+  /** Default lease wait time in seconds. */
+  private static final long DEFAULT_LEASE_TIMEOUT = 60;
+
+  /** Number of tabs in the pool. */
+  private int poolSize = DEFAULT_POOL_SIZE;
+
+  /** Number of leases after which a tab is recycled. */
+  private int maxUses = DEFAULT_MAX_USES;
+
+  /** Lease wait time in seconds. */
+  private long leaseTimeout = DEFAULT_LEASE_TIMEOUT;
+
+  /** Initializes newly created tabs, ie. enables domains. */
+  private Consumer<ChromeDevToolsService> tabInitializer =
+      devToolsService -> {
+        devToolsService.getPage().enable();
+        devToolsService.getNetwork().enable();
+      };
+
+  /** Supplies dev tools service configuration for every created tab. */
+  private Supplier<ChromeDevToolsServiceConfiguration> devToolsServiceConfigurationSupplier =
+      ChromeDevToolsServiceConfiguration::new;
+
+  /**
+   * Gets number of tabs in the pool.
+   *
+   * @return Pool size.
+   */
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /**
+   * Sets number of tabs in the pool. All tabs are created when the pool is created.
+   *
+   * @param poolSize Pool size.
+   */
+  public void setPoolSize(int poolSize) {
+    this.poolSize = poolSize;
+  }
+
+  /**
+   * Gets number of leases after which a tab is recycled.
+   *
+   * @return Max uses.
+   */
+  public int getMaxUses() {
+    return maxUses;
+  }
+
+  /**
+   * Sets number of leases after which a tab is closed and replaced with a new one. 0 for unlimited
+   * number of leases.
+   *
+   * @param maxUses Max uses.
+   */
+  public void setMaxUses(int maxUses) {
+    this.maxUses = maxUses;
+  }
+
+  /**
+   * Gets lease wait time in seconds.
+   *
+   * @return Lease wait time in seconds.
+   */
+  public long getLeaseTimeout() {
+    return leaseTimeout;
+  }
+
+  /**
+   * Sets lease wait time in seconds. 0 for infinite wait time.
+   *
+   * @param leaseTimeout Lease wait time in seconds.
+   */
+  public void setLeaseTimeout(long leaseTimeout) {
+    this.leaseTimeout = leaseTimeout;
+  }
+
+  /**
+   * Gets tab initializer.
+   *
+   * @return Tab initializer.
+   */
+  public Consumer<ChromeDevToolsService> getTabInitializer() {
+    return tabInitializer;
+  }
+
+  /**
+   * Sets tab initializer called once for every newly created tab, ie. to enable domains. Default
+   * initializer enables Page and Network domains.
+   *
+   * @param tabInitializer Tab initializer.
+   */
+  public void setTabInitializer(Consumer<ChromeDevToolsService> tabInitializer) {
+    this.tabInitializer = tabInitializer;
+  }
+
+  /**
+   * Gets dev tools service configuration supplier.
+   *
+   * @return Dev tools service configuration supplier.
+   */
+  public Supplier<ChromeDevToolsServiceConfiguration> getDevToolsServiceConfigurationSupplier() {
+    return devToolsServiceConfigurationSupplier;
+  }
+
+  /**
+   * Sets dev tools service configuration supplier. Supplier is called for every created tab and it
+   * should return a new configuration each time since event executor service is closed together
+   * with the dev tools service.
+   *
+   * @param devToolsServiceConfigurationSupplier Dev tools service configuration supplier.
+   */
+  public void setDevToolsServiceConfigurationSupplier(
+      Supplier<ChromeDevToolsServiceConfiguration> devToolsServiceConfigurationSupplier) {
+    this.devToolsServiceConfigurationSupplier = devToolsServiceConfigurationSupplier;
+  }
+}
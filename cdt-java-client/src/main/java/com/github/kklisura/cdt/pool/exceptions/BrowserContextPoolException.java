@@ -0,0 +1,47 @@
+package com.github.kklisura.cdt.pool.exceptions;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Browser context pool exception raised when browser context can not be leased from the pool.
+ *
+ * @author Kenan Klisura
+ */
+public class BrowserContextPoolException extends RuntimeException {
+  /**
+   * Instantiates a new browser context pool exception.
+   *
+   * @param message Message.
+   */
+  public BrowserContextPoolException(String message) {
+    super(message);
+  }
+
+  /**
+   * Instantiates a new browser context pool exception.
+   *
+   * @param message Message.
+   * @param cause Root exception cause.
+   */
+  public BrowserContextPoolException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,570 @@
+package com.github.kklisura.cdt.protocol;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Accessibility;
+import com.github.kklisura.cdt.protocol.commands.Animation;
+import com.github.kklisura.cdt.protocol.commands.ApplicationCache;
+import com.github.kklisura.cdt.protocol.commands.Audits;
+import com.github.kklisura.cdt.protocol.commands.BackgroundService;
+import com.github.kklisura.cdt.protocol.commands.Browser;
+import com.github.kklisura.cdt.protocol.commands.CSS;
+import com.github.kklisura.cdt.protocol.commands.CacheStorage;
+import com.github.kklisura.cdt.protocol.commands.Cast;
+import com.github.kklisura.cdt.protocol.commands.Console;
+import com.github.kklisura.cdt.protocol.commands.DOM;
+import com.github.kklisura.cdt.protocol.commands.DOMDebugger;
+import com.github.kklisura.cdt.protocol.commands.DOMSnapshot;
+import com.github.kklisura.cdt.protocol.commands.DOMStorage;
+import com.github.kklisura.cdt.protocol.commands.Database;
+import com.github.kklisura.cdt.protocol.commands.Debugger;
+import com.github.kklisura.cdt.protocol.commands.DeviceOrientation;
+import com.github.kklisura.cdt.protocol.commands.Emulation;
+import com.github.kklisura.cdt.protocol.commands.Fetch;
+import com.github.kklisura.cdt.protocol.commands.HeadlessExperimental;
+import com.github.kklisura.cdt.protocol.commands.HeapProfiler;
+import com.github.kklisura.cdt.protocol.commands.IO;
+import com.github.kklisura.cdt.protocol.commands.IndexedDB;
+import com.github.kklisura.cdt.protocol.commands.Input;
+import com.github.kklisura.cdt.protocol.commands.Inspector;
+import com.github.kklisura.cdt.protocol.commands.LayerTree;
+import com.github.kklisura.cdt.protocol.commands.Log;
+import com.github.kklisura.cdt.protocol.commands.Media;
+import com.github.kklisura.cdt.protocol.commands.Memory;
+import com.github.kklisura.cdt.protocol.commands.Network;
+import com.github.kklisura.cdt.protocol.commands.Overlay;
+import com.github.kklisura.cdt.protocol.commands.Page;
+import com.github.kklisura.cdt.protocol.commands.Performance;
+import com.github.kklisura.cdt.protocol.commands.Profiler;
+import com.github.kklisura.cdt.protocol.commands.Runtime;
+import com.github.kklisura.cdt.protocol.commands.Schema;
+import com.github.kklisura.cdt.protocol.commands.Security;
+import com.github.kklisura.cdt.protocol.commands.ServiceWorker;
+import com.github.kklisura.cdt.protocol.commands.Storage;
+import com.github.kklisura.cdt.protocol.commands.SystemInfo;
+import com.github.kklisura.cdt.protocol.commands.Target;
+import com.github.kklisura.cdt.protocol.commands.Tethering;
+import com.github.kklisura.cdt.protocol.commands.Tracing;
+import com.github.kklisura.cdt.protocol.commands.WebAudio;
+import com.github.kklisura.cdt.protocol.commands.WebAuthn;
+import com.github.kklisura.cdt.protocol.commands.impl.AccessibilityImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.AnimationImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.ApplicationCacheImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.AuditsImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.BackgroundServiceImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.BrowserImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.CSSImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.CacheStorageImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.CastImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.ConsoleImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.DOMDebuggerImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.DOMImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.DOMSnapshotImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.DOMStorageImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.DatabaseImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.DebuggerImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.DeviceOrientationImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.EmulationImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.FetchImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.HeadlessExperimentalImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.HeapProfilerImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.IOImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.IndexedDBImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.InputImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.InspectorImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.LayerTreeImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.LogImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.MediaImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.MemoryImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.NetworkImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.OverlayImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.PageImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.PerformanceImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.ProfilerImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.RuntimeImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.SchemaImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.SecurityImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.ServiceWorkerImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.StorageImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.SystemInfoImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.TargetImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.TetheringImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.TracingImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.WebAudioImpl;
+import com.github.kklisura.cdt.protocol.commands.impl.WebAuthnImpl;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+
+/**
+ * ChromeDevTools implementation. Domain commands are created on first access and invoke commands
+ * through this command invoker.
+ */
+public abstract class ChromeDevToolsImpl implements ChromeDevTools, CommandInvoker {
+
+  private Console console;
+
+  @Override
+  public Console getConsole() {
+    if (console == null) {
+      console = new ConsoleImpl(this);
+    }
+    return console;
+  }
+
+  private Debugger debugger;
+
+  @Override
+  public Debugger getDebugger() {
+    if (debugger == null) {
+      debugger = new DebuggerImpl(this);
+    }
+    return debugger;
+  }
+
+  private HeapProfiler heapProfiler;
+
+  @Override
+  public HeapProfiler getHeapProfiler() {
+    if (heapProfiler == null) {
+      heapProfiler = new HeapProfilerImpl(this);
+    }
+    return heapProfiler;
+  }
+
+  private Profiler profiler;
+
+  @Override
+  public Profiler getProfiler() {
+    if (profiler == null) {
+      profiler = new ProfilerImpl(this);
+    }
+    return profiler;
+  }
+
+  private Runtime runtime;
+
+  @Override
+  public Runtime getRuntime() {
+    if (runtime == null) {
+      runtime = new RuntimeImpl(this);
+    }
+    return runtime;
+  }
+
+  private Schema schema;
+
+  @Override
+  public Schema getSchema() {
+    if (schema == null) {
+      schema = new SchemaImpl(this);
+    }
+    return schema;
+  }
+
+  private Accessibility accessibility;
+
+  @Override
+  public Accessibility getAccessibility() {
+    if (accessibility == null) {
+      accessibility = new AccessibilityImpl(this);
+    }
+    return accessibility;
+  }
+
+  private Animation animation;
+
+  @Override
+  public Animation getAnimation() {
+    if (animation == null) {
+      animation = new AnimationImpl(this);
+    }
+    return animation;
+  }
+
+  private ApplicationCache applicationCache;
+
+  @Override
+  public ApplicationCache getApplicationCache() {
+    if (applicationCache == null) {
+      applicationCache = new ApplicationCacheImpl(this);
+    }
+    return applicationCache;
+  }
+
+  private Audits audits;
+
+  @Override
+  public Audits getAudits() {
+    if (audits == null) {
+      audits = new AuditsImpl(this);
+    }
+    return audits;
+  }
+
+  private BackgroundService backgroundService;
+
+  @Override
+  public BackgroundService getBackgroundService() {
+    if (backgroundService == null) {
+      backgroundService = new BackgroundServiceImpl(this);
+    }
+    return backgroundService;
+  }
+
+  private Browser browser;
+
+  @Override
+  public Browser getBrowser() {
+    if (browser == null) {
+      browser = new BrowserImpl(this);
+    }
+    return browser;
+  }
+
+  private CSS css;
+
+  @Override
+  public CSS getCSS() {
+    if (css == null) {
+      css = new CSSImpl(this);
+    }
+    return css;
+  }
+
+  private CacheStorage cacheStorage;
+
+  @Override
+  public CacheStorage getCacheStorage() {
+    if (cacheStorage == null) {
+      cacheStorage = new CacheStorageImpl(this);
+    }
+    return cacheStorage;
+  }
+
+  private Cast cast;
+
+  @Override
+  public Cast getCast() {
+    if (cast == null) {
+      cast = new CastImpl(this);
+    }
+    return cast;
+  }
+
+  private DOM dom;
+
+  @Override
+  public DOM getDOM() {
+    if (dom == null) {
+      dom = new DOMImpl(this);
+    }
+    return dom;
+  }
+
+  private DOMDebugger domDebugger;
+
+  @Override
+  public DOMDebugger getDOMDebugger() {
+    if (domDebugger == null) {
+      domDebugger = new DOMDebuggerImpl(this);
+    }
+    return domDebugger;
+  }
+
+  private DOMSnapshot domSnapshot;
+
+  @Override
+  public DOMSnapshot getDOMSnapshot() {
+    if (domSnapshot == null) {
+      domSnapshot = new DOMSnapshotImpl(this);
+    }
+    return domSnapshot;
+  }
+
+  private DOMStorage domStorage;
+
+  @Override
+  public DOMStorage getDOMStorage() {
+    if (domStorage == null) {
+      domStorage = new DOMStorageImpl(this);
+    }
+    return domStorage;
+  }
+
+  private Database database;
+
+  @Override
+  public Database getDatabase() {
+    if (database == null) {
+      database = new DatabaseImpl(this);
+    }
+    return database;
+  }
+
+  private DeviceOrientation deviceOrientation;
+
+  @Override
+  public DeviceOrientation getDeviceOrientation() {
+    if (deviceOrientation == null) {
+      deviceOrientation = new DeviceOrientationImpl(this);
+    }
+    return deviceOrientation;
+  }
+
+  private Emulation emulation;
+
+  @Override
+  public Emulation getEmulation() {
+    if (emulation == null) {
+      emulation = new EmulationImpl(this);
+    }
+    return emulation;
+  }
+
+  private HeadlessExperimental headlessExperimental;
+
+  @Override
+  public HeadlessExperimental getHeadlessExperimental() {
+    if (headlessExperimental == null) {
+      headlessExperimental = new HeadlessExperimentalImpl(this);
+    }
+    return headlessExperimental;
+  }
+
+  private IO io;
+
+  @Override
+  public IO getIO() {
+    if (io == null) {
+      io = new IOImpl(this);
+    }
+    return io;
+  }
+
+  private IndexedDB indexedDB;
+
+  @Override
+  public IndexedDB getIndexedDB() {
+    if (indexedDB == null) {
+      indexedDB = new IndexedDBImpl(this);
+    }
+    return indexedDB;
+  }
+
+  private Input input;
+
+  @Override
+  public Input getInput() {
+    if (input == null) {
+      input = new InputImpl(this);
+    }
+    return input;
+  }
+
+  private Inspector inspector;
+
+  @Override
+  public Inspector getInspector() {
+    if (inspector == null) {
+      inspector = new InspectorImpl(this);
+    }
+    return inspector;
+  }
+
+  private LayerTree layerTree;
+
+  @Override
+  public LayerTree getLayerTree() {
+    if (layerTree == null) {
+      layerTree = new LayerTreeImpl(this);
+    }
+    return layerTree;
+  }
+
+  private Log log;
+
+  @Override
+  public Log getLog() {
+    if (log == null) {
+      log = new LogImpl(this);
+    }
+    return log;
+  }
+
+  private Memory memory;
+
+  @Override
+  public Memory getMemory() {
+    if (memory == null) {
+      memory = new MemoryImpl(this);
+    }
+    return memory;
+  }
+
+  private Network network;
+
+  @Override
+  public Network getNetwork() {
+    if (network == null) {
+      network = new NetworkImpl(this);
+    }
+    return network;
+  }
+
+  private Overlay overlay;
+
+  @Override
+  public Overlay getOverlay() {
+    if (overlay == null) {
+      overlay = new OverlayImpl(this);
+    }
+    return overlay;
+  }
+
+  private Page page;
+
+  @Override
+  public Page getPage() {
+    if (page == null) {
+      page = new PageImpl(this);
+    }
+    return page;
+  }
+
+  private Performance performance;
+
+  @Override
+  public Performance getPerformance() {
+    if (performance == null) {
+      performance = new PerformanceImpl(this);
+    }
+    return performance;
+  }
+
+  private Security security;
+
+  @Override
+  public Security getSecurity() {
+    if (security == null) {
+      security = new SecurityImpl(this);
+    }
+    return security;
+  }
+
+  private ServiceWorker serviceWorker;
+
+  @Override
+  public ServiceWorker getServiceWorker() {
+    if (serviceWorker == null) {
+      serviceWorker = new ServiceWorkerImpl(this);
+    }
+    return serviceWorker;
+  }
+
+  private Storage storage;
+
+  @Override
+  public Storage getStorage() {
+    if (storage == null) {
+      storage = new StorageImpl(this);
+    }
+    return storage;
+  }
+
+  private SystemInfo systemInfo;
+
+  @Override
+  public SystemInfo getSystemInfo() {
+    if (systemInfo == null) {
+      systemInfo = new SystemInfoImpl(this);
+    }
+    return systemInfo;
+  }
+
+  private Target target;
+
+  @Override
+  public Target getTarget() {
+    if (target == null) {
+      target = new TargetImpl(this);
+    }
+    return target;
+  }
+
+  private Tethering tethering;
+
+  @Override
+  public Tethering getTethering() {
+    if (tethering == null) {
+      tethering = new TetheringImpl(this);
+    }
+    return tethering;
+  }
+
+  private Tracing tracing;
+
+  @Override
+  public Tracing getTracing() {
+    if (tracing == null) {
+      tracing = new TracingImpl(this);
+    }
+    return tracing;
+  }
+
+  private Fetch fetch;
+
+  @Override
+  public Fetch getFetch() {
+    if (fetch == null) {
+      fetch = new FetchImpl(this);
+    }
+    return fetch;
+  }
+
+  private WebAudio webAudio;
+
+  @Override
+  public WebAudio getWebAudio() {
+    if (webAudio == null) {
+      webAudio = new WebAudioImpl(this);
+    }
+    return webAudio;
+  }
+
+  private WebAuthn webAuthn;
+
+  @Override
+  public WebAuthn getWebAuthn() {
+    if (webAuthn == null) {
+      webAuthn = new WebAuthnImpl(this);
+    }
+    return webAuthn;
+  }
+
+  private Media media;
+
+  @Override
+  public Media getMedia() {
+    if (media == null) {
+      media = new MediaImpl(this);
+    }
+    return media;
+  }
+}
@@ -0,0 +1,670 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.accessibility.AXNode;
+import com.github.kklisura.cdt.protocol.types.accessibility.AXProperty;
+import com.github.kklisura.cdt.protocol.types.accessibility.AXPropertyName;
+import com.github.kklisura.cdt.protocol.types.accessibility.AXRelatedNode;
+import com.github.kklisura.cdt.protocol.types.accessibility.AXValue;
+import com.github.kklisura.cdt.protocol.types.accessibility.AXValueNativeSourceType;
+import com.github.kklisura.cdt.protocol.types.accessibility.AXValueSource;
+import com.github.kklisura.cdt.protocol.types.accessibility.AXValueSourceType;
+import com.github.kklisura.cdt.protocol.types.accessibility.AXValueType;
+import java.io.IOException;
+
+/** Accessibility domain type and event codecs. */
+public final class AccessibilityCodecs {
+
+  private static final String[] AX_PROPERTY_NAME_VALUES = {
+    "busy",
+    "disabled",
+    "editable",
+    "focusable",
+    "focused",
+    "hidden",
+    "hiddenRoot",
+    "invalid",
+    "keyshortcuts",
+    "settable",
+    "roledescription",
+    "live",
+    "atomic",
+    "relevant",
+    "root",
+    "autocomplete",
+    "hasPopup",
+    "level",
+    "multiselectable",
+    "orientation",
+    "multiline",
+    "readonly",
+    "required",
+    "valuemin",
+    "valuemax",
+    "valuetext",
+    "checked",
+    "expanded",
+    "modal",
+    "pressed",
+    "selected",
+    "activedescendant",
+    "controls",
+    "describedby",
+    "details",
+    "errormessage",
+    "flowto",
+    "labelledby",
+    "owns"
+  };
+
+  private static final String[] AX_VALUE_NATIVE_SOURCE_TYPE_VALUES = {
+    "figcaption", "label", "labelfor", "labelwrapped", "legend", "tablecaption", "title", "other"
+  };
+
+  private static final String[] AX_VALUE_SOURCE_TYPE_VALUES = {
+    "attribute", "implicit", "style", "contents", "placeholder", "relatedElement"
+  };
+
+  private static final String[] AX_VALUE_TYPE_VALUES = {
+    "boolean",
+    "tristate",
+    "booleanOrUndefined",
+    "idref",
+    "idrefList",
+    "integer",
+    "node",
+    "nodeList",
+    "number",
+    "string",
+    "computedString",
+    "token",
+    "tokenList",
+    "domRelation",
+    "role",
+    "internalRole",
+    "valueUndefined"
+  };
+
+  private AccessibilityCodecs() {}
+
+  /**
+   * Registers Accessibility codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        AXNode.class, AccessibilityCodecs::readAXNode, AccessibilityCodecs::writeAXNode);
+    module.addCodec(
+        AXProperty.class,
+        AccessibilityCodecs::readAXProperty,
+        AccessibilityCodecs::writeAXProperty);
+    module.addCodec(
+        AXPropertyName.class,
+        AccessibilityCodecs::readAXPropertyName,
+        AccessibilityCodecs::writeAXPropertyName);
+    module.addCodec(
+        AXRelatedNode.class,
+        AccessibilityCodecs::readAXRelatedNode,
+        AccessibilityCodecs::writeAXRelatedNode);
+    module.addCodec(
+        AXValue.class, AccessibilityCodecs::readAXValue, AccessibilityCodecs::writeAXValue);
+    module.addCodec(
+        AXValueNativeSourceType.class,
+        AccessibilityCodecs::readAXValueNativeSourceType,
+        AccessibilityCodecs::writeAXValueNativeSourceType);
+    module.addCodec(
+        AXValueSource.class,
+        AccessibilityCodecs::readAXValueSource,
+        AccessibilityCodecs::writeAXValueSource);
+    module.addCodec(
+        AXValueSourceType.class,
+        AccessibilityCodecs::readAXValueSourceType,
+        AccessibilityCodecs::writeAXValueSourceType);
+    module.addCodec(
+        AXValueType.class,
+        AccessibilityCodecs::readAXValueType,
+        AccessibilityCodecs::writeAXValueType);
+  }
+
+  public static AXNode readAXNode(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AXNode result = new AXNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readString(parser));
+          break;
+        case "ignored":
+          result.setIgnored(JsonCodecs.readBoolean(parser));
+          break;
+        case "ignoredReasons":
+          result.setIgnoredReasons(
+              JsonCodecs.readList(parser, AccessibilityCodecs::readAXProperty));
+          break;
+        case "role":
+          result.setRole(readAXValue(parser));
+          break;
+        case "name":
+          result.setName(readAXValue(parser));
+          break;
+        case "description":
+          result.setDescription(readAXValue(parser));
+          break;
+        case "value":
+          result.setValue(readAXValue(parser));
+          break;
+        case "properties":
+          result.setProperties(JsonCodecs.readList(parser, AccessibilityCodecs::readAXProperty));
+          break;
+        case "childIds":
+          result.setChildIds(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "backendDOMNodeId":
+          result.setBackendDOMNodeId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAXNode(JsonGenerator generator, AXNode value) throws IOException {
+    generator.writeStartObject();
+    if (value.getNodeId() != null) {
+      generator.writeFieldName("nodeId");
+      JsonCodecs.writeString(generator, value.getNodeId());
+    }
+    if (value.getIgnored() != null) {
+      generator.writeFieldName("ignored");
+      JsonCodecs.writeBoolean(generator, value.getIgnored());
+    }
+    if (value.getIgnoredReasons() != null) {
+      generator.writeFieldName("ignoredReasons");
+      JsonCodecs.writeList(
+          generator, value.getIgnoredReasons(), AccessibilityCodecs::writeAXProperty);
+    }
+    if (value.getRole() != null) {
+      generator.writeFieldName("role");
+      writeAXValue(generator, value.getRole());
+    }
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      writeAXValue(generator, value.getName());
+    }
+    if (value.getDescription() != null) {
+      generator.writeFieldName("description");
+      writeAXValue(generator, value.getDescription());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      writeAXValue(generator, value.getValue());
+    }
+    if (value.getProperties() != null) {
+      generator.writeFieldName("properties");
+      JsonCodecs.writeList(generator, value.getProperties(), AccessibilityCodecs::writeAXProperty);
+    }
+    if (value.getChildIds() != null) {
+      generator.writeFieldName("childIds");
+      JsonCodecs.writeList(generator, value.getChildIds(), JsonCodecs::writeString);
+    }
+    if (value.getBackendDOMNodeId() != null) {
+      generator.writeFieldName("backendDOMNodeId");
+      JsonCodecs.writeInteger(generator, value.getBackendDOMNodeId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AXProperty readAXProperty(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AXProperty result = new AXProperty();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(readAXPropertyName(parser));
+          break;
+        case "value":
+          result.setValue(readAXValue(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAXProperty(JsonGenerator generator, AXProperty value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      writeAXPropertyName(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      writeAXValue(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AXPropertyName readAXPropertyName(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "busy":
+        return AXPropertyName.BUSY;
+      case "disabled":
+        return AXPropertyName.DISABLED;
+      case "editable":
+        return AXPropertyName.EDITABLE;
+      case "focusable":
+        return AXPropertyName.FOCUSABLE;
+      case "focused":
+        return AXPropertyName.FOCUSED;
+      case "hidden":
+        return AXPropertyName.HIDDEN;
+      case "hiddenRoot":
+        return AXPropertyName.HIDDEN_ROOT;
+      case "invalid":
+        return AXPropertyName.INVALID;
+      case "keyshortcuts":
+        return AXPropertyName.KEYSHORTCUTS;
+      case "settable":
+        return AXPropertyName.SETTABLE;
+      case "roledescription":
+        return AXPropertyName.ROLEDESCRIPTION;
+      case "live":
+        return AXPropertyName.LIVE;
+      case "atomic":
+        return AXPropertyName.ATOMIC;
+      case "relevant":
+        return AXPropertyName.RELEVANT;
+      case "root":
+        return AXPropertyName.ROOT;
+      case "autocomplete":
+        return AXPropertyName.AUTOCOMPLETE;
+      case "hasPopup":
+        return AXPropertyName.HAS_POPUP;
+      case "level":
+        return AXPropertyName.LEVEL;
+      case "multiselectable":
+        return AXPropertyName.MULTISELECTABLE;
+      case "orientation":
+        return AXPropertyName.ORIENTATION;
+      case "multiline":
+        return AXPropertyName.MULTILINE;
+      case "readonly":
+        return AXPropertyName.READONLY;
+      case "required":
+        return AXPropertyName.REQUIRED;
+      case "valuemin":
+        return AXPropertyName.VALUEMIN;
+      case "valuemax":
+        return AXPropertyName.VALUEMAX;
+      case "valuetext":
+        return AXPropertyName.VALUETEXT;
+      case "checked":
+        return AXPropertyName.CHECKED;
+      case "expanded":
+        return AXPropertyName.EXPANDED;
+      case "modal":
+        return AXPropertyName.MODAL;
+      case "pressed":
+        return AXPropertyName.PRESSED;
+      case "selected":
+        return AXPropertyName.SELECTED;
+      case "activedescendant":
+        return AXPropertyName.ACTIVEDESCENDANT;
+      case "controls":
+        return AXPropertyName.CONTROLS;
+      case "describedby":
+        return AXPropertyName.DESCRIBEDBY;
+      case "details":
+        return AXPropertyName.DETAILS;
+      case "errormessage":
+        return AXPropertyName.ERRORMESSAGE;
+      case "flowto":
+        return AXPropertyName.FLOWTO;
+      case "labelledby":
+        return AXPropertyName.LABELLEDBY;
+      case "owns":
+        return AXPropertyName.OWNS;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AXPropertyName.class, value);
+    }
+  }
+
+  public static void writeAXPropertyName(JsonGenerator generator, AXPropertyName value)
+      throws IOException {
+    generator.writeString(AX_PROPERTY_NAME_VALUES[value.ordinal()]);
+  }
+
+  public static AXRelatedNode readAXRelatedNode(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AXRelatedNode result = new AXRelatedNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "backendDOMNodeId":
+          result.setBackendDOMNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "idref":
+          result.setIdref(JsonCodecs.readString(parser));
+          break;
+        case "text":
+          result.setText(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAXRelatedNode(JsonGenerator generator, AXRelatedNode value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBackendDOMNodeId() != null) {
+      generator.writeFieldName("backendDOMNodeId");
+      JsonCodecs.writeInteger(generator, value.getBackendDOMNodeId());
+    }
+    if (value.getIdref() != null) {
+      generator.writeFieldName("idref");
+      JsonCodecs.writeString(generator, value.getIdref());
+    }
+    if (value.getText() != null) {
+      generator.writeFieldName("text");
+      JsonCodecs.writeString(generator, value.getText());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AXValue readAXValue(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AXValue result = new AXValue();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readAXValueType(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readObject(parser));
+          break;
+        case "relatedNodes":
+          result.setRelatedNodes(
+              JsonCodecs.readList(parser, AccessibilityCodecs::readAXRelatedNode));
+          break;
+        case "sources":
+          result.setSources(JsonCodecs.readList(parser, AccessibilityCodecs::readAXValueSource));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAXValue(JsonGenerator generator, AXValue value) throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeAXValueType(generator, value.getType());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeObject(generator, value.getValue());
+    }
+    if (value.getRelatedNodes() != null) {
+      generator.writeFieldName("relatedNodes");
+      JsonCodecs.writeList(
+          generator, value.getRelatedNodes(), AccessibilityCodecs::writeAXRelatedNode);
+    }
+    if (value.getSources() != null) {
+      generator.writeFieldName("sources");
+      JsonCodecs.writeList(generator, value.getSources(), AccessibilityCodecs::writeAXValueSource);
+    }
+    generator.writeEndObject();
+  }
+
+  public static AXValueNativeSourceType readAXValueNativeSourceType(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "figcaption":
+        return AXValueNativeSourceType.FIGCAPTION;
+      case "label":
+        return AXValueNativeSourceType.LABEL;
+      case "labelfor":
+        return AXValueNativeSourceType.LABELFOR;
+      case "labelwrapped":
+        return AXValueNativeSourceType.LABELWRAPPED;
+      case "legend":
+        return AXValueNativeSourceType.LEGEND;
+      case "tablecaption":
+        return AXValueNativeSourceType.TABLECAPTION;
+      case "title":
+        return AXValueNativeSourceType.TITLE;
+      case "other":
+        return AXValueNativeSourceType.OTHER;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AXValueNativeSourceType.class, value);
+    }
+  }
+
+  public static void writeAXValueNativeSourceType(
+      JsonGenerator generator, AXValueNativeSourceType value) throws IOException {
+    generator.writeString(AX_VALUE_NATIVE_SOURCE_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static AXValueSource readAXValueSource(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AXValueSource result = new AXValueSource();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readAXValueSourceType(parser));
+          break;
+        case "value":
+          result.setValue(readAXValue(parser));
+          break;
+        case "attribute":
+          result.setAttribute(JsonCodecs.readString(parser));
+          break;
+        case "attributeValue":
+          result.setAttributeValue(readAXValue(parser));
+          break;
+        case "superseded":
+          result.setSuperseded(JsonCodecs.readBoolean(parser));
+          break;
+        case "nativeSource":
+          result.setNativeSource(readAXValueNativeSourceType(parser));
+          break;
+        case "nativeSourceValue":
+          result.setNativeSourceValue(readAXValue(parser));
+          break;
+        case "invalid":
+          result.setInvalid(JsonCodecs.readBoolean(parser));
+          break;
+        case "invalidReason":
+          result.setInvalidReason(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAXValueSource(JsonGenerator generator, AXValueSource value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeAXValueSourceType(generator, value.getType());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      writeAXValue(generator, value.getValue());
+    }
+    if (value.getAttribute() != null) {
+      generator.writeFieldName("attribute");
+      JsonCodecs.writeString(generator, value.getAttribute());
+    }
+    if (value.getAttributeValue() != null) {
+      generator.writeFieldName("attributeValue");
+      writeAXValue(generator, value.getAttributeValue());
+    }
+    if (value.getSuperseded() != null) {
+      generator.writeFieldName("superseded");
+      JsonCodecs.writeBoolean(generator, value.getSuperseded());
+    }
+    if (value.getNativeSource() != null) {
+      generator.writeFieldName("nativeSource");
+      writeAXValueNativeSourceType(generator, value.getNativeSource());
+    }
+    if (value.getNativeSourceValue() != null) {
+      generator.writeFieldName("nativeSourceValue");
+      writeAXValue(generator, value.getNativeSourceValue());
+    }
+    if (value.getInvalid() != null) {
+      generator.writeFieldName("invalid");
+      JsonCodecs.writeBoolean(generator, value.getInvalid());
+    }
+    if (value.getInvalidReason() != null) {
+      generator.writeFieldName("invalidReason");
+      JsonCodecs.writeString(generator, value.getInvalidReason());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AXValueSourceType readAXValueSourceType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "attribute":
+        return AXValueSourceType.ATTRIBUTE;
+      case "implicit":
+        return AXValueSourceType.IMPLICIT;
+      case "style":
+        return AXValueSourceType.STYLE;
+      case "contents":
+        return AXValueSourceType.CONTENTS;
+      case "placeholder":
+        return AXValueSourceType.PLACEHOLDER;
+      case "relatedElement":
+        return AXValueSourceType.RELATED_ELEMENT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AXValueSourceType.class, value);
+    }
+  }
+
+  public static void writeAXValueSourceType(JsonGenerator generator, AXValueSourceType value)
+      throws IOException {
+    generator.writeString(AX_VALUE_SOURCE_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static AXValueType readAXValueType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "boolean":
+        return AXValueType.BOOLEAN;
+      case "tristate":
+        return AXValueType.TRISTATE;
+      case "booleanOrUndefined":
+        return AXValueType.BOOLEAN_OR_UNDEFINED;
+      case "idref":
+        return AXValueType.IDREF;
+      case "idrefList":
+        return AXValueType.IDREF_LIST;
+      case "integer":
+        return AXValueType.INTEGER;
+      case "node":
+        return AXValueType.NODE;
+      case "nodeList":
+        return AXValueType.NODE_LIST;
+      case "number":
+        return AXValueType.NUMBER;
+      case "string":
+        return AXValueType.STRING;
+      case "computedString":
+        return AXValueType.COMPUTED_STRING;
+      case "token":
+        return AXValueType.TOKEN;
+      case "tokenList":
+        return AXValueType.TOKEN_LIST;
+      case "domRelation":
+        return AXValueType.DOM_RELATION;
+      case "role":
+        return AXValueType.ROLE;
+      case "internalRole":
+        return AXValueType.INTERNAL_ROLE;
+      case "valueUndefined":
+        return AXValueType.VALUE_UNDEFINED;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AXValueType.class, value);
+    }
+  }
+
+  public static void writeAXValueType(JsonGenerator generator, AXValueType value)
+      throws IOException {
+    generator.writeString(AX_VALUE_TYPE_VALUES[value.ordinal()]);
+  }
+}
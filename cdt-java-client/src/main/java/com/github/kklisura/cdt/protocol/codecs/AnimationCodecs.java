@@ -0,0 +1,416 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.animation.AnimationCanceled;
+import com.github.kklisura.cdt.protocol.events.animation.AnimationCreated;
+import com.github.kklisura.cdt.protocol.events.animation.AnimationStarted;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.animation.Animation;
+import com.github.kklisura.cdt.protocol.types.animation.AnimationEffect;
+import com.github.kklisura.cdt.protocol.types.animation.AnimationType;
+import com.github.kklisura.cdt.protocol.types.animation.KeyframeStyle;
+import com.github.kklisura.cdt.protocol.types.animation.KeyframesRule;
+import java.io.IOException;
+
+/** Animation domain type and event codecs. */
+public final class AnimationCodecs {
+
+  private static final String[] ANIMATION_TYPE_VALUES = {
+    "CSSTransition", "CSSAnimation", "WebAnimation"
+  };
+
+  private AnimationCodecs() {}
+
+  /**
+   * Registers Animation codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        Animation.class, AnimationCodecs::readAnimation, AnimationCodecs::writeAnimation);
+    module.addCodec(
+        AnimationEffect.class,
+        AnimationCodecs::readAnimationEffect,
+        AnimationCodecs::writeAnimationEffect);
+    module.addCodec(
+        AnimationType.class,
+        AnimationCodecs::readAnimationType,
+        AnimationCodecs::writeAnimationType);
+    module.addCodec(
+        KeyframeStyle.class,
+        AnimationCodecs::readKeyframeStyle,
+        AnimationCodecs::writeKeyframeStyle);
+    module.addCodec(
+        KeyframesRule.class,
+        AnimationCodecs::readKeyframesRule,
+        AnimationCodecs::writeKeyframesRule);
+    module.addReader(AnimationCanceled.class, AnimationCodecs::readAnimationCanceled);
+    module.addReader(AnimationCreated.class, AnimationCodecs::readAnimationCreated);
+    module.addReader(AnimationStarted.class, AnimationCodecs::readAnimationStarted);
+  }
+
+  public static Animation readAnimation(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Animation result = new Animation();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readString(parser));
+          break;
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "pausedState":
+          result.setPausedState(JsonCodecs.readBoolean(parser));
+          break;
+        case "playState":
+          result.setPlayState(JsonCodecs.readString(parser));
+          break;
+        case "playbackRate":
+          result.setPlaybackRate(JsonCodecs.readDouble(parser));
+          break;
+        case "startTime":
+          result.setStartTime(JsonCodecs.readDouble(parser));
+          break;
+        case "currentTime":
+          result.setCurrentTime(JsonCodecs.readDouble(parser));
+          break;
+        case "type":
+          result.setType(readAnimationType(parser));
+          break;
+        case "source":
+          result.setSource(readAnimationEffect(parser));
+          break;
+        case "cssId":
+          result.setCssId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAnimation(JsonGenerator generator, Animation value) throws IOException {
+    generator.writeStartObject();
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeString(generator, value.getId());
+    }
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getPausedState() != null) {
+      generator.writeFieldName("pausedState");
+      JsonCodecs.writeBoolean(generator, value.getPausedState());
+    }
+    if (value.getPlayState() != null) {
+      generator.writeFieldName("playState");
+      JsonCodecs.writeString(generator, value.getPlayState());
+    }
+    if (value.getPlaybackRate() != null) {
+      generator.writeFieldName("playbackRate");
+      JsonCodecs.writeDouble(generator, value.getPlaybackRate());
+    }
+    if (value.getStartTime() != null) {
+      generator.writeFieldName("startTime");
+      JsonCodecs.writeDouble(generator, value.getStartTime());
+    }
+    if (value.getCurrentTime() != null) {
+      generator.writeFieldName("currentTime");
+      JsonCodecs.writeDouble(generator, value.getCurrentTime());
+    }
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeAnimationType(generator, value.getType());
+    }
+    if (value.getSource() != null) {
+      generator.writeFieldName("source");
+      writeAnimationEffect(generator, value.getSource());
+    }
+    if (value.getCssId() != null) {
+      generator.writeFieldName("cssId");
+      JsonCodecs.writeString(generator, value.getCssId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AnimationEffect readAnimationEffect(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AnimationEffect result = new AnimationEffect();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "delay":
+          result.setDelay(JsonCodecs.readDouble(parser));
+          break;
+        case "endDelay":
+          result.setEndDelay(JsonCodecs.readDouble(parser));
+          break;
+        case "iterationStart":
+          result.setIterationStart(JsonCodecs.readDouble(parser));
+          break;
+        case "iterations":
+          result.setIterations(JsonCodecs.readDouble(parser));
+          break;
+        case "duration":
+          result.setDuration(JsonCodecs.readDouble(parser));
+          break;
+        case "direction":
+          result.setDirection(JsonCodecs.readString(parser));
+          break;
+        case "fill":
+          result.setFill(JsonCodecs.readString(parser));
+          break;
+        case "backendNodeId":
+          result.setBackendNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "keyframesRule":
+          result.setKeyframesRule(readKeyframesRule(parser));
+          break;
+        case "easing":
+          result.setEasing(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAnimationEffect(JsonGenerator generator, AnimationEffect value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getDelay() != null) {
+      generator.writeFieldName("delay");
+      JsonCodecs.writeDouble(generator, value.getDelay());
+    }
+    if (value.getEndDelay() != null) {
+      generator.writeFieldName("endDelay");
+      JsonCodecs.writeDouble(generator, value.getEndDelay());
+    }
+    if (value.getIterationStart() != null) {
+      generator.writeFieldName("iterationStart");
+      JsonCodecs.writeDouble(generator, value.getIterationStart());
+    }
+    if (value.getIterations() != null) {
+      generator.writeFieldName("iterations");
+      JsonCodecs.writeDouble(generator, value.getIterations());
+    }
+    if (value.getDuration() != null) {
+      generator.writeFieldName("duration");
+      JsonCodecs.writeDouble(generator, value.getDuration());
+    }
+    if (value.getDirection() != null) {
+      generator.writeFieldName("direction");
+      JsonCodecs.writeString(generator, value.getDirection());
+    }
+    if (value.getFill() != null) {
+      generator.writeFieldName("fill");
+      JsonCodecs.writeString(generator, value.getFill());
+    }
+    if (value.getBackendNodeId() != null) {
+      generator.writeFieldName("backendNodeId");
+      JsonCodecs.writeInteger(generator, value.getBackendNodeId());
+    }
+    if (value.getKeyframesRule() != null) {
+      generator.writeFieldName("keyframesRule");
+      writeKeyframesRule(generator, value.getKeyframesRule());
+    }
+    if (value.getEasing() != null) {
+      generator.writeFieldName("easing");
+      JsonCodecs.writeString(generator, value.getEasing());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AnimationType readAnimationType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "CSSTransition":
+        return AnimationType.CSS_TRANSITION;
+      case "CSSAnimation":
+        return AnimationType.CSS_ANIMATION;
+      case "WebAnimation":
+        return AnimationType.WEB_ANIMATION;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AnimationType.class, value);
+    }
+  }
+
+  public static void writeAnimationType(JsonGenerator generator, AnimationType value)
+      throws IOException {
+    generator.writeString(ANIMATION_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static KeyframeStyle readKeyframeStyle(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    KeyframeStyle result = new KeyframeStyle();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "offset":
+          result.setOffset(JsonCodecs.readString(parser));
+          break;
+        case "easing":
+          result.setEasing(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeKeyframeStyle(JsonGenerator generator, KeyframeStyle value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getOffset() != null) {
+      generator.writeFieldName("offset");
+      JsonCodecs.writeString(generator, value.getOffset());
+    }
+    if (value.getEasing() != null) {
+      generator.writeFieldName("easing");
+      JsonCodecs.writeString(generator, value.getEasing());
+    }
+    generator.writeEndObject();
+  }
+
+  public static KeyframesRule readKeyframesRule(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    KeyframesRule result = new KeyframesRule();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "keyframes":
+          result.setKeyframes(JsonCodecs.readList(parser, AnimationCodecs::readKeyframeStyle));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeKeyframesRule(JsonGenerator generator, KeyframesRule value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getKeyframes() != null) {
+      generator.writeFieldName("keyframes");
+      JsonCodecs.writeList(generator, value.getKeyframes(), AnimationCodecs::writeKeyframeStyle);
+    }
+    generator.writeEndObject();
+  }
+
+  public static AnimationCanceled readAnimationCanceled(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AnimationCanceled result = new AnimationCanceled();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static AnimationCreated readAnimationCreated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AnimationCreated result = new AnimationCreated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static AnimationStarted readAnimationStarted(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AnimationStarted result = new AnimationStarted();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "animation":
+          result.setAnimation(readAnimation(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
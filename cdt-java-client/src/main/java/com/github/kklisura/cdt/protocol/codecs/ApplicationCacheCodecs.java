@@ -0,0 +1,259 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.applicationcache.ApplicationCacheStatusUpdated;
+import com.github.kklisura.cdt.protocol.events.applicationcache.NetworkStateUpdated;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.applicationcache.ApplicationCache;
+import com.github.kklisura.cdt.protocol.types.applicationcache.ApplicationCacheResource;
+import com.github.kklisura.cdt.protocol.types.applicationcache.FrameWithManifest;
+import java.io.IOException;
+
+/** ApplicationCache domain type and event codecs. */
+public final class ApplicationCacheCodecs {
+
+  private ApplicationCacheCodecs() {}
+
+  /**
+   * Registers ApplicationCache codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        ApplicationCache.class,
+        ApplicationCacheCodecs::readApplicationCache,
+        ApplicationCacheCodecs::writeApplicationCache);
+    module.addCodec(
+        ApplicationCacheResource.class,
+        ApplicationCacheCodecs::readApplicationCacheResource,
+        ApplicationCacheCodecs::writeApplicationCacheResource);
+    module.addCodec(
+        FrameWithManifest.class,
+        ApplicationCacheCodecs::readFrameWithManifest,
+        ApplicationCacheCodecs::writeFrameWithManifest);
+    module.addReader(
+        ApplicationCacheStatusUpdated.class,
+        ApplicationCacheCodecs::readApplicationCacheStatusUpdated);
+    module.addReader(NetworkStateUpdated.class, ApplicationCacheCodecs::readNetworkStateUpdated);
+  }
+
+  public static ApplicationCache readApplicationCache(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ApplicationCache result = new ApplicationCache();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "manifestURL":
+          result.setManifestURL(JsonCodecs.readString(parser));
+          break;
+        case "size":
+          result.setSize(JsonCodecs.readDouble(parser));
+          break;
+        case "creationTime":
+          result.setCreationTime(JsonCodecs.readDouble(parser));
+          break;
+        case "updateTime":
+          result.setUpdateTime(JsonCodecs.readDouble(parser));
+          break;
+        case "resources":
+          result.setResources(
+              JsonCodecs.readList(parser, ApplicationCacheCodecs::readApplicationCacheResource));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeApplicationCache(JsonGenerator generator, ApplicationCache value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getManifestURL() != null) {
+      generator.writeFieldName("manifestURL");
+      JsonCodecs.writeString(generator, value.getManifestURL());
+    }
+    if (value.getSize() != null) {
+      generator.writeFieldName("size");
+      JsonCodecs.writeDouble(generator, value.getSize());
+    }
+    if (value.getCreationTime() != null) {
+      generator.writeFieldName("creationTime");
+      JsonCodecs.writeDouble(generator, value.getCreationTime());
+    }
+    if (value.getUpdateTime() != null) {
+      generator.writeFieldName("updateTime");
+      JsonCodecs.writeDouble(generator, value.getUpdateTime());
+    }
+    if (value.getResources() != null) {
+      generator.writeFieldName("resources");
+      JsonCodecs.writeList(
+          generator, value.getResources(), ApplicationCacheCodecs::writeApplicationCacheResource);
+    }
+    generator.writeEndObject();
+  }
+
+  public static ApplicationCacheResource readApplicationCacheResource(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ApplicationCacheResource result = new ApplicationCacheResource();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "size":
+          result.setSize(JsonCodecs.readInteger(parser));
+          break;
+        case "type":
+          result.setType(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeApplicationCacheResource(
+      JsonGenerator generator, ApplicationCacheResource value) throws IOException {
+    generator.writeStartObject();
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getSize() != null) {
+      generator.writeFieldName("size");
+      JsonCodecs.writeInteger(generator, value.getSize());
+    }
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      JsonCodecs.writeString(generator, value.getType());
+    }
+    generator.writeEndObject();
+  }
+
+  public static FrameWithManifest readFrameWithManifest(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameWithManifest result = new FrameWithManifest();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "manifestURL":
+          result.setManifestURL(JsonCodecs.readString(parser));
+          break;
+        case "status":
+          result.setStatus(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeFrameWithManifest(JsonGenerator generator, FrameWithManifest value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getFrameId() != null) {
+      generator.writeFieldName("frameId");
+      JsonCodecs.writeString(generator, value.getFrameId());
+    }
+    if (value.getManifestURL() != null) {
+      generator.writeFieldName("manifestURL");
+      JsonCodecs.writeString(generator, value.getManifestURL());
+    }
+    if (value.getStatus() != null) {
+      generator.writeFieldName("status");
+      JsonCodecs.writeInteger(generator, value.getStatus());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ApplicationCacheStatusUpdated readApplicationCacheStatusUpdated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ApplicationCacheStatusUpdated result = new ApplicationCacheStatusUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "manifestURL":
+          result.setManifestURL(JsonCodecs.readString(parser));
+          break;
+        case "status":
+          result.setStatus(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static NetworkStateUpdated readNetworkStateUpdated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NetworkStateUpdated result = new NetworkStateUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "isNowOnline":
+          result.setIsNowOnline(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
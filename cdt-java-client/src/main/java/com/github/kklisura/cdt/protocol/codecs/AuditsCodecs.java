@@ -0,0 +1,121 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.audits.EncodedResponse;
+import com.github.kklisura.cdt.protocol.types.audits.GetEncodedResponseEncoding;
+import java.io.IOException;
+
+/** Audits domain type and event codecs. */
+public final class AuditsCodecs {
+
+  private static final String[] GET_ENCODED_RESPONSE_ENCODING_VALUES = {"webp", "jpeg", "png"};
+
+  private AuditsCodecs() {}
+
+  /**
+   * Registers Audits codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        EncodedResponse.class,
+        AuditsCodecs::readEncodedResponse,
+        AuditsCodecs::writeEncodedResponse);
+    module.addCodec(
+        GetEncodedResponseEncoding.class,
+        AuditsCodecs::readGetEncodedResponseEncoding,
+        AuditsCodecs::writeGetEncodedResponseEncoding);
+  }
+
+  public static EncodedResponse readEncodedResponse(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    EncodedResponse result = new EncodedResponse();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "body":
+          result.setBody(JsonCodecs.readString(parser));
+          break;
+        case "originalSize":
+          result.setOriginalSize(JsonCodecs.readInteger(parser));
+          break;
+        case "encodedSize":
+          result.setEncodedSize(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeEncodedResponse(JsonGenerator generator, EncodedResponse value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBody() != null) {
+      generator.writeFieldName("body");
+      JsonCodecs.writeString(generator, value.getBody());
+    }
+    if (value.getOriginalSize() != null) {
+      generator.writeFieldName("originalSize");
+      JsonCodecs.writeInteger(generator, value.getOriginalSize());
+    }
+    if (value.getEncodedSize() != null) {
+      generator.writeFieldName("encodedSize");
+      JsonCodecs.writeInteger(generator, value.getEncodedSize());
+    }
+    generator.writeEndObject();
+  }
+
+  public static GetEncodedResponseEncoding readGetEncodedResponseEncoding(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "webp":
+        return GetEncodedResponseEncoding.WEBP;
+      case "jpeg":
+        return GetEncodedResponseEncoding.JPEG;
+      case "png":
+        return GetEncodedResponseEncoding.PNG;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, GetEncodedResponseEncoding.class, value);
+    }
+  }
+
+  public static void writeGetEncodedResponseEncoding(
+      JsonGenerator generator, GetEncodedResponseEncoding value) throws IOException {
+    generator.writeString(GET_ENCODED_RESPONSE_ENCODING_VALUES[value.ordinal()]);
+  }
+}
@@ -0,0 +1,258 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.backgroundservice.BackgroundServiceEventReceived;
+import com.github.kklisura.cdt.protocol.events.backgroundservice.RecordingStateChanged;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.backgroundservice.BackgroundServiceEvent;
+import com.github.kklisura.cdt.protocol.types.backgroundservice.EventMetadata;
+import com.github.kklisura.cdt.protocol.types.backgroundservice.ServiceName;
+import java.io.IOException;
+
+/** BackgroundService domain type and event codecs. */
+public final class BackgroundServiceCodecs {
+
+  private static final String[] SERVICE_NAME_VALUES = {
+    "backgroundFetch",
+    "backgroundSync",
+    "pushMessaging",
+    "notifications",
+    "paymentHandler",
+    "periodicBackgroundSync"
+  };
+
+  private BackgroundServiceCodecs() {}
+
+  /**
+   * Registers BackgroundService codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        BackgroundServiceEvent.class,
+        BackgroundServiceCodecs::readBackgroundServiceEvent,
+        BackgroundServiceCodecs::writeBackgroundServiceEvent);
+    module.addCodec(
+        EventMetadata.class,
+        BackgroundServiceCodecs::readEventMetadata,
+        BackgroundServiceCodecs::writeEventMetadata);
+    module.addCodec(
+        ServiceName.class,
+        BackgroundServiceCodecs::readServiceName,
+        BackgroundServiceCodecs::writeServiceName);
+    module.addReader(
+        BackgroundServiceEventReceived.class,
+        BackgroundServiceCodecs::readBackgroundServiceEventReceived);
+    module.addReader(
+        RecordingStateChanged.class, BackgroundServiceCodecs::readRecordingStateChanged);
+  }
+
+  public static BackgroundServiceEvent readBackgroundServiceEvent(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BackgroundServiceEvent result = new BackgroundServiceEvent();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "origin":
+          result.setOrigin(JsonCodecs.readString(parser));
+          break;
+        case "serviceWorkerRegistrationId":
+          result.setServiceWorkerRegistrationId(JsonCodecs.readString(parser));
+          break;
+        case "service":
+          result.setService(readServiceName(parser));
+          break;
+        case "eventName":
+          result.setEventName(JsonCodecs.readString(parser));
+          break;
+        case "instanceId":
+          result.setInstanceId(JsonCodecs.readString(parser));
+          break;
+        case "eventMetadata":
+          result.setEventMetadata(
+              JsonCodecs.readList(parser, BackgroundServiceCodecs::readEventMetadata));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBackgroundServiceEvent(
+      JsonGenerator generator, BackgroundServiceEvent value) throws IOException {
+    generator.writeStartObject();
+    if (value.getTimestamp() != null) {
+      generator.writeFieldName("timestamp");
+      JsonCodecs.writeDouble(generator, value.getTimestamp());
+    }
+    if (value.getOrigin() != null) {
+      generator.writeFieldName("origin");
+      JsonCodecs.writeString(generator, value.getOrigin());
+    }
+    if (value.getServiceWorkerRegistrationId() != null) {
+      generator.writeFieldName("serviceWorkerRegistrationId");
+      JsonCodecs.writeString(generator, value.getServiceWorkerRegistrationId());
+    }
+    if (value.getService() != null) {
+      generator.writeFieldName("service");
+      writeServiceName(generator, value.getService());
+    }
+    if (value.getEventName() != null) {
+      generator.writeFieldName("eventName");
+      JsonCodecs.writeString(generator, value.getEventName());
+    }
+    if (value.getInstanceId() != null) {
+      generator.writeFieldName("instanceId");
+      JsonCodecs.writeString(generator, value.getInstanceId());
+    }
+    if (value.getEventMetadata() != null) {
+      generator.writeFieldName("eventMetadata");
+      JsonCodecs.writeList(
+          generator, value.getEventMetadata(), BackgroundServiceCodecs::writeEventMetadata);
+    }
+    generator.writeEndObject();
+  }
+
+  public static EventMetadata readEventMetadata(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    EventMetadata result = new EventMetadata();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "key":
+          result.setKey(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeEventMetadata(JsonGenerator generator, EventMetadata value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getKey() != null) {
+      generator.writeFieldName("key");
+      JsonCodecs.writeString(generator, value.getKey());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ServiceName readServiceName(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "backgroundFetch":
+        return ServiceName.BACKGROUND_FETCH;
+      case "backgroundSync":
+        return ServiceName.BACKGROUND_SYNC;
+      case "pushMessaging":
+        return ServiceName.PUSH_MESSAGING;
+      case "notifications":
+        return ServiceName.NOTIFICATIONS;
+      case "paymentHandler":
+        return ServiceName.PAYMENT_HANDLER;
+      case "periodicBackgroundSync":
+        return ServiceName.PERIODIC_BACKGROUND_SYNC;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ServiceName.class, value);
+    }
+  }
+
+  public static void writeServiceName(JsonGenerator generator, ServiceName value)
+      throws IOException {
+    generator.writeString(SERVICE_NAME_VALUES[value.ordinal()]);
+  }
+
+  public static BackgroundServiceEventReceived readBackgroundServiceEventReceived(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BackgroundServiceEventReceived result = new BackgroundServiceEventReceived();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "backgroundServiceEvent":
+          result.setBackgroundServiceEvent(readBackgroundServiceEvent(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static RecordingStateChanged readRecordingStateChanged(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RecordingStateChanged result = new RecordingStateChanged();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "isRecording":
+          result.setIsRecording(JsonCodecs.readBoolean(parser));
+          break;
+        case "service":
+          result.setService(readServiceName(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
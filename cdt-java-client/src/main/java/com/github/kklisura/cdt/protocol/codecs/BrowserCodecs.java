@@ -0,0 +1,500 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.browser.Bounds;
+import com.github.kklisura.cdt.protocol.types.browser.Bucket;
+import com.github.kklisura.cdt.protocol.types.browser.Histogram;
+import com.github.kklisura.cdt.protocol.types.browser.PermissionDescriptor;
+import com.github.kklisura.cdt.protocol.types.browser.PermissionSetting;
+import com.github.kklisura.cdt.protocol.types.browser.PermissionType;
+import com.github.kklisura.cdt.protocol.types.browser.Version;
+import com.github.kklisura.cdt.protocol.types.browser.WindowForTarget;
+import com.github.kklisura.cdt.protocol.types.browser.WindowState;
+import java.io.IOException;
+
+/** Browser domain type and event codecs. */
+public final class BrowserCodecs {
+
+  private static final String[] PERMISSION_SETTING_VALUES = {"granted", "denied", "prompt"};
+
+  private static final String[] PERMISSION_TYPE_VALUES = {
+    "accessibilityEvents",
+    "audioCapture",
+    "backgroundSync",
+    "backgroundFetch",
+    "clipboardRead",
+    "clipboardWrite",
+    "durableStorage",
+    "flash",
+    "geolocation",
+    "midi",
+    "midiSysex",
+    "notifications",
+    "paymentHandler",
+    "periodicBackgroundSync",
+    "protectedMediaIdentifier",
+    "sensors",
+    "videoCapture",
+    "idleDetection",
+    "wakeLockScreen",
+    "wakeLockSystem"
+  };
+
+  private static final String[] WINDOW_STATE_VALUES = {
+    "normal", "minimized", "maximized", "fullscreen"
+  };
+
+  private BrowserCodecs() {}
+
+  /**
+   * Registers Browser codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(Bounds.class, BrowserCodecs::readBounds, BrowserCodecs::writeBounds);
+    module.addCodec(Bucket.class, BrowserCodecs::readBucket, BrowserCodecs::writeBucket);
+    module.addCodec(Histogram.class, BrowserCodecs::readHistogram, BrowserCodecs::writeHistogram);
+    module.addCodec(
+        PermissionDescriptor.class,
+        BrowserCodecs::readPermissionDescriptor,
+        BrowserCodecs::writePermissionDescriptor);
+    module.addCodec(
+        PermissionSetting.class,
+        BrowserCodecs::readPermissionSetting,
+        BrowserCodecs::writePermissionSetting);
+    module.addCodec(
+        PermissionType.class,
+        BrowserCodecs::readPermissionType,
+        BrowserCodecs::writePermissionType);
+    module.addCodec(Version.class, BrowserCodecs::readVersion, BrowserCodecs::writeVersion);
+    module.addCodec(
+        WindowForTarget.class,
+        BrowserCodecs::readWindowForTarget,
+        BrowserCodecs::writeWindowForTarget);
+    module.addCodec(
+        WindowState.class, BrowserCodecs::readWindowState, BrowserCodecs::writeWindowState);
+  }
+
+  public static Bounds readBounds(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Bounds result = new Bounds();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "left":
+          result.setLeft(JsonCodecs.readInteger(parser));
+          break;
+        case "top":
+          result.setTop(JsonCodecs.readInteger(parser));
+          break;
+        case "width":
+          result.setWidth(JsonCodecs.readInteger(parser));
+          break;
+        case "height":
+          result.setHeight(JsonCodecs.readInteger(parser));
+          break;
+        case "windowState":
+          result.setWindowState(readWindowState(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBounds(JsonGenerator generator, Bounds value) throws IOException {
+    generator.writeStartObject();
+    if (value.getLeft() != null) {
+      generator.writeFieldName("left");
+      JsonCodecs.writeInteger(generator, value.getLeft());
+    }
+    if (value.getTop() != null) {
+      generator.writeFieldName("top");
+      JsonCodecs.writeInteger(generator, value.getTop());
+    }
+    if (value.getWidth() != null) {
+      generator.writeFieldName("width");
+      JsonCodecs.writeInteger(generator, value.getWidth());
+    }
+    if (value.getHeight() != null) {
+      generator.writeFieldName("height");
+      JsonCodecs.writeInteger(generator, value.getHeight());
+    }
+    if (value.getWindowState() != null) {
+      generator.writeFieldName("windowState");
+      writeWindowState(generator, value.getWindowState());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Bucket readBucket(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Bucket result = new Bucket();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "low":
+          result.setLow(JsonCodecs.readInteger(parser));
+          break;
+        case "high":
+          result.setHigh(JsonCodecs.readInteger(parser));
+          break;
+        case "count":
+          result.setCount(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBucket(JsonGenerator generator, Bucket value) throws IOException {
+    generator.writeStartObject();
+    if (value.getLow() != null) {
+      generator.writeFieldName("low");
+      JsonCodecs.writeInteger(generator, value.getLow());
+    }
+    if (value.getHigh() != null) {
+      generator.writeFieldName("high");
+      JsonCodecs.writeInteger(generator, value.getHigh());
+    }
+    if (value.getCount() != null) {
+      generator.writeFieldName("count");
+      JsonCodecs.writeInteger(generator, value.getCount());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Histogram readHistogram(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Histogram result = new Histogram();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "sum":
+          result.setSum(JsonCodecs.readInteger(parser));
+          break;
+        case "count":
+          result.setCount(JsonCodecs.readInteger(parser));
+          break;
+        case "buckets":
+          result.setBuckets(JsonCodecs.readList(parser, BrowserCodecs::readBucket));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeHistogram(JsonGenerator generator, Histogram value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getSum() != null) {
+      generator.writeFieldName("sum");
+      JsonCodecs.writeInteger(generator, value.getSum());
+    }
+    if (value.getCount() != null) {
+      generator.writeFieldName("count");
+      JsonCodecs.writeInteger(generator, value.getCount());
+    }
+    if (value.getBuckets() != null) {
+      generator.writeFieldName("buckets");
+      JsonCodecs.writeList(generator, value.getBuckets(), BrowserCodecs::writeBucket);
+    }
+    generator.writeEndObject();
+  }
+
+  public static PermissionDescriptor readPermissionDescriptor(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PermissionDescriptor result = new PermissionDescriptor();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "sysex":
+          result.setSysex(JsonCodecs.readBoolean(parser));
+          break;
+        case "userVisibleOnly":
+          result.setUserVisibleOnly(JsonCodecs.readBoolean(parser));
+          break;
+        case "type":
+          result.setType(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePermissionDescriptor(JsonGenerator generator, PermissionDescriptor value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getSysex() != null) {
+      generator.writeFieldName("sysex");
+      JsonCodecs.writeBoolean(generator, value.getSysex());
+    }
+    if (value.getUserVisibleOnly() != null) {
+      generator.writeFieldName("userVisibleOnly");
+      JsonCodecs.writeBoolean(generator, value.getUserVisibleOnly());
+    }
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      JsonCodecs.writeString(generator, value.getType());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PermissionSetting readPermissionSetting(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "granted":
+        return PermissionSetting.GRANTED;
+      case "denied":
+        return PermissionSetting.DENIED;
+      case "prompt":
+        return PermissionSetting.PROMPT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, PermissionSetting.class, value);
+    }
+  }
+
+  public static void writePermissionSetting(JsonGenerator generator, PermissionSetting value)
+      throws IOException {
+    generator.writeString(PERMISSION_SETTING_VALUES[value.ordinal()]);
+  }
+
+  public static PermissionType readPermissionType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "accessibilityEvents":
+        return PermissionType.ACCESSIBILITY_EVENTS;
+      case "audioCapture":
+        return PermissionType.AUDIO_CAPTURE;
+      case "backgroundSync":
+        return PermissionType.BACKGROUND_SYNC;
+      case "backgroundFetch":
+        return PermissionType.BACKGROUND_FETCH;
+      case "clipboardRead":
+        return PermissionType.CLIPBOARD_READ;
+      case "clipboardWrite":
+        return PermissionType.CLIPBOARD_WRITE;
+      case "durableStorage":
+        return PermissionType.DURABLE_STORAGE;
+      case "flash":
+        return PermissionType.FLASH;
+      case "geolocation":
+        return PermissionType.GEOLOCATION;
+      case "midi":
+        return PermissionType.MIDI;
+      case "midiSysex":
+        return PermissionType.MIDI_SYSEX;
+      case "notifications":
+        return PermissionType.NOTIFICATIONS;
+      case "paymentHandler":
+        return PermissionType.PAYMENT_HANDLER;
+      case "periodicBackgroundSync":
+        return PermissionType.PERIODIC_BACKGROUND_SYNC;
+      case "protectedMediaIdentifier":
+        return PermissionType.PROTECTED_MEDIA_IDENTIFIER;
+      case "sensors":
+        return PermissionType.SENSORS;
+      case "videoCapture":
+        return PermissionType.VIDEO_CAPTURE;
+      case "idleDetection":
+        return PermissionType.IDLE_DETECTION;
+      case "wakeLockScreen":
+        return PermissionType.WAKE_LOCK_SCREEN;
+      case "wakeLockSystem":
+        return PermissionType.WAKE_LOCK_SYSTEM;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, PermissionType.class, value);
+    }
+  }
+
+  public static void writePermissionType(JsonGenerator generator, PermissionType value)
+      throws IOException {
+    generator.writeString(PERMISSION_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static Version readVersion(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Version result = new Version();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "protocolVersion":
+          result.setProtocolVersion(JsonCodecs.readString(parser));
+          break;
+        case "product":
+          result.setProduct(JsonCodecs.readString(parser));
+          break;
+        case "revision":
+          result.setRevision(JsonCodecs.readString(parser));
+          break;
+        case "userAgent":
+          result.setUserAgent(JsonCodecs.readString(parser));
+          break;
+        case "jsVersion":
+          result.setJsVersion(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeVersion(JsonGenerator generator, Version value) throws IOException {
+    generator.writeStartObject();
+    if (value.getProtocolVersion() != null) {
+      generator.writeFieldName("protocolVersion");
+      JsonCodecs.writeString(generator, value.getProtocolVersion());
+    }
+    if (value.getProduct() != null) {
+      generator.writeFieldName("product");
+      JsonCodecs.writeString(generator, value.getProduct());
+    }
+    if (value.getRevision() != null) {
+      generator.writeFieldName("revision");
+      JsonCodecs.writeString(generator, value.getRevision());
+    }
+    if (value.getUserAgent() != null) {
+      generator.writeFieldName("userAgent");
+      JsonCodecs.writeString(generator, value.getUserAgent());
+    }
+    if (value.getJsVersion() != null) {
+      generator.writeFieldName("jsVersion");
+      JsonCodecs.writeString(generator, value.getJsVersion());
+    }
+    generator.writeEndObject();
+  }
+
+  public static WindowForTarget readWindowForTarget(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WindowForTarget result = new WindowForTarget();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "windowId":
+          result.setWindowId(JsonCodecs.readInteger(parser));
+          break;
+        case "bounds":
+          result.setBounds(readBounds(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeWindowForTarget(JsonGenerator generator, WindowForTarget value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getWindowId() != null) {
+      generator.writeFieldName("windowId");
+      JsonCodecs.writeInteger(generator, value.getWindowId());
+    }
+    if (value.getBounds() != null) {
+      generator.writeFieldName("bounds");
+      writeBounds(generator, value.getBounds());
+    }
+    generator.writeEndObject();
+  }
+
+  public static WindowState readWindowState(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "normal":
+        return WindowState.NORMAL;
+      case "minimized":
+        return WindowState.MINIMIZED;
+      case "maximized":
+        return WindowState.MAXIMIZED;
+      case "fullscreen":
+        return WindowState.FULLSCREEN;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, WindowState.class, value);
+    }
+  }
+
+  public static void writeWindowState(JsonGenerator generator, WindowState value)
+      throws IOException {
+    generator.writeString(WINDOW_STATE_VALUES[value.ordinal()]);
+  }
+}
@@ -0,0 +1,1526 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.css.FontsUpdated;
+import com.github.kklisura.cdt.protocol.events.css.MediaQueryResultChanged;
+import com.github.kklisura.cdt.protocol.events.css.StyleSheetAdded;
+import com.github.kklisura.cdt.protocol.events.css.StyleSheetChanged;
+import com.github.kklisura.cdt.protocol.events.css.StyleSheetRemoved;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.css.BackgroundColors;
+import com.github.kklisura.cdt.protocol.types.css.CSSComputedStyleProperty;
+import com.github.kklisura.cdt.protocol.types.css.CSSKeyframeRule;
+import com.github.kklisura.cdt.protocol.types.css.CSSKeyframesRule;
+import com.github.kklisura.cdt.protocol.types.css.CSSMedia;
+import com.github.kklisura.cdt.protocol.types.css.CSSMediaSource;
+import com.github.kklisura.cdt.protocol.types.css.CSSProperty;
+import com.github.kklisura.cdt.protocol.types.css.CSSRule;
+import com.github.kklisura.cdt.protocol.types.css.CSSStyle;
+import com.github.kklisura.cdt.protocol.types.css.CSSStyleSheetHeader;
+import com.github.kklisura.cdt.protocol.types.css.FontFace;
+import com.github.kklisura.cdt.protocol.types.css.InheritedStyleEntry;
+import com.github.kklisura.cdt.protocol.types.css.InlineStylesForNode;
+import com.github.kklisura.cdt.protocol.types.css.MatchedStylesForNode;
+import com.github.kklisura.cdt.protocol.types.css.MediaQuery;
+import com.github.kklisura.cdt.protocol.types.css.MediaQueryExpression;
+import com.github.kklisura.cdt.protocol.types.css.PlatformFontUsage;
+import com.github.kklisura.cdt.protocol.types.css.PseudoElementMatches;
+import com.github.kklisura.cdt.protocol.types.css.RuleMatch;
+import com.github.kklisura.cdt.protocol.types.css.RuleUsage;
+import com.github.kklisura.cdt.protocol.types.css.SelectorList;
+import com.github.kklisura.cdt.protocol.types.css.ShorthandEntry;
+import com.github.kklisura.cdt.protocol.types.css.SourceRange;
+import com.github.kklisura.cdt.protocol.types.css.StyleDeclarationEdit;
+import com.github.kklisura.cdt.protocol.types.css.StyleSheetOrigin;
+import com.github.kklisura.cdt.protocol.types.css.Value;
+import java.io.IOException;
+
+/** CSS domain type and event codecs. */
+public final class CSSCodecs {
+
+  private static final String[] CSS_MEDIA_SOURCE_VALUES = {
+    "mediaRule", "importRule", "linkedSheet", "inlineSheet"
+  };
+
+  private static final String[] STYLE_SHEET_ORIGIN_VALUES = {
+    "injected", "user-agent", "inspector", "regular"
+  };
+
+  private CSSCodecs() {}
+
+  /**
+   * Registers CSS codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        BackgroundColors.class, CSSCodecs::readBackgroundColors, CSSCodecs::writeBackgroundColors);
+    module.addCodec(
+        CSSComputedStyleProperty.class,
+        CSSCodecs::readCSSComputedStyleProperty,
+        CSSCodecs::writeCSSComputedStyleProperty);
+    module.addCodec(
+        CSSKeyframeRule.class, CSSCodecs::readCSSKeyframeRule, CSSCodecs::writeCSSKeyframeRule);
+    module.addCodec(
+        CSSKeyframesRule.class, CSSCodecs::readCSSKeyframesRule, CSSCodecs::writeCSSKeyframesRule);
+    module.addCodec(CSSMedia.class, CSSCodecs::readCSSMedia, CSSCodecs::writeCSSMedia);
+    module.addCodec(
+        CSSMediaSource.class, CSSCodecs::readCSSMediaSource, CSSCodecs::writeCSSMediaSource);
+    module.addCodec(CSSProperty.class, CSSCodecs::readCSSProperty, CSSCodecs::writeCSSProperty);
+    module.addCodec(CSSRule.class, CSSCodecs::readCSSRule, CSSCodecs::writeCSSRule);
+    module.addCodec(CSSStyle.class, CSSCodecs::readCSSStyle, CSSCodecs::writeCSSStyle);
+    module.addCodec(
+        CSSStyleSheetHeader.class,
+        CSSCodecs::readCSSStyleSheetHeader,
+        CSSCodecs::writeCSSStyleSheetHeader);
+    module.addCodec(FontFace.class, CSSCodecs::readFontFace, CSSCodecs::writeFontFace);
+    module.addCodec(
+        InheritedStyleEntry.class,
+        CSSCodecs::readInheritedStyleEntry,
+        CSSCodecs::writeInheritedStyleEntry);
+    module.addCodec(
+        InlineStylesForNode.class,
+        CSSCodecs::readInlineStylesForNode,
+        CSSCodecs::writeInlineStylesForNode);
+    module.addCodec(
+        MatchedStylesForNode.class,
+        CSSCodecs::readMatchedStylesForNode,
+        CSSCodecs::writeMatchedStylesForNode);
+    module.addCodec(MediaQuery.class, CSSCodecs::readMediaQuery, CSSCodecs::writeMediaQuery);
+    module.addCodec(
+        MediaQueryExpression.class,
+        CSSCodecs::readMediaQueryExpression,
+        CSSCodecs::writeMediaQueryExpression);
+    module.addCodec(
+        PlatformFontUsage.class,
+        CSSCodecs::readPlatformFontUsage,
+        CSSCodecs::writePlatformFontUsage);
+    module.addCodec(
+        PseudoElementMatches.class,
+        CSSCodecs::readPseudoElementMatches,
+        CSSCodecs::writePseudoElementMatches);
+    module.addCodec(RuleMatch.class, CSSCodecs::readRuleMatch, CSSCodecs::writeRuleMatch);
+    module.addCodec(RuleUsage.class, CSSCodecs::readRuleUsage, CSSCodecs::writeRuleUsage);
+    module.addCodec(SelectorList.class, CSSCodecs::readSelectorList, CSSCodecs::writeSelectorList);
+    module.addCodec(
+        ShorthandEntry.class, CSSCodecs::readShorthandEntry, CSSCodecs::writeShorthandEntry);
+    module.addCodec(SourceRange.class, CSSCodecs::readSourceRange, CSSCodecs::writeSourceRange);
+    module.addCodec(
+        StyleDeclarationEdit.class,
+        CSSCodecs::readStyleDeclarationEdit,
+        CSSCodecs::writeStyleDeclarationEdit);
+    module.addCodec(
+        StyleSheetOrigin.class, CSSCodecs::readStyleSheetOrigin, CSSCodecs::writeStyleSheetOrigin);
+    module.addCodec(Value.class, CSSCodecs::readValue, CSSCodecs::writeValue);
+    module.addReader(FontsUpdated.class, CSSCodecs::readFontsUpdated);
+    module.addReader(MediaQueryResultChanged.class, CSSCodecs::readMediaQueryResultChanged);
+    module.addReader(StyleSheetAdded.class, CSSCodecs::readStyleSheetAdded);
+    module.addReader(StyleSheetChanged.class, CSSCodecs::readStyleSheetChanged);
+    module.addReader(StyleSheetRemoved.class, CSSCodecs::readStyleSheetRemoved);
+  }
+
+  public static BackgroundColors readBackgroundColors(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BackgroundColors result = new BackgroundColors();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "backgroundColors":
+          result.setBackgroundColors(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "computedFontSize":
+          result.setComputedFontSize(JsonCodecs.readString(parser));
+          break;
+        case "computedFontWeight":
+          result.setComputedFontWeight(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBackgroundColors(JsonGenerator generator, BackgroundColors value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBackgroundColors() != null) {
+      generator.writeFieldName("backgroundColors");
+      JsonCodecs.writeList(generator, value.getBackgroundColors(), JsonCodecs::writeString);
+    }
+    if (value.getComputedFontSize() != null) {
+      generator.writeFieldName("computedFontSize");
+      JsonCodecs.writeString(generator, value.getComputedFontSize());
+    }
+    if (value.getComputedFontWeight() != null) {
+      generator.writeFieldName("computedFontWeight");
+      JsonCodecs.writeString(generator, value.getComputedFontWeight());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CSSComputedStyleProperty readCSSComputedStyleProperty(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CSSComputedStyleProperty result = new CSSComputedStyleProperty();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCSSComputedStyleProperty(
+      JsonGenerator generator, CSSComputedStyleProperty value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CSSKeyframeRule readCSSKeyframeRule(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CSSKeyframeRule result = new CSSKeyframeRule();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "styleSheetId":
+          result.setStyleSheetId(JsonCodecs.readString(parser));
+          break;
+        case "origin":
+          result.setOrigin(readStyleSheetOrigin(parser));
+          break;
+        case "keyText":
+          result.setKeyText(readValue(parser));
+          break;
+        case "style":
+          result.setStyle(readCSSStyle(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCSSKeyframeRule(JsonGenerator generator, CSSKeyframeRule value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getStyleSheetId() != null) {
+      generator.writeFieldName("styleSheetId");
+      JsonCodecs.writeString(generator, value.getStyleSheetId());
+    }
+    if (value.getOrigin() != null) {
+      generator.writeFieldName("origin");
+      writeStyleSheetOrigin(generator, value.getOrigin());
+    }
+    if (value.getKeyText() != null) {
+      generator.writeFieldName("keyText");
+      writeValue(generator, value.getKeyText());
+    }
+    if (value.getStyle() != null) {
+      generator.writeFieldName("style");
+      writeCSSStyle(generator, value.getStyle());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CSSKeyframesRule readCSSKeyframesRule(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CSSKeyframesRule result = new CSSKeyframesRule();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "animationName":
+          result.setAnimationName(readValue(parser));
+          break;
+        case "keyframes":
+          result.setKeyframes(JsonCodecs.readList(parser, CSSCodecs::readCSSKeyframeRule));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCSSKeyframesRule(JsonGenerator generator, CSSKeyframesRule value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getAnimationName() != null) {
+      generator.writeFieldName("animationName");
+      writeValue(generator, value.getAnimationName());
+    }
+    if (value.getKeyframes() != null) {
+      generator.writeFieldName("keyframes");
+      JsonCodecs.writeList(generator, value.getKeyframes(), CSSCodecs::writeCSSKeyframeRule);
+    }
+    generator.writeEndObject();
+  }
+
+  public static CSSMedia readCSSMedia(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CSSMedia result = new CSSMedia();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "text":
+          result.setText(JsonCodecs.readString(parser));
+          break;
+        case "source":
+          result.setSource(readCSSMediaSource(parser));
+          break;
+        case "sourceURL":
+          result.setSourceURL(JsonCodecs.readString(parser));
+          break;
+        case "range":
+          result.setRange(readSourceRange(parser));
+          break;
+        case "styleSheetId":
+          result.setStyleSheetId(JsonCodecs.readString(parser));
+          break;
+        case "mediaList":
+          result.setMediaList(JsonCodecs.readList(parser, CSSCodecs::readMediaQuery));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCSSMedia(JsonGenerator generator, CSSMedia value) throws IOException {
+    generator.writeStartObject();
+    if (value.getText() != null) {
+      generator.writeFieldName("text");
+      JsonCodecs.writeString(generator, value.getText());
+    }
+    if (value.getSource() != null) {
+      generator.writeFieldName("source");
+      writeCSSMediaSource(generator, value.getSource());
+    }
+    if (value.getSourceURL() != null) {
+      generator.writeFieldName("sourceURL");
+      JsonCodecs.writeString(generator, value.getSourceURL());
+    }
+    if (value.getRange() != null) {
+      generator.writeFieldName("range");
+      writeSourceRange(generator, value.getRange());
+    }
+    if (value.getStyleSheetId() != null) {
+      generator.writeFieldName("styleSheetId");
+      JsonCodecs.writeString(generator, value.getStyleSheetId());
+    }
+    if (value.getMediaList() != null) {
+      generator.writeFieldName("mediaList");
+      JsonCodecs.writeList(generator, value.getMediaList(), CSSCodecs::writeMediaQuery);
+    }
+    generator.writeEndObject();
+  }
+
+  public static CSSMediaSource readCSSMediaSource(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "mediaRule":
+        return CSSMediaSource.MEDIA_RULE;
+      case "importRule":
+        return CSSMediaSource.IMPORT_RULE;
+      case "linkedSheet":
+        return CSSMediaSource.LINKED_SHEET;
+      case "inlineSheet":
+        return CSSMediaSource.INLINE_SHEET;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, CSSMediaSource.class, value);
+    }
+  }
+
+  public static void writeCSSMediaSource(JsonGenerator generator, CSSMediaSource value)
+      throws IOException {
+    generator.writeString(CSS_MEDIA_SOURCE_VALUES[value.ordinal()]);
+  }
+
+  public static CSSProperty readCSSProperty(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CSSProperty result = new CSSProperty();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        case "important":
+          result.setImportant(JsonCodecs.readBoolean(parser));
+          break;
+        case "implicit":
+          result.setImplicit(JsonCodecs.readBoolean(parser));
+          break;
+        case "text":
+          result.setText(JsonCodecs.readString(parser));
+          break;
+        case "parsedOk":
+          result.setParsedOk(JsonCodecs.readBoolean(parser));
+          break;
+        case "disabled":
+          result.setDisabled(JsonCodecs.readBoolean(parser));
+          break;
+        case "range":
+          result.setRange(readSourceRange(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCSSProperty(JsonGenerator generator, CSSProperty value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    if (value.getImportant() != null) {
+      generator.writeFieldName("important");
+      JsonCodecs.writeBoolean(generator, value.getImportant());
+    }
+    if (value.getImplicit() != null) {
+      generator.writeFieldName("implicit");
+      JsonCodecs.writeBoolean(generator, value.getImplicit());
+    }
+    if (value.getText() != null) {
+      generator.writeFieldName("text");
+      JsonCodecs.writeString(generator, value.getText());
+    }
+    if (value.getParsedOk() != null) {
+      generator.writeFieldName("parsedOk");
+      JsonCodecs.writeBoolean(generator, value.getParsedOk());
+    }
+    if (value.getDisabled() != null) {
+      generator.writeFieldName("disabled");
+      JsonCodecs.writeBoolean(generator, value.getDisabled());
+    }
+    if (value.getRange() != null) {
+      generator.writeFieldName("range");
+      writeSourceRange(generator, value.getRange());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CSSRule readCSSRule(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CSSRule result = new CSSRule();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "styleSheetId":
+          result.setStyleSheetId(JsonCodecs.readString(parser));
+          break;
+        case "selectorList":
+          result.setSelectorList(readSelectorList(parser));
+          break;
+        case "origin":
+          result.setOrigin(readStyleSheetOrigin(parser));
+          break;
+        case "style":
+          result.setStyle(readCSSStyle(parser));
+          break;
+        case "media":
+          result.setMedia(JsonCodecs.readList(parser, CSSCodecs::readCSSMedia));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCSSRule(JsonGenerator generator, CSSRule value) throws IOException {
+    generator.writeStartObject();
+    if (value.getStyleSheetId() != null) {
+      generator.writeFieldName("styleSheetId");
+      JsonCodecs.writeString(generator, value.getStyleSheetId());
+    }
+    if (value.getSelectorList() != null) {
+      generator.writeFieldName("selectorList");
+      writeSelectorList(generator, value.getSelectorList());
+    }
+    if (value.getOrigin() != null) {
+      generator.writeFieldName("origin");
+      writeStyleSheetOrigin(generator, value.getOrigin());
+    }
+    if (value.getStyle() != null) {
+      generator.writeFieldName("style");
+      writeCSSStyle(generator, value.getStyle());
+    }
+    if (value.getMedia() != null) {
+      generator.writeFieldName("media");
+      JsonCodecs.writeList(generator, value.getMedia(), CSSCodecs::writeCSSMedia);
+    }
+    generator.writeEndObject();
+  }
+
+  public static CSSStyle readCSSStyle(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CSSStyle result = new CSSStyle();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "styleSheetId":
+          result.setStyleSheetId(JsonCodecs.readString(parser));
+          break;
+        case "cssProperties":
+          result.setCssProperties(JsonCodecs.readList(parser, CSSCodecs::readCSSProperty));
+          break;
+        case "shorthandEntries":
+          result.setShorthandEntries(JsonCodecs.readList(parser, CSSCodecs::readShorthandEntry));
+          break;
+        case "cssText":
+          result.setCssText(JsonCodecs.readString(parser));
+          break;
+        case "range":
+          result.setRange(readSourceRange(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCSSStyle(JsonGenerator generator, CSSStyle value) throws IOException {
+    generator.writeStartObject();
+    if (value.getStyleSheetId() != null) {
+      generator.writeFieldName("styleSheetId");
+      JsonCodecs.writeString(generator, value.getStyleSheetId());
+    }
+    if (value.getCssProperties() != null) {
+      generator.writeFieldName("cssProperties");
+      JsonCodecs.writeList(generator, value.getCssProperties(), CSSCodecs::writeCSSProperty);
+    }
+    if (value.getShorthandEntries() != null) {
+      generator.writeFieldName("shorthandEntries");
+      JsonCodecs.writeList(generator, value.getShorthandEntries(), CSSCodecs::writeShorthandEntry);
+    }
+    if (value.getCssText() != null) {
+      generator.writeFieldName("cssText");
+      JsonCodecs.writeString(generator, value.getCssText());
+    }
+    if (value.getRange() != null) {
+      generator.writeFieldName("range");
+      writeSourceRange(generator, value.getRange());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CSSStyleSheetHeader readCSSStyleSheetHeader(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CSSStyleSheetHeader result = new CSSStyleSheetHeader();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "styleSheetId":
+          result.setStyleSheetId(JsonCodecs.readString(parser));
+          break;
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "sourceURL":
+          result.setSourceURL(JsonCodecs.readString(parser));
+          break;
+        case "sourceMapURL":
+          result.setSourceMapURL(JsonCodecs.readString(parser));
+          break;
+        case "origin":
+          result.setOrigin(readStyleSheetOrigin(parser));
+          break;
+        case "title":
+          result.setTitle(JsonCodecs.readString(parser));
+          break;
+        case "ownerNode":
+          result.setOwnerNode(JsonCodecs.readInteger(parser));
+          break;
+        case "disabled":
+          result.setDisabled(JsonCodecs.readBoolean(parser));
+          break;
+        case "hasSourceURL":
+          result.setHasSourceURL(JsonCodecs.readBoolean(parser));
+          break;
+        case "isInline":
+          result.setIsInline(JsonCodecs.readBoolean(parser));
+          break;
+        case "startLine":
+          result.setStartLine(JsonCodecs.readDouble(parser));
+          break;
+        case "startColumn":
+          result.setStartColumn(JsonCodecs.readDouble(parser));
+          break;
+        case "length":
+          result.setLength(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCSSStyleSheetHeader(JsonGenerator generator, CSSStyleSheetHeader value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getStyleSheetId() != null) {
+      generator.writeFieldName("styleSheetId");
+      JsonCodecs.writeString(generator, value.getStyleSheetId());
+    }
+    if (value.getFrameId() != null) {
+      generator.writeFieldName("frameId");
+      JsonCodecs.writeString(generator, value.getFrameId());
+    }
+    if (value.getSourceURL() != null) {
+      generator.writeFieldName("sourceURL");
+      JsonCodecs.writeString(generator, value.getSourceURL());
+    }
+    if (value.getSourceMapURL() != null) {
+      generator.writeFieldName("sourceMapURL");
+      JsonCodecs.writeString(generator, value.getSourceMapURL());
+    }
+    if (value.getOrigin() != null) {
+      generator.writeFieldName("origin");
+      writeStyleSheetOrigin(generator, value.getOrigin());
+    }
+    if (value.getTitle() != null) {
+      generator.writeFieldName("title");
+      JsonCodecs.writeString(generator, value.getTitle());
+    }
+    if (value.getOwnerNode() != null) {
+      generator.writeFieldName("ownerNode");
+      JsonCodecs.writeInteger(generator, value.getOwnerNode());
+    }
+    if (value.getDisabled() != null) {
+      generator.writeFieldName("disabled");
+      JsonCodecs.writeBoolean(generator, value.getDisabled());
+    }
+    if (value.getHasSourceURL() != null) {
+      generator.writeFieldName("hasSourceURL");
+      JsonCodecs.writeBoolean(generator, value.getHasSourceURL());
+    }
+    if (value.getIsInline() != null) {
+      generator.writeFieldName("isInline");
+      JsonCodecs.writeBoolean(generator, value.getIsInline());
+    }
+    if (value.getStartLine() != null) {
+      generator.writeFieldName("startLine");
+      JsonCodecs.writeDouble(generator, value.getStartLine());
+    }
+    if (value.getStartColumn() != null) {
+      generator.writeFieldName("startColumn");
+      JsonCodecs.writeDouble(generator, value.getStartColumn());
+    }
+    if (value.getLength() != null) {
+      generator.writeFieldName("length");
+      JsonCodecs.writeDouble(generator, value.getLength());
+    }
+    generator.writeEndObject();
+  }
+
+  public static FontFace readFontFace(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FontFace result = new FontFace();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "fontFamily":
+          result.setFontFamily(JsonCodecs.readString(parser));
+          break;
+        case "fontStyle":
+          result.setFontStyle(JsonCodecs.readString(parser));
+          break;
+        case "fontVariant":
+          result.setFontVariant(JsonCodecs.readString(parser));
+          break;
+        case "fontWeight":
+          result.setFontWeight(JsonCodecs.readString(parser));
+          break;
+        case "fontStretch":
+          result.setFontStretch(JsonCodecs.readString(parser));
+          break;
+        case "unicodeRange":
+          result.setUnicodeRange(JsonCodecs.readString(parser));
+          break;
+        case "src":
+          result.setSrc(JsonCodecs.readString(parser));
+          break;
+        case "platformFontFamily":
+          result.setPlatformFontFamily(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeFontFace(JsonGenerator generator, FontFace value) throws IOException {
+    generator.writeStartObject();
+    if (value.getFontFamily() != null) {
+      generator.writeFieldName("fontFamily");
+      JsonCodecs.writeString(generator, value.getFontFamily());
+    }
+    if (value.getFontStyle() != null) {
+      generator.writeFieldName("fontStyle");
+      JsonCodecs.writeString(generator, value.getFontStyle());
+    }
+    if (value.getFontVariant() != null) {
+      generator.writeFieldName("fontVariant");
+      JsonCodecs.writeString(generator, value.getFontVariant());
+    }
+    if (value.getFontWeight() != null) {
+      generator.writeFieldName("fontWeight");
+      JsonCodecs.writeString(generator, value.getFontWeight());
+    }
+    if (value.getFontStretch() != null) {
+      generator.writeFieldName("fontStretch");
+      JsonCodecs.writeString(generator, value.getFontStretch());
+    }
+    if (value.getUnicodeRange() != null) {
+      generator.writeFieldName("unicodeRange");
+      JsonCodecs.writeString(generator, value.getUnicodeRange());
+    }
+    if (value.getSrc() != null) {
+      generator.writeFieldName("src");
+      JsonCodecs.writeString(generator, value.getSrc());
+    }
+    if (value.getPlatformFontFamily() != null) {
+      generator.writeFieldName("platformFontFamily");
+      JsonCodecs.writeString(generator, value.getPlatformFontFamily());
+    }
+    generator.writeEndObject();
+  }
+
+  public static InheritedStyleEntry readInheritedStyleEntry(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InheritedStyleEntry result = new InheritedStyleEntry();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "inlineStyle":
+          result.setInlineStyle(readCSSStyle(parser));
+          break;
+        case "matchedCSSRules":
+          result.setMatchedCSSRules(JsonCodecs.readList(parser, CSSCodecs::readRuleMatch));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeInheritedStyleEntry(JsonGenerator generator, InheritedStyleEntry value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getInlineStyle() != null) {
+      generator.writeFieldName("inlineStyle");
+      writeCSSStyle(generator, value.getInlineStyle());
+    }
+    if (value.getMatchedCSSRules() != null) {
+      generator.writeFieldName("matchedCSSRules");
+      JsonCodecs.writeList(generator, value.getMatchedCSSRules(), CSSCodecs::writeRuleMatch);
+    }
+    generator.writeEndObject();
+  }
+
+  public static InlineStylesForNode readInlineStylesForNode(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InlineStylesForNode result = new InlineStylesForNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "inlineStyle":
+          result.setInlineStyle(readCSSStyle(parser));
+          break;
+        case "attributesStyle":
+          result.setAttributesStyle(readCSSStyle(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeInlineStylesForNode(JsonGenerator generator, InlineStylesForNode value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getInlineStyle() != null) {
+      generator.writeFieldName("inlineStyle");
+      writeCSSStyle(generator, value.getInlineStyle());
+    }
+    if (value.getAttributesStyle() != null) {
+      generator.writeFieldName("attributesStyle");
+      writeCSSStyle(generator, value.getAttributesStyle());
+    }
+    generator.writeEndObject();
+  }
+
+  public static MatchedStylesForNode readMatchedStylesForNode(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    MatchedStylesForNode result = new MatchedStylesForNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "inlineStyle":
+          result.setInlineStyle(readCSSStyle(parser));
+          break;
+        case "attributesStyle":
+          result.setAttributesStyle(readCSSStyle(parser));
+          break;
+        case "matchedCSSRules":
+          result.setMatchedCSSRules(JsonCodecs.readList(parser, CSSCodecs::readRuleMatch));
+          break;
+        case "pseudoElements":
+          result.setPseudoElements(
+              JsonCodecs.readList(parser, CSSCodecs::readPseudoElementMatches));
+          break;
+        case "inherited":
+          result.setInherited(JsonCodecs.readList(parser, CSSCodecs::readInheritedStyleEntry));
+          break;
+        case "cssKeyframesRules":
+          result.setCssKeyframesRules(JsonCodecs.readList(parser, CSSCodecs::readCSSKeyframesRule));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeMatchedStylesForNode(JsonGenerator generator, MatchedStylesForNode value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getInlineStyle() != null) {
+      generator.writeFieldName("inlineStyle");
+      writeCSSStyle(generator, value.getInlineStyle());
+    }
+    if (value.getAttributesStyle() != null) {
+      generator.writeFieldName("attributesStyle");
+      writeCSSStyle(generator, value.getAttributesStyle());
+    }
+    if (value.getMatchedCSSRules() != null) {
+      generator.writeFieldName("matchedCSSRules");
+      JsonCodecs.writeList(generator, value.getMatchedCSSRules(), CSSCodecs::writeRuleMatch);
+    }
+    if (value.getPseudoElements() != null) {
+      generator.writeFieldName("pseudoElements");
+      JsonCodecs.writeList(
+          generator, value.getPseudoElements(), CSSCodecs::writePseudoElementMatches);
+    }
+    if (value.getInherited() != null) {
+      generator.writeFieldName("inherited");
+      JsonCodecs.writeList(generator, value.getInherited(), CSSCodecs::writeInheritedStyleEntry);
+    }
+    if (value.getCssKeyframesRules() != null) {
+      generator.writeFieldName("cssKeyframesRules");
+      JsonCodecs.writeList(
+          generator, value.getCssKeyframesRules(), CSSCodecs::writeCSSKeyframesRule);
+    }
+    generator.writeEndObject();
+  }
+
+  public static MediaQuery readMediaQuery(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    MediaQuery result = new MediaQuery();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "expressions":
+          result.setExpressions(JsonCodecs.readList(parser, CSSCodecs::readMediaQueryExpression));
+          break;
+        case "active":
+          result.setActive(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeMediaQuery(JsonGenerator generator, MediaQuery value) throws IOException {
+    generator.writeStartObject();
+    if (value.getExpressions() != null) {
+      generator.writeFieldName("expressions");
+      JsonCodecs.writeList(generator, value.getExpressions(), CSSCodecs::writeMediaQueryExpression);
+    }
+    if (value.getActive() != null) {
+      generator.writeFieldName("active");
+      JsonCodecs.writeBoolean(generator, value.getActive());
+    }
+    generator.writeEndObject();
+  }
+
+  public static MediaQueryExpression readMediaQueryExpression(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    MediaQueryExpression result = new MediaQueryExpression();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "value":
+          result.setValue(JsonCodecs.readDouble(parser));
+          break;
+        case "unit":
+          result.setUnit(JsonCodecs.readString(parser));
+          break;
+        case "feature":
+          result.setFeature(JsonCodecs.readString(parser));
+          break;
+        case "valueRange":
+          result.setValueRange(readSourceRange(parser));
+          break;
+        case "computedLength":
+          result.setComputedLength(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeMediaQueryExpression(JsonGenerator generator, MediaQueryExpression value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeDouble(generator, value.getValue());
+    }
+    if (value.getUnit() != null) {
+      generator.writeFieldName("unit");
+      JsonCodecs.writeString(generator, value.getUnit());
+    }
+    if (value.getFeature() != null) {
+      generator.writeFieldName("feature");
+      JsonCodecs.writeString(generator, value.getFeature());
+    }
+    if (value.getValueRange() != null) {
+      generator.writeFieldName("valueRange");
+      writeSourceRange(generator, value.getValueRange());
+    }
+    if (value.getComputedLength() != null) {
+      generator.writeFieldName("computedLength");
+      JsonCodecs.writeDouble(generator, value.getComputedLength());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PlatformFontUsage readPlatformFontUsage(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PlatformFontUsage result = new PlatformFontUsage();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "familyName":
+          result.setFamilyName(JsonCodecs.readString(parser));
+          break;
+        case "isCustomFont":
+          result.setIsCustomFont(JsonCodecs.readBoolean(parser));
+          break;
+        case "glyphCount":
+          result.setGlyphCount(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePlatformFontUsage(JsonGenerator generator, PlatformFontUsage value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getFamilyName() != null) {
+      generator.writeFieldName("familyName");
+      JsonCodecs.writeString(generator, value.getFamilyName());
+    }
+    if (value.getIsCustomFont() != null) {
+      generator.writeFieldName("isCustomFont");
+      JsonCodecs.writeBoolean(generator, value.getIsCustomFont());
+    }
+    if (value.getGlyphCount() != null) {
+      generator.writeFieldName("glyphCount");
+      JsonCodecs.writeDouble(generator, value.getGlyphCount());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PseudoElementMatches readPseudoElementMatches(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PseudoElementMatches result = new PseudoElementMatches();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "pseudoType":
+          result.setPseudoType(DOMCodecs.readPseudoType(parser));
+          break;
+        case "matches":
+          result.setMatches(JsonCodecs.readList(parser, CSSCodecs::readRuleMatch));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePseudoElementMatches(JsonGenerator generator, PseudoElementMatches value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getPseudoType() != null) {
+      generator.writeFieldName("pseudoType");
+      DOMCodecs.writePseudoType(generator, value.getPseudoType());
+    }
+    if (value.getMatches() != null) {
+      generator.writeFieldName("matches");
+      JsonCodecs.writeList(generator, value.getMatches(), CSSCodecs::writeRuleMatch);
+    }
+    generator.writeEndObject();
+  }
+
+  public static RuleMatch readRuleMatch(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RuleMatch result = new RuleMatch();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "rule":
+          result.setRule(readCSSRule(parser));
+          break;
+        case "matchingSelectors":
+          result.setMatchingSelectors(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRuleMatch(JsonGenerator generator, RuleMatch value) throws IOException {
+    generator.writeStartObject();
+    if (value.getRule() != null) {
+      generator.writeFieldName("rule");
+      writeCSSRule(generator, value.getRule());
+    }
+    if (value.getMatchingSelectors() != null) {
+      generator.writeFieldName("matchingSelectors");
+      JsonCodecs.writeList(generator, value.getMatchingSelectors(), JsonCodecs::writeInteger);
+    }
+    generator.writeEndObject();
+  }
+
+  public static RuleUsage readRuleUsage(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RuleUsage result = new RuleUsage();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "styleSheetId":
+          result.setStyleSheetId(JsonCodecs.readString(parser));
+          break;
+        case "startOffset":
+          result.setStartOffset(JsonCodecs.readDouble(parser));
+          break;
+        case "endOffset":
+          result.setEndOffset(JsonCodecs.readDouble(parser));
+          break;
+        case "used":
+          result.setUsed(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRuleUsage(JsonGenerator generator, RuleUsage value) throws IOException {
+    generator.writeStartObject();
+    if (value.getStyleSheetId() != null) {
+      generator.writeFieldName("styleSheetId");
+      JsonCodecs.writeString(generator, value.getStyleSheetId());
+    }
+    if (value.getStartOffset() != null) {
+      generator.writeFieldName("startOffset");
+      JsonCodecs.writeDouble(generator, value.getStartOffset());
+    }
+    if (value.getEndOffset() != null) {
+      generator.writeFieldName("endOffset");
+      JsonCodecs.writeDouble(generator, value.getEndOffset());
+    }
+    if (value.getUsed() != null) {
+      generator.writeFieldName("used");
+      JsonCodecs.writeBoolean(generator, value.getUsed());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SelectorList readSelectorList(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SelectorList result = new SelectorList();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "selectors":
+          result.setSelectors(JsonCodecs.readList(parser, CSSCodecs::readValue));
+          break;
+        case "text":
+          result.setText(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSelectorList(JsonGenerator generator, SelectorList value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getSelectors() != null) {
+      generator.writeFieldName("selectors");
+      JsonCodecs.writeList(generator, value.getSelectors(), CSSCodecs::writeValue);
+    }
+    if (value.getText() != null) {
+      generator.writeFieldName("text");
+      JsonCodecs.writeString(generator, value.getText());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ShorthandEntry readShorthandEntry(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ShorthandEntry result = new ShorthandEntry();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        case "important":
+          result.setImportant(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeShorthandEntry(JsonGenerator generator, ShorthandEntry value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    if (value.getImportant() != null) {
+      generator.writeFieldName("important");
+      JsonCodecs.writeBoolean(generator, value.getImportant());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SourceRange readSourceRange(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SourceRange result = new SourceRange();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "startLine":
+          result.setStartLine(JsonCodecs.readInteger(parser));
+          break;
+        case "startColumn":
+          result.setStartColumn(JsonCodecs.readInteger(parser));
+          break;
+        case "endLine":
+          result.setEndLine(JsonCodecs.readInteger(parser));
+          break;
+        case "endColumn":
+          result.setEndColumn(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSourceRange(JsonGenerator generator, SourceRange value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getStartLine() != null) {
+      generator.writeFieldName("startLine");
+      JsonCodecs.writeInteger(generator, value.getStartLine());
+    }
+    if (value.getStartColumn() != null) {
+      generator.writeFieldName("startColumn");
+      JsonCodecs.writeInteger(generator, value.getStartColumn());
+    }
+    if (value.getEndLine() != null) {
+      generator.writeFieldName("endLine");
+      JsonCodecs.writeInteger(generator, value.getEndLine());
+    }
+    if (value.getEndColumn() != null) {
+      generator.writeFieldName("endColumn");
+      JsonCodecs.writeInteger(generator, value.getEndColumn());
+    }
+    generator.writeEndObject();
+  }
+
+  public static StyleDeclarationEdit readStyleDeclarationEdit(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    StyleDeclarationEdit result = new StyleDeclarationEdit();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "styleSheetId":
+          result.setStyleSheetId(JsonCodecs.readString(parser));
+          break;
+        case "range":
+          result.setRange(readSourceRange(parser));
+          break;
+        case "text":
+          result.setText(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeStyleDeclarationEdit(JsonGenerator generator, StyleDeclarationEdit value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getStyleSheetId() != null) {
+      generator.writeFieldName("styleSheetId");
+      JsonCodecs.writeString(generator, value.getStyleSheetId());
+    }
+    if (value.getRange() != null) {
+      generator.writeFieldName("range");
+      writeSourceRange(generator, value.getRange());
+    }
+    if (value.getText() != null) {
+      generator.writeFieldName("text");
+      JsonCodecs.writeString(generator, value.getText());
+    }
+    generator.writeEndObject();
+  }
+
+  public static StyleSheetOrigin readStyleSheetOrigin(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "injected":
+        return StyleSheetOrigin.INJECTED;
+      case "user-agent":
+        return StyleSheetOrigin.USER_AGENT;
+      case "inspector":
+        return StyleSheetOrigin.INSPECTOR;
+      case "regular":
+        return StyleSheetOrigin.REGULAR;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, StyleSheetOrigin.class, value);
+    }
+  }
+
+  public static void writeStyleSheetOrigin(JsonGenerator generator, StyleSheetOrigin value)
+      throws IOException {
+    generator.writeString(STYLE_SHEET_ORIGIN_VALUES[value.ordinal()]);
+  }
+
+  public static Value readValue(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Value result = new Value();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "text":
+          result.setText(JsonCodecs.readString(parser));
+          break;
+        case "range":
+          result.setRange(readSourceRange(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeValue(JsonGenerator generator, Value value) throws IOException {
+    generator.writeStartObject();
+    if (value.getText() != null) {
+      generator.writeFieldName("text");
+      JsonCodecs.writeString(generator, value.getText());
+    }
+    if (value.getRange() != null) {
+      generator.writeFieldName("range");
+      writeSourceRange(generator, value.getRange());
+    }
+    generator.writeEndObject();
+  }
+
+  public static FontsUpdated readFontsUpdated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FontsUpdated result = new FontsUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "font":
+          result.setFont(readFontFace(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static MediaQueryResultChanged readMediaQueryResultChanged(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    MediaQueryResultChanged result = new MediaQueryResultChanged();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return result;
+  }
+
+  public static StyleSheetAdded readStyleSheetAdded(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    StyleSheetAdded result = new StyleSheetAdded();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "header":
+          result.setHeader(readCSSStyleSheetHeader(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static StyleSheetChanged readStyleSheetChanged(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    StyleSheetChanged result = new StyleSheetChanged();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "styleSheetId":
+          result.setStyleSheetId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static StyleSheetRemoved readStyleSheetRemoved(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    StyleSheetRemoved result = new StyleSheetRemoved();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "styleSheetId":
+          result.setStyleSheetId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
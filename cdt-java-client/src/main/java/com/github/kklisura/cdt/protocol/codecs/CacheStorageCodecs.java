@@ -0,0 +1,322 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.cachestorage.Cache;
+import com.github.kklisura.cdt.protocol.types.cachestorage.CachedResponse;
+import com.github.kklisura.cdt.protocol.types.cachestorage.CachedResponseType;
+import com.github.kklisura.cdt.protocol.types.cachestorage.DataEntry;
+import com.github.kklisura.cdt.protocol.types.cachestorage.Header;
+import com.github.kklisura.cdt.protocol.types.cachestorage.RequestEntries;
+import java.io.IOException;
+
+/** CacheStorage domain type and event codecs. */
+public final class CacheStorageCodecs {
+
+  private static final String[] CACHED_RESPONSE_TYPE_VALUES = {
+    "basic", "cors", "default", "error", "opaqueResponse", "opaqueRedirect"
+  };
+
+  private CacheStorageCodecs() {}
+
+  /**
+   * Registers CacheStorage codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(Cache.class, CacheStorageCodecs::readCache, CacheStorageCodecs::writeCache);
+    module.addCodec(
+        CachedResponse.class,
+        CacheStorageCodecs::readCachedResponse,
+        CacheStorageCodecs::writeCachedResponse);
+    module.addCodec(
+        CachedResponseType.class,
+        CacheStorageCodecs::readCachedResponseType,
+        CacheStorageCodecs::writeCachedResponseType);
+    module.addCodec(
+        DataEntry.class, CacheStorageCodecs::readDataEntry, CacheStorageCodecs::writeDataEntry);
+    module.addCodec(Header.class, CacheStorageCodecs::readHeader, CacheStorageCodecs::writeHeader);
+    module.addCodec(
+        RequestEntries.class,
+        CacheStorageCodecs::readRequestEntries,
+        CacheStorageCodecs::writeRequestEntries);
+  }
+
+  public static Cache readCache(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Cache result = new Cache();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "cacheId":
+          result.setCacheId(JsonCodecs.readString(parser));
+          break;
+        case "securityOrigin":
+          result.setSecurityOrigin(JsonCodecs.readString(parser));
+          break;
+        case "cacheName":
+          result.setCacheName(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCache(JsonGenerator generator, Cache value) throws IOException {
+    generator.writeStartObject();
+    if (value.getCacheId() != null) {
+      generator.writeFieldName("cacheId");
+      JsonCodecs.writeString(generator, value.getCacheId());
+    }
+    if (value.getSecurityOrigin() != null) {
+      generator.writeFieldName("securityOrigin");
+      JsonCodecs.writeString(generator, value.getSecurityOrigin());
+    }
+    if (value.getCacheName() != null) {
+      generator.writeFieldName("cacheName");
+      JsonCodecs.writeString(generator, value.getCacheName());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CachedResponse readCachedResponse(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CachedResponse result = new CachedResponse();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "body":
+          result.setBody(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCachedResponse(JsonGenerator generator, CachedResponse value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBody() != null) {
+      generator.writeFieldName("body");
+      JsonCodecs.writeString(generator, value.getBody());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CachedResponseType readCachedResponseType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "basic":
+        return CachedResponseType.BASIC;
+      case "cors":
+        return CachedResponseType.CORS;
+      case "default":
+        return CachedResponseType.DEFAULT;
+      case "error":
+        return CachedResponseType.ERROR;
+      case "opaqueResponse":
+        return CachedResponseType.OPAQUE_RESPONSE;
+      case "opaqueRedirect":
+        return CachedResponseType.OPAQUE_REDIRECT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, CachedResponseType.class, value);
+    }
+  }
+
+  public static void writeCachedResponseType(JsonGenerator generator, CachedResponseType value)
+      throws IOException {
+    generator.writeString(CACHED_RESPONSE_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static DataEntry readDataEntry(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DataEntry result = new DataEntry();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestURL":
+          result.setRequestURL(JsonCodecs.readString(parser));
+          break;
+        case "requestMethod":
+          result.setRequestMethod(JsonCodecs.readString(parser));
+          break;
+        case "requestHeaders":
+          result.setRequestHeaders(JsonCodecs.readList(parser, CacheStorageCodecs::readHeader));
+          break;
+        case "responseTime":
+          result.setResponseTime(JsonCodecs.readDouble(parser));
+          break;
+        case "responseStatus":
+          result.setResponseStatus(JsonCodecs.readInteger(parser));
+          break;
+        case "responseStatusText":
+          result.setResponseStatusText(JsonCodecs.readString(parser));
+          break;
+        case "responseType":
+          result.setResponseType(readCachedResponseType(parser));
+          break;
+        case "responseHeaders":
+          result.setResponseHeaders(JsonCodecs.readList(parser, CacheStorageCodecs::readHeader));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeDataEntry(JsonGenerator generator, DataEntry value) throws IOException {
+    generator.writeStartObject();
+    if (value.getRequestURL() != null) {
+      generator.writeFieldName("requestURL");
+      JsonCodecs.writeString(generator, value.getRequestURL());
+    }
+    if (value.getRequestMethod() != null) {
+      generator.writeFieldName("requestMethod");
+      JsonCodecs.writeString(generator, value.getRequestMethod());
+    }
+    if (value.getRequestHeaders() != null) {
+      generator.writeFieldName("requestHeaders");
+      JsonCodecs.writeList(generator, value.getRequestHeaders(), CacheStorageCodecs::writeHeader);
+    }
+    if (value.getResponseTime() != null) {
+      generator.writeFieldName("responseTime");
+      JsonCodecs.writeDouble(generator, value.getResponseTime());
+    }
+    if (value.getResponseStatus() != null) {
+      generator.writeFieldName("responseStatus");
+      JsonCodecs.writeInteger(generator, value.getResponseStatus());
+    }
+    if (value.getResponseStatusText() != null) {
+      generator.writeFieldName("responseStatusText");
+      JsonCodecs.writeString(generator, value.getResponseStatusText());
+    }
+    if (value.getResponseType() != null) {
+      generator.writeFieldName("responseType");
+      writeCachedResponseType(generator, value.getResponseType());
+    }
+    if (value.getResponseHeaders() != null) {
+      generator.writeFieldName("responseHeaders");
+      JsonCodecs.writeList(generator, value.getResponseHeaders(), CacheStorageCodecs::writeHeader);
+    }
+    generator.writeEndObject();
+  }
+
+  public static Header readHeader(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Header result = new Header();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeHeader(JsonGenerator generator, Header value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static RequestEntries readRequestEntries(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RequestEntries result = new RequestEntries();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "cacheDataEntries":
+          result.setCacheDataEntries(
+              JsonCodecs.readList(parser, CacheStorageCodecs::readDataEntry));
+          break;
+        case "returnCount":
+          result.setReturnCount(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRequestEntries(JsonGenerator generator, RequestEntries value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getCacheDataEntries() != null) {
+      generator.writeFieldName("cacheDataEntries");
+      JsonCodecs.writeList(
+          generator, value.getCacheDataEntries(), CacheStorageCodecs::writeDataEntry);
+    }
+    if (value.getReturnCount() != null) {
+      generator.writeFieldName("returnCount");
+      JsonCodecs.writeDouble(generator, value.getReturnCount());
+    }
+    generator.writeEndObject();
+  }
+}
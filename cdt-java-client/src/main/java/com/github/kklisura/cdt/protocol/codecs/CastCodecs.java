@@ -0,0 +1,131 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.cast.IssueUpdated;
+import com.github.kklisura.cdt.protocol.events.cast.SinksUpdated;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.cast.Sink;
+import java.io.IOException;
+
+/** Cast domain type and event codecs. */
+public final class CastCodecs {
+
+  private CastCodecs() {}
+
+  /**
+   * Registers Cast codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(Sink.class, CastCodecs::readSink, CastCodecs::writeSink);
+    module.addReader(IssueUpdated.class, CastCodecs::readIssueUpdated);
+    module.addReader(SinksUpdated.class, CastCodecs::readSinksUpdated);
+  }
+
+  public static Sink readSink(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Sink result = new Sink();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "id":
+          result.setId(JsonCodecs.readString(parser));
+          break;
+        case "session":
+          result.setSession(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSink(JsonGenerator generator, Sink value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeString(generator, value.getId());
+    }
+    if (value.getSession() != null) {
+      generator.writeFieldName("session");
+      JsonCodecs.writeString(generator, value.getSession());
+    }
+    generator.writeEndObject();
+  }
+
+  public static IssueUpdated readIssueUpdated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    IssueUpdated result = new IssueUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "issueMessage":
+          result.setIssueMessage(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static SinksUpdated readSinksUpdated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SinksUpdated result = new SinksUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "sinks":
+          result.setSinks(JsonCodecs.readList(parser, CastCodecs::readSink));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
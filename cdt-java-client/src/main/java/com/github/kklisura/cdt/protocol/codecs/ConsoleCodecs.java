@@ -0,0 +1,227 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.console.MessageAdded;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.console.ConsoleMessage;
+import com.github.kklisura.cdt.protocol.types.console.ConsoleMessageLevel;
+import com.github.kklisura.cdt.protocol.types.console.ConsoleMessageSource;
+import java.io.IOException;
+
+/** Console domain type and event codecs. */
+public final class ConsoleCodecs {
+
+  private static final String[] CONSOLE_MESSAGE_LEVEL_VALUES = {
+    "log", "warning", "error", "debug", "info"
+  };
+
+  private static final String[] CONSOLE_MESSAGE_SOURCE_VALUES = {
+    "xml",
+    "javascript",
+    "network",
+    "console-api",
+    "storage",
+    "appcache",
+    "rendering",
+    "security",
+    "other",
+    "deprecation",
+    "worker"
+  };
+
+  private ConsoleCodecs() {}
+
+  /**
+   * Registers Console codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        ConsoleMessage.class,
+        ConsoleCodecs::readConsoleMessage,
+        ConsoleCodecs::writeConsoleMessage);
+    module.addCodec(
+        ConsoleMessageLevel.class,
+        ConsoleCodecs::readConsoleMessageLevel,
+        ConsoleCodecs::writeConsoleMessageLevel);
+    module.addCodec(
+        ConsoleMessageSource.class,
+        ConsoleCodecs::readConsoleMessageSource,
+        ConsoleCodecs::writeConsoleMessageSource);
+    module.addReader(MessageAdded.class, ConsoleCodecs::readMessageAdded);
+  }
+
+  public static ConsoleMessage readConsoleMessage(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ConsoleMessage result = new ConsoleMessage();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "source":
+          result.setSource(readConsoleMessageSource(parser));
+          break;
+        case "level":
+          result.setLevel(readConsoleMessageLevel(parser));
+          break;
+        case "text":
+          result.setText(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "line":
+          result.setLine(JsonCodecs.readInteger(parser));
+          break;
+        case "column":
+          result.setColumn(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeConsoleMessage(JsonGenerator generator, ConsoleMessage value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getSource() != null) {
+      generator.writeFieldName("source");
+      writeConsoleMessageSource(generator, value.getSource());
+    }
+    if (value.getLevel() != null) {
+      generator.writeFieldName("level");
+      writeConsoleMessageLevel(generator, value.getLevel());
+    }
+    if (value.getText() != null) {
+      generator.writeFieldName("text");
+      JsonCodecs.writeString(generator, value.getText());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getLine() != null) {
+      generator.writeFieldName("line");
+      JsonCodecs.writeInteger(generator, value.getLine());
+    }
+    if (value.getColumn() != null) {
+      generator.writeFieldName("column");
+      JsonCodecs.writeInteger(generator, value.getColumn());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ConsoleMessageLevel readConsoleMessageLevel(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "log":
+        return ConsoleMessageLevel.LOG;
+      case "warning":
+        return ConsoleMessageLevel.WARNING;
+      case "error":
+        return ConsoleMessageLevel.ERROR;
+      case "debug":
+        return ConsoleMessageLevel.DEBUG;
+      case "info":
+        return ConsoleMessageLevel.INFO;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ConsoleMessageLevel.class, value);
+    }
+  }
+
+  public static void writeConsoleMessageLevel(JsonGenerator generator, ConsoleMessageLevel value)
+      throws IOException {
+    generator.writeString(CONSOLE_MESSAGE_LEVEL_VALUES[value.ordinal()]);
+  }
+
+  public static ConsoleMessageSource readConsoleMessageSource(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "xml":
+        return ConsoleMessageSource.XML;
+      case "javascript":
+        return ConsoleMessageSource.JAVASCRIPT;
+      case "network":
+        return ConsoleMessageSource.NETWORK;
+      case "console-api":
+        return ConsoleMessageSource.CONSOLE_API;
+      case "storage":
+        return ConsoleMessageSource.STORAGE;
+      case "appcache":
+        return ConsoleMessageSource.APPCACHE;
+      case "rendering":
+        return ConsoleMessageSource.RENDERING;
+      case "security":
+        return ConsoleMessageSource.SECURITY;
+      case "other":
+        return ConsoleMessageSource.OTHER;
+      case "deprecation":
+        return ConsoleMessageSource.DEPRECATION;
+      case "worker":
+        return ConsoleMessageSource.WORKER;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ConsoleMessageSource.class, value);
+    }
+  }
+
+  public static void writeConsoleMessageSource(JsonGenerator generator, ConsoleMessageSource value)
+      throws IOException {
+    generator.writeString(CONSOLE_MESSAGE_SOURCE_VALUES[value.ordinal()]);
+  }
+
+  public static MessageAdded readMessageAdded(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    MessageAdded result = new MessageAdded();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "message":
+          result.setMessage(readConsoleMessage(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
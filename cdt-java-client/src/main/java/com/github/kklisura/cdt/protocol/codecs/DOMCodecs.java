@@ -0,0 +1,1091 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.dom.AttributeModified;
+import com.github.kklisura.cdt.protocol.events.dom.AttributeRemoved;
+import com.github.kklisura.cdt.protocol.events.dom.CharacterDataModified;
+import com.github.kklisura.cdt.protocol.events.dom.ChildNodeCountUpdated;
+import com.github.kklisura.cdt.protocol.events.dom.ChildNodeInserted;
+import com.github.kklisura.cdt.protocol.events.dom.ChildNodeRemoved;
+import com.github.kklisura.cdt.protocol.events.dom.DistributedNodesUpdated;
+import com.github.kklisura.cdt.protocol.events.dom.DocumentUpdated;
+import com.github.kklisura.cdt.protocol.events.dom.InlineStyleInvalidated;
+import com.github.kklisura.cdt.protocol.events.dom.PseudoElementAdded;
+import com.github.kklisura.cdt.protocol.events.dom.PseudoElementRemoved;
+import com.github.kklisura.cdt.protocol.events.dom.SetChildNodes;
+import com.github.kklisura.cdt.protocol.events.dom.ShadowRootPopped;
+import com.github.kklisura.cdt.protocol.events.dom.ShadowRootPushed;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.dom.BackendNode;
+import com.github.kklisura.cdt.protocol.types.dom.BoxModel;
+import com.github.kklisura.cdt.protocol.types.dom.FrameOwner;
+import com.github.kklisura.cdt.protocol.types.dom.Node;
+import com.github.kklisura.cdt.protocol.types.dom.NodeForLocation;
+import com.github.kklisura.cdt.protocol.types.dom.PerformSearch;
+import com.github.kklisura.cdt.protocol.types.dom.PseudoType;
+import com.github.kklisura.cdt.protocol.types.dom.RGBA;
+import com.github.kklisura.cdt.protocol.types.dom.Rect;
+import com.github.kklisura.cdt.protocol.types.dom.ShadowRootType;
+import com.github.kklisura.cdt.protocol.types.dom.ShapeOutsideInfo;
+import java.io.IOException;
+
+/** DOM domain type and event codecs. */
+public final class DOMCodecs {
+
+  private static final String[] PSEUDO_TYPE_VALUES = {
+    "first-line",
+    "first-letter",
+    "before",
+    "after",
+    "backdrop",
+    "selection",
+    "first-line-inherited",
+    "scrollbar",
+    "scrollbar-thumb",
+    "scrollbar-button",
+    "scrollbar-track",
+    "scrollbar-track-piece",
+    "scrollbar-corner",
+    "resizer",
+    "input-list-button"
+  };
+
+  private static final String[] SHADOW_ROOT_TYPE_VALUES = {"user-agent", "open", "closed"};
+
+  private DOMCodecs() {}
+
+  /**
+   * Registers DOM codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(BackendNode.class, DOMCodecs::readBackendNode, DOMCodecs::writeBackendNode);
+    module.addCodec(BoxModel.class, DOMCodecs::readBoxModel, DOMCodecs::writeBoxModel);
+    module.addCodec(FrameOwner.class, DOMCodecs::readFrameOwner, DOMCodecs::writeFrameOwner);
+    module.addCodec(Node.class, DOMCodecs::readNode, DOMCodecs::writeNode);
+    module.addCodec(
+        NodeForLocation.class, DOMCodecs::readNodeForLocation, DOMCodecs::writeNodeForLocation);
+    module.addCodec(
+        PerformSearch.class, DOMCodecs::readPerformSearch, DOMCodecs::writePerformSearch);
+    module.addCodec(PseudoType.class, DOMCodecs::readPseudoType, DOMCodecs::writePseudoType);
+    module.addCodec(RGBA.class, DOMCodecs::readRGBA, DOMCodecs::writeRGBA);
+    module.addCodec(Rect.class, DOMCodecs::readRect, DOMCodecs::writeRect);
+    module.addCodec(
+        ShadowRootType.class, DOMCodecs::readShadowRootType, DOMCodecs::writeShadowRootType);
+    module.addCodec(
+        ShapeOutsideInfo.class, DOMCodecs::readShapeOutsideInfo, DOMCodecs::writeShapeOutsideInfo);
+    module.addReader(AttributeModified.class, DOMCodecs::readAttributeModified);
+    module.addReader(AttributeRemoved.class, DOMCodecs::readAttributeRemoved);
+    module.addReader(CharacterDataModified.class, DOMCodecs::readCharacterDataModified);
+    module.addReader(ChildNodeCountUpdated.class, DOMCodecs::readChildNodeCountUpdated);
+    module.addReader(ChildNodeInserted.class, DOMCodecs::readChildNodeInserted);
+    module.addReader(ChildNodeRemoved.class, DOMCodecs::readChildNodeRemoved);
+    module.addReader(DistributedNodesUpdated.class, DOMCodecs::readDistributedNodesUpdated);
+    module.addReader(DocumentUpdated.class, DOMCodecs::readDocumentUpdated);
+    module.addReader(InlineStyleInvalidated.class, DOMCodecs::readInlineStyleInvalidated);
+    module.addReader(PseudoElementAdded.class, DOMCodecs::readPseudoElementAdded);
+    module.addReader(PseudoElementRemoved.class, DOMCodecs::readPseudoElementRemoved);
+    module.addReader(SetChildNodes.class, DOMCodecs::readSetChildNodes);
+    module.addReader(ShadowRootPopped.class, DOMCodecs::readShadowRootPopped);
+    module.addReader(ShadowRootPushed.class, DOMCodecs::readShadowRootPushed);
+  }
+
+  public static BackendNode readBackendNode(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BackendNode result = new BackendNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeType":
+          result.setNodeType(JsonCodecs.readInteger(parser));
+          break;
+        case "nodeName":
+          result.setNodeName(JsonCodecs.readString(parser));
+          break;
+        case "backendNodeId":
+          result.setBackendNodeId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBackendNode(JsonGenerator generator, BackendNode value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getNodeType() != null) {
+      generator.writeFieldName("nodeType");
+      JsonCodecs.writeInteger(generator, value.getNodeType());
+    }
+    if (value.getNodeName() != null) {
+      generator.writeFieldName("nodeName");
+      JsonCodecs.writeString(generator, value.getNodeName());
+    }
+    if (value.getBackendNodeId() != null) {
+      generator.writeFieldName("backendNodeId");
+      JsonCodecs.writeInteger(generator, value.getBackendNodeId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static BoxModel readBoxModel(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BoxModel result = new BoxModel();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "content":
+          result.setContent(JsonCodecs.readList(parser, JsonCodecs::readDouble));
+          break;
+        case "padding":
+          result.setPadding(JsonCodecs.readList(parser, JsonCodecs::readDouble));
+          break;
+        case "border":
+          result.setBorder(JsonCodecs.readList(parser, JsonCodecs::readDouble));
+          break;
+        case "margin":
+          result.setMargin(JsonCodecs.readList(parser, JsonCodecs::readDouble));
+          break;
+        case "width":
+          result.setWidth(JsonCodecs.readInteger(parser));
+          break;
+        case "height":
+          result.setHeight(JsonCodecs.readInteger(parser));
+          break;
+        case "shapeOutside":
+          result.setShapeOutside(readShapeOutsideInfo(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBoxModel(JsonGenerator generator, BoxModel value) throws IOException {
+    generator.writeStartObject();
+    if (value.getContent() != null) {
+      generator.writeFieldName("content");
+      JsonCodecs.writeList(generator, value.getContent(), JsonCodecs::writeDouble);
+    }
+    if (value.getPadding() != null) {
+      generator.writeFieldName("padding");
+      JsonCodecs.writeList(generator, value.getPadding(), JsonCodecs::writeDouble);
+    }
+    if (value.getBorder() != null) {
+      generator.writeFieldName("border");
+      JsonCodecs.writeList(generator, value.getBorder(), JsonCodecs::writeDouble);
+    }
+    if (value.getMargin() != null) {
+      generator.writeFieldName("margin");
+      JsonCodecs.writeList(generator, value.getMargin(), JsonCodecs::writeDouble);
+    }
+    if (value.getWidth() != null) {
+      generator.writeFieldName("width");
+      JsonCodecs.writeInteger(generator, value.getWidth());
+    }
+    if (value.getHeight() != null) {
+      generator.writeFieldName("height");
+      JsonCodecs.writeInteger(generator, value.getHeight());
+    }
+    if (value.getShapeOutside() != null) {
+      generator.writeFieldName("shapeOutside");
+      writeShapeOutsideInfo(generator, value.getShapeOutside());
+    }
+    generator.writeEndObject();
+  }
+
+  public static FrameOwner readFrameOwner(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameOwner result = new FrameOwner();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "backendNodeId":
+          result.setBackendNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeFrameOwner(JsonGenerator generator, FrameOwner value) throws IOException {
+    generator.writeStartObject();
+    if (value.getBackendNodeId() != null) {
+      generator.writeFieldName("backendNodeId");
+      JsonCodecs.writeInteger(generator, value.getBackendNodeId());
+    }
+    if (value.getNodeId() != null) {
+      generator.writeFieldName("nodeId");
+      JsonCodecs.writeInteger(generator, value.getNodeId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Node readNode(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Node result = new Node();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "parentId":
+          result.setParentId(JsonCodecs.readInteger(parser));
+          break;
+        case "backendNodeId":
+          result.setBackendNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "nodeType":
+          result.setNodeType(JsonCodecs.readInteger(parser));
+          break;
+        case "nodeName":
+          result.setNodeName(JsonCodecs.readString(parser));
+          break;
+        case "localName":
+          result.setLocalName(JsonCodecs.readString(parser));
+          break;
+        case "nodeValue":
+          result.setNodeValue(JsonCodecs.readString(parser));
+          break;
+        case "childNodeCount":
+          result.setChildNodeCount(JsonCodecs.readInteger(parser));
+          break;
+        case "children":
+          result.setChildren(JsonCodecs.readList(parser, DOMCodecs::readNode));
+          break;
+        case "attributes":
+          result.setAttributes(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "documentURL":
+          result.setDocumentURL(JsonCodecs.readString(parser));
+          break;
+        case "baseURL":
+          result.setBaseURL(JsonCodecs.readString(parser));
+          break;
+        case "publicId":
+          result.setPublicId(JsonCodecs.readString(parser));
+          break;
+        case "systemId":
+          result.setSystemId(JsonCodecs.readString(parser));
+          break;
+        case "internalSubset":
+          result.setInternalSubset(JsonCodecs.readString(parser));
+          break;
+        case "xmlVersion":
+          result.setXmlVersion(JsonCodecs.readString(parser));
+          break;
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        case "pseudoType":
+          result.setPseudoType(readPseudoType(parser));
+          break;
+        case "shadowRootType":
+          result.setShadowRootType(readShadowRootType(parser));
+          break;
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "contentDocument":
+          result.setContentDocument(readNode(parser));
+          break;
+        case "shadowRoots":
+          result.setShadowRoots(JsonCodecs.readList(parser, DOMCodecs::readNode));
+          break;
+        case "templateContent":
+          result.setTemplateContent(readNode(parser));
+          break;
+        case "pseudoElements":
+          result.setPseudoElements(JsonCodecs.readList(parser, DOMCodecs::readNode));
+          break;
+        case "importedDocument":
+          result.setImportedDocument(readNode(parser));
+          break;
+        case "distributedNodes":
+          result.setDistributedNodes(JsonCodecs.readList(parser, DOMCodecs::readBackendNode));
+          break;
+        case "isSVG":
+          result.setIsSVG(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeNode(JsonGenerator generator, Node value) throws IOException {
+    generator.writeStartObject();
+    if (value.getNodeId() != null) {
+      generator.writeFieldName("nodeId");
+      JsonCodecs.writeInteger(generator, value.getNodeId());
+    }
+    if (value.getParentId() != null) {
+      generator.writeFieldName("parentId");
+      JsonCodecs.writeInteger(generator, value.getParentId());
+    }
+    if (value.getBackendNodeId() != null) {
+      generator.writeFieldName("backendNodeId");
+      JsonCodecs.writeInteger(generator, value.getBackendNodeId());
+    }
+    if (value.getNodeType() != null) {
+      generator.writeFieldName("nodeType");
+      JsonCodecs.writeInteger(generator, value.getNodeType());
+    }
+    if (value.getNodeName() != null) {
+      generator.writeFieldName("nodeName");
+      JsonCodecs.writeString(generator, value.getNodeName());
+    }
+    if (value.getLocalName() != null) {
+      generator.writeFieldName("localName");
+      JsonCodecs.writeString(generator, value.getLocalName());
+    }
+    if (value.getNodeValue() != null) {
+      generator.writeFieldName("nodeValue");
+      JsonCodecs.writeString(generator, value.getNodeValue());
+    }
+    if (value.getChildNodeCount() != null) {
+      generator.writeFieldName("childNodeCount");
+      JsonCodecs.writeInteger(generator, value.getChildNodeCount());
+    }
+    if (value.getChildren() != null) {
+      generator.writeFieldName("children");
+      JsonCodecs.writeList(generator, value.getChildren(), DOMCodecs::writeNode);
+    }
+    if (value.getAttributes() != null) {
+      generator.writeFieldName("attributes");
+      JsonCodecs.writeList(generator, value.getAttributes(), JsonCodecs::writeString);
+    }
+    if (value.getDocumentURL() != null) {
+      generator.writeFieldName("documentURL");
+      JsonCodecs.writeString(generator, value.getDocumentURL());
+    }
+    if (value.getBaseURL() != null) {
+      generator.writeFieldName("baseURL");
+      JsonCodecs.writeString(generator, value.getBaseURL());
+    }
+    if (value.getPublicId() != null) {
+      generator.writeFieldName("publicId");
+      JsonCodecs.writeString(generator, value.getPublicId());
+    }
+    if (value.getSystemId() != null) {
+      generator.writeFieldName("systemId");
+      JsonCodecs.writeString(generator, value.getSystemId());
+    }
+    if (value.getInternalSubset() != null) {
+      generator.writeFieldName("internalSubset");
+      JsonCodecs.writeString(generator, value.getInternalSubset());
+    }
+    if (value.getXmlVersion() != null) {
+      generator.writeFieldName("xmlVersion");
+      JsonCodecs.writeString(generator, value.getXmlVersion());
+    }
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    if (value.getPseudoType() != null) {
+      generator.writeFieldName("pseudoType");
+      writePseudoType(generator, value.getPseudoType());
+    }
+    if (value.getShadowRootType() != null) {
+      generator.writeFieldName("shadowRootType");
+      writeShadowRootType(generator, value.getShadowRootType());
+    }
+    if (value.getFrameId() != null) {
+      generator.writeFieldName("frameId");
+      JsonCodecs.writeString(generator, value.getFrameId());
+    }
+    if (value.getContentDocument() != null) {
+      generator.writeFieldName("contentDocument");
+      writeNode(generator, value.getContentDocument());
+    }
+    if (value.getShadowRoots() != null) {
+      generator.writeFieldName("shadowRoots");
+      JsonCodecs.writeList(generator, value.getShadowRoots(), DOMCodecs::writeNode);
+    }
+    if (value.getTemplateContent() != null) {
+      generator.writeFieldName("templateContent");
+      writeNode(generator, value.getTemplateContent());
+    }
+    if (value.getPseudoElements() != null) {
+      generator.writeFieldName("pseudoElements");
+      JsonCodecs.writeList(generator, value.getPseudoElements(), DOMCodecs::writeNode);
+    }
+    if (value.getImportedDocument() != null) {
+      generator.writeFieldName("importedDocument");
+      writeNode(generator, value.getImportedDocument());
+    }
+    if (value.getDistributedNodes() != null) {
+      generator.writeFieldName("distributedNodes");
+      JsonCodecs.writeList(generator, value.getDistributedNodes(), DOMCodecs::writeBackendNode);
+    }
+    if (value.getIsSVG() != null) {
+      generator.writeFieldName("isSVG");
+      JsonCodecs.writeBoolean(generator, value.getIsSVG());
+    }
+    generator.writeEndObject();
+  }
+
+  public static NodeForLocation readNodeForLocation(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NodeForLocation result = new NodeForLocation();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "backendNodeId":
+          result.setBackendNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeNodeForLocation(JsonGenerator generator, NodeForLocation value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBackendNodeId() != null) {
+      generator.writeFieldName("backendNodeId");
+      JsonCodecs.writeInteger(generator, value.getBackendNodeId());
+    }
+    if (value.getNodeId() != null) {
+      generator.writeFieldName("nodeId");
+      JsonCodecs.writeInteger(generator, value.getNodeId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PerformSearch readPerformSearch(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PerformSearch result = new PerformSearch();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "searchId":
+          result.setSearchId(JsonCodecs.readString(parser));
+          break;
+        case "resultCount":
+          result.setResultCount(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePerformSearch(JsonGenerator generator, PerformSearch value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getSearchId() != null) {
+      generator.writeFieldName("searchId");
+      JsonCodecs.writeString(generator, value.getSearchId());
+    }
+    if (value.getResultCount() != null) {
+      generator.writeFieldName("resultCount");
+      JsonCodecs.writeInteger(generator, value.getResultCount());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PseudoType readPseudoType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "first-line":
+        return PseudoType.FIRST_LINE;
+      case "first-letter":
+        return PseudoType.FIRST_LETTER;
+      case "before":
+        return PseudoType.BEFORE;
+      case "after":
+        return PseudoType.AFTER;
+      case "backdrop":
+        return PseudoType.BACKDROP;
+      case "selection":
+        return PseudoType.SELECTION;
+      case "first-line-inherited":
+        return PseudoType.FIRST_LINE_INHERITED;
+      case "scrollbar":
+        return PseudoType.SCROLLBAR;
+      case "scrollbar-thumb":
+        return PseudoType.SCROLLBAR_THUMB;
+      case "scrollbar-button":
+        return PseudoType.SCROLLBAR_BUTTON;
+      case "scrollbar-track":
+        return PseudoType.SCROLLBAR_TRACK;
+      case "scrollbar-track-piece":
+        return PseudoType.SCROLLBAR_TRACK_PIECE;
+      case "scrollbar-corner":
+        return PseudoType.SCROLLBAR_CORNER;
+      case "resizer":
+        return PseudoType.RESIZER;
+      case "input-list-button":
+        return PseudoType.INPUT_LIST_BUTTON;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, PseudoType.class, value);
+    }
+  }
+
+  public static void writePseudoType(JsonGenerator generator, PseudoType value) throws IOException {
+    generator.writeString(PSEUDO_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static RGBA readRGBA(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RGBA result = new RGBA();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "r":
+          result.setR(JsonCodecs.readInteger(parser));
+          break;
+        case "g":
+          result.setG(JsonCodecs.readInteger(parser));
+          break;
+        case "b":
+          result.setB(JsonCodecs.readInteger(parser));
+          break;
+        case "a":
+          result.setA(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRGBA(JsonGenerator generator, RGBA value) throws IOException {
+    generator.writeStartObject();
+    if (value.getR() != null) {
+      generator.writeFieldName("r");
+      JsonCodecs.writeInteger(generator, value.getR());
+    }
+    if (value.getG() != null) {
+      generator.writeFieldName("g");
+      JsonCodecs.writeInteger(generator, value.getG());
+    }
+    if (value.getB() != null) {
+      generator.writeFieldName("b");
+      JsonCodecs.writeInteger(generator, value.getB());
+    }
+    if (value.getA() != null) {
+      generator.writeFieldName("a");
+      JsonCodecs.writeDouble(generator, value.getA());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Rect readRect(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Rect result = new Rect();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "x":
+          result.setX(JsonCodecs.readDouble(parser));
+          break;
+        case "y":
+          result.setY(JsonCodecs.readDouble(parser));
+          break;
+        case "width":
+          result.setWidth(JsonCodecs.readDouble(parser));
+          break;
+        case "height":
+          result.setHeight(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRect(JsonGenerator generator, Rect value) throws IOException {
+    generator.writeStartObject();
+    if (value.getX() != null) {
+      generator.writeFieldName("x");
+      JsonCodecs.writeDouble(generator, value.getX());
+    }
+    if (value.getY() != null) {
+      generator.writeFieldName("y");
+      JsonCodecs.writeDouble(generator, value.getY());
+    }
+    if (value.getWidth() != null) {
+      generator.writeFieldName("width");
+      JsonCodecs.writeDouble(generator, value.getWidth());
+    }
+    if (value.getHeight() != null) {
+      generator.writeFieldName("height");
+      JsonCodecs.writeDouble(generator, value.getHeight());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ShadowRootType readShadowRootType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "user-agent":
+        return ShadowRootType.USER_AGENT;
+      case "open":
+        return ShadowRootType.OPEN;
+      case "closed":
+        return ShadowRootType.CLOSED;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ShadowRootType.class, value);
+    }
+  }
+
+  public static void writeShadowRootType(JsonGenerator generator, ShadowRootType value)
+      throws IOException {
+    generator.writeString(SHADOW_ROOT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static ShapeOutsideInfo readShapeOutsideInfo(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ShapeOutsideInfo result = new ShapeOutsideInfo();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "bounds":
+          result.setBounds(JsonCodecs.readList(parser, JsonCodecs::readDouble));
+          break;
+        case "shape":
+          result.setShape(JsonCodecs.readList(parser, JsonCodecs::readObject));
+          break;
+        case "marginShape":
+          result.setMarginShape(JsonCodecs.readList(parser, JsonCodecs::readObject));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeShapeOutsideInfo(JsonGenerator generator, ShapeOutsideInfo value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBounds() != null) {
+      generator.writeFieldName("bounds");
+      JsonCodecs.writeList(generator, value.getBounds(), JsonCodecs::writeDouble);
+    }
+    if (value.getShape() != null) {
+      generator.writeFieldName("shape");
+      JsonCodecs.writeList(generator, value.getShape(), JsonCodecs::writeObject);
+    }
+    if (value.getMarginShape() != null) {
+      generator.writeFieldName("marginShape");
+      JsonCodecs.writeList(generator, value.getMarginShape(), JsonCodecs::writeObject);
+    }
+    generator.writeEndObject();
+  }
+
+  public static AttributeModified readAttributeModified(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AttributeModified result = new AttributeModified();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static AttributeRemoved readAttributeRemoved(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AttributeRemoved result = new AttributeRemoved();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static CharacterDataModified readCharacterDataModified(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CharacterDataModified result = new CharacterDataModified();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "characterData":
+          result.setCharacterData(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ChildNodeCountUpdated readChildNodeCountUpdated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ChildNodeCountUpdated result = new ChildNodeCountUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "childNodeCount":
+          result.setChildNodeCount(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ChildNodeInserted readChildNodeInserted(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ChildNodeInserted result = new ChildNodeInserted();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "parentNodeId":
+          result.setParentNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "previousNodeId":
+          result.setPreviousNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "node":
+          result.setNode(readNode(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ChildNodeRemoved readChildNodeRemoved(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ChildNodeRemoved result = new ChildNodeRemoved();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "parentNodeId":
+          result.setParentNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static DistributedNodesUpdated readDistributedNodesUpdated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DistributedNodesUpdated result = new DistributedNodesUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "insertionPointId":
+          result.setInsertionPointId(JsonCodecs.readInteger(parser));
+          break;
+        case "distributedNodes":
+          result.setDistributedNodes(JsonCodecs.readList(parser, DOMCodecs::readBackendNode));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static DocumentUpdated readDocumentUpdated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DocumentUpdated result = new DocumentUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return result;
+  }
+
+  public static InlineStyleInvalidated readInlineStyleInvalidated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InlineStyleInvalidated result = new InlineStyleInvalidated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeIds":
+          result.setNodeIds(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static PseudoElementAdded readPseudoElementAdded(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PseudoElementAdded result = new PseudoElementAdded();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "parentId":
+          result.setParentId(JsonCodecs.readInteger(parser));
+          break;
+        case "pseudoElement":
+          result.setPseudoElement(readNode(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static PseudoElementRemoved readPseudoElementRemoved(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PseudoElementRemoved result = new PseudoElementRemoved();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "parentId":
+          result.setParentId(JsonCodecs.readInteger(parser));
+          break;
+        case "pseudoElementId":
+          result.setPseudoElementId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static SetChildNodes readSetChildNodes(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SetChildNodes result = new SetChildNodes();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "parentId":
+          result.setParentId(JsonCodecs.readInteger(parser));
+          break;
+        case "nodes":
+          result.setNodes(JsonCodecs.readList(parser, DOMCodecs::readNode));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ShadowRootPopped readShadowRootPopped(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ShadowRootPopped result = new ShadowRootPopped();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "hostId":
+          result.setHostId(JsonCodecs.readInteger(parser));
+          break;
+        case "rootId":
+          result.setRootId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ShadowRootPushed readShadowRootPushed(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ShadowRootPushed result = new ShadowRootPushed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "hostId":
+          result.setHostId(JsonCodecs.readInteger(parser));
+          break;
+        case "root":
+          result.setRoot(readNode(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,171 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.domdebugger.DOMBreakpointType;
+import com.github.kklisura.cdt.protocol.types.domdebugger.EventListener;
+import java.io.IOException;
+
+/** DOMDebugger domain type and event codecs. */
+public final class DOMDebuggerCodecs {
+
+  private static final String[] DOM_BREAKPOINT_TYPE_VALUES = {
+    "subtree-modified", "attribute-modified", "node-removed"
+  };
+
+  private DOMDebuggerCodecs() {}
+
+  /**
+   * Registers DOMDebugger codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        DOMBreakpointType.class,
+        DOMDebuggerCodecs::readDOMBreakpointType,
+        DOMDebuggerCodecs::writeDOMBreakpointType);
+    module.addCodec(
+        EventListener.class,
+        DOMDebuggerCodecs::readEventListener,
+        DOMDebuggerCodecs::writeEventListener);
+  }
+
+  public static DOMBreakpointType readDOMBreakpointType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "subtree-modified":
+        return DOMBreakpointType.SUBTREE_MODIFIED;
+      case "attribute-modified":
+        return DOMBreakpointType.ATTRIBUTE_MODIFIED;
+      case "node-removed":
+        return DOMBreakpointType.NODE_REMOVED;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, DOMBreakpointType.class, value);
+    }
+  }
+
+  public static void writeDOMBreakpointType(JsonGenerator generator, DOMBreakpointType value)
+      throws IOException {
+    generator.writeString(DOM_BREAKPOINT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static EventListener readEventListener(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    EventListener result = new EventListener();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(JsonCodecs.readString(parser));
+          break;
+        case "useCapture":
+          result.setUseCapture(JsonCodecs.readBoolean(parser));
+          break;
+        case "passive":
+          result.setPassive(JsonCodecs.readBoolean(parser));
+          break;
+        case "once":
+          result.setOnce(JsonCodecs.readBoolean(parser));
+          break;
+        case "scriptId":
+          result.setScriptId(JsonCodecs.readString(parser));
+          break;
+        case "lineNumber":
+          result.setLineNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "columnNumber":
+          result.setColumnNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "handler":
+          result.setHandler(RuntimeCodecs.readRemoteObject(parser));
+          break;
+        case "originalHandler":
+          result.setOriginalHandler(RuntimeCodecs.readRemoteObject(parser));
+          break;
+        case "backendNodeId":
+          result.setBackendNodeId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeEventListener(JsonGenerator generator, EventListener value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      JsonCodecs.writeString(generator, value.getType());
+    }
+    if (value.getUseCapture() != null) {
+      generator.writeFieldName("useCapture");
+      JsonCodecs.writeBoolean(generator, value.getUseCapture());
+    }
+    if (value.getPassive() != null) {
+      generator.writeFieldName("passive");
+      JsonCodecs.writeBoolean(generator, value.getPassive());
+    }
+    if (value.getOnce() != null) {
+      generator.writeFieldName("once");
+      JsonCodecs.writeBoolean(generator, value.getOnce());
+    }
+    if (value.getScriptId() != null) {
+      generator.writeFieldName("scriptId");
+      JsonCodecs.writeString(generator, value.getScriptId());
+    }
+    if (value.getLineNumber() != null) {
+      generator.writeFieldName("lineNumber");
+      JsonCodecs.writeInteger(generator, value.getLineNumber());
+    }
+    if (value.getColumnNumber() != null) {
+      generator.writeFieldName("columnNumber");
+      JsonCodecs.writeInteger(generator, value.getColumnNumber());
+    }
+    if (value.getHandler() != null) {
+      generator.writeFieldName("handler");
+      RuntimeCodecs.writeRemoteObject(generator, value.getHandler());
+    }
+    if (value.getOriginalHandler() != null) {
+      generator.writeFieldName("originalHandler");
+      RuntimeCodecs.writeRemoteObject(generator, value.getOriginalHandler());
+    }
+    if (value.getBackendNodeId() != null) {
+      generator.writeFieldName("backendNodeId");
+      JsonCodecs.writeInteger(generator, value.getBackendNodeId());
+    }
+    generator.writeEndObject();
+  }
+}
@@ -0,0 +1,1084 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.CaptureSnapshot;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.ComputedStyle;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.DOMNode;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.DocumentSnapshot;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.InlineTextBox;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.LayoutTreeNode;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.LayoutTreeSnapshot;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.NameValue;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.NodeTreeSnapshot;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.RareBooleanData;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.RareIntegerData;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.RareStringData;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.Snapshot;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.TextBoxSnapshot;
+import java.io.IOException;
+
+/** DOMSnapshot domain type and event codecs. */
+public final class DOMSnapshotCodecs {
+
+  private DOMSnapshotCodecs() {}
+
+  /**
+   * Registers DOMSnapshot codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        CaptureSnapshot.class,
+        DOMSnapshotCodecs::readCaptureSnapshot,
+        DOMSnapshotCodecs::writeCaptureSnapshot);
+    module.addCodec(
+        ComputedStyle.class,
+        DOMSnapshotCodecs::readComputedStyle,
+        DOMSnapshotCodecs::writeComputedStyle);
+    module.addCodec(DOMNode.class, DOMSnapshotCodecs::readDOMNode, DOMSnapshotCodecs::writeDOMNode);
+    module.addCodec(
+        DocumentSnapshot.class,
+        DOMSnapshotCodecs::readDocumentSnapshot,
+        DOMSnapshotCodecs::writeDocumentSnapshot);
+    module.addCodec(
+        InlineTextBox.class,
+        DOMSnapshotCodecs::readInlineTextBox,
+        DOMSnapshotCodecs::writeInlineTextBox);
+    module.addCodec(
+        LayoutTreeNode.class,
+        DOMSnapshotCodecs::readLayoutTreeNode,
+        DOMSnapshotCodecs::writeLayoutTreeNode);
+    module.addCodec(
+        LayoutTreeSnapshot.class,
+        DOMSnapshotCodecs::readLayoutTreeSnapshot,
+        DOMSnapshotCodecs::writeLayoutTreeSnapshot);
+    module.addCodec(
+        NameValue.class, DOMSnapshotCodecs::readNameValue, DOMSnapshotCodecs::writeNameValue);
+    module.addCodec(
+        NodeTreeSnapshot.class,
+        DOMSnapshotCodecs::readNodeTreeSnapshot,
+        DOMSnapshotCodecs::writeNodeTreeSnapshot);
+    module.addCodec(
+        RareBooleanData.class,
+        DOMSnapshotCodecs::readRareBooleanData,
+        DOMSnapshotCodecs::writeRareBooleanData);
+    module.addCodec(
+        RareIntegerData.class,
+        DOMSnapshotCodecs::readRareIntegerData,
+        DOMSnapshotCodecs::writeRareIntegerData);
+    module.addCodec(
+        RareStringData.class,
+        DOMSnapshotCodecs::readRareStringData,
+        DOMSnapshotCodecs::writeRareStringData);
+    module.addCodec(
+        Snapshot.class, DOMSnapshotCodecs::readSnapshot, DOMSnapshotCodecs::writeSnapshot);
+    module.addCodec(
+        TextBoxSnapshot.class,
+        DOMSnapshotCodecs::readTextBoxSnapshot,
+        DOMSnapshotCodecs::writeTextBoxSnapshot);
+  }
+
+  public static CaptureSnapshot readCaptureSnapshot(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CaptureSnapshot result = new CaptureSnapshot();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "documents":
+          result.setDocuments(JsonCodecs.readList(parser, DOMSnapshotCodecs::readDocumentSnapshot));
+          break;
+        case "strings":
+          result.setStrings(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCaptureSnapshot(JsonGenerator generator, CaptureSnapshot value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getDocuments() != null) {
+      generator.writeFieldName("documents");
+      JsonCodecs.writeList(
+          generator, value.getDocuments(), DOMSnapshotCodecs::writeDocumentSnapshot);
+    }
+    if (value.getStrings() != null) {
+      generator.writeFieldName("strings");
+      JsonCodecs.writeList(generator, value.getStrings(), JsonCodecs::writeString);
+    }
+    generator.writeEndObject();
+  }
+
+  public static ComputedStyle readComputedStyle(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ComputedStyle result = new ComputedStyle();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "properties":
+          result.setProperties(JsonCodecs.readList(parser, DOMSnapshotCodecs::readNameValue));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeComputedStyle(JsonGenerator generator, ComputedStyle value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getProperties() != null) {
+      generator.writeFieldName("properties");
+      JsonCodecs.writeList(generator, value.getProperties(), DOMSnapshotCodecs::writeNameValue);
+    }
+    generator.writeEndObject();
+  }
+
+  public static DOMNode readDOMNode(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DOMNode result = new DOMNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeType":
+          result.setNodeType(JsonCodecs.readInteger(parser));
+          break;
+        case "nodeName":
+          result.setNodeName(JsonCodecs.readString(parser));
+          break;
+        case "nodeValue":
+          result.setNodeValue(JsonCodecs.readString(parser));
+          break;
+        case "textValue":
+          result.setTextValue(JsonCodecs.readString(parser));
+          break;
+        case "inputValue":
+          result.setInputValue(JsonCodecs.readString(parser));
+          break;
+        case "inputChecked":
+          result.setInputChecked(JsonCodecs.readBoolean(parser));
+          break;
+        case "optionSelected":
+          result.setOptionSelected(JsonCodecs.readBoolean(parser));
+          break;
+        case "backendNodeId":
+          result.setBackendNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "childNodeIndexes":
+          result.setChildNodeIndexes(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "attributes":
+          result.setAttributes(JsonCodecs.readList(parser, DOMSnapshotCodecs::readNameValue));
+          break;
+        case "pseudoElementIndexes":
+          result.setPseudoElementIndexes(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "layoutNodeIndex":
+          result.setLayoutNodeIndex(JsonCodecs.readInteger(parser));
+          break;
+        case "documentURL":
+          result.setDocumentURL(JsonCodecs.readString(parser));
+          break;
+        case "baseURL":
+          result.setBaseURL(JsonCodecs.readString(parser));
+          break;
+        case "contentLanguage":
+          result.setContentLanguage(JsonCodecs.readString(parser));
+          break;
+        case "documentEncoding":
+          result.setDocumentEncoding(JsonCodecs.readString(parser));
+          break;
+        case "publicId":
+          result.setPublicId(JsonCodecs.readString(parser));
+          break;
+        case "systemId":
+          result.setSystemId(JsonCodecs.readString(parser));
+          break;
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "contentDocumentIndex":
+          result.setContentDocumentIndex(JsonCodecs.readInteger(parser));
+          break;
+        case "pseudoType":
+          result.setPseudoType(DOMCodecs.readPseudoType(parser));
+          break;
+        case "shadowRootType":
+          result.setShadowRootType(DOMCodecs.readShadowRootType(parser));
+          break;
+        case "isClickable":
+          result.setIsClickable(JsonCodecs.readBoolean(parser));
+          break;
+        case "eventListeners":
+          result.setEventListeners(
+              JsonCodecs.readList(parser, DOMDebuggerCodecs::readEventListener));
+          break;
+        case "currentSourceURL":
+          result.setCurrentSourceURL(JsonCodecs.readString(parser));
+          break;
+        case "originURL":
+          result.setOriginURL(JsonCodecs.readString(parser));
+          break;
+        case "scrollOffsetX":
+          result.setScrollOffsetX(JsonCodecs.readDouble(parser));
+          break;
+        case "scrollOffsetY":
+          result.setScrollOffsetY(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeDOMNode(JsonGenerator generator, DOMNode value) throws IOException {
+    generator.writeStartObject();
+    if (value.getNodeType() != null) {
+      generator.writeFieldName("nodeType");
+      JsonCodecs.writeInteger(generator, value.getNodeType());
+    }
+    if (value.getNodeName() != null) {
+      generator.writeFieldName("nodeName");
+      JsonCodecs.writeString(generator, value.getNodeName());
+    }
+    if (value.getNodeValue() != null) {
+      generator.writeFieldName("nodeValue");
+      JsonCodecs.writeString(generator, value.getNodeValue());
+    }
+    if (value.getTextValue() != null) {
+      generator.writeFieldName("textValue");
+      JsonCodecs.writeString(generator, value.getTextValue());
+    }
+    if (value.getInputValue() != null) {
+      generator.writeFieldName("inputValue");
+      JsonCodecs.writeString(generator, value.getInputValue());
+    }
+    if (value.getInputChecked() != null) {
+      generator.writeFieldName("inputChecked");
+      JsonCodecs.writeBoolean(generator, value.getInputChecked());
+    }
+    if (value.getOptionSelected() != null) {
+      generator.writeFieldName("optionSelected");
+      JsonCodecs.writeBoolean(generator, value.getOptionSelected());
+    }
+    if (value.getBackendNodeId() != null) {
+      generator.writeFieldName("backendNodeId");
+      JsonCodecs.writeInteger(generator, value.getBackendNodeId());
+    }
+    if (value.getChildNodeIndexes() != null) {
+      generator.writeFieldName("childNodeIndexes");
+      JsonCodecs.writeList(generator, value.getChildNodeIndexes(), JsonCodecs::writeInteger);
+    }
+    if (value.getAttributes() != null) {
+      generator.writeFieldName("attributes");
+      JsonCodecs.writeList(generator, value.getAttributes(), DOMSnapshotCodecs::writeNameValue);
+    }
+    if (value.getPseudoElementIndexes() != null) {
+      generator.writeFieldName("pseudoElementIndexes");
+      JsonCodecs.writeList(generator, value.getPseudoElementIndexes(), JsonCodecs::writeInteger);
+    }
+    if (value.getLayoutNodeIndex() != null) {
+      generator.writeFieldName("layoutNodeIndex");
+      JsonCodecs.writeInteger(generator, value.getLayoutNodeIndex());
+    }
+    if (value.getDocumentURL() != null) {
+      generator.writeFieldName("documentURL");
+      JsonCodecs.writeString(generator, value.getDocumentURL());
+    }
+    if (value.getBaseURL() != null) {
+      generator.writeFieldName("baseURL");
+      JsonCodecs.writeString(generator, value.getBaseURL());
+    }
+    if (value.getContentLanguage() != null) {
+      generator.writeFieldName("contentLanguage");
+      JsonCodecs.writeString(generator, value.getContentLanguage());
+    }
+    if (value.getDocumentEncoding() != null) {
+      generator.writeFieldName("documentEncoding");
+      JsonCodecs.writeString(generator, value.getDocumentEncoding());
+    }
+    if (value.getPublicId() != null) {
+      generator.writeFieldName("publicId");
+      JsonCodecs.writeString(generator, value.getPublicId());
+    }
+    if (value.getSystemId() != null) {
+      generator.writeFieldName("systemId");
+      JsonCodecs.writeString(generator, value.getSystemId());
+    }
+    if (value.getFrameId() != null) {
+      generator.writeFieldName("frameId");
+      JsonCodecs.writeString(generator, value.getFrameId());
+    }
+    if (value.getContentDocumentIndex() != null) {
+      generator.writeFieldName("contentDocumentIndex");
+      JsonCodecs.writeInteger(generator, value.getContentDocumentIndex());
+    }
+    if (value.getPseudoType() != null) {
+      generator.writeFieldName("pseudoType");
+      DOMCodecs.writePseudoType(generator, value.getPseudoType());
+    }
+    if (value.getShadowRootType() != null) {
+      generator.writeFieldName("shadowRootType");
+      DOMCodecs.writeShadowRootType(generator, value.getShadowRootType());
+    }
+    if (value.getIsClickable() != null) {
+      generator.writeFieldName("isClickable");
+      JsonCodecs.writeBoolean(generator, value.getIsClickable());
+    }
+    if (value.getEventListeners() != null) {
+      generator.writeFieldName("eventListeners");
+      JsonCodecs.writeList(
+          generator, value.getEventListeners(), DOMDebuggerCodecs::writeEventListener);
+    }
+    if (value.getCurrentSourceURL() != null) {
+      generator.writeFieldName("currentSourceURL");
+      JsonCodecs.writeString(generator, value.getCurrentSourceURL());
+    }
+    if (value.getOriginURL() != null) {
+      generator.writeFieldName("originURL");
+      JsonCodecs.writeString(generator, value.getOriginURL());
+    }
+    if (value.getScrollOffsetX() != null) {
+      generator.writeFieldName("scrollOffsetX");
+      JsonCodecs.writeDouble(generator, value.getScrollOffsetX());
+    }
+    if (value.getScrollOffsetY() != null) {
+      generator.writeFieldName("scrollOffsetY");
+      JsonCodecs.writeDouble(generator, value.getScrollOffsetY());
+    }
+    generator.writeEndObject();
+  }
+
+  public static DocumentSnapshot readDocumentSnapshot(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DocumentSnapshot result = new DocumentSnapshot();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "documentURL":
+          result.setDocumentURL(JsonCodecs.readInteger(parser));
+          break;
+        case "baseURL":
+          result.setBaseURL(JsonCodecs.readInteger(parser));
+          break;
+        case "contentLanguage":
+          result.setContentLanguage(JsonCodecs.readInteger(parser));
+          break;
+        case "encodingName":
+          result.setEncodingName(JsonCodecs.readInteger(parser));
+          break;
+        case "publicId":
+          result.setPublicId(JsonCodecs.readInteger(parser));
+          break;
+        case "systemId":
+          result.setSystemId(JsonCodecs.readInteger(parser));
+          break;
+        case "frameId":
+          result.setFrameId(JsonCodecs.readInteger(parser));
+          break;
+        case "nodes":
+          result.setNodes(readNodeTreeSnapshot(parser));
+          break;
+        case "layout":
+          result.setLayout(readLayoutTreeSnapshot(parser));
+          break;
+        case "textBoxes":
+          result.setTextBoxes(readTextBoxSnapshot(parser));
+          break;
+        case "scrollOffsetX":
+          result.setScrollOffsetX(JsonCodecs.readDouble(parser));
+          break;
+        case "scrollOffsetY":
+          result.setScrollOffsetY(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeDocumentSnapshot(JsonGenerator generator, DocumentSnapshot value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getDocumentURL() != null) {
+      generator.writeFieldName("documentURL");
+      JsonCodecs.writeInteger(generator, value.getDocumentURL());
+    }
+    if (value.getBaseURL() != null) {
+      generator.writeFieldName("baseURL");
+      JsonCodecs.writeInteger(generator, value.getBaseURL());
+    }
+    if (value.getContentLanguage() != null) {
+      generator.writeFieldName("contentLanguage");
+      JsonCodecs.writeInteger(generator, value.getContentLanguage());
+    }
+    if (value.getEncodingName() != null) {
+      generator.writeFieldName("encodingName");
+      JsonCodecs.writeInteger(generator, value.getEncodingName());
+    }
+    if (value.getPublicId() != null) {
+      generator.writeFieldName("publicId");
+      JsonCodecs.writeInteger(generator, value.getPublicId());
+    }
+    if (value.getSystemId() != null) {
+      generator.writeFieldName("systemId");
+      JsonCodecs.writeInteger(generator, value.getSystemId());
+    }
+    if (value.getFrameId() != null) {
+      generator.writeFieldName("frameId");
+      JsonCodecs.writeInteger(generator, value.getFrameId());
+    }
+    if (value.getNodes() != null) {
+      generator.writeFieldName("nodes");
+      writeNodeTreeSnapshot(generator, value.getNodes());
+    }
+    if (value.getLayout() != null) {
+      generator.writeFieldName("layout");
+      writeLayoutTreeSnapshot(generator, value.getLayout());
+    }
+    if (value.getTextBoxes() != null) {
+      generator.writeFieldName("textBoxes");
+      writeTextBoxSnapshot(generator, value.getTextBoxes());
+    }
+    if (value.getScrollOffsetX() != null) {
+      generator.writeFieldName("scrollOffsetX");
+      JsonCodecs.writeDouble(generator, value.getScrollOffsetX());
+    }
+    if (value.getScrollOffsetY() != null) {
+      generator.writeFieldName("scrollOffsetY");
+      JsonCodecs.writeDouble(generator, value.getScrollOffsetY());
+    }
+    generator.writeEndObject();
+  }
+
+  public static InlineTextBox readInlineTextBox(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InlineTextBox result = new InlineTextBox();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "boundingBox":
+          result.setBoundingBox(DOMCodecs.readRect(parser));
+          break;
+        case "startCharacterIndex":
+          result.setStartCharacterIndex(JsonCodecs.readInteger(parser));
+          break;
+        case "numCharacters":
+          result.setNumCharacters(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeInlineTextBox(JsonGenerator generator, InlineTextBox value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBoundingBox() != null) {
+      generator.writeFieldName("boundingBox");
+      DOMCodecs.writeRect(generator, value.getBoundingBox());
+    }
+    if (value.getStartCharacterIndex() != null) {
+      generator.writeFieldName("startCharacterIndex");
+      JsonCodecs.writeInteger(generator, value.getStartCharacterIndex());
+    }
+    if (value.getNumCharacters() != null) {
+      generator.writeFieldName("numCharacters");
+      JsonCodecs.writeInteger(generator, value.getNumCharacters());
+    }
+    generator.writeEndObject();
+  }
+
+  public static LayoutTreeNode readLayoutTreeNode(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LayoutTreeNode result = new LayoutTreeNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "domNodeIndex":
+          result.setDomNodeIndex(JsonCodecs.readInteger(parser));
+          break;
+        case "boundingBox":
+          result.setBoundingBox(DOMCodecs.readRect(parser));
+          break;
+        case "layoutText":
+          result.setLayoutText(JsonCodecs.readString(parser));
+          break;
+        case "inlineTextNodes":
+          result.setInlineTextNodes(
+              JsonCodecs.readList(parser, DOMSnapshotCodecs::readInlineTextBox));
+          break;
+        case "styleIndex":
+          result.setStyleIndex(JsonCodecs.readInteger(parser));
+          break;
+        case "paintOrder":
+          result.setPaintOrder(JsonCodecs.readInteger(parser));
+          break;
+        case "isStackingContext":
+          result.setIsStackingContext(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeLayoutTreeNode(JsonGenerator generator, LayoutTreeNode value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getDomNodeIndex() != null) {
+      generator.writeFieldName("domNodeIndex");
+      JsonCodecs.writeInteger(generator, value.getDomNodeIndex());
+    }
+    if (value.getBoundingBox() != null) {
+      generator.writeFieldName("boundingBox");
+      DOMCodecs.writeRect(generator, value.getBoundingBox());
+    }
+    if (value.getLayoutText() != null) {
+      generator.writeFieldName("layoutText");
+      JsonCodecs.writeString(generator, value.getLayoutText());
+    }
+    if (value.getInlineTextNodes() != null) {
+      generator.writeFieldName("inlineTextNodes");
+      JsonCodecs.writeList(
+          generator, value.getInlineTextNodes(), DOMSnapshotCodecs::writeInlineTextBox);
+    }
+    if (value.getStyleIndex() != null) {
+      generator.writeFieldName("styleIndex");
+      JsonCodecs.writeInteger(generator, value.getStyleIndex());
+    }
+    if (value.getPaintOrder() != null) {
+      generator.writeFieldName("paintOrder");
+      JsonCodecs.writeInteger(generator, value.getPaintOrder());
+    }
+    if (value.getIsStackingContext() != null) {
+      generator.writeFieldName("isStackingContext");
+      JsonCodecs.writeBoolean(generator, value.getIsStackingContext());
+    }
+    generator.writeEndObject();
+  }
+
+  public static LayoutTreeSnapshot readLayoutTreeSnapshot(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LayoutTreeSnapshot result = new LayoutTreeSnapshot();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeIndex":
+          result.setNodeIndex(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "styles":
+          result.setStyles(
+              JsonCodecs.readList(parser, JsonCodecs.listReader(JsonCodecs::readInteger)));
+          break;
+        case "bounds":
+          result.setBounds(
+              JsonCodecs.readList(parser, JsonCodecs.listReader(JsonCodecs::readDouble)));
+          break;
+        case "text":
+          result.setText(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "stackingContexts":
+          result.setStackingContexts(readRareBooleanData(parser));
+          break;
+        case "paintOrders":
+          result.setPaintOrders(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "offsetRects":
+          result.setOffsetRects(
+              JsonCodecs.readList(parser, JsonCodecs.listReader(JsonCodecs::readDouble)));
+          break;
+        case "scrollRects":
+          result.setScrollRects(
+              JsonCodecs.readList(parser, JsonCodecs.listReader(JsonCodecs::readDouble)));
+          break;
+        case "clientRects":
+          result.setClientRects(
+              JsonCodecs.readList(parser, JsonCodecs.listReader(JsonCodecs::readDouble)));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeLayoutTreeSnapshot(JsonGenerator generator, LayoutTreeSnapshot value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getNodeIndex() != null) {
+      generator.writeFieldName("nodeIndex");
+      JsonCodecs.writeList(generator, value.getNodeIndex(), JsonCodecs::writeInteger);
+    }
+    if (value.getStyles() != null) {
+      generator.writeFieldName("styles");
+      JsonCodecs.writeList(
+          generator, value.getStyles(), JsonCodecs.listWriter(JsonCodecs::writeInteger));
+    }
+    if (value.getBounds() != null) {
+      generator.writeFieldName("bounds");
+      JsonCodecs.writeList(
+          generator, value.getBounds(), JsonCodecs.listWriter(JsonCodecs::writeDouble));
+    }
+    if (value.getText() != null) {
+      generator.writeFieldName("text");
+      JsonCodecs.writeList(generator, value.getText(), JsonCodecs::writeInteger);
+    }
+    if (value.getStackingContexts() != null) {
+      generator.writeFieldName("stackingContexts");
+      writeRareBooleanData(generator, value.getStackingContexts());
+    }
+    if (value.getPaintOrders() != null) {
+      generator.writeFieldName("paintOrders");
+      JsonCodecs.writeList(generator, value.getPaintOrders(), JsonCodecs::writeInteger);
+    }
+    if (value.getOffsetRects() != null) {
+      generator.writeFieldName("offsetRects");
+      JsonCodecs.writeList(
+          generator, value.getOffsetRects(), JsonCodecs.listWriter(JsonCodecs::writeDouble));
+    }
+    if (value.getScrollRects() != null) {
+      generator.writeFieldName("scrollRects");
+      JsonCodecs.writeList(
+          generator, value.getScrollRects(), JsonCodecs.listWriter(JsonCodecs::writeDouble));
+    }
+    if (value.getClientRects() != null) {
+      generator.writeFieldName("clientRects");
+      JsonCodecs.writeList(
+          generator, value.getClientRects(), JsonCodecs.listWriter(JsonCodecs::writeDouble));
+    }
+    generator.writeEndObject();
+  }
+
+  public static NameValue readNameValue(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NameValue result = new NameValue();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeNameValue(JsonGenerator generator, NameValue value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static NodeTreeSnapshot readNodeTreeSnapshot(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NodeTreeSnapshot result = new NodeTreeSnapshot();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "parentIndex":
+          result.setParentIndex(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "nodeType":
+          result.setNodeType(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "nodeName":
+          result.setNodeName(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "nodeValue":
+          result.setNodeValue(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "backendNodeId":
+          result.setBackendNodeId(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "attributes":
+          result.setAttributes(
+              JsonCodecs.readList(parser, JsonCodecs.listReader(JsonCodecs::readInteger)));
+          break;
+        case "textValue":
+          result.setTextValue(readRareStringData(parser));
+          break;
+        case "inputValue":
+          result.setInputValue(readRareStringData(parser));
+          break;
+        case "inputChecked":
+          result.setInputChecked(readRareBooleanData(parser));
+          break;
+        case "optionSelected":
+          result.setOptionSelected(readRareBooleanData(parser));
+          break;
+        case "contentDocumentIndex":
+          result.setContentDocumentIndex(readRareIntegerData(parser));
+          break;
+        case "pseudoType":
+          result.setPseudoType(readRareStringData(parser));
+          break;
+        case "isClickable":
+          result.setIsClickable(readRareBooleanData(parser));
+          break;
+        case "currentSourceURL":
+          result.setCurrentSourceURL(readRareStringData(parser));
+          break;
+        case "originURL":
+          result.setOriginURL(readRareStringData(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeNodeTreeSnapshot(JsonGenerator generator, NodeTreeSnapshot value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getParentIndex() != null) {
+      generator.writeFieldName("parentIndex");
+      JsonCodecs.writeList(generator, value.getParentIndex(), JsonCodecs::writeInteger);
+    }
+    if (value.getNodeType() != null) {
+      generator.writeFieldName("nodeType");
+      JsonCodecs.writeList(generator, value.getNodeType(), JsonCodecs::writeInteger);
+    }
+    if (value.getNodeName() != null) {
+      generator.writeFieldName("nodeName");
+      JsonCodecs.writeList(generator, value.getNodeName(), JsonCodecs::writeInteger);
+    }
+    if (value.getNodeValue() != null) {
+      generator.writeFieldName("nodeValue");
+      JsonCodecs.writeList(generator, value.getNodeValue(), JsonCodecs::writeInteger);
+    }
+    if (value.getBackendNodeId() != null) {
+      generator.writeFieldName("backendNodeId");
+      JsonCodecs.writeList(generator, value.getBackendNodeId(), JsonCodecs::writeInteger);
+    }
+    if (value.getAttributes() != null) {
+      generator.writeFieldName("attributes");
+      JsonCodecs.writeList(
+          generator, value.getAttributes(), JsonCodecs.listWriter(JsonCodecs::writeInteger));
+    }
+    if (value.getTextValue() != null) {
+      generator.writeFieldName("textValue");
+      writeRareStringData(generator, value.getTextValue());
+    }
+    if (value.getInputValue() != null) {
+      generator.writeFieldName("inputValue");
+      writeRareStringData(generator, value.getInputValue());
+    }
+    if (value.getInputChecked() != null) {
+      generator.writeFieldName("inputChecked");
+      writeRareBooleanData(generator, value.getInputChecked());
+    }
+    if (value.getOptionSelected() != null) {
+      generator.writeFieldName("optionSelected");
+      writeRareBooleanData(generator, value.getOptionSelected());
+    }
+    if (value.getContentDocumentIndex() != null) {
+      generator.writeFieldName("contentDocumentIndex");
+      writeRareIntegerData(generator, value.getContentDocumentIndex());
+    }
+    if (value.getPseudoType() != null) {
+      generator.writeFieldName("pseudoType");
+      writeRareStringData(generator, value.getPseudoType());
+    }
+    if (value.getIsClickable() != null) {
+      generator.writeFieldName("isClickable");
+      writeRareBooleanData(generator, value.getIsClickable());
+    }
+    if (value.getCurrentSourceURL() != null) {
+      generator.writeFieldName("currentSourceURL");
+      writeRareStringData(generator, value.getCurrentSourceURL());
+    }
+    if (value.getOriginURL() != null) {
+      generator.writeFieldName("originURL");
+      writeRareStringData(generator, value.getOriginURL());
+    }
+    generator.writeEndObject();
+  }
+
+  public static RareBooleanData readRareBooleanData(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RareBooleanData result = new RareBooleanData();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "index":
+          result.setIndex(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRareBooleanData(JsonGenerator generator, RareBooleanData value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getIndex() != null) {
+      generator.writeFieldName("index");
+      JsonCodecs.writeList(generator, value.getIndex(), JsonCodecs::writeInteger);
+    }
+    generator.writeEndObject();
+  }
+
+  public static RareIntegerData readRareIntegerData(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RareIntegerData result = new RareIntegerData();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "index":
+          result.setIndex(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRareIntegerData(JsonGenerator generator, RareIntegerData value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getIndex() != null) {
+      generator.writeFieldName("index");
+      JsonCodecs.writeList(generator, value.getIndex(), JsonCodecs::writeInteger);
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeList(generator, value.getValue(), JsonCodecs::writeInteger);
+    }
+    generator.writeEndObject();
+  }
+
+  public static RareStringData readRareStringData(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RareStringData result = new RareStringData();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "index":
+          result.setIndex(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRareStringData(JsonGenerator generator, RareStringData value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getIndex() != null) {
+      generator.writeFieldName("index");
+      JsonCodecs.writeList(generator, value.getIndex(), JsonCodecs::writeInteger);
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeList(generator, value.getValue(), JsonCodecs::writeInteger);
+    }
+    generator.writeEndObject();
+  }
+
+  public static Snapshot readSnapshot(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Snapshot result = new Snapshot();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "domNodes":
+          result.setDomNodes(JsonCodecs.readList(parser, DOMSnapshotCodecs::readDOMNode));
+          break;
+        case "layoutTreeNodes":
+          result.setLayoutTreeNodes(
+              JsonCodecs.readList(parser, DOMSnapshotCodecs::readLayoutTreeNode));
+          break;
+        case "computedStyles":
+          result.setComputedStyles(
+              JsonCodecs.readList(parser, DOMSnapshotCodecs::readComputedStyle));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSnapshot(JsonGenerator generator, Snapshot value) throws IOException {
+    generator.writeStartObject();
+    if (value.getDomNodes() != null) {
+      generator.writeFieldName("domNodes");
+      JsonCodecs.writeList(generator, value.getDomNodes(), DOMSnapshotCodecs::writeDOMNode);
+    }
+    if (value.getLayoutTreeNodes() != null) {
+      generator.writeFieldName("layoutTreeNodes");
+      JsonCodecs.writeList(
+          generator, value.getLayoutTreeNodes(), DOMSnapshotCodecs::writeLayoutTreeNode);
+    }
+    if (value.getComputedStyles() != null) {
+      generator.writeFieldName("computedStyles");
+      JsonCodecs.writeList(
+          generator, value.getComputedStyles(), DOMSnapshotCodecs::writeComputedStyle);
+    }
+    generator.writeEndObject();
+  }
+
+  public static TextBoxSnapshot readTextBoxSnapshot(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TextBoxSnapshot result = new TextBoxSnapshot();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "layoutIndex":
+          result.setLayoutIndex(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "bounds":
+          result.setBounds(
+              JsonCodecs.readList(parser, JsonCodecs.listReader(JsonCodecs::readDouble)));
+          break;
+        case "start":
+          result.setStart(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "length":
+          result.setLength(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeTextBoxSnapshot(JsonGenerator generator, TextBoxSnapshot value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getLayoutIndex() != null) {
+      generator.writeFieldName("layoutIndex");
+      JsonCodecs.writeList(generator, value.getLayoutIndex(), JsonCodecs::writeInteger);
+    }
+    if (value.getBounds() != null) {
+      generator.writeFieldName("bounds");
+      JsonCodecs.writeList(
+          generator, value.getBounds(), JsonCodecs.listWriter(JsonCodecs::writeDouble));
+    }
+    if (value.getStart() != null) {
+      generator.writeFieldName("start");
+      JsonCodecs.writeList(generator, value.getStart(), JsonCodecs::writeInteger);
+    }
+    if (value.getLength() != null) {
+      generator.writeFieldName("length");
+      JsonCodecs.writeList(generator, value.getLength(), JsonCodecs::writeInteger);
+    }
+    generator.writeEndObject();
+  }
+}
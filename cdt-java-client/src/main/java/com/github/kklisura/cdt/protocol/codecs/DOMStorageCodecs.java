@@ -0,0 +1,190 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.domstorage.DomStorageItemAdded;
+import com.github.kklisura.cdt.protocol.events.domstorage.DomStorageItemRemoved;
+import com.github.kklisura.cdt.protocol.events.domstorage.DomStorageItemUpdated;
+import com.github.kklisura.cdt.protocol.events.domstorage.DomStorageItemsCleared;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.domstorage.StorageId;
+import java.io.IOException;
+
+/** DOMStorage domain type and event codecs. */
+public final class DOMStorageCodecs {
+
+  private DOMStorageCodecs() {}
+
+  /**
+   * Registers DOMStorage codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        StorageId.class, DOMStorageCodecs::readStorageId, DOMStorageCodecs::writeStorageId);
+    module.addReader(DomStorageItemAdded.class, DOMStorageCodecs::readDomStorageItemAdded);
+    module.addReader(DomStorageItemRemoved.class, DOMStorageCodecs::readDomStorageItemRemoved);
+    module.addReader(DomStorageItemUpdated.class, DOMStorageCodecs::readDomStorageItemUpdated);
+    module.addReader(DomStorageItemsCleared.class, DOMStorageCodecs::readDomStorageItemsCleared);
+  }
+
+  public static StorageId readStorageId(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    StorageId result = new StorageId();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "securityOrigin":
+          result.setSecurityOrigin(JsonCodecs.readString(parser));
+          break;
+        case "isLocalStorage":
+          result.setIsLocalStorage(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeStorageId(JsonGenerator generator, StorageId value) throws IOException {
+    generator.writeStartObject();
+    if (value.getSecurityOrigin() != null) {
+      generator.writeFieldName("securityOrigin");
+      JsonCodecs.writeString(generator, value.getSecurityOrigin());
+    }
+    if (value.getIsLocalStorage() != null) {
+      generator.writeFieldName("isLocalStorage");
+      JsonCodecs.writeBoolean(generator, value.getIsLocalStorage());
+    }
+    generator.writeEndObject();
+  }
+
+  public static DomStorageItemAdded readDomStorageItemAdded(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DomStorageItemAdded result = new DomStorageItemAdded();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "storageId":
+          result.setStorageId(readStorageId(parser));
+          break;
+        case "key":
+          result.setKey(JsonCodecs.readString(parser));
+          break;
+        case "newValue":
+          result.setNewValue(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static DomStorageItemRemoved readDomStorageItemRemoved(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DomStorageItemRemoved result = new DomStorageItemRemoved();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "storageId":
+          result.setStorageId(readStorageId(parser));
+          break;
+        case "key":
+          result.setKey(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static DomStorageItemUpdated readDomStorageItemUpdated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DomStorageItemUpdated result = new DomStorageItemUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "storageId":
+          result.setStorageId(readStorageId(parser));
+          break;
+        case "key":
+          result.setKey(JsonCodecs.readString(parser));
+          break;
+        case "oldValue":
+          result.setOldValue(JsonCodecs.readString(parser));
+          break;
+        case "newValue":
+          result.setNewValue(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static DomStorageItemsCleared readDomStorageItemsCleared(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DomStorageItemsCleared result = new DomStorageItemsCleared();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "storageId":
+          result.setStorageId(readStorageId(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,200 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.database.AddDatabase;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.database.Database;
+import com.github.kklisura.cdt.protocol.types.database.Error;
+import com.github.kklisura.cdt.protocol.types.database.ExecuteSQL;
+import java.io.IOException;
+
+/** Database domain type and event codecs. */
+public final class DatabaseCodecs {
+
+  private DatabaseCodecs() {}
+
+  /**
+   * Registers Database codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(Database.class, DatabaseCodecs::readDatabase, DatabaseCodecs::writeDatabase);
+    module.addCodec(Error.class, DatabaseCodecs::readError, DatabaseCodecs::writeError);
+    module.addCodec(
+        ExecuteSQL.class, DatabaseCodecs::readExecuteSQL, DatabaseCodecs::writeExecuteSQL);
+    module.addReader(AddDatabase.class, DatabaseCodecs::readAddDatabase);
+  }
+
+  public static Database readDatabase(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Database result = new Database();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readString(parser));
+          break;
+        case "domain":
+          result.setDomain(JsonCodecs.readString(parser));
+          break;
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "version":
+          result.setVersion(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeDatabase(JsonGenerator generator, Database value) throws IOException {
+    generator.writeStartObject();
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeString(generator, value.getId());
+    }
+    if (value.getDomain() != null) {
+      generator.writeFieldName("domain");
+      JsonCodecs.writeString(generator, value.getDomain());
+    }
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getVersion() != null) {
+      generator.writeFieldName("version");
+      JsonCodecs.writeString(generator, value.getVersion());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Error readError(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Error result = new Error();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "message":
+          result.setMessage(JsonCodecs.readString(parser));
+          break;
+        case "code":
+          result.setCode(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeError(JsonGenerator generator, Error value) throws IOException {
+    generator.writeStartObject();
+    if (value.getMessage() != null) {
+      generator.writeFieldName("message");
+      JsonCodecs.writeString(generator, value.getMessage());
+    }
+    if (value.getCode() != null) {
+      generator.writeFieldName("code");
+      JsonCodecs.writeInteger(generator, value.getCode());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ExecuteSQL readExecuteSQL(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ExecuteSQL result = new ExecuteSQL();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "columnNames":
+          result.setColumnNames(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "values":
+          result.setValues(JsonCodecs.readList(parser, JsonCodecs::readObject));
+          break;
+        case "sqlError":
+          result.setSqlError(readError(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeExecuteSQL(JsonGenerator generator, ExecuteSQL value) throws IOException {
+    generator.writeStartObject();
+    if (value.getColumnNames() != null) {
+      generator.writeFieldName("columnNames");
+      JsonCodecs.writeList(generator, value.getColumnNames(), JsonCodecs::writeString);
+    }
+    if (value.getValues() != null) {
+      generator.writeFieldName("values");
+      JsonCodecs.writeList(generator, value.getValues(), JsonCodecs::writeObject);
+    }
+    if (value.getSqlError() != null) {
+      generator.writeFieldName("sqlError");
+      writeError(generator, value.getSqlError());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AddDatabase readAddDatabase(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AddDatabase result = new AddDatabase();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "database":
+          result.setDatabase(readDatabase(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
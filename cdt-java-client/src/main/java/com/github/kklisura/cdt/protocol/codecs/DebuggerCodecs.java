@@ -0,0 +1,997 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.debugger.BreakpointResolved;
+import com.github.kklisura.cdt.protocol.events.debugger.Paused;
+import com.github.kklisura.cdt.protocol.events.debugger.PausedReason;
+import com.github.kklisura.cdt.protocol.events.debugger.Resumed;
+import com.github.kklisura.cdt.protocol.events.debugger.ScriptFailedToParse;
+import com.github.kklisura.cdt.protocol.events.debugger.ScriptParsed;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.debugger.BreakLocation;
+import com.github.kklisura.cdt.protocol.types.debugger.BreakLocationType;
+import com.github.kklisura.cdt.protocol.types.debugger.CallFrame;
+import com.github.kklisura.cdt.protocol.types.debugger.ContinueToLocationTargetCallFrames;
+import com.github.kklisura.cdt.protocol.types.debugger.EvaluateOnCallFrame;
+import com.github.kklisura.cdt.protocol.types.debugger.Location;
+import com.github.kklisura.cdt.protocol.types.debugger.RestartFrame;
+import com.github.kklisura.cdt.protocol.types.debugger.Scope;
+import com.github.kklisura.cdt.protocol.types.debugger.ScopeType;
+import com.github.kklisura.cdt.protocol.types.debugger.ScriptPosition;
+import com.github.kklisura.cdt.protocol.types.debugger.SearchMatch;
+import com.github.kklisura.cdt.protocol.types.debugger.SetBreakpoint;
+import com.github.kklisura.cdt.protocol.types.debugger.SetBreakpointByUrl;
+import com.github.kklisura.cdt.protocol.types.debugger.SetInstrumentationBreakpointInstrumentation;
+import com.github.kklisura.cdt.protocol.types.debugger.SetPauseOnExceptionsState;
+import com.github.kklisura.cdt.protocol.types.debugger.SetScriptSource;
+import java.io.IOException;
+
+/** Debugger domain type and event codecs. */
+public final class DebuggerCodecs {
+
+  private static final String[] BREAK_LOCATION_TYPE_VALUES = {
+    "debuggerStatement", "call", "return"
+  };
+
+  private static final String[] CONTINUE_TO_LOCATION_TARGET_CALL_FRAMES_VALUES = {"any", "current"};
+
+  private static final String[] SCOPE_TYPE_VALUES = {
+    "global", "local", "with", "closure", "catch", "block", "script", "eval", "module"
+  };
+
+  private static final String[] SET_INSTRUMENTATION_BREAKPOINT_INSTRUMENTATION_VALUES = {
+    "beforeScriptExecution", "beforeScriptWithSourceMapExecution"
+  };
+
+  private static final String[] SET_PAUSE_ON_EXCEPTIONS_STATE_VALUES = {"none", "uncaught", "all"};
+
+  private DebuggerCodecs() {}
+
+  /**
+   * Registers Debugger codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        BreakLocation.class, DebuggerCodecs::readBreakLocation, DebuggerCodecs::writeBreakLocation);
+    module.addCodec(
+        BreakLocationType.class,
+        DebuggerCodecs::readBreakLocationType,
+        DebuggerCodecs::writeBreakLocationType);
+    module.addCodec(CallFrame.class, DebuggerCodecs::readCallFrame, DebuggerCodecs::writeCallFrame);
+    module.addCodec(
+        ContinueToLocationTargetCallFrames.class,
+        DebuggerCodecs::readContinueToLocationTargetCallFrames,
+        DebuggerCodecs::writeContinueToLocationTargetCallFrames);
+    module.addCodec(
+        EvaluateOnCallFrame.class,
+        DebuggerCodecs::readEvaluateOnCallFrame,
+        DebuggerCodecs::writeEvaluateOnCallFrame);
+    module.addCodec(Location.class, DebuggerCodecs::readLocation, DebuggerCodecs::writeLocation);
+    module.addCodec(
+        RestartFrame.class, DebuggerCodecs::readRestartFrame, DebuggerCodecs::writeRestartFrame);
+    module.addCodec(Scope.class, DebuggerCodecs::readScope, DebuggerCodecs::writeScope);
+    module.addCodec(ScopeType.class, DebuggerCodecs::readScopeType, DebuggerCodecs::writeScopeType);
+    module.addCodec(
+        ScriptPosition.class,
+        DebuggerCodecs::readScriptPosition,
+        DebuggerCodecs::writeScriptPosition);
+    module.addCodec(
+        SearchMatch.class, DebuggerCodecs::readSearchMatch, DebuggerCodecs::writeSearchMatch);
+    module.addCodec(
+        SetBreakpoint.class, DebuggerCodecs::readSetBreakpoint, DebuggerCodecs::writeSetBreakpoint);
+    module.addCodec(
+        SetBreakpointByUrl.class,
+        DebuggerCodecs::readSetBreakpointByUrl,
+        DebuggerCodecs::writeSetBreakpointByUrl);
+    module.addCodec(
+        SetInstrumentationBreakpointInstrumentation.class,
+        DebuggerCodecs::readSetInstrumentationBreakpointInstrumentation,
+        DebuggerCodecs::writeSetInstrumentationBreakpointInstrumentation);
+    module.addCodec(
+        SetPauseOnExceptionsState.class,
+        DebuggerCodecs::readSetPauseOnExceptionsState,
+        DebuggerCodecs::writeSetPauseOnExceptionsState);
+    module.addCodec(
+        SetScriptSource.class,
+        DebuggerCodecs::readSetScriptSource,
+        DebuggerCodecs::writeSetScriptSource);
+    module.addReader(BreakpointResolved.class, DebuggerCodecs::readBreakpointResolved);
+    module.addReader(Paused.class, DebuggerCodecs::readPaused);
+    module.addReader(PausedReason.class, DebuggerCodecs::readPausedReason);
+    module.addReader(Resumed.class, DebuggerCodecs::readResumed);
+    module.addReader(ScriptFailedToParse.class, DebuggerCodecs::readScriptFailedToParse);
+    module.addReader(ScriptParsed.class, DebuggerCodecs::readScriptParsed);
+  }
+
+  public static BreakLocation readBreakLocation(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BreakLocation result = new BreakLocation();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "scriptId":
+          result.setScriptId(JsonCodecs.readString(parser));
+          break;
+        case "lineNumber":
+          result.setLineNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "columnNumber":
+          result.setColumnNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "type":
+          result.setType(readBreakLocationType(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBreakLocation(JsonGenerator generator, BreakLocation value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getScriptId() != null) {
+      generator.writeFieldName("scriptId");
+      JsonCodecs.writeString(generator, value.getScriptId());
+    }
+    if (value.getLineNumber() != null) {
+      generator.writeFieldName("lineNumber");
+      JsonCodecs.writeInteger(generator, value.getLineNumber());
+    }
+    if (value.getColumnNumber() != null) {
+      generator.writeFieldName("columnNumber");
+      JsonCodecs.writeInteger(generator, value.getColumnNumber());
+    }
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeBreakLocationType(generator, value.getType());
+    }
+    generator.writeEndObject();
+  }
+
+  public static BreakLocationType readBreakLocationType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "debuggerStatement":
+        return BreakLocationType.DEBUGGER_STATEMENT;
+      case "call":
+        return BreakLocationType.CALL;
+      case "return":
+        return BreakLocationType.RETURN;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, BreakLocationType.class, value);
+    }
+  }
+
+  public static void writeBreakLocationType(JsonGenerator generator, BreakLocationType value)
+      throws IOException {
+    generator.writeString(BREAK_LOCATION_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static CallFrame readCallFrame(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CallFrame result = new CallFrame();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "callFrameId":
+          result.setCallFrameId(JsonCodecs.readString(parser));
+          break;
+        case "functionName":
+          result.setFunctionName(JsonCodecs.readString(parser));
+          break;
+        case "functionLocation":
+          result.setFunctionLocation(readLocation(parser));
+          break;
+        case "location":
+          result.setLocation(readLocation(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "scopeChain":
+          result.setScopeChain(JsonCodecs.readList(parser, DebuggerCodecs::readScope));
+          break;
+        case "this":
+          result.setThat(RuntimeCodecs.readRemoteObject(parser));
+          break;
+        case "returnValue":
+          result.setReturnValue(RuntimeCodecs.readRemoteObject(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCallFrame(JsonGenerator generator, CallFrame value) throws IOException {
+    generator.writeStartObject();
+    if (value.getCallFrameId() != null) {
+      generator.writeFieldName("callFrameId");
+      JsonCodecs.writeString(generator, value.getCallFrameId());
+    }
+    if (value.getFunctionName() != null) {
+      generator.writeFieldName("functionName");
+      JsonCodecs.writeString(generator, value.getFunctionName());
+    }
+    if (value.getFunctionLocation() != null) {
+      generator.writeFieldName("functionLocation");
+      writeLocation(generator, value.getFunctionLocation());
+    }
+    if (value.getLocation() != null) {
+      generator.writeFieldName("location");
+      writeLocation(generator, value.getLocation());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getScopeChain() != null) {
+      generator.writeFieldName("scopeChain");
+      JsonCodecs.writeList(generator, value.getScopeChain(), DebuggerCodecs::writeScope);
+    }
+    if (value.getThat() != null) {
+      generator.writeFieldName("this");
+      RuntimeCodecs.writeRemoteObject(generator, value.getThat());
+    }
+    if (value.getReturnValue() != null) {
+      generator.writeFieldName("returnValue");
+      RuntimeCodecs.writeRemoteObject(generator, value.getReturnValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ContinueToLocationTargetCallFrames readContinueToLocationTargetCallFrames(
+      JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "any":
+        return ContinueToLocationTargetCallFrames.ANY;
+      case "current":
+        return ContinueToLocationTargetCallFrames.CURRENT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ContinueToLocationTargetCallFrames.class, value);
+    }
+  }
+
+  public static void writeContinueToLocationTargetCallFrames(
+      JsonGenerator generator, ContinueToLocationTargetCallFrames value) throws IOException {
+    generator.writeString(CONTINUE_TO_LOCATION_TARGET_CALL_FRAMES_VALUES[value.ordinal()]);
+  }
+
+  public static EvaluateOnCallFrame readEvaluateOnCallFrame(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    EvaluateOnCallFrame result = new EvaluateOnCallFrame();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "result":
+          result.setResult(RuntimeCodecs.readRemoteObject(parser));
+          break;
+        case "exceptionDetails":
+          result.setExceptionDetails(RuntimeCodecs.readExceptionDetails(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeEvaluateOnCallFrame(JsonGenerator generator, EvaluateOnCallFrame value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getResult() != null) {
+      generator.writeFieldName("result");
+      RuntimeCodecs.writeRemoteObject(generator, value.getResult());
+    }
+    if (value.getExceptionDetails() != null) {
+      generator.writeFieldName("exceptionDetails");
+      RuntimeCodecs.writeExceptionDetails(generator, value.getExceptionDetails());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Location readLocation(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Location result = new Location();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "scriptId":
+          result.setScriptId(JsonCodecs.readString(parser));
+          break;
+        case "lineNumber":
+          result.setLineNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "columnNumber":
+          result.setColumnNumber(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeLocation(JsonGenerator generator, Location value) throws IOException {
+    generator.writeStartObject();
+    if (value.getScriptId() != null) {
+      generator.writeFieldName("scriptId");
+      JsonCodecs.writeString(generator, value.getScriptId());
+    }
+    if (value.getLineNumber() != null) {
+      generator.writeFieldName("lineNumber");
+      JsonCodecs.writeInteger(generator, value.getLineNumber());
+    }
+    if (value.getColumnNumber() != null) {
+      generator.writeFieldName("columnNumber");
+      JsonCodecs.writeInteger(generator, value.getColumnNumber());
+    }
+    generator.writeEndObject();
+  }
+
+  public static RestartFrame readRestartFrame(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RestartFrame result = new RestartFrame();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "callFrames":
+          result.setCallFrames(JsonCodecs.readList(parser, DebuggerCodecs::readCallFrame));
+          break;
+        case "asyncStackTrace":
+          result.setAsyncStackTrace(RuntimeCodecs.readStackTrace(parser));
+          break;
+        case "asyncStackTraceId":
+          result.setAsyncStackTraceId(RuntimeCodecs.readStackTraceId(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRestartFrame(JsonGenerator generator, RestartFrame value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getCallFrames() != null) {
+      generator.writeFieldName("callFrames");
+      JsonCodecs.writeList(generator, value.getCallFrames(), DebuggerCodecs::writeCallFrame);
+    }
+    if (value.getAsyncStackTrace() != null) {
+      generator.writeFieldName("asyncStackTrace");
+      RuntimeCodecs.writeStackTrace(generator, value.getAsyncStackTrace());
+    }
+    if (value.getAsyncStackTraceId() != null) {
+      generator.writeFieldName("asyncStackTraceId");
+      RuntimeCodecs.writeStackTraceId(generator, value.getAsyncStackTraceId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Scope readScope(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Scope result = new Scope();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readScopeType(parser));
+          break;
+        case "object":
+          result.setObject(RuntimeCodecs.readRemoteObject(parser));
+          break;
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "startLocation":
+          result.setStartLocation(readLocation(parser));
+          break;
+        case "endLocation":
+          result.setEndLocation(readLocation(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeScope(JsonGenerator generator, Scope value) throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeScopeType(generator, value.getType());
+    }
+    if (value.getObject() != null) {
+      generator.writeFieldName("object");
+      RuntimeCodecs.writeRemoteObject(generator, value.getObject());
+    }
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getStartLocation() != null) {
+      generator.writeFieldName("startLocation");
+      writeLocation(generator, value.getStartLocation());
+    }
+    if (value.getEndLocation() != null) {
+      generator.writeFieldName("endLocation");
+      writeLocation(generator, value.getEndLocation());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ScopeType readScopeType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "global":
+        return ScopeType.GLOBAL;
+      case "local":
+        return ScopeType.LOCAL;
+      case "with":
+        return ScopeType.WITH;
+      case "closure":
+        return ScopeType.CLOSURE;
+      case "catch":
+        return ScopeType.CATCH;
+      case "block":
+        return ScopeType.BLOCK;
+      case "script":
+        return ScopeType.SCRIPT;
+      case "eval":
+        return ScopeType.EVAL;
+      case "module":
+        return ScopeType.MODULE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ScopeType.class, value);
+    }
+  }
+
+  public static void writeScopeType(JsonGenerator generator, ScopeType value) throws IOException {
+    generator.writeString(SCOPE_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static ScriptPosition readScriptPosition(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScriptPosition result = new ScriptPosition();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "lineNumber":
+          result.setLineNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "columnNumber":
+          result.setColumnNumber(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeScriptPosition(JsonGenerator generator, ScriptPosition value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getLineNumber() != null) {
+      generator.writeFieldName("lineNumber");
+      JsonCodecs.writeInteger(generator, value.getLineNumber());
+    }
+    if (value.getColumnNumber() != null) {
+      generator.writeFieldName("columnNumber");
+      JsonCodecs.writeInteger(generator, value.getColumnNumber());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SearchMatch readSearchMatch(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SearchMatch result = new SearchMatch();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "lineNumber":
+          result.setLineNumber(JsonCodecs.readDouble(parser));
+          break;
+        case "lineContent":
+          result.setLineContent(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSearchMatch(JsonGenerator generator, SearchMatch value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getLineNumber() != null) {
+      generator.writeFieldName("lineNumber");
+      JsonCodecs.writeDouble(generator, value.getLineNumber());
+    }
+    if (value.getLineContent() != null) {
+      generator.writeFieldName("lineContent");
+      JsonCodecs.writeString(generator, value.getLineContent());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SetBreakpoint readSetBreakpoint(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SetBreakpoint result = new SetBreakpoint();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "breakpointId":
+          result.setBreakpointId(JsonCodecs.readString(parser));
+          break;
+        case "actualLocation":
+          result.setActualLocation(readLocation(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSetBreakpoint(JsonGenerator generator, SetBreakpoint value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBreakpointId() != null) {
+      generator.writeFieldName("breakpointId");
+      JsonCodecs.writeString(generator, value.getBreakpointId());
+    }
+    if (value.getActualLocation() != null) {
+      generator.writeFieldName("actualLocation");
+      writeLocation(generator, value.getActualLocation());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SetBreakpointByUrl readSetBreakpointByUrl(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SetBreakpointByUrl result = new SetBreakpointByUrl();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "breakpointId":
+          result.setBreakpointId(JsonCodecs.readString(parser));
+          break;
+        case "locations":
+          result.setLocations(JsonCodecs.readList(parser, DebuggerCodecs::readLocation));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSetBreakpointByUrl(JsonGenerator generator, SetBreakpointByUrl value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBreakpointId() != null) {
+      generator.writeFieldName("breakpointId");
+      JsonCodecs.writeString(generator, value.getBreakpointId());
+    }
+    if (value.getLocations() != null) {
+      generator.writeFieldName("locations");
+      JsonCodecs.writeList(generator, value.getLocations(), DebuggerCodecs::writeLocation);
+    }
+    generator.writeEndObject();
+  }
+
+  public static SetInstrumentationBreakpointInstrumentation
+      readSetInstrumentationBreakpointInstrumentation(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "beforeScriptExecution":
+        return SetInstrumentationBreakpointInstrumentation.BEFORE_SCRIPT_EXECUTION;
+      case "beforeScriptWithSourceMapExecution":
+        return SetInstrumentationBreakpointInstrumentation.BEFORE_SCRIPT_WITH_SOURCE_MAP_EXECUTION;
+      default:
+        throw JsonCodecs.unknownEnumValue(
+            parser, SetInstrumentationBreakpointInstrumentation.class, value);
+    }
+  }
+
+  public static void writeSetInstrumentationBreakpointInstrumentation(
+      JsonGenerator generator, SetInstrumentationBreakpointInstrumentation value)
+      throws IOException {
+    generator.writeString(SET_INSTRUMENTATION_BREAKPOINT_INSTRUMENTATION_VALUES[value.ordinal()]);
+  }
+
+  public static SetPauseOnExceptionsState readSetPauseOnExceptionsState(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "none":
+        return SetPauseOnExceptionsState.NONE;
+      case "uncaught":
+        return SetPauseOnExceptionsState.UNCAUGHT;
+      case "all":
+        return SetPauseOnExceptionsState.ALL;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, SetPauseOnExceptionsState.class, value);
+    }
+  }
+
+  public static void writeSetPauseOnExceptionsState(
+      JsonGenerator generator, SetPauseOnExceptionsState value) throws IOException {
+    generator.writeString(SET_PAUSE_ON_EXCEPTIONS_STATE_VALUES[value.ordinal()]);
+  }
+
+  public static SetScriptSource readSetScriptSource(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SetScriptSource result = new SetScriptSource();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "callFrames":
+          result.setCallFrames(JsonCodecs.readList(parser, DebuggerCodecs::readCallFrame));
+          break;
+        case "stackChanged":
+          result.setStackChanged(JsonCodecs.readBoolean(parser));
+          break;
+        case "asyncStackTrace":
+          result.setAsyncStackTrace(RuntimeCodecs.readStackTrace(parser));
+          break;
+        case "asyncStackTraceId":
+          result.setAsyncStackTraceId(RuntimeCodecs.readStackTraceId(parser));
+          break;
+        case "exceptionDetails":
+          result.setExceptionDetails(RuntimeCodecs.readExceptionDetails(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSetScriptSource(JsonGenerator generator, SetScriptSource value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getCallFrames() != null) {
+      generator.writeFieldName("callFrames");
+      JsonCodecs.writeList(generator, value.getCallFrames(), DebuggerCodecs::writeCallFrame);
+    }
+    if (value.getStackChanged() != null) {
+      generator.writeFieldName("stackChanged");
+      JsonCodecs.writeBoolean(generator, value.getStackChanged());
+    }
+    if (value.getAsyncStackTrace() != null) {
+      generator.writeFieldName("asyncStackTrace");
+      RuntimeCodecs.writeStackTrace(generator, value.getAsyncStackTrace());
+    }
+    if (value.getAsyncStackTraceId() != null) {
+      generator.writeFieldName("asyncStackTraceId");
+      RuntimeCodecs.writeStackTraceId(generator, value.getAsyncStackTraceId());
+    }
+    if (value.getExceptionDetails() != null) {
+      generator.writeFieldName("exceptionDetails");
+      RuntimeCodecs.writeExceptionDetails(generator, value.getExceptionDetails());
+    }
+    generator.writeEndObject();
+  }
+
+  public static BreakpointResolved readBreakpointResolved(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BreakpointResolved result = new BreakpointResolved();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "breakpointId":
+          result.setBreakpointId(JsonCodecs.readString(parser));
+          break;
+        case "location":
+          result.setLocation(readLocation(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static Paused readPaused(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Paused result = new Paused();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "callFrames":
+          result.setCallFrames(JsonCodecs.readList(parser, DebuggerCodecs::readCallFrame));
+          break;
+        case "reason":
+          result.setReason(readPausedReason(parser));
+          break;
+        case "data":
+          result.setData(JsonCodecs.readMap(parser));
+          break;
+        case "hitBreakpoints":
+          result.setHitBreakpoints(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "asyncStackTrace":
+          result.setAsyncStackTrace(RuntimeCodecs.readStackTrace(parser));
+          break;
+        case "asyncStackTraceId":
+          result.setAsyncStackTraceId(RuntimeCodecs.readStackTraceId(parser));
+          break;
+        case "asyncCallStackTraceId":
+          result.setAsyncCallStackTraceId(RuntimeCodecs.readStackTraceId(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static PausedReason readPausedReason(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "ambiguous":
+        return PausedReason.AMBIGUOUS;
+      case "assert":
+        return PausedReason.ASSERT;
+      case "debugCommand":
+        return PausedReason.DEBUG_COMMAND;
+      case "DOM":
+        return PausedReason.DOM;
+      case "EventListener":
+        return PausedReason.EVENT_LISTENER;
+      case "exception":
+        return PausedReason.EXCEPTION;
+      case "instrumentation":
+        return PausedReason.INSTRUMENTATION;
+      case "OOM":
+        return PausedReason.OOM;
+      case "other":
+        return PausedReason.OTHER;
+      case "promiseRejection":
+        return PausedReason.PROMISE_REJECTION;
+      case "XHR":
+        return PausedReason.XHR;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, PausedReason.class, value);
+    }
+  }
+
+  public static Resumed readResumed(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Resumed result = new Resumed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return result;
+  }
+
+  public static ScriptFailedToParse readScriptFailedToParse(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScriptFailedToParse result = new ScriptFailedToParse();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "scriptId":
+          result.setScriptId(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "startLine":
+          result.setStartLine(JsonCodecs.readInteger(parser));
+          break;
+        case "startColumn":
+          result.setStartColumn(JsonCodecs.readInteger(parser));
+          break;
+        case "endLine":
+          result.setEndLine(JsonCodecs.readInteger(parser));
+          break;
+        case "endColumn":
+          result.setEndColumn(JsonCodecs.readInteger(parser));
+          break;
+        case "executionContextId":
+          result.setExecutionContextId(JsonCodecs.readInteger(parser));
+          break;
+        case "hash":
+          result.setHash(JsonCodecs.readString(parser));
+          break;
+        case "executionContextAuxData":
+          result.setExecutionContextAuxData(JsonCodecs.readMap(parser));
+          break;
+        case "sourceMapURL":
+          result.setSourceMapURL(JsonCodecs.readString(parser));
+          break;
+        case "hasSourceURL":
+          result.setHasSourceURL(JsonCodecs.readBoolean(parser));
+          break;
+        case "isModule":
+          result.setIsModule(JsonCodecs.readBoolean(parser));
+          break;
+        case "length":
+          result.setLength(JsonCodecs.readInteger(parser));
+          break;
+        case "stackTrace":
+          result.setStackTrace(RuntimeCodecs.readStackTrace(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ScriptParsed readScriptParsed(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScriptParsed result = new ScriptParsed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "scriptId":
+          result.setScriptId(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "startLine":
+          result.setStartLine(JsonCodecs.readInteger(parser));
+          break;
+        case "startColumn":
+          result.setStartColumn(JsonCodecs.readInteger(parser));
+          break;
+        case "endLine":
+          result.setEndLine(JsonCodecs.readInteger(parser));
+          break;
+        case "endColumn":
+          result.setEndColumn(JsonCodecs.readInteger(parser));
+          break;
+        case "executionContextId":
+          result.setExecutionContextId(JsonCodecs.readInteger(parser));
+          break;
+        case "hash":
+          result.setHash(JsonCodecs.readString(parser));
+          break;
+        case "executionContextAuxData":
+          result.setExecutionContextAuxData(JsonCodecs.readMap(parser));
+          break;
+        case "isLiveEdit":
+          result.setIsLiveEdit(JsonCodecs.readBoolean(parser));
+          break;
+        case "sourceMapURL":
+          result.setSourceMapURL(JsonCodecs.readString(parser));
+          break;
+        case "hasSourceURL":
+          result.setHasSourceURL(JsonCodecs.readBoolean(parser));
+          break;
+        case "isModule":
+          result.setIsModule(JsonCodecs.readBoolean(parser));
+          break;
+        case "length":
+          result.setLength(JsonCodecs.readInteger(parser));
+          break;
+        case "stackTrace":
+          result.setStackTrace(RuntimeCodecs.readStackTrace(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
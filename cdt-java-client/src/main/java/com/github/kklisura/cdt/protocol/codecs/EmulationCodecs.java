@@ -0,0 +1,197 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.emulation.VirtualTimeBudgetExpired;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.emulation.ScreenOrientation;
+import com.github.kklisura.cdt.protocol.types.emulation.ScreenOrientationType;
+import com.github.kklisura.cdt.protocol.types.emulation.SetEmitTouchEventsForMouseConfiguration;
+import com.github.kklisura.cdt.protocol.types.emulation.VirtualTimePolicy;
+import java.io.IOException;
+
+/** Emulation domain type and event codecs. */
+public final class EmulationCodecs {
+
+  private static final String[] SCREEN_ORIENTATION_TYPE_VALUES = {
+    "portraitPrimary", "portraitSecondary", "landscapePrimary", "landscapeSecondary"
+  };
+
+  private static final String[] SET_EMIT_TOUCH_EVENTS_FOR_MOUSE_CONFIGURATION_VALUES = {
+    "mobile", "desktop"
+  };
+
+  private static final String[] VIRTUAL_TIME_POLICY_VALUES = {
+    "advance", "pause", "pauseIfNetworkFetchesPending"
+  };
+
+  private EmulationCodecs() {}
+
+  /**
+   * Registers Emulation codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        ScreenOrientation.class,
+        EmulationCodecs::readScreenOrientation,
+        EmulationCodecs::writeScreenOrientation);
+    module.addCodec(
+        ScreenOrientationType.class,
+        EmulationCodecs::readScreenOrientationType,
+        EmulationCodecs::writeScreenOrientationType);
+    module.addCodec(
+        SetEmitTouchEventsForMouseConfiguration.class,
+        EmulationCodecs::readSetEmitTouchEventsForMouseConfiguration,
+        EmulationCodecs::writeSetEmitTouchEventsForMouseConfiguration);
+    module.addCodec(
+        VirtualTimePolicy.class,
+        EmulationCodecs::readVirtualTimePolicy,
+        EmulationCodecs::writeVirtualTimePolicy);
+    module.addReader(VirtualTimeBudgetExpired.class, EmulationCodecs::readVirtualTimeBudgetExpired);
+  }
+
+  public static ScreenOrientation readScreenOrientation(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScreenOrientation result = new ScreenOrientation();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readScreenOrientationType(parser));
+          break;
+        case "angle":
+          result.setAngle(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeScreenOrientation(JsonGenerator generator, ScreenOrientation value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeScreenOrientationType(generator, value.getType());
+    }
+    if (value.getAngle() != null) {
+      generator.writeFieldName("angle");
+      JsonCodecs.writeInteger(generator, value.getAngle());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ScreenOrientationType readScreenOrientationType(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "portraitPrimary":
+        return ScreenOrientationType.PORTRAIT_PRIMARY;
+      case "portraitSecondary":
+        return ScreenOrientationType.PORTRAIT_SECONDARY;
+      case "landscapePrimary":
+        return ScreenOrientationType.LANDSCAPE_PRIMARY;
+      case "landscapeSecondary":
+        return ScreenOrientationType.LANDSCAPE_SECONDARY;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ScreenOrientationType.class, value);
+    }
+  }
+
+  public static void writeScreenOrientationType(
+      JsonGenerator generator, ScreenOrientationType value) throws IOException {
+    generator.writeString(SCREEN_ORIENTATION_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static SetEmitTouchEventsForMouseConfiguration readSetEmitTouchEventsForMouseConfiguration(
+      JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "mobile":
+        return SetEmitTouchEventsForMouseConfiguration.MOBILE;
+      case "desktop":
+        return SetEmitTouchEventsForMouseConfiguration.DESKTOP;
+      default:
+        throw JsonCodecs.unknownEnumValue(
+            parser, SetEmitTouchEventsForMouseConfiguration.class, value);
+    }
+  }
+
+  public static void writeSetEmitTouchEventsForMouseConfiguration(
+      JsonGenerator generator, SetEmitTouchEventsForMouseConfiguration value) throws IOException {
+    generator.writeString(SET_EMIT_TOUCH_EVENTS_FOR_MOUSE_CONFIGURATION_VALUES[value.ordinal()]);
+  }
+
+  public static VirtualTimePolicy readVirtualTimePolicy(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "advance":
+        return VirtualTimePolicy.ADVANCE;
+      case "pause":
+        return VirtualTimePolicy.PAUSE;
+      case "pauseIfNetworkFetchesPending":
+        return VirtualTimePolicy.PAUSE_IF_NETWORK_FETCHES_PENDING;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, VirtualTimePolicy.class, value);
+    }
+  }
+
+  public static void writeVirtualTimePolicy(JsonGenerator generator, VirtualTimePolicy value)
+      throws IOException {
+    generator.writeString(VIRTUAL_TIME_POLICY_VALUES[value.ordinal()]);
+  }
+
+  public static VirtualTimeBudgetExpired readVirtualTimeBudgetExpired(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    VirtualTimeBudgetExpired result = new VirtualTimeBudgetExpired();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return result;
+  }
+}
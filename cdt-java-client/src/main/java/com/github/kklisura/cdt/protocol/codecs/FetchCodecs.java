@@ -0,0 +1,433 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.fetch.AuthRequired;
+import com.github.kklisura.cdt.protocol.events.fetch.RequestPaused;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.fetch.AuthChallenge;
+import com.github.kklisura.cdt.protocol.types.fetch.AuthChallengeResponse;
+import com.github.kklisura.cdt.protocol.types.fetch.AuthChallengeResponseResponse;
+import com.github.kklisura.cdt.protocol.types.fetch.AuthChallengeSource;
+import com.github.kklisura.cdt.protocol.types.fetch.HeaderEntry;
+import com.github.kklisura.cdt.protocol.types.fetch.RequestPattern;
+import com.github.kklisura.cdt.protocol.types.fetch.RequestStage;
+import com.github.kklisura.cdt.protocol.types.fetch.ResponseBody;
+import java.io.IOException;
+
+/** Fetch domain type and event codecs. */
+public final class FetchCodecs {
+
+  private static final String[] AUTH_CHALLENGE_RESPONSE_RESPONSE_VALUES = {
+    "Default", "CancelAuth", "ProvideCredentials"
+  };
+
+  private static final String[] AUTH_CHALLENGE_SOURCE_VALUES = {"Server", "Proxy"};
+
+  private static final String[] REQUEST_STAGE_VALUES = {"Request", "Response"};
+
+  private FetchCodecs() {}
+
+  /**
+   * Registers Fetch codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        AuthChallenge.class, FetchCodecs::readAuthChallenge, FetchCodecs::writeAuthChallenge);
+    module.addCodec(
+        AuthChallengeResponse.class,
+        FetchCodecs::readAuthChallengeResponse,
+        FetchCodecs::writeAuthChallengeResponse);
+    module.addCodec(
+        AuthChallengeResponseResponse.class,
+        FetchCodecs::readAuthChallengeResponseResponse,
+        FetchCodecs::writeAuthChallengeResponseResponse);
+    module.addCodec(
+        AuthChallengeSource.class,
+        FetchCodecs::readAuthChallengeSource,
+        FetchCodecs::writeAuthChallengeSource);
+    module.addCodec(HeaderEntry.class, FetchCodecs::readHeaderEntry, FetchCodecs::writeHeaderEntry);
+    module.addCodec(
+        RequestPattern.class, FetchCodecs::readRequestPattern, FetchCodecs::writeRequestPattern);
+    module.addCodec(
+        RequestStage.class, FetchCodecs::readRequestStage, FetchCodecs::writeRequestStage);
+    module.addCodec(
+        ResponseBody.class, FetchCodecs::readResponseBody, FetchCodecs::writeResponseBody);
+    module.addReader(AuthRequired.class, FetchCodecs::readAuthRequired);
+    module.addReader(RequestPaused.class, FetchCodecs::readRequestPaused);
+  }
+
+  public static AuthChallenge readAuthChallenge(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AuthChallenge result = new AuthChallenge();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "source":
+          result.setSource(readAuthChallengeSource(parser));
+          break;
+        case "origin":
+          result.setOrigin(JsonCodecs.readString(parser));
+          break;
+        case "scheme":
+          result.setScheme(JsonCodecs.readString(parser));
+          break;
+        case "realm":
+          result.setRealm(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAuthChallenge(JsonGenerator generator, AuthChallenge value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getSource() != null) {
+      generator.writeFieldName("source");
+      writeAuthChallengeSource(generator, value.getSource());
+    }
+    if (value.getOrigin() != null) {
+      generator.writeFieldName("origin");
+      JsonCodecs.writeString(generator, value.getOrigin());
+    }
+    if (value.getScheme() != null) {
+      generator.writeFieldName("scheme");
+      JsonCodecs.writeString(generator, value.getScheme());
+    }
+    if (value.getRealm() != null) {
+      generator.writeFieldName("realm");
+      JsonCodecs.writeString(generator, value.getRealm());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AuthChallengeResponse readAuthChallengeResponse(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AuthChallengeResponse result = new AuthChallengeResponse();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "response":
+          result.setResponse(readAuthChallengeResponseResponse(parser));
+          break;
+        case "username":
+          result.setUsername(JsonCodecs.readString(parser));
+          break;
+        case "password":
+          result.setPassword(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAuthChallengeResponse(
+      JsonGenerator generator, AuthChallengeResponse value) throws IOException {
+    generator.writeStartObject();
+    if (value.getResponse() != null) {
+      generator.writeFieldName("response");
+      writeAuthChallengeResponseResponse(generator, value.getResponse());
+    }
+    if (value.getUsername() != null) {
+      generator.writeFieldName("username");
+      JsonCodecs.writeString(generator, value.getUsername());
+    }
+    if (value.getPassword() != null) {
+      generator.writeFieldName("password");
+      JsonCodecs.writeString(generator, value.getPassword());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AuthChallengeResponseResponse readAuthChallengeResponseResponse(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "Default":
+        return AuthChallengeResponseResponse.DEFAULT;
+      case "CancelAuth":
+        return AuthChallengeResponseResponse.CANCEL_AUTH;
+      case "ProvideCredentials":
+        return AuthChallengeResponseResponse.PROVIDE_CREDENTIALS;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AuthChallengeResponseResponse.class, value);
+    }
+  }
+
+  public static void writeAuthChallengeResponseResponse(
+      JsonGenerator generator, AuthChallengeResponseResponse value) throws IOException {
+    generator.writeString(AUTH_CHALLENGE_RESPONSE_RESPONSE_VALUES[value.ordinal()]);
+  }
+
+  public static AuthChallengeSource readAuthChallengeSource(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "Server":
+        return AuthChallengeSource.SERVER;
+      case "Proxy":
+        return AuthChallengeSource.PROXY;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AuthChallengeSource.class, value);
+    }
+  }
+
+  public static void writeAuthChallengeSource(JsonGenerator generator, AuthChallengeSource value)
+      throws IOException {
+    generator.writeString(AUTH_CHALLENGE_SOURCE_VALUES[value.ordinal()]);
+  }
+
+  public static HeaderEntry readHeaderEntry(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    HeaderEntry result = new HeaderEntry();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeHeaderEntry(JsonGenerator generator, HeaderEntry value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static RequestPattern readRequestPattern(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RequestPattern result = new RequestPattern();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "urlPattern":
+          result.setUrlPattern(JsonCodecs.readString(parser));
+          break;
+        case "resourceType":
+          result.setResourceType(NetworkCodecs.readResourceType(parser));
+          break;
+        case "requestStage":
+          result.setRequestStage(readRequestStage(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRequestPattern(JsonGenerator generator, RequestPattern value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getUrlPattern() != null) {
+      generator.writeFieldName("urlPattern");
+      JsonCodecs.writeString(generator, value.getUrlPattern());
+    }
+    if (value.getResourceType() != null) {
+      generator.writeFieldName("resourceType");
+      NetworkCodecs.writeResourceType(generator, value.getResourceType());
+    }
+    if (value.getRequestStage() != null) {
+      generator.writeFieldName("requestStage");
+      writeRequestStage(generator, value.getRequestStage());
+    }
+    generator.writeEndObject();
+  }
+
+  public static RequestStage readRequestStage(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "Request":
+        return RequestStage.REQUEST;
+      case "Response":
+        return RequestStage.RESPONSE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, RequestStage.class, value);
+    }
+  }
+
+  public static void writeRequestStage(JsonGenerator generator, RequestStage value)
+      throws IOException {
+    generator.writeString(REQUEST_STAGE_VALUES[value.ordinal()]);
+  }
+
+  public static ResponseBody readResponseBody(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ResponseBody result = new ResponseBody();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "body":
+          result.setBody(JsonCodecs.readString(parser));
+          break;
+        case "base64Encoded":
+          result.setBase64Encoded(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeResponseBody(JsonGenerator generator, ResponseBody value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBody() != null) {
+      generator.writeFieldName("body");
+      JsonCodecs.writeString(generator, value.getBody());
+    }
+    if (value.getBase64Encoded() != null) {
+      generator.writeFieldName("base64Encoded");
+      JsonCodecs.writeBoolean(generator, value.getBase64Encoded());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AuthRequired readAuthRequired(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AuthRequired result = new AuthRequired();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "request":
+          result.setRequest(NetworkCodecs.readRequest(parser));
+          break;
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "resourceType":
+          result.setResourceType(NetworkCodecs.readResourceType(parser));
+          break;
+        case "authChallenge":
+          result.setAuthChallenge(readAuthChallenge(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static RequestPaused readRequestPaused(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RequestPaused result = new RequestPaused();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "request":
+          result.setRequest(NetworkCodecs.readRequest(parser));
+          break;
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "resourceType":
+          result.setResourceType(NetworkCodecs.readResourceType(parser));
+          break;
+        case "responseErrorReason":
+          result.setResponseErrorReason(NetworkCodecs.readErrorReason(parser));
+          break;
+        case "responseStatusCode":
+          result.setResponseStatusCode(JsonCodecs.readInteger(parser));
+          break;
+        case "responseHeaders":
+          result.setResponseHeaders(JsonCodecs.readList(parser, FetchCodecs::readHeaderEntry));
+          break;
+        case "networkId":
+          result.setNetworkId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,177 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.headlessexperimental.NeedsBeginFramesChanged;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.headlessexperimental.BeginFrame;
+import com.github.kklisura.cdt.protocol.types.headlessexperimental.ScreenshotParams;
+import com.github.kklisura.cdt.protocol.types.headlessexperimental.ScreenshotParamsFormat;
+import java.io.IOException;
+
+/** HeadlessExperimental domain type and event codecs. */
+public final class HeadlessExperimentalCodecs {
+
+  private static final String[] SCREENSHOT_PARAMS_FORMAT_VALUES = {"jpeg", "png"};
+
+  private HeadlessExperimentalCodecs() {}
+
+  /**
+   * Registers HeadlessExperimental codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        BeginFrame.class,
+        HeadlessExperimentalCodecs::readBeginFrame,
+        HeadlessExperimentalCodecs::writeBeginFrame);
+    module.addCodec(
+        ScreenshotParams.class,
+        HeadlessExperimentalCodecs::readScreenshotParams,
+        HeadlessExperimentalCodecs::writeScreenshotParams);
+    module.addCodec(
+        ScreenshotParamsFormat.class,
+        HeadlessExperimentalCodecs::readScreenshotParamsFormat,
+        HeadlessExperimentalCodecs::writeScreenshotParamsFormat);
+    module.addReader(
+        NeedsBeginFramesChanged.class, HeadlessExperimentalCodecs::readNeedsBeginFramesChanged);
+  }
+
+  public static BeginFrame readBeginFrame(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BeginFrame result = new BeginFrame();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "hasDamage":
+          result.setHasDamage(JsonCodecs.readBoolean(parser));
+          break;
+        case "screenshotData":
+          result.setScreenshotData(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBeginFrame(JsonGenerator generator, BeginFrame value) throws IOException {
+    generator.writeStartObject();
+    if (value.getHasDamage() != null) {
+      generator.writeFieldName("hasDamage");
+      JsonCodecs.writeBoolean(generator, value.getHasDamage());
+    }
+    if (value.getScreenshotData() != null) {
+      generator.writeFieldName("screenshotData");
+      JsonCodecs.writeString(generator, value.getScreenshotData());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ScreenshotParams readScreenshotParams(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScreenshotParams result = new ScreenshotParams();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "format":
+          result.setFormat(readScreenshotParamsFormat(parser));
+          break;
+        case "quality":
+          result.setQuality(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeScreenshotParams(JsonGenerator generator, ScreenshotParams value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getFormat() != null) {
+      generator.writeFieldName("format");
+      writeScreenshotParamsFormat(generator, value.getFormat());
+    }
+    if (value.getQuality() != null) {
+      generator.writeFieldName("quality");
+      JsonCodecs.writeInteger(generator, value.getQuality());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ScreenshotParamsFormat readScreenshotParamsFormat(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "jpeg":
+        return ScreenshotParamsFormat.JPEG;
+      case "png":
+        return ScreenshotParamsFormat.PNG;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ScreenshotParamsFormat.class, value);
+    }
+  }
+
+  public static void writeScreenshotParamsFormat(
+      JsonGenerator generator, ScreenshotParamsFormat value) throws IOException {
+    generator.writeString(SCREENSHOT_PARAMS_FORMAT_VALUES[value.ordinal()]);
+  }
+
+  public static NeedsBeginFramesChanged readNeedsBeginFramesChanged(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NeedsBeginFramesChanged result = new NeedsBeginFramesChanged();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "needsBeginFrames":
+          result.setNeedsBeginFrames(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
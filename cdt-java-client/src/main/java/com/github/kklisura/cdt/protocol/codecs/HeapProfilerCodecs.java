@@ -0,0 +1,311 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.heapprofiler.AddHeapSnapshotChunk;
+import com.github.kklisura.cdt.protocol.events.heapprofiler.HeapStatsUpdate;
+import com.github.kklisura.cdt.protocol.events.heapprofiler.LastSeenObjectId;
+import com.github.kklisura.cdt.protocol.events.heapprofiler.ReportHeapSnapshotProgress;
+import com.github.kklisura.cdt.protocol.events.heapprofiler.ResetProfiles;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.heapprofiler.SamplingHeapProfile;
+import com.github.kklisura.cdt.protocol.types.heapprofiler.SamplingHeapProfileNode;
+import com.github.kklisura.cdt.protocol.types.heapprofiler.SamplingHeapProfileSample;
+import java.io.IOException;
+
+/** HeapProfiler domain type and event codecs. */
+public final class HeapProfilerCodecs {
+
+  private HeapProfilerCodecs() {}
+
+  /**
+   * Registers HeapProfiler codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        SamplingHeapProfile.class,
+        HeapProfilerCodecs::readSamplingHeapProfile,
+        HeapProfilerCodecs::writeSamplingHeapProfile);
+    module.addCodec(
+        SamplingHeapProfileNode.class,
+        HeapProfilerCodecs::readSamplingHeapProfileNode,
+        HeapProfilerCodecs::writeSamplingHeapProfileNode);
+    module.addCodec(
+        SamplingHeapProfileSample.class,
+        HeapProfilerCodecs::readSamplingHeapProfileSample,
+        HeapProfilerCodecs::writeSamplingHeapProfileSample);
+    module.addReader(AddHeapSnapshotChunk.class, HeapProfilerCodecs::readAddHeapSnapshotChunk);
+    module.addReader(HeapStatsUpdate.class, HeapProfilerCodecs::readHeapStatsUpdate);
+    module.addReader(LastSeenObjectId.class, HeapProfilerCodecs::readLastSeenObjectId);
+    module.addReader(
+        ReportHeapSnapshotProgress.class, HeapProfilerCodecs::readReportHeapSnapshotProgress);
+    module.addReader(ResetProfiles.class, HeapProfilerCodecs::readResetProfiles);
+  }
+
+  public static SamplingHeapProfile readSamplingHeapProfile(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SamplingHeapProfile result = new SamplingHeapProfile();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "head":
+          result.setHead(readSamplingHeapProfileNode(parser));
+          break;
+        case "samples":
+          result.setSamples(
+              JsonCodecs.readList(parser, HeapProfilerCodecs::readSamplingHeapProfileSample));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSamplingHeapProfile(JsonGenerator generator, SamplingHeapProfile value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getHead() != null) {
+      generator.writeFieldName("head");
+      writeSamplingHeapProfileNode(generator, value.getHead());
+    }
+    if (value.getSamples() != null) {
+      generator.writeFieldName("samples");
+      JsonCodecs.writeList(
+          generator, value.getSamples(), HeapProfilerCodecs::writeSamplingHeapProfileSample);
+    }
+    generator.writeEndObject();
+  }
+
+  public static SamplingHeapProfileNode readSamplingHeapProfileNode(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SamplingHeapProfileNode result = new SamplingHeapProfileNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "callFrame":
+          result.setCallFrame(RuntimeCodecs.readCallFrame(parser));
+          break;
+        case "selfSize":
+          result.setSelfSize(JsonCodecs.readDouble(parser));
+          break;
+        case "id":
+          result.setId(JsonCodecs.readInteger(parser));
+          break;
+        case "children":
+          result.setChildren(
+              JsonCodecs.readList(parser, HeapProfilerCodecs::readSamplingHeapProfileNode));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSamplingHeapProfileNode(
+      JsonGenerator generator, SamplingHeapProfileNode value) throws IOException {
+    generator.writeStartObject();
+    if (value.getCallFrame() != null) {
+      generator.writeFieldName("callFrame");
+      RuntimeCodecs.writeCallFrame(generator, value.getCallFrame());
+    }
+    if (value.getSelfSize() != null) {
+      generator.writeFieldName("selfSize");
+      JsonCodecs.writeDouble(generator, value.getSelfSize());
+    }
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeInteger(generator, value.getId());
+    }
+    if (value.getChildren() != null) {
+      generator.writeFieldName("children");
+      JsonCodecs.writeList(
+          generator, value.getChildren(), HeapProfilerCodecs::writeSamplingHeapProfileNode);
+    }
+    generator.writeEndObject();
+  }
+
+  public static SamplingHeapProfileSample readSamplingHeapProfileSample(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SamplingHeapProfileSample result = new SamplingHeapProfileSample();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "size":
+          result.setSize(JsonCodecs.readDouble(parser));
+          break;
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "ordinal":
+          result.setOrdinal(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSamplingHeapProfileSample(
+      JsonGenerator generator, SamplingHeapProfileSample value) throws IOException {
+    generator.writeStartObject();
+    if (value.getSize() != null) {
+      generator.writeFieldName("size");
+      JsonCodecs.writeDouble(generator, value.getSize());
+    }
+    if (value.getNodeId() != null) {
+      generator.writeFieldName("nodeId");
+      JsonCodecs.writeInteger(generator, value.getNodeId());
+    }
+    if (value.getOrdinal() != null) {
+      generator.writeFieldName("ordinal");
+      JsonCodecs.writeDouble(generator, value.getOrdinal());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AddHeapSnapshotChunk readAddHeapSnapshotChunk(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AddHeapSnapshotChunk result = new AddHeapSnapshotChunk();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "chunk":
+          result.setChunk(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static HeapStatsUpdate readHeapStatsUpdate(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    HeapStatsUpdate result = new HeapStatsUpdate();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "statsUpdate":
+          result.setStatsUpdate(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static LastSeenObjectId readLastSeenObjectId(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LastSeenObjectId result = new LastSeenObjectId();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "lastSeenObjectId":
+          result.setLastSeenObjectId(JsonCodecs.readInteger(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ReportHeapSnapshotProgress readReportHeapSnapshotProgress(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ReportHeapSnapshotProgress result = new ReportHeapSnapshotProgress();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "done":
+          result.setDone(JsonCodecs.readInteger(parser));
+          break;
+        case "total":
+          result.setTotal(JsonCodecs.readInteger(parser));
+          break;
+        case "finished":
+          result.setFinished(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ResetProfiles readResetProfiles(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ResetProfiles result = new ResetProfiles();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return result;
+  }
+}
@@ -0,0 +1,87 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.io.Read;
+import java.io.IOException;
+
+/** IO domain type and event codecs. */
+public final class IOCodecs {
+
+  private IOCodecs() {}
+
+  /**
+   * Registers IO codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(Read.class, IOCodecs::readRead, IOCodecs::writeRead);
+  }
+
+  public static Read readRead(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Read result = new Read();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "base64Encoded":
+          result.setBase64Encoded(JsonCodecs.readBoolean(parser));
+          break;
+        case "data":
+          result.setData(JsonCodecs.readString(parser));
+          break;
+        case "eof":
+          result.setEof(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRead(JsonGenerator generator, Read value) throws IOException {
+    generator.writeStartObject();
+    if (value.getBase64Encoded() != null) {
+      generator.writeFieldName("base64Encoded");
+      JsonCodecs.writeBoolean(generator, value.getBase64Encoded());
+    }
+    if (value.getData() != null) {
+      generator.writeFieldName("data");
+      JsonCodecs.writeString(generator, value.getData());
+    }
+    if (value.getEof() != null) {
+      generator.writeFieldName("eof");
+      JsonCodecs.writeBoolean(generator, value.getEof());
+    }
+    generator.writeEndObject();
+  }
+}
@@ -0,0 +1,538 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.indexeddb.DataEntry;
+import com.github.kklisura.cdt.protocol.types.indexeddb.DatabaseWithObjectStores;
+import com.github.kklisura.cdt.protocol.types.indexeddb.Key;
+import com.github.kklisura.cdt.protocol.types.indexeddb.KeyPath;
+import com.github.kklisura.cdt.protocol.types.indexeddb.KeyPathType;
+import com.github.kklisura.cdt.protocol.types.indexeddb.KeyRange;
+import com.github.kklisura.cdt.protocol.types.indexeddb.KeyType;
+import com.github.kklisura.cdt.protocol.types.indexeddb.Metadata;
+import com.github.kklisura.cdt.protocol.types.indexeddb.ObjectStore;
+import com.github.kklisura.cdt.protocol.types.indexeddb.ObjectStoreIndex;
+import com.github.kklisura.cdt.protocol.types.indexeddb.RequestData;
+import java.io.IOException;
+
+/** IndexedDB domain type and event codecs. */
+public final class IndexedDBCodecs {
+
+  private static final String[] KEY_PATH_TYPE_VALUES = {"null", "string", "array"};
+
+  private static final String[] KEY_TYPE_VALUES = {"number", "string", "date", "array"};
+
+  private IndexedDBCodecs() {}
+
+  /**
+   * Registers IndexedDB codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        DataEntry.class, IndexedDBCodecs::readDataEntry, IndexedDBCodecs::writeDataEntry);
+    module.addCodec(
+        DatabaseWithObjectStores.class,
+        IndexedDBCodecs::readDatabaseWithObjectStores,
+        IndexedDBCodecs::writeDatabaseWithObjectStores);
+    module.addCodec(Key.class, IndexedDBCodecs::readKey, IndexedDBCodecs::writeKey);
+    module.addCodec(KeyPath.class, IndexedDBCodecs::readKeyPath, IndexedDBCodecs::writeKeyPath);
+    module.addCodec(
+        KeyPathType.class, IndexedDBCodecs::readKeyPathType, IndexedDBCodecs::writeKeyPathType);
+    module.addCodec(KeyRange.class, IndexedDBCodecs::readKeyRange, IndexedDBCodecs::writeKeyRange);
+    module.addCodec(KeyType.class, IndexedDBCodecs::readKeyType, IndexedDBCodecs::writeKeyType);
+    module.addCodec(Metadata.class, IndexedDBCodecs::readMetadata, IndexedDBCodecs::writeMetadata);
+    module.addCodec(
+        ObjectStore.class, IndexedDBCodecs::readObjectStore, IndexedDBCodecs::writeObjectStore);
+    module.addCodec(
+        ObjectStoreIndex.class,
+        IndexedDBCodecs::readObjectStoreIndex,
+        IndexedDBCodecs::writeObjectStoreIndex);
+    module.addCodec(
+        RequestData.class, IndexedDBCodecs::readRequestData, IndexedDBCodecs::writeRequestData);
+  }
+
+  public static DataEntry readDataEntry(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DataEntry result = new DataEntry();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "key":
+          result.setKey(RuntimeCodecs.readRemoteObject(parser));
+          break;
+        case "primaryKey":
+          result.setPrimaryKey(RuntimeCodecs.readRemoteObject(parser));
+          break;
+        case "value":
+          result.setValue(RuntimeCodecs.readRemoteObject(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeDataEntry(JsonGenerator generator, DataEntry value) throws IOException {
+    generator.writeStartObject();
+    if (value.getKey() != null) {
+      generator.writeFieldName("key");
+      RuntimeCodecs.writeRemoteObject(generator, value.getKey());
+    }
+    if (value.getPrimaryKey() != null) {
+      generator.writeFieldName("primaryKey");
+      RuntimeCodecs.writeRemoteObject(generator, value.getPrimaryKey());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      RuntimeCodecs.writeRemoteObject(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static DatabaseWithObjectStores readDatabaseWithObjectStores(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DatabaseWithObjectStores result = new DatabaseWithObjectStores();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "version":
+          result.setVersion(JsonCodecs.readDouble(parser));
+          break;
+        case "objectStores":
+          result.setObjectStores(JsonCodecs.readList(parser, IndexedDBCodecs::readObjectStore));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeDatabaseWithObjectStores(
+      JsonGenerator generator, DatabaseWithObjectStores value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getVersion() != null) {
+      generator.writeFieldName("version");
+      JsonCodecs.writeDouble(generator, value.getVersion());
+    }
+    if (value.getObjectStores() != null) {
+      generator.writeFieldName("objectStores");
+      JsonCodecs.writeList(generator, value.getObjectStores(), IndexedDBCodecs::writeObjectStore);
+    }
+    generator.writeEndObject();
+  }
+
+  public static Key readKey(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Key result = new Key();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readKeyType(parser));
+          break;
+        case "number":
+          result.setNumber(JsonCodecs.readDouble(parser));
+          break;
+        case "string":
+          result.setString(JsonCodecs.readString(parser));
+          break;
+        case "date":
+          result.setDate(JsonCodecs.readDouble(parser));
+          break;
+        case "array":
+          result.setArray(JsonCodecs.readList(parser, IndexedDBCodecs::readKey));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeKey(JsonGenerator generator, Key value) throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeKeyType(generator, value.getType());
+    }
+    if (value.getNumber() != null) {
+      generator.writeFieldName("number");
+      JsonCodecs.writeDouble(generator, value.getNumber());
+    }
+    if (value.getString() != null) {
+      generator.writeFieldName("string");
+      JsonCodecs.writeString(generator, value.getString());
+    }
+    if (value.getDate() != null) {
+      generator.writeFieldName("date");
+      JsonCodecs.writeDouble(generator, value.getDate());
+    }
+    if (value.getArray() != null) {
+      generator.writeFieldName("array");
+      JsonCodecs.writeList(generator, value.getArray(), IndexedDBCodecs::writeKey);
+    }
+    generator.writeEndObject();
+  }
+
+  public static KeyPath readKeyPath(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    KeyPath result = new KeyPath();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readKeyPathType(parser));
+          break;
+        case "string":
+          result.setString(JsonCodecs.readString(parser));
+          break;
+        case "array":
+          result.setArray(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeKeyPath(JsonGenerator generator, KeyPath value) throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeKeyPathType(generator, value.getType());
+    }
+    if (value.getString() != null) {
+      generator.writeFieldName("string");
+      JsonCodecs.writeString(generator, value.getString());
+    }
+    if (value.getArray() != null) {
+      generator.writeFieldName("array");
+      JsonCodecs.writeList(generator, value.getArray(), JsonCodecs::writeString);
+    }
+    generator.writeEndObject();
+  }
+
+  public static KeyPathType readKeyPathType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "null":
+        return KeyPathType.NULL;
+      case "string":
+        return KeyPathType.STRING;
+      case "array":
+        return KeyPathType.ARRAY;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, KeyPathType.class, value);
+    }
+  }
+
+  public static void writeKeyPathType(JsonGenerator generator, KeyPathType value)
+      throws IOException {
+    generator.writeString(KEY_PATH_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static KeyRange readKeyRange(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    KeyRange result = new KeyRange();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "lower":
+          result.setLower(readKey(parser));
+          break;
+        case "upper":
+          result.setUpper(readKey(parser));
+          break;
+        case "lowerOpen":
+          result.setLowerOpen(JsonCodecs.readBoolean(parser));
+          break;
+        case "upperOpen":
+          result.setUpperOpen(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeKeyRange(JsonGenerator generator, KeyRange value) throws IOException {
+    generator.writeStartObject();
+    if (value.getLower() != null) {
+      generator.writeFieldName("lower");
+      writeKey(generator, value.getLower());
+    }
+    if (value.getUpper() != null) {
+      generator.writeFieldName("upper");
+      writeKey(generator, value.getUpper());
+    }
+    if (value.getLowerOpen() != null) {
+      generator.writeFieldName("lowerOpen");
+      JsonCodecs.writeBoolean(generator, value.getLowerOpen());
+    }
+    if (value.getUpperOpen() != null) {
+      generator.writeFieldName("upperOpen");
+      JsonCodecs.writeBoolean(generator, value.getUpperOpen());
+    }
+    generator.writeEndObject();
+  }
+
+  public static KeyType readKeyType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "number":
+        return KeyType.NUMBER;
+      case "string":
+        return KeyType.STRING;
+      case "date":
+        return KeyType.DATE;
+      case "array":
+        return KeyType.ARRAY;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, KeyType.class, value);
+    }
+  }
+
+  public static void writeKeyType(JsonGenerator generator, KeyType value) throws IOException {
+    generator.writeString(KEY_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static Metadata readMetadata(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Metadata result = new Metadata();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "entriesCount":
+          result.setEntriesCount(JsonCodecs.readDouble(parser));
+          break;
+        case "keyGeneratorValue":
+          result.setKeyGeneratorValue(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeMetadata(JsonGenerator generator, Metadata value) throws IOException {
+    generator.writeStartObject();
+    if (value.getEntriesCount() != null) {
+      generator.writeFieldName("entriesCount");
+      JsonCodecs.writeDouble(generator, value.getEntriesCount());
+    }
+    if (value.getKeyGeneratorValue() != null) {
+      generator.writeFieldName("keyGeneratorValue");
+      JsonCodecs.writeDouble(generator, value.getKeyGeneratorValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ObjectStore readObjectStore(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ObjectStore result = new ObjectStore();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "keyPath":
+          result.setKeyPath(readKeyPath(parser));
+          break;
+        case "autoIncrement":
+          result.setAutoIncrement(JsonCodecs.readBoolean(parser));
+          break;
+        case "indexes":
+          result.setIndexes(JsonCodecs.readList(parser, IndexedDBCodecs::readObjectStoreIndex));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeObjectStore(JsonGenerator generator, ObjectStore value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getKeyPath() != null) {
+      generator.writeFieldName("keyPath");
+      writeKeyPath(generator, value.getKeyPath());
+    }
+    if (value.getAutoIncrement() != null) {
+      generator.writeFieldName("autoIncrement");
+      JsonCodecs.writeBoolean(generator, value.getAutoIncrement());
+    }
+    if (value.getIndexes() != null) {
+      generator.writeFieldName("indexes");
+      JsonCodecs.writeList(generator, value.getIndexes(), IndexedDBCodecs::writeObjectStoreIndex);
+    }
+    generator.writeEndObject();
+  }
+
+  public static ObjectStoreIndex readObjectStoreIndex(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ObjectStoreIndex result = new ObjectStoreIndex();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "keyPath":
+          result.setKeyPath(readKeyPath(parser));
+          break;
+        case "unique":
+          result.setUnique(JsonCodecs.readBoolean(parser));
+          break;
+        case "multiEntry":
+          result.setMultiEntry(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeObjectStoreIndex(JsonGenerator generator, ObjectStoreIndex value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getKeyPath() != null) {
+      generator.writeFieldName("keyPath");
+      writeKeyPath(generator, value.getKeyPath());
+    }
+    if (value.getUnique() != null) {
+      generator.writeFieldName("unique");
+      JsonCodecs.writeBoolean(generator, value.getUnique());
+    }
+    if (value.getMultiEntry() != null) {
+      generator.writeFieldName("multiEntry");
+      JsonCodecs.writeBoolean(generator, value.getMultiEntry());
+    }
+    generator.writeEndObject();
+  }
+
+  public static RequestData readRequestData(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RequestData result = new RequestData();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "objectStoreDataEntries":
+          result.setObjectStoreDataEntries(
+              JsonCodecs.readList(parser, IndexedDBCodecs::readDataEntry));
+          break;
+        case "hasMore":
+          result.setHasMore(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRequestData(JsonGenerator generator, RequestData value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getObjectStoreDataEntries() != null) {
+      generator.writeFieldName("objectStoreDataEntries");
+      JsonCodecs.writeList(
+          generator, value.getObjectStoreDataEntries(), IndexedDBCodecs::writeDataEntry);
+    }
+    if (value.getHasMore() != null) {
+      generator.writeFieldName("hasMore");
+      JsonCodecs.writeBoolean(generator, value.getHasMore());
+    }
+    generator.writeEndObject();
+  }
+}
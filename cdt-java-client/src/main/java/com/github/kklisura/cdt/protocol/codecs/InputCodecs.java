@@ -0,0 +1,380 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.input.DispatchKeyEventType;
+import com.github.kklisura.cdt.protocol.types.input.DispatchMouseEventButton;
+import com.github.kklisura.cdt.protocol.types.input.DispatchMouseEventPointerType;
+import com.github.kklisura.cdt.protocol.types.input.DispatchMouseEventType;
+import com.github.kklisura.cdt.protocol.types.input.DispatchTouchEventType;
+import com.github.kklisura.cdt.protocol.types.input.EmulateTouchFromMouseEventButton;
+import com.github.kklisura.cdt.protocol.types.input.EmulateTouchFromMouseEventType;
+import com.github.kklisura.cdt.protocol.types.input.GestureSourceType;
+import com.github.kklisura.cdt.protocol.types.input.TouchPoint;
+import java.io.IOException;
+
+/** Input domain type and event codecs. */
+public final class InputCodecs {
+
+  private static final String[] DISPATCH_KEY_EVENT_TYPE_VALUES = {
+    "keyDown", "keyUp", "rawKeyDown", "char"
+  };
+
+  private static final String[] DISPATCH_MOUSE_EVENT_BUTTON_VALUES = {
+    "none", "left", "middle", "right", "back", "forward"
+  };
+
+  private static final String[] DISPATCH_MOUSE_EVENT_POINTER_TYPE_VALUES = {"mouse", "pen"};
+
+  private static final String[] DISPATCH_MOUSE_EVENT_TYPE_VALUES = {
+    "mousePressed", "mouseReleased", "mouseMoved", "mouseWheel"
+  };
+
+  private static final String[] DISPATCH_TOUCH_EVENT_TYPE_VALUES = {
+    "touchStart", "touchEnd", "touchMove", "touchCancel"
+  };
+
+  private static final String[] EMULATE_TOUCH_FROM_MOUSE_EVENT_BUTTON_VALUES = {
+    "none", "left", "middle", "right"
+  };
+
+  private static final String[] EMULATE_TOUCH_FROM_MOUSE_EVENT_TYPE_VALUES = {
+    "mousePressed", "mouseReleased", "mouseMoved", "mouseWheel"
+  };
+
+  private static final String[] GESTURE_SOURCE_TYPE_VALUES = {"default", "touch", "mouse"};
+
+  private InputCodecs() {}
+
+  /**
+   * Registers Input codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        DispatchKeyEventType.class,
+        InputCodecs::readDispatchKeyEventType,
+        InputCodecs::writeDispatchKeyEventType);
+    module.addCodec(
+        DispatchMouseEventButton.class,
+        InputCodecs::readDispatchMouseEventButton,
+        InputCodecs::writeDispatchMouseEventButton);
+    module.addCodec(
+        DispatchMouseEventPointerType.class,
+        InputCodecs::readDispatchMouseEventPointerType,
+        InputCodecs::writeDispatchMouseEventPointerType);
+    module.addCodec(
+        DispatchMouseEventType.class,
+        InputCodecs::readDispatchMouseEventType,
+        InputCodecs::writeDispatchMouseEventType);
+    module.addCodec(
+        DispatchTouchEventType.class,
+        InputCodecs::readDispatchTouchEventType,
+        InputCodecs::writeDispatchTouchEventType);
+    module.addCodec(
+        EmulateTouchFromMouseEventButton.class,
+        InputCodecs::readEmulateTouchFromMouseEventButton,
+        InputCodecs::writeEmulateTouchFromMouseEventButton);
+    module.addCodec(
+        EmulateTouchFromMouseEventType.class,
+        InputCodecs::readEmulateTouchFromMouseEventType,
+        InputCodecs::writeEmulateTouchFromMouseEventType);
+    module.addCodec(
+        GestureSourceType.class,
+        InputCodecs::readGestureSourceType,
+        InputCodecs::writeGestureSourceType);
+    module.addCodec(TouchPoint.class, InputCodecs::readTouchPoint, InputCodecs::writeTouchPoint);
+  }
+
+  public static DispatchKeyEventType readDispatchKeyEventType(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "keyDown":
+        return DispatchKeyEventType.KEY_DOWN;
+      case "keyUp":
+        return DispatchKeyEventType.KEY_UP;
+      case "rawKeyDown":
+        return DispatchKeyEventType.RAW_KEY_DOWN;
+      case "char":
+        return DispatchKeyEventType.CHAR;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, DispatchKeyEventType.class, value);
+    }
+  }
+
+  public static void writeDispatchKeyEventType(JsonGenerator generator, DispatchKeyEventType value)
+      throws IOException {
+    generator.writeString(DISPATCH_KEY_EVENT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static DispatchMouseEventButton readDispatchMouseEventButton(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "none":
+        return DispatchMouseEventButton.NONE;
+      case "left":
+        return DispatchMouseEventButton.LEFT;
+      case "middle":
+        return DispatchMouseEventButton.MIDDLE;
+      case "right":
+        return DispatchMouseEventButton.RIGHT;
+      case "back":
+        return DispatchMouseEventButton.BACK;
+      case "forward":
+        return DispatchMouseEventButton.FORWARD;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, DispatchMouseEventButton.class, value);
+    }
+  }
+
+  public static void writeDispatchMouseEventButton(
+      JsonGenerator generator, DispatchMouseEventButton value) throws IOException {
+    generator.writeString(DISPATCH_MOUSE_EVENT_BUTTON_VALUES[value.ordinal()]);
+  }
+
+  public static DispatchMouseEventPointerType readDispatchMouseEventPointerType(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "mouse":
+        return DispatchMouseEventPointerType.MOUSE;
+      case "pen":
+        return DispatchMouseEventPointerType.PEN;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, DispatchMouseEventPointerType.class, value);
+    }
+  }
+
+  public static void writeDispatchMouseEventPointerType(
+      JsonGenerator generator, DispatchMouseEventPointerType value) throws IOException {
+    generator.writeString(DISPATCH_MOUSE_EVENT_POINTER_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static DispatchMouseEventType readDispatchMouseEventType(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "mousePressed":
+        return DispatchMouseEventType.MOUSE_PRESSED;
+      case "mouseReleased":
+        return DispatchMouseEventType.MOUSE_RELEASED;
+      case "mouseMoved":
+        return DispatchMouseEventType.MOUSE_MOVED;
+      case "mouseWheel":
+        return DispatchMouseEventType.MOUSE_WHEEL;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, DispatchMouseEventType.class, value);
+    }
+  }
+
+  public static void writeDispatchMouseEventType(
+      JsonGenerator generator, DispatchMouseEventType value) throws IOException {
+    generator.writeString(DISPATCH_MOUSE_EVENT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static DispatchTouchEventType readDispatchTouchEventType(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "touchStart":
+        return DispatchTouchEventType.TOUCH_START;
+      case "touchEnd":
+        return DispatchTouchEventType.TOUCH_END;
+      case "touchMove":
+        return DispatchTouchEventType.TOUCH_MOVE;
+      case "touchCancel":
+        return DispatchTouchEventType.TOUCH_CANCEL;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, DispatchTouchEventType.class, value);
+    }
+  }
+
+  public static void writeDispatchTouchEventType(
+      JsonGenerator generator, DispatchTouchEventType value) throws IOException {
+    generator.writeString(DISPATCH_TOUCH_EVENT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static EmulateTouchFromMouseEventButton readEmulateTouchFromMouseEventButton(
+      JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "none":
+        return EmulateTouchFromMouseEventButton.NONE;
+      case "left":
+        return EmulateTouchFromMouseEventButton.LEFT;
+      case "middle":
+        return EmulateTouchFromMouseEventButton.MIDDLE;
+      case "right":
+        return EmulateTouchFromMouseEventButton.RIGHT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, EmulateTouchFromMouseEventButton.class, value);
+    }
+  }
+
+  public static void writeEmulateTouchFromMouseEventButton(
+      JsonGenerator generator, EmulateTouchFromMouseEventButton value) throws IOException {
+    generator.writeString(EMULATE_TOUCH_FROM_MOUSE_EVENT_BUTTON_VALUES[value.ordinal()]);
+  }
+
+  public static EmulateTouchFromMouseEventType readEmulateTouchFromMouseEventType(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "mousePressed":
+        return EmulateTouchFromMouseEventType.MOUSE_PRESSED;
+      case "mouseReleased":
+        return EmulateTouchFromMouseEventType.MOUSE_RELEASED;
+      case "mouseMoved":
+        return EmulateTouchFromMouseEventType.MOUSE_MOVED;
+      case "mouseWheel":
+        return EmulateTouchFromMouseEventType.MOUSE_WHEEL;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, EmulateTouchFromMouseEventType.class, value);
+    }
+  }
+
+  public static void writeEmulateTouchFromMouseEventType(
+      JsonGenerator generator, EmulateTouchFromMouseEventType value) throws IOException {
+    generator.writeString(EMULATE_TOUCH_FROM_MOUSE_EVENT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static GestureSourceType readGestureSourceType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "default":
+        return GestureSourceType.DEFAULT;
+      case "touch":
+        return GestureSourceType.TOUCH;
+      case "mouse":
+        return GestureSourceType.MOUSE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, GestureSourceType.class, value);
+    }
+  }
+
+  public static void writeGestureSourceType(JsonGenerator generator, GestureSourceType value)
+      throws IOException {
+    generator.writeString(GESTURE_SOURCE_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static TouchPoint readTouchPoint(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TouchPoint result = new TouchPoint();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "x":
+          result.setX(JsonCodecs.readDouble(parser));
+          break;
+        case "y":
+          result.setY(JsonCodecs.readDouble(parser));
+          break;
+        case "radiusX":
+          result.setRadiusX(JsonCodecs.readDouble(parser));
+          break;
+        case "radiusY":
+          result.setRadiusY(JsonCodecs.readDouble(parser));
+          break;
+        case "rotationAngle":
+          result.setRotationAngle(JsonCodecs.readDouble(parser));
+          break;
+        case "force":
+          result.setForce(JsonCodecs.readDouble(parser));
+          break;
+        case "id":
+          result.setId(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeTouchPoint(JsonGenerator generator, TouchPoint value) throws IOException {
+    generator.writeStartObject();
+    if (value.getX() != null) {
+      generator.writeFieldName("x");
+      JsonCodecs.writeDouble(generator, value.getX());
+    }
+    if (value.getY() != null) {
+      generator.writeFieldName("y");
+      JsonCodecs.writeDouble(generator, value.getY());
+    }
+    if (value.getRadiusX() != null) {
+      generator.writeFieldName("radiusX");
+      JsonCodecs.writeDouble(generator, value.getRadiusX());
+    }
+    if (value.getRadiusY() != null) {
+      generator.writeFieldName("radiusY");
+      JsonCodecs.writeDouble(generator, value.getRadiusY());
+    }
+    if (value.getRotationAngle() != null) {
+      generator.writeFieldName("rotationAngle");
+      JsonCodecs.writeDouble(generator, value.getRotationAngle());
+    }
+    if (value.getForce() != null) {
+      generator.writeFieldName("force");
+      JsonCodecs.writeDouble(generator, value.getForce());
+    }
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeDouble(generator, value.getId());
+    }
+    generator.writeEndObject();
+  }
+}
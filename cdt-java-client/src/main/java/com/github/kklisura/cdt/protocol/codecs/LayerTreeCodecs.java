@@ -0,0 +1,399 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.layertree.LayerPainted;
+import com.github.kklisura.cdt.protocol.events.layertree.LayerTreeDidChange;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.layertree.Layer;
+import com.github.kklisura.cdt.protocol.types.layertree.PictureTile;
+import com.github.kklisura.cdt.protocol.types.layertree.ScrollRect;
+import com.github.kklisura.cdt.protocol.types.layertree.ScrollRectType;
+import com.github.kklisura.cdt.protocol.types.layertree.StickyPositionConstraint;
+import java.io.IOException;
+
+/** LayerTree domain type and event codecs. */
+public final class LayerTreeCodecs {
+
+  private static final String[] SCROLL_RECT_TYPE_VALUES = {
+    "RepaintsOnScroll", "TouchEventHandler", "WheelEventHandler"
+  };
+
+  private LayerTreeCodecs() {}
+
+  /**
+   * Registers LayerTree codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(Layer.class, LayerTreeCodecs::readLayer, LayerTreeCodecs::writeLayer);
+    module.addCodec(
+        PictureTile.class, LayerTreeCodecs::readPictureTile, LayerTreeCodecs::writePictureTile);
+    module.addCodec(
+        ScrollRect.class, LayerTreeCodecs::readScrollRect, LayerTreeCodecs::writeScrollRect);
+    module.addCodec(
+        ScrollRectType.class,
+        LayerTreeCodecs::readScrollRectType,
+        LayerTreeCodecs::writeScrollRectType);
+    module.addCodec(
+        StickyPositionConstraint.class,
+        LayerTreeCodecs::readStickyPositionConstraint,
+        LayerTreeCodecs::writeStickyPositionConstraint);
+    module.addReader(LayerPainted.class, LayerTreeCodecs::readLayerPainted);
+    module.addReader(LayerTreeDidChange.class, LayerTreeCodecs::readLayerTreeDidChange);
+  }
+
+  public static Layer readLayer(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Layer result = new Layer();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "layerId":
+          result.setLayerId(JsonCodecs.readString(parser));
+          break;
+        case "parentLayerId":
+          result.setParentLayerId(JsonCodecs.readString(parser));
+          break;
+        case "backendNodeId":
+          result.setBackendNodeId(JsonCodecs.readInteger(parser));
+          break;
+        case "offsetX":
+          result.setOffsetX(JsonCodecs.readDouble(parser));
+          break;
+        case "offsetY":
+          result.setOffsetY(JsonCodecs.readDouble(parser));
+          break;
+        case "width":
+          result.setWidth(JsonCodecs.readDouble(parser));
+          break;
+        case "height":
+          result.setHeight(JsonCodecs.readDouble(parser));
+          break;
+        case "transform":
+          result.setTransform(JsonCodecs.readList(parser, JsonCodecs::readDouble));
+          break;
+        case "anchorX":
+          result.setAnchorX(JsonCodecs.readDouble(parser));
+          break;
+        case "anchorY":
+          result.setAnchorY(JsonCodecs.readDouble(parser));
+          break;
+        case "anchorZ":
+          result.setAnchorZ(JsonCodecs.readDouble(parser));
+          break;
+        case "paintCount":
+          result.setPaintCount(JsonCodecs.readInteger(parser));
+          break;
+        case "drawsContent":
+          result.setDrawsContent(JsonCodecs.readBoolean(parser));
+          break;
+        case "invisible":
+          result.setInvisible(JsonCodecs.readBoolean(parser));
+          break;
+        case "scrollRects":
+          result.setScrollRects(JsonCodecs.readList(parser, LayerTreeCodecs::readScrollRect));
+          break;
+        case "stickyPositionConstraint":
+          result.setStickyPositionConstraint(readStickyPositionConstraint(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeLayer(JsonGenerator generator, Layer value) throws IOException {
+    generator.writeStartObject();
+    if (value.getLayerId() != null) {
+      generator.writeFieldName("layerId");
+      JsonCodecs.writeString(generator, value.getLayerId());
+    }
+    if (value.getParentLayerId() != null) {
+      generator.writeFieldName("parentLayerId");
+      JsonCodecs.writeString(generator, value.getParentLayerId());
+    }
+    if (value.getBackendNodeId() != null) {
+      generator.writeFieldName("backendNodeId");
+      JsonCodecs.writeInteger(generator, value.getBackendNodeId());
+    }
+    if (value.getOffsetX() != null) {
+      generator.writeFieldName("offsetX");
+      JsonCodecs.writeDouble(generator, value.getOffsetX());
+    }
+    if (value.getOffsetY() != null) {
+      generator.writeFieldName("offsetY");
+      JsonCodecs.writeDouble(generator, value.getOffsetY());
+    }
+    if (value.getWidth() != null) {
+      generator.writeFieldName("width");
+      JsonCodecs.writeDouble(generator, value.getWidth());
+    }
+    if (value.getHeight() != null) {
+      generator.writeFieldName("height");
+      JsonCodecs.writeDouble(generator, value.getHeight());
+    }
+    if (value.getTransform() != null) {
+      generator.writeFieldName("transform");
+      JsonCodecs.writeList(generator, value.getTransform(), JsonCodecs::writeDouble);
+    }
+    if (value.getAnchorX() != null) {
+      generator.writeFieldName("anchorX");
+      JsonCodecs.writeDouble(generator, value.getAnchorX());
+    }
+    if (value.getAnchorY() != null) {
+      generator.writeFieldName("anchorY");
+      JsonCodecs.writeDouble(generator, value.getAnchorY());
+    }
+    if (value.getAnchorZ() != null) {
+      generator.writeFieldName("anchorZ");
+      JsonCodecs.writeDouble(generator, value.getAnchorZ());
+    }
+    if (value.getPaintCount() != null) {
+      generator.writeFieldName("paintCount");
+      JsonCodecs.writeInteger(generator, value.getPaintCount());
+    }
+    if (value.getDrawsContent() != null) {
+      generator.writeFieldName("drawsContent");
+      JsonCodecs.writeBoolean(generator, value.getDrawsContent());
+    }
+    if (value.getInvisible() != null) {
+      generator.writeFieldName("invisible");
+      JsonCodecs.writeBoolean(generator, value.getInvisible());
+    }
+    if (value.getScrollRects() != null) {
+      generator.writeFieldName("scrollRects");
+      JsonCodecs.writeList(generator, value.getScrollRects(), LayerTreeCodecs::writeScrollRect);
+    }
+    if (value.getStickyPositionConstraint() != null) {
+      generator.writeFieldName("stickyPositionConstraint");
+      writeStickyPositionConstraint(generator, value.getStickyPositionConstraint());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PictureTile readPictureTile(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PictureTile result = new PictureTile();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "x":
+          result.setX(JsonCodecs.readDouble(parser));
+          break;
+        case "y":
+          result.setY(JsonCodecs.readDouble(parser));
+          break;
+        case "picture":
+          result.setPicture(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePictureTile(JsonGenerator generator, PictureTile value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getX() != null) {
+      generator.writeFieldName("x");
+      JsonCodecs.writeDouble(generator, value.getX());
+    }
+    if (value.getY() != null) {
+      generator.writeFieldName("y");
+      JsonCodecs.writeDouble(generator, value.getY());
+    }
+    if (value.getPicture() != null) {
+      generator.writeFieldName("picture");
+      JsonCodecs.writeString(generator, value.getPicture());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ScrollRect readScrollRect(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScrollRect result = new ScrollRect();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "rect":
+          result.setRect(DOMCodecs.readRect(parser));
+          break;
+        case "type":
+          result.setType(readScrollRectType(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeScrollRect(JsonGenerator generator, ScrollRect value) throws IOException {
+    generator.writeStartObject();
+    if (value.getRect() != null) {
+      generator.writeFieldName("rect");
+      DOMCodecs.writeRect(generator, value.getRect());
+    }
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeScrollRectType(generator, value.getType());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ScrollRectType readScrollRectType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "RepaintsOnScroll":
+        return ScrollRectType.REPAINTS_ON_SCROLL;
+      case "TouchEventHandler":
+        return ScrollRectType.TOUCH_EVENT_HANDLER;
+      case "WheelEventHandler":
+        return ScrollRectType.WHEEL_EVENT_HANDLER;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ScrollRectType.class, value);
+    }
+  }
+
+  public static void writeScrollRectType(JsonGenerator generator, ScrollRectType value)
+      throws IOException {
+    generator.writeString(SCROLL_RECT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static StickyPositionConstraint readStickyPositionConstraint(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    StickyPositionConstraint result = new StickyPositionConstraint();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "stickyBoxRect":
+          result.setStickyBoxRect(DOMCodecs.readRect(parser));
+          break;
+        case "containingBlockRect":
+          result.setContainingBlockRect(DOMCodecs.readRect(parser));
+          break;
+        case "nearestLayerShiftingStickyBox":
+          result.setNearestLayerShiftingStickyBox(JsonCodecs.readString(parser));
+          break;
+        case "nearestLayerShiftingContainingBlock":
+          result.setNearestLayerShiftingContainingBlock(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeStickyPositionConstraint(
+      JsonGenerator generator, StickyPositionConstraint value) throws IOException {
+    generator.writeStartObject();
+    if (value.getStickyBoxRect() != null) {
+      generator.writeFieldName("stickyBoxRect");
+      DOMCodecs.writeRect(generator, value.getStickyBoxRect());
+    }
+    if (value.getContainingBlockRect() != null) {
+      generator.writeFieldName("containingBlockRect");
+      DOMCodecs.writeRect(generator, value.getContainingBlockRect());
+    }
+    if (value.getNearestLayerShiftingStickyBox() != null) {
+      generator.writeFieldName("nearestLayerShiftingStickyBox");
+      JsonCodecs.writeString(generator, value.getNearestLayerShiftingStickyBox());
+    }
+    if (value.getNearestLayerShiftingContainingBlock() != null) {
+      generator.writeFieldName("nearestLayerShiftingContainingBlock");
+      JsonCodecs.writeString(generator, value.getNearestLayerShiftingContainingBlock());
+    }
+    generator.writeEndObject();
+  }
+
+  public static LayerPainted readLayerPainted(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LayerPainted result = new LayerPainted();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "layerId":
+          result.setLayerId(JsonCodecs.readString(parser));
+          break;
+        case "clip":
+          result.setClip(DOMCodecs.readRect(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static LayerTreeDidChange readLayerTreeDidChange(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LayerTreeDidChange result = new LayerTreeDidChange();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "layers":
+          result.setLayers(JsonCodecs.readList(parser, LayerTreeCodecs::readLayer));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
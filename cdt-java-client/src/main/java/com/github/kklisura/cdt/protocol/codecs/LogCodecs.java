@@ -0,0 +1,334 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.log.EntryAdded;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.log.LogEntry;
+import com.github.kklisura.cdt.protocol.types.log.LogEntryLevel;
+import com.github.kklisura.cdt.protocol.types.log.LogEntrySource;
+import com.github.kklisura.cdt.protocol.types.log.ViolationSetting;
+import com.github.kklisura.cdt.protocol.types.log.ViolationSettingName;
+import java.io.IOException;
+
+/** Log domain type and event codecs. */
+public final class LogCodecs {
+
+  private static final String[] LOG_ENTRY_LEVEL_VALUES = {"verbose", "info", "warning", "error"};
+
+  private static final String[] LOG_ENTRY_SOURCE_VALUES = {
+    "xml",
+    "javascript",
+    "network",
+    "storage",
+    "appcache",
+    "rendering",
+    "security",
+    "deprecation",
+    "worker",
+    "violation",
+    "intervention",
+    "recommendation",
+    "other"
+  };
+
+  private static final String[] VIOLATION_SETTING_NAME_VALUES = {
+    "longTask",
+    "longLayout",
+    "blockedEvent",
+    "blockedParser",
+    "discouragedAPIUse",
+    "handler",
+    "recurringHandler"
+  };
+
+  private LogCodecs() {}
+
+  /**
+   * Registers Log codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(LogEntry.class, LogCodecs::readLogEntry, LogCodecs::writeLogEntry);
+    module.addCodec(
+        LogEntryLevel.class, LogCodecs::readLogEntryLevel, LogCodecs::writeLogEntryLevel);
+    module.addCodec(
+        LogEntrySource.class, LogCodecs::readLogEntrySource, LogCodecs::writeLogEntrySource);
+    module.addCodec(
+        ViolationSetting.class, LogCodecs::readViolationSetting, LogCodecs::writeViolationSetting);
+    module.addCodec(
+        ViolationSettingName.class,
+        LogCodecs::readViolationSettingName,
+        LogCodecs::writeViolationSettingName);
+    module.addReader(EntryAdded.class, LogCodecs::readEntryAdded);
+  }
+
+  public static LogEntry readLogEntry(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LogEntry result = new LogEntry();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "source":
+          result.setSource(readLogEntrySource(parser));
+          break;
+        case "level":
+          result.setLevel(readLogEntryLevel(parser));
+          break;
+        case "text":
+          result.setText(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "lineNumber":
+          result.setLineNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "stackTrace":
+          result.setStackTrace(RuntimeCodecs.readStackTrace(parser));
+          break;
+        case "networkRequestId":
+          result.setNetworkRequestId(JsonCodecs.readString(parser));
+          break;
+        case "workerId":
+          result.setWorkerId(JsonCodecs.readString(parser));
+          break;
+        case "args":
+          result.setArgs(JsonCodecs.readList(parser, RuntimeCodecs::readRemoteObject));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeLogEntry(JsonGenerator generator, LogEntry value) throws IOException {
+    generator.writeStartObject();
+    if (value.getSource() != null) {
+      generator.writeFieldName("source");
+      writeLogEntrySource(generator, value.getSource());
+    }
+    if (value.getLevel() != null) {
+      generator.writeFieldName("level");
+      writeLogEntryLevel(generator, value.getLevel());
+    }
+    if (value.getText() != null) {
+      generator.writeFieldName("text");
+      JsonCodecs.writeString(generator, value.getText());
+    }
+    if (value.getTimestamp() != null) {
+      generator.writeFieldName("timestamp");
+      JsonCodecs.writeDouble(generator, value.getTimestamp());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getLineNumber() != null) {
+      generator.writeFieldName("lineNumber");
+      JsonCodecs.writeInteger(generator, value.getLineNumber());
+    }
+    if (value.getStackTrace() != null) {
+      generator.writeFieldName("stackTrace");
+      RuntimeCodecs.writeStackTrace(generator, value.getStackTrace());
+    }
+    if (value.getNetworkRequestId() != null) {
+      generator.writeFieldName("networkRequestId");
+      JsonCodecs.writeString(generator, value.getNetworkRequestId());
+    }
+    if (value.getWorkerId() != null) {
+      generator.writeFieldName("workerId");
+      JsonCodecs.writeString(generator, value.getWorkerId());
+    }
+    if (value.getArgs() != null) {
+      generator.writeFieldName("args");
+      JsonCodecs.writeList(generator, value.getArgs(), RuntimeCodecs::writeRemoteObject);
+    }
+    generator.writeEndObject();
+  }
+
+  public static LogEntryLevel readLogEntryLevel(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "verbose":
+        return LogEntryLevel.VERBOSE;
+      case "info":
+        return LogEntryLevel.INFO;
+      case "warning":
+        return LogEntryLevel.WARNING;
+      case "error":
+        return LogEntryLevel.ERROR;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, LogEntryLevel.class, value);
+    }
+  }
+
+  public static void writeLogEntryLevel(JsonGenerator generator, LogEntryLevel value)
+      throws IOException {
+    generator.writeString(LOG_ENTRY_LEVEL_VALUES[value.ordinal()]);
+  }
+
+  public static LogEntrySource readLogEntrySource(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "xml":
+        return LogEntrySource.XML;
+      case "javascript":
+        return LogEntrySource.JAVASCRIPT;
+      case "network":
+        return LogEntrySource.NETWORK;
+      case "storage":
+        return LogEntrySource.STORAGE;
+      case "appcache":
+        return LogEntrySource.APPCACHE;
+      case "rendering":
+        return LogEntrySource.RENDERING;
+      case "security":
+        return LogEntrySource.SECURITY;
+      case "deprecation":
+        return LogEntrySource.DEPRECATION;
+      case "worker":
+        return LogEntrySource.WORKER;
+      case "violation":
+        return LogEntrySource.VIOLATION;
+      case "intervention":
+        return LogEntrySource.INTERVENTION;
+      case "recommendation":
+        return LogEntrySource.RECOMMENDATION;
+      case "other":
+        return LogEntrySource.OTHER;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, LogEntrySource.class, value);
+    }
+  }
+
+  public static void writeLogEntrySource(JsonGenerator generator, LogEntrySource value)
+      throws IOException {
+    generator.writeString(LOG_ENTRY_SOURCE_VALUES[value.ordinal()]);
+  }
+
+  public static ViolationSetting readViolationSetting(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ViolationSetting result = new ViolationSetting();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(readViolationSettingName(parser));
+          break;
+        case "threshold":
+          result.setThreshold(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeViolationSetting(JsonGenerator generator, ViolationSetting value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      writeViolationSettingName(generator, value.getName());
+    }
+    if (value.getThreshold() != null) {
+      generator.writeFieldName("threshold");
+      JsonCodecs.writeDouble(generator, value.getThreshold());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ViolationSettingName readViolationSettingName(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "longTask":
+        return ViolationSettingName.LONG_TASK;
+      case "longLayout":
+        return ViolationSettingName.LONG_LAYOUT;
+      case "blockedEvent":
+        return ViolationSettingName.BLOCKED_EVENT;
+      case "blockedParser":
+        return ViolationSettingName.BLOCKED_PARSER;
+      case "discouragedAPIUse":
+        return ViolationSettingName.DISCOURAGED_API_USE;
+      case "handler":
+        return ViolationSettingName.HANDLER;
+      case "recurringHandler":
+        return ViolationSettingName.RECURRING_HANDLER;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ViolationSettingName.class, value);
+    }
+  }
+
+  public static void writeViolationSettingName(JsonGenerator generator, ViolationSettingName value)
+      throws IOException {
+    generator.writeString(VIOLATION_SETTING_NAME_VALUES[value.ordinal()]);
+  }
+
+  public static EntryAdded readEntryAdded(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    EntryAdded result = new EntryAdded();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "entry":
+          result.setEntry(readLogEntry(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,237 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.media.PlayerEventsAdded;
+import com.github.kklisura.cdt.protocol.events.media.PlayerPropertiesChanged;
+import com.github.kklisura.cdt.protocol.events.media.PlayersCreated;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.media.PlayerEvent;
+import com.github.kklisura.cdt.protocol.types.media.PlayerEventType;
+import com.github.kklisura.cdt.protocol.types.media.PlayerProperty;
+import java.io.IOException;
+
+/** Media domain type and event codecs. */
+public final class MediaCodecs {
+
+  private static final String[] PLAYER_EVENT_TYPE_VALUES = {
+    "playbackEvent", "systemEvent", "messageEvent"
+  };
+
+  private MediaCodecs() {}
+
+  /**
+   * Registers Media codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(PlayerEvent.class, MediaCodecs::readPlayerEvent, MediaCodecs::writePlayerEvent);
+    module.addCodec(
+        PlayerEventType.class, MediaCodecs::readPlayerEventType, MediaCodecs::writePlayerEventType);
+    module.addCodec(
+        PlayerProperty.class, MediaCodecs::readPlayerProperty, MediaCodecs::writePlayerProperty);
+    module.addReader(PlayerEventsAdded.class, MediaCodecs::readPlayerEventsAdded);
+    module.addReader(PlayerPropertiesChanged.class, MediaCodecs::readPlayerPropertiesChanged);
+    module.addReader(PlayersCreated.class, MediaCodecs::readPlayersCreated);
+  }
+
+  public static PlayerEvent readPlayerEvent(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PlayerEvent result = new PlayerEvent();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readPlayerEventType(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePlayerEvent(JsonGenerator generator, PlayerEvent value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writePlayerEventType(generator, value.getType());
+    }
+    if (value.getTimestamp() != null) {
+      generator.writeFieldName("timestamp");
+      JsonCodecs.writeDouble(generator, value.getTimestamp());
+    }
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PlayerEventType readPlayerEventType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "playbackEvent":
+        return PlayerEventType.PLAYBACK_EVENT;
+      case "systemEvent":
+        return PlayerEventType.SYSTEM_EVENT;
+      case "messageEvent":
+        return PlayerEventType.MESSAGE_EVENT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, PlayerEventType.class, value);
+    }
+  }
+
+  public static void writePlayerEventType(JsonGenerator generator, PlayerEventType value)
+      throws IOException {
+    generator.writeString(PLAYER_EVENT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static PlayerProperty readPlayerProperty(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PlayerProperty result = new PlayerProperty();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePlayerProperty(JsonGenerator generator, PlayerProperty value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PlayerEventsAdded readPlayerEventsAdded(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PlayerEventsAdded result = new PlayerEventsAdded();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "playerId":
+          result.setPlayerId(JsonCodecs.readString(parser));
+          break;
+        case "events":
+          result.setEvents(JsonCodecs.readList(parser, MediaCodecs::readPlayerEvent));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static PlayerPropertiesChanged readPlayerPropertiesChanged(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PlayerPropertiesChanged result = new PlayerPropertiesChanged();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "playerId":
+          result.setPlayerId(JsonCodecs.readString(parser));
+          break;
+        case "properties":
+          result.setProperties(JsonCodecs.readList(parser, MediaCodecs::readPlayerProperty));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static PlayersCreated readPlayersCreated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PlayersCreated result = new PlayersCreated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "players":
+          result.setPlayers(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,257 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.memory.DOMCounters;
+import com.github.kklisura.cdt.protocol.types.memory.Module;
+import com.github.kklisura.cdt.protocol.types.memory.PressureLevel;
+import com.github.kklisura.cdt.protocol.types.memory.SamplingProfile;
+import com.github.kklisura.cdt.protocol.types.memory.SamplingProfileNode;
+import java.io.IOException;
+
+/** Memory domain type and event codecs. */
+public final class MemoryCodecs {
+
+  private static final String[] PRESSURE_LEVEL_VALUES = {"moderate", "critical"};
+
+  private MemoryCodecs() {}
+
+  /**
+   * Registers Memory codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        DOMCounters.class, MemoryCodecs::readDOMCounters, MemoryCodecs::writeDOMCounters);
+    module.addCodec(Module.class, MemoryCodecs::readModule, MemoryCodecs::writeModule);
+    module.addCodec(
+        PressureLevel.class, MemoryCodecs::readPressureLevel, MemoryCodecs::writePressureLevel);
+    module.addCodec(
+        SamplingProfile.class,
+        MemoryCodecs::readSamplingProfile,
+        MemoryCodecs::writeSamplingProfile);
+    module.addCodec(
+        SamplingProfileNode.class,
+        MemoryCodecs::readSamplingProfileNode,
+        MemoryCodecs::writeSamplingProfileNode);
+  }
+
+  public static DOMCounters readDOMCounters(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DOMCounters result = new DOMCounters();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "documents":
+          result.setDocuments(JsonCodecs.readInteger(parser));
+          break;
+        case "nodes":
+          result.setNodes(JsonCodecs.readInteger(parser));
+          break;
+        case "jsEventListeners":
+          result.setJsEventListeners(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeDOMCounters(JsonGenerator generator, DOMCounters value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getDocuments() != null) {
+      generator.writeFieldName("documents");
+      JsonCodecs.writeInteger(generator, value.getDocuments());
+    }
+    if (value.getNodes() != null) {
+      generator.writeFieldName("nodes");
+      JsonCodecs.writeInteger(generator, value.getNodes());
+    }
+    if (value.getJsEventListeners() != null) {
+      generator.writeFieldName("jsEventListeners");
+      JsonCodecs.writeInteger(generator, value.getJsEventListeners());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Module readModule(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Module result = new Module();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "uuid":
+          result.setUuid(JsonCodecs.readString(parser));
+          break;
+        case "baseAddress":
+          result.setBaseAddress(JsonCodecs.readString(parser));
+          break;
+        case "size":
+          result.setSize(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeModule(JsonGenerator generator, Module value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getUuid() != null) {
+      generator.writeFieldName("uuid");
+      JsonCodecs.writeString(generator, value.getUuid());
+    }
+    if (value.getBaseAddress() != null) {
+      generator.writeFieldName("baseAddress");
+      JsonCodecs.writeString(generator, value.getBaseAddress());
+    }
+    if (value.getSize() != null) {
+      generator.writeFieldName("size");
+      JsonCodecs.writeDouble(generator, value.getSize());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PressureLevel readPressureLevel(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "moderate":
+        return PressureLevel.MODERATE;
+      case "critical":
+        return PressureLevel.CRITICAL;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, PressureLevel.class, value);
+    }
+  }
+
+  public static void writePressureLevel(JsonGenerator generator, PressureLevel value)
+      throws IOException {
+    generator.writeString(PRESSURE_LEVEL_VALUES[value.ordinal()]);
+  }
+
+  public static SamplingProfile readSamplingProfile(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SamplingProfile result = new SamplingProfile();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "samples":
+          result.setSamples(JsonCodecs.readList(parser, MemoryCodecs::readSamplingProfileNode));
+          break;
+        case "modules":
+          result.setModules(JsonCodecs.readList(parser, MemoryCodecs::readModule));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSamplingProfile(JsonGenerator generator, SamplingProfile value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getSamples() != null) {
+      generator.writeFieldName("samples");
+      JsonCodecs.writeList(generator, value.getSamples(), MemoryCodecs::writeSamplingProfileNode);
+    }
+    if (value.getModules() != null) {
+      generator.writeFieldName("modules");
+      JsonCodecs.writeList(generator, value.getModules(), MemoryCodecs::writeModule);
+    }
+    generator.writeEndObject();
+  }
+
+  public static SamplingProfileNode readSamplingProfileNode(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SamplingProfileNode result = new SamplingProfileNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "size":
+          result.setSize(JsonCodecs.readDouble(parser));
+          break;
+        case "total":
+          result.setTotal(JsonCodecs.readDouble(parser));
+          break;
+        case "stack":
+          result.setStack(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSamplingProfileNode(JsonGenerator generator, SamplingProfileNode value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getSize() != null) {
+      generator.writeFieldName("size");
+      JsonCodecs.writeDouble(generator, value.getSize());
+    }
+    if (value.getTotal() != null) {
+      generator.writeFieldName("total");
+      JsonCodecs.writeDouble(generator, value.getTotal());
+    }
+    if (value.getStack() != null) {
+      generator.writeFieldName("stack");
+      JsonCodecs.writeList(generator, value.getStack(), JsonCodecs::writeString);
+    }
+    generator.writeEndObject();
+  }
+}
@@ -0,0 +1,2969 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.network.DataReceived;
+import com.github.kklisura.cdt.protocol.events.network.EventSourceMessageReceived;
+import com.github.kklisura.cdt.protocol.events.network.LoadingFailed;
+import com.github.kklisura.cdt.protocol.events.network.LoadingFinished;
+import com.github.kklisura.cdt.protocol.events.network.RequestIntercepted;
+import com.github.kklisura.cdt.protocol.events.network.RequestServedFromCache;
+import com.github.kklisura.cdt.protocol.events.network.RequestWillBeSent;
+import com.github.kklisura.cdt.protocol.events.network.RequestWillBeSentExtraInfo;
+import com.github.kklisura.cdt.protocol.events.network.ResourceChangedPriority;
+import com.github.kklisura.cdt.protocol.events.network.ResponseReceived;
+import com.github.kklisura.cdt.protocol.events.network.ResponseReceivedExtraInfo;
+import com.github.kklisura.cdt.protocol.events.network.SignedExchangeReceived;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketClosed;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketCreated;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketFrameError;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketFrameReceived;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketFrameSent;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketHandshakeResponseReceived;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketWillSendHandshakeRequest;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.network.AuthChallenge;
+import com.github.kklisura.cdt.protocol.types.network.AuthChallengeResponse;
+import com.github.kklisura.cdt.protocol.types.network.AuthChallengeResponseResponse;
+import com.github.kklisura.cdt.protocol.types.network.AuthChallengeSource;
+import com.github.kklisura.cdt.protocol.types.network.BlockedCookieWithReason;
+import com.github.kklisura.cdt.protocol.types.network.BlockedReason;
+import com.github.kklisura.cdt.protocol.types.network.BlockedSetCookieWithReason;
+import com.github.kklisura.cdt.protocol.types.network.CachedResource;
+import com.github.kklisura.cdt.protocol.types.network.CertificateTransparencyCompliance;
+import com.github.kklisura.cdt.protocol.types.network.ConnectionType;
+import com.github.kklisura.cdt.protocol.types.network.Cookie;
+import com.github.kklisura.cdt.protocol.types.network.CookieBlockedReason;
+import com.github.kklisura.cdt.protocol.types.network.CookieParam;
+import com.github.kklisura.cdt.protocol.types.network.CookieSameSite;
+import com.github.kklisura.cdt.protocol.types.network.ErrorReason;
+import com.github.kklisura.cdt.protocol.types.network.Initiator;
+import com.github.kklisura.cdt.protocol.types.network.InitiatorType;
+import com.github.kklisura.cdt.protocol.types.network.InterceptionStage;
+import com.github.kklisura.cdt.protocol.types.network.Request;
+import com.github.kklisura.cdt.protocol.types.network.RequestPattern;
+import com.github.kklisura.cdt.protocol.types.network.RequestReferrerPolicy;
+import com.github.kklisura.cdt.protocol.types.network.ResourcePriority;
+import com.github.kklisura.cdt.protocol.types.network.ResourceTiming;
+import com.github.kklisura.cdt.protocol.types.network.ResourceType;
+import com.github.kklisura.cdt.protocol.types.network.Response;
+import com.github.kklisura.cdt.protocol.types.network.ResponseBody;
+import com.github.kklisura.cdt.protocol.types.network.ResponseBodyForInterception;
+import com.github.kklisura.cdt.protocol.types.network.SecurityDetails;
+import com.github.kklisura.cdt.protocol.types.network.SetCookieBlockedReason;
+import com.github.kklisura.cdt.protocol.types.network.SignedCertificateTimestamp;
+import com.github.kklisura.cdt.protocol.types.network.SignedExchangeError;
+import com.github.kklisura.cdt.protocol.types.network.SignedExchangeErrorField;
+import com.github.kklisura.cdt.protocol.types.network.SignedExchangeHeader;
+import com.github.kklisura.cdt.protocol.types.network.SignedExchangeInfo;
+import com.github.kklisura.cdt.protocol.types.network.SignedExchangeSignature;
+import com.github.kklisura.cdt.protocol.types.network.WebSocketFrame;
+import com.github.kklisura.cdt.protocol.types.network.WebSocketRequest;
+import com.github.kklisura.cdt.protocol.types.network.WebSocketResponse;
+import java.io.IOException;
+
+/** Network domain type and event codecs. */
+public final class NetworkCodecs {
+
+  private static final String[] AUTH_CHALLENGE_RESPONSE_RESPONSE_VALUES = {
+    "Default", "CancelAuth", "ProvideCredentials"
+  };
+
+  private static final String[] AUTH_CHALLENGE_SOURCE_VALUES = {"Server", "Proxy"};
+
+  private static final String[] BLOCKED_REASON_VALUES = {
+    "other",
+    "csp",
+    "mixed-content",
+    "origin",
+    "inspector",
+    "subresource-filter",
+    "content-type",
+    "collapsed-by-client"
+  };
+
+  private static final String[] CERTIFICATE_TRANSPARENCY_COMPLIANCE_VALUES = {
+    "unknown", "not-compliant", "compliant"
+  };
+
+  private static final String[] CONNECTION_TYPE_VALUES = {
+    "none",
+    "cellular2g",
+    "cellular3g",
+    "cellular4g",
+    "bluetooth",
+    "ethernet",
+    "wifi",
+    "wimax",
+    "other"
+  };
+
+  private static final String[] COOKIE_BLOCKED_REASON_VALUES = {
+    "SecureOnly",
+    "NotOnPath",
+    "DomainMismatch",
+    "SameSiteStrict",
+    "SameSiteLax",
+    "SameSiteExtended",
+    "SameSiteUnspecifiedTreatedAsLax",
+    "SameSiteNoneInsecure",
+    "UserPreferences",
+    "UnknownError"
+  };
+
+  private static final String[] COOKIE_SAME_SITE_VALUES = {"Strict", "Lax", "Extended", "None"};
+
+  private static final String[] ERROR_REASON_VALUES = {
+    "Failed",
+    "Aborted",
+    "TimedOut",
+    "AccessDenied",
+    "ConnectionClosed",
+    "ConnectionReset",
+    "ConnectionRefused",
+    "ConnectionAborted",
+    "ConnectionFailed",
+    "NameNotResolved",
+    "InternetDisconnected",
+    "AddressUnreachable",
+    "BlockedByClient",
+    "BlockedByResponse"
+  };
+
+  private static final String[] INITIATOR_TYPE_VALUES = {
+    "parser", "script", "preload", "SignedExchange", "other"
+  };
+
+  private static final String[] INTERCEPTION_STAGE_VALUES = {"Request", "HeadersReceived"};
+
+  private static final String[] REQUEST_REFERRER_POLICY_VALUES = {
+    "unsafe-url",
+    "no-referrer-when-downgrade",
+    "no-referrer",
+    "origin",
+    "origin-when-cross-origin",
+    "same-origin",
+    "strict-origin",
+    "strict-origin-when-cross-origin"
+  };
+
+  private static final String[] RESOURCE_PRIORITY_VALUES = {
+    "VeryLow", "Low", "Medium", "High", "VeryHigh"
+  };
+
+  private static final String[] RESOURCE_TYPE_VALUES = {
+    "Document",
+    "Stylesheet",
+    "Image",
+    "Media",
+    "Font",
+    "Script",
+    "TextTrack",
+    "XHR",
+    "Fetch",
+    "EventSource",
+    "WebSocket",
+    "Manifest",
+    "SignedExchange",
+    "Ping",
+    "CSPViolationReport",
+    "Other"
+  };
+
+  private static final String[] SET_COOKIE_BLOCKED_REASON_VALUES = {
+    "SecureOnly",
+    "SameSiteStrict",
+    "SameSiteLax",
+    "SameSiteExtended",
+    "SameSiteUnspecifiedTreatedAsLax",
+    "SameSiteNoneInsecure",
+    "UserPreferences",
+    "SyntaxError",
+    "SchemeNotSupported",
+    "OverwriteSecure",
+    "InvalidDomain",
+    "InvalidPrefix",
+    "UnknownError"
+  };
+
+  private static final String[] SIGNED_EXCHANGE_ERROR_FIELD_VALUES = {
+    "signatureSig",
+    "signatureIntegrity",
+    "signatureCertUrl",
+    "signatureCertSha256",
+    "signatureValidityUrl",
+    "signatureTimestamps"
+  };
+
+  private NetworkCodecs() {}
+
+  /**
+   * Registers Network codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        AuthChallenge.class, NetworkCodecs::readAuthChallenge, NetworkCodecs::writeAuthChallenge);
+    module.addCodec(
+        AuthChallengeResponse.class,
+        NetworkCodecs::readAuthChallengeResponse,
+        NetworkCodecs::writeAuthChallengeResponse);
+    module.addCodec(
+        AuthChallengeResponseResponse.class,
+        NetworkCodecs::readAuthChallengeResponseResponse,
+        NetworkCodecs::writeAuthChallengeResponseResponse);
+    module.addCodec(
+        AuthChallengeSource.class,
+        NetworkCodecs::readAuthChallengeSource,
+        NetworkCodecs::writeAuthChallengeSource);
+    module.addCodec(
+        BlockedCookieWithReason.class,
+        NetworkCodecs::readBlockedCookieWithReason,
+        NetworkCodecs::writeBlockedCookieWithReason);
+    module.addCodec(
+        BlockedReason.class, NetworkCodecs::readBlockedReason, NetworkCodecs::writeBlockedReason);
+    module.addCodec(
+        BlockedSetCookieWithReason.class,
+        NetworkCodecs::readBlockedSetCookieWithReason,
+        NetworkCodecs::writeBlockedSetCookieWithReason);
+    module.addCodec(
+        CachedResource.class,
+        NetworkCodecs::readCachedResource,
+        NetworkCodecs::writeCachedResource);
+    module.addCodec(
+        CertificateTransparencyCompliance.class,
+        NetworkCodecs::readCertificateTransparencyCompliance,
+        NetworkCodecs::writeCertificateTransparencyCompliance);
+    module.addCodec(
+        ConnectionType.class,
+        NetworkCodecs::readConnectionType,
+        NetworkCodecs::writeConnectionType);
+    module.addCodec(Cookie.class, NetworkCodecs::readCookie, NetworkCodecs::writeCookie);
+    module.addCodec(
+        CookieBlockedReason.class,
+        NetworkCodecs::readCookieBlockedReason,
+        NetworkCodecs::writeCookieBlockedReason);
+    module.addCodec(
+        CookieParam.class, NetworkCodecs::readCookieParam, NetworkCodecs::writeCookieParam);
+    module.addCodec(
+        CookieSameSite.class,
+        NetworkCodecs::readCookieSameSite,
+        NetworkCodecs::writeCookieSameSite);
+    module.addCodec(
+        ErrorReason.class, NetworkCodecs::readErrorReason, NetworkCodecs::writeErrorReason);
+    module.addCodec(Initiator.class, NetworkCodecs::readInitiator, NetworkCodecs::writeInitiator);
+    module.addCodec(
+        InitiatorType.class, NetworkCodecs::readInitiatorType, NetworkCodecs::writeInitiatorType);
+    module.addCodec(
+        InterceptionStage.class,
+        NetworkCodecs::readInterceptionStage,
+        NetworkCodecs::writeInterceptionStage);
+    module.addCodec(Request.class, NetworkCodecs::readRequest, NetworkCodecs::writeRequest);
+    module.addCodec(
+        RequestPattern.class,
+        NetworkCodecs::readRequestPattern,
+        NetworkCodecs::writeRequestPattern);
+    module.addCodec(
+        RequestReferrerPolicy.class,
+        NetworkCodecs::readRequestReferrerPolicy,
+        NetworkCodecs::writeRequestReferrerPolicy);
+    module.addCodec(
+        ResourcePriority.class,
+        NetworkCodecs::readResourcePriority,
+        NetworkCodecs::writeResourcePriority);
+    module.addCodec(
+        ResourceTiming.class,
+        NetworkCodecs::readResourceTiming,
+        NetworkCodecs::writeResourceTiming);
+    module.addCodec(
+        ResourceType.class, NetworkCodecs::readResourceType, NetworkCodecs::writeResourceType);
+    module.addCodec(Response.class, NetworkCodecs::readResponse, NetworkCodecs::writeResponse);
+    module.addCodec(
+        ResponseBody.class, NetworkCodecs::readResponseBody, NetworkCodecs::writeResponseBody);
+    module.addCodec(
+        ResponseBodyForInterception.class,
+        NetworkCodecs::readResponseBodyForInterception,
+        NetworkCodecs::writeResponseBodyForInterception);
+    module.addCodec(
+        SecurityDetails.class,
+        NetworkCodecs::readSecurityDetails,
+        NetworkCodecs::writeSecurityDetails);
+    module.addCodec(
+        SetCookieBlockedReason.class,
+        NetworkCodecs::readSetCookieBlockedReason,
+        NetworkCodecs::writeSetCookieBlockedReason);
+    module.addCodec(
+        SignedCertificateTimestamp.class,
+        NetworkCodecs::readSignedCertificateTimestamp,
+        NetworkCodecs::writeSignedCertificateTimestamp);
+    module.addCodec(
+        SignedExchangeError.class,
+        NetworkCodecs::readSignedExchangeError,
+        NetworkCodecs::writeSignedExchangeError);
+    module.addCodec(
+        SignedExchangeErrorField.class,
+        NetworkCodecs::readSignedExchangeErrorField,
+        NetworkCodecs::writeSignedExchangeErrorField);
+    module.addCodec(
+        SignedExchangeHeader.class,
+        NetworkCodecs::readSignedExchangeHeader,
+        NetworkCodecs::writeSignedExchangeHeader);
+    module.addCodec(
+        SignedExchangeInfo.class,
+        NetworkCodecs::readSignedExchangeInfo,
+        NetworkCodecs::writeSignedExchangeInfo);
+    module.addCodec(
+        SignedExchangeSignature.class,
+        NetworkCodecs::readSignedExchangeSignature,
+        NetworkCodecs::writeSignedExchangeSignature);
+    module.addCodec(
+        WebSocketFrame.class,
+        NetworkCodecs::readWebSocketFrame,
+        NetworkCodecs::writeWebSocketFrame);
+    module.addCodec(
+        WebSocketRequest.class,
+        NetworkCodecs::readWebSocketRequest,
+        NetworkCodecs::writeWebSocketRequest);
+    module.addCodec(
+        WebSocketResponse.class,
+        NetworkCodecs::readWebSocketResponse,
+        NetworkCodecs::writeWebSocketResponse);
+    module.addReader(DataReceived.class, NetworkCodecs::readDataReceived);
+    module.addReader(
+        EventSourceMessageReceived.class, NetworkCodecs::readEventSourceMessageReceived);
+    module.addReader(LoadingFailed.class, NetworkCodecs::readLoadingFailed);
+    module.addReader(LoadingFinished.class, NetworkCodecs::readLoadingFinished);
+    module.addReader(RequestIntercepted.class, NetworkCodecs::readRequestIntercepted);
+    module.addReader(RequestServedFromCache.class, NetworkCodecs::readRequestServedFromCache);
+    module.addReader(RequestWillBeSent.class, NetworkCodecs::readRequestWillBeSent);
+    module.addReader(
+        RequestWillBeSentExtraInfo.class, NetworkCodecs::readRequestWillBeSentExtraInfo);
+    module.addReader(ResourceChangedPriority.class, NetworkCodecs::readResourceChangedPriority);
+    module.addReader(ResponseReceived.class, NetworkCodecs::readResponseReceived);
+    module.addReader(ResponseReceivedExtraInfo.class, NetworkCodecs::readResponseReceivedExtraInfo);
+    module.addReader(SignedExchangeReceived.class, NetworkCodecs::readSignedExchangeReceived);
+    module.addReader(WebSocketClosed.class, NetworkCodecs::readWebSocketClosed);
+    module.addReader(WebSocketCreated.class, NetworkCodecs::readWebSocketCreated);
+    module.addReader(WebSocketFrameError.class, NetworkCodecs::readWebSocketFrameError);
+    module.addReader(WebSocketFrameReceived.class, NetworkCodecs::readWebSocketFrameReceived);
+    module.addReader(WebSocketFrameSent.class, NetworkCodecs::readWebSocketFrameSent);
+    module.addReader(
+        WebSocketHandshakeResponseReceived.class,
+        NetworkCodecs::readWebSocketHandshakeResponseReceived);
+    module.addReader(
+        WebSocketWillSendHandshakeRequest.class,
+        NetworkCodecs::readWebSocketWillSendHandshakeRequest);
+  }
+
+  public static AuthChallenge readAuthChallenge(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AuthChallenge result = new AuthChallenge();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "source":
+          result.setSource(readAuthChallengeSource(parser));
+          break;
+        case "origin":
+          result.setOrigin(JsonCodecs.readString(parser));
+          break;
+        case "scheme":
+          result.setScheme(JsonCodecs.readString(parser));
+          break;
+        case "realm":
+          result.setRealm(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAuthChallenge(JsonGenerator generator, AuthChallenge value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getSource() != null) {
+      generator.writeFieldName("source");
+      writeAuthChallengeSource(generator, value.getSource());
+    }
+    if (value.getOrigin() != null) {
+      generator.writeFieldName("origin");
+      JsonCodecs.writeString(generator, value.getOrigin());
+    }
+    if (value.getScheme() != null) {
+      generator.writeFieldName("scheme");
+      JsonCodecs.writeString(generator, value.getScheme());
+    }
+    if (value.getRealm() != null) {
+      generator.writeFieldName("realm");
+      JsonCodecs.writeString(generator, value.getRealm());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AuthChallengeResponse readAuthChallengeResponse(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AuthChallengeResponse result = new AuthChallengeResponse();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "response":
+          result.setResponse(readAuthChallengeResponseResponse(parser));
+          break;
+        case "username":
+          result.setUsername(JsonCodecs.readString(parser));
+          break;
+        case "password":
+          result.setPassword(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAuthChallengeResponse(
+      JsonGenerator generator, AuthChallengeResponse value) throws IOException {
+    generator.writeStartObject();
+    if (value.getResponse() != null) {
+      generator.writeFieldName("response");
+      writeAuthChallengeResponseResponse(generator, value.getResponse());
+    }
+    if (value.getUsername() != null) {
+      generator.writeFieldName("username");
+      JsonCodecs.writeString(generator, value.getUsername());
+    }
+    if (value.getPassword() != null) {
+      generator.writeFieldName("password");
+      JsonCodecs.writeString(generator, value.getPassword());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AuthChallengeResponseResponse readAuthChallengeResponseResponse(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "Default":
+        return AuthChallengeResponseResponse.DEFAULT;
+      case "CancelAuth":
+        return AuthChallengeResponseResponse.CANCEL_AUTH;
+      case "ProvideCredentials":
+        return AuthChallengeResponseResponse.PROVIDE_CREDENTIALS;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AuthChallengeResponseResponse.class, value);
+    }
+  }
+
+  public static void writeAuthChallengeResponseResponse(
+      JsonGenerator generator, AuthChallengeResponseResponse value) throws IOException {
+    generator.writeString(AUTH_CHALLENGE_RESPONSE_RESPONSE_VALUES[value.ordinal()]);
+  }
+
+  public static AuthChallengeSource readAuthChallengeSource(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "Server":
+        return AuthChallengeSource.SERVER;
+      case "Proxy":
+        return AuthChallengeSource.PROXY;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AuthChallengeSource.class, value);
+    }
+  }
+
+  public static void writeAuthChallengeSource(JsonGenerator generator, AuthChallengeSource value)
+      throws IOException {
+    generator.writeString(AUTH_CHALLENGE_SOURCE_VALUES[value.ordinal()]);
+  }
+
+  public static BlockedCookieWithReason readBlockedCookieWithReason(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BlockedCookieWithReason result = new BlockedCookieWithReason();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "blockedReason":
+          result.setBlockedReason(readCookieBlockedReason(parser));
+          break;
+        case "cookie":
+          result.setCookie(readCookie(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBlockedCookieWithReason(
+      JsonGenerator generator, BlockedCookieWithReason value) throws IOException {
+    generator.writeStartObject();
+    if (value.getBlockedReason() != null) {
+      generator.writeFieldName("blockedReason");
+      writeCookieBlockedReason(generator, value.getBlockedReason());
+    }
+    if (value.getCookie() != null) {
+      generator.writeFieldName("cookie");
+      writeCookie(generator, value.getCookie());
+    }
+    generator.writeEndObject();
+  }
+
+  public static BlockedReason readBlockedReason(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "other":
+        return BlockedReason.OTHER;
+      case "csp":
+        return BlockedReason.CSP;
+      case "mixed-content":
+        return BlockedReason.MIXED_CONTENT;
+      case "origin":
+        return BlockedReason.ORIGIN;
+      case "inspector":
+        return BlockedReason.INSPECTOR;
+      case "subresource-filter":
+        return BlockedReason.SUBRESOURCE_FILTER;
+      case "content-type":
+        return BlockedReason.CONTENT_TYPE;
+      case "collapsed-by-client":
+        return BlockedReason.COLLAPSED_BY_CLIENT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, BlockedReason.class, value);
+    }
+  }
+
+  public static void writeBlockedReason(JsonGenerator generator, BlockedReason value)
+      throws IOException {
+    generator.writeString(BLOCKED_REASON_VALUES[value.ordinal()]);
+  }
+
+  public static BlockedSetCookieWithReason readBlockedSetCookieWithReason(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BlockedSetCookieWithReason result = new BlockedSetCookieWithReason();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "blockedReason":
+          result.setBlockedReason(readSetCookieBlockedReason(parser));
+          break;
+        case "cookieLine":
+          result.setCookieLine(JsonCodecs.readString(parser));
+          break;
+        case "cookie":
+          result.setCookie(readCookie(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBlockedSetCookieWithReason(
+      JsonGenerator generator, BlockedSetCookieWithReason value) throws IOException {
+    generator.writeStartObject();
+    if (value.getBlockedReason() != null) {
+      generator.writeFieldName("blockedReason");
+      writeSetCookieBlockedReason(generator, value.getBlockedReason());
+    }
+    if (value.getCookieLine() != null) {
+      generator.writeFieldName("cookieLine");
+      JsonCodecs.writeString(generator, value.getCookieLine());
+    }
+    if (value.getCookie() != null) {
+      generator.writeFieldName("cookie");
+      writeCookie(generator, value.getCookie());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CachedResource readCachedResource(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CachedResource result = new CachedResource();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "type":
+          result.setType(readResourceType(parser));
+          break;
+        case "response":
+          result.setResponse(readResponse(parser));
+          break;
+        case "bodySize":
+          result.setBodySize(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCachedResource(JsonGenerator generator, CachedResource value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeResourceType(generator, value.getType());
+    }
+    if (value.getResponse() != null) {
+      generator.writeFieldName("response");
+      writeResponse(generator, value.getResponse());
+    }
+    if (value.getBodySize() != null) {
+      generator.writeFieldName("bodySize");
+      JsonCodecs.writeDouble(generator, value.getBodySize());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CertificateTransparencyCompliance readCertificateTransparencyCompliance(
+      JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "unknown":
+        return CertificateTransparencyCompliance.UNKNOWN;
+      case "not-compliant":
+        return CertificateTransparencyCompliance.NOT_COMPLIANT;
+      case "compliant":
+        return CertificateTransparencyCompliance.COMPLIANT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, CertificateTransparencyCompliance.class, value);
+    }
+  }
+
+  public static void writeCertificateTransparencyCompliance(
+      JsonGenerator generator, CertificateTransparencyCompliance value) throws IOException {
+    generator.writeString(CERTIFICATE_TRANSPARENCY_COMPLIANCE_VALUES[value.ordinal()]);
+  }
+
+  public static ConnectionType readConnectionType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "none":
+        return ConnectionType.NONE;
+      case "cellular2g":
+        return ConnectionType.CELLULAR_2G;
+      case "cellular3g":
+        return ConnectionType.CELLULAR_3G;
+      case "cellular4g":
+        return ConnectionType.CELLULAR_4G;
+      case "bluetooth":
+        return ConnectionType.BLUETOOTH;
+      case "ethernet":
+        return ConnectionType.ETHERNET;
+      case "wifi":
+        return ConnectionType.WIFI;
+      case "wimax":
+        return ConnectionType.WIMAX;
+      case "other":
+        return ConnectionType.OTHER;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ConnectionType.class, value);
+    }
+  }
+
+  public static void writeConnectionType(JsonGenerator generator, ConnectionType value)
+      throws IOException {
+    generator.writeString(CONNECTION_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static Cookie readCookie(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Cookie result = new Cookie();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        case "domain":
+          result.setDomain(JsonCodecs.readString(parser));
+          break;
+        case "path":
+          result.setPath(JsonCodecs.readString(parser));
+          break;
+        case "expires":
+          result.setExpires(JsonCodecs.readDouble(parser));
+          break;
+        case "size":
+          result.setSize(JsonCodecs.readInteger(parser));
+          break;
+        case "httpOnly":
+          result.setHttpOnly(JsonCodecs.readBoolean(parser));
+          break;
+        case "secure":
+          result.setSecure(JsonCodecs.readBoolean(parser));
+          break;
+        case "session":
+          result.setSession(JsonCodecs.readBoolean(parser));
+          break;
+        case "sameSite":
+          result.setSameSite(readCookieSameSite(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCookie(JsonGenerator generator, Cookie value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    if (value.getDomain() != null) {
+      generator.writeFieldName("domain");
+      JsonCodecs.writeString(generator, value.getDomain());
+    }
+    if (value.getPath() != null) {
+      generator.writeFieldName("path");
+      JsonCodecs.writeString(generator, value.getPath());
+    }
+    if (value.getExpires() != null) {
+      generator.writeFieldName("expires");
+      JsonCodecs.writeDouble(generator, value.getExpires());
+    }
+    if (value.getSize() != null) {
+      generator.writeFieldName("size");
+      JsonCodecs.writeInteger(generator, value.getSize());
+    }
+    if (value.getHttpOnly() != null) {
+      generator.writeFieldName("httpOnly");
+      JsonCodecs.writeBoolean(generator, value.getHttpOnly());
+    }
+    if (value.getSecure() != null) {
+      generator.writeFieldName("secure");
+      JsonCodecs.writeBoolean(generator, value.getSecure());
+    }
+    if (value.getSession() != null) {
+      generator.writeFieldName("session");
+      JsonCodecs.writeBoolean(generator, value.getSession());
+    }
+    if (value.getSameSite() != null) {
+      generator.writeFieldName("sameSite");
+      writeCookieSameSite(generator, value.getSameSite());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CookieBlockedReason readCookieBlockedReason(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "SecureOnly":
+        return CookieBlockedReason.SECURE_ONLY;
+      case "NotOnPath":
+        return CookieBlockedReason.NOT_ON_PATH;
+      case "DomainMismatch":
+        return CookieBlockedReason.DOMAIN_MISMATCH;
+      case "SameSiteStrict":
+        return CookieBlockedReason.SAME_SITE_STRICT;
+      case "SameSiteLax":
+        return CookieBlockedReason.SAME_SITE_LAX;
+      case "SameSiteExtended":
+        return CookieBlockedReason.SAME_SITE_EXTENDED;
+      case "SameSiteUnspecifiedTreatedAsLax":
+        return CookieBlockedReason.SAME_SITE_UNSPECIFIED_TREATED_AS_LAX;
+      case "SameSiteNoneInsecure":
+        return CookieBlockedReason.SAME_SITE_NONE_INSECURE;
+      case "UserPreferences":
+        return CookieBlockedReason.USER_PREFERENCES;
+      case "UnknownError":
+        return CookieBlockedReason.UNKNOWN_ERROR;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, CookieBlockedReason.class, value);
+    }
+  }
+
+  public static void writeCookieBlockedReason(JsonGenerator generator, CookieBlockedReason value)
+      throws IOException {
+    generator.writeString(COOKIE_BLOCKED_REASON_VALUES[value.ordinal()]);
+  }
+
+  public static CookieParam readCookieParam(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CookieParam result = new CookieParam();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "domain":
+          result.setDomain(JsonCodecs.readString(parser));
+          break;
+        case "path":
+          result.setPath(JsonCodecs.readString(parser));
+          break;
+        case "secure":
+          result.setSecure(JsonCodecs.readBoolean(parser));
+          break;
+        case "httpOnly":
+          result.setHttpOnly(JsonCodecs.readBoolean(parser));
+          break;
+        case "sameSite":
+          result.setSameSite(readCookieSameSite(parser));
+          break;
+        case "expires":
+          result.setExpires(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCookieParam(JsonGenerator generator, CookieParam value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getDomain() != null) {
+      generator.writeFieldName("domain");
+      JsonCodecs.writeString(generator, value.getDomain());
+    }
+    if (value.getPath() != null) {
+      generator.writeFieldName("path");
+      JsonCodecs.writeString(generator, value.getPath());
+    }
+    if (value.getSecure() != null) {
+      generator.writeFieldName("secure");
+      JsonCodecs.writeBoolean(generator, value.getSecure());
+    }
+    if (value.getHttpOnly() != null) {
+      generator.writeFieldName("httpOnly");
+      JsonCodecs.writeBoolean(generator, value.getHttpOnly());
+    }
+    if (value.getSameSite() != null) {
+      generator.writeFieldName("sameSite");
+      writeCookieSameSite(generator, value.getSameSite());
+    }
+    if (value.getExpires() != null) {
+      generator.writeFieldName("expires");
+      JsonCodecs.writeDouble(generator, value.getExpires());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CookieSameSite readCookieSameSite(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "Strict":
+        return CookieSameSite.STRICT;
+      case "Lax":
+        return CookieSameSite.LAX;
+      case "Extended":
+        return CookieSameSite.EXTENDED;
+      case "None":
+        return CookieSameSite.NONE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, CookieSameSite.class, value);
+    }
+  }
+
+  public static void writeCookieSameSite(JsonGenerator generator, CookieSameSite value)
+      throws IOException {
+    generator.writeString(COOKIE_SAME_SITE_VALUES[value.ordinal()]);
+  }
+
+  public static ErrorReason readErrorReason(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "Failed":
+        return ErrorReason.FAILED;
+      case "Aborted":
+        return ErrorReason.ABORTED;
+      case "TimedOut":
+        return ErrorReason.TIMED_OUT;
+      case "AccessDenied":
+        return ErrorReason.ACCESS_DENIED;
+      case "ConnectionClosed":
+        return ErrorReason.CONNECTION_CLOSED;
+      case "ConnectionReset":
+        return ErrorReason.CONNECTION_RESET;
+      case "ConnectionRefused":
+        return ErrorReason.CONNECTION_REFUSED;
+      case "ConnectionAborted":
+        return ErrorReason.CONNECTION_ABORTED;
+      case "ConnectionFailed":
+        return ErrorReason.CONNECTION_FAILED;
+      case "NameNotResolved":
+        return ErrorReason.NAME_NOT_RESOLVED;
+      case "InternetDisconnected":
+        return ErrorReason.INTERNET_DISCONNECTED;
+      case "AddressUnreachable":
+        return ErrorReason.ADDRESS_UNREACHABLE;
+      case "BlockedByClient":
+        return ErrorReason.BLOCKED_BY_CLIENT;
+      case "BlockedByResponse":
+        return ErrorReason.BLOCKED_BY_RESPONSE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ErrorReason.class, value);
+    }
+  }
+
+  public static void writeErrorReason(JsonGenerator generator, ErrorReason value)
+      throws IOException {
+    generator.writeString(ERROR_REASON_VALUES[value.ordinal()]);
+  }
+
+  public static Initiator readInitiator(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Initiator result = new Initiator();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readInitiatorType(parser));
+          break;
+        case "stack":
+          result.setStack(RuntimeCodecs.readStackTrace(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "lineNumber":
+          result.setLineNumber(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeInitiator(JsonGenerator generator, Initiator value) throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeInitiatorType(generator, value.getType());
+    }
+    if (value.getStack() != null) {
+      generator.writeFieldName("stack");
+      RuntimeCodecs.writeStackTrace(generator, value.getStack());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getLineNumber() != null) {
+      generator.writeFieldName("lineNumber");
+      JsonCodecs.writeDouble(generator, value.getLineNumber());
+    }
+    generator.writeEndObject();
+  }
+
+  public static InitiatorType readInitiatorType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "parser":
+        return InitiatorType.PARSER;
+      case "script":
+        return InitiatorType.SCRIPT;
+      case "preload":
+        return InitiatorType.PRELOAD;
+      case "SignedExchange":
+        return InitiatorType.SIGNED_EXCHANGE;
+      case "other":
+        return InitiatorType.OTHER;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, InitiatorType.class, value);
+    }
+  }
+
+  public static void writeInitiatorType(JsonGenerator generator, InitiatorType value)
+      throws IOException {
+    generator.writeString(INITIATOR_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static InterceptionStage readInterceptionStage(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "Request":
+        return InterceptionStage.REQUEST;
+      case "HeadersReceived":
+        return InterceptionStage.HEADERS_RECEIVED;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, InterceptionStage.class, value);
+    }
+  }
+
+  public static void writeInterceptionStage(JsonGenerator generator, InterceptionStage value)
+      throws IOException {
+    generator.writeString(INTERCEPTION_STAGE_VALUES[value.ordinal()]);
+  }
+
+  public static Request readRequest(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Request result = new Request();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "urlFragment":
+          result.setUrlFragment(JsonCodecs.readString(parser));
+          break;
+        case "method":
+          result.setMethod(JsonCodecs.readString(parser));
+          break;
+        case "headers":
+          result.setHeaders(JsonCodecs.readMap(parser));
+          break;
+        case "postData":
+          result.setPostData(JsonCodecs.readString(parser));
+          break;
+        case "hasPostData":
+          result.setHasPostData(JsonCodecs.readBoolean(parser));
+          break;
+        case "mixedContentType":
+          result.setMixedContentType(SecurityCodecs.readMixedContentType(parser));
+          break;
+        case "initialPriority":
+          result.setInitialPriority(readResourcePriority(parser));
+          break;
+        case "referrerPolicy":
+          result.setReferrerPolicy(readRequestReferrerPolicy(parser));
+          break;
+        case "isLinkPreload":
+          result.setIsLinkPreload(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRequest(JsonGenerator generator, Request value) throws IOException {
+    generator.writeStartObject();
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getUrlFragment() != null) {
+      generator.writeFieldName("urlFragment");
+      JsonCodecs.writeString(generator, value.getUrlFragment());
+    }
+    if (value.getMethod() != null) {
+      generator.writeFieldName("method");
+      JsonCodecs.writeString(generator, value.getMethod());
+    }
+    if (value.getHeaders() != null) {
+      generator.writeFieldName("headers");
+      JsonCodecs.writeObject(generator, value.getHeaders());
+    }
+    if (value.getPostData() != null) {
+      generator.writeFieldName("postData");
+      JsonCodecs.writeString(generator, value.getPostData());
+    }
+    if (value.getHasPostData() != null) {
+      generator.writeFieldName("hasPostData");
+      JsonCodecs.writeBoolean(generator, value.getHasPostData());
+    }
+    if (value.getMixedContentType() != null) {
+      generator.writeFieldName("mixedContentType");
+      SecurityCodecs.writeMixedContentType(generator, value.getMixedContentType());
+    }
+    if (value.getInitialPriority() != null) {
+      generator.writeFieldName("initialPriority");
+      writeResourcePriority(generator, value.getInitialPriority());
+    }
+    if (value.getReferrerPolicy() != null) {
+      generator.writeFieldName("referrerPolicy");
+      writeRequestReferrerPolicy(generator, value.getReferrerPolicy());
+    }
+    if (value.getIsLinkPreload() != null) {
+      generator.writeFieldName("isLinkPreload");
+      JsonCodecs.writeBoolean(generator, value.getIsLinkPreload());
+    }
+    generator.writeEndObject();
+  }
+
+  public static RequestPattern readRequestPattern(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RequestPattern result = new RequestPattern();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "urlPattern":
+          result.setUrlPattern(JsonCodecs.readString(parser));
+          break;
+        case "resourceType":
+          result.setResourceType(readResourceType(parser));
+          break;
+        case "interceptionStage":
+          result.setInterceptionStage(readInterceptionStage(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRequestPattern(JsonGenerator generator, RequestPattern value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getUrlPattern() != null) {
+      generator.writeFieldName("urlPattern");
+      JsonCodecs.writeString(generator, value.getUrlPattern());
+    }
+    if (value.getResourceType() != null) {
+      generator.writeFieldName("resourceType");
+      writeResourceType(generator, value.getResourceType());
+    }
+    if (value.getInterceptionStage() != null) {
+      generator.writeFieldName("interceptionStage");
+      writeInterceptionStage(generator, value.getInterceptionStage());
+    }
+    generator.writeEndObject();
+  }
+
+  public static RequestReferrerPolicy readRequestReferrerPolicy(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "unsafe-url":
+        return RequestReferrerPolicy.UNSAFE_URL;
+      case "no-referrer-when-downgrade":
+        return RequestReferrerPolicy.NO_REFERRER_WHEN_DOWNGRADE;
+      case "no-referrer":
+        return RequestReferrerPolicy.NO_REFERRER;
+      case "origin":
+        return RequestReferrerPolicy.ORIGIN;
+      case "origin-when-cross-origin":
+        return RequestReferrerPolicy.ORIGIN_WHEN_CROSS_ORIGIN;
+      case "same-origin":
+        return RequestReferrerPolicy.SAME_ORIGIN;
+      case "strict-origin":
+        return RequestReferrerPolicy.STRICT_ORIGIN;
+      case "strict-origin-when-cross-origin":
+        return RequestReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, RequestReferrerPolicy.class, value);
+    }
+  }
+
+  public static void writeRequestReferrerPolicy(
+      JsonGenerator generator, RequestReferrerPolicy value) throws IOException {
+    generator.writeString(REQUEST_REFERRER_POLICY_VALUES[value.ordinal()]);
+  }
+
+  public static ResourcePriority readResourcePriority(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "VeryLow":
+        return ResourcePriority.VERY_LOW;
+      case "Low":
+        return ResourcePriority.LOW;
+      case "Medium":
+        return ResourcePriority.MEDIUM;
+      case "High":
+        return ResourcePriority.HIGH;
+      case "VeryHigh":
+        return ResourcePriority.VERY_HIGH;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ResourcePriority.class, value);
+    }
+  }
+
+  public static void writeResourcePriority(JsonGenerator generator, ResourcePriority value)
+      throws IOException {
+    generator.writeString(RESOURCE_PRIORITY_VALUES[value.ordinal()]);
+  }
+
+  public static ResourceTiming readResourceTiming(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ResourceTiming result = new ResourceTiming();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestTime":
+          result.setRequestTime(JsonCodecs.readDouble(parser));
+          break;
+        case "proxyStart":
+          result.setProxyStart(JsonCodecs.readDouble(parser));
+          break;
+        case "proxyEnd":
+          result.setProxyEnd(JsonCodecs.readDouble(parser));
+          break;
+        case "dnsStart":
+          result.setDnsStart(JsonCodecs.readDouble(parser));
+          break;
+        case "dnsEnd":
+          result.setDnsEnd(JsonCodecs.readDouble(parser));
+          break;
+        case "connectStart":
+          result.setConnectStart(JsonCodecs.readDouble(parser));
+          break;
+        case "connectEnd":
+          result.setConnectEnd(JsonCodecs.readDouble(parser));
+          break;
+        case "sslStart":
+          result.setSslStart(JsonCodecs.readDouble(parser));
+          break;
+        case "sslEnd":
+          result.setSslEnd(JsonCodecs.readDouble(parser));
+          break;
+        case "workerStart":
+          result.setWorkerStart(JsonCodecs.readDouble(parser));
+          break;
+        case "workerReady":
+          result.setWorkerReady(JsonCodecs.readDouble(parser));
+          break;
+        case "sendStart":
+          result.setSendStart(JsonCodecs.readDouble(parser));
+          break;
+        case "sendEnd":
+          result.setSendEnd(JsonCodecs.readDouble(parser));
+          break;
+        case "pushStart":
+          result.setPushStart(JsonCodecs.readDouble(parser));
+          break;
+        case "pushEnd":
+          result.setPushEnd(JsonCodecs.readDouble(parser));
+          break;
+        case "receiveHeadersEnd":
+          result.setReceiveHeadersEnd(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeResourceTiming(JsonGenerator generator, ResourceTiming value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getRequestTime() != null) {
+      generator.writeFieldName("requestTime");
+      JsonCodecs.writeDouble(generator, value.getRequestTime());
+    }
+    if (value.getProxyStart() != null) {
+      generator.writeFieldName("proxyStart");
+      JsonCodecs.writeDouble(generator, value.getProxyStart());
+    }
+    if (value.getProxyEnd() != null) {
+      generator.writeFieldName("proxyEnd");
+      JsonCodecs.writeDouble(generator, value.getProxyEnd());
+    }
+    if (value.getDnsStart() != null) {
+      generator.writeFieldName("dnsStart");
+      JsonCodecs.writeDouble(generator, value.getDnsStart());
+    }
+    if (value.getDnsEnd() != null) {
+      generator.writeFieldName("dnsEnd");
+      JsonCodecs.writeDouble(generator, value.getDnsEnd());
+    }
+    if (value.getConnectStart() != null) {
+      generator.writeFieldName("connectStart");
+      JsonCodecs.writeDouble(generator, value.getConnectStart());
+    }
+    if (value.getConnectEnd() != null) {
+      generator.writeFieldName("connectEnd");
+      JsonCodecs.writeDouble(generator, value.getConnectEnd());
+    }
+    if (value.getSslStart() != null) {
+      generator.writeFieldName("sslStart");
+      JsonCodecs.writeDouble(generator, value.getSslStart());
+    }
+    if (value.getSslEnd() != null) {
+      generator.writeFieldName("sslEnd");
+      JsonCodecs.writeDouble(generator, value.getSslEnd());
+    }
+    if (value.getWorkerStart() != null) {
+      generator.writeFieldName("workerStart");
+      JsonCodecs.writeDouble(generator, value.getWorkerStart());
+    }
+    if (value.getWorkerReady() != null) {
+      generator.writeFieldName("workerReady");
+      JsonCodecs.writeDouble(generator, value.getWorkerReady());
+    }
+    if (value.getSendStart() != null) {
+      generator.writeFieldName("sendStart");
+      JsonCodecs.writeDouble(generator, value.getSendStart());
+    }
+    if (value.getSendEnd() != null) {
+      generator.writeFieldName("sendEnd");
+      JsonCodecs.writeDouble(generator, value.getSendEnd());
+    }
+    if (value.getPushStart() != null) {
+      generator.writeFieldName("pushStart");
+      JsonCodecs.writeDouble(generator, value.getPushStart());
+    }
+    if (value.getPushEnd() != null) {
+      generator.writeFieldName("pushEnd");
+      JsonCodecs.writeDouble(generator, value.getPushEnd());
+    }
+    if (value.getReceiveHeadersEnd() != null) {
+      generator.writeFieldName("receiveHeadersEnd");
+      JsonCodecs.writeDouble(generator, value.getReceiveHeadersEnd());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ResourceType readResourceType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "Document":
+        return ResourceType.DOCUMENT;
+      case "Stylesheet":
+        return ResourceType.STYLESHEET;
+      case "Image":
+        return ResourceType.IMAGE;
+      case "Media":
+        return ResourceType.MEDIA;
+      case "Font":
+        return ResourceType.FONT;
+      case "Script":
+        return ResourceType.SCRIPT;
+      case "TextTrack":
+        return ResourceType.TEXT_TRACK;
+      case "XHR":
+        return ResourceType.XHR;
+      case "Fetch":
+        return ResourceType.FETCH;
+      case "EventSource":
+        return ResourceType.EVENT_SOURCE;
+      case "WebSocket":
+        return ResourceType.WEB_SOCKET;
+      case "Manifest":
+        return ResourceType.MANIFEST;
+      case "SignedExchange":
+        return ResourceType.SIGNED_EXCHANGE;
+      case "Ping":
+        return ResourceType.PING;
+      case "CSPViolationReport":
+        return ResourceType.CSP_VIOLATION_REPORT;
+      case "Other":
+        return ResourceType.OTHER;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ResourceType.class, value);
+    }
+  }
+
+  public static void writeResourceType(JsonGenerator generator, ResourceType value)
+      throws IOException {
+    generator.writeString(RESOURCE_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static Response readResponse(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Response result = new Response();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "status":
+          result.setStatus(JsonCodecs.readInteger(parser));
+          break;
+        case "statusText":
+          result.setStatusText(JsonCodecs.readString(parser));
+          break;
+        case "headers":
+          result.setHeaders(JsonCodecs.readMap(parser));
+          break;
+        case "headersText":
+          result.setHeadersText(JsonCodecs.readString(parser));
+          break;
+        case "mimeType":
+          result.setMimeType(JsonCodecs.readString(parser));
+          break;
+        case "requestHeaders":
+          result.setRequestHeaders(JsonCodecs.readMap(parser));
+          break;
+        case "requestHeadersText":
+          result.setRequestHeadersText(JsonCodecs.readString(parser));
+          break;
+        case "connectionReused":
+          result.setConnectionReused(JsonCodecs.readBoolean(parser));
+          break;
+        case "connectionId":
+          result.setConnectionId(JsonCodecs.readDouble(parser));
+          break;
+        case "remoteIPAddress":
+          result.setRemoteIPAddress(JsonCodecs.readString(parser));
+          break;
+        case "remotePort":
+          result.setRemotePort(JsonCodecs.readInteger(parser));
+          break;
+        case "fromDiskCache":
+          result.setFromDiskCache(JsonCodecs.readBoolean(parser));
+          break;
+        case "fromServiceWorker":
+          result.setFromServiceWorker(JsonCodecs.readBoolean(parser));
+          break;
+        case "fromPrefetchCache":
+          result.setFromPrefetchCache(JsonCodecs.readBoolean(parser));
+          break;
+        case "encodedDataLength":
+          result.setEncodedDataLength(JsonCodecs.readDouble(parser));
+          break;
+        case "timing":
+          result.setTiming(readResourceTiming(parser));
+          break;
+        case "protocol":
+          result.setProtocol(JsonCodecs.readString(parser));
+          break;
+        case "securityState":
+          result.setSecurityState(SecurityCodecs.readSecurityState(parser));
+          break;
+        case "securityDetails":
+          result.setSecurityDetails(readSecurityDetails(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeResponse(JsonGenerator generator, Response value) throws IOException {
+    generator.writeStartObject();
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getStatus() != null) {
+      generator.writeFieldName("status");
+      JsonCodecs.writeInteger(generator, value.getStatus());
+    }
+    if (value.getStatusText() != null) {
+      generator.writeFieldName("statusText");
+      JsonCodecs.writeString(generator, value.getStatusText());
+    }
+    if (value.getHeaders() != null) {
+      generator.writeFieldName("headers");
+      JsonCodecs.writeObject(generator, value.getHeaders());
+    }
+    if (value.getHeadersText() != null) {
+      generator.writeFieldName("headersText");
+      JsonCodecs.writeString(generator, value.getHeadersText());
+    }
+    if (value.getMimeType() != null) {
+      generator.writeFieldName("mimeType");
+      JsonCodecs.writeString(generator, value.getMimeType());
+    }
+    if (value.getRequestHeaders() != null) {
+      generator.writeFieldName("requestHeaders");
+      JsonCodecs.writeObject(generator, value.getRequestHeaders());
+    }
+    if (value.getRequestHeadersText() != null) {
+      generator.writeFieldName("requestHeadersText");
+      JsonCodecs.writeString(generator, value.getRequestHeadersText());
+    }
+    if (value.getConnectionReused() != null) {
+      generator.writeFieldName("connectionReused");
+      JsonCodecs.writeBoolean(generator, value.getConnectionReused());
+    }
+    if (value.getConnectionId() != null) {
+      generator.writeFieldName("connectionId");
+      JsonCodecs.writeDouble(generator, value.getConnectionId());
+    }
+    if (value.getRemoteIPAddress() != null) {
+      generator.writeFieldName("remoteIPAddress");
+      JsonCodecs.writeString(generator, value.getRemoteIPAddress());
+    }
+    if (value.getRemotePort() != null) {
+      generator.writeFieldName("remotePort");
+      JsonCodecs.writeInteger(generator, value.getRemotePort());
+    }
+    if (value.getFromDiskCache() != null) {
+      generator.writeFieldName("fromDiskCache");
+      JsonCodecs.writeBoolean(generator, value.getFromDiskCache());
+    }
+    if (value.getFromServiceWorker() != null) {
+      generator.writeFieldName("fromServiceWorker");
+      JsonCodecs.writeBoolean(generator, value.getFromServiceWorker());
+    }
+    if (value.getFromPrefetchCache() != null) {
+      generator.writeFieldName("fromPrefetchCache");
+      JsonCodecs.writeBoolean(generator, value.getFromPrefetchCache());
+    }
+    if (value.getEncodedDataLength() != null) {
+      generator.writeFieldName("encodedDataLength");
+      JsonCodecs.writeDouble(generator, value.getEncodedDataLength());
+    }
+    if (value.getTiming() != null) {
+      generator.writeFieldName("timing");
+      writeResourceTiming(generator, value.getTiming());
+    }
+    if (value.getProtocol() != null) {
+      generator.writeFieldName("protocol");
+      JsonCodecs.writeString(generator, value.getProtocol());
+    }
+    if (value.getSecurityState() != null) {
+      generator.writeFieldName("securityState");
+      SecurityCodecs.writeSecurityState(generator, value.getSecurityState());
+    }
+    if (value.getSecurityDetails() != null) {
+      generator.writeFieldName("securityDetails");
+      writeSecurityDetails(generator, value.getSecurityDetails());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ResponseBody readResponseBody(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ResponseBody result = new ResponseBody();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "body":
+          result.setBody(JsonCodecs.readString(parser));
+          break;
+        case "base64Encoded":
+          result.setBase64Encoded(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeResponseBody(JsonGenerator generator, ResponseBody value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getBody() != null) {
+      generator.writeFieldName("body");
+      JsonCodecs.writeString(generator, value.getBody());
+    }
+    if (value.getBase64Encoded() != null) {
+      generator.writeFieldName("base64Encoded");
+      JsonCodecs.writeBoolean(generator, value.getBase64Encoded());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ResponseBodyForInterception readResponseBodyForInterception(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ResponseBodyForInterception result = new ResponseBodyForInterception();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "body":
+          result.setBody(JsonCodecs.readString(parser));
+          break;
+        case "base64Encoded":
+          result.setBase64Encoded(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeResponseBodyForInterception(
+      JsonGenerator generator, ResponseBodyForInterception value) throws IOException {
+    generator.writeStartObject();
+    if (value.getBody() != null) {
+      generator.writeFieldName("body");
+      JsonCodecs.writeString(generator, value.getBody());
+    }
+    if (value.getBase64Encoded() != null) {
+      generator.writeFieldName("base64Encoded");
+      JsonCodecs.writeBoolean(generator, value.getBase64Encoded());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SecurityDetails readSecurityDetails(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SecurityDetails result = new SecurityDetails();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "protocol":
+          result.setProtocol(JsonCodecs.readString(parser));
+          break;
+        case "keyExchange":
+          result.setKeyExchange(JsonCodecs.readString(parser));
+          break;
+        case "keyExchangeGroup":
+          result.setKeyExchangeGroup(JsonCodecs.readString(parser));
+          break;
+        case "cipher":
+          result.setCipher(JsonCodecs.readString(parser));
+          break;
+        case "mac":
+          result.setMac(JsonCodecs.readString(parser));
+          break;
+        case "certificateId":
+          result.setCertificateId(JsonCodecs.readInteger(parser));
+          break;
+        case "subjectName":
+          result.setSubjectName(JsonCodecs.readString(parser));
+          break;
+        case "sanList":
+          result.setSanList(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "issuer":
+          result.setIssuer(JsonCodecs.readString(parser));
+          break;
+        case "validFrom":
+          result.setValidFrom(JsonCodecs.readDouble(parser));
+          break;
+        case "validTo":
+          result.setValidTo(JsonCodecs.readDouble(parser));
+          break;
+        case "signedCertificateTimestampList":
+          result.setSignedCertificateTimestampList(
+              JsonCodecs.readList(parser, NetworkCodecs::readSignedCertificateTimestamp));
+          break;
+        case "certificateTransparencyCompliance":
+          result.setCertificateTransparencyCompliance(
+              readCertificateTransparencyCompliance(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSecurityDetails(JsonGenerator generator, SecurityDetails value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getProtocol() != null) {
+      generator.writeFieldName("protocol");
+      JsonCodecs.writeString(generator, value.getProtocol());
+    }
+    if (value.getKeyExchange() != null) {
+      generator.writeFieldName("keyExchange");
+      JsonCodecs.writeString(generator, value.getKeyExchange());
+    }
+    if (value.getKeyExchangeGroup() != null) {
+      generator.writeFieldName("keyExchangeGroup");
+      JsonCodecs.writeString(generator, value.getKeyExchangeGroup());
+    }
+    if (value.getCipher() != null) {
+      generator.writeFieldName("cipher");
+      JsonCodecs.writeString(generator, value.getCipher());
+    }
+    if (value.getMac() != null) {
+      generator.writeFieldName("mac");
+      JsonCodecs.writeString(generator, value.getMac());
+    }
+    if (value.getCertificateId() != null) {
+      generator.writeFieldName("certificateId");
+      JsonCodecs.writeInteger(generator, value.getCertificateId());
+    }
+    if (value.getSubjectName() != null) {
+      generator.writeFieldName("subjectName");
+      JsonCodecs.writeString(generator, value.getSubjectName());
+    }
+    if (value.getSanList() != null) {
+      generator.writeFieldName("sanList");
+      JsonCodecs.writeList(generator, value.getSanList(), JsonCodecs::writeString);
+    }
+    if (value.getIssuer() != null) {
+      generator.writeFieldName("issuer");
+      JsonCodecs.writeString(generator, value.getIssuer());
+    }
+    if (value.getValidFrom() != null) {
+      generator.writeFieldName("validFrom");
+      JsonCodecs.writeDouble(generator, value.getValidFrom());
+    }
+    if (value.getValidTo() != null) {
+      generator.writeFieldName("validTo");
+      JsonCodecs.writeDouble(generator, value.getValidTo());
+    }
+    if (value.getSignedCertificateTimestampList() != null) {
+      generator.writeFieldName("signedCertificateTimestampList");
+      JsonCodecs.writeList(
+          generator,
+          value.getSignedCertificateTimestampList(),
+          NetworkCodecs::writeSignedCertificateTimestamp);
+    }
+    if (value.getCertificateTransparencyCompliance() != null) {
+      generator.writeFieldName("certificateTransparencyCompliance");
+      writeCertificateTransparencyCompliance(
+          generator, value.getCertificateTransparencyCompliance());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SetCookieBlockedReason readSetCookieBlockedReason(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "SecureOnly":
+        return SetCookieBlockedReason.SECURE_ONLY;
+      case "SameSiteStrict":
+        return SetCookieBlockedReason.SAME_SITE_STRICT;
+      case "SameSiteLax":
+        return SetCookieBlockedReason.SAME_SITE_LAX;
+      case "SameSiteExtended":
+        return SetCookieBlockedReason.SAME_SITE_EXTENDED;
+      case "SameSiteUnspecifiedTreatedAsLax":
+        return SetCookieBlockedReason.SAME_SITE_UNSPECIFIED_TREATED_AS_LAX;
+      case "SameSiteNoneInsecure":
+        return SetCookieBlockedReason.SAME_SITE_NONE_INSECURE;
+      case "UserPreferences":
+        return SetCookieBlockedReason.USER_PREFERENCES;
+      case "SyntaxError":
+        return SetCookieBlockedReason.SYNTAX_ERROR;
+      case "SchemeNotSupported":
+        return SetCookieBlockedReason.SCHEME_NOT_SUPPORTED;
+      case "OverwriteSecure":
+        return SetCookieBlockedReason.OVERWRITE_SECURE;
+      case "InvalidDomain":
+        return SetCookieBlockedReason.INVALID_DOMAIN;
+      case "InvalidPrefix":
+        return SetCookieBlockedReason.INVALID_PREFIX;
+      case "UnknownError":
+        return SetCookieBlockedReason.UNKNOWN_ERROR;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, SetCookieBlockedReason.class, value);
+    }
+  }
+
+  public static void writeSetCookieBlockedReason(
+      JsonGenerator generator, SetCookieBlockedReason value) throws IOException {
+    generator.writeString(SET_COOKIE_BLOCKED_REASON_VALUES[value.ordinal()]);
+  }
+
+  public static SignedCertificateTimestamp readSignedCertificateTimestamp(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SignedCertificateTimestamp result = new SignedCertificateTimestamp();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "status":
+          result.setStatus(JsonCodecs.readString(parser));
+          break;
+        case "origin":
+          result.setOrigin(JsonCodecs.readString(parser));
+          break;
+        case "logDescription":
+          result.setLogDescription(JsonCodecs.readString(parser));
+          break;
+        case "logId":
+          result.setLogId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "hashAlgorithm":
+          result.setHashAlgorithm(JsonCodecs.readString(parser));
+          break;
+        case "signatureAlgorithm":
+          result.setSignatureAlgorithm(JsonCodecs.readString(parser));
+          break;
+        case "signatureData":
+          result.setSignatureData(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSignedCertificateTimestamp(
+      JsonGenerator generator, SignedCertificateTimestamp value) throws IOException {
+    generator.writeStartObject();
+    if (value.getStatus() != null) {
+      generator.writeFieldName("status");
+      JsonCodecs.writeString(generator, value.getStatus());
+    }
+    if (value.getOrigin() != null) {
+      generator.writeFieldName("origin");
+      JsonCodecs.writeString(generator, value.getOrigin());
+    }
+    if (value.getLogDescription() != null) {
+      generator.writeFieldName("logDescription");
+      JsonCodecs.writeString(generator, value.getLogDescription());
+    }
+    if (value.getLogId() != null) {
+      generator.writeFieldName("logId");
+      JsonCodecs.writeString(generator, value.getLogId());
+    }
+    if (value.getTimestamp() != null) {
+      generator.writeFieldName("timestamp");
+      JsonCodecs.writeDouble(generator, value.getTimestamp());
+    }
+    if (value.getHashAlgorithm() != null) {
+      generator.writeFieldName("hashAlgorithm");
+      JsonCodecs.writeString(generator, value.getHashAlgorithm());
+    }
+    if (value.getSignatureAlgorithm() != null) {
+      generator.writeFieldName("signatureAlgorithm");
+      JsonCodecs.writeString(generator, value.getSignatureAlgorithm());
+    }
+    if (value.getSignatureData() != null) {
+      generator.writeFieldName("signatureData");
+      JsonCodecs.writeString(generator, value.getSignatureData());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SignedExchangeError readSignedExchangeError(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SignedExchangeError result = new SignedExchangeError();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "message":
+          result.setMessage(JsonCodecs.readString(parser));
+          break;
+        case "signatureIndex":
+          result.setSignatureIndex(JsonCodecs.readInteger(parser));
+          break;
+        case "errorField":
+          result.setErrorField(readSignedExchangeErrorField(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSignedExchangeError(JsonGenerator generator, SignedExchangeError value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getMessage() != null) {
+      generator.writeFieldName("message");
+      JsonCodecs.writeString(generator, value.getMessage());
+    }
+    if (value.getSignatureIndex() != null) {
+      generator.writeFieldName("signatureIndex");
+      JsonCodecs.writeInteger(generator, value.getSignatureIndex());
+    }
+    if (value.getErrorField() != null) {
+      generator.writeFieldName("errorField");
+      writeSignedExchangeErrorField(generator, value.getErrorField());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SignedExchangeErrorField readSignedExchangeErrorField(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "signatureSig":
+        return SignedExchangeErrorField.SIGNATURE_SIG;
+      case "signatureIntegrity":
+        return SignedExchangeErrorField.SIGNATURE_INTEGRITY;
+      case "signatureCertUrl":
+        return SignedExchangeErrorField.SIGNATURE_CERT_URL;
+      case "signatureCertSha256":
+        return SignedExchangeErrorField.SIGNATURE_CERT_SHA_256;
+      case "signatureValidityUrl":
+        return SignedExchangeErrorField.SIGNATURE_VALIDITY_URL;
+      case "signatureTimestamps":
+        return SignedExchangeErrorField.SIGNATURE_TIMESTAMPS;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, SignedExchangeErrorField.class, value);
+    }
+  }
+
+  public static void writeSignedExchangeErrorField(
+      JsonGenerator generator, SignedExchangeErrorField value) throws IOException {
+    generator.writeString(SIGNED_EXCHANGE_ERROR_FIELD_VALUES[value.ordinal()]);
+  }
+
+  public static SignedExchangeHeader readSignedExchangeHeader(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SignedExchangeHeader result = new SignedExchangeHeader();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestUrl":
+          result.setRequestUrl(JsonCodecs.readString(parser));
+          break;
+        case "responseCode":
+          result.setResponseCode(JsonCodecs.readInteger(parser));
+          break;
+        case "responseHeaders":
+          result.setResponseHeaders(JsonCodecs.readMap(parser));
+          break;
+        case "signatures":
+          result.setSignatures(
+              JsonCodecs.readList(parser, NetworkCodecs::readSignedExchangeSignature));
+          break;
+        case "headerIntegrity":
+          result.setHeaderIntegrity(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSignedExchangeHeader(JsonGenerator generator, SignedExchangeHeader value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getRequestUrl() != null) {
+      generator.writeFieldName("requestUrl");
+      JsonCodecs.writeString(generator, value.getRequestUrl());
+    }
+    if (value.getResponseCode() != null) {
+      generator.writeFieldName("responseCode");
+      JsonCodecs.writeInteger(generator, value.getResponseCode());
+    }
+    if (value.getResponseHeaders() != null) {
+      generator.writeFieldName("responseHeaders");
+      JsonCodecs.writeObject(generator, value.getResponseHeaders());
+    }
+    if (value.getSignatures() != null) {
+      generator.writeFieldName("signatures");
+      JsonCodecs.writeList(
+          generator, value.getSignatures(), NetworkCodecs::writeSignedExchangeSignature);
+    }
+    if (value.getHeaderIntegrity() != null) {
+      generator.writeFieldName("headerIntegrity");
+      JsonCodecs.writeString(generator, value.getHeaderIntegrity());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SignedExchangeInfo readSignedExchangeInfo(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SignedExchangeInfo result = new SignedExchangeInfo();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "outerResponse":
+          result.setOuterResponse(readResponse(parser));
+          break;
+        case "header":
+          result.setHeader(readSignedExchangeHeader(parser));
+          break;
+        case "securityDetails":
+          result.setSecurityDetails(readSecurityDetails(parser));
+          break;
+        case "errors":
+          result.setErrors(JsonCodecs.readList(parser, NetworkCodecs::readSignedExchangeError));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSignedExchangeInfo(JsonGenerator generator, SignedExchangeInfo value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getOuterResponse() != null) {
+      generator.writeFieldName("outerResponse");
+      writeResponse(generator, value.getOuterResponse());
+    }
+    if (value.getHeader() != null) {
+      generator.writeFieldName("header");
+      writeSignedExchangeHeader(generator, value.getHeader());
+    }
+    if (value.getSecurityDetails() != null) {
+      generator.writeFieldName("securityDetails");
+      writeSecurityDetails(generator, value.getSecurityDetails());
+    }
+    if (value.getErrors() != null) {
+      generator.writeFieldName("errors");
+      JsonCodecs.writeList(generator, value.getErrors(), NetworkCodecs::writeSignedExchangeError);
+    }
+    generator.writeEndObject();
+  }
+
+  public static SignedExchangeSignature readSignedExchangeSignature(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SignedExchangeSignature result = new SignedExchangeSignature();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "label":
+          result.setLabel(JsonCodecs.readString(parser));
+          break;
+        case "signature":
+          result.setSignature(JsonCodecs.readString(parser));
+          break;
+        case "integrity":
+          result.setIntegrity(JsonCodecs.readString(parser));
+          break;
+        case "certUrl":
+          result.setCertUrl(JsonCodecs.readString(parser));
+          break;
+        case "certSha256":
+          result.setCertSha256(JsonCodecs.readString(parser));
+          break;
+        case "validityUrl":
+          result.setValidityUrl(JsonCodecs.readString(parser));
+          break;
+        case "date":
+          result.setDate(JsonCodecs.readInteger(parser));
+          break;
+        case "expires":
+          result.setExpires(JsonCodecs.readInteger(parser));
+          break;
+        case "certificates":
+          result.setCertificates(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSignedExchangeSignature(
+      JsonGenerator generator, SignedExchangeSignature value) throws IOException {
+    generator.writeStartObject();
+    if (value.getLabel() != null) {
+      generator.writeFieldName("label");
+      JsonCodecs.writeString(generator, value.getLabel());
+    }
+    if (value.getSignature() != null) {
+      generator.writeFieldName("signature");
+      JsonCodecs.writeString(generator, value.getSignature());
+    }
+    if (value.getIntegrity() != null) {
+      generator.writeFieldName("integrity");
+      JsonCodecs.writeString(generator, value.getIntegrity());
+    }
+    if (value.getCertUrl() != null) {
+      generator.writeFieldName("certUrl");
+      JsonCodecs.writeString(generator, value.getCertUrl());
+    }
+    if (value.getCertSha256() != null) {
+      generator.writeFieldName("certSha256");
+      JsonCodecs.writeString(generator, value.getCertSha256());
+    }
+    if (value.getValidityUrl() != null) {
+      generator.writeFieldName("validityUrl");
+      JsonCodecs.writeString(generator, value.getValidityUrl());
+    }
+    if (value.getDate() != null) {
+      generator.writeFieldName("date");
+      JsonCodecs.writeInteger(generator, value.getDate());
+    }
+    if (value.getExpires() != null) {
+      generator.writeFieldName("expires");
+      JsonCodecs.writeInteger(generator, value.getExpires());
+    }
+    if (value.getCertificates() != null) {
+      generator.writeFieldName("certificates");
+      JsonCodecs.writeList(generator, value.getCertificates(), JsonCodecs::writeString);
+    }
+    generator.writeEndObject();
+  }
+
+  public static WebSocketFrame readWebSocketFrame(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WebSocketFrame result = new WebSocketFrame();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "opcode":
+          result.setOpcode(JsonCodecs.readDouble(parser));
+          break;
+        case "mask":
+          result.setMask(JsonCodecs.readBoolean(parser));
+          break;
+        case "payloadData":
+          result.setPayloadData(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeWebSocketFrame(JsonGenerator generator, WebSocketFrame value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getOpcode() != null) {
+      generator.writeFieldName("opcode");
+      JsonCodecs.writeDouble(generator, value.getOpcode());
+    }
+    if (value.getMask() != null) {
+      generator.writeFieldName("mask");
+      JsonCodecs.writeBoolean(generator, value.getMask());
+    }
+    if (value.getPayloadData() != null) {
+      generator.writeFieldName("payloadData");
+      JsonCodecs.writeString(generator, value.getPayloadData());
+    }
+    generator.writeEndObject();
+  }
+
+  public static WebSocketRequest readWebSocketRequest(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WebSocketRequest result = new WebSocketRequest();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "headers":
+          result.setHeaders(JsonCodecs.readMap(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeWebSocketRequest(JsonGenerator generator, WebSocketRequest value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getHeaders() != null) {
+      generator.writeFieldName("headers");
+      JsonCodecs.writeObject(generator, value.getHeaders());
+    }
+    generator.writeEndObject();
+  }
+
+  public static WebSocketResponse readWebSocketResponse(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WebSocketResponse result = new WebSocketResponse();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "status":
+          result.setStatus(JsonCodecs.readInteger(parser));
+          break;
+        case "statusText":
+          result.setStatusText(JsonCodecs.readString(parser));
+          break;
+        case "headers":
+          result.setHeaders(JsonCodecs.readMap(parser));
+          break;
+        case "headersText":
+          result.setHeadersText(JsonCodecs.readString(parser));
+          break;
+        case "requestHeaders":
+          result.setRequestHeaders(JsonCodecs.readMap(parser));
+          break;
+        case "requestHeadersText":
+          result.setRequestHeadersText(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeWebSocketResponse(JsonGenerator generator, WebSocketResponse value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getStatus() != null) {
+      generator.writeFieldName("status");
+      JsonCodecs.writeInteger(generator, value.getStatus());
+    }
+    if (value.getStatusText() != null) {
+      generator.writeFieldName("statusText");
+      JsonCodecs.writeString(generator, value.getStatusText());
+    }
+    if (value.getHeaders() != null) {
+      generator.writeFieldName("headers");
+      JsonCodecs.writeObject(generator, value.getHeaders());
+    }
+    if (value.getHeadersText() != null) {
+      generator.writeFieldName("headersText");
+      JsonCodecs.writeString(generator, value.getHeadersText());
+    }
+    if (value.getRequestHeaders() != null) {
+      generator.writeFieldName("requestHeaders");
+      JsonCodecs.writeObject(generator, value.getRequestHeaders());
+    }
+    if (value.getRequestHeadersText() != null) {
+      generator.writeFieldName("requestHeadersText");
+      JsonCodecs.writeString(generator, value.getRequestHeadersText());
+    }
+    generator.writeEndObject();
+  }
+
+  public static DataReceived readDataReceived(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DataReceived result = new DataReceived();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "dataLength":
+          result.setDataLength(JsonCodecs.readInteger(parser));
+          break;
+        case "encodedDataLength":
+          result.setEncodedDataLength(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static EventSourceMessageReceived readEventSourceMessageReceived(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    EventSourceMessageReceived result = new EventSourceMessageReceived();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "eventName":
+          result.setEventName(JsonCodecs.readString(parser));
+          break;
+        case "eventId":
+          result.setEventId(JsonCodecs.readString(parser));
+          break;
+        case "data":
+          result.setData(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static LoadingFailed readLoadingFailed(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LoadingFailed result = new LoadingFailed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "type":
+          result.setType(readResourceType(parser));
+          break;
+        case "errorText":
+          result.setErrorText(JsonCodecs.readString(parser));
+          break;
+        case "canceled":
+          result.setCanceled(JsonCodecs.readBoolean(parser));
+          break;
+        case "blockedReason":
+          result.setBlockedReason(readBlockedReason(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static LoadingFinished readLoadingFinished(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LoadingFinished result = new LoadingFinished();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "encodedDataLength":
+          result.setEncodedDataLength(JsonCodecs.readDouble(parser));
+          break;
+        case "shouldReportCorbBlocking":
+          result.setShouldReportCorbBlocking(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static RequestIntercepted readRequestIntercepted(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RequestIntercepted result = new RequestIntercepted();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "interceptionId":
+          result.setInterceptionId(JsonCodecs.readString(parser));
+          break;
+        case "request":
+          result.setRequest(readRequest(parser));
+          break;
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "resourceType":
+          result.setResourceType(readResourceType(parser));
+          break;
+        case "isNavigationRequest":
+          result.setIsNavigationRequest(JsonCodecs.readBoolean(parser));
+          break;
+        case "isDownload":
+          result.setIsDownload(JsonCodecs.readBoolean(parser));
+          break;
+        case "redirectUrl":
+          result.setRedirectUrl(JsonCodecs.readString(parser));
+          break;
+        case "authChallenge":
+          result.setAuthChallenge(readAuthChallenge(parser));
+          break;
+        case "responseErrorReason":
+          result.setResponseErrorReason(readErrorReason(parser));
+          break;
+        case "responseStatusCode":
+          result.setResponseStatusCode(JsonCodecs.readInteger(parser));
+          break;
+        case "responseHeaders":
+          result.setResponseHeaders(JsonCodecs.readMap(parser));
+          break;
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static RequestServedFromCache readRequestServedFromCache(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RequestServedFromCache result = new RequestServedFromCache();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static RequestWillBeSent readRequestWillBeSent(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RequestWillBeSent result = new RequestWillBeSent();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "loaderId":
+          result.setLoaderId(JsonCodecs.readString(parser));
+          break;
+        case "documentURL":
+          result.setDocumentURL(JsonCodecs.readString(parser));
+          break;
+        case "request":
+          result.setRequest(readRequest(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "wallTime":
+          result.setWallTime(JsonCodecs.readDouble(parser));
+          break;
+        case "initiator":
+          result.setInitiator(readInitiator(parser));
+          break;
+        case "redirectResponse":
+          result.setRedirectResponse(readResponse(parser));
+          break;
+        case "type":
+          result.setType(readResourceType(parser));
+          break;
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "hasUserGesture":
+          result.setHasUserGesture(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static RequestWillBeSentExtraInfo readRequestWillBeSentExtraInfo(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RequestWillBeSentExtraInfo result = new RequestWillBeSentExtraInfo();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "blockedCookies":
+          result.setBlockedCookies(
+              JsonCodecs.readList(parser, NetworkCodecs::readBlockedCookieWithReason));
+          break;
+        case "headers":
+          result.setHeaders(JsonCodecs.readMap(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ResourceChangedPriority readResourceChangedPriority(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ResourceChangedPriority result = new ResourceChangedPriority();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "newPriority":
+          result.setNewPriority(readResourcePriority(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ResponseReceived readResponseReceived(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ResponseReceived result = new ResponseReceived();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "loaderId":
+          result.setLoaderId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "type":
+          result.setType(readResourceType(parser));
+          break;
+        case "response":
+          result.setResponse(readResponse(parser));
+          break;
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ResponseReceivedExtraInfo readResponseReceivedExtraInfo(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ResponseReceivedExtraInfo result = new ResponseReceivedExtraInfo();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "blockedCookies":
+          result.setBlockedCookies(
+              JsonCodecs.readList(parser, NetworkCodecs::readBlockedSetCookieWithReason));
+          break;
+        case "headers":
+          result.setHeaders(JsonCodecs.readMap(parser));
+          break;
+        case "headersText":
+          result.setHeadersText(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static SignedExchangeReceived readSignedExchangeReceived(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SignedExchangeReceived result = new SignedExchangeReceived();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "info":
+          result.setInfo(readSignedExchangeInfo(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static WebSocketClosed readWebSocketClosed(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WebSocketClosed result = new WebSocketClosed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static WebSocketCreated readWebSocketCreated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WebSocketCreated result = new WebSocketCreated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "initiator":
+          result.setInitiator(readInitiator(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static WebSocketFrameError readWebSocketFrameError(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WebSocketFrameError result = new WebSocketFrameError();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "errorMessage":
+          result.setErrorMessage(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static WebSocketFrameReceived readWebSocketFrameReceived(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WebSocketFrameReceived result = new WebSocketFrameReceived();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "response":
+          result.setResponse(readWebSocketFrame(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static WebSocketFrameSent readWebSocketFrameSent(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WebSocketFrameSent result = new WebSocketFrameSent();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "response":
+          result.setResponse(readWebSocketFrame(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static WebSocketHandshakeResponseReceived readWebSocketHandshakeResponseReceived(
+      JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WebSocketHandshakeResponseReceived result = new WebSocketHandshakeResponseReceived();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "response":
+          result.setResponse(readWebSocketResponse(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static WebSocketWillSendHandshakeRequest readWebSocketWillSendHandshakeRequest(
+      JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WebSocketWillSendHandshakeRequest result = new WebSocketWillSendHandshakeRequest();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "requestId":
+          result.setRequestId(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "wallTime":
+          result.setWallTime(JsonCodecs.readDouble(parser));
+          break;
+        case "request":
+          result.setRequest(readWebSocketRequest(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
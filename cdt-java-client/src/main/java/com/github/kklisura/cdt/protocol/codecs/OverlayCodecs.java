@@ -0,0 +1,271 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.overlay.InspectModeCanceled;
+import com.github.kklisura.cdt.protocol.events.overlay.InspectNodeRequested;
+import com.github.kklisura.cdt.protocol.events.overlay.NodeHighlightRequested;
+import com.github.kklisura.cdt.protocol.events.overlay.ScreenshotRequested;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.overlay.HighlightConfig;
+import com.github.kklisura.cdt.protocol.types.overlay.InspectMode;
+import java.io.IOException;
+
+/** Overlay domain type and event codecs. */
+public final class OverlayCodecs {
+
+  private static final String[] INSPECT_MODE_VALUES = {
+    "searchForNode", "searchForUAShadowDOM", "captureAreaScreenshot", "showDistances", "none"
+  };
+
+  private OverlayCodecs() {}
+
+  /**
+   * Registers Overlay codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        HighlightConfig.class,
+        OverlayCodecs::readHighlightConfig,
+        OverlayCodecs::writeHighlightConfig);
+    module.addCodec(
+        InspectMode.class, OverlayCodecs::readInspectMode, OverlayCodecs::writeInspectMode);
+    module.addReader(InspectModeCanceled.class, OverlayCodecs::readInspectModeCanceled);
+    module.addReader(InspectNodeRequested.class, OverlayCodecs::readInspectNodeRequested);
+    module.addReader(NodeHighlightRequested.class, OverlayCodecs::readNodeHighlightRequested);
+    module.addReader(ScreenshotRequested.class, OverlayCodecs::readScreenshotRequested);
+  }
+
+  public static HighlightConfig readHighlightConfig(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    HighlightConfig result = new HighlightConfig();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "showInfo":
+          result.setShowInfo(JsonCodecs.readBoolean(parser));
+          break;
+        case "showStyles":
+          result.setShowStyles(JsonCodecs.readBoolean(parser));
+          break;
+        case "showRulers":
+          result.setShowRulers(JsonCodecs.readBoolean(parser));
+          break;
+        case "showExtensionLines":
+          result.setShowExtensionLines(JsonCodecs.readBoolean(parser));
+          break;
+        case "contentColor":
+          result.setContentColor(DOMCodecs.readRGBA(parser));
+          break;
+        case "paddingColor":
+          result.setPaddingColor(DOMCodecs.readRGBA(parser));
+          break;
+        case "borderColor":
+          result.setBorderColor(DOMCodecs.readRGBA(parser));
+          break;
+        case "marginColor":
+          result.setMarginColor(DOMCodecs.readRGBA(parser));
+          break;
+        case "eventTargetColor":
+          result.setEventTargetColor(DOMCodecs.readRGBA(parser));
+          break;
+        case "shapeColor":
+          result.setShapeColor(DOMCodecs.readRGBA(parser));
+          break;
+        case "shapeMarginColor":
+          result.setShapeMarginColor(DOMCodecs.readRGBA(parser));
+          break;
+        case "cssGridColor":
+          result.setCssGridColor(DOMCodecs.readRGBA(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeHighlightConfig(JsonGenerator generator, HighlightConfig value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getShowInfo() != null) {
+      generator.writeFieldName("showInfo");
+      JsonCodecs.writeBoolean(generator, value.getShowInfo());
+    }
+    if (value.getShowStyles() != null) {
+      generator.writeFieldName("showStyles");
+      JsonCodecs.writeBoolean(generator, value.getShowStyles());
+    }
+    if (value.getShowRulers() != null) {
+      generator.writeFieldName("showRulers");
+      JsonCodecs.writeBoolean(generator, value.getShowRulers());
+    }
+    if (value.getShowExtensionLines() != null) {
+      generator.writeFieldName("showExtensionLines");
+      JsonCodecs.writeBoolean(generator, value.getShowExtensionLines());
+    }
+    if (value.getContentColor() != null) {
+      generator.writeFieldName("contentColor");
+      DOMCodecs.writeRGBA(generator, value.getContentColor());
+    }
+    if (value.getPaddingColor() != null) {
+      generator.writeFieldName("paddingColor");
+      DOMCodecs.writeRGBA(generator, value.getPaddingColor());
+    }
+    if (value.getBorderColor() != null) {
+      generator.writeFieldName("borderColor");
+      DOMCodecs.writeRGBA(generator, value.getBorderColor());
+    }
+    if (value.getMarginColor() != null) {
+      generator.writeFieldName("marginColor");
+      DOMCodecs.writeRGBA(generator, value.getMarginColor());
+    }
+    if (value.getEventTargetColor() != null) {
+      generator.writeFieldName("eventTargetColor");
+      DOMCodecs.writeRGBA(generator, value.getEventTargetColor());
+    }
+    if (value.getShapeColor() != null) {
+      generator.writeFieldName("shapeColor");
+      DOMCodecs.writeRGBA(generator, value.getShapeColor());
+    }
+    if (value.getShapeMarginColor() != null) {
+      generator.writeFieldName("shapeMarginColor");
+      DOMCodecs.writeRGBA(generator, value.getShapeMarginColor());
+    }
+    if (value.getCssGridColor() != null) {
+      generator.writeFieldName("cssGridColor");
+      DOMCodecs.writeRGBA(generator, value.getCssGridColor());
+    }
+    generator.writeEndObject();
+  }
+
+  public static InspectMode readInspectMode(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "searchForNode":
+        return InspectMode.SEARCH_FOR_NODE;
+      case "searchForUAShadowDOM":
+        return InspectMode.SEARCH_FOR_UA_SHADOW_DOM;
+      case "captureAreaScreenshot":
+        return InspectMode.CAPTURE_AREA_SCREENSHOT;
+      case "showDistances":
+        return InspectMode.SHOW_DISTANCES;
+      case "none":
+        return InspectMode.NONE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, InspectMode.class, value);
+    }
+  }
+
+  public static void writeInspectMode(JsonGenerator generator, InspectMode value)
+      throws IOException {
+    generator.writeString(INSPECT_MODE_VALUES[value.ordinal()]);
+  }
+
+  public static InspectModeCanceled readInspectModeCanceled(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InspectModeCanceled result = new InspectModeCanceled();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return result;
+  }
+
+  public static InspectNodeRequested readInspectNodeRequested(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InspectNodeRequested result = new InspectNodeRequested();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "backendNodeId":
+          result.setBackendNodeId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static NodeHighlightRequested readNodeHighlightRequested(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NodeHighlightRequested result = new NodeHighlightRequested();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ScreenshotRequested readScreenshotRequested(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScreenshotRequested result = new ScreenshotRequested();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "viewport":
+          result.setViewport(PageCodecs.readViewport(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,2005 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.page.CompilationCacheProduced;
+import com.github.kklisura.cdt.protocol.events.page.DomContentEventFired;
+import com.github.kklisura.cdt.protocol.events.page.DownloadWillBegin;
+import com.github.kklisura.cdt.protocol.events.page.FileChooserOpened;
+import com.github.kklisura.cdt.protocol.events.page.FileChooserOpenedMode;
+import com.github.kklisura.cdt.protocol.events.page.FrameAttached;
+import com.github.kklisura.cdt.protocol.events.page.FrameClearedScheduledNavigation;
+import com.github.kklisura.cdt.protocol.events.page.FrameDetached;
+import com.github.kklisura.cdt.protocol.events.page.FrameNavigated;
+import com.github.kklisura.cdt.protocol.events.page.FrameRequestedNavigation;
+import com.github.kklisura.cdt.protocol.events.page.FrameResized;
+import com.github.kklisura.cdt.protocol.events.page.FrameScheduledNavigation;
+import com.github.kklisura.cdt.protocol.events.page.FrameScheduledNavigationReason;
+import com.github.kklisura.cdt.protocol.events.page.FrameStartedLoading;
+import com.github.kklisura.cdt.protocol.events.page.FrameStoppedLoading;
+import com.github.kklisura.cdt.protocol.events.page.InterstitialHidden;
+import com.github.kklisura.cdt.protocol.events.page.InterstitialShown;
+import com.github.kklisura.cdt.protocol.events.page.JavascriptDialogClosed;
+import com.github.kklisura.cdt.protocol.events.page.JavascriptDialogOpening;
+import com.github.kklisura.cdt.protocol.events.page.LifecycleEvent;
+import com.github.kklisura.cdt.protocol.events.page.LoadEventFired;
+import com.github.kklisura.cdt.protocol.events.page.NavigatedWithinDocument;
+import com.github.kklisura.cdt.protocol.events.page.ScreencastFrame;
+import com.github.kklisura.cdt.protocol.events.page.ScreencastVisibilityChanged;
+import com.github.kklisura.cdt.protocol.events.page.WindowOpen;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.page.AppManifest;
+import com.github.kklisura.cdt.protocol.types.page.AppManifestError;
+import com.github.kklisura.cdt.protocol.types.page.CaptureScreenshotFormat;
+import com.github.kklisura.cdt.protocol.types.page.CaptureSnapshotFormat;
+import com.github.kklisura.cdt.protocol.types.page.ClientNavigationReason;
+import com.github.kklisura.cdt.protocol.types.page.DialogType;
+import com.github.kklisura.cdt.protocol.types.page.FontFamilies;
+import com.github.kklisura.cdt.protocol.types.page.FontSizes;
+import com.github.kklisura.cdt.protocol.types.page.Frame;
+import com.github.kklisura.cdt.protocol.types.page.FrameResource;
+import com.github.kklisura.cdt.protocol.types.page.FrameResourceTree;
+import com.github.kklisura.cdt.protocol.types.page.FrameTree;
+import com.github.kklisura.cdt.protocol.types.page.HandleFileChooserAction;
+import com.github.kklisura.cdt.protocol.types.page.LayoutMetrics;
+import com.github.kklisura.cdt.protocol.types.page.LayoutViewport;
+import com.github.kklisura.cdt.protocol.types.page.Navigate;
+import com.github.kklisura.cdt.protocol.types.page.NavigationEntry;
+import com.github.kklisura.cdt.protocol.types.page.NavigationHistory;
+import com.github.kklisura.cdt.protocol.types.page.PrintToPDF;
+import com.github.kklisura.cdt.protocol.types.page.PrintToPDFTransferMode;
+import com.github.kklisura.cdt.protocol.types.page.ResourceContent;
+import com.github.kklisura.cdt.protocol.types.page.ScreencastFrameMetadata;
+import com.github.kklisura.cdt.protocol.types.page.SetDownloadBehaviorBehavior;
+import com.github.kklisura.cdt.protocol.types.page.SetWebLifecycleStateState;
+import com.github.kklisura.cdt.protocol.types.page.StartScreencastFormat;
+import com.github.kklisura.cdt.protocol.types.page.TransitionType;
+import com.github.kklisura.cdt.protocol.types.page.Viewport;
+import com.github.kklisura.cdt.protocol.types.page.VisualViewport;
+import java.io.IOException;
+
+/** Page domain type and event codecs. */
+public final class PageCodecs {
+
+  private static final String[] CAPTURE_SCREENSHOT_FORMAT_VALUES = {"jpeg", "png"};
+
+  private static final String[] CAPTURE_SNAPSHOT_FORMAT_VALUES = {"mhtml"};
+
+  private static final String[] CLIENT_NAVIGATION_REASON_VALUES = {
+    "formSubmissionGet",
+    "formSubmissionPost",
+    "httpHeaderRefresh",
+    "scriptInitiated",
+    "metaTagRefresh",
+    "pageBlockInterstitial",
+    "reload"
+  };
+
+  private static final String[] DIALOG_TYPE_VALUES = {"alert", "confirm", "prompt", "beforeunload"};
+
+  private static final String[] HANDLE_FILE_CHOOSER_ACTION_VALUES = {
+    "accept", "cancel", "fallback"
+  };
+
+  private static final String[] PRINT_TO_PDF_TRANSFER_MODE_VALUES = {
+    "ReturnAsBase64", "ReturnAsStream"
+  };
+
+  private static final String[] SET_DOWNLOAD_BEHAVIOR_BEHAVIOR_VALUES = {
+    "deny", "allow", "default"
+  };
+
+  private static final String[] SET_WEB_LIFECYCLE_STATE_STATE_VALUES = {"frozen", "active"};
+
+  private static final String[] START_SCREENCAST_FORMAT_VALUES = {"jpeg", "png"};
+
+  private static final String[] TRANSITION_TYPE_VALUES = {
+    "link",
+    "typed",
+    "address_bar",
+    "auto_bookmark",
+    "auto_subframe",
+    "manual_subframe",
+    "generated",
+    "auto_toplevel",
+    "form_submit",
+    "reload",
+    "keyword",
+    "keyword_generated",
+    "other"
+  };
+
+  private PageCodecs() {}
+
+  /**
+   * Registers Page codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(AppManifest.class, PageCodecs::readAppManifest, PageCodecs::writeAppManifest);
+    module.addCodec(
+        AppManifestError.class,
+        PageCodecs::readAppManifestError,
+        PageCodecs::writeAppManifestError);
+    module.addCodec(
+        CaptureScreenshotFormat.class,
+        PageCodecs::readCaptureScreenshotFormat,
+        PageCodecs::writeCaptureScreenshotFormat);
+    module.addCodec(
+        CaptureSnapshotFormat.class,
+        PageCodecs::readCaptureSnapshotFormat,
+        PageCodecs::writeCaptureSnapshotFormat);
+    module.addCodec(
+        ClientNavigationReason.class,
+        PageCodecs::readClientNavigationReason,
+        PageCodecs::writeClientNavigationReason);
+    module.addCodec(DialogType.class, PageCodecs::readDialogType, PageCodecs::writeDialogType);
+    module.addCodec(
+        FontFamilies.class, PageCodecs::readFontFamilies, PageCodecs::writeFontFamilies);
+    module.addCodec(FontSizes.class, PageCodecs::readFontSizes, PageCodecs::writeFontSizes);
+    module.addCodec(Frame.class, PageCodecs::readFrame, PageCodecs::writeFrame);
+    module.addCodec(
+        FrameResource.class, PageCodecs::readFrameResource, PageCodecs::writeFrameResource);
+    module.addCodec(
+        FrameResourceTree.class,
+        PageCodecs::readFrameResourceTree,
+        PageCodecs::writeFrameResourceTree);
+    module.addCodec(FrameTree.class, PageCodecs::readFrameTree, PageCodecs::writeFrameTree);
+    module.addCodec(
+        HandleFileChooserAction.class,
+        PageCodecs::readHandleFileChooserAction,
+        PageCodecs::writeHandleFileChooserAction);
+    module.addCodec(
+        LayoutMetrics.class, PageCodecs::readLayoutMetrics, PageCodecs::writeLayoutMetrics);
+    module.addCodec(
+        LayoutViewport.class, PageCodecs::readLayoutViewport, PageCodecs::writeLayoutViewport);
+    module.addCodec(Navigate.class, PageCodecs::readNavigate, PageCodecs::writeNavigate);
+    module.addCodec(
+        NavigationEntry.class, PageCodecs::readNavigationEntry, PageCodecs::writeNavigationEntry);
+    module.addCodec(
+        NavigationHistory.class,
+        PageCodecs::readNavigationHistory,
+        PageCodecs::writeNavigationHistory);
+    module.addCodec(PrintToPDF.class, PageCodecs::readPrintToPDF, PageCodecs::writePrintToPDF);
+    module.addCodec(
+        PrintToPDFTransferMode.class,
+        PageCodecs::readPrintToPDFTransferMode,
+        PageCodecs::writePrintToPDFTransferMode);
+    module.addCodec(
+        ResourceContent.class, PageCodecs::readResourceContent, PageCodecs::writeResourceContent);
+    module.addCodec(
+        ScreencastFrameMetadata.class,
+        PageCodecs::readScreencastFrameMetadata,
+        PageCodecs::writeScreencastFrameMetadata);
+    module.addCodec(
+        SetDownloadBehaviorBehavior.class,
+        PageCodecs::readSetDownloadBehaviorBehavior,
+        PageCodecs::writeSetDownloadBehaviorBehavior);
+    module.addCodec(
+        SetWebLifecycleStateState.class,
+        PageCodecs::readSetWebLifecycleStateState,
+        PageCodecs::writeSetWebLifecycleStateState);
+    module.addCodec(
+        StartScreencastFormat.class,
+        PageCodecs::readStartScreencastFormat,
+        PageCodecs::writeStartScreencastFormat);
+    module.addCodec(
+        TransitionType.class, PageCodecs::readTransitionType, PageCodecs::writeTransitionType);
+    module.addCodec(Viewport.class, PageCodecs::readViewport, PageCodecs::writeViewport);
+    module.addCodec(
+        VisualViewport.class, PageCodecs::readVisualViewport, PageCodecs::writeVisualViewport);
+    module.addReader(CompilationCacheProduced.class, PageCodecs::readCompilationCacheProduced);
+    module.addReader(DomContentEventFired.class, PageCodecs::readDomContentEventFired);
+    module.addReader(DownloadWillBegin.class, PageCodecs::readDownloadWillBegin);
+    module.addReader(FileChooserOpened.class, PageCodecs::readFileChooserOpened);
+    module.addReader(FileChooserOpenedMode.class, PageCodecs::readFileChooserOpenedMode);
+    module.addReader(FrameAttached.class, PageCodecs::readFrameAttached);
+    module.addReader(
+        FrameClearedScheduledNavigation.class, PageCodecs::readFrameClearedScheduledNavigation);
+    module.addReader(FrameDetached.class, PageCodecs::readFrameDetached);
+    module.addReader(FrameNavigated.class, PageCodecs::readFrameNavigated);
+    module.addReader(FrameRequestedNavigation.class, PageCodecs::readFrameRequestedNavigation);
+    module.addReader(FrameResized.class, PageCodecs::readFrameResized);
+    module.addReader(FrameScheduledNavigation.class, PageCodecs::readFrameScheduledNavigation);
+    module.addReader(
+        FrameScheduledNavigationReason.class, PageCodecs::readFrameScheduledNavigationReason);
+    module.addReader(FrameStartedLoading.class, PageCodecs::readFrameStartedLoading);
+    module.addReader(FrameStoppedLoading.class, PageCodecs::readFrameStoppedLoading);
+    module.addReader(InterstitialHidden.class, PageCodecs::readInterstitialHidden);
+    module.addReader(InterstitialShown.class, PageCodecs::readInterstitialShown);
+    module.addReader(JavascriptDialogClosed.class, PageCodecs::readJavascriptDialogClosed);
+    module.addReader(JavascriptDialogOpening.class, PageCodecs::readJavascriptDialogOpening);
+    module.addReader(LifecycleEvent.class, PageCodecs::readLifecycleEvent);
+    module.addReader(LoadEventFired.class, PageCodecs::readLoadEventFired);
+    module.addReader(NavigatedWithinDocument.class, PageCodecs::readNavigatedWithinDocument);
+    module.addReader(ScreencastFrame.class, PageCodecs::readScreencastFrame);
+    module.addReader(
+        ScreencastVisibilityChanged.class, PageCodecs::readScreencastVisibilityChanged);
+    module.addReader(WindowOpen.class, PageCodecs::readWindowOpen);
+  }
+
+  public static AppManifest readAppManifest(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AppManifest result = new AppManifest();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "errors":
+          result.setErrors(JsonCodecs.readList(parser, PageCodecs::readAppManifestError));
+          break;
+        case "data":
+          result.setData(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAppManifest(JsonGenerator generator, AppManifest value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getErrors() != null) {
+      generator.writeFieldName("errors");
+      JsonCodecs.writeList(generator, value.getErrors(), PageCodecs::writeAppManifestError);
+    }
+    if (value.getData() != null) {
+      generator.writeFieldName("data");
+      JsonCodecs.writeString(generator, value.getData());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AppManifestError readAppManifestError(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AppManifestError result = new AppManifestError();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "message":
+          result.setMessage(JsonCodecs.readString(parser));
+          break;
+        case "critical":
+          result.setCritical(JsonCodecs.readInteger(parser));
+          break;
+        case "line":
+          result.setLine(JsonCodecs.readInteger(parser));
+          break;
+        case "column":
+          result.setColumn(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAppManifestError(JsonGenerator generator, AppManifestError value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getMessage() != null) {
+      generator.writeFieldName("message");
+      JsonCodecs.writeString(generator, value.getMessage());
+    }
+    if (value.getCritical() != null) {
+      generator.writeFieldName("critical");
+      JsonCodecs.writeInteger(generator, value.getCritical());
+    }
+    if (value.getLine() != null) {
+      generator.writeFieldName("line");
+      JsonCodecs.writeInteger(generator, value.getLine());
+    }
+    if (value.getColumn() != null) {
+      generator.writeFieldName("column");
+      JsonCodecs.writeInteger(generator, value.getColumn());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CaptureScreenshotFormat readCaptureScreenshotFormat(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "jpeg":
+        return CaptureScreenshotFormat.JPEG;
+      case "png":
+        return CaptureScreenshotFormat.PNG;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, CaptureScreenshotFormat.class, value);
+    }
+  }
+
+  public static void writeCaptureScreenshotFormat(
+      JsonGenerator generator, CaptureScreenshotFormat value) throws IOException {
+    generator.writeString(CAPTURE_SCREENSHOT_FORMAT_VALUES[value.ordinal()]);
+  }
+
+  public static CaptureSnapshotFormat readCaptureSnapshotFormat(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "mhtml":
+        return CaptureSnapshotFormat.MHTML;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, CaptureSnapshotFormat.class, value);
+    }
+  }
+
+  public static void writeCaptureSnapshotFormat(
+      JsonGenerator generator, CaptureSnapshotFormat value) throws IOException {
+    generator.writeString(CAPTURE_SNAPSHOT_FORMAT_VALUES[value.ordinal()]);
+  }
+
+  public static ClientNavigationReason readClientNavigationReason(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "formSubmissionGet":
+        return ClientNavigationReason.FORM_SUBMISSION_GET;
+      case "formSubmissionPost":
+        return ClientNavigationReason.FORM_SUBMISSION_POST;
+      case "httpHeaderRefresh":
+        return ClientNavigationReason.HTTP_HEADER_REFRESH;
+      case "scriptInitiated":
+        return ClientNavigationReason.SCRIPT_INITIATED;
+      case "metaTagRefresh":
+        return ClientNavigationReason.META_TAG_REFRESH;
+      case "pageBlockInterstitial":
+        return ClientNavigationReason.PAGE_BLOCK_INTERSTITIAL;
+      case "reload":
+        return ClientNavigationReason.RELOAD;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ClientNavigationReason.class, value);
+    }
+  }
+
+  public static void writeClientNavigationReason(
+      JsonGenerator generator, ClientNavigationReason value) throws IOException {
+    generator.writeString(CLIENT_NAVIGATION_REASON_VALUES[value.ordinal()]);
+  }
+
+  public static DialogType readDialogType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "alert":
+        return DialogType.ALERT;
+      case "confirm":
+        return DialogType.CONFIRM;
+      case "prompt":
+        return DialogType.PROMPT;
+      case "beforeunload":
+        return DialogType.BEFOREUNLOAD;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, DialogType.class, value);
+    }
+  }
+
+  public static void writeDialogType(JsonGenerator generator, DialogType value) throws IOException {
+    generator.writeString(DIALOG_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static FontFamilies readFontFamilies(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FontFamilies result = new FontFamilies();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "standard":
+          result.setStandard(JsonCodecs.readString(parser));
+          break;
+        case "fixed":
+          result.setFixed(JsonCodecs.readString(parser));
+          break;
+        case "serif":
+          result.setSerif(JsonCodecs.readString(parser));
+          break;
+        case "sansSerif":
+          result.setSansSerif(JsonCodecs.readString(parser));
+          break;
+        case "cursive":
+          result.setCursive(JsonCodecs.readString(parser));
+          break;
+        case "fantasy":
+          result.setFantasy(JsonCodecs.readString(parser));
+          break;
+        case "pictograph":
+          result.setPictograph(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeFontFamilies(JsonGenerator generator, FontFamilies value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getStandard() != null) {
+      generator.writeFieldName("standard");
+      JsonCodecs.writeString(generator, value.getStandard());
+    }
+    if (value.getFixed() != null) {
+      generator.writeFieldName("fixed");
+      JsonCodecs.writeString(generator, value.getFixed());
+    }
+    if (value.getSerif() != null) {
+      generator.writeFieldName("serif");
+      JsonCodecs.writeString(generator, value.getSerif());
+    }
+    if (value.getSansSerif() != null) {
+      generator.writeFieldName("sansSerif");
+      JsonCodecs.writeString(generator, value.getSansSerif());
+    }
+    if (value.getCursive() != null) {
+      generator.writeFieldName("cursive");
+      JsonCodecs.writeString(generator, value.getCursive());
+    }
+    if (value.getFantasy() != null) {
+      generator.writeFieldName("fantasy");
+      JsonCodecs.writeString(generator, value.getFantasy());
+    }
+    if (value.getPictograph() != null) {
+      generator.writeFieldName("pictograph");
+      JsonCodecs.writeString(generator, value.getPictograph());
+    }
+    generator.writeEndObject();
+  }
+
+  public static FontSizes readFontSizes(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FontSizes result = new FontSizes();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "standard":
+          result.setStandard(JsonCodecs.readInteger(parser));
+          break;
+        case "fixed":
+          result.setFixed(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeFontSizes(JsonGenerator generator, FontSizes value) throws IOException {
+    generator.writeStartObject();
+    if (value.getStandard() != null) {
+      generator.writeFieldName("standard");
+      JsonCodecs.writeInteger(generator, value.getStandard());
+    }
+    if (value.getFixed() != null) {
+      generator.writeFieldName("fixed");
+      JsonCodecs.writeInteger(generator, value.getFixed());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Frame readFrame(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Frame result = new Frame();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readString(parser));
+          break;
+        case "parentId":
+          result.setParentId(JsonCodecs.readString(parser));
+          break;
+        case "loaderId":
+          result.setLoaderId(JsonCodecs.readString(parser));
+          break;
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "urlFragment":
+          result.setUrlFragment(JsonCodecs.readString(parser));
+          break;
+        case "securityOrigin":
+          result.setSecurityOrigin(JsonCodecs.readString(parser));
+          break;
+        case "mimeType":
+          result.setMimeType(JsonCodecs.readString(parser));
+          break;
+        case "unreachableUrl":
+          result.setUnreachableUrl(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeFrame(JsonGenerator generator, Frame value) throws IOException {
+    generator.writeStartObject();
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeString(generator, value.getId());
+    }
+    if (value.getParentId() != null) {
+      generator.writeFieldName("parentId");
+      JsonCodecs.writeString(generator, value.getParentId());
+    }
+    if (value.getLoaderId() != null) {
+      generator.writeFieldName("loaderId");
+      JsonCodecs.writeString(generator, value.getLoaderId());
+    }
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getUrlFragment() != null) {
+      generator.writeFieldName("urlFragment");
+      JsonCodecs.writeString(generator, value.getUrlFragment());
+    }
+    if (value.getSecurityOrigin() != null) {
+      generator.writeFieldName("securityOrigin");
+      JsonCodecs.writeString(generator, value.getSecurityOrigin());
+    }
+    if (value.getMimeType() != null) {
+      generator.writeFieldName("mimeType");
+      JsonCodecs.writeString(generator, value.getMimeType());
+    }
+    if (value.getUnreachableUrl() != null) {
+      generator.writeFieldName("unreachableUrl");
+      JsonCodecs.writeString(generator, value.getUnreachableUrl());
+    }
+    generator.writeEndObject();
+  }
+
+  public static FrameResource readFrameResource(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameResource result = new FrameResource();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "type":
+          result.setType(NetworkCodecs.readResourceType(parser));
+          break;
+        case "mimeType":
+          result.setMimeType(JsonCodecs.readString(parser));
+          break;
+        case "lastModified":
+          result.setLastModified(JsonCodecs.readDouble(parser));
+          break;
+        case "contentSize":
+          result.setContentSize(JsonCodecs.readDouble(parser));
+          break;
+        case "failed":
+          result.setFailed(JsonCodecs.readBoolean(parser));
+          break;
+        case "canceled":
+          result.setCanceled(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeFrameResource(JsonGenerator generator, FrameResource value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      NetworkCodecs.writeResourceType(generator, value.getType());
+    }
+    if (value.getMimeType() != null) {
+      generator.writeFieldName("mimeType");
+      JsonCodecs.writeString(generator, value.getMimeType());
+    }
+    if (value.getLastModified() != null) {
+      generator.writeFieldName("lastModified");
+      JsonCodecs.writeDouble(generator, value.getLastModified());
+    }
+    if (value.getContentSize() != null) {
+      generator.writeFieldName("contentSize");
+      JsonCodecs.writeDouble(generator, value.getContentSize());
+    }
+    if (value.getFailed() != null) {
+      generator.writeFieldName("failed");
+      JsonCodecs.writeBoolean(generator, value.getFailed());
+    }
+    if (value.getCanceled() != null) {
+      generator.writeFieldName("canceled");
+      JsonCodecs.writeBoolean(generator, value.getCanceled());
+    }
+    generator.writeEndObject();
+  }
+
+  public static FrameResourceTree readFrameResourceTree(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameResourceTree result = new FrameResourceTree();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frame":
+          result.setFrame(readFrame(parser));
+          break;
+        case "childFrames":
+          result.setChildFrames(JsonCodecs.readList(parser, PageCodecs::readFrameResourceTree));
+          break;
+        case "resources":
+          result.setResources(JsonCodecs.readList(parser, PageCodecs::readFrameResource));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeFrameResourceTree(JsonGenerator generator, FrameResourceTree value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getFrame() != null) {
+      generator.writeFieldName("frame");
+      writeFrame(generator, value.getFrame());
+    }
+    if (value.getChildFrames() != null) {
+      generator.writeFieldName("childFrames");
+      JsonCodecs.writeList(generator, value.getChildFrames(), PageCodecs::writeFrameResourceTree);
+    }
+    if (value.getResources() != null) {
+      generator.writeFieldName("resources");
+      JsonCodecs.writeList(generator, value.getResources(), PageCodecs::writeFrameResource);
+    }
+    generator.writeEndObject();
+  }
+
+  public static FrameTree readFrameTree(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameTree result = new FrameTree();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frame":
+          result.setFrame(readFrame(parser));
+          break;
+        case "childFrames":
+          result.setChildFrames(JsonCodecs.readList(parser, PageCodecs::readFrameTree));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeFrameTree(JsonGenerator generator, FrameTree value) throws IOException {
+    generator.writeStartObject();
+    if (value.getFrame() != null) {
+      generator.writeFieldName("frame");
+      writeFrame(generator, value.getFrame());
+    }
+    if (value.getChildFrames() != null) {
+      generator.writeFieldName("childFrames");
+      JsonCodecs.writeList(generator, value.getChildFrames(), PageCodecs::writeFrameTree);
+    }
+    generator.writeEndObject();
+  }
+
+  public static HandleFileChooserAction readHandleFileChooserAction(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "accept":
+        return HandleFileChooserAction.ACCEPT;
+      case "cancel":
+        return HandleFileChooserAction.CANCEL;
+      case "fallback":
+        return HandleFileChooserAction.FALLBACK;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, HandleFileChooserAction.class, value);
+    }
+  }
+
+  public static void writeHandleFileChooserAction(
+      JsonGenerator generator, HandleFileChooserAction value) throws IOException {
+    generator.writeString(HANDLE_FILE_CHOOSER_ACTION_VALUES[value.ordinal()]);
+  }
+
+  public static LayoutMetrics readLayoutMetrics(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LayoutMetrics result = new LayoutMetrics();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "layoutViewport":
+          result.setLayoutViewport(readLayoutViewport(parser));
+          break;
+        case "visualViewport":
+          result.setVisualViewport(readVisualViewport(parser));
+          break;
+        case "contentSize":
+          result.setContentSize(DOMCodecs.readRect(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeLayoutMetrics(JsonGenerator generator, LayoutMetrics value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getLayoutViewport() != null) {
+      generator.writeFieldName("layoutViewport");
+      writeLayoutViewport(generator, value.getLayoutViewport());
+    }
+    if (value.getVisualViewport() != null) {
+      generator.writeFieldName("visualViewport");
+      writeVisualViewport(generator, value.getVisualViewport());
+    }
+    if (value.getContentSize() != null) {
+      generator.writeFieldName("contentSize");
+      DOMCodecs.writeRect(generator, value.getContentSize());
+    }
+    generator.writeEndObject();
+  }
+
+  public static LayoutViewport readLayoutViewport(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LayoutViewport result = new LayoutViewport();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "pageX":
+          result.setPageX(JsonCodecs.readInteger(parser));
+          break;
+        case "pageY":
+          result.setPageY(JsonCodecs.readInteger(parser));
+          break;
+        case "clientWidth":
+          result.setClientWidth(JsonCodecs.readInteger(parser));
+          break;
+        case "clientHeight":
+          result.setClientHeight(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeLayoutViewport(JsonGenerator generator, LayoutViewport value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getPageX() != null) {
+      generator.writeFieldName("pageX");
+      JsonCodecs.writeInteger(generator, value.getPageX());
+    }
+    if (value.getPageY() != null) {
+      generator.writeFieldName("pageY");
+      JsonCodecs.writeInteger(generator, value.getPageY());
+    }
+    if (value.getClientWidth() != null) {
+      generator.writeFieldName("clientWidth");
+      JsonCodecs.writeInteger(generator, value.getClientWidth());
+    }
+    if (value.getClientHeight() != null) {
+      generator.writeFieldName("clientHeight");
+      JsonCodecs.writeInteger(generator, value.getClientHeight());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Navigate readNavigate(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Navigate result = new Navigate();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "loaderId":
+          result.setLoaderId(JsonCodecs.readString(parser));
+          break;
+        case "errorText":
+          result.setErrorText(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeNavigate(JsonGenerator generator, Navigate value) throws IOException {
+    generator.writeStartObject();
+    if (value.getFrameId() != null) {
+      generator.writeFieldName("frameId");
+      JsonCodecs.writeString(generator, value.getFrameId());
+    }
+    if (value.getLoaderId() != null) {
+      generator.writeFieldName("loaderId");
+      JsonCodecs.writeString(generator, value.getLoaderId());
+    }
+    if (value.getErrorText() != null) {
+      generator.writeFieldName("errorText");
+      JsonCodecs.writeString(generator, value.getErrorText());
+    }
+    generator.writeEndObject();
+  }
+
+  public static NavigationEntry readNavigationEntry(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NavigationEntry result = new NavigationEntry();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readInteger(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "userTypedURL":
+          result.setUserTypedURL(JsonCodecs.readString(parser));
+          break;
+        case "title":
+          result.setTitle(JsonCodecs.readString(parser));
+          break;
+        case "transitionType":
+          result.setTransitionType(readTransitionType(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeNavigationEntry(JsonGenerator generator, NavigationEntry value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeInteger(generator, value.getId());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getUserTypedURL() != null) {
+      generator.writeFieldName("userTypedURL");
+      JsonCodecs.writeString(generator, value.getUserTypedURL());
+    }
+    if (value.getTitle() != null) {
+      generator.writeFieldName("title");
+      JsonCodecs.writeString(generator, value.getTitle());
+    }
+    if (value.getTransitionType() != null) {
+      generator.writeFieldName("transitionType");
+      writeTransitionType(generator, value.getTransitionType());
+    }
+    generator.writeEndObject();
+  }
+
+  public static NavigationHistory readNavigationHistory(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NavigationHistory result = new NavigationHistory();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "currentIndex":
+          result.setCurrentIndex(JsonCodecs.readInteger(parser));
+          break;
+        case "entries":
+          result.setEntries(JsonCodecs.readList(parser, PageCodecs::readNavigationEntry));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeNavigationHistory(JsonGenerator generator, NavigationHistory value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getCurrentIndex() != null) {
+      generator.writeFieldName("currentIndex");
+      JsonCodecs.writeInteger(generator, value.getCurrentIndex());
+    }
+    if (value.getEntries() != null) {
+      generator.writeFieldName("entries");
+      JsonCodecs.writeList(generator, value.getEntries(), PageCodecs::writeNavigationEntry);
+    }
+    generator.writeEndObject();
+  }
+
+  public static PrintToPDF readPrintToPDF(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PrintToPDF result = new PrintToPDF();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "data":
+          result.setData(JsonCodecs.readString(parser));
+          break;
+        case "stream":
+          result.setStream(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePrintToPDF(JsonGenerator generator, PrintToPDF value) throws IOException {
+    generator.writeStartObject();
+    if (value.getData() != null) {
+      generator.writeFieldName("data");
+      JsonCodecs.writeString(generator, value.getData());
+    }
+    if (value.getStream() != null) {
+      generator.writeFieldName("stream");
+      JsonCodecs.writeString(generator, value.getStream());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PrintToPDFTransferMode readPrintToPDFTransferMode(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "ReturnAsBase64":
+        return PrintToPDFTransferMode.RETURN_AS_BASE_64;
+      case "ReturnAsStream":
+        return PrintToPDFTransferMode.RETURN_AS_STREAM;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, PrintToPDFTransferMode.class, value);
+    }
+  }
+
+  public static void writePrintToPDFTransferMode(
+      JsonGenerator generator, PrintToPDFTransferMode value) throws IOException {
+    generator.writeString(PRINT_TO_PDF_TRANSFER_MODE_VALUES[value.ordinal()]);
+  }
+
+  public static ResourceContent readResourceContent(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ResourceContent result = new ResourceContent();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "content":
+          result.setContent(JsonCodecs.readString(parser));
+          break;
+        case "base64Encoded":
+          result.setBase64Encoded(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeResourceContent(JsonGenerator generator, ResourceContent value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getContent() != null) {
+      generator.writeFieldName("content");
+      JsonCodecs.writeString(generator, value.getContent());
+    }
+    if (value.getBase64Encoded() != null) {
+      generator.writeFieldName("base64Encoded");
+      JsonCodecs.writeBoolean(generator, value.getBase64Encoded());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ScreencastFrameMetadata readScreencastFrameMetadata(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScreencastFrameMetadata result = new ScreencastFrameMetadata();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "offsetTop":
+          result.setOffsetTop(JsonCodecs.readDouble(parser));
+          break;
+        case "pageScaleFactor":
+          result.setPageScaleFactor(JsonCodecs.readDouble(parser));
+          break;
+        case "deviceWidth":
+          result.setDeviceWidth(JsonCodecs.readDouble(parser));
+          break;
+        case "deviceHeight":
+          result.setDeviceHeight(JsonCodecs.readDouble(parser));
+          break;
+        case "scrollOffsetX":
+          result.setScrollOffsetX(JsonCodecs.readDouble(parser));
+          break;
+        case "scrollOffsetY":
+          result.setScrollOffsetY(JsonCodecs.readDouble(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeScreencastFrameMetadata(
+      JsonGenerator generator, ScreencastFrameMetadata value) throws IOException {
+    generator.writeStartObject();
+    if (value.getOffsetTop() != null) {
+      generator.writeFieldName("offsetTop");
+      JsonCodecs.writeDouble(generator, value.getOffsetTop());
+    }
+    if (value.getPageScaleFactor() != null) {
+      generator.writeFieldName("pageScaleFactor");
+      JsonCodecs.writeDouble(generator, value.getPageScaleFactor());
+    }
+    if (value.getDeviceWidth() != null) {
+      generator.writeFieldName("deviceWidth");
+      JsonCodecs.writeDouble(generator, value.getDeviceWidth());
+    }
+    if (value.getDeviceHeight() != null) {
+      generator.writeFieldName("deviceHeight");
+      JsonCodecs.writeDouble(generator, value.getDeviceHeight());
+    }
+    if (value.getScrollOffsetX() != null) {
+      generator.writeFieldName("scrollOffsetX");
+      JsonCodecs.writeDouble(generator, value.getScrollOffsetX());
+    }
+    if (value.getScrollOffsetY() != null) {
+      generator.writeFieldName("scrollOffsetY");
+      JsonCodecs.writeDouble(generator, value.getScrollOffsetY());
+    }
+    if (value.getTimestamp() != null) {
+      generator.writeFieldName("timestamp");
+      JsonCodecs.writeDouble(generator, value.getTimestamp());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SetDownloadBehaviorBehavior readSetDownloadBehaviorBehavior(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "deny":
+        return SetDownloadBehaviorBehavior.DENY;
+      case "allow":
+        return SetDownloadBehaviorBehavior.ALLOW;
+      case "default":
+        return SetDownloadBehaviorBehavior.DEFAULT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, SetDownloadBehaviorBehavior.class, value);
+    }
+  }
+
+  public static void writeSetDownloadBehaviorBehavior(
+      JsonGenerator generator, SetDownloadBehaviorBehavior value) throws IOException {
+    generator.writeString(SET_DOWNLOAD_BEHAVIOR_BEHAVIOR_VALUES[value.ordinal()]);
+  }
+
+  public static SetWebLifecycleStateState readSetWebLifecycleStateState(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "frozen":
+        return SetWebLifecycleStateState.FROZEN;
+      case "active":
+        return SetWebLifecycleStateState.ACTIVE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, SetWebLifecycleStateState.class, value);
+    }
+  }
+
+  public static void writeSetWebLifecycleStateState(
+      JsonGenerator generator, SetWebLifecycleStateState value) throws IOException {
+    generator.writeString(SET_WEB_LIFECYCLE_STATE_STATE_VALUES[value.ordinal()]);
+  }
+
+  public static StartScreencastFormat readStartScreencastFormat(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "jpeg":
+        return StartScreencastFormat.JPEG;
+      case "png":
+        return StartScreencastFormat.PNG;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, StartScreencastFormat.class, value);
+    }
+  }
+
+  public static void writeStartScreencastFormat(
+      JsonGenerator generator, StartScreencastFormat value) throws IOException {
+    generator.writeString(START_SCREENCAST_FORMAT_VALUES[value.ordinal()]);
+  }
+
+  public static TransitionType readTransitionType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "link":
+        return TransitionType.LINK;
+      case "typed":
+        return TransitionType.TYPED;
+      case "address_bar":
+        return TransitionType.ADDRESS_BAR;
+      case "auto_bookmark":
+        return TransitionType.AUTO_BOOKMARK;
+      case "auto_subframe":
+        return TransitionType.AUTO_SUBFRAME;
+      case "manual_subframe":
+        return TransitionType.MANUAL_SUBFRAME;
+      case "generated":
+        return TransitionType.GENERATED;
+      case "auto_toplevel":
+        return TransitionType.AUTO_TOPLEVEL;
+      case "form_submit":
+        return TransitionType.FORM_SUBMIT;
+      case "reload":
+        return TransitionType.RELOAD;
+      case "keyword":
+        return TransitionType.KEYWORD;
+      case "keyword_generated":
+        return TransitionType.KEYWORD_GENERATED;
+      case "other":
+        return TransitionType.OTHER;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, TransitionType.class, value);
+    }
+  }
+
+  public static void writeTransitionType(JsonGenerator generator, TransitionType value)
+      throws IOException {
+    generator.writeString(TRANSITION_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static Viewport readViewport(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Viewport result = new Viewport();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "x":
+          result.setX(JsonCodecs.readDouble(parser));
+          break;
+        case "y":
+          result.setY(JsonCodecs.readDouble(parser));
+          break;
+        case "width":
+          result.setWidth(JsonCodecs.readDouble(parser));
+          break;
+        case "height":
+          result.setHeight(JsonCodecs.readDouble(parser));
+          break;
+        case "scale":
+          result.setScale(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeViewport(JsonGenerator generator, Viewport value) throws IOException {
+    generator.writeStartObject();
+    if (value.getX() != null) {
+      generator.writeFieldName("x");
+      JsonCodecs.writeDouble(generator, value.getX());
+    }
+    if (value.getY() != null) {
+      generator.writeFieldName("y");
+      JsonCodecs.writeDouble(generator, value.getY());
+    }
+    if (value.getWidth() != null) {
+      generator.writeFieldName("width");
+      JsonCodecs.writeDouble(generator, value.getWidth());
+    }
+    if (value.getHeight() != null) {
+      generator.writeFieldName("height");
+      JsonCodecs.writeDouble(generator, value.getHeight());
+    }
+    if (value.getScale() != null) {
+      generator.writeFieldName("scale");
+      JsonCodecs.writeDouble(generator, value.getScale());
+    }
+    generator.writeEndObject();
+  }
+
+  public static VisualViewport readVisualViewport(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    VisualViewport result = new VisualViewport();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "offsetX":
+          result.setOffsetX(JsonCodecs.readDouble(parser));
+          break;
+        case "offsetY":
+          result.setOffsetY(JsonCodecs.readDouble(parser));
+          break;
+        case "pageX":
+          result.setPageX(JsonCodecs.readDouble(parser));
+          break;
+        case "pageY":
+          result.setPageY(JsonCodecs.readDouble(parser));
+          break;
+        case "clientWidth":
+          result.setClientWidth(JsonCodecs.readDouble(parser));
+          break;
+        case "clientHeight":
+          result.setClientHeight(JsonCodecs.readDouble(parser));
+          break;
+        case "scale":
+          result.setScale(JsonCodecs.readDouble(parser));
+          break;
+        case "zoom":
+          result.setZoom(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeVisualViewport(JsonGenerator generator, VisualViewport value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getOffsetX() != null) {
+      generator.writeFieldName("offsetX");
+      JsonCodecs.writeDouble(generator, value.getOffsetX());
+    }
+    if (value.getOffsetY() != null) {
+      generator.writeFieldName("offsetY");
+      JsonCodecs.writeDouble(generator, value.getOffsetY());
+    }
+    if (value.getPageX() != null) {
+      generator.writeFieldName("pageX");
+      JsonCodecs.writeDouble(generator, value.getPageX());
+    }
+    if (value.getPageY() != null) {
+      generator.writeFieldName("pageY");
+      JsonCodecs.writeDouble(generator, value.getPageY());
+    }
+    if (value.getClientWidth() != null) {
+      generator.writeFieldName("clientWidth");
+      JsonCodecs.writeDouble(generator, value.getClientWidth());
+    }
+    if (value.getClientHeight() != null) {
+      generator.writeFieldName("clientHeight");
+      JsonCodecs.writeDouble(generator, value.getClientHeight());
+    }
+    if (value.getScale() != null) {
+      generator.writeFieldName("scale");
+      JsonCodecs.writeDouble(generator, value.getScale());
+    }
+    if (value.getZoom() != null) {
+      generator.writeFieldName("zoom");
+      JsonCodecs.writeDouble(generator, value.getZoom());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CompilationCacheProduced readCompilationCacheProduced(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CompilationCacheProduced result = new CompilationCacheProduced();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "data":
+          result.setData(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static DomContentEventFired readDomContentEventFired(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DomContentEventFired result = new DomContentEventFired();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static DownloadWillBegin readDownloadWillBegin(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DownloadWillBegin result = new DownloadWillBegin();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static FileChooserOpened readFileChooserOpened(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FileChooserOpened result = new FileChooserOpened();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "mode":
+          result.setMode(readFileChooserOpenedMode(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static FileChooserOpenedMode readFileChooserOpenedMode(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "selectSingle":
+        return FileChooserOpenedMode.SELECT_SINGLE;
+      case "selectMultiple":
+        return FileChooserOpenedMode.SELECT_MULTIPLE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, FileChooserOpenedMode.class, value);
+    }
+  }
+
+  public static FrameAttached readFrameAttached(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameAttached result = new FrameAttached();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "parentFrameId":
+          result.setParentFrameId(JsonCodecs.readString(parser));
+          break;
+        case "stack":
+          result.setStack(RuntimeCodecs.readStackTrace(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static FrameClearedScheduledNavigation readFrameClearedScheduledNavigation(
+      JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameClearedScheduledNavigation result = new FrameClearedScheduledNavigation();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static FrameDetached readFrameDetached(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameDetached result = new FrameDetached();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static FrameNavigated readFrameNavigated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameNavigated result = new FrameNavigated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frame":
+          result.setFrame(readFrame(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static FrameRequestedNavigation readFrameRequestedNavigation(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameRequestedNavigation result = new FrameRequestedNavigation();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "reason":
+          result.setReason(readClientNavigationReason(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static FrameResized readFrameResized(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameResized result = new FrameResized();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return result;
+  }
+
+  public static FrameScheduledNavigation readFrameScheduledNavigation(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameScheduledNavigation result = new FrameScheduledNavigation();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "delay":
+          result.setDelay(JsonCodecs.readDouble(parser));
+          break;
+        case "reason":
+          result.setReason(readFrameScheduledNavigationReason(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static FrameScheduledNavigationReason readFrameScheduledNavigationReason(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "formSubmissionGet":
+        return FrameScheduledNavigationReason.FORM_SUBMISSION_GET;
+      case "formSubmissionPost":
+        return FrameScheduledNavigationReason.FORM_SUBMISSION_POST;
+      case "httpHeaderRefresh":
+        return FrameScheduledNavigationReason.HTTP_HEADER_REFRESH;
+      case "scriptInitiated":
+        return FrameScheduledNavigationReason.SCRIPT_INITIATED;
+      case "metaTagRefresh":
+        return FrameScheduledNavigationReason.META_TAG_REFRESH;
+      case "pageBlockInterstitial":
+        return FrameScheduledNavigationReason.PAGE_BLOCK_INTERSTITIAL;
+      case "reload":
+        return FrameScheduledNavigationReason.RELOAD;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, FrameScheduledNavigationReason.class, value);
+    }
+  }
+
+  public static FrameStartedLoading readFrameStartedLoading(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameStartedLoading result = new FrameStartedLoading();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static FrameStoppedLoading readFrameStoppedLoading(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FrameStoppedLoading result = new FrameStoppedLoading();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static InterstitialHidden readInterstitialHidden(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InterstitialHidden result = new InterstitialHidden();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return result;
+  }
+
+  public static InterstitialShown readInterstitialShown(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InterstitialShown result = new InterstitialShown();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return result;
+  }
+
+  public static JavascriptDialogClosed readJavascriptDialogClosed(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    JavascriptDialogClosed result = new JavascriptDialogClosed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "result":
+          result.setResult(JsonCodecs.readBoolean(parser));
+          break;
+        case "userInput":
+          result.setUserInput(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static JavascriptDialogOpening readJavascriptDialogOpening(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    JavascriptDialogOpening result = new JavascriptDialogOpening();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "message":
+          result.setMessage(JsonCodecs.readString(parser));
+          break;
+        case "type":
+          result.setType(readDialogType(parser));
+          break;
+        case "hasBrowserHandler":
+          result.setHasBrowserHandler(JsonCodecs.readBoolean(parser));
+          break;
+        case "defaultPrompt":
+          result.setDefaultPrompt(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static LifecycleEvent readLifecycleEvent(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LifecycleEvent result = new LifecycleEvent();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "loaderId":
+          result.setLoaderId(JsonCodecs.readString(parser));
+          break;
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static LoadEventFired readLoadEventFired(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    LoadEventFired result = new LoadEventFired();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static NavigatedWithinDocument readNavigatedWithinDocument(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NavigatedWithinDocument result = new NavigatedWithinDocument();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "frameId":
+          result.setFrameId(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ScreencastFrame readScreencastFrame(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScreencastFrame result = new ScreencastFrame();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "data":
+          result.setData(JsonCodecs.readString(parser));
+          break;
+        case "metadata":
+          result.setMetadata(readScreencastFrameMetadata(parser));
+          break;
+        case "sessionId":
+          result.setSessionId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ScreencastVisibilityChanged readScreencastVisibilityChanged(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScreencastVisibilityChanged result = new ScreencastVisibilityChanged();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "visible":
+          result.setVisible(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static WindowOpen readWindowOpen(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WindowOpen result = new WindowOpen();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "windowName":
+          result.setWindowName(JsonCodecs.readString(parser));
+          break;
+        case "windowFeatures":
+          result.setWindowFeatures(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "userGesture":
+          result.setUserGesture(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,133 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.performance.Metrics;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.performance.Metric;
+import com.github.kklisura.cdt.protocol.types.performance.SetTimeDomainTimeDomain;
+import java.io.IOException;
+
+/** Performance domain type and event codecs. */
+public final class PerformanceCodecs {
+
+  private static final String[] SET_TIME_DOMAIN_TIME_DOMAIN_VALUES = {"timeTicks", "threadTicks"};
+
+  private PerformanceCodecs() {}
+
+  /**
+   * Registers Performance codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(Metric.class, PerformanceCodecs::readMetric, PerformanceCodecs::writeMetric);
+    module.addCodec(
+        SetTimeDomainTimeDomain.class,
+        PerformanceCodecs::readSetTimeDomainTimeDomain,
+        PerformanceCodecs::writeSetTimeDomainTimeDomain);
+    module.addReader(Metrics.class, PerformanceCodecs::readMetrics);
+  }
+
+  public static Metric readMetric(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Metric result = new Metric();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeMetric(JsonGenerator generator, Metric value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeDouble(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SetTimeDomainTimeDomain readSetTimeDomainTimeDomain(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "timeTicks":
+        return SetTimeDomainTimeDomain.TIME_TICKS;
+      case "threadTicks":
+        return SetTimeDomainTimeDomain.THREAD_TICKS;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, SetTimeDomainTimeDomain.class, value);
+    }
+  }
+
+  public static void writeSetTimeDomainTimeDomain(
+      JsonGenerator generator, SetTimeDomainTimeDomain value) throws IOException {
+    generator.writeString(SET_TIME_DOMAIN_TIME_DOMAIN_VALUES[value.ordinal()]);
+  }
+
+  public static Metrics readMetrics(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Metrics result = new Metrics();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "metrics":
+          result.setMetrics(JsonCodecs.readList(parser, PerformanceCodecs::readMetric));
+          break;
+        case "title":
+          result.setTitle(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,542 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.profiler.ConsoleProfileFinished;
+import com.github.kklisura.cdt.protocol.events.profiler.ConsoleProfileStarted;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.profiler.CoverageRange;
+import com.github.kklisura.cdt.protocol.types.profiler.FunctionCoverage;
+import com.github.kklisura.cdt.protocol.types.profiler.PositionTickInfo;
+import com.github.kklisura.cdt.protocol.types.profiler.Profile;
+import com.github.kklisura.cdt.protocol.types.profiler.ProfileNode;
+import com.github.kklisura.cdt.protocol.types.profiler.ScriptCoverage;
+import com.github.kklisura.cdt.protocol.types.profiler.ScriptTypeProfile;
+import com.github.kklisura.cdt.protocol.types.profiler.TypeObject;
+import com.github.kklisura.cdt.protocol.types.profiler.TypeProfileEntry;
+import java.io.IOException;
+
+/** Profiler domain type and event codecs. */
+public final class ProfilerCodecs {
+
+  private ProfilerCodecs() {}
+
+  /**
+   * Registers Profiler codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        CoverageRange.class, ProfilerCodecs::readCoverageRange, ProfilerCodecs::writeCoverageRange);
+    module.addCodec(
+        FunctionCoverage.class,
+        ProfilerCodecs::readFunctionCoverage,
+        ProfilerCodecs::writeFunctionCoverage);
+    module.addCodec(
+        PositionTickInfo.class,
+        ProfilerCodecs::readPositionTickInfo,
+        ProfilerCodecs::writePositionTickInfo);
+    module.addCodec(Profile.class, ProfilerCodecs::readProfile, ProfilerCodecs::writeProfile);
+    module.addCodec(
+        ProfileNode.class, ProfilerCodecs::readProfileNode, ProfilerCodecs::writeProfileNode);
+    module.addCodec(
+        ScriptCoverage.class,
+        ProfilerCodecs::readScriptCoverage,
+        ProfilerCodecs::writeScriptCoverage);
+    module.addCodec(
+        ScriptTypeProfile.class,
+        ProfilerCodecs::readScriptTypeProfile,
+        ProfilerCodecs::writeScriptTypeProfile);
+    module.addCodec(
+        TypeObject.class, ProfilerCodecs::readTypeObject, ProfilerCodecs::writeTypeObject);
+    module.addCodec(
+        TypeProfileEntry.class,
+        ProfilerCodecs::readTypeProfileEntry,
+        ProfilerCodecs::writeTypeProfileEntry);
+    module.addReader(ConsoleProfileFinished.class, ProfilerCodecs::readConsoleProfileFinished);
+    module.addReader(ConsoleProfileStarted.class, ProfilerCodecs::readConsoleProfileStarted);
+  }
+
+  public static CoverageRange readCoverageRange(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CoverageRange result = new CoverageRange();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "startOffset":
+          result.setStartOffset(JsonCodecs.readInteger(parser));
+          break;
+        case "endOffset":
+          result.setEndOffset(JsonCodecs.readInteger(parser));
+          break;
+        case "count":
+          result.setCount(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCoverageRange(JsonGenerator generator, CoverageRange value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getStartOffset() != null) {
+      generator.writeFieldName("startOffset");
+      JsonCodecs.writeInteger(generator, value.getStartOffset());
+    }
+    if (value.getEndOffset() != null) {
+      generator.writeFieldName("endOffset");
+      JsonCodecs.writeInteger(generator, value.getEndOffset());
+    }
+    if (value.getCount() != null) {
+      generator.writeFieldName("count");
+      JsonCodecs.writeInteger(generator, value.getCount());
+    }
+    generator.writeEndObject();
+  }
+
+  public static FunctionCoverage readFunctionCoverage(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    FunctionCoverage result = new FunctionCoverage();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "functionName":
+          result.setFunctionName(JsonCodecs.readString(parser));
+          break;
+        case "ranges":
+          result.setRanges(JsonCodecs.readList(parser, ProfilerCodecs::readCoverageRange));
+          break;
+        case "isBlockCoverage":
+          result.setIsBlockCoverage(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeFunctionCoverage(JsonGenerator generator, FunctionCoverage value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getFunctionName() != null) {
+      generator.writeFieldName("functionName");
+      JsonCodecs.writeString(generator, value.getFunctionName());
+    }
+    if (value.getRanges() != null) {
+      generator.writeFieldName("ranges");
+      JsonCodecs.writeList(generator, value.getRanges(), ProfilerCodecs::writeCoverageRange);
+    }
+    if (value.getIsBlockCoverage() != null) {
+      generator.writeFieldName("isBlockCoverage");
+      JsonCodecs.writeBoolean(generator, value.getIsBlockCoverage());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PositionTickInfo readPositionTickInfo(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PositionTickInfo result = new PositionTickInfo();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "line":
+          result.setLine(JsonCodecs.readInteger(parser));
+          break;
+        case "ticks":
+          result.setTicks(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePositionTickInfo(JsonGenerator generator, PositionTickInfo value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getLine() != null) {
+      generator.writeFieldName("line");
+      JsonCodecs.writeInteger(generator, value.getLine());
+    }
+    if (value.getTicks() != null) {
+      generator.writeFieldName("ticks");
+      JsonCodecs.writeInteger(generator, value.getTicks());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Profile readProfile(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Profile result = new Profile();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodes":
+          result.setNodes(JsonCodecs.readList(parser, ProfilerCodecs::readProfileNode));
+          break;
+        case "startTime":
+          result.setStartTime(JsonCodecs.readDouble(parser));
+          break;
+        case "endTime":
+          result.setEndTime(JsonCodecs.readDouble(parser));
+          break;
+        case "samples":
+          result.setSamples(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "timeDeltas":
+          result.setTimeDeltas(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeProfile(JsonGenerator generator, Profile value) throws IOException {
+    generator.writeStartObject();
+    if (value.getNodes() != null) {
+      generator.writeFieldName("nodes");
+      JsonCodecs.writeList(generator, value.getNodes(), ProfilerCodecs::writeProfileNode);
+    }
+    if (value.getStartTime() != null) {
+      generator.writeFieldName("startTime");
+      JsonCodecs.writeDouble(generator, value.getStartTime());
+    }
+    if (value.getEndTime() != null) {
+      generator.writeFieldName("endTime");
+      JsonCodecs.writeDouble(generator, value.getEndTime());
+    }
+    if (value.getSamples() != null) {
+      generator.writeFieldName("samples");
+      JsonCodecs.writeList(generator, value.getSamples(), JsonCodecs::writeInteger);
+    }
+    if (value.getTimeDeltas() != null) {
+      generator.writeFieldName("timeDeltas");
+      JsonCodecs.writeList(generator, value.getTimeDeltas(), JsonCodecs::writeInteger);
+    }
+    generator.writeEndObject();
+  }
+
+  public static ProfileNode readProfileNode(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ProfileNode result = new ProfileNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readInteger(parser));
+          break;
+        case "callFrame":
+          result.setCallFrame(RuntimeCodecs.readCallFrame(parser));
+          break;
+        case "hitCount":
+          result.setHitCount(JsonCodecs.readInteger(parser));
+          break;
+        case "children":
+          result.setChildren(JsonCodecs.readList(parser, JsonCodecs::readInteger));
+          break;
+        case "deoptReason":
+          result.setDeoptReason(JsonCodecs.readString(parser));
+          break;
+        case "positionTicks":
+          result.setPositionTicks(
+              JsonCodecs.readList(parser, ProfilerCodecs::readPositionTickInfo));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeProfileNode(JsonGenerator generator, ProfileNode value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeInteger(generator, value.getId());
+    }
+    if (value.getCallFrame() != null) {
+      generator.writeFieldName("callFrame");
+      RuntimeCodecs.writeCallFrame(generator, value.getCallFrame());
+    }
+    if (value.getHitCount() != null) {
+      generator.writeFieldName("hitCount");
+      JsonCodecs.writeInteger(generator, value.getHitCount());
+    }
+    if (value.getChildren() != null) {
+      generator.writeFieldName("children");
+      JsonCodecs.writeList(generator, value.getChildren(), JsonCodecs::writeInteger);
+    }
+    if (value.getDeoptReason() != null) {
+      generator.writeFieldName("deoptReason");
+      JsonCodecs.writeString(generator, value.getDeoptReason());
+    }
+    if (value.getPositionTicks() != null) {
+      generator.writeFieldName("positionTicks");
+      JsonCodecs.writeList(
+          generator, value.getPositionTicks(), ProfilerCodecs::writePositionTickInfo);
+    }
+    generator.writeEndObject();
+  }
+
+  public static ScriptCoverage readScriptCoverage(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScriptCoverage result = new ScriptCoverage();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "scriptId":
+          result.setScriptId(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "functions":
+          result.setFunctions(JsonCodecs.readList(parser, ProfilerCodecs::readFunctionCoverage));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeScriptCoverage(JsonGenerator generator, ScriptCoverage value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getScriptId() != null) {
+      generator.writeFieldName("scriptId");
+      JsonCodecs.writeString(generator, value.getScriptId());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getFunctions() != null) {
+      generator.writeFieldName("functions");
+      JsonCodecs.writeList(generator, value.getFunctions(), ProfilerCodecs::writeFunctionCoverage);
+    }
+    generator.writeEndObject();
+  }
+
+  public static ScriptTypeProfile readScriptTypeProfile(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ScriptTypeProfile result = new ScriptTypeProfile();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "scriptId":
+          result.setScriptId(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "entries":
+          result.setEntries(JsonCodecs.readList(parser, ProfilerCodecs::readTypeProfileEntry));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeScriptTypeProfile(JsonGenerator generator, ScriptTypeProfile value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getScriptId() != null) {
+      generator.writeFieldName("scriptId");
+      JsonCodecs.writeString(generator, value.getScriptId());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getEntries() != null) {
+      generator.writeFieldName("entries");
+      JsonCodecs.writeList(generator, value.getEntries(), ProfilerCodecs::writeTypeProfileEntry);
+    }
+    generator.writeEndObject();
+  }
+
+  public static TypeObject readTypeObject(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TypeObject result = new TypeObject();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeTypeObject(JsonGenerator generator, TypeObject value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    generator.writeEndObject();
+  }
+
+  public static TypeProfileEntry readTypeProfileEntry(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TypeProfileEntry result = new TypeProfileEntry();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "offset":
+          result.setOffset(JsonCodecs.readInteger(parser));
+          break;
+        case "types":
+          result.setTypes(JsonCodecs.readList(parser, ProfilerCodecs::readTypeObject));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeTypeProfileEntry(JsonGenerator generator, TypeProfileEntry value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getOffset() != null) {
+      generator.writeFieldName("offset");
+      JsonCodecs.writeInteger(generator, value.getOffset());
+    }
+    if (value.getTypes() != null) {
+      generator.writeFieldName("types");
+      JsonCodecs.writeList(generator, value.getTypes(), ProfilerCodecs::writeTypeObject);
+    }
+    generator.writeEndObject();
+  }
+
+  public static ConsoleProfileFinished readConsoleProfileFinished(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ConsoleProfileFinished result = new ConsoleProfileFinished();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readString(parser));
+          break;
+        case "location":
+          result.setLocation(DebuggerCodecs.readLocation(parser));
+          break;
+        case "profile":
+          result.setProfile(readProfile(parser));
+          break;
+        case "title":
+          result.setTitle(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ConsoleProfileStarted readConsoleProfileStarted(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ConsoleProfileStarted result = new ConsoleProfileStarted();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readString(parser));
+          break;
+        case "location":
+          result.setLocation(DebuggerCodecs.readLocation(parser));
+          break;
+        case "title":
+          result.setTitle(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,86 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+
+/**
+ * Protocol codecs. Creates a codec module binding all protocol types and events to their streaming
+ * codecs.
+ */
+public final class ProtocolCodecs {
+
+  private ProtocolCodecs() {}
+
+  /**
+   * Creates a codec module with codecs of all protocol types and events.
+   *
+   * @return Codec module.
+   */
+  public static CodecModule createModule() {
+    CodecModule module = new CodecModule();
+    ConsoleCodecs.register(module);
+    DebuggerCodecs.register(module);
+    HeapProfilerCodecs.register(module);
+    ProfilerCodecs.register(module);
+    RuntimeCodecs.register(module);
+    SchemaCodecs.register(module);
+    AccessibilityCodecs.register(module);
+    AnimationCodecs.register(module);
+    ApplicationCacheCodecs.register(module);
+    AuditsCodecs.register(module);
+    BackgroundServiceCodecs.register(module);
+    BrowserCodecs.register(module);
+    CSSCodecs.register(module);
+    CacheStorageCodecs.register(module);
+    CastCodecs.register(module);
+    DOMCodecs.register(module);
+    DOMDebuggerCodecs.register(module);
+    DOMSnapshotCodecs.register(module);
+    DOMStorageCodecs.register(module);
+    DatabaseCodecs.register(module);
+    EmulationCodecs.register(module);
+    HeadlessExperimentalCodecs.register(module);
+    IOCodecs.register(module);
+    IndexedDBCodecs.register(module);
+    InputCodecs.register(module);
+    InspectorCodecs.register(module);
+    LayerTreeCodecs.register(module);
+    LogCodecs.register(module);
+    MemoryCodecs.register(module);
+    NetworkCodecs.register(module);
+    OverlayCodecs.register(module);
+    PageCodecs.register(module);
+    PerformanceCodecs.register(module);
+    SecurityCodecs.register(module);
+    ServiceWorkerCodecs.register(module);
+    StorageCodecs.register(module);
+    SystemInfoCodecs.register(module);
+    TargetCodecs.register(module);
+    TetheringCodecs.register(module);
+    TracingCodecs.register(module);
+    FetchCodecs.register(module);
+    WebAudioCodecs.register(module);
+    WebAuthnCodecs.register(module);
+    MediaCodecs.register(module);
+    return module;
+  }
+}
@@ -0,0 +1,1741 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.runtime.BindingCalled;
+import com.github.kklisura.cdt.protocol.events.runtime.ConsoleAPICalled;
+import com.github.kklisura.cdt.protocol.events.runtime.ConsoleAPICalledType;
+import com.github.kklisura.cdt.protocol.events.runtime.ExceptionRevoked;
+import com.github.kklisura.cdt.protocol.events.runtime.ExceptionThrown;
+import com.github.kklisura.cdt.protocol.events.runtime.ExecutionContextCreated;
+import com.github.kklisura.cdt.protocol.events.runtime.ExecutionContextDestroyed;
+import com.github.kklisura.cdt.protocol.events.runtime.ExecutionContextsCleared;
+import com.github.kklisura.cdt.protocol.events.runtime.InspectRequested;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.runtime.AwaitPromise;
+import com.github.kklisura.cdt.protocol.types.runtime.CallArgument;
+import com.github.kklisura.cdt.protocol.types.runtime.CallFrame;
+import com.github.kklisura.cdt.protocol.types.runtime.CallFunctionOn;
+import com.github.kklisura.cdt.protocol.types.runtime.CompileScript;
+import com.github.kklisura.cdt.protocol.types.runtime.CustomPreview;
+import com.github.kklisura.cdt.protocol.types.runtime.EntryPreview;
+import com.github.kklisura.cdt.protocol.types.runtime.Evaluate;
+import com.github.kklisura.cdt.protocol.types.runtime.ExceptionDetails;
+import com.github.kklisura.cdt.protocol.types.runtime.ExecutionContextDescription;
+import com.github.kklisura.cdt.protocol.types.runtime.HeapUsage;
+import com.github.kklisura.cdt.protocol.types.runtime.InternalPropertyDescriptor;
+import com.github.kklisura.cdt.protocol.types.runtime.ObjectPreview;
+import com.github.kklisura.cdt.protocol.types.runtime.ObjectPreviewSubtype;
+import com.github.kklisura.cdt.protocol.types.runtime.ObjectPreviewType;
+import com.github.kklisura.cdt.protocol.types.runtime.PrivatePropertyDescriptor;
+import com.github.kklisura.cdt.protocol.types.runtime.Properties;
+import com.github.kklisura.cdt.protocol.types.runtime.PropertyDescriptor;
+import com.github.kklisura.cdt.protocol.types.runtime.PropertyPreview;
+import com.github.kklisura.cdt.protocol.types.runtime.PropertyPreviewSubtype;
+import com.github.kklisura.cdt.protocol.types.runtime.PropertyPreviewType;
+import com.github.kklisura.cdt.protocol.types.runtime.RemoteObject;
+import com.github.kklisura.cdt.protocol.types.runtime.RemoteObjectSubtype;
+import com.github.kklisura.cdt.protocol.types.runtime.RemoteObjectType;
+import com.github.kklisura.cdt.protocol.types.runtime.RunScript;
+import com.github.kklisura.cdt.protocol.types.runtime.StackTrace;
+import com.github.kklisura.cdt.protocol.types.runtime.StackTraceId;
+import java.io.IOException;
+
+/** Runtime domain type and event codecs. */
+public final class RuntimeCodecs {
+
+  private static final String[] OBJECT_PREVIEW_SUBTYPE_VALUES = {
+    "array",
+    "null",
+    "node",
+    "regexp",
+    "date",
+    "map",
+    "set",
+    "weakmap",
+    "weakset",
+    "iterator",
+    "generator",
+    "error"
+  };
+
+  private static final String[] OBJECT_PREVIEW_TYPE_VALUES = {
+    "object", "function", "undefined", "string", "number", "boolean", "symbol", "bigint"
+  };
+
+  private static final String[] PROPERTY_PREVIEW_SUBTYPE_VALUES = {
+    "array",
+    "null",
+    "node",
+    "regexp",
+    "date",
+    "map",
+    "set",
+    "weakmap",
+    "weakset",
+    "iterator",
+    "generator",
+    "error"
+  };
+
+  private static final String[] PROPERTY_PREVIEW_TYPE_VALUES = {
+    "object", "function", "undefined", "string", "number", "boolean", "symbol", "accessor", "bigint"
+  };
+
+  private static final String[] REMOTE_OBJECT_SUBTYPE_VALUES = {
+    "array",
+    "null",
+    "node",
+    "regexp",
+    "date",
+    "map",
+    "set",
+    "weakmap",
+    "weakset",
+    "iterator",
+    "generator",
+    "error",
+    "proxy",
+    "promise",
+    "typedarray",
+    "arraybuffer",
+    "dataview"
+  };
+
+  private static final String[] REMOTE_OBJECT_TYPE_VALUES = {
+    "object", "function", "undefined", "string", "number", "boolean", "symbol", "bigint"
+  };
+
+  private RuntimeCodecs() {}
+
+  /**
+   * Registers Runtime codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        AwaitPromise.class, RuntimeCodecs::readAwaitPromise, RuntimeCodecs::writeAwaitPromise);
+    module.addCodec(
+        CallArgument.class, RuntimeCodecs::readCallArgument, RuntimeCodecs::writeCallArgument);
+    module.addCodec(CallFrame.class, RuntimeCodecs::readCallFrame, RuntimeCodecs::writeCallFrame);
+    module.addCodec(
+        CallFunctionOn.class,
+        RuntimeCodecs::readCallFunctionOn,
+        RuntimeCodecs::writeCallFunctionOn);
+    module.addCodec(
+        CompileScript.class, RuntimeCodecs::readCompileScript, RuntimeCodecs::writeCompileScript);
+    module.addCodec(
+        CustomPreview.class, RuntimeCodecs::readCustomPreview, RuntimeCodecs::writeCustomPreview);
+    module.addCodec(
+        EntryPreview.class, RuntimeCodecs::readEntryPreview, RuntimeCodecs::writeEntryPreview);
+    module.addCodec(Evaluate.class, RuntimeCodecs::readEvaluate, RuntimeCodecs::writeEvaluate);
+    module.addCodec(
+        ExceptionDetails.class,
+        RuntimeCodecs::readExceptionDetails,
+        RuntimeCodecs::writeExceptionDetails);
+    module.addCodec(
+        ExecutionContextDescription.class,
+        RuntimeCodecs::readExecutionContextDescription,
+        RuntimeCodecs::writeExecutionContextDescription);
+    module.addCodec(HeapUsage.class, RuntimeCodecs::readHeapUsage, RuntimeCodecs::writeHeapUsage);
+    module.addCodec(
+        InternalPropertyDescriptor.class,
+        RuntimeCodecs::readInternalPropertyDescriptor,
+        RuntimeCodecs::writeInternalPropertyDescriptor);
+    module.addCodec(
+        ObjectPreview.class, RuntimeCodecs::readObjectPreview, RuntimeCodecs::writeObjectPreview);
+    module.addCodec(
+        ObjectPreviewSubtype.class,
+        RuntimeCodecs::readObjectPreviewSubtype,
+        RuntimeCodecs::writeObjectPreviewSubtype);
+    module.addCodec(
+        ObjectPreviewType.class,
+        RuntimeCodecs::readObjectPreviewType,
+        RuntimeCodecs::writeObjectPreviewType);
+    module.addCodec(
+        PrivatePropertyDescriptor.class,
+        RuntimeCodecs::readPrivatePropertyDescriptor,
+        RuntimeCodecs::writePrivatePropertyDescriptor);
+    module.addCodec(
+        Properties.class, RuntimeCodecs::readProperties, RuntimeCodecs::writeProperties);
+    module.addCodec(
+        PropertyDescriptor.class,
+        RuntimeCodecs::readPropertyDescriptor,
+        RuntimeCodecs::writePropertyDescriptor);
+    module.addCodec(
+        PropertyPreview.class,
+        RuntimeCodecs::readPropertyPreview,
+        RuntimeCodecs::writePropertyPreview);
+    module.addCodec(
+        PropertyPreviewSubtype.class,
+        RuntimeCodecs::readPropertyPreviewSubtype,
+        RuntimeCodecs::writePropertyPreviewSubtype);
+    module.addCodec(
+        PropertyPreviewType.class,
+        RuntimeCodecs::readPropertyPreviewType,
+        RuntimeCodecs::writePropertyPreviewType);
+    module.addCodec(
+        RemoteObject.class, RuntimeCodecs::readRemoteObject, RuntimeCodecs::writeRemoteObject);
+    module.addCodec(
+        RemoteObjectSubtype.class,
+        RuntimeCodecs::readRemoteObjectSubtype,
+        RuntimeCodecs::writeRemoteObjectSubtype);
+    module.addCodec(
+        RemoteObjectType.class,
+        RuntimeCodecs::readRemoteObjectType,
+        RuntimeCodecs::writeRemoteObjectType);
+    module.addCodec(RunScript.class, RuntimeCodecs::readRunScript, RuntimeCodecs::writeRunScript);
+    module.addCodec(
+        StackTrace.class, RuntimeCodecs::readStackTrace, RuntimeCodecs::writeStackTrace);
+    module.addCodec(
+        StackTraceId.class, RuntimeCodecs::readStackTraceId, RuntimeCodecs::writeStackTraceId);
+    module.addReader(BindingCalled.class, RuntimeCodecs::readBindingCalled);
+    module.addReader(ConsoleAPICalled.class, RuntimeCodecs::readConsoleAPICalled);
+    module.addReader(ConsoleAPICalledType.class, RuntimeCodecs::readConsoleAPICalledType);
+    module.addReader(ExceptionRevoked.class, RuntimeCodecs::readExceptionRevoked);
+    module.addReader(ExceptionThrown.class, RuntimeCodecs::readExceptionThrown);
+    module.addReader(ExecutionContextCreated.class, RuntimeCodecs::readExecutionContextCreated);
+    module.addReader(ExecutionContextDestroyed.class, RuntimeCodecs::readExecutionContextDestroyed);
+    module.addReader(ExecutionContextsCleared.class, RuntimeCodecs::readExecutionContextsCleared);
+    module.addReader(InspectRequested.class, RuntimeCodecs::readInspectRequested);
+  }
+
+  public static AwaitPromise readAwaitPromise(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AwaitPromise result = new AwaitPromise();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "result":
+          result.setResult(readRemoteObject(parser));
+          break;
+        case "exceptionDetails":
+          result.setExceptionDetails(readExceptionDetails(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAwaitPromise(JsonGenerator generator, AwaitPromise value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getResult() != null) {
+      generator.writeFieldName("result");
+      writeRemoteObject(generator, value.getResult());
+    }
+    if (value.getExceptionDetails() != null) {
+      generator.writeFieldName("exceptionDetails");
+      writeExceptionDetails(generator, value.getExceptionDetails());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CallArgument readCallArgument(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CallArgument result = new CallArgument();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "value":
+          result.setValue(JsonCodecs.readObject(parser));
+          break;
+        case "unserializableValue":
+          result.setUnserializableValue(JsonCodecs.readString(parser));
+          break;
+        case "objectId":
+          result.setObjectId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCallArgument(JsonGenerator generator, CallArgument value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeObject(generator, value.getValue());
+    }
+    if (value.getUnserializableValue() != null) {
+      generator.writeFieldName("unserializableValue");
+      JsonCodecs.writeString(generator, value.getUnserializableValue());
+    }
+    if (value.getObjectId() != null) {
+      generator.writeFieldName("objectId");
+      JsonCodecs.writeString(generator, value.getObjectId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CallFrame readCallFrame(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CallFrame result = new CallFrame();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "functionName":
+          result.setFunctionName(JsonCodecs.readString(parser));
+          break;
+        case "scriptId":
+          result.setScriptId(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "lineNumber":
+          result.setLineNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "columnNumber":
+          result.setColumnNumber(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCallFrame(JsonGenerator generator, CallFrame value) throws IOException {
+    generator.writeStartObject();
+    if (value.getFunctionName() != null) {
+      generator.writeFieldName("functionName");
+      JsonCodecs.writeString(generator, value.getFunctionName());
+    }
+    if (value.getScriptId() != null) {
+      generator.writeFieldName("scriptId");
+      JsonCodecs.writeString(generator, value.getScriptId());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getLineNumber() != null) {
+      generator.writeFieldName("lineNumber");
+      JsonCodecs.writeInteger(generator, value.getLineNumber());
+    }
+    if (value.getColumnNumber() != null) {
+      generator.writeFieldName("columnNumber");
+      JsonCodecs.writeInteger(generator, value.getColumnNumber());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CallFunctionOn readCallFunctionOn(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CallFunctionOn result = new CallFunctionOn();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "result":
+          result.setResult(readRemoteObject(parser));
+          break;
+        case "exceptionDetails":
+          result.setExceptionDetails(readExceptionDetails(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCallFunctionOn(JsonGenerator generator, CallFunctionOn value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getResult() != null) {
+      generator.writeFieldName("result");
+      writeRemoteObject(generator, value.getResult());
+    }
+    if (value.getExceptionDetails() != null) {
+      generator.writeFieldName("exceptionDetails");
+      writeExceptionDetails(generator, value.getExceptionDetails());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CompileScript readCompileScript(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CompileScript result = new CompileScript();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "scriptId":
+          result.setScriptId(JsonCodecs.readString(parser));
+          break;
+        case "exceptionDetails":
+          result.setExceptionDetails(readExceptionDetails(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCompileScript(JsonGenerator generator, CompileScript value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getScriptId() != null) {
+      generator.writeFieldName("scriptId");
+      JsonCodecs.writeString(generator, value.getScriptId());
+    }
+    if (value.getExceptionDetails() != null) {
+      generator.writeFieldName("exceptionDetails");
+      writeExceptionDetails(generator, value.getExceptionDetails());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CustomPreview readCustomPreview(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CustomPreview result = new CustomPreview();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "header":
+          result.setHeader(JsonCodecs.readString(parser));
+          break;
+        case "bodyGetterId":
+          result.setBodyGetterId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCustomPreview(JsonGenerator generator, CustomPreview value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getHeader() != null) {
+      generator.writeFieldName("header");
+      JsonCodecs.writeString(generator, value.getHeader());
+    }
+    if (value.getBodyGetterId() != null) {
+      generator.writeFieldName("bodyGetterId");
+      JsonCodecs.writeString(generator, value.getBodyGetterId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static EntryPreview readEntryPreview(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    EntryPreview result = new EntryPreview();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "key":
+          result.setKey(readObjectPreview(parser));
+          break;
+        case "value":
+          result.setValue(readObjectPreview(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeEntryPreview(JsonGenerator generator, EntryPreview value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getKey() != null) {
+      generator.writeFieldName("key");
+      writeObjectPreview(generator, value.getKey());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      writeObjectPreview(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Evaluate readEvaluate(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Evaluate result = new Evaluate();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "result":
+          result.setResult(readRemoteObject(parser));
+          break;
+        case "exceptionDetails":
+          result.setExceptionDetails(readExceptionDetails(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeEvaluate(JsonGenerator generator, Evaluate value) throws IOException {
+    generator.writeStartObject();
+    if (value.getResult() != null) {
+      generator.writeFieldName("result");
+      writeRemoteObject(generator, value.getResult());
+    }
+    if (value.getExceptionDetails() != null) {
+      generator.writeFieldName("exceptionDetails");
+      writeExceptionDetails(generator, value.getExceptionDetails());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ExceptionDetails readExceptionDetails(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ExceptionDetails result = new ExceptionDetails();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "exceptionId":
+          result.setExceptionId(JsonCodecs.readInteger(parser));
+          break;
+        case "text":
+          result.setText(JsonCodecs.readString(parser));
+          break;
+        case "lineNumber":
+          result.setLineNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "columnNumber":
+          result.setColumnNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "scriptId":
+          result.setScriptId(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "stackTrace":
+          result.setStackTrace(readStackTrace(parser));
+          break;
+        case "exception":
+          result.setException(readRemoteObject(parser));
+          break;
+        case "executionContextId":
+          result.setExecutionContextId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeExceptionDetails(JsonGenerator generator, ExceptionDetails value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getExceptionId() != null) {
+      generator.writeFieldName("exceptionId");
+      JsonCodecs.writeInteger(generator, value.getExceptionId());
+    }
+    if (value.getText() != null) {
+      generator.writeFieldName("text");
+      JsonCodecs.writeString(generator, value.getText());
+    }
+    if (value.getLineNumber() != null) {
+      generator.writeFieldName("lineNumber");
+      JsonCodecs.writeInteger(generator, value.getLineNumber());
+    }
+    if (value.getColumnNumber() != null) {
+      generator.writeFieldName("columnNumber");
+      JsonCodecs.writeInteger(generator, value.getColumnNumber());
+    }
+    if (value.getScriptId() != null) {
+      generator.writeFieldName("scriptId");
+      JsonCodecs.writeString(generator, value.getScriptId());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getStackTrace() != null) {
+      generator.writeFieldName("stackTrace");
+      writeStackTrace(generator, value.getStackTrace());
+    }
+    if (value.getException() != null) {
+      generator.writeFieldName("exception");
+      writeRemoteObject(generator, value.getException());
+    }
+    if (value.getExecutionContextId() != null) {
+      generator.writeFieldName("executionContextId");
+      JsonCodecs.writeInteger(generator, value.getExecutionContextId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ExecutionContextDescription readExecutionContextDescription(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ExecutionContextDescription result = new ExecutionContextDescription();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readInteger(parser));
+          break;
+        case "origin":
+          result.setOrigin(JsonCodecs.readString(parser));
+          break;
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "auxData":
+          result.setAuxData(JsonCodecs.readMap(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeExecutionContextDescription(
+      JsonGenerator generator, ExecutionContextDescription value) throws IOException {
+    generator.writeStartObject();
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeInteger(generator, value.getId());
+    }
+    if (value.getOrigin() != null) {
+      generator.writeFieldName("origin");
+      JsonCodecs.writeString(generator, value.getOrigin());
+    }
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getAuxData() != null) {
+      generator.writeFieldName("auxData");
+      JsonCodecs.writeObject(generator, value.getAuxData());
+    }
+    generator.writeEndObject();
+  }
+
+  public static HeapUsage readHeapUsage(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    HeapUsage result = new HeapUsage();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "usedSize":
+          result.setUsedSize(JsonCodecs.readDouble(parser));
+          break;
+        case "totalSize":
+          result.setTotalSize(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeHeapUsage(JsonGenerator generator, HeapUsage value) throws IOException {
+    generator.writeStartObject();
+    if (value.getUsedSize() != null) {
+      generator.writeFieldName("usedSize");
+      JsonCodecs.writeDouble(generator, value.getUsedSize());
+    }
+    if (value.getTotalSize() != null) {
+      generator.writeFieldName("totalSize");
+      JsonCodecs.writeDouble(generator, value.getTotalSize());
+    }
+    generator.writeEndObject();
+  }
+
+  public static InternalPropertyDescriptor readInternalPropertyDescriptor(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InternalPropertyDescriptor result = new InternalPropertyDescriptor();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(readRemoteObject(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeInternalPropertyDescriptor(
+      JsonGenerator generator, InternalPropertyDescriptor value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      writeRemoteObject(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ObjectPreview readObjectPreview(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ObjectPreview result = new ObjectPreview();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readObjectPreviewType(parser));
+          break;
+        case "subtype":
+          result.setSubtype(readObjectPreviewSubtype(parser));
+          break;
+        case "description":
+          result.setDescription(JsonCodecs.readString(parser));
+          break;
+        case "overflow":
+          result.setOverflow(JsonCodecs.readBoolean(parser));
+          break;
+        case "properties":
+          result.setProperties(JsonCodecs.readList(parser, RuntimeCodecs::readPropertyPreview));
+          break;
+        case "entries":
+          result.setEntries(JsonCodecs.readList(parser, RuntimeCodecs::readEntryPreview));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeObjectPreview(JsonGenerator generator, ObjectPreview value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeObjectPreviewType(generator, value.getType());
+    }
+    if (value.getSubtype() != null) {
+      generator.writeFieldName("subtype");
+      writeObjectPreviewSubtype(generator, value.getSubtype());
+    }
+    if (value.getDescription() != null) {
+      generator.writeFieldName("description");
+      JsonCodecs.writeString(generator, value.getDescription());
+    }
+    if (value.getOverflow() != null) {
+      generator.writeFieldName("overflow");
+      JsonCodecs.writeBoolean(generator, value.getOverflow());
+    }
+    if (value.getProperties() != null) {
+      generator.writeFieldName("properties");
+      JsonCodecs.writeList(generator, value.getProperties(), RuntimeCodecs::writePropertyPreview);
+    }
+    if (value.getEntries() != null) {
+      generator.writeFieldName("entries");
+      JsonCodecs.writeList(generator, value.getEntries(), RuntimeCodecs::writeEntryPreview);
+    }
+    generator.writeEndObject();
+  }
+
+  public static ObjectPreviewSubtype readObjectPreviewSubtype(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "array":
+        return ObjectPreviewSubtype.ARRAY;
+      case "null":
+        return ObjectPreviewSubtype.NULL;
+      case "node":
+        return ObjectPreviewSubtype.NODE;
+      case "regexp":
+        return ObjectPreviewSubtype.REGEXP;
+      case "date":
+        return ObjectPreviewSubtype.DATE;
+      case "map":
+        return ObjectPreviewSubtype.MAP;
+      case "set":
+        return ObjectPreviewSubtype.SET;
+      case "weakmap":
+        return ObjectPreviewSubtype.WEAKMAP;
+      case "weakset":
+        return ObjectPreviewSubtype.WEAKSET;
+      case "iterator":
+        return ObjectPreviewSubtype.ITERATOR;
+      case "generator":
+        return ObjectPreviewSubtype.GENERATOR;
+      case "error":
+        return ObjectPreviewSubtype.ERROR;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ObjectPreviewSubtype.class, value);
+    }
+  }
+
+  public static void writeObjectPreviewSubtype(JsonGenerator generator, ObjectPreviewSubtype value)
+      throws IOException {
+    generator.writeString(OBJECT_PREVIEW_SUBTYPE_VALUES[value.ordinal()]);
+  }
+
+  public static ObjectPreviewType readObjectPreviewType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "object":
+        return ObjectPreviewType.OBJECT;
+      case "function":
+        return ObjectPreviewType.FUNCTION;
+      case "undefined":
+        return ObjectPreviewType.UNDEFINED;
+      case "string":
+        return ObjectPreviewType.STRING;
+      case "number":
+        return ObjectPreviewType.NUMBER;
+      case "boolean":
+        return ObjectPreviewType.BOOLEAN;
+      case "symbol":
+        return ObjectPreviewType.SYMBOL;
+      case "bigint":
+        return ObjectPreviewType.BIGINT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ObjectPreviewType.class, value);
+    }
+  }
+
+  public static void writeObjectPreviewType(JsonGenerator generator, ObjectPreviewType value)
+      throws IOException {
+    generator.writeString(OBJECT_PREVIEW_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static PrivatePropertyDescriptor readPrivatePropertyDescriptor(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PrivatePropertyDescriptor result = new PrivatePropertyDescriptor();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(readRemoteObject(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePrivatePropertyDescriptor(
+      JsonGenerator generator, PrivatePropertyDescriptor value) throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      writeRemoteObject(generator, value.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Properties readProperties(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Properties result = new Properties();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "result":
+          result.setResult(JsonCodecs.readList(parser, RuntimeCodecs::readPropertyDescriptor));
+          break;
+        case "internalProperties":
+          result.setInternalProperties(
+              JsonCodecs.readList(parser, RuntimeCodecs::readInternalPropertyDescriptor));
+          break;
+        case "privateProperties":
+          result.setPrivateProperties(
+              JsonCodecs.readList(parser, RuntimeCodecs::readPrivatePropertyDescriptor));
+          break;
+        case "exceptionDetails":
+          result.setExceptionDetails(readExceptionDetails(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeProperties(JsonGenerator generator, Properties value) throws IOException {
+    generator.writeStartObject();
+    if (value.getResult() != null) {
+      generator.writeFieldName("result");
+      JsonCodecs.writeList(generator, value.getResult(), RuntimeCodecs::writePropertyDescriptor);
+    }
+    if (value.getInternalProperties() != null) {
+      generator.writeFieldName("internalProperties");
+      JsonCodecs.writeList(
+          generator, value.getInternalProperties(), RuntimeCodecs::writeInternalPropertyDescriptor);
+    }
+    if (value.getPrivateProperties() != null) {
+      generator.writeFieldName("privateProperties");
+      JsonCodecs.writeList(
+          generator, value.getPrivateProperties(), RuntimeCodecs::writePrivatePropertyDescriptor);
+    }
+    if (value.getExceptionDetails() != null) {
+      generator.writeFieldName("exceptionDetails");
+      writeExceptionDetails(generator, value.getExceptionDetails());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PropertyDescriptor readPropertyDescriptor(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PropertyDescriptor result = new PropertyDescriptor();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(readRemoteObject(parser));
+          break;
+        case "writable":
+          result.setWritable(JsonCodecs.readBoolean(parser));
+          break;
+        case "get":
+          result.setGet(readRemoteObject(parser));
+          break;
+        case "set":
+          result.setSet(readRemoteObject(parser));
+          break;
+        case "configurable":
+          result.setConfigurable(JsonCodecs.readBoolean(parser));
+          break;
+        case "enumerable":
+          result.setEnumerable(JsonCodecs.readBoolean(parser));
+          break;
+        case "wasThrown":
+          result.setWasThrown(JsonCodecs.readBoolean(parser));
+          break;
+        case "isOwn":
+          result.setIsOwn(JsonCodecs.readBoolean(parser));
+          break;
+        case "symbol":
+          result.setSymbol(readRemoteObject(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePropertyDescriptor(JsonGenerator generator, PropertyDescriptor value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      writeRemoteObject(generator, value.getValue());
+    }
+    if (value.getWritable() != null) {
+      generator.writeFieldName("writable");
+      JsonCodecs.writeBoolean(generator, value.getWritable());
+    }
+    if (value.getGet() != null) {
+      generator.writeFieldName("get");
+      writeRemoteObject(generator, value.getGet());
+    }
+    if (value.getSet() != null) {
+      generator.writeFieldName("set");
+      writeRemoteObject(generator, value.getSet());
+    }
+    if (value.getConfigurable() != null) {
+      generator.writeFieldName("configurable");
+      JsonCodecs.writeBoolean(generator, value.getConfigurable());
+    }
+    if (value.getEnumerable() != null) {
+      generator.writeFieldName("enumerable");
+      JsonCodecs.writeBoolean(generator, value.getEnumerable());
+    }
+    if (value.getWasThrown() != null) {
+      generator.writeFieldName("wasThrown");
+      JsonCodecs.writeBoolean(generator, value.getWasThrown());
+    }
+    if (value.getIsOwn() != null) {
+      generator.writeFieldName("isOwn");
+      JsonCodecs.writeBoolean(generator, value.getIsOwn());
+    }
+    if (value.getSymbol() != null) {
+      generator.writeFieldName("symbol");
+      writeRemoteObject(generator, value.getSymbol());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PropertyPreview readPropertyPreview(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    PropertyPreview result = new PropertyPreview();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "type":
+          result.setType(readPropertyPreviewType(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readString(parser));
+          break;
+        case "valuePreview":
+          result.setValuePreview(readObjectPreview(parser));
+          break;
+        case "subtype":
+          result.setSubtype(readPropertyPreviewSubtype(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writePropertyPreview(JsonGenerator generator, PropertyPreview value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getName() != null) {
+      generator.writeFieldName("name");
+      JsonCodecs.writeString(generator, value.getName());
+    }
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writePropertyPreviewType(generator, value.getType());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeString(generator, value.getValue());
+    }
+    if (value.getValuePreview() != null) {
+      generator.writeFieldName("valuePreview");
+      writeObjectPreview(generator, value.getValuePreview());
+    }
+    if (value.getSubtype() != null) {
+      generator.writeFieldName("subtype");
+      writePropertyPreviewSubtype(generator, value.getSubtype());
+    }
+    generator.writeEndObject();
+  }
+
+  public static PropertyPreviewSubtype readPropertyPreviewSubtype(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "array":
+        return PropertyPreviewSubtype.ARRAY;
+      case "null":
+        return PropertyPreviewSubtype.NULL;
+      case "node":
+        return PropertyPreviewSubtype.NODE;
+      case "regexp":
+        return PropertyPreviewSubtype.REGEXP;
+      case "date":
+        return PropertyPreviewSubtype.DATE;
+      case "map":
+        return PropertyPreviewSubtype.MAP;
+      case "set":
+        return PropertyPreviewSubtype.SET;
+      case "weakmap":
+        return PropertyPreviewSubtype.WEAKMAP;
+      case "weakset":
+        return PropertyPreviewSubtype.WEAKSET;
+      case "iterator":
+        return PropertyPreviewSubtype.ITERATOR;
+      case "generator":
+        return PropertyPreviewSubtype.GENERATOR;
+      case "error":
+        return PropertyPreviewSubtype.ERROR;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, PropertyPreviewSubtype.class, value);
+    }
+  }
+
+  public static void writePropertyPreviewSubtype(
+      JsonGenerator generator, PropertyPreviewSubtype value) throws IOException {
+    generator.writeString(PROPERTY_PREVIEW_SUBTYPE_VALUES[value.ordinal()]);
+  }
+
+  public static PropertyPreviewType readPropertyPreviewType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "object":
+        return PropertyPreviewType.OBJECT;
+      case "function":
+        return PropertyPreviewType.FUNCTION;
+      case "undefined":
+        return PropertyPreviewType.UNDEFINED;
+      case "string":
+        return PropertyPreviewType.STRING;
+      case "number":
+        return PropertyPreviewType.NUMBER;
+      case "boolean":
+        return PropertyPreviewType.BOOLEAN;
+      case "symbol":
+        return PropertyPreviewType.SYMBOL;
+      case "accessor":
+        return PropertyPreviewType.ACCESSOR;
+      case "bigint":
+        return PropertyPreviewType.BIGINT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, PropertyPreviewType.class, value);
+    }
+  }
+
+  public static void writePropertyPreviewType(JsonGenerator generator, PropertyPreviewType value)
+      throws IOException {
+    generator.writeString(PROPERTY_PREVIEW_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static RemoteObject readRemoteObject(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RemoteObject result = new RemoteObject();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readRemoteObjectType(parser));
+          break;
+        case "subtype":
+          result.setSubtype(readRemoteObjectSubtype(parser));
+          break;
+        case "className":
+          result.setClassName(JsonCodecs.readString(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readObject(parser));
+          break;
+        case "unserializableValue":
+          result.setUnserializableValue(JsonCodecs.readString(parser));
+          break;
+        case "description":
+          result.setDescription(JsonCodecs.readString(parser));
+          break;
+        case "objectId":
+          result.setObjectId(JsonCodecs.readString(parser));
+          break;
+        case "preview":
+          result.setPreview(readObjectPreview(parser));
+          break;
+        case "customPreview":
+          result.setCustomPreview(readCustomPreview(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRemoteObject(JsonGenerator generator, RemoteObject value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      writeRemoteObjectType(generator, value.getType());
+    }
+    if (value.getSubtype() != null) {
+      generator.writeFieldName("subtype");
+      writeRemoteObjectSubtype(generator, value.getSubtype());
+    }
+    if (value.getClassName() != null) {
+      generator.writeFieldName("className");
+      JsonCodecs.writeString(generator, value.getClassName());
+    }
+    if (value.getValue() != null) {
+      generator.writeFieldName("value");
+      JsonCodecs.writeObject(generator, value.getValue());
+    }
+    if (value.getUnserializableValue() != null) {
+      generator.writeFieldName("unserializableValue");
+      JsonCodecs.writeString(generator, value.getUnserializableValue());
+    }
+    if (value.getDescription() != null) {
+      generator.writeFieldName("description");
+      JsonCodecs.writeString(generator, value.getDescription());
+    }
+    if (value.getObjectId() != null) {
+      generator.writeFieldName("objectId");
+      JsonCodecs.writeString(generator, value.getObjectId());
+    }
+    if (value.getPreview() != null) {
+      generator.writeFieldName("preview");
+      writeObjectPreview(generator, value.getPreview());
+    }
+    if (value.getCustomPreview() != null) {
+      generator.writeFieldName("customPreview");
+      writeCustomPreview(generator, value.getCustomPreview());
+    }
+    generator.writeEndObject();
+  }
+
+  public static RemoteObjectSubtype readRemoteObjectSubtype(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "array":
+        return RemoteObjectSubtype.ARRAY;
+      case "null":
+        return RemoteObjectSubtype.NULL;
+      case "node":
+        return RemoteObjectSubtype.NODE;
+      case "regexp":
+        return RemoteObjectSubtype.REGEXP;
+      case "date":
+        return RemoteObjectSubtype.DATE;
+      case "map":
+        return RemoteObjectSubtype.MAP;
+      case "set":
+        return RemoteObjectSubtype.SET;
+      case "weakmap":
+        return RemoteObjectSubtype.WEAKMAP;
+      case "weakset":
+        return RemoteObjectSubtype.WEAKSET;
+      case "iterator":
+        return RemoteObjectSubtype.ITERATOR;
+      case "generator":
+        return RemoteObjectSubtype.GENERATOR;
+      case "error":
+        return RemoteObjectSubtype.ERROR;
+      case "proxy":
+        return RemoteObjectSubtype.PROXY;
+      case "promise":
+        return RemoteObjectSubtype.PROMISE;
+      case "typedarray":
+        return RemoteObjectSubtype.TYPEDARRAY;
+      case "arraybuffer":
+        return RemoteObjectSubtype.ARRAYBUFFER;
+      case "dataview":
+        return RemoteObjectSubtype.DATAVIEW;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, RemoteObjectSubtype.class, value);
+    }
+  }
+
+  public static void writeRemoteObjectSubtype(JsonGenerator generator, RemoteObjectSubtype value)
+      throws IOException {
+    generator.writeString(REMOTE_OBJECT_SUBTYPE_VALUES[value.ordinal()]);
+  }
+
+  public static RemoteObjectType readRemoteObjectType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "object":
+        return RemoteObjectType.OBJECT;
+      case "function":
+        return RemoteObjectType.FUNCTION;
+      case "undefined":
+        return RemoteObjectType.UNDEFINED;
+      case "string":
+        return RemoteObjectType.STRING;
+      case "number":
+        return RemoteObjectType.NUMBER;
+      case "boolean":
+        return RemoteObjectType.BOOLEAN;
+      case "symbol":
+        return RemoteObjectType.SYMBOL;
+      case "bigint":
+        return RemoteObjectType.BIGINT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, RemoteObjectType.class, value);
+    }
+  }
+
+  public static void writeRemoteObjectType(JsonGenerator generator, RemoteObjectType value)
+      throws IOException {
+    generator.writeString(REMOTE_OBJECT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static RunScript readRunScript(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RunScript result = new RunScript();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "result":
+          result.setResult(readRemoteObject(parser));
+          break;
+        case "exceptionDetails":
+          result.setExceptionDetails(readExceptionDetails(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRunScript(JsonGenerator generator, RunScript value) throws IOException {
+    generator.writeStartObject();
+    if (value.getResult() != null) {
+      generator.writeFieldName("result");
+      writeRemoteObject(generator, value.getResult());
+    }
+    if (value.getExceptionDetails() != null) {
+      generator.writeFieldName("exceptionDetails");
+      writeExceptionDetails(generator, value.getExceptionDetails());
+    }
+    generator.writeEndObject();
+  }
+
+  public static StackTrace readStackTrace(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    StackTrace result = new StackTrace();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "description":
+          result.setDescription(JsonCodecs.readString(parser));
+          break;
+        case "callFrames":
+          result.setCallFrames(JsonCodecs.readList(parser, RuntimeCodecs::readCallFrame));
+          break;
+        case "parent":
+          result.setParent(readStackTrace(parser));
+          break;
+        case "parentId":
+          result.setParentId(readStackTraceId(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeStackTrace(JsonGenerator generator, StackTrace value) throws IOException {
+    generator.writeStartObject();
+    if (value.getDescription() != null) {
+      generator.writeFieldName("description");
+      JsonCodecs.writeString(generator, value.getDescription());
+    }
+    if (value.getCallFrames() != null) {
+      generator.writeFieldName("callFrames");
+      JsonCodecs.writeList(generator, value.getCallFrames(), RuntimeCodecs::writeCallFrame);
+    }
+    if (value.getParent() != null) {
+      generator.writeFieldName("parent");
+      writeStackTrace(generator, value.getParent());
+    }
+    if (value.getParentId() != null) {
+      generator.writeFieldName("parentId");
+      writeStackTraceId(generator, value.getParentId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static StackTraceId readStackTraceId(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    StackTraceId result = new StackTraceId();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "id":
+          result.setId(JsonCodecs.readString(parser));
+          break;
+        case "debuggerId":
+          result.setDebuggerId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeStackTraceId(JsonGenerator generator, StackTraceId value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeString(generator, value.getId());
+    }
+    if (value.getDebuggerId() != null) {
+      generator.writeFieldName("debuggerId");
+      JsonCodecs.writeString(generator, value.getDebuggerId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static BindingCalled readBindingCalled(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BindingCalled result = new BindingCalled();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "name":
+          result.setName(JsonCodecs.readString(parser));
+          break;
+        case "payload":
+          result.setPayload(JsonCodecs.readString(parser));
+          break;
+        case "executionContextId":
+          result.setExecutionContextId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ConsoleAPICalled readConsoleAPICalled(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ConsoleAPICalled result = new ConsoleAPICalled();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(readConsoleAPICalledType(parser));
+          break;
+        case "args":
+          result.setArgs(JsonCodecs.readList(parser, RuntimeCodecs::readRemoteObject));
+          break;
+        case "executionContextId":
+          result.setExecutionContextId(JsonCodecs.readInteger(parser));
+          break;
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "stackTrace":
+          result.setStackTrace(readStackTrace(parser));
+          break;
+        case "context":
+          result.setContext(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ConsoleAPICalledType readConsoleAPICalledType(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "log":
+        return ConsoleAPICalledType.LOG;
+      case "debug":
+        return ConsoleAPICalledType.DEBUG;
+      case "info":
+        return ConsoleAPICalledType.INFO;
+      case "error":
+        return ConsoleAPICalledType.ERROR;
+      case "warning":
+        return ConsoleAPICalledType.WARNING;
+      case "dir":
+        return ConsoleAPICalledType.DIR;
+      case "dirxml":
+        return ConsoleAPICalledType.DIRXML;
+      case "table":
+        return ConsoleAPICalledType.TABLE;
+      case "trace":
+        return ConsoleAPICalledType.TRACE;
+      case "clear":
+        return ConsoleAPICalledType.CLEAR;
+      case "startGroup":
+        return ConsoleAPICalledType.START_GROUP;
+      case "startGroupCollapsed":
+        return ConsoleAPICalledType.START_GROUP_COLLAPSED;
+      case "endGroup":
+        return ConsoleAPICalledType.END_GROUP;
+      case "assert":
+        return ConsoleAPICalledType.ASSERT;
+      case "profile":
+        return ConsoleAPICalledType.PROFILE;
+      case "profileEnd":
+        return ConsoleAPICalledType.PROFILE_END;
+      case "count":
+        return ConsoleAPICalledType.COUNT;
+      case "timeEnd":
+        return ConsoleAPICalledType.TIME_END;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ConsoleAPICalledType.class, value);
+    }
+  }
+
+  public static ExceptionRevoked readExceptionRevoked(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ExceptionRevoked result = new ExceptionRevoked();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "reason":
+          result.setReason(JsonCodecs.readString(parser));
+          break;
+        case "exceptionId":
+          result.setExceptionId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ExceptionThrown readExceptionThrown(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ExceptionThrown result = new ExceptionThrown();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "timestamp":
+          result.setTimestamp(JsonCodecs.readDouble(parser));
+          break;
+        case "exceptionDetails":
+          result.setExceptionDetails(readExceptionDetails(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ExecutionContextCreated readExecutionContextCreated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ExecutionContextCreated result = new ExecutionContextCreated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "context":
+          result.setContext(readExecutionContextDescription(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ExecutionContextDestroyed readExecutionContextDestroyed(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ExecutionContextDestroyed result = new ExecutionContextDestroyed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "executionContextId":
+          result.setExecutionContextId(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ExecutionContextsCleared readExecutionContextsCleared(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ExecutionContextsCleared result = new ExecutionContextsCleared();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+    return result;
+  }
+
+  public static InspectRequested readInspectRequested(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InspectRequested result = new InspectRequested();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "object":
+          result.setObject(readRemoteObject(parser));
+          break;
+        case "hints":
+          result.setHints(JsonCodecs.readMap(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,354 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.security.CertificateError;
+import com.github.kklisura.cdt.protocol.events.security.SecurityStateChanged;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.security.CertificateErrorAction;
+import com.github.kklisura.cdt.protocol.types.security.InsecureContentStatus;
+import com.github.kklisura.cdt.protocol.types.security.MixedContentType;
+import com.github.kklisura.cdt.protocol.types.security.SecurityState;
+import com.github.kklisura.cdt.protocol.types.security.SecurityStateExplanation;
+import java.io.IOException;
+
+/** Security domain type and event codecs. */
+public final class SecurityCodecs {
+
+  private static final String[] CERTIFICATE_ERROR_ACTION_VALUES = {"continue", "cancel"};
+
+  private static final String[] MIXED_CONTENT_TYPE_VALUES = {
+    "blockable", "optionally-blockable", "none"
+  };
+
+  private static final String[] SECURITY_STATE_VALUES = {
+    "unknown", "neutral", "insecure", "secure", "info"
+  };
+
+  private SecurityCodecs() {}
+
+  /**
+   * Registers Security codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        CertificateErrorAction.class,
+        SecurityCodecs::readCertificateErrorAction,
+        SecurityCodecs::writeCertificateErrorAction);
+    module.addCodec(
+        InsecureContentStatus.class,
+        SecurityCodecs::readInsecureContentStatus,
+        SecurityCodecs::writeInsecureContentStatus);
+    module.addCodec(
+        MixedContentType.class,
+        SecurityCodecs::readMixedContentType,
+        SecurityCodecs::writeMixedContentType);
+    module.addCodec(
+        SecurityState.class, SecurityCodecs::readSecurityState, SecurityCodecs::writeSecurityState);
+    module.addCodec(
+        SecurityStateExplanation.class,
+        SecurityCodecs::readSecurityStateExplanation,
+        SecurityCodecs::writeSecurityStateExplanation);
+    module.addReader(CertificateError.class, SecurityCodecs::readCertificateError);
+    module.addReader(SecurityStateChanged.class, SecurityCodecs::readSecurityStateChanged);
+  }
+
+  public static CertificateErrorAction readCertificateErrorAction(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "continue":
+        return CertificateErrorAction.CONTINUE;
+      case "cancel":
+        return CertificateErrorAction.CANCEL;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, CertificateErrorAction.class, value);
+    }
+  }
+
+  public static void writeCertificateErrorAction(
+      JsonGenerator generator, CertificateErrorAction value) throws IOException {
+    generator.writeString(CERTIFICATE_ERROR_ACTION_VALUES[value.ordinal()]);
+  }
+
+  public static InsecureContentStatus readInsecureContentStatus(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    InsecureContentStatus result = new InsecureContentStatus();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "ranMixedContent":
+          result.setRanMixedContent(JsonCodecs.readBoolean(parser));
+          break;
+        case "displayedMixedContent":
+          result.setDisplayedMixedContent(JsonCodecs.readBoolean(parser));
+          break;
+        case "containedMixedForm":
+          result.setContainedMixedForm(JsonCodecs.readBoolean(parser));
+          break;
+        case "ranContentWithCertErrors":
+          result.setRanContentWithCertErrors(JsonCodecs.readBoolean(parser));
+          break;
+        case "displayedContentWithCertErrors":
+          result.setDisplayedContentWithCertErrors(JsonCodecs.readBoolean(parser));
+          break;
+        case "ranInsecureContentStyle":
+          result.setRanInsecureContentStyle(readSecurityState(parser));
+          break;
+        case "displayedInsecureContentStyle":
+          result.setDisplayedInsecureContentStyle(readSecurityState(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeInsecureContentStatus(
+      JsonGenerator generator, InsecureContentStatus value) throws IOException {
+    generator.writeStartObject();
+    if (value.getRanMixedContent() != null) {
+      generator.writeFieldName("ranMixedContent");
+      JsonCodecs.writeBoolean(generator, value.getRanMixedContent());
+    }
+    if (value.getDisplayedMixedContent() != null) {
+      generator.writeFieldName("displayedMixedContent");
+      JsonCodecs.writeBoolean(generator, value.getDisplayedMixedContent());
+    }
+    if (value.getContainedMixedForm() != null) {
+      generator.writeFieldName("containedMixedForm");
+      JsonCodecs.writeBoolean(generator, value.getContainedMixedForm());
+    }
+    if (value.getRanContentWithCertErrors() != null) {
+      generator.writeFieldName("ranContentWithCertErrors");
+      JsonCodecs.writeBoolean(generator, value.getRanContentWithCertErrors());
+    }
+    if (value.getDisplayedContentWithCertErrors() != null) {
+      generator.writeFieldName("displayedContentWithCertErrors");
+      JsonCodecs.writeBoolean(generator, value.getDisplayedContentWithCertErrors());
+    }
+    if (value.getRanInsecureContentStyle() != null) {
+      generator.writeFieldName("ranInsecureContentStyle");
+      writeSecurityState(generator, value.getRanInsecureContentStyle());
+    }
+    if (value.getDisplayedInsecureContentStyle() != null) {
+      generator.writeFieldName("displayedInsecureContentStyle");
+      writeSecurityState(generator, value.getDisplayedInsecureContentStyle());
+    }
+    generator.writeEndObject();
+  }
+
+  public static MixedContentType readMixedContentType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "blockable":
+        return MixedContentType.BLOCKABLE;
+      case "optionally-blockable":
+        return MixedContentType.OPTIONALLY_BLOCKABLE;
+      case "none":
+        return MixedContentType.NONE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, MixedContentType.class, value);
+    }
+  }
+
+  public static void writeMixedContentType(JsonGenerator generator, MixedContentType value)
+      throws IOException {
+    generator.writeString(MIXED_CONTENT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static SecurityState readSecurityState(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "unknown":
+        return SecurityState.UNKNOWN;
+      case "neutral":
+        return SecurityState.NEUTRAL;
+      case "insecure":
+        return SecurityState.INSECURE;
+      case "secure":
+        return SecurityState.SECURE;
+      case "info":
+        return SecurityState.INFO;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, SecurityState.class, value);
+    }
+  }
+
+  public static void writeSecurityState(JsonGenerator generator, SecurityState value)
+      throws IOException {
+    generator.writeString(SECURITY_STATE_VALUES[value.ordinal()]);
+  }
+
+  public static SecurityStateExplanation readSecurityStateExplanation(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SecurityStateExplanation result = new SecurityStateExplanation();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "securityState":
+          result.setSecurityState(readSecurityState(parser));
+          break;
+        case "title":
+          result.setTitle(JsonCodecs.readString(parser));
+          break;
+        case "summary":
+          result.setSummary(JsonCodecs.readString(parser));
+          break;
+        case "description":
+          result.setDescription(JsonCodecs.readString(parser));
+          break;
+        case "mixedContentType":
+          result.setMixedContentType(readMixedContentType(parser));
+          break;
+        case "certificate":
+          result.setCertificate(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "recommendations":
+          result.setRecommendations(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSecurityStateExplanation(
+      JsonGenerator generator, SecurityStateExplanation value) throws IOException {
+    generator.writeStartObject();
+    if (value.getSecurityState() != null) {
+      generator.writeFieldName("securityState");
+      writeSecurityState(generator, value.getSecurityState());
+    }
+    if (value.getTitle() != null) {
+      generator.writeFieldName("title");
+      JsonCodecs.writeString(generator, value.getTitle());
+    }
+    if (value.getSummary() != null) {
+      generator.writeFieldName("summary");
+      JsonCodecs.writeString(generator, value.getSummary());
+    }
+    if (value.getDescription() != null) {
+      generator.writeFieldName("description");
+      JsonCodecs.writeString(generator, value.getDescription());
+    }
+    if (value.getMixedContentType() != null) {
+      generator.writeFieldName("mixedContentType");
+      writeMixedContentType(generator, value.getMixedContentType());
+    }
+    if (value.getCertificate() != null) {
+      generator.writeFieldName("certificate");
+      JsonCodecs.writeList(generator, value.getCertificate(), JsonCodecs::writeString);
+    }
+    if (value.getRecommendations() != null) {
+      generator.writeFieldName("recommendations");
+      JsonCodecs.writeList(generator, value.getRecommendations(), JsonCodecs::writeString);
+    }
+    generator.writeEndObject();
+  }
+
+  public static CertificateError readCertificateError(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CertificateError result = new CertificateError();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "eventId":
+          result.setEventId(JsonCodecs.readInteger(parser));
+          break;
+        case "errorType":
+          result.setErrorType(JsonCodecs.readString(parser));
+          break;
+        case "requestURL":
+          result.setRequestURL(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static SecurityStateChanged readSecurityStateChanged(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    SecurityStateChanged result = new SecurityStateChanged();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "securityState":
+          result.setSecurityState(readSecurityState(parser));
+          break;
+        case "schemeIsCryptographic":
+          result.setSchemeIsCryptographic(JsonCodecs.readBoolean(parser));
+          break;
+        case "explanations":
+          result.setExplanations(
+              JsonCodecs.readList(parser, SecurityCodecs::readSecurityStateExplanation));
+          break;
+        case "insecureContentStatus":
+          result.setInsecureContentStatus(readInsecureContentStatus(parser));
+          break;
+        case "summary":
+          result.setSummary(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,398 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.serviceworker.WorkerErrorReported;
+import com.github.kklisura.cdt.protocol.events.serviceworker.WorkerRegistrationUpdated;
+import com.github.kklisura.cdt.protocol.events.serviceworker.WorkerVersionUpdated;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.serviceworker.ServiceWorkerErrorMessage;
+import com.github.kklisura.cdt.protocol.types.serviceworker.ServiceWorkerRegistration;
+import com.github.kklisura.cdt.protocol.types.serviceworker.ServiceWorkerVersion;
+import com.github.kklisura.cdt.protocol.types.serviceworker.ServiceWorkerVersionRunningStatus;
+import com.github.kklisura.cdt.protocol.types.serviceworker.ServiceWorkerVersionStatus;
+import java.io.IOException;
+
+/** ServiceWorker domain type and event codecs. */
+public final class ServiceWorkerCodecs {
+
+  private static final String[] SERVICE_WORKER_VERSION_RUNNING_STATUS_VALUES = {
+    "stopped", "starting", "running", "stopping"
+  };
+
+  private static final String[] SERVICE_WORKER_VERSION_STATUS_VALUES = {
+    "new", "installing", "installed", "activating", "activated", "redundant"
+  };
+
+  private ServiceWorkerCodecs() {}
+
+  /**
+   * Registers ServiceWorker codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        ServiceWorkerErrorMessage.class,
+        ServiceWorkerCodecs::readServiceWorkerErrorMessage,
+        ServiceWorkerCodecs::writeServiceWorkerErrorMessage);
+    module.addCodec(
+        ServiceWorkerRegistration.class,
+        ServiceWorkerCodecs::readServiceWorkerRegistration,
+        ServiceWorkerCodecs::writeServiceWorkerRegistration);
+    module.addCodec(
+        ServiceWorkerVersion.class,
+        ServiceWorkerCodecs::readServiceWorkerVersion,
+        ServiceWorkerCodecs::writeServiceWorkerVersion);
+    module.addCodec(
+        ServiceWorkerVersionRunningStatus.class,
+        ServiceWorkerCodecs::readServiceWorkerVersionRunningStatus,
+        ServiceWorkerCodecs::writeServiceWorkerVersionRunningStatus);
+    module.addCodec(
+        ServiceWorkerVersionStatus.class,
+        ServiceWorkerCodecs::readServiceWorkerVersionStatus,
+        ServiceWorkerCodecs::writeServiceWorkerVersionStatus);
+    module.addReader(WorkerErrorReported.class, ServiceWorkerCodecs::readWorkerErrorReported);
+    module.addReader(
+        WorkerRegistrationUpdated.class, ServiceWorkerCodecs::readWorkerRegistrationUpdated);
+    module.addReader(WorkerVersionUpdated.class, ServiceWorkerCodecs::readWorkerVersionUpdated);
+  }
+
+  public static ServiceWorkerErrorMessage readServiceWorkerErrorMessage(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ServiceWorkerErrorMessage result = new ServiceWorkerErrorMessage();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "errorMessage":
+          result.setErrorMessage(JsonCodecs.readString(parser));
+          break;
+        case "registrationId":
+          result.setRegistrationId(JsonCodecs.readString(parser));
+          break;
+        case "versionId":
+          result.setVersionId(JsonCodecs.readString(parser));
+          break;
+        case "sourceURL":
+          result.setSourceURL(JsonCodecs.readString(parser));
+          break;
+        case "lineNumber":
+          result.setLineNumber(JsonCodecs.readInteger(parser));
+          break;
+        case "columnNumber":
+          result.setColumnNumber(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeServiceWorkerErrorMessage(
+      JsonGenerator generator, ServiceWorkerErrorMessage value) throws IOException {
+    generator.writeStartObject();
+    if (value.getErrorMessage() != null) {
+      generator.writeFieldName("errorMessage");
+      JsonCodecs.writeString(generator, value.getErrorMessage());
+    }
+    if (value.getRegistrationId() != null) {
+      generator.writeFieldName("registrationId");
+      JsonCodecs.writeString(generator, value.getRegistrationId());
+    }
+    if (value.getVersionId() != null) {
+      generator.writeFieldName("versionId");
+      JsonCodecs.writeString(generator, value.getVersionId());
+    }
+    if (value.getSourceURL() != null) {
+      generator.writeFieldName("sourceURL");
+      JsonCodecs.writeString(generator, value.getSourceURL());
+    }
+    if (value.getLineNumber() != null) {
+      generator.writeFieldName("lineNumber");
+      JsonCodecs.writeInteger(generator, value.getLineNumber());
+    }
+    if (value.getColumnNumber() != null) {
+      generator.writeFieldName("columnNumber");
+      JsonCodecs.writeInteger(generator, value.getColumnNumber());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ServiceWorkerRegistration readServiceWorkerRegistration(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ServiceWorkerRegistration result = new ServiceWorkerRegistration();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "registrationId":
+          result.setRegistrationId(JsonCodecs.readString(parser));
+          break;
+        case "scopeURL":
+          result.setScopeURL(JsonCodecs.readString(parser));
+          break;
+        case "isDeleted":
+          result.setIsDeleted(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeServiceWorkerRegistration(
+      JsonGenerator generator, ServiceWorkerRegistration value) throws IOException {
+    generator.writeStartObject();
+    if (value.getRegistrationId() != null) {
+      generator.writeFieldName("registrationId");
+      JsonCodecs.writeString(generator, value.getRegistrationId());
+    }
+    if (value.getScopeURL() != null) {
+      generator.writeFieldName("scopeURL");
+      JsonCodecs.writeString(generator, value.getScopeURL());
+    }
+    if (value.getIsDeleted() != null) {
+      generator.writeFieldName("isDeleted");
+      JsonCodecs.writeBoolean(generator, value.getIsDeleted());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ServiceWorkerVersion readServiceWorkerVersion(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ServiceWorkerVersion result = new ServiceWorkerVersion();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "versionId":
+          result.setVersionId(JsonCodecs.readString(parser));
+          break;
+        case "registrationId":
+          result.setRegistrationId(JsonCodecs.readString(parser));
+          break;
+        case "scriptURL":
+          result.setScriptURL(JsonCodecs.readString(parser));
+          break;
+        case "runningStatus":
+          result.setRunningStatus(readServiceWorkerVersionRunningStatus(parser));
+          break;
+        case "status":
+          result.setStatus(readServiceWorkerVersionStatus(parser));
+          break;
+        case "scriptLastModified":
+          result.setScriptLastModified(JsonCodecs.readDouble(parser));
+          break;
+        case "scriptResponseTime":
+          result.setScriptResponseTime(JsonCodecs.readDouble(parser));
+          break;
+        case "controlledClients":
+          result.setControlledClients(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "targetId":
+          result.setTargetId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeServiceWorkerVersion(JsonGenerator generator, ServiceWorkerVersion value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getVersionId() != null) {
+      generator.writeFieldName("versionId");
+      JsonCodecs.writeString(generator, value.getVersionId());
+    }
+    if (value.getRegistrationId() != null) {
+      generator.writeFieldName("registrationId");
+      JsonCodecs.writeString(generator, value.getRegistrationId());
+    }
+    if (value.getScriptURL() != null) {
+      generator.writeFieldName("scriptURL");
+      JsonCodecs.writeString(generator, value.getScriptURL());
+    }
+    if (value.getRunningStatus() != null) {
+      generator.writeFieldName("runningStatus");
+      writeServiceWorkerVersionRunningStatus(generator, value.getRunningStatus());
+    }
+    if (value.getStatus() != null) {
+      generator.writeFieldName("status");
+      writeServiceWorkerVersionStatus(generator, value.getStatus());
+    }
+    if (value.getScriptLastModified() != null) {
+      generator.writeFieldName("scriptLastModified");
+      JsonCodecs.writeDouble(generator, value.getScriptLastModified());
+    }
+    if (value.getScriptResponseTime() != null) {
+      generator.writeFieldName("scriptResponseTime");
+      JsonCodecs.writeDouble(generator, value.getScriptResponseTime());
+    }
+    if (value.getControlledClients() != null) {
+      generator.writeFieldName("controlledClients");
+      JsonCodecs.writeList(generator, value.getControlledClients(), JsonCodecs::writeString);
+    }
+    if (value.getTargetId() != null) {
+      generator.writeFieldName("targetId");
+      JsonCodecs.writeString(generator, value.getTargetId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ServiceWorkerVersionRunningStatus readServiceWorkerVersionRunningStatus(
+      JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "stopped":
+        return ServiceWorkerVersionRunningStatus.STOPPED;
+      case "starting":
+        return ServiceWorkerVersionRunningStatus.STARTING;
+      case "running":
+        return ServiceWorkerVersionRunningStatus.RUNNING;
+      case "stopping":
+        return ServiceWorkerVersionRunningStatus.STOPPING;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ServiceWorkerVersionRunningStatus.class, value);
+    }
+  }
+
+  public static void writeServiceWorkerVersionRunningStatus(
+      JsonGenerator generator, ServiceWorkerVersionRunningStatus value) throws IOException {
+    generator.writeString(SERVICE_WORKER_VERSION_RUNNING_STATUS_VALUES[value.ordinal()]);
+  }
+
+  public static ServiceWorkerVersionStatus readServiceWorkerVersionStatus(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "new":
+        return ServiceWorkerVersionStatus.NEW;
+      case "installing":
+        return ServiceWorkerVersionStatus.INSTALLING;
+      case "installed":
+        return ServiceWorkerVersionStatus.INSTALLED;
+      case "activating":
+        return ServiceWorkerVersionStatus.ACTIVATING;
+      case "activated":
+        return ServiceWorkerVersionStatus.ACTIVATED;
+      case "redundant":
+        return ServiceWorkerVersionStatus.REDUNDANT;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ServiceWorkerVersionStatus.class, value);
+    }
+  }
+
+  public static void writeServiceWorkerVersionStatus(
+      JsonGenerator generator, ServiceWorkerVersionStatus value) throws IOException {
+    generator.writeString(SERVICE_WORKER_VERSION_STATUS_VALUES[value.ordinal()]);
+  }
+
+  public static WorkerErrorReported readWorkerErrorReported(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WorkerErrorReported result = new WorkerErrorReported();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "errorMessage":
+          result.setErrorMessage(readServiceWorkerErrorMessage(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static WorkerRegistrationUpdated readWorkerRegistrationUpdated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WorkerRegistrationUpdated result = new WorkerRegistrationUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "registrations":
+          result.setRegistrations(
+              JsonCodecs.readList(parser, ServiceWorkerCodecs::readServiceWorkerRegistration));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static WorkerVersionUpdated readWorkerVersionUpdated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    WorkerVersionUpdated result = new WorkerVersionUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "versions":
+          result.setVersions(
+              JsonCodecs.readList(parser, ServiceWorkerCodecs::readServiceWorkerVersion));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,286 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.storage.CacheStorageContentUpdated;
+import com.github.kklisura.cdt.protocol.events.storage.CacheStorageListUpdated;
+import com.github.kklisura.cdt.protocol.events.storage.IndexedDBContentUpdated;
+import com.github.kklisura.cdt.protocol.events.storage.IndexedDBListUpdated;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.storage.StorageType;
+import com.github.kklisura.cdt.protocol.types.storage.UsageAndQuota;
+import com.github.kklisura.cdt.protocol.types.storage.UsageForType;
+import java.io.IOException;
+
+/** Storage domain type and event codecs. */
+public final class StorageCodecs {
+
+  private static final String[] STORAGE_TYPE_VALUES = {
+    "appcache",
+    "cookies",
+    "file_systems",
+    "indexeddb",
+    "local_storage",
+    "shader_cache",
+    "websql",
+    "service_workers",
+    "cache_storage",
+    "all",
+    "other"
+  };
+
+  private StorageCodecs() {}
+
+  /**
+   * Registers Storage codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        StorageType.class, StorageCodecs::readStorageType, StorageCodecs::writeStorageType);
+    module.addCodec(
+        UsageAndQuota.class, StorageCodecs::readUsageAndQuota, StorageCodecs::writeUsageAndQuota);
+    module.addCodec(
+        UsageForType.class, StorageCodecs::readUsageForType, StorageCodecs::writeUsageForType);
+    module.addReader(
+        CacheStorageContentUpdated.class, StorageCodecs::readCacheStorageContentUpdated);
+    module.addReader(CacheStorageListUpdated.class, StorageCodecs::readCacheStorageListUpdated);
+    module.addReader(IndexedDBContentUpdated.class, StorageCodecs::readIndexedDBContentUpdated);
+    module.addReader(IndexedDBListUpdated.class, StorageCodecs::readIndexedDBListUpdated);
+  }
+
+  public static StorageType readStorageType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "appcache":
+        return StorageType.APPCACHE;
+      case "cookies":
+        return StorageType.COOKIES;
+      case "file_systems":
+        return StorageType.FILE_SYSTEMS;
+      case "indexeddb":
+        return StorageType.INDEXEDDB;
+      case "local_storage":
+        return StorageType.LOCAL_STORAGE;
+      case "shader_cache":
+        return StorageType.SHADER_CACHE;
+      case "websql":
+        return StorageType.WEBSQL;
+      case "service_workers":
+        return StorageType.SERVICE_WORKERS;
+      case "cache_storage":
+        return StorageType.CACHE_STORAGE;
+      case "all":
+        return StorageType.ALL;
+      case "other":
+        return StorageType.OTHER;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, StorageType.class, value);
+    }
+  }
+
+  public static void writeStorageType(JsonGenerator generator, StorageType value)
+      throws IOException {
+    generator.writeString(STORAGE_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static UsageAndQuota readUsageAndQuota(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    UsageAndQuota result = new UsageAndQuota();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "usage":
+          result.setUsage(JsonCodecs.readDouble(parser));
+          break;
+        case "quota":
+          result.setQuota(JsonCodecs.readDouble(parser));
+          break;
+        case "usageBreakdown":
+          result.setUsageBreakdown(JsonCodecs.readList(parser, StorageCodecs::readUsageForType));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeUsageAndQuota(JsonGenerator generator, UsageAndQuota value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getUsage() != null) {
+      generator.writeFieldName("usage");
+      JsonCodecs.writeDouble(generator, value.getUsage());
+    }
+    if (value.getQuota() != null) {
+      generator.writeFieldName("quota");
+      JsonCodecs.writeDouble(generator, value.getQuota());
+    }
+    if (value.getUsageBreakdown() != null) {
+      generator.writeFieldName("usageBreakdown");
+      JsonCodecs.writeList(generator, value.getUsageBreakdown(), StorageCodecs::writeUsageForType);
+    }
+    generator.writeEndObject();
+  }
+
+  public static UsageForType readUsageForType(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    UsageForType result = new UsageForType();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "storageType":
+          result.setStorageType(readStorageType(parser));
+          break;
+        case "usage":
+          result.setUsage(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeUsageForType(JsonGenerator generator, UsageForType value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getStorageType() != null) {
+      generator.writeFieldName("storageType");
+      writeStorageType(generator, value.getStorageType());
+    }
+    if (value.getUsage() != null) {
+      generator.writeFieldName("usage");
+      JsonCodecs.writeDouble(generator, value.getUsage());
+    }
+    generator.writeEndObject();
+  }
+
+  public static CacheStorageContentUpdated readCacheStorageContentUpdated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CacheStorageContentUpdated result = new CacheStorageContentUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "origin":
+          result.setOrigin(JsonCodecs.readString(parser));
+          break;
+        case "cacheName":
+          result.setCacheName(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static CacheStorageListUpdated readCacheStorageListUpdated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    CacheStorageListUpdated result = new CacheStorageListUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "origin":
+          result.setOrigin(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static IndexedDBContentUpdated readIndexedDBContentUpdated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    IndexedDBContentUpdated result = new IndexedDBContentUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "origin":
+          result.setOrigin(JsonCodecs.readString(parser));
+          break;
+        case "databaseName":
+          result.setDatabaseName(JsonCodecs.readString(parser));
+          break;
+        case "objectStoreName":
+          result.setObjectStoreName(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static IndexedDBListUpdated readIndexedDBListUpdated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    IndexedDBListUpdated result = new IndexedDBListUpdated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "origin":
+          result.setOrigin(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
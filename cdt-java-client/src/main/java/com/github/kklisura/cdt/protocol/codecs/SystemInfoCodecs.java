@@ -0,0 +1,552 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.systeminfo.GPUDevice;
+import com.github.kklisura.cdt.protocol.types.systeminfo.GPUInfo;
+import com.github.kklisura.cdt.protocol.types.systeminfo.ImageDecodeAcceleratorCapability;
+import com.github.kklisura.cdt.protocol.types.systeminfo.ImageType;
+import com.github.kklisura.cdt.protocol.types.systeminfo.Info;
+import com.github.kklisura.cdt.protocol.types.systeminfo.ProcessInfo;
+import com.github.kklisura.cdt.protocol.types.systeminfo.Size;
+import com.github.kklisura.cdt.protocol.types.systeminfo.SubsamplingFormat;
+import com.github.kklisura.cdt.protocol.types.systeminfo.VideoDecodeAcceleratorCapability;
+import com.github.kklisura.cdt.protocol.types.systeminfo.VideoEncodeAcceleratorCapability;
+import java.io.IOException;
+
+/** SystemInfo domain type and event codecs. */
+public final class SystemInfoCodecs {
+
+  private static final String[] IMAGE_TYPE_VALUES = {"jpeg", "webp", "unknown"};
+
+  private static final String[] SUBSAMPLING_FORMAT_VALUES = {"yuv420", "yuv422", "yuv444"};
+
+  private SystemInfoCodecs() {}
+
+  /**
+   * Registers SystemInfo codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        GPUDevice.class, SystemInfoCodecs::readGPUDevice, SystemInfoCodecs::writeGPUDevice);
+    module.addCodec(GPUInfo.class, SystemInfoCodecs::readGPUInfo, SystemInfoCodecs::writeGPUInfo);
+    module.addCodec(
+        ImageDecodeAcceleratorCapability.class,
+        SystemInfoCodecs::readImageDecodeAcceleratorCapability,
+        SystemInfoCodecs::writeImageDecodeAcceleratorCapability);
+    module.addCodec(
+        ImageType.class, SystemInfoCodecs::readImageType, SystemInfoCodecs::writeImageType);
+    module.addCodec(Info.class, SystemInfoCodecs::readInfo, SystemInfoCodecs::writeInfo);
+    module.addCodec(
+        ProcessInfo.class, SystemInfoCodecs::readProcessInfo, SystemInfoCodecs::writeProcessInfo);
+    module.addCodec(Size.class, SystemInfoCodecs::readSize, SystemInfoCodecs::writeSize);
+    module.addCodec(
+        SubsamplingFormat.class,
+        SystemInfoCodecs::readSubsamplingFormat,
+        SystemInfoCodecs::writeSubsamplingFormat);
+    module.addCodec(
+        VideoDecodeAcceleratorCapability.class,
+        SystemInfoCodecs::readVideoDecodeAcceleratorCapability,
+        SystemInfoCodecs::writeVideoDecodeAcceleratorCapability);
+    module.addCodec(
+        VideoEncodeAcceleratorCapability.class,
+        SystemInfoCodecs::readVideoEncodeAcceleratorCapability,
+        SystemInfoCodecs::writeVideoEncodeAcceleratorCapability);
+  }
+
+  public static GPUDevice readGPUDevice(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    GPUDevice result = new GPUDevice();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "vendorId":
+          result.setVendorId(JsonCodecs.readDouble(parser));
+          break;
+        case "deviceId":
+          result.setDeviceId(JsonCodecs.readDouble(parser));
+          break;
+        case "vendorString":
+          result.setVendorString(JsonCodecs.readString(parser));
+          break;
+        case "deviceString":
+          result.setDeviceString(JsonCodecs.readString(parser));
+          break;
+        case "driverVendor":
+          result.setDriverVendor(JsonCodecs.readString(parser));
+          break;
+        case "driverVersion":
+          result.setDriverVersion(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeGPUDevice(JsonGenerator generator, GPUDevice value) throws IOException {
+    generator.writeStartObject();
+    if (value.getVendorId() != null) {
+      generator.writeFieldName("vendorId");
+      JsonCodecs.writeDouble(generator, value.getVendorId());
+    }
+    if (value.getDeviceId() != null) {
+      generator.writeFieldName("deviceId");
+      JsonCodecs.writeDouble(generator, value.getDeviceId());
+    }
+    if (value.getVendorString() != null) {
+      generator.writeFieldName("vendorString");
+      JsonCodecs.writeString(generator, value.getVendorString());
+    }
+    if (value.getDeviceString() != null) {
+      generator.writeFieldName("deviceString");
+      JsonCodecs.writeString(generator, value.getDeviceString());
+    }
+    if (value.getDriverVendor() != null) {
+      generator.writeFieldName("driverVendor");
+      JsonCodecs.writeString(generator, value.getDriverVendor());
+    }
+    if (value.getDriverVersion() != null) {
+      generator.writeFieldName("driverVersion");
+      JsonCodecs.writeString(generator, value.getDriverVersion());
+    }
+    generator.writeEndObject();
+  }
+
+  public static GPUInfo readGPUInfo(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    GPUInfo result = new GPUInfo();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "devices":
+          result.setDevices(JsonCodecs.readList(parser, SystemInfoCodecs::readGPUDevice));
+          break;
+        case "auxAttributes":
+          result.setAuxAttributes(JsonCodecs.readMap(parser));
+          break;
+        case "featureStatus":
+          result.setFeatureStatus(JsonCodecs.readMap(parser));
+          break;
+        case "driverBugWorkarounds":
+          result.setDriverBugWorkarounds(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "videoDecoding":
+          result.setVideoDecoding(
+              JsonCodecs.readList(parser, SystemInfoCodecs::readVideoDecodeAcceleratorCapability));
+          break;
+        case "videoEncoding":
+          result.setVideoEncoding(
+              JsonCodecs.readList(parser, SystemInfoCodecs::readVideoEncodeAcceleratorCapability));
+          break;
+        case "imageDecoding":
+          result.setImageDecoding(
+              JsonCodecs.readList(parser, SystemInfoCodecs::readImageDecodeAcceleratorCapability));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeGPUInfo(JsonGenerator generator, GPUInfo value) throws IOException {
+    generator.writeStartObject();
+    if (value.getDevices() != null) {
+      generator.writeFieldName("devices");
+      JsonCodecs.writeList(generator, value.getDevices(), SystemInfoCodecs::writeGPUDevice);
+    }
+    if (value.getAuxAttributes() != null) {
+      generator.writeFieldName("auxAttributes");
+      JsonCodecs.writeObject(generator, value.getAuxAttributes());
+    }
+    if (value.getFeatureStatus() != null) {
+      generator.writeFieldName("featureStatus");
+      JsonCodecs.writeObject(generator, value.getFeatureStatus());
+    }
+    if (value.getDriverBugWorkarounds() != null) {
+      generator.writeFieldName("driverBugWorkarounds");
+      JsonCodecs.writeList(generator, value.getDriverBugWorkarounds(), JsonCodecs::writeString);
+    }
+    if (value.getVideoDecoding() != null) {
+      generator.writeFieldName("videoDecoding");
+      JsonCodecs.writeList(
+          generator,
+          value.getVideoDecoding(),
+          SystemInfoCodecs::writeVideoDecodeAcceleratorCapability);
+    }
+    if (value.getVideoEncoding() != null) {
+      generator.writeFieldName("videoEncoding");
+      JsonCodecs.writeList(
+          generator,
+          value.getVideoEncoding(),
+          SystemInfoCodecs::writeVideoEncodeAcceleratorCapability);
+    }
+    if (value.getImageDecoding() != null) {
+      generator.writeFieldName("imageDecoding");
+      JsonCodecs.writeList(
+          generator,
+          value.getImageDecoding(),
+          SystemInfoCodecs::writeImageDecodeAcceleratorCapability);
+    }
+    generator.writeEndObject();
+  }
+
+  public static ImageDecodeAcceleratorCapability readImageDecodeAcceleratorCapability(
+      JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ImageDecodeAcceleratorCapability result = new ImageDecodeAcceleratorCapability();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "imageType":
+          result.setImageType(readImageType(parser));
+          break;
+        case "maxDimensions":
+          result.setMaxDimensions(readSize(parser));
+          break;
+        case "minDimensions":
+          result.setMinDimensions(readSize(parser));
+          break;
+        case "subsamplings":
+          result.setSubsamplings(
+              JsonCodecs.readList(parser, SystemInfoCodecs::readSubsamplingFormat));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeImageDecodeAcceleratorCapability(
+      JsonGenerator generator, ImageDecodeAcceleratorCapability value) throws IOException {
+    generator.writeStartObject();
+    if (value.getImageType() != null) {
+      generator.writeFieldName("imageType");
+      writeImageType(generator, value.getImageType());
+    }
+    if (value.getMaxDimensions() != null) {
+      generator.writeFieldName("maxDimensions");
+      writeSize(generator, value.getMaxDimensions());
+    }
+    if (value.getMinDimensions() != null) {
+      generator.writeFieldName("minDimensions");
+      writeSize(generator, value.getMinDimensions());
+    }
+    if (value.getSubsamplings() != null) {
+      generator.writeFieldName("subsamplings");
+      JsonCodecs.writeList(
+          generator, value.getSubsamplings(), SystemInfoCodecs::writeSubsamplingFormat);
+    }
+    generator.writeEndObject();
+  }
+
+  public static ImageType readImageType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "jpeg":
+        return ImageType.JPEG;
+      case "webp":
+        return ImageType.WEBP;
+      case "unknown":
+        return ImageType.UNKNOWN;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ImageType.class, value);
+    }
+  }
+
+  public static void writeImageType(JsonGenerator generator, ImageType value) throws IOException {
+    generator.writeString(IMAGE_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static Info readInfo(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Info result = new Info();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "gpu":
+          result.setGpu(readGPUInfo(parser));
+          break;
+        case "modelName":
+          result.setModelName(JsonCodecs.readString(parser));
+          break;
+        case "modelVersion":
+          result.setModelVersion(JsonCodecs.readString(parser));
+          break;
+        case "commandLine":
+          result.setCommandLine(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeInfo(JsonGenerator generator, Info value) throws IOException {
+    generator.writeStartObject();
+    if (value.getGpu() != null) {
+      generator.writeFieldName("gpu");
+      writeGPUInfo(generator, value.getGpu());
+    }
+    if (value.getModelName() != null) {
+      generator.writeFieldName("modelName");
+      JsonCodecs.writeString(generator, value.getModelName());
+    }
+    if (value.getModelVersion() != null) {
+      generator.writeFieldName("modelVersion");
+      JsonCodecs.writeString(generator, value.getModelVersion());
+    }
+    if (value.getCommandLine() != null) {
+      generator.writeFieldName("commandLine");
+      JsonCodecs.writeString(generator, value.getCommandLine());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ProcessInfo readProcessInfo(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ProcessInfo result = new ProcessInfo();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "type":
+          result.setType(JsonCodecs.readString(parser));
+          break;
+        case "id":
+          result.setId(JsonCodecs.readInteger(parser));
+          break;
+        case "cpuTime":
+          result.setCpuTime(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeProcessInfo(JsonGenerator generator, ProcessInfo value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      JsonCodecs.writeString(generator, value.getType());
+    }
+    if (value.getId() != null) {
+      generator.writeFieldName("id");
+      JsonCodecs.writeInteger(generator, value.getId());
+    }
+    if (value.getCpuTime() != null) {
+      generator.writeFieldName("cpuTime");
+      JsonCodecs.writeDouble(generator, value.getCpuTime());
+    }
+    generator.writeEndObject();
+  }
+
+  public static Size readSize(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Size result = new Size();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "width":
+          result.setWidth(JsonCodecs.readInteger(parser));
+          break;
+        case "height":
+          result.setHeight(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeSize(JsonGenerator generator, Size value) throws IOException {
+    generator.writeStartObject();
+    if (value.getWidth() != null) {
+      generator.writeFieldName("width");
+      JsonCodecs.writeInteger(generator, value.getWidth());
+    }
+    if (value.getHeight() != null) {
+      generator.writeFieldName("height");
+      JsonCodecs.writeInteger(generator, value.getHeight());
+    }
+    generator.writeEndObject();
+  }
+
+  public static SubsamplingFormat readSubsamplingFormat(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "yuv420":
+        return SubsamplingFormat.YUV_420;
+      case "yuv422":
+        return SubsamplingFormat.YUV_422;
+      case "yuv444":
+        return SubsamplingFormat.YUV_444;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, SubsamplingFormat.class, value);
+    }
+  }
+
+  public static void writeSubsamplingFormat(JsonGenerator generator, SubsamplingFormat value)
+      throws IOException {
+    generator.writeString(SUBSAMPLING_FORMAT_VALUES[value.ordinal()]);
+  }
+
+  public static VideoDecodeAcceleratorCapability readVideoDecodeAcceleratorCapability(
+      JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    VideoDecodeAcceleratorCapability result = new VideoDecodeAcceleratorCapability();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "profile":
+          result.setProfile(JsonCodecs.readString(parser));
+          break;
+        case "maxResolution":
+          result.setMaxResolution(readSize(parser));
+          break;
+        case "minResolution":
+          result.setMinResolution(readSize(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeVideoDecodeAcceleratorCapability(
+      JsonGenerator generator, VideoDecodeAcceleratorCapability value) throws IOException {
+    generator.writeStartObject();
+    if (value.getProfile() != null) {
+      generator.writeFieldName("profile");
+      JsonCodecs.writeString(generator, value.getProfile());
+    }
+    if (value.getMaxResolution() != null) {
+      generator.writeFieldName("maxResolution");
+      writeSize(generator, value.getMaxResolution());
+    }
+    if (value.getMinResolution() != null) {
+      generator.writeFieldName("minResolution");
+      writeSize(generator, value.getMinResolution());
+    }
+    generator.writeEndObject();
+  }
+
+  public static VideoEncodeAcceleratorCapability readVideoEncodeAcceleratorCapability(
+      JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    VideoEncodeAcceleratorCapability result = new VideoEncodeAcceleratorCapability();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "profile":
+          result.setProfile(JsonCodecs.readString(parser));
+          break;
+        case "maxResolution":
+          result.setMaxResolution(readSize(parser));
+          break;
+        case "maxFramerateNumerator":
+          result.setMaxFramerateNumerator(JsonCodecs.readInteger(parser));
+          break;
+        case "maxFramerateDenominator":
+          result.setMaxFramerateDenominator(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeVideoEncodeAcceleratorCapability(
+      JsonGenerator generator, VideoEncodeAcceleratorCapability value) throws IOException {
+    generator.writeStartObject();
+    if (value.getProfile() != null) {
+      generator.writeFieldName("profile");
+      JsonCodecs.writeString(generator, value.getProfile());
+    }
+    if (value.getMaxResolution() != null) {
+      generator.writeFieldName("maxResolution");
+      writeSize(generator, value.getMaxResolution());
+    }
+    if (value.getMaxFramerateNumerator() != null) {
+      generator.writeFieldName("maxFramerateNumerator");
+      JsonCodecs.writeInteger(generator, value.getMaxFramerateNumerator());
+    }
+    if (value.getMaxFramerateDenominator() != null) {
+      generator.writeFieldName("maxFramerateDenominator");
+      JsonCodecs.writeInteger(generator, value.getMaxFramerateDenominator());
+    }
+    generator.writeEndObject();
+  }
+}
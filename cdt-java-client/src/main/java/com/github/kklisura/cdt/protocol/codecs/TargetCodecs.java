@@ -0,0 +1,331 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.target.AttachedToTarget;
+import com.github.kklisura.cdt.protocol.events.target.DetachedFromTarget;
+import com.github.kklisura.cdt.protocol.events.target.ReceivedMessageFromTarget;
+import com.github.kklisura.cdt.protocol.events.target.TargetCrashed;
+import com.github.kklisura.cdt.protocol.events.target.TargetCreated;
+import com.github.kklisura.cdt.protocol.events.target.TargetDestroyed;
+import com.github.kklisura.cdt.protocol.events.target.TargetInfoChanged;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.target.RemoteLocation;
+import com.github.kklisura.cdt.protocol.types.target.TargetInfo;
+import java.io.IOException;
+
+/** Target domain type and event codecs. */
+public final class TargetCodecs {
+
+  private TargetCodecs() {}
+
+  /**
+   * Registers Target codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        RemoteLocation.class, TargetCodecs::readRemoteLocation, TargetCodecs::writeRemoteLocation);
+    module.addCodec(TargetInfo.class, TargetCodecs::readTargetInfo, TargetCodecs::writeTargetInfo);
+    module.addReader(AttachedToTarget.class, TargetCodecs::readAttachedToTarget);
+    module.addReader(DetachedFromTarget.class, TargetCodecs::readDetachedFromTarget);
+    module.addReader(ReceivedMessageFromTarget.class, TargetCodecs::readReceivedMessageFromTarget);
+    module.addReader(TargetCrashed.class, TargetCodecs::readTargetCrashed);
+    module.addReader(TargetCreated.class, TargetCodecs::readTargetCreated);
+    module.addReader(TargetDestroyed.class, TargetCodecs::readTargetDestroyed);
+    module.addReader(TargetInfoChanged.class, TargetCodecs::readTargetInfoChanged);
+  }
+
+  public static RemoteLocation readRemoteLocation(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RemoteLocation result = new RemoteLocation();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "host":
+          result.setHost(JsonCodecs.readString(parser));
+          break;
+        case "port":
+          result.setPort(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRemoteLocation(JsonGenerator generator, RemoteLocation value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getHost() != null) {
+      generator.writeFieldName("host");
+      JsonCodecs.writeString(generator, value.getHost());
+    }
+    if (value.getPort() != null) {
+      generator.writeFieldName("port");
+      JsonCodecs.writeInteger(generator, value.getPort());
+    }
+    generator.writeEndObject();
+  }
+
+  public static TargetInfo readTargetInfo(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TargetInfo result = new TargetInfo();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "targetId":
+          result.setTargetId(JsonCodecs.readString(parser));
+          break;
+        case "type":
+          result.setType(JsonCodecs.readString(parser));
+          break;
+        case "title":
+          result.setTitle(JsonCodecs.readString(parser));
+          break;
+        case "url":
+          result.setUrl(JsonCodecs.readString(parser));
+          break;
+        case "attached":
+          result.setAttached(JsonCodecs.readBoolean(parser));
+          break;
+        case "openerId":
+          result.setOpenerId(JsonCodecs.readString(parser));
+          break;
+        case "browserContextId":
+          result.setBrowserContextId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeTargetInfo(JsonGenerator generator, TargetInfo value) throws IOException {
+    generator.writeStartObject();
+    if (value.getTargetId() != null) {
+      generator.writeFieldName("targetId");
+      JsonCodecs.writeString(generator, value.getTargetId());
+    }
+    if (value.getType() != null) {
+      generator.writeFieldName("type");
+      JsonCodecs.writeString(generator, value.getType());
+    }
+    if (value.getTitle() != null) {
+      generator.writeFieldName("title");
+      JsonCodecs.writeString(generator, value.getTitle());
+    }
+    if (value.getUrl() != null) {
+      generator.writeFieldName("url");
+      JsonCodecs.writeString(generator, value.getUrl());
+    }
+    if (value.getAttached() != null) {
+      generator.writeFieldName("attached");
+      JsonCodecs.writeBoolean(generator, value.getAttached());
+    }
+    if (value.getOpenerId() != null) {
+      generator.writeFieldName("openerId");
+      JsonCodecs.writeString(generator, value.getOpenerId());
+    }
+    if (value.getBrowserContextId() != null) {
+      generator.writeFieldName("browserContextId");
+      JsonCodecs.writeString(generator, value.getBrowserContextId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AttachedToTarget readAttachedToTarget(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AttachedToTarget result = new AttachedToTarget();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "sessionId":
+          result.setSessionId(JsonCodecs.readString(parser));
+          break;
+        case "targetInfo":
+          result.setTargetInfo(readTargetInfo(parser));
+          break;
+        case "waitingForDebugger":
+          result.setWaitingForDebugger(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static DetachedFromTarget readDetachedFromTarget(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DetachedFromTarget result = new DetachedFromTarget();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "sessionId":
+          result.setSessionId(JsonCodecs.readString(parser));
+          break;
+        case "targetId":
+          result.setTargetId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ReceivedMessageFromTarget readReceivedMessageFromTarget(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ReceivedMessageFromTarget result = new ReceivedMessageFromTarget();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "sessionId":
+          result.setSessionId(JsonCodecs.readString(parser));
+          break;
+        case "message":
+          result.setMessage(JsonCodecs.readString(parser));
+          break;
+        case "targetId":
+          result.setTargetId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static TargetCrashed readTargetCrashed(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TargetCrashed result = new TargetCrashed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "targetId":
+          result.setTargetId(JsonCodecs.readString(parser));
+          break;
+        case "status":
+          result.setStatus(JsonCodecs.readString(parser));
+          break;
+        case "errorCode":
+          result.setErrorCode(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static TargetCreated readTargetCreated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TargetCreated result = new TargetCreated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "targetInfo":
+          result.setTargetInfo(readTargetInfo(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static TargetDestroyed readTargetDestroyed(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TargetDestroyed result = new TargetDestroyed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "targetId":
+          result.setTargetId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static TargetInfoChanged readTargetInfoChanged(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TargetInfoChanged result = new TargetInfoChanged();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "targetInfo":
+          result.setTargetInfo(readTargetInfo(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,360 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.tracing.BufferUsage;
+import com.github.kklisura.cdt.protocol.events.tracing.DataCollected;
+import com.github.kklisura.cdt.protocol.events.tracing.TracingComplete;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.tracing.RequestMemoryDump;
+import com.github.kklisura.cdt.protocol.types.tracing.StartTransferMode;
+import com.github.kklisura.cdt.protocol.types.tracing.StreamCompression;
+import com.github.kklisura.cdt.protocol.types.tracing.StreamFormat;
+import com.github.kklisura.cdt.protocol.types.tracing.TraceConfig;
+import com.github.kklisura.cdt.protocol.types.tracing.TraceConfigRecordMode;
+import java.io.IOException;
+
+/** Tracing domain type and event codecs. */
+public final class TracingCodecs {
+
+  private static final String[] START_TRANSFER_MODE_VALUES = {"ReportEvents", "ReturnAsStream"};
+
+  private static final String[] STREAM_COMPRESSION_VALUES = {"none", "gzip"};
+
+  private static final String[] STREAM_FORMAT_VALUES = {"json", "proto"};
+
+  private static final String[] TRACE_CONFIG_RECORD_MODE_VALUES = {
+    "recordUntilFull", "recordContinuously", "recordAsMuchAsPossible", "echoToConsole"
+  };
+
+  private TracingCodecs() {}
+
+  /**
+   * Registers Tracing codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        RequestMemoryDump.class,
+        TracingCodecs::readRequestMemoryDump,
+        TracingCodecs::writeRequestMemoryDump);
+    module.addCodec(
+        StartTransferMode.class,
+        TracingCodecs::readStartTransferMode,
+        TracingCodecs::writeStartTransferMode);
+    module.addCodec(
+        StreamCompression.class,
+        TracingCodecs::readStreamCompression,
+        TracingCodecs::writeStreamCompression);
+    module.addCodec(
+        StreamFormat.class, TracingCodecs::readStreamFormat, TracingCodecs::writeStreamFormat);
+    module.addCodec(
+        TraceConfig.class, TracingCodecs::readTraceConfig, TracingCodecs::writeTraceConfig);
+    module.addCodec(
+        TraceConfigRecordMode.class,
+        TracingCodecs::readTraceConfigRecordMode,
+        TracingCodecs::writeTraceConfigRecordMode);
+    module.addReader(BufferUsage.class, TracingCodecs::readBufferUsage);
+    module.addReader(DataCollected.class, TracingCodecs::readDataCollected);
+    module.addReader(TracingComplete.class, TracingCodecs::readTracingComplete);
+  }
+
+  public static RequestMemoryDump readRequestMemoryDump(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    RequestMemoryDump result = new RequestMemoryDump();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "dumpGuid":
+          result.setDumpGuid(JsonCodecs.readString(parser));
+          break;
+        case "success":
+          result.setSuccess(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeRequestMemoryDump(JsonGenerator generator, RequestMemoryDump value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getDumpGuid() != null) {
+      generator.writeFieldName("dumpGuid");
+      JsonCodecs.writeString(generator, value.getDumpGuid());
+    }
+    if (value.getSuccess() != null) {
+      generator.writeFieldName("success");
+      JsonCodecs.writeBoolean(generator, value.getSuccess());
+    }
+    generator.writeEndObject();
+  }
+
+  public static StartTransferMode readStartTransferMode(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "ReportEvents":
+        return StartTransferMode.REPORT_EVENTS;
+      case "ReturnAsStream":
+        return StartTransferMode.RETURN_AS_STREAM;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, StartTransferMode.class, value);
+    }
+  }
+
+  public static void writeStartTransferMode(JsonGenerator generator, StartTransferMode value)
+      throws IOException {
+    generator.writeString(START_TRANSFER_MODE_VALUES[value.ordinal()]);
+  }
+
+  public static StreamCompression readStreamCompression(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "none":
+        return StreamCompression.NONE;
+      case "gzip":
+        return StreamCompression.GZIP;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, StreamCompression.class, value);
+    }
+  }
+
+  public static void writeStreamCompression(JsonGenerator generator, StreamCompression value)
+      throws IOException {
+    generator.writeString(STREAM_COMPRESSION_VALUES[value.ordinal()]);
+  }
+
+  public static StreamFormat readStreamFormat(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "json":
+        return StreamFormat.JSON;
+      case "proto":
+        return StreamFormat.PROTO;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, StreamFormat.class, value);
+    }
+  }
+
+  public static void writeStreamFormat(JsonGenerator generator, StreamFormat value)
+      throws IOException {
+    generator.writeString(STREAM_FORMAT_VALUES[value.ordinal()]);
+  }
+
+  public static TraceConfig readTraceConfig(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TraceConfig result = new TraceConfig();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "recordMode":
+          result.setRecordMode(readTraceConfigRecordMode(parser));
+          break;
+        case "enableSampling":
+          result.setEnableSampling(JsonCodecs.readBoolean(parser));
+          break;
+        case "enableSystrace":
+          result.setEnableSystrace(JsonCodecs.readBoolean(parser));
+          break;
+        case "enableArgumentFilter":
+          result.setEnableArgumentFilter(JsonCodecs.readBoolean(parser));
+          break;
+        case "includedCategories":
+          result.setIncludedCategories(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "excludedCategories":
+          result.setExcludedCategories(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "syntheticDelays":
+          result.setSyntheticDelays(JsonCodecs.readList(parser, JsonCodecs::readString));
+          break;
+        case "memoryDumpConfig":
+          result.setMemoryDumpConfig(JsonCodecs.readMap(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeTraceConfig(JsonGenerator generator, TraceConfig value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getRecordMode() != null) {
+      generator.writeFieldName("recordMode");
+      writeTraceConfigRecordMode(generator, value.getRecordMode());
+    }
+    if (value.getEnableSampling() != null) {
+      generator.writeFieldName("enableSampling");
+      JsonCodecs.writeBoolean(generator, value.getEnableSampling());
+    }
+    if (value.getEnableSystrace() != null) {
+      generator.writeFieldName("enableSystrace");
+      JsonCodecs.writeBoolean(generator, value.getEnableSystrace());
+    }
+    if (value.getEnableArgumentFilter() != null) {
+      generator.writeFieldName("enableArgumentFilter");
+      JsonCodecs.writeBoolean(generator, value.getEnableArgumentFilter());
+    }
+    if (value.getIncludedCategories() != null) {
+      generator.writeFieldName("includedCategories");
+      JsonCodecs.writeList(generator, value.getIncludedCategories(), JsonCodecs::writeString);
+    }
+    if (value.getExcludedCategories() != null) {
+      generator.writeFieldName("excludedCategories");
+      JsonCodecs.writeList(generator, value.getExcludedCategories(), JsonCodecs::writeString);
+    }
+    if (value.getSyntheticDelays() != null) {
+      generator.writeFieldName("syntheticDelays");
+      JsonCodecs.writeList(generator, value.getSyntheticDelays(), JsonCodecs::writeString);
+    }
+    if (value.getMemoryDumpConfig() != null) {
+      generator.writeFieldName("memoryDumpConfig");
+      JsonCodecs.writeObject(generator, value.getMemoryDumpConfig());
+    }
+    generator.writeEndObject();
+  }
+
+  public static TraceConfigRecordMode readTraceConfigRecordMode(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "recordUntilFull":
+        return TraceConfigRecordMode.RECORD_UNTIL_FULL;
+      case "recordContinuously":
+        return TraceConfigRecordMode.RECORD_CONTINUOUSLY;
+      case "recordAsMuchAsPossible":
+        return TraceConfigRecordMode.RECORD_AS_MUCH_AS_POSSIBLE;
+      case "echoToConsole":
+        return TraceConfigRecordMode.ECHO_TO_CONSOLE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, TraceConfigRecordMode.class, value);
+    }
+  }
+
+  public static void writeTraceConfigRecordMode(
+      JsonGenerator generator, TraceConfigRecordMode value) throws IOException {
+    generator.writeString(TRACE_CONFIG_RECORD_MODE_VALUES[value.ordinal()]);
+  }
+
+  public static BufferUsage readBufferUsage(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BufferUsage result = new BufferUsage();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "percentFull":
+          result.setPercentFull(JsonCodecs.readDouble(parser));
+          break;
+        case "eventCount":
+          result.setEventCount(JsonCodecs.readDouble(parser));
+          break;
+        case "value":
+          result.setValue(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static DataCollected readDataCollected(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    DataCollected result = new DataCollected();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "value":
+          result.setValue(JsonCodecs.readList(parser, JsonCodecs::readObject));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static TracingComplete readTracingComplete(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    TracingComplete result = new TracingComplete();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "dataLossOccurred":
+          result.setDataLossOccurred(JsonCodecs.readBoolean(parser));
+          break;
+        case "stream":
+          result.setStream(JsonCodecs.readString(parser));
+          break;
+        case "traceFormat":
+          result.setTraceFormat(readStreamFormat(parser));
+          break;
+        case "streamCompression":
+          result.setStreamCompression(readStreamCompression(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
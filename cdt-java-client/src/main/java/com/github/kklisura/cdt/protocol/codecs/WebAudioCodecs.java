@@ -0,0 +1,860 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioListenerCreated;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioListenerWillBeDestroyed;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioNodeCreated;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioNodeWillBeDestroyed;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioParamCreated;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioParamWillBeDestroyed;
+import com.github.kklisura.cdt.protocol.events.webaudio.ContextChanged;
+import com.github.kklisura.cdt.protocol.events.webaudio.ContextCreated;
+import com.github.kklisura.cdt.protocol.events.webaudio.ContextWillBeDestroyed;
+import com.github.kklisura.cdt.protocol.events.webaudio.NodeParamConnected;
+import com.github.kklisura.cdt.protocol.events.webaudio.NodeParamDisconnected;
+import com.github.kklisura.cdt.protocol.events.webaudio.NodesConnected;
+import com.github.kklisura.cdt.protocol.events.webaudio.NodesDisconnected;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.webaudio.AudioListener;
+import com.github.kklisura.cdt.protocol.types.webaudio.AudioNode;
+import com.github.kklisura.cdt.protocol.types.webaudio.AudioParam;
+import com.github.kklisura.cdt.protocol.types.webaudio.AutomationRate;
+import com.github.kklisura.cdt.protocol.types.webaudio.BaseAudioContext;
+import com.github.kklisura.cdt.protocol.types.webaudio.ChannelCountMode;
+import com.github.kklisura.cdt.protocol.types.webaudio.ChannelInterpretation;
+import com.github.kklisura.cdt.protocol.types.webaudio.ContextRealtimeData;
+import com.github.kklisura.cdt.protocol.types.webaudio.ContextState;
+import com.github.kklisura.cdt.protocol.types.webaudio.ContextType;
+import java.io.IOException;
+
+/** WebAudio domain type and event codecs. */
+public final class WebAudioCodecs {
+
+  private static final String[] AUTOMATION_RATE_VALUES = {"a-rate", "k-rate"};
+
+  private static final String[] CHANNEL_COUNT_MODE_VALUES = {"clamped-max", "explicit", "max"};
+
+  private static final String[] CHANNEL_INTERPRETATION_VALUES = {"discrete", "speakers"};
+
+  private static final String[] CONTEXT_STATE_VALUES = {"suspended", "running", "closed"};
+
+  private static final String[] CONTEXT_TYPE_VALUES = {"realtime", "offline"};
+
+  private WebAudioCodecs() {}
+
+  /**
+   * Registers WebAudio codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        AudioListener.class, WebAudioCodecs::readAudioListener, WebAudioCodecs::writeAudioListener);
+    module.addCodec(AudioNode.class, WebAudioCodecs::readAudioNode, WebAudioCodecs::writeAudioNode);
+    module.addCodec(
+        AudioParam.class, WebAudioCodecs::readAudioParam, WebAudioCodecs::writeAudioParam);
+    module.addCodec(
+        AutomationRate.class,
+        WebAudioCodecs::readAutomationRate,
+        WebAudioCodecs::writeAutomationRate);
+    module.addCodec(
+        BaseAudioContext.class,
+        WebAudioCodecs::readBaseAudioContext,
+        WebAudioCodecs::writeBaseAudioContext);
+    module.addCodec(
+        ChannelCountMode.class,
+        WebAudioCodecs::readChannelCountMode,
+        WebAudioCodecs::writeChannelCountMode);
+    module.addCodec(
+        ChannelInterpretation.class,
+        WebAudioCodecs::readChannelInterpretation,
+        WebAudioCodecs::writeChannelInterpretation);
+    module.addCodec(
+        ContextRealtimeData.class,
+        WebAudioCodecs::readContextRealtimeData,
+        WebAudioCodecs::writeContextRealtimeData);
+    module.addCodec(
+        ContextState.class, WebAudioCodecs::readContextState, WebAudioCodecs::writeContextState);
+    module.addCodec(
+        ContextType.class, WebAudioCodecs::readContextType, WebAudioCodecs::writeContextType);
+    module.addReader(AudioListenerCreated.class, WebAudioCodecs::readAudioListenerCreated);
+    module.addReader(
+        AudioListenerWillBeDestroyed.class, WebAudioCodecs::readAudioListenerWillBeDestroyed);
+    module.addReader(AudioNodeCreated.class, WebAudioCodecs::readAudioNodeCreated);
+    module.addReader(AudioNodeWillBeDestroyed.class, WebAudioCodecs::readAudioNodeWillBeDestroyed);
+    module.addReader(AudioParamCreated.class, WebAudioCodecs::readAudioParamCreated);
+    module.addReader(
+        AudioParamWillBeDestroyed.class, WebAudioCodecs::readAudioParamWillBeDestroyed);
+    module.addReader(ContextChanged.class, WebAudioCodecs::readContextChanged);
+    module.addReader(ContextCreated.class, WebAudioCodecs::readContextCreated);
+    module.addReader(ContextWillBeDestroyed.class, WebAudioCodecs::readContextWillBeDestroyed);
+    module.addReader(NodeParamConnected.class, WebAudioCodecs::readNodeParamConnected);
+    module.addReader(NodeParamDisconnected.class, WebAudioCodecs::readNodeParamDisconnected);
+    module.addReader(NodesConnected.class, WebAudioCodecs::readNodesConnected);
+    module.addReader(NodesDisconnected.class, WebAudioCodecs::readNodesDisconnected);
+  }
+
+  public static AudioListener readAudioListener(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AudioListener result = new AudioListener();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "listenerId":
+          result.setListenerId(JsonCodecs.readString(parser));
+          break;
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAudioListener(JsonGenerator generator, AudioListener value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getListenerId() != null) {
+      generator.writeFieldName("listenerId");
+      JsonCodecs.writeString(generator, value.getListenerId());
+    }
+    if (value.getContextId() != null) {
+      generator.writeFieldName("contextId");
+      JsonCodecs.writeString(generator, value.getContextId());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AudioNode readAudioNode(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AudioNode result = new AudioNode();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readString(parser));
+          break;
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        case "nodeType":
+          result.setNodeType(JsonCodecs.readString(parser));
+          break;
+        case "numberOfInputs":
+          result.setNumberOfInputs(JsonCodecs.readDouble(parser));
+          break;
+        case "numberOfOutputs":
+          result.setNumberOfOutputs(JsonCodecs.readDouble(parser));
+          break;
+        case "channelCount":
+          result.setChannelCount(JsonCodecs.readDouble(parser));
+          break;
+        case "channelCountMode":
+          result.setChannelCountMode(readChannelCountMode(parser));
+          break;
+        case "channelInterpretation":
+          result.setChannelInterpretation(readChannelInterpretation(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAudioNode(JsonGenerator generator, AudioNode value) throws IOException {
+    generator.writeStartObject();
+    if (value.getNodeId() != null) {
+      generator.writeFieldName("nodeId");
+      JsonCodecs.writeString(generator, value.getNodeId());
+    }
+    if (value.getContextId() != null) {
+      generator.writeFieldName("contextId");
+      JsonCodecs.writeString(generator, value.getContextId());
+    }
+    if (value.getNodeType() != null) {
+      generator.writeFieldName("nodeType");
+      JsonCodecs.writeString(generator, value.getNodeType());
+    }
+    if (value.getNumberOfInputs() != null) {
+      generator.writeFieldName("numberOfInputs");
+      JsonCodecs.writeDouble(generator, value.getNumberOfInputs());
+    }
+    if (value.getNumberOfOutputs() != null) {
+      generator.writeFieldName("numberOfOutputs");
+      JsonCodecs.writeDouble(generator, value.getNumberOfOutputs());
+    }
+    if (value.getChannelCount() != null) {
+      generator.writeFieldName("channelCount");
+      JsonCodecs.writeDouble(generator, value.getChannelCount());
+    }
+    if (value.getChannelCountMode() != null) {
+      generator.writeFieldName("channelCountMode");
+      writeChannelCountMode(generator, value.getChannelCountMode());
+    }
+    if (value.getChannelInterpretation() != null) {
+      generator.writeFieldName("channelInterpretation");
+      writeChannelInterpretation(generator, value.getChannelInterpretation());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AudioParam readAudioParam(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AudioParam result = new AudioParam();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "paramId":
+          result.setParamId(JsonCodecs.readString(parser));
+          break;
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readString(parser));
+          break;
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        case "paramType":
+          result.setParamType(JsonCodecs.readString(parser));
+          break;
+        case "rate":
+          result.setRate(readAutomationRate(parser));
+          break;
+        case "defaultValue":
+          result.setDefaultValue(JsonCodecs.readDouble(parser));
+          break;
+        case "minValue":
+          result.setMinValue(JsonCodecs.readDouble(parser));
+          break;
+        case "maxValue":
+          result.setMaxValue(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeAudioParam(JsonGenerator generator, AudioParam value) throws IOException {
+    generator.writeStartObject();
+    if (value.getParamId() != null) {
+      generator.writeFieldName("paramId");
+      JsonCodecs.writeString(generator, value.getParamId());
+    }
+    if (value.getNodeId() != null) {
+      generator.writeFieldName("nodeId");
+      JsonCodecs.writeString(generator, value.getNodeId());
+    }
+    if (value.getContextId() != null) {
+      generator.writeFieldName("contextId");
+      JsonCodecs.writeString(generator, value.getContextId());
+    }
+    if (value.getParamType() != null) {
+      generator.writeFieldName("paramType");
+      JsonCodecs.writeString(generator, value.getParamType());
+    }
+    if (value.getRate() != null) {
+      generator.writeFieldName("rate");
+      writeAutomationRate(generator, value.getRate());
+    }
+    if (value.getDefaultValue() != null) {
+      generator.writeFieldName("defaultValue");
+      JsonCodecs.writeDouble(generator, value.getDefaultValue());
+    }
+    if (value.getMinValue() != null) {
+      generator.writeFieldName("minValue");
+      JsonCodecs.writeDouble(generator, value.getMinValue());
+    }
+    if (value.getMaxValue() != null) {
+      generator.writeFieldName("maxValue");
+      JsonCodecs.writeDouble(generator, value.getMaxValue());
+    }
+    generator.writeEndObject();
+  }
+
+  public static AutomationRate readAutomationRate(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "a-rate":
+        return AutomationRate.A_RATE;
+      case "k-rate":
+        return AutomationRate.K_RATE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AutomationRate.class, value);
+    }
+  }
+
+  public static void writeAutomationRate(JsonGenerator generator, AutomationRate value)
+      throws IOException {
+    generator.writeString(AUTOMATION_RATE_VALUES[value.ordinal()]);
+  }
+
+  public static BaseAudioContext readBaseAudioContext(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    BaseAudioContext result = new BaseAudioContext();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        case "contextType":
+          result.setContextType(readContextType(parser));
+          break;
+        case "contextState":
+          result.setContextState(readContextState(parser));
+          break;
+        case "realtimeData":
+          result.setRealtimeData(readContextRealtimeData(parser));
+          break;
+        case "callbackBufferSize":
+          result.setCallbackBufferSize(JsonCodecs.readDouble(parser));
+          break;
+        case "maxOutputChannelCount":
+          result.setMaxOutputChannelCount(JsonCodecs.readDouble(parser));
+          break;
+        case "sampleRate":
+          result.setSampleRate(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeBaseAudioContext(JsonGenerator generator, BaseAudioContext value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getContextId() != null) {
+      generator.writeFieldName("contextId");
+      JsonCodecs.writeString(generator, value.getContextId());
+    }
+    if (value.getContextType() != null) {
+      generator.writeFieldName("contextType");
+      writeContextType(generator, value.getContextType());
+    }
+    if (value.getContextState() != null) {
+      generator.writeFieldName("contextState");
+      writeContextState(generator, value.getContextState());
+    }
+    if (value.getRealtimeData() != null) {
+      generator.writeFieldName("realtimeData");
+      writeContextRealtimeData(generator, value.getRealtimeData());
+    }
+    if (value.getCallbackBufferSize() != null) {
+      generator.writeFieldName("callbackBufferSize");
+      JsonCodecs.writeDouble(generator, value.getCallbackBufferSize());
+    }
+    if (value.getMaxOutputChannelCount() != null) {
+      generator.writeFieldName("maxOutputChannelCount");
+      JsonCodecs.writeDouble(generator, value.getMaxOutputChannelCount());
+    }
+    if (value.getSampleRate() != null) {
+      generator.writeFieldName("sampleRate");
+      JsonCodecs.writeDouble(generator, value.getSampleRate());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ChannelCountMode readChannelCountMode(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "clamped-max":
+        return ChannelCountMode.CLAMPED_MAX;
+      case "explicit":
+        return ChannelCountMode.EXPLICIT;
+      case "max":
+        return ChannelCountMode.MAX;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ChannelCountMode.class, value);
+    }
+  }
+
+  public static void writeChannelCountMode(JsonGenerator generator, ChannelCountMode value)
+      throws IOException {
+    generator.writeString(CHANNEL_COUNT_MODE_VALUES[value.ordinal()]);
+  }
+
+  public static ChannelInterpretation readChannelInterpretation(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "discrete":
+        return ChannelInterpretation.DISCRETE;
+      case "speakers":
+        return ChannelInterpretation.SPEAKERS;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ChannelInterpretation.class, value);
+    }
+  }
+
+  public static void writeChannelInterpretation(
+      JsonGenerator generator, ChannelInterpretation value) throws IOException {
+    generator.writeString(CHANNEL_INTERPRETATION_VALUES[value.ordinal()]);
+  }
+
+  public static ContextRealtimeData readContextRealtimeData(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ContextRealtimeData result = new ContextRealtimeData();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "currentTime":
+          result.setCurrentTime(JsonCodecs.readDouble(parser));
+          break;
+        case "renderCapacity":
+          result.setRenderCapacity(JsonCodecs.readDouble(parser));
+          break;
+        case "callbackIntervalMean":
+          result.setCallbackIntervalMean(JsonCodecs.readDouble(parser));
+          break;
+        case "callbackIntervalVariance":
+          result.setCallbackIntervalVariance(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeContextRealtimeData(JsonGenerator generator, ContextRealtimeData value)
+      throws IOException {
+    generator.writeStartObject();
+    if (value.getCurrentTime() != null) {
+      generator.writeFieldName("currentTime");
+      JsonCodecs.writeDouble(generator, value.getCurrentTime());
+    }
+    if (value.getRenderCapacity() != null) {
+      generator.writeFieldName("renderCapacity");
+      JsonCodecs.writeDouble(generator, value.getRenderCapacity());
+    }
+    if (value.getCallbackIntervalMean() != null) {
+      generator.writeFieldName("callbackIntervalMean");
+      JsonCodecs.writeDouble(generator, value.getCallbackIntervalMean());
+    }
+    if (value.getCallbackIntervalVariance() != null) {
+      generator.writeFieldName("callbackIntervalVariance");
+      JsonCodecs.writeDouble(generator, value.getCallbackIntervalVariance());
+    }
+    generator.writeEndObject();
+  }
+
+  public static ContextState readContextState(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "suspended":
+        return ContextState.SUSPENDED;
+      case "running":
+        return ContextState.RUNNING;
+      case "closed":
+        return ContextState.CLOSED;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ContextState.class, value);
+    }
+  }
+
+  public static void writeContextState(JsonGenerator generator, ContextState value)
+      throws IOException {
+    generator.writeString(CONTEXT_STATE_VALUES[value.ordinal()]);
+  }
+
+  public static ContextType readContextType(JsonParser parser) throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "realtime":
+        return ContextType.REALTIME;
+      case "offline":
+        return ContextType.OFFLINE;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, ContextType.class, value);
+    }
+  }
+
+  public static void writeContextType(JsonGenerator generator, ContextType value)
+      throws IOException {
+    generator.writeString(CONTEXT_TYPE_VALUES[value.ordinal()]);
+  }
+
+  public static AudioListenerCreated readAudioListenerCreated(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AudioListenerCreated result = new AudioListenerCreated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "listener":
+          result.setListener(readAudioListener(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static AudioListenerWillBeDestroyed readAudioListenerWillBeDestroyed(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AudioListenerWillBeDestroyed result = new AudioListenerWillBeDestroyed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        case "listenerId":
+          result.setListenerId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static AudioNodeCreated readAudioNodeCreated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AudioNodeCreated result = new AudioNodeCreated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "node":
+          result.setNode(readAudioNode(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static AudioNodeWillBeDestroyed readAudioNodeWillBeDestroyed(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AudioNodeWillBeDestroyed result = new AudioNodeWillBeDestroyed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static AudioParamCreated readAudioParamCreated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AudioParamCreated result = new AudioParamCreated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "param":
+          result.setParam(readAudioParam(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static AudioParamWillBeDestroyed readAudioParamWillBeDestroyed(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    AudioParamWillBeDestroyed result = new AudioParamWillBeDestroyed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        case "nodeId":
+          result.setNodeId(JsonCodecs.readString(parser));
+          break;
+        case "paramId":
+          result.setParamId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ContextChanged readContextChanged(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ContextChanged result = new ContextChanged();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "context":
+          result.setContext(readBaseAudioContext(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ContextCreated readContextCreated(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ContextCreated result = new ContextCreated();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "context":
+          result.setContext(readBaseAudioContext(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static ContextWillBeDestroyed readContextWillBeDestroyed(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    ContextWillBeDestroyed result = new ContextWillBeDestroyed();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static NodeParamConnected readNodeParamConnected(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NodeParamConnected result = new NodeParamConnected();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        case "sourceId":
+          result.setSourceId(JsonCodecs.readString(parser));
+          break;
+        case "destinationId":
+          result.setDestinationId(JsonCodecs.readString(parser));
+          break;
+        case "sourceOutputIndex":
+          result.setSourceOutputIndex(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static NodeParamDisconnected readNodeParamDisconnected(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NodeParamDisconnected result = new NodeParamDisconnected();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        case "sourceId":
+          result.setSourceId(JsonCodecs.readString(parser));
+          break;
+        case "destinationId":
+          result.setDestinationId(JsonCodecs.readString(parser));
+          break;
+        case "sourceOutputIndex":
+          result.setSourceOutputIndex(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static NodesConnected readNodesConnected(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NodesConnected result = new NodesConnected();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        case "sourceId":
+          result.setSourceId(JsonCodecs.readString(parser));
+          break;
+        case "destinationId":
+          result.setDestinationId(JsonCodecs.readString(parser));
+          break;
+        case "sourceOutputIndex":
+          result.setSourceOutputIndex(JsonCodecs.readDouble(parser));
+          break;
+        case "destinationInputIndex":
+          result.setDestinationInputIndex(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static NodesDisconnected readNodesDisconnected(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    NodesDisconnected result = new NodesDisconnected();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "contextId":
+          result.setContextId(JsonCodecs.readString(parser));
+          break;
+        case "sourceId":
+          result.setSourceId(JsonCodecs.readString(parser));
+          break;
+        case "destinationId":
+          result.setDestinationId(JsonCodecs.readString(parser));
+          break;
+        case "sourceOutputIndex":
+          result.setSourceOutputIndex(JsonCodecs.readDouble(parser));
+          break;
+        case "destinationInputIndex":
+          result.setDestinationInputIndex(JsonCodecs.readDouble(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,237 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.support.codecs.CodecModule;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.webauthn.AuthenticatorProtocol;
+import com.github.kklisura.cdt.protocol.types.webauthn.AuthenticatorTransport;
+import com.github.kklisura.cdt.protocol.types.webauthn.Credential;
+import com.github.kklisura.cdt.protocol.types.webauthn.VirtualAuthenticatorOptions;
+import java.io.IOException;
+
+/** WebAuthn domain type and event codecs. */
+public final class WebAuthnCodecs {
+
+  private static final String[] AUTHENTICATOR_PROTOCOL_VALUES = {"u2f", "ctap2"};
+
+  private static final String[] AUTHENTICATOR_TRANSPORT_VALUES = {
+    "usb", "nfc", "ble", "cable", "internal"
+  };
+
+  private WebAuthnCodecs() {}
+
+  /**
+   * Registers WebAuthn codecs with a codec module.
+   *
+   * @param module Codec module.
+   */
+  public static void register(CodecModule module) {
+    module.addCodec(
+        AuthenticatorProtocol.class,
+        WebAuthnCodecs::readAuthenticatorProtocol,
+        WebAuthnCodecs::writeAuthenticatorProtocol);
+    module.addCodec(
+        AuthenticatorTransport.class,
+        WebAuthnCodecs::readAuthenticatorTransport,
+        WebAuthnCodecs::writeAuthenticatorTransport);
+    module.addCodec(
+        Credential.class, WebAuthnCodecs::readCredential, WebAuthnCodecs::writeCredential);
+    module.addCodec(
+        VirtualAuthenticatorOptions.class,
+        WebAuthnCodecs::readVirtualAuthenticatorOptions,
+        WebAuthnCodecs::writeVirtualAuthenticatorOptions);
+  }
+
+  public static AuthenticatorProtocol readAuthenticatorProtocol(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "u2f":
+        return AuthenticatorProtocol.U_2F;
+      case "ctap2":
+        return AuthenticatorProtocol.CTAP_2;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AuthenticatorProtocol.class, value);
+    }
+  }
+
+  public static void writeAuthenticatorProtocol(
+      JsonGenerator generator, AuthenticatorProtocol value) throws IOException {
+    generator.writeString(AUTHENTICATOR_PROTOCOL_VALUES[value.ordinal()]);
+  }
+
+  public static AuthenticatorTransport readAuthenticatorTransport(JsonParser parser)
+      throws IOException {
+    String value = JsonCodecs.readString(parser);
+    if (value == null) {
+      return null;
+    }
+    switch (value) {
+      case "usb":
+        return AuthenticatorTransport.USB;
+      case "nfc":
+        return AuthenticatorTransport.NFC;
+      case "ble":
+        return AuthenticatorTransport.BLE;
+      case "cable":
+        return AuthenticatorTransport.CABLE;
+      case "internal":
+        return AuthenticatorTransport.INTERNAL;
+      default:
+        throw JsonCodecs.unknownEnumValue(parser, AuthenticatorTransport.class, value);
+    }
+  }
+
+  public static void writeAuthenticatorTransport(
+      JsonGenerator generator, AuthenticatorTransport value) throws IOException {
+    generator.writeString(AUTHENTICATOR_TRANSPORT_VALUES[value.ordinal()]);
+  }
+
+  public static Credential readCredential(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    Credential result = new Credential();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "credentialId":
+          result.setCredentialId(JsonCodecs.readString(parser));
+          break;
+        case "isResidentCredential":
+          result.setIsResidentCredential(JsonCodecs.readBoolean(parser));
+          break;
+        case "rpId":
+          result.setRpId(JsonCodecs.readString(parser));
+          break;
+        case "privateKey":
+          result.setPrivateKey(JsonCodecs.readString(parser));
+          break;
+        case "userHandle":
+          result.setUserHandle(JsonCodecs.readString(parser));
+          break;
+        case "signCount":
+          result.setSignCount(JsonCodecs.readInteger(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeCredential(JsonGenerator generator, Credential value) throws IOException {
+    generator.writeStartObject();
+    if (value.getCredentialId() != null) {
+      generator.writeFieldName("credentialId");
+      JsonCodecs.writeString(generator, value.getCredentialId());
+    }
+    if (value.getIsResidentCredential() != null) {
+      generator.writeFieldName("isResidentCredential");
+      JsonCodecs.writeBoolean(generator, value.getIsResidentCredential());
+    }
+    if (value.getRpId() != null) {
+      generator.writeFieldName("rpId");
+      JsonCodecs.writeString(generator, value.getRpId());
+    }
+    if (value.getPrivateKey() != null) {
+      generator.writeFieldName("privateKey");
+      JsonCodecs.writeString(generator, value.getPrivateKey());
+    }
+    if (value.getUserHandle() != null) {
+      generator.writeFieldName("userHandle");
+      JsonCodecs.writeString(generator, value.getUserHandle());
+    }
+    if (value.getSignCount() != null) {
+      generator.writeFieldName("signCount");
+      JsonCodecs.writeInteger(generator, value.getSignCount());
+    }
+    generator.writeEndObject();
+  }
+
+  public static VirtualAuthenticatorOptions readVirtualAuthenticatorOptions(JsonParser parser)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    VirtualAuthenticatorOptions result = new VirtualAuthenticatorOptions();
+    for (String field = JsonCodecs.firstFieldName(parser);
+        field != null;
+        field = parser.nextFieldName()) {
+      parser.nextToken();
+      switch (field) {
+        case "protocol":
+          result.setProtocol(readAuthenticatorProtocol(parser));
+          break;
+        case "transport":
+          result.setTransport(readAuthenticatorTransport(parser));
+          break;
+        case "hasResidentKey":
+          result.setHasResidentKey(JsonCodecs.readBoolean(parser));
+          break;
+        case "hasUserVerification":
+          result.setHasUserVerification(JsonCodecs.readBoolean(parser));
+          break;
+        case "automaticPresenceSimulation":
+          result.setAutomaticPresenceSimulation(JsonCodecs.readBoolean(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return result;
+  }
+
+  public static void writeVirtualAuthenticatorOptions(
+      JsonGenerator generator, VirtualAuthenticatorOptions value) throws IOException {
+    generator.writeStartObject();
+    if (value.getProtocol() != null) {
+      generator.writeFieldName("protocol");
+      writeAuthenticatorProtocol(generator, value.getProtocol());
+    }
+    if (value.getTransport() != null) {
+      generator.writeFieldName("transport");
+      writeAuthenticatorTransport(generator, value.getTransport());
+    }
+    if (value.getHasResidentKey() != null) {
+      generator.writeFieldName("hasResidentKey");
+      JsonCodecs.writeBoolean(generator, value.getHasResidentKey());
+    }
+    if (value.getHasUserVerification() != null) {
+      generator.writeFieldName("hasUserVerification");
+      JsonCodecs.writeBoolean(generator, value.getHasUserVerification());
+    }
+    if (value.getAutomaticPresenceSimulation() != null) {
+      generator.writeFieldName("automaticPresenceSimulation");
+      JsonCodecs.writeBoolean(generator, value.getAutomaticPresenceSimulation());
+    }
+    generator.writeEndObject();
+  }
+}
@@ -0,0 +1,85 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Accessibility;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.accessibility.AXNode;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Accessibility command implementation. */
+public class AccessibilityImpl implements Accessibility {
+
+  private final CommandInvoker invoker;
+
+  public AccessibilityImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Accessibility.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Accessibility.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<AXNode> getPartialAXTree() {
+    return invoker.invoke(
+        "Accessibility.getPartialAXTree",
+        Collections.emptyMap(),
+        "nodes",
+        List.class,
+        new Class<?>[] {AXNode.class});
+  }
+
+  @Override
+  public List<AXNode> getPartialAXTree(
+      Integer nodeId, Integer backendNodeId, String objectId, Boolean fetchRelatives) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("backendNodeId", backendNodeId);
+    params.put("objectId", objectId);
+    params.put("fetchRelatives", fetchRelatives);
+    return invoker.invoke(
+        "Accessibility.getPartialAXTree",
+        params,
+        "nodes",
+        List.class,
+        new Class<?>[] {AXNode.class});
+  }
+
+  @Override
+  public List<AXNode> getFullAXTree() {
+    return invoker.invoke(
+        "Accessibility.getFullAXTree",
+        Collections.emptyMap(),
+        "nodes",
+        List.class,
+        new Class<?>[] {AXNode.class});
+  }
+}
@@ -0,0 +1,132 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Animation;
+import com.github.kklisura.cdt.protocol.events.animation.AnimationCanceled;
+import com.github.kklisura.cdt.protocol.events.animation.AnimationCreated;
+import com.github.kklisura.cdt.protocol.events.animation.AnimationStarted;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.runtime.RemoteObject;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Animation command implementation. */
+public class AnimationImpl implements Animation {
+
+  private final CommandInvoker invoker;
+
+  public AnimationImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Animation.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Animation.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public Double getCurrentTime(String id) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("id", id);
+    return invoker.invoke("Animation.getCurrentTime", params, "currentTime", Double.class, null);
+  }
+
+  @Override
+  public Double getPlaybackRate() {
+    return invoker.invoke(
+        "Animation.getPlaybackRate", Collections.emptyMap(), "playbackRate", Double.class, null);
+  }
+
+  @Override
+  public void releaseAnimations(List<String> animations) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("animations", animations);
+    invoker.invoke("Animation.releaseAnimations", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public RemoteObject resolveAnimation(String animationId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("animationId", animationId);
+    return invoker.invoke(
+        "Animation.resolveAnimation", params, "remoteObject", RemoteObject.class, null);
+  }
+
+  @Override
+  public void seekAnimations(List<String> animations, Double currentTime) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("animations", animations);
+    params.put("currentTime", currentTime);
+    invoker.invoke("Animation.seekAnimations", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setPaused(List<String> animations, Boolean paused) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("animations", animations);
+    params.put("paused", paused);
+    invoker.invoke("Animation.setPaused", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setPlaybackRate(Double playbackRate) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("playbackRate", playbackRate);
+    invoker.invoke("Animation.setPlaybackRate", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setTiming(String animationId, Double duration, Double delay) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("animationId", animationId);
+    params.put("duration", duration);
+    params.put("delay", delay);
+    invoker.invoke("Animation.setTiming", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onAnimationCanceled(EventHandler<AnimationCanceled> eventListener) {
+    return invoker.addEventListener(
+        "Animation", "animationCanceled", eventListener, AnimationCanceled.class);
+  }
+
+  @Override
+  public EventListener onAnimationCreated(EventHandler<AnimationCreated> eventListener) {
+    return invoker.addEventListener(
+        "Animation", "animationCreated", eventListener, AnimationCreated.class);
+  }
+
+  @Override
+  public EventListener onAnimationStarted(EventHandler<AnimationStarted> eventListener) {
+    return invoker.addEventListener(
+        "Animation", "animationStarted", eventListener, AnimationStarted.class);
+  }
+}
@@ -0,0 +1,95 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.ApplicationCache;
+import com.github.kklisura.cdt.protocol.events.applicationcache.ApplicationCacheStatusUpdated;
+import com.github.kklisura.cdt.protocol.events.applicationcache.NetworkStateUpdated;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.applicationcache.FrameWithManifest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** ApplicationCache command implementation. */
+public class ApplicationCacheImpl implements ApplicationCache {
+
+  private final CommandInvoker invoker;
+
+  public ApplicationCacheImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("ApplicationCache.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public com.github.kklisura.cdt.protocol.types.applicationcache.ApplicationCache
+      getApplicationCacheForFrame(String frameId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    return invoker.invoke(
+        "ApplicationCache.getApplicationCacheForFrame",
+        params,
+        "applicationCache",
+        com.github.kklisura.cdt.protocol.types.applicationcache.ApplicationCache.class,
+        null);
+  }
+
+  @Override
+  public List<FrameWithManifest> getFramesWithManifests() {
+    return invoker.invoke(
+        "ApplicationCache.getFramesWithManifests",
+        Collections.emptyMap(),
+        "frameIds",
+        List.class,
+        new Class<?>[] {FrameWithManifest.class});
+  }
+
+  @Override
+  public String getManifestForFrame(String frameId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    return invoker.invoke(
+        "ApplicationCache.getManifestForFrame", params, "manifestURL", String.class, null);
+  }
+
+  @Override
+  public EventListener onApplicationCacheStatusUpdated(
+      EventHandler<ApplicationCacheStatusUpdated> eventListener) {
+    return invoker.addEventListener(
+        "ApplicationCache",
+        "applicationCacheStatusUpdated",
+        eventListener,
+        ApplicationCacheStatusUpdated.class);
+  }
+
+  @Override
+  public EventListener onNetworkStateUpdated(EventHandler<NetworkStateUpdated> eventListener) {
+    return invoker.addEventListener(
+        "ApplicationCache", "networkStateUpdated", eventListener, NetworkStateUpdated.class);
+  }
+}
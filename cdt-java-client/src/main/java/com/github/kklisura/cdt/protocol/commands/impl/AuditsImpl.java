@@ -0,0 +1,57 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Audits;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.audits.EncodedResponse;
+import com.github.kklisura.cdt.protocol.types.audits.GetEncodedResponseEncoding;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Audits command implementation. */
+public class AuditsImpl implements Audits {
+
+  private final CommandInvoker invoker;
+
+  public AuditsImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public EncodedResponse getEncodedResponse(String requestId, GetEncodedResponseEncoding encoding) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    params.put("encoding", encoding);
+    return invoker.invoke("Audits.getEncodedResponse", params, null, EncodedResponse.class, null);
+  }
+
+  @Override
+  public EncodedResponse getEncodedResponse(
+      String requestId, GetEncodedResponseEncoding encoding, Double quality, Boolean sizeOnly) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    params.put("encoding", encoding);
+    params.put("quality", quality);
+    params.put("sizeOnly", sizeOnly);
+    return invoker.invoke("Audits.getEncodedResponse", params, null, EncodedResponse.class, null);
+  }
+}
@@ -0,0 +1,86 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.BackgroundService;
+import com.github.kklisura.cdt.protocol.events.backgroundservice.BackgroundServiceEventReceived;
+import com.github.kklisura.cdt.protocol.events.backgroundservice.RecordingStateChanged;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.backgroundservice.ServiceName;
+import java.util.HashMap;
+import java.util.Map;
+
+/** BackgroundService command implementation. */
+public class BackgroundServiceImpl implements BackgroundService {
+
+  private final CommandInvoker invoker;
+
+  public BackgroundServiceImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void startObserving(ServiceName service) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("service", service);
+    invoker.invoke("BackgroundService.startObserving", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stopObserving(ServiceName service) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("service", service);
+    invoker.invoke("BackgroundService.stopObserving", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setRecording(Boolean shouldRecord, ServiceName service) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("shouldRecord", shouldRecord);
+    params.put("service", service);
+    invoker.invoke("BackgroundService.setRecording", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void clearEvents(ServiceName service) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("service", service);
+    invoker.invoke("BackgroundService.clearEvents", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onRecordingStateChanged(EventHandler<RecordingStateChanged> eventListener) {
+    return invoker.addEventListener(
+        "BackgroundService", "recordingStateChanged", eventListener, RecordingStateChanged.class);
+  }
+
+  @Override
+  public EventListener onBackgroundServiceEventReceived(
+      EventHandler<BackgroundServiceEventReceived> eventListener) {
+    return invoker.addEventListener(
+        "BackgroundService",
+        "backgroundServiceEventReceived",
+        eventListener,
+        BackgroundServiceEventReceived.class);
+  }
+}
@@ -0,0 +1,208 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Browser;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.browser.Bounds;
+import com.github.kklisura.cdt.protocol.types.browser.Histogram;
+import com.github.kklisura.cdt.protocol.types.browser.PermissionDescriptor;
+import com.github.kklisura.cdt.protocol.types.browser.PermissionSetting;
+import com.github.kklisura.cdt.protocol.types.browser.PermissionType;
+import com.github.kklisura.cdt.protocol.types.browser.Version;
+import com.github.kklisura.cdt.protocol.types.browser.WindowForTarget;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Browser command implementation. */
+public class BrowserImpl implements Browser {
+
+  private final CommandInvoker invoker;
+
+  public BrowserImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void setPermission(
+      String origin, PermissionDescriptor permission, PermissionSetting setting) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    params.put("permission", permission);
+    params.put("setting", setting);
+    invoker.invoke("Browser.setPermission", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setPermission(
+      String origin,
+      PermissionDescriptor permission,
+      PermissionSetting setting,
+      String browserContextId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    params.put("permission", permission);
+    params.put("setting", setting);
+    params.put("browserContextId", browserContextId);
+    invoker.invoke("Browser.setPermission", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void grantPermissions(String origin, List<PermissionType> permissions) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    params.put("permissions", permissions);
+    invoker.invoke("Browser.grantPermissions", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void grantPermissions(
+      String origin, List<PermissionType> permissions, String browserContextId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    params.put("permissions", permissions);
+    params.put("browserContextId", browserContextId);
+    invoker.invoke("Browser.grantPermissions", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void resetPermissions() {
+    invoker.invoke("Browser.resetPermissions", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void resetPermissions(String browserContextId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("browserContextId", browserContextId);
+    invoker.invoke("Browser.resetPermissions", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void close() {
+    invoker.invoke("Browser.close", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void crash() {
+    invoker.invoke("Browser.crash", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void crashGpuProcess() {
+    invoker.invoke("Browser.crashGpuProcess", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public Version getVersion() {
+    return invoker.invoke("Browser.getVersion", Collections.emptyMap(), null, Version.class, null);
+  }
+
+  @Override
+  public List<String> getBrowserCommandLine() {
+    return invoker.invoke(
+        "Browser.getBrowserCommandLine",
+        Collections.emptyMap(),
+        "arguments",
+        List.class,
+        new Class<?>[] {String.class});
+  }
+
+  @Override
+  public List<Histogram> getHistograms() {
+    return invoker.invoke(
+        "Browser.getHistograms",
+        Collections.emptyMap(),
+        "histograms",
+        List.class,
+        new Class<?>[] {Histogram.class});
+  }
+
+  @Override
+  public List<Histogram> getHistograms(String query, Boolean delta) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("query", query);
+    params.put("delta", delta);
+    return invoker.invoke(
+        "Browser.getHistograms",
+        params,
+        "histograms",
+        List.class,
+        new Class<?>[] {Histogram.class});
+  }
+
+  @Override
+  public Histogram getHistogram(String name) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("name", name);
+    return invoker.invoke("Browser.getHistogram", params, "histogram", Histogram.class, null);
+  }
+
+  @Override
+  public Histogram getHistogram(String name, Boolean delta) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("name", name);
+    params.put("delta", delta);
+    return invoker.invoke("Browser.getHistogram", params, "histogram", Histogram.class, null);
+  }
+
+  @Override
+  public Bounds getWindowBounds(Integer windowId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("windowId", windowId);
+    return invoker.invoke("Browser.getWindowBounds", params, "bounds", Bounds.class, null);
+  }
+
+  @Override
+  public WindowForTarget getWindowForTarget() {
+    return invoker.invoke(
+        "Browser.getWindowForTarget", Collections.emptyMap(), null, WindowForTarget.class, null);
+  }
+
+  @Override
+  public WindowForTarget getWindowForTarget(String targetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("targetId", targetId);
+    return invoker.invoke("Browser.getWindowForTarget", params, null, WindowForTarget.class, null);
+  }
+
+  @Override
+  public void setWindowBounds(Integer windowId, Bounds bounds) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("windowId", windowId);
+    params.put("bounds", bounds);
+    invoker.invoke("Browser.setWindowBounds", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDockTile() {
+    invoker.invoke("Browser.setDockTile", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDockTile(String badgeLabel, String image) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("badgeLabel", badgeLabel);
+    params.put("image", image);
+    invoker.invoke("Browser.setDockTile", params, null, Void.TYPE, null);
+  }
+}
@@ -0,0 +1,270 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.CSS;
+import com.github.kklisura.cdt.protocol.events.css.FontsUpdated;
+import com.github.kklisura.cdt.protocol.events.css.MediaQueryResultChanged;
+import com.github.kklisura.cdt.protocol.events.css.StyleSheetAdded;
+import com.github.kklisura.cdt.protocol.events.css.StyleSheetChanged;
+import com.github.kklisura.cdt.protocol.events.css.StyleSheetRemoved;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.css.BackgroundColors;
+import com.github.kklisura.cdt.protocol.types.css.CSSComputedStyleProperty;
+import com.github.kklisura.cdt.protocol.types.css.CSSMedia;
+import com.github.kklisura.cdt.protocol.types.css.CSSRule;
+import com.github.kklisura.cdt.protocol.types.css.CSSStyle;
+import com.github.kklisura.cdt.protocol.types.css.InlineStylesForNode;
+import com.github.kklisura.cdt.protocol.types.css.MatchedStylesForNode;
+import com.github.kklisura.cdt.protocol.types.css.PlatformFontUsage;
+import com.github.kklisura.cdt.protocol.types.css.RuleUsage;
+import com.github.kklisura.cdt.protocol.types.css.SelectorList;
+import com.github.kklisura.cdt.protocol.types.css.SourceRange;
+import com.github.kklisura.cdt.protocol.types.css.StyleDeclarationEdit;
+import com.github.kklisura.cdt.protocol.types.css.Value;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** CSS command implementation. */
+public class CSSImpl implements CSS {
+
+  private final CommandInvoker invoker;
+
+  public CSSImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public CSSRule addRule(String styleSheetId, String ruleText, SourceRange location) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("styleSheetId", styleSheetId);
+    params.put("ruleText", ruleText);
+    params.put("location", location);
+    return invoker.invoke("CSS.addRule", params, "rule", CSSRule.class, null);
+  }
+
+  @Override
+  public List<String> collectClassNames(String styleSheetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("styleSheetId", styleSheetId);
+    return invoker.invoke(
+        "CSS.collectClassNames", params, "classNames", List.class, new Class<?>[] {String.class});
+  }
+
+  @Override
+  public String createStyleSheet(String frameId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    return invoker.invoke("CSS.createStyleSheet", params, "styleSheetId", String.class, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("CSS.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("CSS.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void forcePseudoState(Integer nodeId, List<String> forcedPseudoClasses) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("forcedPseudoClasses", forcedPseudoClasses);
+    invoker.invoke("CSS.forcePseudoState", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public BackgroundColors getBackgroundColors(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    return invoker.invoke("CSS.getBackgroundColors", params, null, BackgroundColors.class, null);
+  }
+
+  @Override
+  public List<CSSComputedStyleProperty> getComputedStyleForNode(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    return invoker.invoke(
+        "CSS.getComputedStyleForNode",
+        params,
+        "computedStyle",
+        List.class,
+        new Class<?>[] {CSSComputedStyleProperty.class});
+  }
+
+  @Override
+  public InlineStylesForNode getInlineStylesForNode(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    return invoker.invoke(
+        "CSS.getInlineStylesForNode", params, null, InlineStylesForNode.class, null);
+  }
+
+  @Override
+  public MatchedStylesForNode getMatchedStylesForNode(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    return invoker.invoke(
+        "CSS.getMatchedStylesForNode", params, null, MatchedStylesForNode.class, null);
+  }
+
+  @Override
+  public List<CSSMedia> getMediaQueries() {
+    return invoker.invoke(
+        "CSS.getMediaQueries",
+        Collections.emptyMap(),
+        "medias",
+        List.class,
+        new Class<?>[] {CSSMedia.class});
+  }
+
+  @Override
+  public List<PlatformFontUsage> getPlatformFontsForNode(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    return invoker.invoke(
+        "CSS.getPlatformFontsForNode",
+        params,
+        "fonts",
+        List.class,
+        new Class<?>[] {PlatformFontUsage.class});
+  }
+
+  @Override
+  public String getStyleSheetText(String styleSheetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("styleSheetId", styleSheetId);
+    return invoker.invoke("CSS.getStyleSheetText", params, "text", String.class, null);
+  }
+
+  @Override
+  public void setEffectivePropertyValueForNode(Integer nodeId, String propertyName, String value) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("propertyName", propertyName);
+    params.put("value", value);
+    invoker.invoke("CSS.setEffectivePropertyValueForNode", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public Value setKeyframeKey(String styleSheetId, SourceRange range, String keyText) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("styleSheetId", styleSheetId);
+    params.put("range", range);
+    params.put("keyText", keyText);
+    return invoker.invoke("CSS.setKeyframeKey", params, "keyText", Value.class, null);
+  }
+
+  @Override
+  public CSSMedia setMediaText(String styleSheetId, SourceRange range, String text) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("styleSheetId", styleSheetId);
+    params.put("range", range);
+    params.put("text", text);
+    return invoker.invoke("CSS.setMediaText", params, "media", CSSMedia.class, null);
+  }
+
+  @Override
+  public SelectorList setRuleSelector(String styleSheetId, SourceRange range, String selector) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("styleSheetId", styleSheetId);
+    params.put("range", range);
+    params.put("selector", selector);
+    return invoker.invoke("CSS.setRuleSelector", params, "selectorList", SelectorList.class, null);
+  }
+
+  @Override
+  public String setStyleSheetText(String styleSheetId, String text) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("styleSheetId", styleSheetId);
+    params.put("text", text);
+    return invoker.invoke("CSS.setStyleSheetText", params, "sourceMapURL", String.class, null);
+  }
+
+  @Override
+  public List<CSSStyle> setStyleTexts(List<StyleDeclarationEdit> edits) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("edits", edits);
+    return invoker.invoke(
+        "CSS.setStyleTexts", params, "styles", List.class, new Class<?>[] {CSSStyle.class});
+  }
+
+  @Override
+  public void startRuleUsageTracking() {
+    invoker.invoke("CSS.startRuleUsageTracking", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<RuleUsage> stopRuleUsageTracking() {
+    return invoker.invoke(
+        "CSS.stopRuleUsageTracking",
+        Collections.emptyMap(),
+        "ruleUsage",
+        List.class,
+        new Class<?>[] {RuleUsage.class});
+  }
+
+  @Override
+  public List<RuleUsage> takeCoverageDelta() {
+    return invoker.invoke(
+        "CSS.takeCoverageDelta",
+        Collections.emptyMap(),
+        "coverage",
+        List.class,
+        new Class<?>[] {RuleUsage.class});
+  }
+
+  @Override
+  public EventListener onFontsUpdated(EventHandler<FontsUpdated> eventListener) {
+    return invoker.addEventListener("CSS", "fontsUpdated", eventListener, FontsUpdated.class);
+  }
+
+  @Override
+  public EventListener onMediaQueryResultChanged(
+      EventHandler<MediaQueryResultChanged> eventListener) {
+    return invoker.addEventListener(
+        "CSS", "mediaQueryResultChanged", eventListener, MediaQueryResultChanged.class);
+  }
+
+  @Override
+  public EventListener onStyleSheetAdded(EventHandler<StyleSheetAdded> eventListener) {
+    return invoker.addEventListener("CSS", "styleSheetAdded", eventListener, StyleSheetAdded.class);
+  }
+
+  @Override
+  public EventListener onStyleSheetChanged(EventHandler<StyleSheetChanged> eventListener) {
+    return invoker.addEventListener(
+        "CSS", "styleSheetChanged", eventListener, StyleSheetChanged.class);
+  }
+
+  @Override
+  public EventListener onStyleSheetRemoved(EventHandler<StyleSheetRemoved> eventListener) {
+    return invoker.addEventListener(
+        "CSS", "styleSheetRemoved", eventListener, StyleSheetRemoved.class);
+  }
+}
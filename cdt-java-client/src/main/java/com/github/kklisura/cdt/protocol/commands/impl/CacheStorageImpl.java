@@ -0,0 +1,99 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.CacheStorage;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.cachestorage.Cache;
+import com.github.kklisura.cdt.protocol.types.cachestorage.CachedResponse;
+import com.github.kklisura.cdt.protocol.types.cachestorage.Header;
+import com.github.kklisura.cdt.protocol.types.cachestorage.RequestEntries;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** CacheStorage command implementation. */
+public class CacheStorageImpl implements CacheStorage {
+
+  private final CommandInvoker invoker;
+
+  public CacheStorageImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void deleteCache(String cacheId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("cacheId", cacheId);
+    invoker.invoke("CacheStorage.deleteCache", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void deleteEntry(String cacheId, String request) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("cacheId", cacheId);
+    params.put("request", request);
+    invoker.invoke("CacheStorage.deleteEntry", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<Cache> requestCacheNames(String securityOrigin) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("securityOrigin", securityOrigin);
+    return invoker.invoke(
+        "CacheStorage.requestCacheNames",
+        params,
+        "caches",
+        List.class,
+        new Class<?>[] {Cache.class});
+  }
+
+  @Override
+  public CachedResponse requestCachedResponse(
+      String cacheId, String requestURL, List<Header> requestHeaders) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("cacheId", cacheId);
+    params.put("requestURL", requestURL);
+    params.put("requestHeaders", requestHeaders);
+    return invoker.invoke(
+        "CacheStorage.requestCachedResponse", params, "response", CachedResponse.class, null);
+  }
+
+  @Override
+  public RequestEntries requestEntries(String cacheId, Integer skipCount, Integer pageSize) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("cacheId", cacheId);
+    params.put("skipCount", skipCount);
+    params.put("pageSize", pageSize);
+    return invoker.invoke("CacheStorage.requestEntries", params, null, RequestEntries.class, null);
+  }
+
+  @Override
+  public RequestEntries requestEntries(
+      String cacheId, Integer skipCount, Integer pageSize, String pathFilter) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("cacheId", cacheId);
+    params.put("skipCount", skipCount);
+    params.put("pageSize", pageSize);
+    params.put("pathFilter", pathFilter);
+    return invoker.invoke("CacheStorage.requestEntries", params, null, RequestEntries.class, null);
+  }
+}
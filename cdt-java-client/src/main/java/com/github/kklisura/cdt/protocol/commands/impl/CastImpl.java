@@ -0,0 +1,89 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Cast;
+import com.github.kklisura.cdt.protocol.events.cast.IssueUpdated;
+import com.github.kklisura.cdt.protocol.events.cast.SinksUpdated;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Cast command implementation. */
+public class CastImpl implements Cast {
+
+  private final CommandInvoker invoker;
+
+  public CastImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Cast.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable(String presentationUrl) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("presentationUrl", presentationUrl);
+    invoker.invoke("Cast.enable", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Cast.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setSinkToUse(String sinkName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("sinkName", sinkName);
+    invoker.invoke("Cast.setSinkToUse", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startTabMirroring(String sinkName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("sinkName", sinkName);
+    invoker.invoke("Cast.startTabMirroring", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stopCasting(String sinkName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("sinkName", sinkName);
+    invoker.invoke("Cast.stopCasting", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onSinksUpdated(EventHandler<SinksUpdated> eventListener) {
+    return invoker.addEventListener("Cast", "sinksUpdated", eventListener, SinksUpdated.class);
+  }
+
+  @Override
+  public EventListener onIssueUpdated(EventHandler<IssueUpdated> eventListener) {
+    return invoker.addEventListener("Cast", "issueUpdated", eventListener, IssueUpdated.class);
+  }
+}
@@ -0,0 +1,58 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Console;
+import com.github.kklisura.cdt.protocol.events.console.MessageAdded;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import java.util.Collections;
+
+/** Console command implementation. */
+public class ConsoleImpl implements Console {
+
+  private final CommandInvoker invoker;
+
+  public ConsoleImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void clearMessages() {
+    invoker.invoke("Console.clearMessages", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Console.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Console.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onMessageAdded(EventHandler<MessageAdded> eventListener) {
+    return invoker.addEventListener("Console", "messageAdded", eventListener, MessageAdded.class);
+  }
+}
@@ -0,0 +1,139 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.DOMDebugger;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.domdebugger.DOMBreakpointType;
+import com.github.kklisura.cdt.protocol.types.domdebugger.EventListener;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** DOMDebugger command implementation. */
+public class DOMDebuggerImpl implements DOMDebugger {
+
+  private final CommandInvoker invoker;
+
+  public DOMDebuggerImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public List<EventListener> getEventListeners(String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    return invoker.invoke(
+        "DOMDebugger.getEventListeners",
+        params,
+        "listeners",
+        List.class,
+        new Class<?>[] {EventListener.class});
+  }
+
+  @Override
+  public List<EventListener> getEventListeners(String objectId, Integer depth, Boolean pierce) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    params.put("depth", depth);
+    params.put("pierce", pierce);
+    return invoker.invoke(
+        "DOMDebugger.getEventListeners",
+        params,
+        "listeners",
+        List.class,
+        new Class<?>[] {EventListener.class});
+  }
+
+  @Override
+  public void removeDOMBreakpoint(Integer nodeId, DOMBreakpointType type) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("type", type);
+    invoker.invoke("DOMDebugger.removeDOMBreakpoint", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void removeEventListenerBreakpoint(String eventName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("eventName", eventName);
+    invoker.invoke("DOMDebugger.removeEventListenerBreakpoint", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void removeEventListenerBreakpoint(String eventName, String targetName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("eventName", eventName);
+    params.put("targetName", targetName);
+    invoker.invoke("DOMDebugger.removeEventListenerBreakpoint", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void removeInstrumentationBreakpoint(String eventName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("eventName", eventName);
+    invoker.invoke("DOMDebugger.removeInstrumentationBreakpoint", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void removeXHRBreakpoint(String url) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", url);
+    invoker.invoke("DOMDebugger.removeXHRBreakpoint", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDOMBreakpoint(Integer nodeId, DOMBreakpointType type) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("type", type);
+    invoker.invoke("DOMDebugger.setDOMBreakpoint", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setEventListenerBreakpoint(String eventName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("eventName", eventName);
+    invoker.invoke("DOMDebugger.setEventListenerBreakpoint", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setEventListenerBreakpoint(String eventName, String targetName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("eventName", eventName);
+    params.put("targetName", targetName);
+    invoker.invoke("DOMDebugger.setEventListenerBreakpoint", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setInstrumentationBreakpoint(String eventName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("eventName", eventName);
+    invoker.invoke("DOMDebugger.setInstrumentationBreakpoint", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setXHRBreakpoint(String url) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", url);
+    invoker.invoke("DOMDebugger.setXHRBreakpoint", params, null, Void.TYPE, null);
+  }
+}
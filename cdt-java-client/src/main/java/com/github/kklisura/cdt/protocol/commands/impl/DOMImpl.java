@@ -0,0 +1,592 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.DOM;
+import com.github.kklisura.cdt.protocol.events.dom.AttributeModified;
+import com.github.kklisura.cdt.protocol.events.dom.AttributeRemoved;
+import com.github.kklisura.cdt.protocol.events.dom.CharacterDataModified;
+import com.github.kklisura.cdt.protocol.events.dom.ChildNodeCountUpdated;
+import com.github.kklisura.cdt.protocol.events.dom.ChildNodeInserted;
+import com.github.kklisura.cdt.protocol.events.dom.ChildNodeRemoved;
+import com.github.kklisura.cdt.protocol.events.dom.DistributedNodesUpdated;
+import com.github.kklisura.cdt.protocol.events.dom.DocumentUpdated;
+import com.github.kklisura.cdt.protocol.events.dom.InlineStyleInvalidated;
+import com.github.kklisura.cdt.protocol.events.dom.PseudoElementAdded;
+import com.github.kklisura.cdt.protocol.events.dom.PseudoElementRemoved;
+import com.github.kklisura.cdt.protocol.events.dom.SetChildNodes;
+import com.github.kklisura.cdt.protocol.events.dom.ShadowRootPopped;
+import com.github.kklisura.cdt.protocol.events.dom.ShadowRootPushed;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.dom.BoxModel;
+import com.github.kklisura.cdt.protocol.types.dom.FrameOwner;
+import com.github.kklisura.cdt.protocol.types.dom.Node;
+import com.github.kklisura.cdt.protocol.types.dom.NodeForLocation;
+import com.github.kklisura.cdt.protocol.types.dom.PerformSearch;
+import com.github.kklisura.cdt.protocol.types.runtime.RemoteObject;
+import com.github.kklisura.cdt.protocol.types.runtime.StackTrace;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** DOM command implementation. */
+public class DOMImpl implements DOM {
+
+  private final CommandInvoker invoker;
+
+  public DOMImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public List<String> collectClassNamesFromSubtree(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    return invoker.invoke(
+        "DOM.collectClassNamesFromSubtree",
+        params,
+        "classNames",
+        List.class,
+        new Class<?>[] {String.class});
+  }
+
+  @Override
+  public Integer copyTo(Integer nodeId, Integer targetNodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("targetNodeId", targetNodeId);
+    return invoker.invoke("DOM.copyTo", params, "nodeId", Integer.class, null);
+  }
+
+  @Override
+  public Integer copyTo(Integer nodeId, Integer targetNodeId, Integer insertBeforeNodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("targetNodeId", targetNodeId);
+    params.put("insertBeforeNodeId", insertBeforeNodeId);
+    return invoker.invoke("DOM.copyTo", params, "nodeId", Integer.class, null);
+  }
+
+  @Override
+  public Node describeNode() {
+    return invoker.invoke("DOM.describeNode", Collections.emptyMap(), "node", Node.class, null);
+  }
+
+  @Override
+  public Node describeNode(
+      Integer nodeId, Integer backendNodeId, String objectId, Integer depth, Boolean pierce) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("backendNodeId", backendNodeId);
+    params.put("objectId", objectId);
+    params.put("depth", depth);
+    params.put("pierce", pierce);
+    return invoker.invoke("DOM.describeNode", params, "node", Node.class, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("DOM.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void discardSearchResults(String searchId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("searchId", searchId);
+    invoker.invoke("DOM.discardSearchResults", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("DOM.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void focus() {
+    invoker.invoke("DOM.focus", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void focus(Integer nodeId, Integer backendNodeId, String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("backendNodeId", backendNodeId);
+    params.put("objectId", objectId);
+    invoker.invoke("DOM.focus", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<String> getAttributes(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    return invoker.invoke(
+        "DOM.getAttributes", params, "attributes", List.class, new Class<?>[] {String.class});
+  }
+
+  @Override
+  public BoxModel getBoxModel() {
+    return invoker.invoke("DOM.getBoxModel", Collections.emptyMap(), "model", BoxModel.class, null);
+  }
+
+  @Override
+  public BoxModel getBoxModel(Integer nodeId, Integer backendNodeId, String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("backendNodeId", backendNodeId);
+    params.put("objectId", objectId);
+    return invoker.invoke("DOM.getBoxModel", params, "model", BoxModel.class, null);
+  }
+
+  @Override
+  public List<List<Double>> getContentQuads() {
+    return invoker.invoke(
+        "DOM.getContentQuads",
+        Collections.emptyMap(),
+        "quads",
+        List.class,
+        new Class<?>[] {List.class, Double.class});
+  }
+
+  @Override
+  public List<List<Double>> getContentQuads(
+      Integer nodeId, Integer backendNodeId, String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("backendNodeId", backendNodeId);
+    params.put("objectId", objectId);
+    return invoker.invoke(
+        "DOM.getContentQuads",
+        params,
+        "quads",
+        List.class,
+        new Class<?>[] {List.class, Double.class});
+  }
+
+  @Override
+  public Node getDocument() {
+    return invoker.invoke("DOM.getDocument", Collections.emptyMap(), "root", Node.class, null);
+  }
+
+  @Override
+  public Node getDocument(Integer depth, Boolean pierce) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("depth", depth);
+    params.put("pierce", pierce);
+    return invoker.invoke("DOM.getDocument", params, "root", Node.class, null);
+  }
+
+  @Override
+  public List<Node> getFlattenedDocument() {
+    return invoker.invoke(
+        "DOM.getFlattenedDocument",
+        Collections.emptyMap(),
+        "nodes",
+        List.class,
+        new Class<?>[] {Node.class});
+  }
+
+  @Override
+  public List<Node> getFlattenedDocument(Integer depth, Boolean pierce) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("depth", depth);
+    params.put("pierce", pierce);
+    return invoker.invoke(
+        "DOM.getFlattenedDocument", params, "nodes", List.class, new Class<?>[] {Node.class});
+  }
+
+  @Override
+  public NodeForLocation getNodeForLocation(Integer x, Integer y) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("x", x);
+    params.put("y", y);
+    return invoker.invoke("DOM.getNodeForLocation", params, null, NodeForLocation.class, null);
+  }
+
+  @Override
+  public NodeForLocation getNodeForLocation(
+      Integer x, Integer y, Boolean includeUserAgentShadowDOM) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("x", x);
+    params.put("y", y);
+    params.put("includeUserAgentShadowDOM", includeUserAgentShadowDOM);
+    return invoker.invoke("DOM.getNodeForLocation", params, null, NodeForLocation.class, null);
+  }
+
+  @Override
+  public String getOuterHTML() {
+    return invoker.invoke(
+        "DOM.getOuterHTML", Collections.emptyMap(), "outerHTML", String.class, null);
+  }
+
+  @Override
+  public String getOuterHTML(Integer nodeId, Integer backendNodeId, String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("backendNodeId", backendNodeId);
+    params.put("objectId", objectId);
+    return invoker.invoke("DOM.getOuterHTML", params, "outerHTML", String.class, null);
+  }
+
+  @Override
+  public Integer getRelayoutBoundary(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    return invoker.invoke("DOM.getRelayoutBoundary", params, "nodeId", Integer.class, null);
+  }
+
+  @Override
+  public List<Integer> getSearchResults(String searchId, Integer fromIndex, Integer toIndex) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("searchId", searchId);
+    params.put("fromIndex", fromIndex);
+    params.put("toIndex", toIndex);
+    return invoker.invoke(
+        "DOM.getSearchResults", params, "nodeIds", List.class, new Class<?>[] {Integer.class});
+  }
+
+  @Override
+  public void markUndoableState() {
+    invoker.invoke("DOM.markUndoableState", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public Integer moveTo(Integer nodeId, Integer targetNodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("targetNodeId", targetNodeId);
+    return invoker.invoke("DOM.moveTo", params, "nodeId", Integer.class, null);
+  }
+
+  @Override
+  public Integer moveTo(Integer nodeId, Integer targetNodeId, Integer insertBeforeNodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("targetNodeId", targetNodeId);
+    params.put("insertBeforeNodeId", insertBeforeNodeId);
+    return invoker.invoke("DOM.moveTo", params, "nodeId", Integer.class, null);
+  }
+
+  @Override
+  public PerformSearch performSearch(String query) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("query", query);
+    return invoker.invoke("DOM.performSearch", params, null, PerformSearch.class, null);
+  }
+
+  @Override
+  public PerformSearch performSearch(String query, Boolean includeUserAgentShadowDOM) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("query", query);
+    params.put("includeUserAgentShadowDOM", includeUserAgentShadowDOM);
+    return invoker.invoke("DOM.performSearch", params, null, PerformSearch.class, null);
+  }
+
+  @Override
+  public Integer pushNodeByPathToFrontend(String path) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("path", path);
+    return invoker.invoke("DOM.pushNodeByPathToFrontend", params, "nodeId", Integer.class, null);
+  }
+
+  @Override
+  public List<Integer> pushNodesByBackendIdsToFrontend(List<Integer> backendNodeIds) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("backendNodeIds", backendNodeIds);
+    return invoker.invoke(
+        "DOM.pushNodesByBackendIdsToFrontend",
+        params,
+        "nodeIds",
+        List.class,
+        new Class<?>[] {Integer.class});
+  }
+
+  @Override
+  public Integer querySelector(Integer nodeId, String selector) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("selector", selector);
+    return invoker.invoke("DOM.querySelector", params, "nodeId", Integer.class, null);
+  }
+
+  @Override
+  public List<Integer> querySelectorAll(Integer nodeId, String selector) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("selector", selector);
+    return invoker.invoke(
+        "DOM.querySelectorAll", params, "nodeIds", List.class, new Class<?>[] {Integer.class});
+  }
+
+  @Override
+  public void redo() {
+    invoker.invoke("DOM.redo", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void removeAttribute(Integer nodeId, String name) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("name", name);
+    invoker.invoke("DOM.removeAttribute", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void removeNode(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    invoker.invoke("DOM.removeNode", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void requestChildNodes(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    invoker.invoke("DOM.requestChildNodes", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void requestChildNodes(Integer nodeId, Integer depth, Boolean pierce) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("depth", depth);
+    params.put("pierce", pierce);
+    invoker.invoke("DOM.requestChildNodes", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public Integer requestNode(String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    return invoker.invoke("DOM.requestNode", params, "nodeId", Integer.class, null);
+  }
+
+  @Override
+  public RemoteObject resolveNode() {
+    return invoker.invoke(
+        "DOM.resolveNode", Collections.emptyMap(), "object", RemoteObject.class, null);
+  }
+
+  @Override
+  public RemoteObject resolveNode(
+      Integer nodeId, Integer backendNodeId, String objectGroup, Integer executionContextId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("backendNodeId", backendNodeId);
+    params.put("objectGroup", objectGroup);
+    params.put("executionContextId", executionContextId);
+    return invoker.invoke("DOM.resolveNode", params, "object", RemoteObject.class, null);
+  }
+
+  @Override
+  public void setAttributeValue(Integer nodeId, String name, String value) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("name", name);
+    params.put("value", value);
+    invoker.invoke("DOM.setAttributeValue", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setAttributesAsText(Integer nodeId, String text) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("text", text);
+    invoker.invoke("DOM.setAttributesAsText", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setAttributesAsText(Integer nodeId, String text, String name) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("text", text);
+    params.put("name", name);
+    invoker.invoke("DOM.setAttributesAsText", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setFileInputFiles(List<String> files) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("files", files);
+    invoker.invoke("DOM.setFileInputFiles", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setFileInputFiles(
+      List<String> files, Integer nodeId, Integer backendNodeId, String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("files", files);
+    params.put("nodeId", nodeId);
+    params.put("backendNodeId", backendNodeId);
+    params.put("objectId", objectId);
+    invoker.invoke("DOM.setFileInputFiles", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setNodeStackTracesEnabled(Boolean enable) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enable", enable);
+    invoker.invoke("DOM.setNodeStackTracesEnabled", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public StackTrace getNodeStackTraces(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    return invoker.invoke("DOM.getNodeStackTraces", params, "creation", StackTrace.class, null);
+  }
+
+  @Override
+  public String getFileInfo(String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    return invoker.invoke("DOM.getFileInfo", params, "path", String.class, null);
+  }
+
+  @Override
+  public void setInspectedNode(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    invoker.invoke("DOM.setInspectedNode", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public Integer setNodeName(Integer nodeId, String name) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("name", name);
+    return invoker.invoke("DOM.setNodeName", params, "nodeId", Integer.class, null);
+  }
+
+  @Override
+  public void setNodeValue(Integer nodeId, String value) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("value", value);
+    invoker.invoke("DOM.setNodeValue", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setOuterHTML(Integer nodeId, String outerHTML) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("outerHTML", outerHTML);
+    invoker.invoke("DOM.setOuterHTML", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void undo() {
+    invoker.invoke("DOM.undo", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public FrameOwner getFrameOwner(String frameId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    return invoker.invoke("DOM.getFrameOwner", params, null, FrameOwner.class, null);
+  }
+
+  @Override
+  public EventListener onAttributeModified(EventHandler<AttributeModified> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "attributeModified", eventListener, AttributeModified.class);
+  }
+
+  @Override
+  public EventListener onAttributeRemoved(EventHandler<AttributeRemoved> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "attributeRemoved", eventListener, AttributeRemoved.class);
+  }
+
+  @Override
+  public EventListener onCharacterDataModified(EventHandler<CharacterDataModified> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "characterDataModified", eventListener, CharacterDataModified.class);
+  }
+
+  @Override
+  public EventListener onChildNodeCountUpdated(EventHandler<ChildNodeCountUpdated> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "childNodeCountUpdated", eventListener, ChildNodeCountUpdated.class);
+  }
+
+  @Override
+  public EventListener onChildNodeInserted(EventHandler<ChildNodeInserted> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "childNodeInserted", eventListener, ChildNodeInserted.class);
+  }
+
+  @Override
+  public EventListener onChildNodeRemoved(EventHandler<ChildNodeRemoved> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "childNodeRemoved", eventListener, ChildNodeRemoved.class);
+  }
+
+  @Override
+  public EventListener onDistributedNodesUpdated(
+      EventHandler<DistributedNodesUpdated> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "distributedNodesUpdated", eventListener, DistributedNodesUpdated.class);
+  }
+
+  @Override
+  public EventListener onDocumentUpdated(EventHandler<DocumentUpdated> eventListener) {
+    return invoker.addEventListener("DOM", "documentUpdated", eventListener, DocumentUpdated.class);
+  }
+
+  @Override
+  public EventListener onInlineStyleInvalidated(
+      EventHandler<InlineStyleInvalidated> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "inlineStyleInvalidated", eventListener, InlineStyleInvalidated.class);
+  }
+
+  @Override
+  public EventListener onPseudoElementAdded(EventHandler<PseudoElementAdded> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "pseudoElementAdded", eventListener, PseudoElementAdded.class);
+  }
+
+  @Override
+  public EventListener onPseudoElementRemoved(EventHandler<PseudoElementRemoved> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "pseudoElementRemoved", eventListener, PseudoElementRemoved.class);
+  }
+
+  @Override
+  public EventListener onSetChildNodes(EventHandler<SetChildNodes> eventListener) {
+    return invoker.addEventListener("DOM", "setChildNodes", eventListener, SetChildNodes.class);
+  }
+
+  @Override
+  public EventListener onShadowRootPopped(EventHandler<ShadowRootPopped> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "shadowRootPopped", eventListener, ShadowRootPopped.class);
+  }
+
+  @Override
+  public EventListener onShadowRootPushed(EventHandler<ShadowRootPushed> eventListener) {
+    return invoker.addEventListener(
+        "DOM", "shadowRootPushed", eventListener, ShadowRootPushed.class);
+  }
+}
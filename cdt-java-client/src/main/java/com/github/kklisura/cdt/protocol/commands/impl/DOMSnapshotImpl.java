@@ -0,0 +1,90 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.DOMSnapshot;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.CaptureSnapshot;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.Snapshot;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** DOMSnapshot command implementation. */
+public class DOMSnapshotImpl implements DOMSnapshot {
+
+  private final CommandInvoker invoker;
+
+  public DOMSnapshotImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("DOMSnapshot.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("DOMSnapshot.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  @Deprecated
+  public Snapshot getSnapshot(List<String> computedStyleWhitelist) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("computedStyleWhitelist", computedStyleWhitelist);
+    return invoker.invoke("DOMSnapshot.getSnapshot", params, null, Snapshot.class, null);
+  }
+
+  @Override
+  @Deprecated
+  public Snapshot getSnapshot(
+      List<String> computedStyleWhitelist,
+      Boolean includeEventListeners,
+      Boolean includePaintOrder,
+      Boolean includeUserAgentShadowTree) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("computedStyleWhitelist", computedStyleWhitelist);
+    params.put("includeEventListeners", includeEventListeners);
+    params.put("includePaintOrder", includePaintOrder);
+    params.put("includeUserAgentShadowTree", includeUserAgentShadowTree);
+    return invoker.invoke("DOMSnapshot.getSnapshot", params, null, Snapshot.class, null);
+  }
+
+  @Override
+  public CaptureSnapshot captureSnapshot(List<String> computedStyles) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("computedStyles", computedStyles);
+    return invoker.invoke("DOMSnapshot.captureSnapshot", params, null, CaptureSnapshot.class, null);
+  }
+
+  @Override
+  public CaptureSnapshot captureSnapshot(
+      List<String> computedStyles, Boolean includePaintOrder, Boolean includeDOMRects) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("computedStyles", computedStyles);
+    params.put("includePaintOrder", includePaintOrder);
+    params.put("includeDOMRects", includeDOMRects);
+    return invoker.invoke("DOMSnapshot.captureSnapshot", params, null, CaptureSnapshot.class, null);
+  }
+}
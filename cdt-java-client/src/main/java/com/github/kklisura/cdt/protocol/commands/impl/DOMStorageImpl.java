@@ -0,0 +1,116 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.DOMStorage;
+import com.github.kklisura.cdt.protocol.events.domstorage.DomStorageItemAdded;
+import com.github.kklisura.cdt.protocol.events.domstorage.DomStorageItemRemoved;
+import com.github.kklisura.cdt.protocol.events.domstorage.DomStorageItemUpdated;
+import com.github.kklisura.cdt.protocol.events.domstorage.DomStorageItemsCleared;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.domstorage.StorageId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** DOMStorage command implementation. */
+public class DOMStorageImpl implements DOMStorage {
+
+  private final CommandInvoker invoker;
+
+  public DOMStorageImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void clear(StorageId storageId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("storageId", storageId);
+    invoker.invoke("DOMStorage.clear", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("DOMStorage.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("DOMStorage.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<List<String>> getDOMStorageItems(StorageId storageId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("storageId", storageId);
+    return invoker.invoke(
+        "DOMStorage.getDOMStorageItems",
+        params,
+        "entries",
+        List.class,
+        new Class<?>[] {List.class, String.class});
+  }
+
+  @Override
+  public void removeDOMStorageItem(StorageId storageId, String key) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("storageId", storageId);
+    params.put("key", key);
+    invoker.invoke("DOMStorage.removeDOMStorageItem", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDOMStorageItem(StorageId storageId, String key, String value) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("storageId", storageId);
+    params.put("key", key);
+    params.put("value", value);
+    invoker.invoke("DOMStorage.setDOMStorageItem", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onDomStorageItemAdded(EventHandler<DomStorageItemAdded> eventListener) {
+    return invoker.addEventListener(
+        "DOMStorage", "domStorageItemAdded", eventListener, DomStorageItemAdded.class);
+  }
+
+  @Override
+  public EventListener onDomStorageItemRemoved(EventHandler<DomStorageItemRemoved> eventListener) {
+    return invoker.addEventListener(
+        "DOMStorage", "domStorageItemRemoved", eventListener, DomStorageItemRemoved.class);
+  }
+
+  @Override
+  public EventListener onDomStorageItemUpdated(EventHandler<DomStorageItemUpdated> eventListener) {
+    return invoker.addEventListener(
+        "DOMStorage", "domStorageItemUpdated", eventListener, DomStorageItemUpdated.class);
+  }
+
+  @Override
+  public EventListener onDomStorageItemsCleared(
+      EventHandler<DomStorageItemsCleared> eventListener) {
+    return invoker.addEventListener(
+        "DOMStorage", "domStorageItemsCleared", eventListener, DomStorageItemsCleared.class);
+  }
+}
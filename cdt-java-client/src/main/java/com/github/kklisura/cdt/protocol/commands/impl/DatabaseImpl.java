@@ -0,0 +1,77 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Database;
+import com.github.kklisura.cdt.protocol.events.database.AddDatabase;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.database.ExecuteSQL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Database command implementation. */
+public class DatabaseImpl implements Database {
+
+  private final CommandInvoker invoker;
+
+  public DatabaseImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Database.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Database.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public ExecuteSQL executeSQL(String databaseId, String query) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("databaseId", databaseId);
+    params.put("query", query);
+    return invoker.invoke("Database.executeSQL", params, null, ExecuteSQL.class, null);
+  }
+
+  @Override
+  public List<String> getDatabaseTableNames(String databaseId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("databaseId", databaseId);
+    return invoker.invoke(
+        "Database.getDatabaseTableNames",
+        params,
+        "tableNames",
+        List.class,
+        new Class<?>[] {String.class});
+  }
+
+  @Override
+  public EventListener onAddDatabase(EventHandler<AddDatabase> eventListener) {
+    return invoker.addEventListener("Database", "addDatabase", eventListener, AddDatabase.class);
+  }
+}
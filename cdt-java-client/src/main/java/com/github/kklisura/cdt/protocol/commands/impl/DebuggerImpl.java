@@ -0,0 +1,424 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Debugger;
+import com.github.kklisura.cdt.protocol.events.debugger.BreakpointResolved;
+import com.github.kklisura.cdt.protocol.events.debugger.Paused;
+import com.github.kklisura.cdt.protocol.events.debugger.Resumed;
+import com.github.kklisura.cdt.protocol.events.debugger.ScriptFailedToParse;
+import com.github.kklisura.cdt.protocol.events.debugger.ScriptParsed;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.debugger.BreakLocation;
+import com.github.kklisura.cdt.protocol.types.debugger.ContinueToLocationTargetCallFrames;
+import com.github.kklisura.cdt.protocol.types.debugger.EvaluateOnCallFrame;
+import com.github.kklisura.cdt.protocol.types.debugger.Location;
+import com.github.kklisura.cdt.protocol.types.debugger.RestartFrame;
+import com.github.kklisura.cdt.protocol.types.debugger.ScriptPosition;
+import com.github.kklisura.cdt.protocol.types.debugger.SearchMatch;
+import com.github.kklisura.cdt.protocol.types.debugger.SetBreakpoint;
+import com.github.kklisura.cdt.protocol.types.debugger.SetBreakpointByUrl;
+import com.github.kklisura.cdt.protocol.types.debugger.SetInstrumentationBreakpointInstrumentation;
+import com.github.kklisura.cdt.protocol.types.debugger.SetPauseOnExceptionsState;
+import com.github.kklisura.cdt.protocol.types.debugger.SetScriptSource;
+import com.github.kklisura.cdt.protocol.types.runtime.CallArgument;
+import com.github.kklisura.cdt.protocol.types.runtime.StackTrace;
+import com.github.kklisura.cdt.protocol.types.runtime.StackTraceId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Debugger command implementation. */
+public class DebuggerImpl implements Debugger {
+
+  private final CommandInvoker invoker;
+
+  public DebuggerImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void continueToLocation(Location location) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("location", location);
+    invoker.invoke("Debugger.continueToLocation", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void continueToLocation(
+      Location location, ContinueToLocationTargetCallFrames targetCallFrames) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("location", location);
+    params.put("targetCallFrames", targetCallFrames);
+    invoker.invoke("Debugger.continueToLocation", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Debugger.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public String enable() {
+    return invoker.invoke(
+        "Debugger.enable", Collections.emptyMap(), "debuggerId", String.class, null);
+  }
+
+  @Override
+  public String enable(Double maxScriptsCacheSize) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("maxScriptsCacheSize", maxScriptsCacheSize);
+    return invoker.invoke("Debugger.enable", params, "debuggerId", String.class, null);
+  }
+
+  @Override
+  public EvaluateOnCallFrame evaluateOnCallFrame(String callFrameId, String expression) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("callFrameId", callFrameId);
+    params.put("expression", expression);
+    return invoker.invoke(
+        "Debugger.evaluateOnCallFrame", params, null, EvaluateOnCallFrame.class, null);
+  }
+
+  @Override
+  public EvaluateOnCallFrame evaluateOnCallFrame(
+      String callFrameId,
+      String expression,
+      String objectGroup,
+      Boolean includeCommandLineAPI,
+      Boolean silent,
+      Boolean returnByValue,
+      Boolean generatePreview,
+      Boolean throwOnSideEffect,
+      Double timeout) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("callFrameId", callFrameId);
+    params.put("expression", expression);
+    params.put("objectGroup", objectGroup);
+    params.put("includeCommandLineAPI", includeCommandLineAPI);
+    params.put("silent", silent);
+    params.put("returnByValue", returnByValue);
+    params.put("generatePreview", generatePreview);
+    params.put("throwOnSideEffect", throwOnSideEffect);
+    params.put("timeout", timeout);
+    return invoker.invoke(
+        "Debugger.evaluateOnCallFrame", params, null, EvaluateOnCallFrame.class, null);
+  }
+
+  @Override
+  public List<BreakLocation> getPossibleBreakpoints(Location start) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("start", start);
+    return invoker.invoke(
+        "Debugger.getPossibleBreakpoints",
+        params,
+        "locations",
+        List.class,
+        new Class<?>[] {BreakLocation.class});
+  }
+
+  @Override
+  public List<BreakLocation> getPossibleBreakpoints(
+      Location start, Location end, Boolean restrictToFunction) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("start", start);
+    params.put("end", end);
+    params.put("restrictToFunction", restrictToFunction);
+    return invoker.invoke(
+        "Debugger.getPossibleBreakpoints",
+        params,
+        "locations",
+        List.class,
+        new Class<?>[] {BreakLocation.class});
+  }
+
+  @Override
+  public String getScriptSource(String scriptId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scriptId", scriptId);
+    return invoker.invoke("Debugger.getScriptSource", params, "scriptSource", String.class, null);
+  }
+
+  @Override
+  public StackTrace getStackTrace(StackTraceId stackTraceId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("stackTraceId", stackTraceId);
+    return invoker.invoke("Debugger.getStackTrace", params, "stackTrace", StackTrace.class, null);
+  }
+
+  @Override
+  public void pause() {
+    invoker.invoke("Debugger.pause", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void pauseOnAsyncCall(StackTraceId parentStackTraceId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("parentStackTraceId", parentStackTraceId);
+    invoker.invoke("Debugger.pauseOnAsyncCall", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void removeBreakpoint(String breakpointId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("breakpointId", breakpointId);
+    invoker.invoke("Debugger.removeBreakpoint", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public RestartFrame restartFrame(String callFrameId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("callFrameId", callFrameId);
+    return invoker.invoke("Debugger.restartFrame", params, null, RestartFrame.class, null);
+  }
+
+  @Override
+  public void resume() {
+    invoker.invoke("Debugger.resume", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<SearchMatch> searchInContent(String scriptId, String query) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scriptId", scriptId);
+    params.put("query", query);
+    return invoker.invoke(
+        "Debugger.searchInContent",
+        params,
+        "result",
+        List.class,
+        new Class<?>[] {SearchMatch.class});
+  }
+
+  @Override
+  public List<SearchMatch> searchInContent(
+      String scriptId, String query, Boolean caseSensitive, Boolean isRegex) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scriptId", scriptId);
+    params.put("query", query);
+    params.put("caseSensitive", caseSensitive);
+    params.put("isRegex", isRegex);
+    return invoker.invoke(
+        "Debugger.searchInContent",
+        params,
+        "result",
+        List.class,
+        new Class<?>[] {SearchMatch.class});
+  }
+
+  @Override
+  public void setAsyncCallStackDepth(Integer maxDepth) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("maxDepth", maxDepth);
+    invoker.invoke("Debugger.setAsyncCallStackDepth", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setBlackboxPatterns(List<String> patterns) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("patterns", patterns);
+    invoker.invoke("Debugger.setBlackboxPatterns", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setBlackboxedRanges(String scriptId, List<ScriptPosition> positions) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scriptId", scriptId);
+    params.put("positions", positions);
+    invoker.invoke("Debugger.setBlackboxedRanges", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public SetBreakpoint setBreakpoint(Location location) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("location", location);
+    return invoker.invoke("Debugger.setBreakpoint", params, null, SetBreakpoint.class, null);
+  }
+
+  @Override
+  public SetBreakpoint setBreakpoint(Location location, String condition) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("location", location);
+    params.put("condition", condition);
+    return invoker.invoke("Debugger.setBreakpoint", params, null, SetBreakpoint.class, null);
+  }
+
+  @Override
+  public String setInstrumentationBreakpoint(
+      SetInstrumentationBreakpointInstrumentation instrumentation) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("instrumentation", instrumentation);
+    return invoker.invoke(
+        "Debugger.setInstrumentationBreakpoint", params, "breakpointId", String.class, null);
+  }
+
+  @Override
+  public SetBreakpointByUrl setBreakpointByUrl(Integer lineNumber) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("lineNumber", lineNumber);
+    return invoker.invoke(
+        "Debugger.setBreakpointByUrl", params, null, SetBreakpointByUrl.class, null);
+  }
+
+  @Override
+  public SetBreakpointByUrl setBreakpointByUrl(
+      Integer lineNumber,
+      String url,
+      String urlRegex,
+      String scriptHash,
+      Integer columnNumber,
+      String condition) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("lineNumber", lineNumber);
+    params.put("url", url);
+    params.put("urlRegex", urlRegex);
+    params.put("scriptHash", scriptHash);
+    params.put("columnNumber", columnNumber);
+    params.put("condition", condition);
+    return invoker.invoke(
+        "Debugger.setBreakpointByUrl", params, null, SetBreakpointByUrl.class, null);
+  }
+
+  @Override
+  public String setBreakpointOnFunctionCall(String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    return invoker.invoke(
+        "Debugger.setBreakpointOnFunctionCall", params, "breakpointId", String.class, null);
+  }
+
+  @Override
+  public String setBreakpointOnFunctionCall(String objectId, String condition) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    params.put("condition", condition);
+    return invoker.invoke(
+        "Debugger.setBreakpointOnFunctionCall", params, "breakpointId", String.class, null);
+  }
+
+  @Override
+  public void setBreakpointsActive(Boolean active) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("active", active);
+    invoker.invoke("Debugger.setBreakpointsActive", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setPauseOnExceptions(SetPauseOnExceptionsState state) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("state", state);
+    invoker.invoke("Debugger.setPauseOnExceptions", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setReturnValue(CallArgument newValue) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("newValue", newValue);
+    invoker.invoke("Debugger.setReturnValue", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public SetScriptSource setScriptSource(String scriptId, String scriptSource) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scriptId", scriptId);
+    params.put("scriptSource", scriptSource);
+    return invoker.invoke("Debugger.setScriptSource", params, null, SetScriptSource.class, null);
+  }
+
+  @Override
+  public SetScriptSource setScriptSource(String scriptId, String scriptSource, Boolean dryRun) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scriptId", scriptId);
+    params.put("scriptSource", scriptSource);
+    params.put("dryRun", dryRun);
+    return invoker.invoke("Debugger.setScriptSource", params, null, SetScriptSource.class, null);
+  }
+
+  @Override
+  public void setSkipAllPauses(Boolean skip) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("skip", skip);
+    invoker.invoke("Debugger.setSkipAllPauses", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setVariableValue(
+      Integer scopeNumber, String variableName, CallArgument newValue, String callFrameId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scopeNumber", scopeNumber);
+    params.put("variableName", variableName);
+    params.put("newValue", newValue);
+    params.put("callFrameId", callFrameId);
+    invoker.invoke("Debugger.setVariableValue", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stepInto() {
+    invoker.invoke("Debugger.stepInto", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stepInto(Boolean breakOnAsyncCall) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("breakOnAsyncCall", breakOnAsyncCall);
+    invoker.invoke("Debugger.stepInto", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stepOut() {
+    invoker.invoke("Debugger.stepOut", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stepOver() {
+    invoker.invoke("Debugger.stepOver", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onBreakpointResolved(EventHandler<BreakpointResolved> eventListener) {
+    return invoker.addEventListener(
+        "Debugger", "breakpointResolved", eventListener, BreakpointResolved.class);
+  }
+
+  @Override
+  public EventListener onPaused(EventHandler<Paused> eventListener) {
+    return invoker.addEventListener("Debugger", "paused", eventListener, Paused.class);
+  }
+
+  @Override
+  public EventListener onResumed(EventHandler<Resumed> eventListener) {
+    return invoker.addEventListener("Debugger", "resumed", eventListener, Resumed.class);
+  }
+
+  @Override
+  public EventListener onScriptFailedToParse(EventHandler<ScriptFailedToParse> eventListener) {
+    return invoker.addEventListener(
+        "Debugger", "scriptFailedToParse", eventListener, ScriptFailedToParse.class);
+  }
+
+  @Override
+  public EventListener onScriptParsed(EventHandler<ScriptParsed> eventListener) {
+    return invoker.addEventListener("Debugger", "scriptParsed", eventListener, ScriptParsed.class);
+  }
+}
@@ -0,0 +1,56 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.DeviceOrientation;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** DeviceOrientation command implementation. */
+public class DeviceOrientationImpl implements DeviceOrientation {
+
+  private final CommandInvoker invoker;
+
+  public DeviceOrientationImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void clearDeviceOrientationOverride() {
+    invoker.invoke(
+        "DeviceOrientation.clearDeviceOrientationOverride",
+        Collections.emptyMap(),
+        null,
+        Void.TYPE,
+        null);
+  }
+
+  @Override
+  public void setDeviceOrientationOverride(Double alpha, Double beta, Double gamma) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("alpha", alpha);
+    params.put("beta", beta);
+    params.put("gamma", gamma);
+    invoker.invoke("DeviceOrientation.setDeviceOrientationOverride", params, null, Void.TYPE, null);
+  }
+}
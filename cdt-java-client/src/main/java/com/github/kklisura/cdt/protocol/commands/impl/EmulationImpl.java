@@ -0,0 +1,293 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Emulation;
+import com.github.kklisura.cdt.protocol.events.emulation.VirtualTimeBudgetExpired;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.dom.RGBA;
+import com.github.kklisura.cdt.protocol.types.emulation.ScreenOrientation;
+import com.github.kklisura.cdt.protocol.types.emulation.SetEmitTouchEventsForMouseConfiguration;
+import com.github.kklisura.cdt.protocol.types.emulation.VirtualTimePolicy;
+import com.github.kklisura.cdt.protocol.types.page.Viewport;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Emulation command implementation. */
+public class EmulationImpl implements Emulation {
+
+  private final CommandInvoker invoker;
+
+  public EmulationImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public Boolean canEmulate() {
+    return invoker.invoke(
+        "Emulation.canEmulate", Collections.emptyMap(), "result", Boolean.class, null);
+  }
+
+  @Override
+  public void clearDeviceMetricsOverride() {
+    invoker.invoke(
+        "Emulation.clearDeviceMetricsOverride", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void clearGeolocationOverride() {
+    invoker.invoke(
+        "Emulation.clearGeolocationOverride", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void resetPageScaleFactor() {
+    invoker.invoke("Emulation.resetPageScaleFactor", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setFocusEmulationEnabled(Boolean enabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    invoker.invoke("Emulation.setFocusEmulationEnabled", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setCPUThrottlingRate(Double rate) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("rate", rate);
+    invoker.invoke("Emulation.setCPUThrottlingRate", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDefaultBackgroundColorOverride() {
+    invoker.invoke(
+        "Emulation.setDefaultBackgroundColorOverride",
+        Collections.emptyMap(),
+        null,
+        Void.TYPE,
+        null);
+  }
+
+  @Override
+  public void setDefaultBackgroundColorOverride(RGBA color) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("color", color);
+    invoker.invoke("Emulation.setDefaultBackgroundColorOverride", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDeviceMetricsOverride(
+      Integer width, Integer height, Double deviceScaleFactor, Boolean mobile) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("width", width);
+    params.put("height", height);
+    params.put("deviceScaleFactor", deviceScaleFactor);
+    params.put("mobile", mobile);
+    invoker.invoke("Emulation.setDeviceMetricsOverride", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDeviceMetricsOverride(
+      Integer width,
+      Integer height,
+      Double deviceScaleFactor,
+      Boolean mobile,
+      Double scale,
+      Integer screenWidth,
+      Integer screenHeight,
+      Integer positionX,
+      Integer positionY,
+      Boolean dontSetVisibleSize,
+      ScreenOrientation screenOrientation,
+      Viewport viewport) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("width", width);
+    params.put("height", height);
+    params.put("deviceScaleFactor", deviceScaleFactor);
+    params.put("mobile", mobile);
+    params.put("scale", scale);
+    params.put("screenWidth", screenWidth);
+    params.put("screenHeight", screenHeight);
+    params.put("positionX", positionX);
+    params.put("positionY", positionY);
+    params.put("dontSetVisibleSize", dontSetVisibleSize);
+    params.put("screenOrientation", screenOrientation);
+    params.put("viewport", viewport);
+    invoker.invoke("Emulation.setDeviceMetricsOverride", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setScrollbarsHidden(Boolean hidden) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("hidden", hidden);
+    invoker.invoke("Emulation.setScrollbarsHidden", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDocumentCookieDisabled(Boolean disabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("disabled", disabled);
+    invoker.invoke("Emulation.setDocumentCookieDisabled", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setEmitTouchEventsForMouse(Boolean enabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    invoker.invoke("Emulation.setEmitTouchEventsForMouse", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setEmitTouchEventsForMouse(
+      Boolean enabled, SetEmitTouchEventsForMouseConfiguration configuration) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    params.put("configuration", configuration);
+    invoker.invoke("Emulation.setEmitTouchEventsForMouse", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setEmulatedMedia(String media) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("media", media);
+    invoker.invoke("Emulation.setEmulatedMedia", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setGeolocationOverride() {
+    invoker.invoke(
+        "Emulation.setGeolocationOverride", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setGeolocationOverride(Double latitude, Double longitude, Double accuracy) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("latitude", latitude);
+    params.put("longitude", longitude);
+    params.put("accuracy", accuracy);
+    invoker.invoke("Emulation.setGeolocationOverride", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  @Deprecated
+  public void setNavigatorOverrides(String platform) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("platform", platform);
+    invoker.invoke("Emulation.setNavigatorOverrides", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setPageScaleFactor(Double pageScaleFactor) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("pageScaleFactor", pageScaleFactor);
+    invoker.invoke("Emulation.setPageScaleFactor", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setScriptExecutionDisabled(Boolean value) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("value", value);
+    invoker.invoke("Emulation.setScriptExecutionDisabled", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setTouchEmulationEnabled(Boolean enabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    invoker.invoke("Emulation.setTouchEmulationEnabled", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setTouchEmulationEnabled(Boolean enabled, Integer maxTouchPoints) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    params.put("maxTouchPoints", maxTouchPoints);
+    invoker.invoke("Emulation.setTouchEmulationEnabled", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public Double setVirtualTimePolicy(VirtualTimePolicy policy) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("policy", policy);
+    return invoker.invoke(
+        "Emulation.setVirtualTimePolicy", params, "virtualTimeTicksBase", Double.class, null);
+  }
+
+  @Override
+  public Double setVirtualTimePolicy(
+      VirtualTimePolicy policy,
+      Double budget,
+      Integer maxVirtualTimeTaskStarvationCount,
+      Boolean waitForNavigation,
+      Double initialVirtualTime) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("policy", policy);
+    params.put("budget", budget);
+    params.put("maxVirtualTimeTaskStarvationCount", maxVirtualTimeTaskStarvationCount);
+    params.put("waitForNavigation", waitForNavigation);
+    params.put("initialVirtualTime", initialVirtualTime);
+    return invoker.invoke(
+        "Emulation.setVirtualTimePolicy", params, "virtualTimeTicksBase", Double.class, null);
+  }
+
+  @Override
+  public void setTimezoneOverride(String timezoneId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("timezoneId", timezoneId);
+    invoker.invoke("Emulation.setTimezoneOverride", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  @Deprecated
+  public void setVisibleSize(Integer width, Integer height) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("width", width);
+    params.put("height", height);
+    invoker.invoke("Emulation.setVisibleSize", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setUserAgentOverride(String userAgent) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("userAgent", userAgent);
+    invoker.invoke("Emulation.setUserAgentOverride", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setUserAgentOverride(String userAgent, String acceptLanguage, String platform) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("userAgent", userAgent);
+    params.put("acceptLanguage", acceptLanguage);
+    params.put("platform", platform);
+    invoker.invoke("Emulation.setUserAgentOverride", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onVirtualTimeBudgetExpired(
+      EventHandler<VirtualTimeBudgetExpired> eventListener) {
+    return invoker.addEventListener(
+        "Emulation", "virtualTimeBudgetExpired", eventListener, VirtualTimeBudgetExpired.class);
+  }
+}
@@ -0,0 +1,150 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Fetch;
+import com.github.kklisura.cdt.protocol.events.fetch.AuthRequired;
+import com.github.kklisura.cdt.protocol.events.fetch.RequestPaused;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.fetch.AuthChallengeResponse;
+import com.github.kklisura.cdt.protocol.types.fetch.HeaderEntry;
+import com.github.kklisura.cdt.protocol.types.fetch.RequestPattern;
+import com.github.kklisura.cdt.protocol.types.fetch.ResponseBody;
+import com.github.kklisura.cdt.protocol.types.network.ErrorReason;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Fetch command implementation. */
+public class FetchImpl implements Fetch {
+
+  private final CommandInvoker invoker;
+
+  public FetchImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Fetch.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Fetch.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable(List<RequestPattern> patterns, Boolean handleAuthRequests) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("patterns", patterns);
+    params.put("handleAuthRequests", handleAuthRequests);
+    invoker.invoke("Fetch.enable", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void failRequest(String requestId, ErrorReason errorReason) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    params.put("errorReason", errorReason);
+    invoker.invoke("Fetch.failRequest", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void fulfillRequest(
+      String requestId, Integer responseCode, List<HeaderEntry> responseHeaders) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    params.put("responseCode", responseCode);
+    params.put("responseHeaders", responseHeaders);
+    invoker.invoke("Fetch.fulfillRequest", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void fulfillRequest(
+      String requestId,
+      Integer responseCode,
+      List<HeaderEntry> responseHeaders,
+      String body,
+      String responsePhrase) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    params.put("responseCode", responseCode);
+    params.put("responseHeaders", responseHeaders);
+    params.put("body", body);
+    params.put("responsePhrase", responsePhrase);
+    invoker.invoke("Fetch.fulfillRequest", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void continueRequest(String requestId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    invoker.invoke("Fetch.continueRequest", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void continueRequest(
+      String requestId, String url, String method, String postData, List<HeaderEntry> headers) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    params.put("url", url);
+    params.put("method", method);
+    params.put("postData", postData);
+    params.put("headers", headers);
+    invoker.invoke("Fetch.continueRequest", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void continueWithAuth(String requestId, AuthChallengeResponse authChallengeResponse) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    params.put("authChallengeResponse", authChallengeResponse);
+    invoker.invoke("Fetch.continueWithAuth", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public ResponseBody getResponseBody(String requestId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    return invoker.invoke("Fetch.getResponseBody", params, null, ResponseBody.class, null);
+  }
+
+  @Override
+  public String takeResponseBodyAsStream(String requestId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    return invoker.invoke("Fetch.takeResponseBodyAsStream", params, "stream", String.class, null);
+  }
+
+  @Override
+  public EventListener onRequestPaused(EventHandler<RequestPaused> eventListener) {
+    return invoker.addEventListener("Fetch", "requestPaused", eventListener, RequestPaused.class);
+  }
+
+  @Override
+  public EventListener onAuthRequired(EventHandler<AuthRequired> eventListener) {
+    return invoker.addEventListener("Fetch", "authRequired", eventListener, AuthRequired.class);
+  }
+}
@@ -0,0 +1,82 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.HeadlessExperimental;
+import com.github.kklisura.cdt.protocol.events.headlessexperimental.NeedsBeginFramesChanged;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.headlessexperimental.BeginFrame;
+import com.github.kklisura.cdt.protocol.types.headlessexperimental.ScreenshotParams;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** HeadlessExperimental command implementation. */
+public class HeadlessExperimentalImpl implements HeadlessExperimental {
+
+  private final CommandInvoker invoker;
+
+  public HeadlessExperimentalImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public BeginFrame beginFrame() {
+    return invoker.invoke(
+        "HeadlessExperimental.beginFrame", Collections.emptyMap(), null, BeginFrame.class, null);
+  }
+
+  @Override
+  public BeginFrame beginFrame(
+      Double frameTimeTicks,
+      Double interval,
+      Boolean noDisplayUpdates,
+      ScreenshotParams screenshot) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameTimeTicks", frameTimeTicks);
+    params.put("interval", interval);
+    params.put("noDisplayUpdates", noDisplayUpdates);
+    params.put("screenshot", screenshot);
+    return invoker.invoke("HeadlessExperimental.beginFrame", params, null, BeginFrame.class, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("HeadlessExperimental.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("HeadlessExperimental.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onNeedsBeginFramesChanged(
+      EventHandler<NeedsBeginFramesChanged> eventListener) {
+    return invoker.addEventListener(
+        "HeadlessExperimental",
+        "needsBeginFramesChanged",
+        eventListener,
+        NeedsBeginFramesChanged.class);
+  }
+}
@@ -0,0 +1,197 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.HeapProfiler;
+import com.github.kklisura.cdt.protocol.events.heapprofiler.AddHeapSnapshotChunk;
+import com.github.kklisura.cdt.protocol.events.heapprofiler.HeapStatsUpdate;
+import com.github.kklisura.cdt.protocol.events.heapprofiler.LastSeenObjectId;
+import com.github.kklisura.cdt.protocol.events.heapprofiler.ReportHeapSnapshotProgress;
+import com.github.kklisura.cdt.protocol.events.heapprofiler.ResetProfiles;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.heapprofiler.SamplingHeapProfile;
+import com.github.kklisura.cdt.protocol.types.runtime.RemoteObject;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** HeapProfiler command implementation. */
+public class HeapProfilerImpl implements HeapProfiler {
+
+  private final CommandInvoker invoker;
+
+  public HeapProfilerImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void addInspectedHeapObject(String heapObjectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("heapObjectId", heapObjectId);
+    invoker.invoke("HeapProfiler.addInspectedHeapObject", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void collectGarbage() {
+    invoker.invoke("HeapProfiler.collectGarbage", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("HeapProfiler.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("HeapProfiler.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public String getHeapObjectId(String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    return invoker.invoke(
+        "HeapProfiler.getHeapObjectId", params, "heapSnapshotObjectId", String.class, null);
+  }
+
+  @Override
+  public RemoteObject getObjectByHeapObjectId(String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    return invoker.invoke(
+        "HeapProfiler.getObjectByHeapObjectId", params, "result", RemoteObject.class, null);
+  }
+
+  @Override
+  public RemoteObject getObjectByHeapObjectId(String objectId, String objectGroup) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    params.put("objectGroup", objectGroup);
+    return invoker.invoke(
+        "HeapProfiler.getObjectByHeapObjectId", params, "result", RemoteObject.class, null);
+  }
+
+  @Override
+  public SamplingHeapProfile getSamplingProfile() {
+    return invoker.invoke(
+        "HeapProfiler.getSamplingProfile",
+        Collections.emptyMap(),
+        "profile",
+        SamplingHeapProfile.class,
+        null);
+  }
+
+  @Override
+  public void startSampling() {
+    invoker.invoke("HeapProfiler.startSampling", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startSampling(Double samplingInterval) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("samplingInterval", samplingInterval);
+    invoker.invoke("HeapProfiler.startSampling", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startTrackingHeapObjects() {
+    invoker.invoke(
+        "HeapProfiler.startTrackingHeapObjects", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startTrackingHeapObjects(Boolean trackAllocations) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("trackAllocations", trackAllocations);
+    invoker.invoke("HeapProfiler.startTrackingHeapObjects", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public SamplingHeapProfile stopSampling() {
+    return invoker.invoke(
+        "HeapProfiler.stopSampling",
+        Collections.emptyMap(),
+        "profile",
+        SamplingHeapProfile.class,
+        null);
+  }
+
+  @Override
+  public void stopTrackingHeapObjects() {
+    invoker.invoke(
+        "HeapProfiler.stopTrackingHeapObjects", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stopTrackingHeapObjects(Boolean reportProgress) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("reportProgress", reportProgress);
+    invoker.invoke("HeapProfiler.stopTrackingHeapObjects", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void takeHeapSnapshot() {
+    invoker.invoke("HeapProfiler.takeHeapSnapshot", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void takeHeapSnapshot(Boolean reportProgress) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("reportProgress", reportProgress);
+    invoker.invoke("HeapProfiler.takeHeapSnapshot", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onAddHeapSnapshotChunk(EventHandler<AddHeapSnapshotChunk> eventListener) {
+    return invoker.addEventListener(
+        "HeapProfiler", "addHeapSnapshotChunk", eventListener, AddHeapSnapshotChunk.class);
+  }
+
+  @Override
+  public EventListener onHeapStatsUpdate(EventHandler<HeapStatsUpdate> eventListener) {
+    return invoker.addEventListener(
+        "HeapProfiler", "heapStatsUpdate", eventListener, HeapStatsUpdate.class);
+  }
+
+  @Override
+  public EventListener onLastSeenObjectId(EventHandler<LastSeenObjectId> eventListener) {
+    return invoker.addEventListener(
+        "HeapProfiler", "lastSeenObjectId", eventListener, LastSeenObjectId.class);
+  }
+
+  @Override
+  public EventListener onReportHeapSnapshotProgress(
+      EventHandler<ReportHeapSnapshotProgress> eventListener) {
+    return invoker.addEventListener(
+        "HeapProfiler",
+        "reportHeapSnapshotProgress",
+        eventListener,
+        ReportHeapSnapshotProgress.class);
+  }
+
+  @Override
+  public EventListener onResetProfiles(EventHandler<ResetProfiles> eventListener) {
+    return invoker.addEventListener(
+        "HeapProfiler", "resetProfiles", eventListener, ResetProfiles.class);
+  }
+}
@@ -0,0 +1,67 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.IO;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.io.Read;
+import java.util.HashMap;
+import java.util.Map;
+
+/** IO command implementation. */
+public class IOImpl implements IO {
+
+  private final CommandInvoker invoker;
+
+  public IOImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void close(String handle) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("handle", handle);
+    invoker.invoke("IO.close", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public Read read(String handle) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("handle", handle);
+    return invoker.invoke("IO.read", params, null, Read.class, null);
+  }
+
+  @Override
+  public Read read(String handle, Integer offset, Integer size) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("handle", handle);
+    params.put("offset", offset);
+    params.put("size", size);
+    return invoker.invoke("IO.read", params, null, Read.class, null);
+  }
+
+  @Override
+  public String resolveBlob(String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    return invoker.invoke("IO.resolveBlob", params, "uuid", String.class, null);
+  }
+}
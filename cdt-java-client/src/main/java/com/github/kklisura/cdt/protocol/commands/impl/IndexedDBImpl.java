@@ -0,0 +1,152 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.IndexedDB;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.indexeddb.DatabaseWithObjectStores;
+import com.github.kklisura.cdt.protocol.types.indexeddb.KeyRange;
+import com.github.kklisura.cdt.protocol.types.indexeddb.Metadata;
+import com.github.kklisura.cdt.protocol.types.indexeddb.RequestData;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** IndexedDB command implementation. */
+public class IndexedDBImpl implements IndexedDB {
+
+  private final CommandInvoker invoker;
+
+  public IndexedDBImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void clearObjectStore(String securityOrigin, String databaseName, String objectStoreName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("securityOrigin", securityOrigin);
+    params.put("databaseName", databaseName);
+    params.put("objectStoreName", objectStoreName);
+    invoker.invoke("IndexedDB.clearObjectStore", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void deleteDatabase(String securityOrigin, String databaseName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("securityOrigin", securityOrigin);
+    params.put("databaseName", databaseName);
+    invoker.invoke("IndexedDB.deleteDatabase", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void deleteObjectStoreEntries(
+      String securityOrigin, String databaseName, String objectStoreName, KeyRange keyRange) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("securityOrigin", securityOrigin);
+    params.put("databaseName", databaseName);
+    params.put("objectStoreName", objectStoreName);
+    params.put("keyRange", keyRange);
+    invoker.invoke("IndexedDB.deleteObjectStoreEntries", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("IndexedDB.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("IndexedDB.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public RequestData requestData(
+      String securityOrigin,
+      String databaseName,
+      String objectStoreName,
+      String indexName,
+      Integer skipCount,
+      Integer pageSize) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("securityOrigin", securityOrigin);
+    params.put("databaseName", databaseName);
+    params.put("objectStoreName", objectStoreName);
+    params.put("indexName", indexName);
+    params.put("skipCount", skipCount);
+    params.put("pageSize", pageSize);
+    return invoker.invoke("IndexedDB.requestData", params, null, RequestData.class, null);
+  }
+
+  @Override
+  public RequestData requestData(
+      String securityOrigin,
+      String databaseName,
+      String objectStoreName,
+      String indexName,
+      Integer skipCount,
+      Integer pageSize,
+      KeyRange keyRange) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("securityOrigin", securityOrigin);
+    params.put("databaseName", databaseName);
+    params.put("objectStoreName", objectStoreName);
+    params.put("indexName", indexName);
+    params.put("skipCount", skipCount);
+    params.put("pageSize", pageSize);
+    params.put("keyRange", keyRange);
+    return invoker.invoke("IndexedDB.requestData", params, null, RequestData.class, null);
+  }
+
+  @Override
+  public Metadata getMetadata(String securityOrigin, String databaseName, String objectStoreName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("securityOrigin", securityOrigin);
+    params.put("databaseName", databaseName);
+    params.put("objectStoreName", objectStoreName);
+    return invoker.invoke("IndexedDB.getMetadata", params, null, Metadata.class, null);
+  }
+
+  @Override
+  public DatabaseWithObjectStores requestDatabase(String securityOrigin, String databaseName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("securityOrigin", securityOrigin);
+    params.put("databaseName", databaseName);
+    return invoker.invoke(
+        "IndexedDB.requestDatabase",
+        params,
+        "databaseWithObjectStores",
+        DatabaseWithObjectStores.class,
+        null);
+  }
+
+  @Override
+  public List<String> requestDatabaseNames(String securityOrigin) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("securityOrigin", securityOrigin);
+    return invoker.invoke(
+        "IndexedDB.requestDatabaseNames",
+        params,
+        "databaseNames",
+        List.class,
+        new Class<?>[] {String.class});
+  }
+}
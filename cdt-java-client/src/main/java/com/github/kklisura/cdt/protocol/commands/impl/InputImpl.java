@@ -0,0 +1,281 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Input;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.input.DispatchKeyEventType;
+import com.github.kklisura.cdt.protocol.types.input.DispatchMouseEventButton;
+import com.github.kklisura.cdt.protocol.types.input.DispatchMouseEventPointerType;
+import com.github.kklisura.cdt.protocol.types.input.DispatchMouseEventType;
+import com.github.kklisura.cdt.protocol.types.input.DispatchTouchEventType;
+import com.github.kklisura.cdt.protocol.types.input.EmulateTouchFromMouseEventButton;
+import com.github.kklisura.cdt.protocol.types.input.EmulateTouchFromMouseEventType;
+import com.github.kklisura.cdt.protocol.types.input.GestureSourceType;
+import com.github.kklisura.cdt.protocol.types.input.TouchPoint;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Input command implementation. */
+public class InputImpl implements Input {
+
+  private final CommandInvoker invoker;
+
+  public InputImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void dispatchKeyEvent(DispatchKeyEventType type) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("type", type);
+    invoker.invoke("Input.dispatchKeyEvent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void dispatchKeyEvent(
+      DispatchKeyEventType type,
+      Integer modifiers,
+      Double timestamp,
+      String text,
+      String unmodifiedText,
+      String keyIdentifier,
+      String code,
+      String key,
+      Integer windowsVirtualKeyCode,
+      Integer nativeVirtualKeyCode,
+      Boolean autoRepeat,
+      Boolean isKeypad,
+      Boolean isSystemKey,
+      Integer location) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("type", type);
+    params.put("modifiers", modifiers);
+    params.put("timestamp", timestamp);
+    params.put("text", text);
+    params.put("unmodifiedText", unmodifiedText);
+    params.put("keyIdentifier", keyIdentifier);
+    params.put("code", code);
+    params.put("key", key);
+    params.put("windowsVirtualKeyCode", windowsVirtualKeyCode);
+    params.put("nativeVirtualKeyCode", nativeVirtualKeyCode);
+    params.put("autoRepeat", autoRepeat);
+    params.put("isKeypad", isKeypad);
+    params.put("isSystemKey", isSystemKey);
+    params.put("location", location);
+    invoker.invoke("Input.dispatchKeyEvent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void insertText(String text) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("text", text);
+    invoker.invoke("Input.insertText", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void dispatchMouseEvent(DispatchMouseEventType type, Double x, Double y) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("type", type);
+    params.put("x", x);
+    params.put("y", y);
+    invoker.invoke("Input.dispatchMouseEvent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void dispatchMouseEvent(
+      DispatchMouseEventType type,
+      Double x,
+      Double y,
+      Integer modifiers,
+      Double timestamp,
+      DispatchMouseEventButton button,
+      Integer buttons,
+      Integer clickCount,
+      Double deltaX,
+      Double deltaY,
+      DispatchMouseEventPointerType pointerType) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("type", type);
+    params.put("x", x);
+    params.put("y", y);
+    params.put("modifiers", modifiers);
+    params.put("timestamp", timestamp);
+    params.put("button", button);
+    params.put("buttons", buttons);
+    params.put("clickCount", clickCount);
+    params.put("deltaX", deltaX);
+    params.put("deltaY", deltaY);
+    params.put("pointerType", pointerType);
+    invoker.invoke("Input.dispatchMouseEvent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void dispatchTouchEvent(DispatchTouchEventType type, List<TouchPoint> touchPoints) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("type", type);
+    params.put("touchPoints", touchPoints);
+    invoker.invoke("Input.dispatchTouchEvent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void dispatchTouchEvent(
+      DispatchTouchEventType type,
+      List<TouchPoint> touchPoints,
+      Integer modifiers,
+      Double timestamp) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("type", type);
+    params.put("touchPoints", touchPoints);
+    params.put("modifiers", modifiers);
+    params.put("timestamp", timestamp);
+    invoker.invoke("Input.dispatchTouchEvent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void emulateTouchFromMouseEvent(
+      EmulateTouchFromMouseEventType type,
+      Integer x,
+      Integer y,
+      EmulateTouchFromMouseEventButton button) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("type", type);
+    params.put("x", x);
+    params.put("y", y);
+    params.put("button", button);
+    invoker.invoke("Input.emulateTouchFromMouseEvent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void emulateTouchFromMouseEvent(
+      EmulateTouchFromMouseEventType type,
+      Integer x,
+      Integer y,
+      EmulateTouchFromMouseEventButton button,
+      Double timestamp,
+      Double deltaX,
+      Double deltaY,
+      Integer modifiers,
+      Integer clickCount) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("type", type);
+    params.put("x", x);
+    params.put("y", y);
+    params.put("button", button);
+    params.put("timestamp", timestamp);
+    params.put("deltaX", deltaX);
+    params.put("deltaY", deltaY);
+    params.put("modifiers", modifiers);
+    params.put("clickCount", clickCount);
+    invoker.invoke("Input.emulateTouchFromMouseEvent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setIgnoreInputEvents(Boolean ignore) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("ignore", ignore);
+    invoker.invoke("Input.setIgnoreInputEvents", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void synthesizePinchGesture(Double x, Double y, Double scaleFactor) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("x", x);
+    params.put("y", y);
+    params.put("scaleFactor", scaleFactor);
+    invoker.invoke("Input.synthesizePinchGesture", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void synthesizePinchGesture(
+      Double x,
+      Double y,
+      Double scaleFactor,
+      Integer relativeSpeed,
+      GestureSourceType gestureSourceType) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("x", x);
+    params.put("y", y);
+    params.put("scaleFactor", scaleFactor);
+    params.put("relativeSpeed", relativeSpeed);
+    params.put("gestureSourceType", gestureSourceType);
+    invoker.invoke("Input.synthesizePinchGesture", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void synthesizeScrollGesture(Double x, Double y) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("x", x);
+    params.put("y", y);
+    invoker.invoke("Input.synthesizeScrollGesture", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void synthesizeScrollGesture(
+      Double x,
+      Double y,
+      Double xDistance,
+      Double yDistance,
+      Double xOverscroll,
+      Double yOverscroll,
+      Boolean preventFling,
+      Integer speed,
+      GestureSourceType gestureSourceType,
+      Integer repeatCount,
+      Integer repeatDelayMs,
+      String interactionMarkerName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("x", x);
+    params.put("y", y);
+    params.put("xDistance", xDistance);
+    params.put("yDistance", yDistance);
+    params.put("xOverscroll", xOverscroll);
+    params.put("yOverscroll", yOverscroll);
+    params.put("preventFling", preventFling);
+    params.put("speed", speed);
+    params.put("gestureSourceType", gestureSourceType);
+    params.put("repeatCount", repeatCount);
+    params.put("repeatDelayMs", repeatDelayMs);
+    params.put("interactionMarkerName", interactionMarkerName);
+    invoker.invoke("Input.synthesizeScrollGesture", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void synthesizeTapGesture(Double x, Double y) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("x", x);
+    params.put("y", y);
+    invoker.invoke("Input.synthesizeTapGesture", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void synthesizeTapGesture(
+      Double x, Double y, Integer duration, Integer tapCount, GestureSourceType gestureSourceType) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("x", x);
+    params.put("y", y);
+    params.put("duration", duration);
+    params.put("tapCount", tapCount);
+    params.put("gestureSourceType", gestureSourceType);
+    invoker.invoke("Input.synthesizeTapGesture", params, null, Void.TYPE, null);
+  }
+}
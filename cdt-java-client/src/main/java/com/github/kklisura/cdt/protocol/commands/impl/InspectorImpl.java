@@ -0,0 +1,68 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Inspector;
+import com.github.kklisura.cdt.protocol.events.inspector.Detached;
+import com.github.kklisura.cdt.protocol.events.inspector.TargetCrashed;
+import com.github.kklisura.cdt.protocol.events.inspector.TargetReloadedAfterCrash;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import java.util.Collections;
+
+/** Inspector command implementation. */
+public class InspectorImpl implements Inspector {
+
+  private final CommandInvoker invoker;
+
+  public InspectorImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Inspector.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Inspector.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onDetached(EventHandler<Detached> eventListener) {
+    return invoker.addEventListener("Inspector", "detached", eventListener, Detached.class);
+  }
+
+  @Override
+  public EventListener onTargetCrashed(EventHandler<TargetCrashed> eventListener) {
+    return invoker.addEventListener(
+        "Inspector", "targetCrashed", eventListener, TargetCrashed.class);
+  }
+
+  @Override
+  public EventListener onTargetReloadedAfterCrash(
+      EventHandler<TargetReloadedAfterCrash> eventListener) {
+    return invoker.addEventListener(
+        "Inspector", "targetReloadedAfterCrash", eventListener, TargetReloadedAfterCrash.class);
+  }
+}
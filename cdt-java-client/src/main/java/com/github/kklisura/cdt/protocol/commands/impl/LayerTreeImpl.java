@@ -0,0 +1,155 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.LayerTree;
+import com.github.kklisura.cdt.protocol.events.layertree.LayerPainted;
+import com.github.kklisura.cdt.protocol.events.layertree.LayerTreeDidChange;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.dom.Rect;
+import com.github.kklisura.cdt.protocol.types.layertree.PictureTile;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** LayerTree command implementation. */
+public class LayerTreeImpl implements LayerTree {
+
+  private final CommandInvoker invoker;
+
+  public LayerTreeImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public List<String> compositingReasons(String layerId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("layerId", layerId);
+    return invoker.invoke(
+        "LayerTree.compositingReasons",
+        params,
+        "compositingReasons",
+        List.class,
+        new Class<?>[] {String.class});
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("LayerTree.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("LayerTree.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public String loadSnapshot(List<PictureTile> tiles) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("tiles", tiles);
+    return invoker.invoke("LayerTree.loadSnapshot", params, "snapshotId", String.class, null);
+  }
+
+  @Override
+  public String makeSnapshot(String layerId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("layerId", layerId);
+    return invoker.invoke("LayerTree.makeSnapshot", params, "snapshotId", String.class, null);
+  }
+
+  @Override
+  public List<List<Double>> profileSnapshot(String snapshotId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("snapshotId", snapshotId);
+    return invoker.invoke(
+        "LayerTree.profileSnapshot",
+        params,
+        "timings",
+        List.class,
+        new Class<?>[] {List.class, Double.class});
+  }
+
+  @Override
+  public List<List<Double>> profileSnapshot(
+      String snapshotId, Integer minRepeatCount, Double minDuration, Rect clipRect) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("snapshotId", snapshotId);
+    params.put("minRepeatCount", minRepeatCount);
+    params.put("minDuration", minDuration);
+    params.put("clipRect", clipRect);
+    return invoker.invoke(
+        "LayerTree.profileSnapshot",
+        params,
+        "timings",
+        List.class,
+        new Class<?>[] {List.class, Double.class});
+  }
+
+  @Override
+  public void releaseSnapshot(String snapshotId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("snapshotId", snapshotId);
+    invoker.invoke("LayerTree.releaseSnapshot", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public String replaySnapshot(String snapshotId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("snapshotId", snapshotId);
+    return invoker.invoke("LayerTree.replaySnapshot", params, "dataURL", String.class, null);
+  }
+
+  @Override
+  public String replaySnapshot(String snapshotId, Integer fromStep, Integer toStep, Double scale) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("snapshotId", snapshotId);
+    params.put("fromStep", fromStep);
+    params.put("toStep", toStep);
+    params.put("scale", scale);
+    return invoker.invoke("LayerTree.replaySnapshot", params, "dataURL", String.class, null);
+  }
+
+  @Override
+  public List<Object> snapshotCommandLog(String snapshotId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("snapshotId", snapshotId);
+    return invoker.invoke(
+        "LayerTree.snapshotCommandLog",
+        params,
+        "commandLog",
+        List.class,
+        new Class<?>[] {Object.class});
+  }
+
+  @Override
+  public EventListener onLayerPainted(EventHandler<LayerPainted> eventListener) {
+    return invoker.addEventListener("LayerTree", "layerPainted", eventListener, LayerPainted.class);
+  }
+
+  @Override
+  public EventListener onLayerTreeDidChange(EventHandler<LayerTreeDidChange> eventListener) {
+    return invoker.addEventListener(
+        "LayerTree", "layerTreeDidChange", eventListener, LayerTreeDidChange.class);
+  }
+}
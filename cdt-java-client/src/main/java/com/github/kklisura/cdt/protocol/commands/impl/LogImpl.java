@@ -0,0 +1,74 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Log;
+import com.github.kklisura.cdt.protocol.events.log.EntryAdded;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.log.ViolationSetting;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Log command implementation. */
+public class LogImpl implements Log {
+
+  private final CommandInvoker invoker;
+
+  public LogImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void clear() {
+    invoker.invoke("Log.clear", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Log.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Log.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startViolationsReport(List<ViolationSetting> config) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("config", config);
+    invoker.invoke("Log.startViolationsReport", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stopViolationsReport() {
+    invoker.invoke("Log.stopViolationsReport", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onEntryAdded(EventHandler<EntryAdded> eventListener) {
+    return invoker.addEventListener("Log", "entryAdded", eventListener, EntryAdded.class);
+  }
+}
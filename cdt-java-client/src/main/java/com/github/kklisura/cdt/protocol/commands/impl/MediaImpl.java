@@ -0,0 +1,68 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Media;
+import com.github.kklisura.cdt.protocol.events.media.PlayerEventsAdded;
+import com.github.kklisura.cdt.protocol.events.media.PlayerPropertiesChanged;
+import com.github.kklisura.cdt.protocol.events.media.PlayersCreated;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import java.util.Collections;
+
+/** Media command implementation. */
+public class MediaImpl implements Media {
+
+  private final CommandInvoker invoker;
+
+  public MediaImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Media.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Media.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onPlayerPropertiesChanged(
+      EventHandler<PlayerPropertiesChanged> eventListener) {
+    return invoker.addEventListener(
+        "Media", "playerPropertiesChanged", eventListener, PlayerPropertiesChanged.class);
+  }
+
+  @Override
+  public EventListener onPlayerEventsAdded(EventHandler<PlayerEventsAdded> eventListener) {
+    return invoker.addEventListener(
+        "Media", "playerEventsAdded", eventListener, PlayerEventsAdded.class);
+  }
+
+  @Override
+  public EventListener onPlayersCreated(EventHandler<PlayersCreated> eventListener) {
+    return invoker.addEventListener("Media", "playersCreated", eventListener, PlayersCreated.class);
+  }
+}
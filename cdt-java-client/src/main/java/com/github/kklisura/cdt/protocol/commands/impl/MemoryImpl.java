@@ -0,0 +1,119 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Memory;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.memory.DOMCounters;
+import com.github.kklisura.cdt.protocol.types.memory.PressureLevel;
+import com.github.kklisura.cdt.protocol.types.memory.SamplingProfile;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Memory command implementation. */
+public class MemoryImpl implements Memory {
+
+  private final CommandInvoker invoker;
+
+  public MemoryImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public DOMCounters getDOMCounters() {
+    return invoker.invoke(
+        "Memory.getDOMCounters", Collections.emptyMap(), null, DOMCounters.class, null);
+  }
+
+  @Override
+  public void prepareForLeakDetection() {
+    invoker.invoke("Memory.prepareForLeakDetection", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void forciblyPurgeJavaScriptMemory() {
+    invoker.invoke(
+        "Memory.forciblyPurgeJavaScriptMemory", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setPressureNotificationsSuppressed(Boolean suppressed) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("suppressed", suppressed);
+    invoker.invoke("Memory.setPressureNotificationsSuppressed", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void simulatePressureNotification(PressureLevel level) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("level", level);
+    invoker.invoke("Memory.simulatePressureNotification", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startSampling() {
+    invoker.invoke("Memory.startSampling", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startSampling(Integer samplingInterval, Boolean suppressRandomness) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("samplingInterval", samplingInterval);
+    params.put("suppressRandomness", suppressRandomness);
+    invoker.invoke("Memory.startSampling", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stopSampling() {
+    invoker.invoke("Memory.stopSampling", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public SamplingProfile getAllTimeSamplingProfile() {
+    return invoker.invoke(
+        "Memory.getAllTimeSamplingProfile",
+        Collections.emptyMap(),
+        "profile",
+        SamplingProfile.class,
+        null);
+  }
+
+  @Override
+  public SamplingProfile getBrowserSamplingProfile() {
+    return invoker.invoke(
+        "Memory.getBrowserSamplingProfile",
+        Collections.emptyMap(),
+        "profile",
+        SamplingProfile.class,
+        null);
+  }
+
+  @Override
+  public SamplingProfile getSamplingProfile() {
+    return invoker.invoke(
+        "Memory.getSamplingProfile",
+        Collections.emptyMap(),
+        "profile",
+        SamplingProfile.class,
+        null);
+  }
+}
@@ -0,0 +1,516 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Network;
+import com.github.kklisura.cdt.protocol.events.network.DataReceived;
+import com.github.kklisura.cdt.protocol.events.network.EventSourceMessageReceived;
+import com.github.kklisura.cdt.protocol.events.network.LoadingFailed;
+import com.github.kklisura.cdt.protocol.events.network.LoadingFinished;
+import com.github.kklisura.cdt.protocol.events.network.RequestIntercepted;
+import com.github.kklisura.cdt.protocol.events.network.RequestServedFromCache;
+import com.github.kklisura.cdt.protocol.events.network.RequestWillBeSent;
+import com.github.kklisura.cdt.protocol.events.network.RequestWillBeSentExtraInfo;
+import com.github.kklisura.cdt.protocol.events.network.ResourceChangedPriority;
+import com.github.kklisura.cdt.protocol.events.network.ResponseReceived;
+import com.github.kklisura.cdt.protocol.events.network.ResponseReceivedExtraInfo;
+import com.github.kklisura.cdt.protocol.events.network.SignedExchangeReceived;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketClosed;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketCreated;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketFrameError;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketFrameReceived;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketFrameSent;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketHandshakeResponseReceived;
+import com.github.kklisura.cdt.protocol.events.network.WebSocketWillSendHandshakeRequest;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.debugger.SearchMatch;
+import com.github.kklisura.cdt.protocol.types.network.AuthChallengeResponse;
+import com.github.kklisura.cdt.protocol.types.network.ConnectionType;
+import com.github.kklisura.cdt.protocol.types.network.Cookie;
+import com.github.kklisura.cdt.protocol.types.network.CookieParam;
+import com.github.kklisura.cdt.protocol.types.network.CookieSameSite;
+import com.github.kklisura.cdt.protocol.types.network.ErrorReason;
+import com.github.kklisura.cdt.protocol.types.network.RequestPattern;
+import com.github.kklisura.cdt.protocol.types.network.ResponseBody;
+import com.github.kklisura.cdt.protocol.types.network.ResponseBodyForInterception;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Network command implementation. */
+public class NetworkImpl implements Network {
+
+  private final CommandInvoker invoker;
+
+  public NetworkImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  @Deprecated
+  public Boolean canClearBrowserCache() {
+    return invoker.invoke(
+        "Network.canClearBrowserCache", Collections.emptyMap(), "result", Boolean.class, null);
+  }
+
+  @Override
+  @Deprecated
+  public Boolean canClearBrowserCookies() {
+    return invoker.invoke(
+        "Network.canClearBrowserCookies", Collections.emptyMap(), "result", Boolean.class, null);
+  }
+
+  @Override
+  @Deprecated
+  public Boolean canEmulateNetworkConditions() {
+    return invoker.invoke(
+        "Network.canEmulateNetworkConditions",
+        Collections.emptyMap(),
+        "result",
+        Boolean.class,
+        null);
+  }
+
+  @Override
+  public void clearBrowserCache() {
+    invoker.invoke("Network.clearBrowserCache", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void clearBrowserCookies() {
+    invoker.invoke("Network.clearBrowserCookies", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  @Deprecated
+  public void continueInterceptedRequest(String interceptionId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("interceptionId", interceptionId);
+    invoker.invoke("Network.continueInterceptedRequest", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  @Deprecated
+  public void continueInterceptedRequest(
+      String interceptionId,
+      ErrorReason errorReason,
+      String rawResponse,
+      String url,
+      String method,
+      String postData,
+      Map<String, Object> headers,
+      AuthChallengeResponse authChallengeResponse) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("interceptionId", interceptionId);
+    params.put("errorReason", errorReason);
+    params.put("rawResponse", rawResponse);
+    params.put("url", url);
+    params.put("method", method);
+    params.put("postData", postData);
+    params.put("headers", headers);
+    params.put("authChallengeResponse", authChallengeResponse);
+    invoker.invoke("Network.continueInterceptedRequest", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void deleteCookies(String name) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("name", name);
+    invoker.invoke("Network.deleteCookies", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void deleteCookies(String name, String url, String domain, String path) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("name", name);
+    params.put("url", url);
+    params.put("domain", domain);
+    params.put("path", path);
+    invoker.invoke("Network.deleteCookies", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Network.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void emulateNetworkConditions(
+      Boolean offline, Double latency, Double downloadThroughput, Double uploadThroughput) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("offline", offline);
+    params.put("latency", latency);
+    params.put("downloadThroughput", downloadThroughput);
+    params.put("uploadThroughput", uploadThroughput);
+    invoker.invoke("Network.emulateNetworkConditions", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void emulateNetworkConditions(
+      Boolean offline,
+      Double latency,
+      Double downloadThroughput,
+      Double uploadThroughput,
+      ConnectionType connectionType) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("offline", offline);
+    params.put("latency", latency);
+    params.put("downloadThroughput", downloadThroughput);
+    params.put("uploadThroughput", uploadThroughput);
+    params.put("connectionType", connectionType);
+    invoker.invoke("Network.emulateNetworkConditions", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Network.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable(
+      Integer maxTotalBufferSize, Integer maxResourceBufferSize, Integer maxPostDataSize) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("maxTotalBufferSize", maxTotalBufferSize);
+    params.put("maxResourceBufferSize", maxResourceBufferSize);
+    params.put("maxPostDataSize", maxPostDataSize);
+    invoker.invoke("Network.enable", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<Cookie> getAllCookies() {
+    return invoker.invoke(
+        "Network.getAllCookies",
+        Collections.emptyMap(),
+        "cookies",
+        List.class,
+        new Class<?>[] {Cookie.class});
+  }
+
+  @Override
+  public List<String> getCertificate(String origin) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    return invoker.invoke(
+        "Network.getCertificate", params, "tableNames", List.class, new Class<?>[] {String.class});
+  }
+
+  @Override
+  public List<Cookie> getCookies() {
+    return invoker.invoke(
+        "Network.getCookies",
+        Collections.emptyMap(),
+        "cookies",
+        List.class,
+        new Class<?>[] {Cookie.class});
+  }
+
+  @Override
+  public List<Cookie> getCookies(List<String> urls) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("urls", urls);
+    return invoker.invoke(
+        "Network.getCookies", params, "cookies", List.class, new Class<?>[] {Cookie.class});
+  }
+
+  @Override
+  public ResponseBody getResponseBody(String requestId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    return invoker.invoke("Network.getResponseBody", params, null, ResponseBody.class, null);
+  }
+
+  @Override
+  public String getRequestPostData(String requestId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    return invoker.invoke("Network.getRequestPostData", params, "postData", String.class, null);
+  }
+
+  @Override
+  public ResponseBodyForInterception getResponseBodyForInterception(String interceptionId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("interceptionId", interceptionId);
+    return invoker.invoke(
+        "Network.getResponseBodyForInterception",
+        params,
+        null,
+        ResponseBodyForInterception.class,
+        null);
+  }
+
+  @Override
+  public String takeResponseBodyForInterceptionAsStream(String interceptionId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("interceptionId", interceptionId);
+    return invoker.invoke(
+        "Network.takeResponseBodyForInterceptionAsStream", params, "stream", String.class, null);
+  }
+
+  @Override
+  public void replayXHR(String requestId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    invoker.invoke("Network.replayXHR", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<SearchMatch> searchInResponseBody(String requestId, String query) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    params.put("query", query);
+    return invoker.invoke(
+        "Network.searchInResponseBody",
+        params,
+        "result",
+        List.class,
+        new Class<?>[] {SearchMatch.class});
+  }
+
+  @Override
+  public List<SearchMatch> searchInResponseBody(
+      String requestId, String query, Boolean caseSensitive, Boolean isRegex) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("requestId", requestId);
+    params.put("query", query);
+    params.put("caseSensitive", caseSensitive);
+    params.put("isRegex", isRegex);
+    return invoker.invoke(
+        "Network.searchInResponseBody",
+        params,
+        "result",
+        List.class,
+        new Class<?>[] {SearchMatch.class});
+  }
+
+  @Override
+  public void setBlockedURLs(List<String> urls) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("urls", urls);
+    invoker.invoke("Network.setBlockedURLs", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setBypassServiceWorker(Boolean bypass) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("bypass", bypass);
+    invoker.invoke("Network.setBypassServiceWorker", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setCacheDisabled(Boolean cacheDisabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("cacheDisabled", cacheDisabled);
+    invoker.invoke("Network.setCacheDisabled", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public Boolean setCookie(String name, String value) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("name", name);
+    params.put("value", value);
+    return invoker.invoke("Network.setCookie", params, "success", Boolean.class, null);
+  }
+
+  @Override
+  public Boolean setCookie(
+      String name,
+      String value,
+      String url,
+      String domain,
+      String path,
+      Boolean secure,
+      Boolean httpOnly,
+      CookieSameSite sameSite,
+      Double expires) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("name", name);
+    params.put("value", value);
+    params.put("url", url);
+    params.put("domain", domain);
+    params.put("path", path);
+    params.put("secure", secure);
+    params.put("httpOnly", httpOnly);
+    params.put("sameSite", sameSite);
+    params.put("expires", expires);
+    return invoker.invoke("Network.setCookie", params, "success", Boolean.class, null);
+  }
+
+  @Override
+  public void setCookies(List<CookieParam> cookies) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("cookies", cookies);
+    invoker.invoke("Network.setCookies", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDataSizeLimitsForTest(Integer maxTotalSize, Integer maxResourceSize) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("maxTotalSize", maxTotalSize);
+    params.put("maxResourceSize", maxResourceSize);
+    invoker.invoke("Network.setDataSizeLimitsForTest", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setExtraHTTPHeaders(Map<String, Object> headers) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("headers", headers);
+    invoker.invoke("Network.setExtraHTTPHeaders", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  @Deprecated
+  public void setRequestInterception(List<RequestPattern> patterns) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("patterns", patterns);
+    invoker.invoke("Network.setRequestInterception", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onDataReceived(EventHandler<DataReceived> eventListener) {
+    return invoker.addEventListener("Network", "dataReceived", eventListener, DataReceived.class);
+  }
+
+  @Override
+  public EventListener onEventSourceMessageReceived(
+      EventHandler<EventSourceMessageReceived> eventListener) {
+    return invoker.addEventListener(
+        "Network", "eventSourceMessageReceived", eventListener, EventSourceMessageReceived.class);
+  }
+
+  @Override
+  public EventListener onLoadingFailed(EventHandler<LoadingFailed> eventListener) {
+    return invoker.addEventListener("Network", "loadingFailed", eventListener, LoadingFailed.class);
+  }
+
+  @Override
+  public EventListener onLoadingFinished(EventHandler<LoadingFinished> eventListener) {
+    return invoker.addEventListener(
+        "Network", "loadingFinished", eventListener, LoadingFinished.class);
+  }
+
+  @Override
+  @Deprecated
+  public EventListener onRequestIntercepted(EventHandler<RequestIntercepted> eventListener) {
+    return invoker.addEventListener(
+        "Network", "requestIntercepted", eventListener, RequestIntercepted.class);
+  }
+
+  @Override
+  public EventListener onRequestServedFromCache(
+      EventHandler<RequestServedFromCache> eventListener) {
+    return invoker.addEventListener(
+        "Network", "requestServedFromCache", eventListener, RequestServedFromCache.class);
+  }
+
+  @Override
+  public EventListener onRequestWillBeSent(EventHandler<RequestWillBeSent> eventListener) {
+    return invoker.addEventListener(
+        "Network", "requestWillBeSent", eventListener, RequestWillBeSent.class);
+  }
+
+  @Override
+  public EventListener onResourceChangedPriority(
+      EventHandler<ResourceChangedPriority> eventListener) {
+    return invoker.addEventListener(
+        "Network", "resourceChangedPriority", eventListener, ResourceChangedPriority.class);
+  }
+
+  @Override
+  public EventListener onSignedExchangeReceived(
+      EventHandler<SignedExchangeReceived> eventListener) {
+    return invoker.addEventListener(
+        "Network", "signedExchangeReceived", eventListener, SignedExchangeReceived.class);
+  }
+
+  @Override
+  public EventListener onResponseReceived(EventHandler<ResponseReceived> eventListener) {
+    return invoker.addEventListener(
+        "Network", "responseReceived", eventListener, ResponseReceived.class);
+  }
+
+  @Override
+  public EventListener onWebSocketClosed(EventHandler<WebSocketClosed> eventListener) {
+    return invoker.addEventListener(
+        "Network", "webSocketClosed", eventListener, WebSocketClosed.class);
+  }
+
+  @Override
+  public EventListener onWebSocketCreated(EventHandler<WebSocketCreated> eventListener) {
+    return invoker.addEventListener(
+        "Network", "webSocketCreated", eventListener, WebSocketCreated.class);
+  }
+
+  @Override
+  public EventListener onWebSocketFrameError(EventHandler<WebSocketFrameError> eventListener) {
+    return invoker.addEventListener(
+        "Network", "webSocketFrameError", eventListener, WebSocketFrameError.class);
+  }
+
+  @Override
+  public EventListener onWebSocketFrameReceived(
+      EventHandler<WebSocketFrameReceived> eventListener) {
+    return invoker.addEventListener(
+        "Network", "webSocketFrameReceived", eventListener, WebSocketFrameReceived.class);
+  }
+
+  @Override
+  public EventListener onWebSocketFrameSent(EventHandler<WebSocketFrameSent> eventListener) {
+    return invoker.addEventListener(
+        "Network", "webSocketFrameSent", eventListener, WebSocketFrameSent.class);
+  }
+
+  @Override
+  public EventListener onWebSocketHandshakeResponseReceived(
+      EventHandler<WebSocketHandshakeResponseReceived> eventListener) {
+    return invoker.addEventListener(
+        "Network",
+        "webSocketHandshakeResponseReceived",
+        eventListener,
+        WebSocketHandshakeResponseReceived.class);
+  }
+
+  @Override
+  public EventListener onWebSocketWillSendHandshakeRequest(
+      EventHandler<WebSocketWillSendHandshakeRequest> eventListener) {
+    return invoker.addEventListener(
+        "Network",
+        "webSocketWillSendHandshakeRequest",
+        eventListener,
+        WebSocketWillSendHandshakeRequest.class);
+  }
+
+  @Override
+  public EventListener onRequestWillBeSentExtraInfo(
+      EventHandler<RequestWillBeSentExtraInfo> eventListener) {
+    return invoker.addEventListener(
+        "Network", "requestWillBeSentExtraInfo", eventListener, RequestWillBeSentExtraInfo.class);
+  }
+
+  @Override
+  public EventListener onResponseReceivedExtraInfo(
+      EventHandler<ResponseReceivedExtraInfo> eventListener) {
+    return invoker.addEventListener(
+        "Network", "responseReceivedExtraInfo", eventListener, ResponseReceivedExtraInfo.class);
+  }
+}
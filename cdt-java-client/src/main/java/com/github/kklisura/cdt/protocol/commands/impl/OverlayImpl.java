@@ -0,0 +1,268 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Overlay;
+import com.github.kklisura.cdt.protocol.events.overlay.InspectModeCanceled;
+import com.github.kklisura.cdt.protocol.events.overlay.InspectNodeRequested;
+import com.github.kklisura.cdt.protocol.events.overlay.NodeHighlightRequested;
+import com.github.kklisura.cdt.protocol.events.overlay.ScreenshotRequested;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.dom.RGBA;
+import com.github.kklisura.cdt.protocol.types.overlay.HighlightConfig;
+import com.github.kklisura.cdt.protocol.types.overlay.InspectMode;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Overlay command implementation. */
+public class OverlayImpl implements Overlay {
+
+  private final CommandInvoker invoker;
+
+  public OverlayImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Overlay.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Overlay.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public Map<String, Object> getHighlightObjectForTest(Integer nodeId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    return invoker.invoke(
+        "Overlay.getHighlightObjectForTest", params, "highlight", Map.class, null);
+  }
+
+  @Override
+  public Map<String, Object> getHighlightObjectForTest(
+      Integer nodeId, Boolean includeDistance, Boolean includeStyle) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("nodeId", nodeId);
+    params.put("includeDistance", includeDistance);
+    params.put("includeStyle", includeStyle);
+    return invoker.invoke(
+        "Overlay.getHighlightObjectForTest", params, "highlight", Map.class, null);
+  }
+
+  @Override
+  public void hideHighlight() {
+    invoker.invoke("Overlay.hideHighlight", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void highlightFrame(String frameId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    invoker.invoke("Overlay.highlightFrame", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void highlightFrame(String frameId, RGBA contentColor, RGBA contentOutlineColor) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    params.put("contentColor", contentColor);
+    params.put("contentOutlineColor", contentOutlineColor);
+    invoker.invoke("Overlay.highlightFrame", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void highlightNode(HighlightConfig highlightConfig) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("highlightConfig", highlightConfig);
+    invoker.invoke("Overlay.highlightNode", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void highlightNode(
+      HighlightConfig highlightConfig,
+      Integer nodeId,
+      Integer backendNodeId,
+      String objectId,
+      String selector) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("highlightConfig", highlightConfig);
+    params.put("nodeId", nodeId);
+    params.put("backendNodeId", backendNodeId);
+    params.put("objectId", objectId);
+    params.put("selector", selector);
+    invoker.invoke("Overlay.highlightNode", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void highlightQuad(List<Double> quad) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("quad", quad);
+    invoker.invoke("Overlay.highlightQuad", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void highlightQuad(List<Double> quad, RGBA color, RGBA outlineColor) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("quad", quad);
+    params.put("color", color);
+    params.put("outlineColor", outlineColor);
+    invoker.invoke("Overlay.highlightQuad", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void highlightRect(Integer x, Integer y, Integer width, Integer height) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("x", x);
+    params.put("y", y);
+    params.put("width", width);
+    params.put("height", height);
+    invoker.invoke("Overlay.highlightRect", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void highlightRect(
+      Integer x, Integer y, Integer width, Integer height, RGBA color, RGBA outlineColor) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("x", x);
+    params.put("y", y);
+    params.put("width", width);
+    params.put("height", height);
+    params.put("color", color);
+    params.put("outlineColor", outlineColor);
+    invoker.invoke("Overlay.highlightRect", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setInspectMode(InspectMode mode) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("mode", mode);
+    invoker.invoke("Overlay.setInspectMode", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setInspectMode(InspectMode mode, HighlightConfig highlightConfig) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("mode", mode);
+    params.put("highlightConfig", highlightConfig);
+    invoker.invoke("Overlay.setInspectMode", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setShowAdHighlights(Boolean show) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("show", show);
+    invoker.invoke("Overlay.setShowAdHighlights", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setPausedInDebuggerMessage() {
+    invoker.invoke(
+        "Overlay.setPausedInDebuggerMessage", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setPausedInDebuggerMessage(String message) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("message", message);
+    invoker.invoke("Overlay.setPausedInDebuggerMessage", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setShowDebugBorders(Boolean show) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("show", show);
+    invoker.invoke("Overlay.setShowDebugBorders", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setShowFPSCounter(Boolean show) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("show", show);
+    invoker.invoke("Overlay.setShowFPSCounter", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setShowPaintRects(Boolean result) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("result", result);
+    invoker.invoke("Overlay.setShowPaintRects", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setShowLayoutShiftRegions(Boolean result) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("result", result);
+    invoker.invoke("Overlay.setShowLayoutShiftRegions", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setShowScrollBottleneckRects(Boolean show) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("show", show);
+    invoker.invoke("Overlay.setShowScrollBottleneckRects", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setShowHitTestBorders(Boolean show) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("show", show);
+    invoker.invoke("Overlay.setShowHitTestBorders", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setShowViewportSizeOnResize(Boolean show) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("show", show);
+    invoker.invoke("Overlay.setShowViewportSizeOnResize", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onInspectNodeRequested(EventHandler<InspectNodeRequested> eventListener) {
+    return invoker.addEventListener(
+        "Overlay", "inspectNodeRequested", eventListener, InspectNodeRequested.class);
+  }
+
+  @Override
+  public EventListener onNodeHighlightRequested(
+      EventHandler<NodeHighlightRequested> eventListener) {
+    return invoker.addEventListener(
+        "Overlay", "nodeHighlightRequested", eventListener, NodeHighlightRequested.class);
+  }
+
+  @Override
+  public EventListener onScreenshotRequested(EventHandler<ScreenshotRequested> eventListener) {
+    return invoker.addEventListener(
+        "Overlay", "screenshotRequested", eventListener, ScreenshotRequested.class);
+  }
+
+  @Override
+  public EventListener onInspectModeCanceled(EventHandler<InspectModeCanceled> eventListener) {
+    return invoker.addEventListener(
+        "Overlay", "inspectModeCanceled", eventListener, InspectModeCanceled.class);
+  }
+}
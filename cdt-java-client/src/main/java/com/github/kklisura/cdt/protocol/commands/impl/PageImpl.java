@@ -0,0 +1,679 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Page;
+import com.github.kklisura.cdt.protocol.events.page.CompilationCacheProduced;
+import com.github.kklisura.cdt.protocol.events.page.DomContentEventFired;
+import com.github.kklisura.cdt.protocol.events.page.DownloadWillBegin;
+import com.github.kklisura.cdt.protocol.events.page.FileChooserOpened;
+import com.github.kklisura.cdt.protocol.events.page.FrameAttached;
+import com.github.kklisura.cdt.protocol.events.page.FrameClearedScheduledNavigation;
+import com.github.kklisura.cdt.protocol.events.page.FrameDetached;
+import com.github.kklisura.cdt.protocol.events.page.FrameNavigated;
+import com.github.kklisura.cdt.protocol.events.page.FrameRequestedNavigation;
+import com.github.kklisura.cdt.protocol.events.page.FrameResized;
+import com.github.kklisura.cdt.protocol.events.page.FrameScheduledNavigation;
+import com.github.kklisura.cdt.protocol.events.page.FrameStartedLoading;
+import com.github.kklisura.cdt.protocol.events.page.FrameStoppedLoading;
+import com.github.kklisura.cdt.protocol.events.page.InterstitialHidden;
+import com.github.kklisura.cdt.protocol.events.page.InterstitialShown;
+import com.github.kklisura.cdt.protocol.events.page.JavascriptDialogClosed;
+import com.github.kklisura.cdt.protocol.events.page.JavascriptDialogOpening;
+import com.github.kklisura.cdt.protocol.events.page.LifecycleEvent;
+import com.github.kklisura.cdt.protocol.events.page.LoadEventFired;
+import com.github.kklisura.cdt.protocol.events.page.NavigatedWithinDocument;
+import com.github.kklisura.cdt.protocol.events.page.ScreencastFrame;
+import com.github.kklisura.cdt.protocol.events.page.ScreencastVisibilityChanged;
+import com.github.kklisura.cdt.protocol.events.page.WindowOpen;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.debugger.SearchMatch;
+import com.github.kklisura.cdt.protocol.types.page.AppManifest;
+import com.github.kklisura.cdt.protocol.types.page.CaptureScreenshotFormat;
+import com.github.kklisura.cdt.protocol.types.page.CaptureSnapshotFormat;
+import com.github.kklisura.cdt.protocol.types.page.FontFamilies;
+import com.github.kklisura.cdt.protocol.types.page.FontSizes;
+import com.github.kklisura.cdt.protocol.types.page.FrameResourceTree;
+import com.github.kklisura.cdt.protocol.types.page.FrameTree;
+import com.github.kklisura.cdt.protocol.types.page.HandleFileChooserAction;
+import com.github.kklisura.cdt.protocol.types.page.LayoutMetrics;
+import com.github.kklisura.cdt.protocol.types.page.Navigate;
+import com.github.kklisura.cdt.protocol.types.page.NavigationHistory;
+import com.github.kklisura.cdt.protocol.types.page.PrintToPDF;
+import com.github.kklisura.cdt.protocol.types.page.PrintToPDFTransferMode;
+import com.github.kklisura.cdt.protocol.types.page.ResourceContent;
+import com.github.kklisura.cdt.protocol.types.page.SetDownloadBehaviorBehavior;
+import com.github.kklisura.cdt.protocol.types.page.SetWebLifecycleStateState;
+import com.github.kklisura.cdt.protocol.types.page.StartScreencastFormat;
+import com.github.kklisura.cdt.protocol.types.page.TransitionType;
+import com.github.kklisura.cdt.protocol.types.page.Viewport;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Page command implementation. */
+public class PageImpl implements Page {
+
+  private final CommandInvoker invoker;
+
+  public PageImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  @Deprecated
+  public String addScriptToEvaluateOnLoad(String scriptSource) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scriptSource", scriptSource);
+    return invoker.invoke(
+        "Page.addScriptToEvaluateOnLoad", params, "identifier", String.class, null);
+  }
+
+  @Override
+  public String addScriptToEvaluateOnNewDocument(String source) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("source", source);
+    return invoker.invoke(
+        "Page.addScriptToEvaluateOnNewDocument", params, "identifier", String.class, null);
+  }
+
+  @Override
+  public String addScriptToEvaluateOnNewDocument(String source, String worldName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("source", source);
+    params.put("worldName", worldName);
+    return invoker.invoke(
+        "Page.addScriptToEvaluateOnNewDocument", params, "identifier", String.class, null);
+  }
+
+  @Override
+  public void bringToFront() {
+    invoker.invoke("Page.bringToFront", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public String captureScreenshot() {
+    return invoker.invoke(
+        "Page.captureScreenshot", Collections.emptyMap(), "data", String.class, null);
+  }
+
+  @Override
+  public String captureScreenshot(
+      CaptureScreenshotFormat format, Integer quality, Viewport clip, Boolean fromSurface) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("format", format);
+    params.put("quality", quality);
+    params.put("clip", clip);
+    params.put("fromSurface", fromSurface);
+    return invoker.invoke("Page.captureScreenshot", params, "data", String.class, null);
+  }
+
+  @Override
+  public String captureSnapshot() {
+    return invoker.invoke(
+        "Page.captureSnapshot", Collections.emptyMap(), "data", String.class, null);
+  }
+
+  @Override
+  public String captureSnapshot(CaptureSnapshotFormat format) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("format", format);
+    return invoker.invoke("Page.captureSnapshot", params, "data", String.class, null);
+  }
+
+  @Override
+  public Integer createIsolatedWorld(String frameId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    return invoker.invoke(
+        "Page.createIsolatedWorld", params, "executionContextId", Integer.class, null);
+  }
+
+  @Override
+  public Integer createIsolatedWorld(
+      String frameId, String worldName, Boolean grantUniveralAccess) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    params.put("worldName", worldName);
+    params.put("grantUniveralAccess", grantUniveralAccess);
+    return invoker.invoke(
+        "Page.createIsolatedWorld", params, "executionContextId", Integer.class, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Page.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Page.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public AppManifest getAppManifest() {
+    return invoker.invoke(
+        "Page.getAppManifest", Collections.emptyMap(), null, AppManifest.class, null);
+  }
+
+  @Override
+  public List<String> getInstallabilityErrors() {
+    return invoker.invoke(
+        "Page.getInstallabilityErrors",
+        Collections.emptyMap(),
+        "errors",
+        List.class,
+        new Class<?>[] {String.class});
+  }
+
+  @Override
+  public FrameTree getFrameTree() {
+    return invoker.invoke(
+        "Page.getFrameTree", Collections.emptyMap(), "frameTree", FrameTree.class, null);
+  }
+
+  @Override
+  public LayoutMetrics getLayoutMetrics() {
+    return invoker.invoke(
+        "Page.getLayoutMetrics", Collections.emptyMap(), null, LayoutMetrics.class, null);
+  }
+
+  @Override
+  public NavigationHistory getNavigationHistory() {
+    return invoker.invoke(
+        "Page.getNavigationHistory", Collections.emptyMap(), null, NavigationHistory.class, null);
+  }
+
+  @Override
+  public void resetNavigationHistory() {
+    invoker.invoke("Page.resetNavigationHistory", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public ResourceContent getResourceContent(String frameId, String url) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    params.put("url", url);
+    return invoker.invoke("Page.getResourceContent", params, null, ResourceContent.class, null);
+  }
+
+  @Override
+  public FrameResourceTree getResourceTree() {
+    return invoker.invoke(
+        "Page.getResourceTree", Collections.emptyMap(), "frameTree", FrameResourceTree.class, null);
+  }
+
+  @Override
+  public void handleJavaScriptDialog(Boolean accept) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("accept", accept);
+    invoker.invoke("Page.handleJavaScriptDialog", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void handleJavaScriptDialog(Boolean accept, String promptText) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("accept", accept);
+    params.put("promptText", promptText);
+    invoker.invoke("Page.handleJavaScriptDialog", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public Navigate navigate(String url) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", url);
+    return invoker.invoke("Page.navigate", params, null, Navigate.class, null);
+  }
+
+  @Override
+  public Navigate navigate(
+      String url, String referrer, TransitionType transitionType, String frameId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", url);
+    params.put("referrer", referrer);
+    params.put("transitionType", transitionType);
+    params.put("frameId", frameId);
+    return invoker.invoke("Page.navigate", params, null, Navigate.class, null);
+  }
+
+  @Override
+  public void navigateToHistoryEntry(Integer entryId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("entryId", entryId);
+    invoker.invoke("Page.navigateToHistoryEntry", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public PrintToPDF printToPDF() {
+    return invoker.invoke("Page.printToPDF", Collections.emptyMap(), null, PrintToPDF.class, null);
+  }
+
+  @Override
+  public PrintToPDF printToPDF(
+      Boolean landscape,
+      Boolean displayHeaderFooter,
+      Boolean printBackground,
+      Double scale,
+      Double paperWidth,
+      Double paperHeight,
+      Double marginTop,
+      Double marginBottom,
+      Double marginLeft,
+      Double marginRight,
+      String pageRanges,
+      Boolean ignoreInvalidPageRanges,
+      String headerTemplate,
+      String footerTemplate,
+      Boolean preferCSSPageSize,
+      PrintToPDFTransferMode transferMode) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("landscape", landscape);
+    params.put("displayHeaderFooter", displayHeaderFooter);
+    params.put("printBackground", printBackground);
+    params.put("scale", scale);
+    params.put("paperWidth", paperWidth);
+    params.put("paperHeight", paperHeight);
+    params.put("marginTop", marginTop);
+    params.put("marginBottom", marginBottom);
+    params.put("marginLeft", marginLeft);
+    params.put("marginRight", marginRight);
+    params.put("pageRanges", pageRanges);
+    params.put("ignoreInvalidPageRanges", ignoreInvalidPageRanges);
+    params.put("headerTemplate", headerTemplate);
+    params.put("footerTemplate", footerTemplate);
+    params.put("preferCSSPageSize", preferCSSPageSize);
+    params.put("transferMode", transferMode);
+    return invoker.invoke("Page.printToPDF", params, null, PrintToPDF.class, null);
+  }
+
+  @Override
+  public void reload() {
+    invoker.invoke("Page.reload", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void reload(Boolean ignoreCache, String scriptToEvaluateOnLoad) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("ignoreCache", ignoreCache);
+    params.put("scriptToEvaluateOnLoad", scriptToEvaluateOnLoad);
+    invoker.invoke("Page.reload", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  @Deprecated
+  public void removeScriptToEvaluateOnLoad(String identifier) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("identifier", identifier);
+    invoker.invoke("Page.removeScriptToEvaluateOnLoad", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void removeScriptToEvaluateOnNewDocument(String identifier) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("identifier", identifier);
+    invoker.invoke("Page.removeScriptToEvaluateOnNewDocument", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void screencastFrameAck(Integer sessionId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("sessionId", sessionId);
+    invoker.invoke("Page.screencastFrameAck", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<SearchMatch> searchInResource(String frameId, String url, String query) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    params.put("url", url);
+    params.put("query", query);
+    return invoker.invoke(
+        "Page.searchInResource", params, "result", List.class, new Class<?>[] {SearchMatch.class});
+  }
+
+  @Override
+  public List<SearchMatch> searchInResource(
+      String frameId, String url, String query, Boolean caseSensitive, Boolean isRegex) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    params.put("url", url);
+    params.put("query", query);
+    params.put("caseSensitive", caseSensitive);
+    params.put("isRegex", isRegex);
+    return invoker.invoke(
+        "Page.searchInResource", params, "result", List.class, new Class<?>[] {SearchMatch.class});
+  }
+
+  @Override
+  public void setAdBlockingEnabled(Boolean enabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    invoker.invoke("Page.setAdBlockingEnabled", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setBypassCSP(Boolean enabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    invoker.invoke("Page.setBypassCSP", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setFontFamilies(FontFamilies fontFamilies) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("fontFamilies", fontFamilies);
+    invoker.invoke("Page.setFontFamilies", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setFontSizes(FontSizes fontSizes) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("fontSizes", fontSizes);
+    invoker.invoke("Page.setFontSizes", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDocumentContent(String frameId, String html) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("frameId", frameId);
+    params.put("html", html);
+    invoker.invoke("Page.setDocumentContent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDownloadBehavior(SetDownloadBehaviorBehavior behavior) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("behavior", behavior);
+    invoker.invoke("Page.setDownloadBehavior", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDownloadBehavior(SetDownloadBehaviorBehavior behavior, String downloadPath) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("behavior", behavior);
+    params.put("downloadPath", downloadPath);
+    invoker.invoke("Page.setDownloadBehavior", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setLifecycleEventsEnabled(Boolean enabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    invoker.invoke("Page.setLifecycleEventsEnabled", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startScreencast() {
+    invoker.invoke("Page.startScreencast", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startScreencast(
+      StartScreencastFormat format,
+      Integer quality,
+      Integer maxWidth,
+      Integer maxHeight,
+      Integer everyNthFrame) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("format", format);
+    params.put("quality", quality);
+    params.put("maxWidth", maxWidth);
+    params.put("maxHeight", maxHeight);
+    params.put("everyNthFrame", everyNthFrame);
+    invoker.invoke("Page.startScreencast", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stopLoading() {
+    invoker.invoke("Page.stopLoading", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void crash() {
+    invoker.invoke("Page.crash", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void close() {
+    invoker.invoke("Page.close", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setWebLifecycleState(SetWebLifecycleStateState state) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("state", state);
+    invoker.invoke("Page.setWebLifecycleState", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stopScreencast() {
+    invoker.invoke("Page.stopScreencast", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setProduceCompilationCache(Boolean enabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    invoker.invoke("Page.setProduceCompilationCache", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void addCompilationCache(String url, String data) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", url);
+    params.put("data", data);
+    invoker.invoke("Page.addCompilationCache", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void clearCompilationCache() {
+    invoker.invoke("Page.clearCompilationCache", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void generateTestReport(String message) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("message", message);
+    invoker.invoke("Page.generateTestReport", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void generateTestReport(String message, String group) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("message", message);
+    params.put("group", group);
+    invoker.invoke("Page.generateTestReport", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void waitForDebugger() {
+    invoker.invoke("Page.waitForDebugger", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setInterceptFileChooserDialog(Boolean enabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    invoker.invoke("Page.setInterceptFileChooserDialog", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void handleFileChooser(HandleFileChooserAction action) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("action", action);
+    invoker.invoke("Page.handleFileChooser", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void handleFileChooser(HandleFileChooserAction action, List<String> files) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("action", action);
+    params.put("files", files);
+    invoker.invoke("Page.handleFileChooser", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onDomContentEventFired(EventHandler<DomContentEventFired> eventListener) {
+    return invoker.addEventListener(
+        "Page", "domContentEventFired", eventListener, DomContentEventFired.class);
+  }
+
+  @Override
+  public EventListener onFileChooserOpened(EventHandler<FileChooserOpened> eventListener) {
+    return invoker.addEventListener(
+        "Page", "fileChooserOpened", eventListener, FileChooserOpened.class);
+  }
+
+  @Override
+  public EventListener onFrameAttached(EventHandler<FrameAttached> eventListener) {
+    return invoker.addEventListener("Page", "frameAttached", eventListener, FrameAttached.class);
+  }
+
+  @Override
+  @Deprecated
+  public EventListener onFrameClearedScheduledNavigation(
+      EventHandler<FrameClearedScheduledNavigation> eventListener) {
+    return invoker.addEventListener(
+        "Page",
+        "frameClearedScheduledNavigation",
+        eventListener,
+        FrameClearedScheduledNavigation.class);
+  }
+
+  @Override
+  public EventListener onFrameDetached(EventHandler<FrameDetached> eventListener) {
+    return invoker.addEventListener("Page", "frameDetached", eventListener, FrameDetached.class);
+  }
+
+  @Override
+  public EventListener onFrameNavigated(EventHandler<FrameNavigated> eventListener) {
+    return invoker.addEventListener("Page", "frameNavigated", eventListener, FrameNavigated.class);
+  }
+
+  @Override
+  public EventListener onFrameResized(EventHandler<FrameResized> eventListener) {
+    return invoker.addEventListener("Page", "frameResized", eventListener, FrameResized.class);
+  }
+
+  @Override
+  public EventListener onFrameRequestedNavigation(
+      EventHandler<FrameRequestedNavigation> eventListener) {
+    return invoker.addEventListener(
+        "Page", "frameRequestedNavigation", eventListener, FrameRequestedNavigation.class);
+  }
+
+  @Override
+  @Deprecated
+  public EventListener onFrameScheduledNavigation(
+      EventHandler<FrameScheduledNavigation> eventListener) {
+    return invoker.addEventListener(
+        "Page", "frameScheduledNavigation", eventListener, FrameScheduledNavigation.class);
+  }
+
+  @Override
+  public EventListener onFrameStartedLoading(EventHandler<FrameStartedLoading> eventListener) {
+    return invoker.addEventListener(
+        "Page", "frameStartedLoading", eventListener, FrameStartedLoading.class);
+  }
+
+  @Override
+  public EventListener onFrameStoppedLoading(EventHandler<FrameStoppedLoading> eventListener) {
+    return invoker.addEventListener(
+        "Page", "frameStoppedLoading", eventListener, FrameStoppedLoading.class);
+  }
+
+  @Override
+  public EventListener onDownloadWillBegin(EventHandler<DownloadWillBegin> eventListener) {
+    return invoker.addEventListener(
+        "Page", "downloadWillBegin", eventListener, DownloadWillBegin.class);
+  }
+
+  @Override
+  public EventListener onInterstitialHidden(EventHandler<InterstitialHidden> eventListener) {
+    return invoker.addEventListener(
+        "Page", "interstitialHidden", eventListener, InterstitialHidden.class);
+  }
+
+  @Override
+  public EventListener onInterstitialShown(EventHandler<InterstitialShown> eventListener) {
+    return invoker.addEventListener(
+        "Page", "interstitialShown", eventListener, InterstitialShown.class);
+  }
+
+  @Override
+  public EventListener onJavascriptDialogClosed(
+      EventHandler<JavascriptDialogClosed> eventListener) {
+    return invoker.addEventListener(
+        "Page", "javascriptDialogClosed", eventListener, JavascriptDialogClosed.class);
+  }
+
+  @Override
+  public EventListener onJavascriptDialogOpening(
+      EventHandler<JavascriptDialogOpening> eventListener) {
+    return invoker.addEventListener(
+        "Page", "javascriptDialogOpening", eventListener, JavascriptDialogOpening.class);
+  }
+
+  @Override
+  public EventListener onLifecycleEvent(EventHandler<LifecycleEvent> eventListener) {
+    return invoker.addEventListener("Page", "lifecycleEvent", eventListener, LifecycleEvent.class);
+  }
+
+  @Override
+  public EventListener onLoadEventFired(EventHandler<LoadEventFired> eventListener) {
+    return invoker.addEventListener("Page", "loadEventFired", eventListener, LoadEventFired.class);
+  }
+
+  @Override
+  public EventListener onNavigatedWithinDocument(
+      EventHandler<NavigatedWithinDocument> eventListener) {
+    return invoker.addEventListener(
+        "Page", "navigatedWithinDocument", eventListener, NavigatedWithinDocument.class);
+  }
+
+  @Override
+  public EventListener onScreencastFrame(EventHandler<ScreencastFrame> eventListener) {
+    return invoker.addEventListener(
+        "Page", "screencastFrame", eventListener, ScreencastFrame.class);
+  }
+
+  @Override
+  public EventListener onScreencastVisibilityChanged(
+      EventHandler<ScreencastVisibilityChanged> eventListener) {
+    return invoker.addEventListener(
+        "Page", "screencastVisibilityChanged", eventListener, ScreencastVisibilityChanged.class);
+  }
+
+  @Override
+  public EventListener onWindowOpen(EventHandler<WindowOpen> eventListener) {
+    return invoker.addEventListener("Page", "windowOpen", eventListener, WindowOpen.class);
+  }
+
+  @Override
+  public EventListener onCompilationCacheProduced(
+      EventHandler<CompilationCacheProduced> eventListener) {
+    return invoker.addEventListener(
+        "Page", "compilationCacheProduced", eventListener, CompilationCacheProduced.class);
+  }
+}
@@ -0,0 +1,75 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Performance;
+import com.github.kklisura.cdt.protocol.events.performance.Metrics;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.performance.Metric;
+import com.github.kklisura.cdt.protocol.types.performance.SetTimeDomainTimeDomain;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Performance command implementation. */
+public class PerformanceImpl implements Performance {
+
+  private final CommandInvoker invoker;
+
+  public PerformanceImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Performance.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Performance.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setTimeDomain(SetTimeDomainTimeDomain timeDomain) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("timeDomain", timeDomain);
+    invoker.invoke("Performance.setTimeDomain", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<Metric> getMetrics() {
+    return invoker.invoke(
+        "Performance.getMetrics",
+        Collections.emptyMap(),
+        "metrics",
+        List.class,
+        new Class<?>[] {Metric.class});
+  }
+
+  @Override
+  public EventListener onMetrics(EventHandler<Metrics> eventListener) {
+    return invoker.addEventListener("Performance", "metrics", eventListener, Metrics.class);
+  }
+}
@@ -0,0 +1,143 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Profiler;
+import com.github.kklisura.cdt.protocol.events.profiler.ConsoleProfileFinished;
+import com.github.kklisura.cdt.protocol.events.profiler.ConsoleProfileStarted;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.profiler.Profile;
+import com.github.kklisura.cdt.protocol.types.profiler.ScriptCoverage;
+import com.github.kklisura.cdt.protocol.types.profiler.ScriptTypeProfile;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Profiler command implementation. */
+public class ProfilerImpl implements Profiler {
+
+  private final CommandInvoker invoker;
+
+  public ProfilerImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Profiler.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Profiler.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<ScriptCoverage> getBestEffortCoverage() {
+    return invoker.invoke(
+        "Profiler.getBestEffortCoverage",
+        Collections.emptyMap(),
+        "result",
+        List.class,
+        new Class<?>[] {ScriptCoverage.class});
+  }
+
+  @Override
+  public void setSamplingInterval(Integer interval) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("interval", interval);
+    invoker.invoke("Profiler.setSamplingInterval", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void start() {
+    invoker.invoke("Profiler.start", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startPreciseCoverage() {
+    invoker.invoke("Profiler.startPreciseCoverage", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startPreciseCoverage(Boolean callCount, Boolean detailed) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("callCount", callCount);
+    params.put("detailed", detailed);
+    invoker.invoke("Profiler.startPreciseCoverage", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startTypeProfile() {
+    invoker.invoke("Profiler.startTypeProfile", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public Profile stop() {
+    return invoker.invoke("Profiler.stop", Collections.emptyMap(), "profile", Profile.class, null);
+  }
+
+  @Override
+  public void stopPreciseCoverage() {
+    invoker.invoke("Profiler.stopPreciseCoverage", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stopTypeProfile() {
+    invoker.invoke("Profiler.stopTypeProfile", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<ScriptCoverage> takePreciseCoverage() {
+    return invoker.invoke(
+        "Profiler.takePreciseCoverage",
+        Collections.emptyMap(),
+        "result",
+        List.class,
+        new Class<?>[] {ScriptCoverage.class});
+  }
+
+  @Override
+  public List<ScriptTypeProfile> takeTypeProfile() {
+    return invoker.invoke(
+        "Profiler.takeTypeProfile",
+        Collections.emptyMap(),
+        "result",
+        List.class,
+        new Class<?>[] {ScriptTypeProfile.class});
+  }
+
+  @Override
+  public EventListener onConsoleProfileFinished(
+      EventHandler<ConsoleProfileFinished> eventListener) {
+    return invoker.addEventListener(
+        "Profiler", "consoleProfileFinished", eventListener, ConsoleProfileFinished.class);
+  }
+
+  @Override
+  public EventListener onConsoleProfileStarted(EventHandler<ConsoleProfileStarted> eventListener) {
+    return invoker.addEventListener(
+        "Profiler", "consoleProfileStarted", eventListener, ConsoleProfileStarted.class);
+  }
+}
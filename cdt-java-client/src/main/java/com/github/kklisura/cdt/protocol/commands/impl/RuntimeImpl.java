@@ -0,0 +1,386 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Runtime;
+import com.github.kklisura.cdt.protocol.events.runtime.BindingCalled;
+import com.github.kklisura.cdt.protocol.events.runtime.ConsoleAPICalled;
+import com.github.kklisura.cdt.protocol.events.runtime.ExceptionRevoked;
+import com.github.kklisura.cdt.protocol.events.runtime.ExceptionThrown;
+import com.github.kklisura.cdt.protocol.events.runtime.ExecutionContextCreated;
+import com.github.kklisura.cdt.protocol.events.runtime.ExecutionContextDestroyed;
+import com.github.kklisura.cdt.protocol.events.runtime.ExecutionContextsCleared;
+import com.github.kklisura.cdt.protocol.events.runtime.InspectRequested;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.runtime.AwaitPromise;
+import com.github.kklisura.cdt.protocol.types.runtime.CallArgument;
+import com.github.kklisura.cdt.protocol.types.runtime.CallFunctionOn;
+import com.github.kklisura.cdt.protocol.types.runtime.CompileScript;
+import com.github.kklisura.cdt.protocol.types.runtime.Evaluate;
+import com.github.kklisura.cdt.protocol.types.runtime.HeapUsage;
+import com.github.kklisura.cdt.protocol.types.runtime.Properties;
+import com.github.kklisura.cdt.protocol.types.runtime.RemoteObject;
+import com.github.kklisura.cdt.protocol.types.runtime.RunScript;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Runtime command implementation. */
+public class RuntimeImpl implements Runtime {
+
+  private final CommandInvoker invoker;
+
+  public RuntimeImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public AwaitPromise awaitPromise(String promiseObjectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("promiseObjectId", promiseObjectId);
+    return invoker.invoke("Runtime.awaitPromise", params, null, AwaitPromise.class, null);
+  }
+
+  @Override
+  public AwaitPromise awaitPromise(
+      String promiseObjectId, Boolean returnByValue, Boolean generatePreview) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("promiseObjectId", promiseObjectId);
+    params.put("returnByValue", returnByValue);
+    params.put("generatePreview", generatePreview);
+    return invoker.invoke("Runtime.awaitPromise", params, null, AwaitPromise.class, null);
+  }
+
+  @Override
+  public CallFunctionOn callFunctionOn(String functionDeclaration) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("functionDeclaration", functionDeclaration);
+    return invoker.invoke("Runtime.callFunctionOn", params, null, CallFunctionOn.class, null);
+  }
+
+  @Override
+  public CallFunctionOn callFunctionOn(
+      String functionDeclaration,
+      String objectId,
+      List<CallArgument> arguments,
+      Boolean silent,
+      Boolean returnByValue,
+      Boolean generatePreview,
+      Boolean userGesture,
+      Boolean awaitPromise,
+      Integer executionContextId,
+      String objectGroup) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("functionDeclaration", functionDeclaration);
+    params.put("objectId", objectId);
+    params.put("arguments", arguments);
+    params.put("silent", silent);
+    params.put("returnByValue", returnByValue);
+    params.put("generatePreview", generatePreview);
+    params.put("userGesture", userGesture);
+    params.put("awaitPromise", awaitPromise);
+    params.put("executionContextId", executionContextId);
+    params.put("objectGroup", objectGroup);
+    return invoker.invoke("Runtime.callFunctionOn", params, null, CallFunctionOn.class, null);
+  }
+
+  @Override
+  public CompileScript compileScript(String expression, String sourceURL, Boolean persistScript) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("expression", expression);
+    params.put("sourceURL", sourceURL);
+    params.put("persistScript", persistScript);
+    return invoker.invoke("Runtime.compileScript", params, null, CompileScript.class, null);
+  }
+
+  @Override
+  public CompileScript compileScript(
+      String expression, String sourceURL, Boolean persistScript, Integer executionContextId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("expression", expression);
+    params.put("sourceURL", sourceURL);
+    params.put("persistScript", persistScript);
+    params.put("executionContextId", executionContextId);
+    return invoker.invoke("Runtime.compileScript", params, null, CompileScript.class, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Runtime.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void discardConsoleEntries() {
+    invoker.invoke("Runtime.discardConsoleEntries", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Runtime.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public Evaluate evaluate(String expression) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("expression", expression);
+    return invoker.invoke("Runtime.evaluate", params, null, Evaluate.class, null);
+  }
+
+  @Override
+  public Evaluate evaluate(
+      String expression,
+      String objectGroup,
+      Boolean includeCommandLineAPI,
+      Boolean silent,
+      Integer contextId,
+      Boolean returnByValue,
+      Boolean generatePreview,
+      Boolean userGesture,
+      Boolean awaitPromise,
+      Boolean throwOnSideEffect,
+      Double timeout) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("expression", expression);
+    params.put("objectGroup", objectGroup);
+    params.put("includeCommandLineAPI", includeCommandLineAPI);
+    params.put("silent", silent);
+    params.put("contextId", contextId);
+    params.put("returnByValue", returnByValue);
+    params.put("generatePreview", generatePreview);
+    params.put("userGesture", userGesture);
+    params.put("awaitPromise", awaitPromise);
+    params.put("throwOnSideEffect", throwOnSideEffect);
+    params.put("timeout", timeout);
+    return invoker.invoke("Runtime.evaluate", params, null, Evaluate.class, null);
+  }
+
+  @Override
+  public String getIsolateId() {
+    return invoker.invoke("Runtime.getIsolateId", Collections.emptyMap(), "id", String.class, null);
+  }
+
+  @Override
+  public HeapUsage getHeapUsage() {
+    return invoker.invoke(
+        "Runtime.getHeapUsage", Collections.emptyMap(), null, HeapUsage.class, null);
+  }
+
+  @Override
+  public Properties getProperties(String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    return invoker.invoke("Runtime.getProperties", params, null, Properties.class, null);
+  }
+
+  @Override
+  public Properties getProperties(
+      String objectId,
+      Boolean ownProperties,
+      Boolean accessorPropertiesOnly,
+      Boolean generatePreview) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    params.put("ownProperties", ownProperties);
+    params.put("accessorPropertiesOnly", accessorPropertiesOnly);
+    params.put("generatePreview", generatePreview);
+    return invoker.invoke("Runtime.getProperties", params, null, Properties.class, null);
+  }
+
+  @Override
+  public List<String> globalLexicalScopeNames() {
+    return invoker.invoke(
+        "Runtime.globalLexicalScopeNames",
+        Collections.emptyMap(),
+        "names",
+        List.class,
+        new Class<?>[] {String.class});
+  }
+
+  @Override
+  public List<String> globalLexicalScopeNames(Integer executionContextId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("executionContextId", executionContextId);
+    return invoker.invoke(
+        "Runtime.globalLexicalScopeNames",
+        params,
+        "names",
+        List.class,
+        new Class<?>[] {String.class});
+  }
+
+  @Override
+  public RemoteObject queryObjects(String prototypeObjectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("prototypeObjectId", prototypeObjectId);
+    return invoker.invoke("Runtime.queryObjects", params, "objects", RemoteObject.class, null);
+  }
+
+  @Override
+  public RemoteObject queryObjects(String prototypeObjectId, String objectGroup) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("prototypeObjectId", prototypeObjectId);
+    params.put("objectGroup", objectGroup);
+    return invoker.invoke("Runtime.queryObjects", params, "objects", RemoteObject.class, null);
+  }
+
+  @Override
+  public void releaseObject(String objectId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectId", objectId);
+    invoker.invoke("Runtime.releaseObject", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void releaseObjectGroup(String objectGroup) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("objectGroup", objectGroup);
+    invoker.invoke("Runtime.releaseObjectGroup", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void runIfWaitingForDebugger() {
+    invoker.invoke(
+        "Runtime.runIfWaitingForDebugger", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public RunScript runScript(String scriptId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scriptId", scriptId);
+    return invoker.invoke("Runtime.runScript", params, null, RunScript.class, null);
+  }
+
+  @Override
+  public RunScript runScript(
+      String scriptId,
+      Integer executionContextId,
+      String objectGroup,
+      Boolean silent,
+      Boolean includeCommandLineAPI,
+      Boolean returnByValue,
+      Boolean generatePreview,
+      Boolean awaitPromise) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scriptId", scriptId);
+    params.put("executionContextId", executionContextId);
+    params.put("objectGroup", objectGroup);
+    params.put("silent", silent);
+    params.put("includeCommandLineAPI", includeCommandLineAPI);
+    params.put("returnByValue", returnByValue);
+    params.put("generatePreview", generatePreview);
+    params.put("awaitPromise", awaitPromise);
+    return invoker.invoke("Runtime.runScript", params, null, RunScript.class, null);
+  }
+
+  @Override
+  public void setCustomObjectFormatterEnabled(Boolean enabled) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("enabled", enabled);
+    invoker.invoke("Runtime.setCustomObjectFormatterEnabled", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setMaxCallStackSizeToCapture(Integer size) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("size", size);
+    invoker.invoke("Runtime.setMaxCallStackSizeToCapture", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void terminateExecution() {
+    invoker.invoke("Runtime.terminateExecution", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void addBinding(String name) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("name", name);
+    invoker.invoke("Runtime.addBinding", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void addBinding(String name, Integer executionContextId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("name", name);
+    params.put("executionContextId", executionContextId);
+    invoker.invoke("Runtime.addBinding", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void removeBinding(String name) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("name", name);
+    invoker.invoke("Runtime.removeBinding", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onBindingCalled(EventHandler<BindingCalled> eventListener) {
+    return invoker.addEventListener("Runtime", "bindingCalled", eventListener, BindingCalled.class);
+  }
+
+  @Override
+  public EventListener onConsoleAPICalled(EventHandler<ConsoleAPICalled> eventListener) {
+    return invoker.addEventListener(
+        "Runtime", "consoleAPICalled", eventListener, ConsoleAPICalled.class);
+  }
+
+  @Override
+  public EventListener onExceptionRevoked(EventHandler<ExceptionRevoked> eventListener) {
+    return invoker.addEventListener(
+        "Runtime", "exceptionRevoked", eventListener, ExceptionRevoked.class);
+  }
+
+  @Override
+  public EventListener onExceptionThrown(EventHandler<ExceptionThrown> eventListener) {
+    return invoker.addEventListener(
+        "Runtime", "exceptionThrown", eventListener, ExceptionThrown.class);
+  }
+
+  @Override
+  public EventListener onExecutionContextCreated(
+      EventHandler<ExecutionContextCreated> eventListener) {
+    return invoker.addEventListener(
+        "Runtime", "executionContextCreated", eventListener, ExecutionContextCreated.class);
+  }
+
+  @Override
+  public EventListener onExecutionContextDestroyed(
+      EventHandler<ExecutionContextDestroyed> eventListener) {
+    return invoker.addEventListener(
+        "Runtime", "executionContextDestroyed", eventListener, ExecutionContextDestroyed.class);
+  }
+
+  @Override
+  public EventListener onExecutionContextsCleared(
+      EventHandler<ExecutionContextsCleared> eventListener) {
+    return invoker.addEventListener(
+        "Runtime", "executionContextsCleared", eventListener, ExecutionContextsCleared.class);
+  }
+
+  @Override
+  public EventListener onInspectRequested(EventHandler<InspectRequested> eventListener) {
+    return invoker.addEventListener(
+        "Runtime", "inspectRequested", eventListener, InspectRequested.class);
+  }
+}
@@ -0,0 +1,47 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Schema;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.schema.Domain;
+import java.util.Collections;
+import java.util.List;
+
+/** Schema command implementation. */
+public class SchemaImpl implements Schema {
+
+  private final CommandInvoker invoker;
+
+  public SchemaImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public List<Domain> getDomains() {
+    return invoker.invoke(
+        "Schema.getDomains",
+        Collections.emptyMap(),
+        "domains",
+        List.class,
+        new Class<?>[] {Domain.class});
+  }
+}
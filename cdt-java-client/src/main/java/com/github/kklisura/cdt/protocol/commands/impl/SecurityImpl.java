@@ -0,0 +1,89 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Security;
+import com.github.kklisura.cdt.protocol.events.security.CertificateError;
+import com.github.kklisura.cdt.protocol.events.security.SecurityStateChanged;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.security.CertificateErrorAction;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Security command implementation. */
+public class SecurityImpl implements Security {
+
+  private final CommandInvoker invoker;
+
+  public SecurityImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("Security.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("Security.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setIgnoreCertificateErrors(Boolean ignore) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("ignore", ignore);
+    invoker.invoke("Security.setIgnoreCertificateErrors", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  @Deprecated
+  public void handleCertificateError(Integer eventId, CertificateErrorAction action) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("eventId", eventId);
+    params.put("action", action);
+    invoker.invoke("Security.handleCertificateError", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  @Deprecated
+  public void setOverrideCertificateErrors(Boolean override) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("override", override);
+    invoker.invoke("Security.setOverrideCertificateErrors", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  @Deprecated
+  public EventListener onCertificateError(EventHandler<CertificateError> eventListener) {
+    return invoker.addEventListener(
+        "Security", "certificateError", eventListener, CertificateError.class);
+  }
+
+  @Override
+  public EventListener onSecurityStateChanged(EventHandler<SecurityStateChanged> eventListener) {
+    return invoker.addEventListener(
+        "Security", "securityStateChanged", eventListener, SecurityStateChanged.class);
+  }
+}
@@ -0,0 +1,157 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.ServiceWorker;
+import com.github.kklisura.cdt.protocol.events.serviceworker.WorkerErrorReported;
+import com.github.kklisura.cdt.protocol.events.serviceworker.WorkerRegistrationUpdated;
+import com.github.kklisura.cdt.protocol.events.serviceworker.WorkerVersionUpdated;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** ServiceWorker command implementation. */
+public class ServiceWorkerImpl implements ServiceWorker {
+
+  private final CommandInvoker invoker;
+
+  public ServiceWorkerImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void deliverPushMessage(String origin, String registrationId, String data) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    params.put("registrationId", registrationId);
+    params.put("data", data);
+    invoker.invoke("ServiceWorker.deliverPushMessage", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("ServiceWorker.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void dispatchSyncEvent(
+      String origin, String registrationId, String tag, Boolean lastChance) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    params.put("registrationId", registrationId);
+    params.put("tag", tag);
+    params.put("lastChance", lastChance);
+    invoker.invoke("ServiceWorker.dispatchSyncEvent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void dispatchPeriodicSyncEvent(String origin, String registrationId, String tag) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    params.put("registrationId", registrationId);
+    params.put("tag", tag);
+    invoker.invoke("ServiceWorker.dispatchPeriodicSyncEvent", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("ServiceWorker.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void inspectWorker(String versionId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("versionId", versionId);
+    invoker.invoke("ServiceWorker.inspectWorker", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setForceUpdateOnPageLoad(Boolean forceUpdateOnPageLoad) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("forceUpdateOnPageLoad", forceUpdateOnPageLoad);
+    invoker.invoke("ServiceWorker.setForceUpdateOnPageLoad", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void skipWaiting(String scopeURL) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scopeURL", scopeURL);
+    invoker.invoke("ServiceWorker.skipWaiting", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void startWorker(String scopeURL) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scopeURL", scopeURL);
+    invoker.invoke("ServiceWorker.startWorker", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stopAllWorkers() {
+    invoker.invoke("ServiceWorker.stopAllWorkers", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void stopWorker(String versionId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("versionId", versionId);
+    invoker.invoke("ServiceWorker.stopWorker", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void unregister(String scopeURL) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scopeURL", scopeURL);
+    invoker.invoke("ServiceWorker.unregister", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void updateRegistration(String scopeURL) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("scopeURL", scopeURL);
+    invoker.invoke("ServiceWorker.updateRegistration", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onWorkerErrorReported(EventHandler<WorkerErrorReported> eventListener) {
+    return invoker.addEventListener(
+        "ServiceWorker", "workerErrorReported", eventListener, WorkerErrorReported.class);
+  }
+
+  @Override
+  public EventListener onWorkerRegistrationUpdated(
+      EventHandler<WorkerRegistrationUpdated> eventListener) {
+    return invoker.addEventListener(
+        "ServiceWorker",
+        "workerRegistrationUpdated",
+        eventListener,
+        WorkerRegistrationUpdated.class);
+  }
+
+  @Override
+  public EventListener onWorkerVersionUpdated(EventHandler<WorkerVersionUpdated> eventListener) {
+    return invoker.addEventListener(
+        "ServiceWorker", "workerVersionUpdated", eventListener, WorkerVersionUpdated.class);
+  }
+}
@@ -0,0 +1,113 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Storage;
+import com.github.kklisura.cdt.protocol.events.storage.CacheStorageContentUpdated;
+import com.github.kklisura.cdt.protocol.events.storage.CacheStorageListUpdated;
+import com.github.kklisura.cdt.protocol.events.storage.IndexedDBContentUpdated;
+import com.github.kklisura.cdt.protocol.events.storage.IndexedDBListUpdated;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.storage.UsageAndQuota;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Storage command implementation. */
+public class StorageImpl implements Storage {
+
+  private final CommandInvoker invoker;
+
+  public StorageImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void clearDataForOrigin(String origin, String storageTypes) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    params.put("storageTypes", storageTypes);
+    invoker.invoke("Storage.clearDataForOrigin", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public UsageAndQuota getUsageAndQuota(String origin) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    return invoker.invoke("Storage.getUsageAndQuota", params, null, UsageAndQuota.class, null);
+  }
+
+  @Override
+  public void trackCacheStorageForOrigin(String origin) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    invoker.invoke("Storage.trackCacheStorageForOrigin", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void trackIndexedDBForOrigin(String origin) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    invoker.invoke("Storage.trackIndexedDBForOrigin", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void untrackCacheStorageForOrigin(String origin) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    invoker.invoke("Storage.untrackCacheStorageForOrigin", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void untrackIndexedDBForOrigin(String origin) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("origin", origin);
+    invoker.invoke("Storage.untrackIndexedDBForOrigin", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onCacheStorageContentUpdated(
+      EventHandler<CacheStorageContentUpdated> eventListener) {
+    return invoker.addEventListener(
+        "Storage", "cacheStorageContentUpdated", eventListener, CacheStorageContentUpdated.class);
+  }
+
+  @Override
+  public EventListener onCacheStorageListUpdated(
+      EventHandler<CacheStorageListUpdated> eventListener) {
+    return invoker.addEventListener(
+        "Storage", "cacheStorageListUpdated", eventListener, CacheStorageListUpdated.class);
+  }
+
+  @Override
+  public EventListener onIndexedDBContentUpdated(
+      EventHandler<IndexedDBContentUpdated> eventListener) {
+    return invoker.addEventListener(
+        "Storage", "indexedDBContentUpdated", eventListener, IndexedDBContentUpdated.class);
+  }
+
+  @Override
+  public EventListener onIndexedDBListUpdated(EventHandler<IndexedDBListUpdated> eventListener) {
+    return invoker.addEventListener(
+        "Storage", "indexedDBListUpdated", eventListener, IndexedDBListUpdated.class);
+  }
+}
@@ -0,0 +1,277 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Target;
+import com.github.kklisura.cdt.protocol.events.target.AttachedToTarget;
+import com.github.kklisura.cdt.protocol.events.target.DetachedFromTarget;
+import com.github.kklisura.cdt.protocol.events.target.ReceivedMessageFromTarget;
+import com.github.kklisura.cdt.protocol.events.target.TargetCrashed;
+import com.github.kklisura.cdt.protocol.events.target.TargetCreated;
+import com.github.kklisura.cdt.protocol.events.target.TargetDestroyed;
+import com.github.kklisura.cdt.protocol.events.target.TargetInfoChanged;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.target.RemoteLocation;
+import com.github.kklisura.cdt.protocol.types.target.TargetInfo;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Target command implementation. */
+public class TargetImpl implements Target {
+
+  private final CommandInvoker invoker;
+
+  public TargetImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void activateTarget(String targetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("targetId", targetId);
+    invoker.invoke("Target.activateTarget", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public String attachToTarget(String targetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("targetId", targetId);
+    return invoker.invoke("Target.attachToTarget", params, "sessionId", String.class, null);
+  }
+
+  @Override
+  public String attachToTarget(String targetId, Boolean flatten) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("targetId", targetId);
+    params.put("flatten", flatten);
+    return invoker.invoke("Target.attachToTarget", params, "sessionId", String.class, null);
+  }
+
+  @Override
+  public String attachToBrowserTarget() {
+    return invoker.invoke(
+        "Target.attachToBrowserTarget", Collections.emptyMap(), "sessionId", String.class, null);
+  }
+
+  @Override
+  public Boolean closeTarget(String targetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("targetId", targetId);
+    return invoker.invoke("Target.closeTarget", params, "success", Boolean.class, null);
+  }
+
+  @Override
+  public void exposeDevToolsProtocol(String targetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("targetId", targetId);
+    invoker.invoke("Target.exposeDevToolsProtocol", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void exposeDevToolsProtocol(String targetId, String bindingName) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("targetId", targetId);
+    params.put("bindingName", bindingName);
+    invoker.invoke("Target.exposeDevToolsProtocol", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public String createBrowserContext() {
+    return invoker.invoke(
+        "Target.createBrowserContext",
+        Collections.emptyMap(),
+        "browserContextId",
+        String.class,
+        null);
+  }
+
+  @Override
+  public List<String> getBrowserContexts() {
+    return invoker.invoke(
+        "Target.getBrowserContexts",
+        Collections.emptyMap(),
+        "browserContextIds",
+        List.class,
+        new Class<?>[] {String.class});
+  }
+
+  @Override
+  public String createTarget(String url) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", url);
+    return invoker.invoke("Target.createTarget", params, "targetId", String.class, null);
+  }
+
+  @Override
+  public String createTarget(
+      String url,
+      Integer width,
+      Integer height,
+      String browserContextId,
+      Boolean enableBeginFrameControl,
+      Boolean newWindow,
+      Boolean background) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", url);
+    params.put("width", width);
+    params.put("height", height);
+    params.put("browserContextId", browserContextId);
+    params.put("enableBeginFrameControl", enableBeginFrameControl);
+    params.put("newWindow", newWindow);
+    params.put("background", background);
+    return invoker.invoke("Target.createTarget", params, "targetId", String.class, null);
+  }
+
+  @Override
+  public void detachFromTarget() {
+    invoker.invoke("Target.detachFromTarget", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void detachFromTarget(String sessionId, String targetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("sessionId", sessionId);
+    params.put("targetId", targetId);
+    invoker.invoke("Target.detachFromTarget", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disposeBrowserContext(String browserContextId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("browserContextId", browserContextId);
+    invoker.invoke("Target.disposeBrowserContext", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public TargetInfo getTargetInfo() {
+    return invoker.invoke(
+        "Target.getTargetInfo", Collections.emptyMap(), "targetInfo", TargetInfo.class, null);
+  }
+
+  @Override
+  public TargetInfo getTargetInfo(String targetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("targetId", targetId);
+    return invoker.invoke("Target.getTargetInfo", params, "targetInfo", TargetInfo.class, null);
+  }
+
+  @Override
+  public List<TargetInfo> getTargets() {
+    return invoker.invoke(
+        "Target.getTargets",
+        Collections.emptyMap(),
+        "targetInfos",
+        List.class,
+        new Class<?>[] {TargetInfo.class});
+  }
+
+  @Override
+  public void sendMessageToTarget(String message) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("message", message);
+    invoker.invoke("Target.sendMessageToTarget", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void sendMessageToTarget(String message, String sessionId, String targetId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("message", message);
+    params.put("sessionId", sessionId);
+    params.put("targetId", targetId);
+    invoker.invoke("Target.sendMessageToTarget", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setAutoAttach(Boolean autoAttach, Boolean waitForDebuggerOnStart) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("autoAttach", autoAttach);
+    params.put("waitForDebuggerOnStart", waitForDebuggerOnStart);
+    invoker.invoke("Target.setAutoAttach", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setAutoAttach(Boolean autoAttach, Boolean waitForDebuggerOnStart, Boolean flatten) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("autoAttach", autoAttach);
+    params.put("waitForDebuggerOnStart", waitForDebuggerOnStart);
+    params.put("flatten", flatten);
+    invoker.invoke("Target.setAutoAttach", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setDiscoverTargets(Boolean discover) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("discover", discover);
+    invoker.invoke("Target.setDiscoverTargets", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setRemoteLocations(List<RemoteLocation> locations) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("locations", locations);
+    invoker.invoke("Target.setRemoteLocations", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onAttachedToTarget(EventHandler<AttachedToTarget> eventListener) {
+    return invoker.addEventListener(
+        "Target", "attachedToTarget", eventListener, AttachedToTarget.class);
+  }
+
+  @Override
+  public EventListener onDetachedFromTarget(EventHandler<DetachedFromTarget> eventListener) {
+    return invoker.addEventListener(
+        "Target", "detachedFromTarget", eventListener, DetachedFromTarget.class);
+  }
+
+  @Override
+  public EventListener onReceivedMessageFromTarget(
+      EventHandler<ReceivedMessageFromTarget> eventListener) {
+    return invoker.addEventListener(
+        "Target", "receivedMessageFromTarget", eventListener, ReceivedMessageFromTarget.class);
+  }
+
+  @Override
+  public EventListener onTargetCreated(EventHandler<TargetCreated> eventListener) {
+    return invoker.addEventListener("Target", "targetCreated", eventListener, TargetCreated.class);
+  }
+
+  @Override
+  public EventListener onTargetDestroyed(EventHandler<TargetDestroyed> eventListener) {
+    return invoker.addEventListener(
+        "Target", "targetDestroyed", eventListener, TargetDestroyed.class);
+  }
+
+  @Override
+  public EventListener onTargetCrashed(EventHandler<TargetCrashed> eventListener) {
+    return invoker.addEventListener("Target", "targetCrashed", eventListener, TargetCrashed.class);
+  }
+
+  @Override
+  public EventListener onTargetInfoChanged(EventHandler<TargetInfoChanged> eventListener) {
+    return invoker.addEventListener(
+        "Target", "targetInfoChanged", eventListener, TargetInfoChanged.class);
+  }
+}
@@ -0,0 +1,58 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Tethering;
+import com.github.kklisura.cdt.protocol.events.tethering.Accepted;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Tethering command implementation. */
+public class TetheringImpl implements Tethering {
+
+  private final CommandInvoker invoker;
+
+  public TetheringImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void bind(Integer port) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("port", port);
+    invoker.invoke("Tethering.bind", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void unbind(Integer port) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("port", port);
+    invoker.invoke("Tethering.unbind", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onAccepted(EventHandler<Accepted> eventListener) {
+    return invoker.addEventListener("Tethering", "accepted", eventListener, Accepted.class);
+  }
+}
@@ -0,0 +1,117 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.Tracing;
+import com.github.kklisura.cdt.protocol.events.tracing.BufferUsage;
+import com.github.kklisura.cdt.protocol.events.tracing.DataCollected;
+import com.github.kklisura.cdt.protocol.events.tracing.TracingComplete;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.tracing.RequestMemoryDump;
+import com.github.kklisura.cdt.protocol.types.tracing.StartTransferMode;
+import com.github.kklisura.cdt.protocol.types.tracing.StreamCompression;
+import com.github.kklisura.cdt.protocol.types.tracing.StreamFormat;
+import com.github.kklisura.cdt.protocol.types.tracing.TraceConfig;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Tracing command implementation. */
+public class TracingImpl implements Tracing {
+
+  private final CommandInvoker invoker;
+
+  public TracingImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void end() {
+    invoker.invoke("Tracing.end", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public List<String> getCategories() {
+    return invoker.invoke(
+        "Tracing.getCategories",
+        Collections.emptyMap(),
+        "categories",
+        List.class,
+        new Class<?>[] {String.class});
+  }
+
+  @Override
+  public void recordClockSyncMarker(String syncId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("syncId", syncId);
+    invoker.invoke("Tracing.recordClockSyncMarker", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public RequestMemoryDump requestMemoryDump() {
+    return invoker.invoke(
+        "Tracing.requestMemoryDump", Collections.emptyMap(), null, RequestMemoryDump.class, null);
+  }
+
+  @Override
+  public void start() {
+    invoker.invoke("Tracing.start", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void start(
+      String categories,
+      String options,
+      Double bufferUsageReportingInterval,
+      StartTransferMode transferMode,
+      StreamFormat streamFormat,
+      StreamCompression streamCompression,
+      TraceConfig traceConfig) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("categories", categories);
+    params.put("options", options);
+    params.put("bufferUsageReportingInterval", bufferUsageReportingInterval);
+    params.put("transferMode", transferMode);
+    params.put("streamFormat", streamFormat);
+    params.put("streamCompression", streamCompression);
+    params.put("traceConfig", traceConfig);
+    invoker.invoke("Tracing.start", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public EventListener onBufferUsage(EventHandler<BufferUsage> eventListener) {
+    return invoker.addEventListener("Tracing", "bufferUsage", eventListener, BufferUsage.class);
+  }
+
+  @Override
+  public EventListener onDataCollected(EventHandler<DataCollected> eventListener) {
+    return invoker.addEventListener("Tracing", "dataCollected", eventListener, DataCollected.class);
+  }
+
+  @Override
+  public EventListener onTracingComplete(EventHandler<TracingComplete> eventListener) {
+    return invoker.addEventListener(
+        "Tracing", "tracingComplete", eventListener, TracingComplete.class);
+  }
+}
@@ -0,0 +1,156 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.WebAudio;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioListenerCreated;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioListenerWillBeDestroyed;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioNodeCreated;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioNodeWillBeDestroyed;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioParamCreated;
+import com.github.kklisura.cdt.protocol.events.webaudio.AudioParamWillBeDestroyed;
+import com.github.kklisura.cdt.protocol.events.webaudio.ContextChanged;
+import com.github.kklisura.cdt.protocol.events.webaudio.ContextCreated;
+import com.github.kklisura.cdt.protocol.events.webaudio.ContextWillBeDestroyed;
+import com.github.kklisura.cdt.protocol.events.webaudio.NodeParamConnected;
+import com.github.kklisura.cdt.protocol.events.webaudio.NodeParamDisconnected;
+import com.github.kklisura.cdt.protocol.events.webaudio.NodesConnected;
+import com.github.kklisura.cdt.protocol.events.webaudio.NodesDisconnected;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.webaudio.ContextRealtimeData;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** WebAudio command implementation. */
+public class WebAudioImpl implements WebAudio {
+
+  private final CommandInvoker invoker;
+
+  public WebAudioImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("WebAudio.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("WebAudio.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public ContextRealtimeData getRealtimeData(String contextId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("contextId", contextId);
+    return invoker.invoke(
+        "WebAudio.getRealtimeData", params, "realtimeData", ContextRealtimeData.class, null);
+  }
+
+  @Override
+  public EventListener onContextCreated(EventHandler<ContextCreated> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "contextCreated", eventListener, ContextCreated.class);
+  }
+
+  @Override
+  public EventListener onContextWillBeDestroyed(
+      EventHandler<ContextWillBeDestroyed> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "contextWillBeDestroyed", eventListener, ContextWillBeDestroyed.class);
+  }
+
+  @Override
+  public EventListener onContextChanged(EventHandler<ContextChanged> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "contextChanged", eventListener, ContextChanged.class);
+  }
+
+  @Override
+  public EventListener onAudioListenerCreated(EventHandler<AudioListenerCreated> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "audioListenerCreated", eventListener, AudioListenerCreated.class);
+  }
+
+  @Override
+  public EventListener onAudioListenerWillBeDestroyed(
+      EventHandler<AudioListenerWillBeDestroyed> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio",
+        "audioListenerWillBeDestroyed",
+        eventListener,
+        AudioListenerWillBeDestroyed.class);
+  }
+
+  @Override
+  public EventListener onAudioNodeCreated(EventHandler<AudioNodeCreated> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "audioNodeCreated", eventListener, AudioNodeCreated.class);
+  }
+
+  @Override
+  public EventListener onAudioNodeWillBeDestroyed(
+      EventHandler<AudioNodeWillBeDestroyed> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "audioNodeWillBeDestroyed", eventListener, AudioNodeWillBeDestroyed.class);
+  }
+
+  @Override
+  public EventListener onAudioParamCreated(EventHandler<AudioParamCreated> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "audioParamCreated", eventListener, AudioParamCreated.class);
+  }
+
+  @Override
+  public EventListener onAudioParamWillBeDestroyed(
+      EventHandler<AudioParamWillBeDestroyed> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "audioParamWillBeDestroyed", eventListener, AudioParamWillBeDestroyed.class);
+  }
+
+  @Override
+  public EventListener onNodesConnected(EventHandler<NodesConnected> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "nodesConnected", eventListener, NodesConnected.class);
+  }
+
+  @Override
+  public EventListener onNodesDisconnected(EventHandler<NodesDisconnected> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "nodesDisconnected", eventListener, NodesDisconnected.class);
+  }
+
+  @Override
+  public EventListener onNodeParamConnected(EventHandler<NodeParamConnected> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "nodeParamConnected", eventListener, NodeParamConnected.class);
+  }
+
+  @Override
+  public EventListener onNodeParamDisconnected(EventHandler<NodeParamDisconnected> eventListener) {
+    return invoker.addEventListener(
+        "WebAudio", "nodeParamDisconnected", eventListener, NodeParamDisconnected.class);
+  }
+}
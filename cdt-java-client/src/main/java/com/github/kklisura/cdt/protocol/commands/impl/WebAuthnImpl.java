@@ -0,0 +1,116 @@
+package com.github.kklisura.cdt.protocol.commands.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 - 2026 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.WebAuthn;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.types.webauthn.Credential;
+import com.github.kklisura.cdt.protocol.types.webauthn.VirtualAuthenticatorOptions;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** WebAuthn command implementation. */
+public class WebAuthnImpl implements WebAuthn {
+
+  private final CommandInvoker invoker;
+
+  public WebAuthnImpl(CommandInvoker invoker) {
+    this.invoker = invoker;
+  }
+
+  @Override
+  public void enable() {
+    invoker.invoke("WebAuthn.enable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public void disable() {
+    invoker.invoke("WebAuthn.disable", Collections.emptyMap(), null, Void.TYPE, null);
+  }
+
+  @Override
+  public String addVirtualAuthenticator(VirtualAuthenticatorOptions options) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("options", options);
+    return invoker.invoke(
+        "WebAuthn.addVirtualAuthenticator", params, "authenticatorId", String.class, null);
+  }
+
+  @Override
+  public void removeVirtualAuthenticator(String authenticatorId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("authenticatorId", authenticatorId);
+    invoker.invoke("WebAuthn.removeVirtualAuthenticator", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void addCredential(String authenticatorId, Credential credential) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("authenticatorId", authenticatorId);
+    params.put("credential", credential);
+    invoker.invoke("WebAuthn.addCredential", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public Credential getCredential(String authenticatorId, String credentialId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("authenticatorId", authenticatorId);
+    params.put("credentialId", credentialId);
+    return invoker.invoke("WebAuthn.getCredential", params, "credential", Credential.class, null);
+  }
+
+  @Override
+  public List<Credential> getCredentials(String authenticatorId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("authenticatorId", authenticatorId);
+    return invoker.invoke(
+        "WebAuthn.getCredentials",
+        params,
+        "credentials",
+        List.class,
+        new Class<?>[] {Credential.class});
+  }
+
+  @Override
+  public void removeCredential(String authenticatorId, String credentialId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("authenticatorId", authenticatorId);
+    params.put("credentialId", credentialId);
+    invoker.invoke("WebAuthn.removeCredential", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void clearCredentials(String authenticatorId) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("authenticatorId", authenticatorId);
+    invoker.invoke("WebAuthn.clearCredentials", params, null, Void.TYPE, null);
+  }
+
+  @Override
+  public void setUserVerified(String authenticatorId, Boolean isUserVerified) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("authenticatorId", authenticatorId);
+    params.put("isUserVerified", isUserVerified);
+    invoker.invoke("WebAuthn.setUserVerified", params, null, Void.TYPE, null);
+  }
+}
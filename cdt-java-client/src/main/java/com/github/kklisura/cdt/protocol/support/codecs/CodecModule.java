@@ -0,0 +1,111 @@
+package com.github.kklisura.cdt.protocol.support.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+
+/**
+ * Jackson module binding protocol types with generated streaming codecs instead of reflection.
+ *
+ * @author Kenan Klisura
+ */
+public class CodecModule extends SimpleModule {
+  private static final long serialVersionUID = 1L;
+
+  private static final String MODULE_NAME = "ProtocolCodecs";
+
+  /** Creates a new empty codec module. */
+  public CodecModule() {
+    super(MODULE_NAME);
+  }
+
+  /**
+   * Registers a reader and a writer for a type.
+   *
+   * @param type Type.
+   * @param reader Reader.
+   * @param writer Writer.
+   * @param <T> Type.
+   */
+  public <T> void addCodec(Class<T> type, JsonReader<T> reader, JsonWriter<T> writer) {
+    addReader(type, reader);
+    addSerializer(type, new CodecSerializer<>(type, writer));
+  }
+
+  /**
+   * Registers a reader for a type. This is used for events which are only ever read.
+   *
+   * @param type Type.
+   * @param reader Reader.
+   * @param <T> Type.
+   */
+  public <T> void addReader(Class<T> type, JsonReader<T> reader) {
+    addDeserializer(type, new CodecDeserializer<>(type, reader));
+  }
+
+  private static class CodecDeserializer<T> extends JsonDeserializer<T> {
+    private final Class<T> type;
+    private final JsonReader<T> reader;
+
+    private CodecDeserializer(Class<T> type, JsonReader<T> reader) {
+      this.type = type;
+      this.reader = reader;
+    }
+
+    @Override
+    public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+      return reader.read(parser);
+    }
+
+    @Override
+    public Class<?> handledType() {
+      return type;
+    }
+  }
+
+  private static class CodecSerializer<T> extends JsonSerializer<T> {
+    private final Class<T> type;
+    private final JsonWriter<T> writer;
+
+    private CodecSerializer(Class<T> type, JsonWriter<T> writer) {
+      this.type = type;
+      this.writer = writer;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+      writer.write(generator, value);
+    }
+
+    @Override
+    public Class<T> handledType() {
+      return type;
+    }
+  }
+}
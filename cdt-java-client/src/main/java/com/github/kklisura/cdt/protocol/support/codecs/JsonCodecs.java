@@ -0,0 +1,562 @@
+package com.github.kklisura.cdt.protocol.support.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Support methods used by generated protocol codecs. Readers expect the parser to be positioned at
+ * the first token of a value and leave it at the last token of the value.
+ *
+ * @author Kenan Klisura
+ */
+public final class JsonCodecs {
+  private static final int INITIAL_ARRAY_CAPACITY = 16;
+
+  private JsonCodecs() {
+    // Empty ctor.
+  }
+
+  /**
+   * Returns the first field name of an object. Parser should be positioned at the start of an
+   * object or at its first field name.
+   *
+   * @param parser Json parser.
+   * @return First field name or null if object is empty.
+   * @throws IOException If current token is not an object.
+   */
+  public static String firstFieldName(JsonParser parser) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      return parser.nextFieldName();
+    }
+    if (token == JsonToken.FIELD_NAME) {
+      return parser.getCurrentName();
+    }
+    if (token == JsonToken.END_OBJECT) {
+      return null;
+    }
+    throw unexpectedToken(parser, JsonToken.START_OBJECT);
+  }
+
+  /**
+   * Reads a string value.
+   *
+   * @param parser Json parser.
+   * @return Value or null.
+   * @throws IOException If current token is not a string.
+   */
+  public static String readString(JsonParser parser) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_STRING) {
+      return parser.getText();
+    }
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (token != null && token.isScalarValue()) {
+      return parser.getText();
+    }
+    throw unexpectedToken(parser, JsonToken.VALUE_STRING);
+  }
+
+  /**
+   * Reads a integer value.
+   *
+   * @param parser Json parser.
+   * @return Value or null.
+   * @throws IOException If current token is not a integer.
+   */
+  public static Integer readInteger(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return readIntValue(parser);
+  }
+
+  /**
+   * Reads a number value.
+   *
+   * @param parser Json parser.
+   * @return Value or null.
+   * @throws IOException If current token is not a number.
+   */
+  public static Double readDouble(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return readDoubleValue(parser);
+  }
+
+  /**
+   * Reads a boolean value.
+   *
+   * @param parser Json parser.
+   * @return Value or null.
+   * @throws IOException If current token is not a boolean.
+   */
+  public static Boolean readBoolean(JsonParser parser) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_TRUE) {
+      return Boolean.TRUE;
+    }
+    if (token == JsonToken.VALUE_FALSE) {
+      return Boolean.FALSE;
+    }
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    throw unexpectedToken(parser, JsonToken.VALUE_TRUE);
+  }
+
+  /**
+   * Reads an untyped value. Objects are read as maps, arrays as lists and numbers as integers,
+   * longs or doubles, the same as Jackson binds untyped values by default.
+   *
+   * @param parser Json parser.
+   * @return Value.
+   * @throws IOException If reading fails.
+   */
+  public static Object readObject(JsonParser parser) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == null) {
+      throw unexpectedToken(parser, JsonToken.START_OBJECT);
+    }
+
+    switch (token) {
+      case START_OBJECT:
+      case FIELD_NAME:
+        return readMap(parser);
+      case START_ARRAY:
+        return readList(parser, JsonCodecs::readObject);
+      case VALUE_STRING:
+        return parser.getText();
+      case VALUE_NUMBER_INT:
+        return parser.getNumberValue();
+      case VALUE_NUMBER_FLOAT:
+        return parser.getDoubleValue();
+      case VALUE_TRUE:
+        return Boolean.TRUE;
+      case VALUE_FALSE:
+        return Boolean.FALSE;
+      case VALUE_EMBEDDED_OBJECT:
+        return parser.getEmbeddedObject();
+      case VALUE_NULL:
+        return null;
+      default:
+        throw unexpectedToken(parser, JsonToken.START_OBJECT);
+    }
+  }
+
+  /**
+   * Reads an untyped object.
+   *
+   * @param parser Json parser.
+   * @return Map of object properties.
+   * @throws IOException If reading fails.
+   */
+  public static Map<String, Object> readMap(JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+
+    final Map<String, Object> result = new LinkedHashMap<>();
+    for (String field = firstFieldName(parser); field != null; field = parser.nextFieldName()) {
+      parser.nextToken();
+      result.put(field, readObject(parser));
+    }
+    return result;
+  }
+
+  /**
+   * Reads a list of values.
+   *
+   * @param parser Json parser.
+   * @param reader Item reader.
+   * @param <T> Item type.
+   * @return List of items.
+   * @throws IOException If reading fails.
+   */
+  public static <T> List<T> readList(JsonParser parser, JsonReader<T> reader) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (token != JsonToken.START_ARRAY) {
+      throw unexpectedToken(parser, JsonToken.START_ARRAY);
+    }
+
+    final List<T> result = new ArrayList<>();
+
+    JsonToken itemToken;
+    while ((itemToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (itemToken == null) {
+        throw unexpectedToken(parser, JsonToken.END_ARRAY);
+      }
+      result.add(reader.read(parser));
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns a reader of lists of values. This is used for nested lists.
+   *
+   * @param reader Item reader.
+   * @param <T> Item type.
+   * @return List reader.
+   */
+  public static <T> JsonReader<List<T>> listReader(JsonReader<T> reader) {
+    return parser -> readList(parser, reader);
+  }
+
+  /**
+   * Reads an array of integers into a primitive array.
+   *
+   * @param parser Json parser.
+   * @return Array or null.
+   * @throws IOException If reading fails.
+   */
+  public static int[] readIntArray(JsonParser parser) throws IOException {
+    if (!startArray(parser)) {
+      return null;
+    }
+
+    int[] result = new int[INITIAL_ARRAY_CAPACITY];
+    int size = 0;
+
+    JsonToken itemToken;
+    while ((itemToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (itemToken == null) {
+        throw unexpectedToken(parser, JsonToken.END_ARRAY);
+      }
+      if (size == result.length) {
+        result = Arrays.copyOf(result, size * 2);
+      }
+      result[size++] = readIntValue(parser);
+    }
+
+    return size == result.length ? result : Arrays.copyOf(result, size);
+  }
+
+  /**
+   * Reads an array of numbers into a primitive array.
+   *
+   * @param parser Json parser.
+   * @return Array or null.
+   * @throws IOException If reading fails.
+   */
+  public static double[] readDoubleArray(JsonParser parser) throws IOException {
+    if (!startArray(parser)) {
+      return null;
+    }
+
+    double[] result = new double[INITIAL_ARRAY_CAPACITY];
+    int size = 0;
+
+    JsonToken itemToken;
+    while ((itemToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (itemToken == null) {
+        throw unexpectedToken(parser, JsonToken.END_ARRAY);
+      }
+      if (size == result.length) {
+        result = Arrays.copyOf(result, size * 2);
+      }
+      result[size++] = readDoubleValue(parser);
+    }
+
+    return size == result.length ? result : Arrays.copyOf(result, size);
+  }
+
+  /**
+   * Reads an array of integer arrays.
+   *
+   * @param parser Json parser.
+   * @return Arrays or null.
+   * @throws IOException If reading fails.
+   */
+  public static int[][] readIntArrays(JsonParser parser) throws IOException {
+    final List<int[]> result = readList(parser, JsonCodecs::readIntArray);
+    return result != null ? result.toArray(new int[0][]) : null;
+  }
+
+  /**
+   * Reads an array of number arrays.
+   *
+   * @param parser Json parser.
+   * @return Arrays or null.
+   * @throws IOException If reading fails.
+   */
+  public static double[][] readDoubleArrays(JsonParser parser) throws IOException {
+    final List<double[]> result = readList(parser, JsonCodecs::readDoubleArray);
+    return result != null ? result.toArray(new double[0][]) : null;
+  }
+
+  /**
+   * Writes a string value.
+   *
+   * @param generator Json generator.
+   * @param value Value.
+   * @throws IOException If writing fails.
+   */
+  public static void writeString(JsonGenerator generator, String value) throws IOException {
+    generator.writeString(value);
+  }
+
+  /**
+   * Writes a integer value.
+   *
+   * @param generator Json generator.
+   * @param value Value.
+   * @throws IOException If writing fails.
+   */
+  public static void writeInteger(JsonGenerator generator, Integer value) throws IOException {
+    generator.writeNumber(value);
+  }
+
+  /**
+   * Writes a number value.
+   *
+   * @param generator Json generator.
+   * @param value Value.
+   * @throws IOException If writing fails.
+   */
+  public static void writeDouble(JsonGenerator generator, Double value) throws IOException {
+    generator.writeNumber(value);
+  }
+
+  /**
+   * Writes a boolean value.
+   *
+   * @param generator Json generator.
+   * @param value Value.
+   * @throws IOException If writing fails.
+   */
+  public static void writeBoolean(JsonGenerator generator, Boolean value) throws IOException {
+    generator.writeBoolean(value);
+  }
+
+  /**
+   * Writes an untyped value. Maps, lists, strings, numbers and booleans are written directly, any
+   * other value is written with the generator object codec.
+   *
+   * @param generator Json generator.
+   * @param value Value.
+   * @throws IOException If writing fails.
+   */
+  public static void writeObject(JsonGenerator generator, Object value) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof String) {
+      generator.writeString((String) value);
+    } else if (value instanceof Integer) {
+      generator.writeNumber((Integer) value);
+    } else if (value instanceof Long) {
+      generator.writeNumber((Long) value);
+    } else if (value instanceof Double) {
+      generator.writeNumber((Double) value);
+    } else if (value instanceof Boolean) {
+      generator.writeBoolean((Boolean) value);
+    } else if (value instanceof Map) {
+      generator.writeStartObject();
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        // Null entries are omitted the same as with non-null serialization inclusion.
+        if (entry.getValue() != null) {
+          generator.writeFieldName(String.valueOf(entry.getKey()));
+          writeObject(generator, entry.getValue());
+        }
+      }
+      generator.writeEndObject();
+    } else if (value instanceof List) {
+      generator.writeStartArray();
+      for (Object item : (List<?>) value) {
+        writeObject(generator, item);
+      }
+      generator.writeEndArray();
+    } else {
+      generator.writeObject(value);
+    }
+  }
+
+  /**
+   * Writes a primitive integer array.
+   *
+   * @param generator Json generator.
+   * @param value Value.
+   * @throws IOException If writing fails.
+   */
+  public static void writeIntArray(JsonGenerator generator, int[] value) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else {
+      generator.writeArray(value, 0, value.length);
+    }
+  }
+
+  /**
+   * Writes a primitive number array.
+   *
+   * @param generator Json generator.
+   * @param value Value.
+   * @throws IOException If writing fails.
+   */
+  public static void writeDoubleArray(JsonGenerator generator, double[] value) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else {
+      generator.writeArray(value, 0, value.length);
+    }
+  }
+
+  /**
+   * Writes an array of primitive integer arrays.
+   *
+   * @param generator Json generator.
+   * @param value Value.
+   * @throws IOException If writing fails.
+   */
+  public static void writeIntArrays(JsonGenerator generator, int[][] value) throws IOException {
+    generator.writeStartArray();
+    for (int[] item : value) {
+      writeIntArray(generator, item);
+    }
+    generator.writeEndArray();
+  }
+
+  /**
+   * Writes an array of primitive number arrays.
+   *
+   * @param generator Json generator.
+   * @param value Value.
+   * @throws IOException If writing fails.
+   */
+  public static void writeDoubleArrays(JsonGenerator generator, double[][] value)
+      throws IOException {
+    generator.writeStartArray();
+    for (double[] item : value) {
+      writeDoubleArray(generator, item);
+    }
+    generator.writeEndArray();
+  }
+
+  /**
+   * Writes a list of values. Null items are written as nulls.
+   *
+   * @param generator Json generator.
+   * @param value List of items.
+   * @param writer Item writer.
+   * @param <T> Item type.
+   * @throws IOException If writing fails.
+   */
+  public static <T> void writeList(JsonGenerator generator, List<T> value, JsonWriter<T> writer)
+      throws IOException {
+    generator.writeStartArray();
+    for (T item : value) {
+      if (item == null) {
+        generator.writeNull();
+      } else {
+        writer.write(generator, item);
+      }
+    }
+    generator.writeEndArray();
+  }
+
+  /**
+   * Returns a writer of lists of values. This is used for nested lists.
+   *
+   * @param writer Item writer.
+   * @param <T> Item type.
+   * @return List writer.
+   */
+  public static <T> JsonWriter<List<T>> listWriter(JsonWriter<T> writer) {
+    return (generator, value) -> writeList(generator, value, writer);
+  }
+
+  /**
+   * Returns an exception for an enum value that is not known to this protocol version.
+   *
+   * @param parser Json parser.
+   * @param enumClass Enum class.
+   * @param value Unknown value.
+   * @return Exception.
+   */
+  public static JsonParseException unknownEnumValue(
+      JsonParser parser, Class<?> enumClass, String value) {
+    return new JsonParseException(
+        parser, String.format("Unknown %s value %s.", enumClass.getSimpleName(), value));
+  }
+
+  private static boolean startArray(JsonParser parser) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return false;
+    }
+    if (token != JsonToken.START_ARRAY) {
+      throw unexpectedToken(parser, JsonToken.START_ARRAY);
+    }
+    return true;
+  }
+
+  private static int readIntValue(JsonParser parser) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+      return parser.getIntValue();
+    }
+    if (token == JsonToken.VALUE_STRING) {
+      try {
+        return Integer.parseInt(parser.getText().trim());
+      } catch (NumberFormatException e) {
+        throw new JsonParseException(parser, "Invalid integer value " + parser.getText(), e);
+      }
+    }
+    throw unexpectedToken(parser, JsonToken.VALUE_NUMBER_INT);
+  }
+
+  private static double readDoubleValue(JsonParser parser) throws IOException {
+    final JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+      return parser.getDoubleValue();
+    }
+    if (token == JsonToken.VALUE_STRING) {
+      try {
+        return Double.parseDouble(parser.getText().trim());
+      } catch (NumberFormatException e) {
+        throw new JsonParseException(parser, "Invalid number value " + parser.getText(), e);
+      }
+    }
+    throw unexpectedToken(parser, JsonToken.VALUE_NUMBER_FLOAT);
+  }
+
+  private static JsonParseException unexpectedToken(JsonParser parser, JsonToken expected) {
+    return new JsonParseException(
+        parser,
+        String.format("Unexpected token %s, expected %s.", parser.currentToken(), expected));
+  }
+}
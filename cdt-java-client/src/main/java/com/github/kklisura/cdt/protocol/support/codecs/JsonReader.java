@@ -0,0 +1,42 @@
+package com.github.kklisura.cdt.protocol.support.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+/**
+ * Streaming reader of a protocol type.
+ *
+ * @author Kenan Klisura
+ */
+@FunctionalInterface
+public interface JsonReader<T> {
+  /**
+   * Reads a value starting at the current token of a parser. Parser is left at the last token of
+   * the value.
+   *
+   * @param parser Json parser.
+   * @return Value or null if current token is null.
+   * @throws IOException If reading fails.
+   */
+  T read(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,41 @@
+package com.github.kklisura.cdt.protocol.support.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+
+/**
+ * Streaming writer of a protocol type.
+ *
+ * @author Kenan Klisura
+ */
+@FunctionalInterface
+public interface JsonWriter<T> {
+  /**
+   * Writes a non-null value to a generator.
+   *
+   * @param generator Json generator.
+   * @param value Value.
+   * @throws IOException If writing fails.
+   */
+  void write(JsonGenerator generator, T value) throws IOException;
+}
@@ -0,0 +1,61 @@
+package com.github.kklisura.cdt.protocol.support.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Map;
+
+/**
+ * Command invoker invokes commands and subscribes to events on behalf of generated domain command
+ * implementations.
+ *
+ * @author Kenan Klisura
+ */
+public interface CommandInvoker {
+  /**
+   * Invokes a command.
+   *
+   * @param method Command method, ie. Page.navigate.
+   * @param params Command params.
+   * @param returnProperty Return property or null if whole result is returned.
+   * @param returnType Return class type.
+   * @param returnTypeClasses List of classes to which return type is parametrized with or null.
+   * @param <T> Type of a return class.
+   * @return Return object.
+   */
+  <T> T invoke(
+      String method,
+      Map<String, Object> params,
+      String returnProperty,
+      Class<T> returnType,
+      Class<?>[] returnTypeClasses);
+
+  /**
+   * Adds an event listener on a given event name belonging to some domain.
+   *
+   * @param domainName Domain.
+   * @param eventName Event.
+   * @param eventHandler Event handler.
+   * @param eventType Event type.
+   * @return Event listener.
+   */
+  EventListener addEventListener(
+      String domainName, String eventName, EventHandler eventHandler, Class<?> eventType);
+}
@@ -24,7 +24,15 @@ import com.github.kklisura.cdt.protocol.ChromeDevTools;
 import com.github.kklisura.cdt.protocol.support.types.EventHandler;
 import com.github.kklisura.cdt.protocol.support.types.EventListener;
 import com.github.kklisura.cdt.services.exceptions.ChromeDevToolsInvocationException;
+import com.github.kklisura.cdt.services.types.ChildSessionListener;
 import com.github.kklisura.cdt.services.types.MethodInvocation;
+import com.github.kklisura.cdt.services.types.RawEventHandler;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Chrome dev tools service.
@@ -60,6 +68,8 @@ public interface ChromeDevToolsService extends ChromeDevTools, AutoCloseable {
    * @param <T> Type of a return class.
    * @return Return object.
    * @throws ChromeDevToolsInvocationException If invocation fails.
+   * @throws com.github.kklisura.cdt.services.exceptions.ChromeDevToolsSessionClosedException If
+   *     service is closed or gets closed, detached or crashed while waiting for the response.
    */
   <T> T invoke(
       String returnProperty,
@@ -67,6 +77,27 @@ public interface ChromeDevToolsService extends ChromeDevTools, AutoCloseable {
       Class<?>[] returnTypeClasses,
       MethodInvocation methodInvocation);
 
+  /**
+   * Invokes a dev tools method which returns base64 encoded binary data, such as {@code
+   * Page.captureScreenshot} or {@code Page.printToPDF}. Data is decoded straight from the received
+   * message into a channel, without creating an intermediate string or byte array of the whole
+   * payload.
+   *
+   * @param method Method name, for example {@code Page.captureScreenshot}.
+   * @param params Method params. Could be null.
+   * @param returnProperty Return property holding base64 encoded data.
+   * @param channel Channel to which decoded data is written.
+   * @return Number of bytes written.
+   * @throws ChromeDevToolsInvocationException If invocation, decoding or writing fails.
+   * @throws com.github.kklisura.cdt.services.exceptions.ChromeDevToolsSessionClosedException If
+   *     service is closed or gets closed, detached or crashed while waiting for the response.
+   */
+  long invokeBinary(
+      String method,
+      Map<String, Object> params,
+      String returnProperty,
+      WritableByteChannel channel);
+
   /** Closes the dev tools service. */
   void close();
 
@@ -80,6 +111,46 @@ public interface ChromeDevToolsService extends ChromeDevTools, AutoCloseable {
   /** Waits until devtools is closed. */
   void waitUntilClosed();
 
+  /**
+   * Returns the flat session id of this service. Services connected directly to a tab do not have a
+   * session id.
+   *
+   * @return Session id or null.
+   */
+  String getSessionId();
+
+  /**
+   * Enables auto-attach to child targets, ie. out-of-process iframes, dedicated workers and service
+   * workers. Each attached child is exposed as its own dev tools service using flat session mode,
+   * sharing the web socket connection and event executor of this service.
+   *
+   * <p>Child targets are paused on start and resumed once {@link
+   * ChildSessionListener#onAttached(ChromeDevToolsService,
+   * com.github.kklisura.cdt.protocol.types.target.TargetInfo)} returns, so domains enabled in the
+   * callback do not miss any events. Enable auto-attach on child service in the callback to attach
+   * to its children as well, ie. workers of an iframe.
+   *
+   * @param listener Child session listener.
+   */
+  void enableAutoAttach(ChildSessionListener listener);
+
+  /**
+   * Attaches to a target given its id using flat session mode and returns its dev tools service,
+   * sharing the web socket connection and event executor of this service. Closing returned service
+   * detaches from the target.
+   *
+   * @param targetId Target id.
+   * @return Dev tools service of the attached target.
+   */
+  ChromeDevToolsService attachToTarget(String targetId);
+
+  /**
+   * Returns dev tools services of currently attached child targets.
+   *
+   * @return Child services.
+   */
+  List<ChromeDevToolsService> getChildServices();
+
   /**
    * Adds an event listener on a given event name belonging to some domain.
    *
@@ -92,10 +163,80 @@ public interface ChromeDevToolsService extends ChromeDevTools, AutoCloseable {
   EventListener addEventListener(
       String domainName, String eventName, EventHandler eventHandler, Class<?> eventType);
 
+  /**
+   * Adds a raw event listener on a given event name belonging to some domain. Raw listeners receive
+   * the undecoded params of the event and bypass JSON binding completely, which is useful for bulk
+   * payload events such as Tracing.dataCollected or HeapProfiler.addHeapSnapshotChunk.
+   *
+   * @param domainName Domain.
+   * @param eventName Event.
+   * @param eventHandler Raw event handler.
+   * @return Event listener.
+   */
+  EventListener addRawEventListener(
+      String domainName, String eventName, RawEventHandler eventHandler);
+
   /**
    * Removes an event listener.
    *
    * @param eventListener Event listener.
    */
   void removeEventListener(EventListener eventListener);
+
+  /**
+   * Removes all event listeners, including raw event listeners. Pending {@link #nextEvent} and
+   * {@link #awaitAfter} futures are cancelled.
+   */
+  void removeAllEventListeners();
+
+  /**
+   * Returns a future that completes with the next event of a given domain and name that matches the
+   * predicate. The listener is registered before this method returns and it unsubscribes itself
+   * once the future is completed, so waiting for the event does not block any thread.
+   *
+   * @param domainName Domain.
+   * @param eventName Event.
+   * @param eventType Event type.
+   * @param predicate Event predicate. Null accepts any event.
+   * @param timeout Timeout in seconds. 0 for infinite timeout.
+   * @param <T> Type of an event.
+   * @return Future completed with the event or exceptionally with {@link
+   *     java.util.concurrent.TimeoutException} if timeout expires.
+   */
+  <T> CompletableFuture<T> nextEvent(
+      String domainName,
+      String eventName,
+      Class<T> eventType,
+      Predicate<T> predicate,
+      long timeout);
+
+  /**
+   * Subscribes to an event and then runs the trigger, ie.
+   *
+   * <pre>{@code
+   * devTools.awaitAfter(() -> page.navigate(url), page::onLoadEventFired).join();
+   * }</pre>
+   *
+   * Subscribing before the trigger runs guarantees the event can not be missed.
+   *
+   * @param trigger Trigger causing the event, ie. command invocation.
+   * @param subscription Event subscription, ie. page::onLoadEventFired.
+   * @param <T> Type of an event.
+   * @return Future completed with the first event received after subscription.
+   */
+  <T> CompletableFuture<T> awaitAfter(
+      Runnable trigger, Function<EventHandler<T>, EventListener> subscription);
+
+  /**
+   * Subscribes to an event and then runs the trigger. See {@link #awaitAfter(Runnable, Function)}.
+   *
+   * @param trigger Trigger causing the event, ie. command invocation.
+   * @param subscription Event subscription, ie. page::onLoadEventFired.
+   * @param timeout Timeout in seconds. 0 for infinite timeout.
+   * @param <T> Type of an event.
+   * @return Future completed with the first event received after subscription or exceptionally with
+   *     {@link java.util.concurrent.TimeoutException} if timeout expires.
+   */
+  <T> CompletableFuture<T> awaitAfter(
+      Runnable trigger, Function<EventHandler<T>, EventListener> subscription, long timeout);
 }
@@ -20,11 +20,13 @@ package com.github.kklisura.cdt.services;
  * #L%
  */
 
+import com.github.kklisura.cdt.dynamic.DynamicProtocol;
 import com.github.kklisura.cdt.services.config.ChromeDevToolsServiceConfiguration;
 import com.github.kklisura.cdt.services.exceptions.ChromeServiceException;
 import com.github.kklisura.cdt.services.types.ChromeTab;
 import com.github.kklisura.cdt.services.types.ChromeVersion;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Chrome service definition.
@@ -40,6 +42,14 @@ public interface ChromeService {
    */
   List<ChromeTab> getTabs() throws ChromeServiceException;
 
+  /**
+   * Gets the list of opened chrome tabs asynchronously.
+   *
+   * @return Future completed with list of chrome tabs or exceptionally with {@link
+   *     ChromeServiceException}.
+   */
+  CompletableFuture<List<ChromeTab>> getTabsAsync();
+
   /**
    * Creates a new chrome tab that points to about:blank
    *
@@ -57,6 +67,23 @@ public interface ChromeService {
    */
   ChromeTab createTab(String url) throws ChromeServiceException;
 
+  /**
+   * Creates a new chrome tab that points to about:blank asynchronously.
+   *
+   * @return Future completed with created chrome tab or exceptionally with {@link
+   *     ChromeServiceException}.
+   */
+  CompletableFuture<ChromeTab> createTabAsync();
+
+  /**
+   * Creates a new chrome tab asynchronously.
+   *
+   * @param url the url
+   * @return Future completed with created chrome tab or exceptionally with {@link
+   *     ChromeServiceException}.
+   */
+  CompletableFuture<ChromeTab> createTabAsync(String url);
+
   /**
    * Activates a tab.
    *
@@ -73,6 +100,15 @@ public interface ChromeService {
    */
   void closeTab(ChromeTab ta) throws ChromeServiceException;
 
+  /**
+   * Closes a chrome tab asynchronously.
+   *
+   * @param tab the tab
+   * @return Future completed once tab is closed or exceptionally with {@link
+   *     ChromeServiceException}.
+   */
+  CompletableFuture<Void> closeTabAsync(ChromeTab tab);
+
   /**
    * Gets the version info.
    *
@@ -81,6 +117,15 @@ public interface ChromeService {
    */
   ChromeVersion getVersion() throws ChromeServiceException;;
 
+  /**
+   * Gets the dev tools protocol definition of the browser, ie. to call commands of domains which
+   * have no generated classes using {@link com.github.kklisura.cdt.dynamic.DynamicClient}.
+   *
+   * @return Protocol definition.
+   * @throws ChromeServiceException If request fails for any reason.
+   */
+  DynamicProtocol getProtocol() throws ChromeServiceException;
+
   /**
    * Creates a dev tools service to specified tab.
    *
@@ -99,4 +144,44 @@ public interface ChromeService {
    * @return Dev tools.
    */
   ChromeDevToolsService createDevToolsService(ChromeTab tab) throws ChromeServiceException;
+
+  /**
+   * Creates dev tools services to specified tabs, connecting to several tabs in parallel. Returned
+   * services are in the same order as the tabs. If any of the connections fails, the first failure
+   * is thrown; services connected so far remain cached.
+   *
+   * @param tabs Tabs.
+   * @param chromeDevToolsServiceConfiguration Service configuration.
+   * @return Dev tools per tab.
+   */
+  List<ChromeDevToolsService> createDevToolsServices(
+      List<ChromeTab> tabs, ChromeDevToolsServiceConfiguration chromeDevToolsServiceConfiguration)
+      throws ChromeServiceException;
+
+  /**
+   * Creates dev tools services to specified tabs with default service configuration.
+   *
+   * @param tabs Tabs.
+   * @return Dev tools per tab.
+   */
+  List<ChromeDevToolsService> createDevToolsServices(List<ChromeTab> tabs)
+      throws ChromeServiceException;
+
+  /**
+   * Creates a dev tools service connected to the browser target, ie. to manage browser contexts and
+   * targets. Browser dev tools services are not cached and should be closed by the caller.
+   *
+   * @param chromeDevToolsServiceConfiguration Service configuration.
+   * @return Browser dev tools.
+   */
+  ChromeDevToolsService createBrowserDevToolsService(
+      ChromeDevToolsServiceConfiguration chromeDevToolsServiceConfiguration)
+      throws ChromeServiceException;
+
+  /**
+   * Creates a dev tools service connected to the browser target with default service configuration.
+   *
+   * @return Browser dev tools.
+   */
+  ChromeDevToolsService createBrowserDevToolsService() throws ChromeServiceException;
 }
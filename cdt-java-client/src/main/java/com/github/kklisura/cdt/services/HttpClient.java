@@ -0,0 +1,51 @@
+package com.github.kklisura.cdt.services;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.services.types.HttpResponse;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP client definition used for calling chrome HTTP endpoints, ie. /json/list, /json/new.
+ * Implementations are expected to reuse connections between requests.
+ *
+ * @author Kenan Klisura
+ */
+public interface HttpClient {
+  /**
+   * Sends a GET request and reads the complete response.
+   *
+   * @param url Request url.
+   * @return Response.
+   * @throws IOException If sending request or reading response fails.
+   */
+  HttpResponse get(String url) throws IOException;
+
+  /**
+   * Sends a GET request asynchronously.
+   *
+   * @param url Request url.
+   * @return Future completed with response or exceptionally with {@link IOException} if sending
+   *     request or reading response fails.
+   */
+  CompletableFuture<HttpResponse> getAsync(String url);
+}
@@ -51,6 +51,18 @@ public interface WebSocketService {
    */
   void addMessageHandler(Consumer<String> consumer) throws WebSocketServiceException;
 
+  /**
+   * Adds a handler that is called when the connection gets closed or fails.
+   *
+   * <p>Default implementation ignores the handler; implementations that are able to detect
+   * connection failures should override it.
+   *
+   * @param handler Handler receiving the close or failure cause.
+   */
+  default void addCloseHandler(Consumer<Throwable> handler) {
+    // Empty body.
+  }
+
   /** Closes the service. */
   void close();
 
@@ -0,0 +1,48 @@
+package com.github.kklisura.cdt.services.exceptions;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Invocation exception raised when the dev tools session is closed, detached or its target has
+ * crashed before the invocation could complete.
+ *
+ * @author Kenan Klisura
+ */
+public class ChromeDevToolsSessionClosedException extends ChromeDevToolsInvocationException {
+  /**
+   * Instantiates a new Chrome dev tools session closed exception.
+   *
+   * @param message Exception message.
+   */
+  public ChromeDevToolsSessionClosedException(String message) {
+    super(message);
+  }
+
+  /**
+   * Instantiates a new Chrome dev tools session closed exception.
+   *
+   * @param message Exception message.
+   * @param cause Exception cause.
+   */
+  public ChromeDevToolsSessionClosedException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
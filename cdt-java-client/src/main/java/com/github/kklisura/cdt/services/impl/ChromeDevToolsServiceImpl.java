@@ -21,30 +21,51 @@ package com.github.kklisura.cdt.services.impl;
  */
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.github.kklisura.cdt.protocol.ChromeDevToolsImpl;
+import com.github.kklisura.cdt.protocol.codecs.ProtocolCodecs;
+import com.github.kklisura.cdt.protocol.events.target.AttachedToTarget;
 import com.github.kklisura.cdt.protocol.support.types.EventHandler;
 import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.target.TargetInfo;
 import com.github.kklisura.cdt.services.ChromeDevToolsService;
 import com.github.kklisura.cdt.services.WebSocketService;
 import com.github.kklisura.cdt.services.config.ChromeDevToolsServiceConfiguration;
 import com.github.kklisura.cdt.services.exceptions.ChromeDevToolsInvocationException;
+import com.github.kklisura.cdt.services.exceptions.ChromeDevToolsSessionClosedException;
 import com.github.kklisura.cdt.services.exceptions.WebSocketServiceException;
 import com.github.kklisura.cdt.services.executors.EventExecutorService;
+import com.github.kklisura.cdt.services.types.ChildSessionListener;
 import com.github.kklisura.cdt.services.types.ChromeTab;
 import com.github.kklisura.cdt.services.types.EventListenerImpl;
 import com.github.kklisura.cdt.services.types.MethodInvocation;
-import com.github.kklisura.cdt.services.utils.ProxyUtils;
+import com.github.kklisura.cdt.services.types.RawEventHandler;
+import com.github.kklisura.cdt.services.types.RawEventListenerImpl;
+import com.github.kklisura.cdt.utils.Base64Utils;
 import java.io.IOException;
-import java.lang.reflect.InvocationHandler;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,7 +74,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kenan Klisura
  */
-public abstract class ChromeDevToolsServiceImpl
+public class ChromeDevToolsServiceImpl extends ChromeDevToolsImpl
     implements ChromeDevToolsService, Consumer<String>, AutoCloseable {
   private static final Logger LOGGER = LoggerFactory.getLogger(ChromeDevToolsServiceImpl.class);
 
@@ -62,9 +83,29 @@ public abstract class ChromeDevToolsServiceImpl
   private static final String RESULT_PROPERTY = "result";
   private static final String METHOD_PROPERTY = "method";
   private static final String PARAMS_PROPERTY = "params";
+  private static final String SESSION_ID_PROPERTY = "sessionId";
 
+  private static final String EMPTY_PARAMS = "{}";
+
+  private static final String INSPECTOR_DETACHED_EVENT = "Inspector.detached";
+  private static final String INSPECTOR_TARGET_CRASHED_EVENT = "Inspector.targetCrashed";
+  private static final String TARGET_TARGET_CRASHED_EVENT = "Target.targetCrashed";
+  private static final String TARGET_ATTACHED_TO_TARGET_EVENT = "Target.attachedToTarget";
+  private static final String TARGET_DETACHED_FROM_TARGET_EVENT = "Target.detachedFromTarget";
+
+  private static final String REASON_PROPERTY = "reason";
+  private static final String TARGET_ID_PROPERTY = "targetId";
+
+  private static final AtomicLong ID_SUPPLIER = new AtomicLong(1L);
+
+  // Return properties of pending binary invocations by invocation id. Ids are unique across
+  // services, so messages of child sessions can be matched before their session is known.
+  private static final Map<Long, String> BINARY_INVOCATIONS = new ConcurrentHashMap<>();
+
+  // Protocol types and events are bound with generated streaming codecs instead of reflection.
   private static final ObjectMapper OBJECT_MAPPER =
       new ObjectMapper()
+          .registerModule(ProtocolCodecs.createModule())
           .setSerializationInclusion(JsonInclude.Include.NON_NULL)
           .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
@@ -79,15 +120,36 @@ public abstract class ChromeDevToolsServiceImpl
 
   private EventExecutorService eventExecutorService;
 
-  private Map<String, Set<EventListenerImpl>> eventNameToHandlersMap = new HashMap<>();
+  private Map<String, Set<EventListenerImpl>> eventNameToHandlersMap = new ConcurrentHashMap<>();
+
+  private Map<String, Set<RawEventListenerImpl>> eventNameToRawHandlersMap =
+      new ConcurrentHashMap<>();
+
+  private Set<CompletableFuture<?>> pendingEventFutures = ConcurrentHashMap.newKeySet();
+
+  private AtomicBoolean closed = new AtomicBoolean(false);
+
+  private volatile String closeReason;
+
+  private Map<String, ChromeDevToolsServiceImpl> sessions = new ConcurrentHashMap<>();
+
+  private Set<String> attachingTargetIds = ConcurrentHashMap.newKeySet();
+
+  private volatile ChildSessionListener childSessionListener;
+
+  private ChromeDevToolsServiceImpl parentService;
+
+  private String sessionId;
+
+  private TargetInfo targetInfo;
 
   private CountDownLatch closeLatch;
 
   /**
-   * Instantiates a new Chrome dev tools service. This is used during proxy building phase.
+   * Instantiates a new Chrome dev tools service. Domain commands are generated implementations
+   * invoking commands through this service.
    *
-   * <p>See {@link ChromeServiceImpl#createDevToolsService(ChromeTab)} See {@link
-   * ProxyUtils#createProxyFromAbstract(Class, Class[], Object[], InvocationHandler)}
+   * <p>See {@link ChromeServiceImpl#createDevToolsService(ChromeTab)}
    *
    * @param webSocketService Web socket service.
    * @param configuration Service configuration.
@@ -104,6 +166,7 @@ public abstract class ChromeDevToolsServiceImpl
     this.closeLatch = new CountDownLatch(1);
 
     this.webSocketService.addMessageHandler(this);
+    this.webSocketService.addCloseHandler(this::onWebSocketClose);
   }
 
   /**
@@ -124,6 +187,50 @@ public abstract class ChromeDevToolsServiceImpl
     this.chromeTab = chromeTab;
   }
 
+  /**
+   * Sets the parent session of this service, making this service a flat child session of a given
+   * parent. Child session shares the web socket connection, session registry and event executor of
+   * its parent.
+   *
+   * @param parentService Parent service.
+   * @param sessionId Session id of this service.
+   * @param targetInfo Target info. Could be null.
+   */
+  public void setParentSession(
+      ChromeDevToolsServiceImpl parentService, String sessionId, TargetInfo targetInfo) {
+    this.parentService = parentService;
+    this.sessionId = sessionId;
+    this.targetInfo = targetInfo;
+
+    this.sessions = parentService.sessions;
+    this.sessions.put(sessionId, this);
+  }
+
+  /**
+   * Returns the next method invocation id. Invocations of generated commands and of command proxies
+   * share the id sequence, so pending invocations of a service never share an id.
+   *
+   * @return Method invocation id.
+   */
+  public static long nextInvocationId() {
+    return ID_SUPPLIER.getAndIncrement();
+  }
+
+  @Override
+  public <T> T invoke(
+      String method,
+      Map<String, Object> params,
+      String returnProperty,
+      Class<T> returnType,
+      Class<?>[] returnTypeClasses) {
+    MethodInvocation methodInvocation = new MethodInvocation();
+    methodInvocation.setId(nextInvocationId());
+    methodInvocation.setMethod(method);
+    methodInvocation.setParams(params);
+
+    return invoke(returnProperty, returnType, returnTypeClasses, methodInvocation);
+  }
+
   @Override
   public <T> T invoke(String returnProperty, Class<T> clazz, MethodInvocation methodInvocation) {
     return invoke(returnProperty, clazz, null, methodInvocation);
@@ -136,19 +243,8 @@ public abstract class ChromeDevToolsServiceImpl
       Class<?>[] returnTypeClasses,
       MethodInvocation methodInvocation) {
     try {
-      InvocationResult invocationResult = new InvocationResult(returnProperty);
-      invocationResultMap.put(methodInvocation.getId(), invocationResult);
-
-      webSocketService.send(OBJECT_MAPPER.writeValueAsString(methodInvocation));
-
-      boolean hasReceivedResponse =
-          invocationResult.waitForResult(configuration.getReadTimeout(), TimeUnit.SECONDS);
-      invocationResultMap.remove(methodInvocation.getId());
-
-      if (!hasReceivedResponse) {
-        throw new ChromeDevToolsInvocationException(
-            "Timeout expired while waiting for server response.");
-      }
+      InvocationResult invocationResult =
+          invokeAndWait(new InvocationResult(returnProperty), methodInvocation);
 
       if (invocationResult.isSuccess()) {
         if (Void.TYPE.equals(clazz)) {
@@ -161,35 +257,198 @@ public abstract class ChromeDevToolsServiceImpl
           return readJsonObject(clazz, invocationResult.getResult());
         }
       } else {
-        ErrorObject error = readJsonObject(ErrorObject.class, invocationResult.getResult());
-        StringBuilder errorMessageBuilder = new StringBuilder(error.getMessage());
-        if (error.getData() != null) {
-          errorMessageBuilder.append(": ");
-          errorMessageBuilder.append(error.getData());
+        throw createInvocationException(invocationResult);
+      }
+    } catch (IOException ex) {
+      throw new ChromeDevToolsInvocationException("Failed reading response message.", ex);
+    }
+  }
+
+  @Override
+  public long invokeBinary(
+      String method,
+      Map<String, Object> params,
+      String returnProperty,
+      WritableByteChannel channel) {
+    MethodInvocation methodInvocation = new MethodInvocation();
+    methodInvocation.setId(nextInvocationId());
+    methodInvocation.setMethod(method);
+    methodInvocation.setParams(params);
+
+    InvocationResult invocationResult;
+    BINARY_INVOCATIONS.put(methodInvocation.getId(), returnProperty);
+    try {
+      invocationResult = invokeAndWait(new InvocationResult(returnProperty), methodInvocation);
+
+      if (!invocationResult.isSuccess()) {
+        throw createInvocationException(invocationResult);
+      }
+    } catch (IOException ex) {
+      throw new ChromeDevToolsInvocationException("Failed reading response message.", ex);
+    } finally {
+      BINARY_INVOCATIONS.remove(methodInvocation.getId());
+    }
+
+    try {
+      String message = invocationResult.getMessage();
+      if (message != null) {
+        return writeBinaryValue(message, invocationResult.getBinaryOffset(), channel);
+      }
+
+      JsonNode result = invocationResult.getResult();
+      if (result == null || !result.isTextual()) {
+        throw new ChromeDevToolsInvocationException(
+            "Failed converting response " + result + " to binary data.");
+      }
+      return Base64Utils.decode(result.textValue(), 0, result.textValue().length(), channel);
+    } catch (IOException ex) {
+      throw new ChromeDevToolsInvocationException("Failed writing binary response.", ex);
+    } catch (IllegalArgumentException ex) {
+      throw new ChromeDevToolsInvocationException("Failed decoding binary response.", ex);
+    }
+  }
+
+  /**
+   * Sends the method invocation and waits for its result.
+   *
+   * @param invocationResult Invocation result.
+   * @param methodInvocation Method invocation.
+   * @return Invocation result with a response.
+   * @throws IOException If method invocation could not be serialized.
+   */
+  private InvocationResult invokeAndWait(
+      InvocationResult invocationResult, MethodInvocation methodInvocation) throws IOException {
+    if (isClosed()) {
+      throw new ChromeDevToolsSessionClosedException(closedMessage());
+    }
+
+    if (sessionId != null) {
+      methodInvocation.setSessionId(sessionId);
+    }
+
+    try {
+      invocationResultMap.put(methodInvocation.getId(), invocationResult);
+
+      boolean hasReceivedResponse;
+      try {
+        // Service could have been closed while registering this invocation.
+        if (isClosed()) {
+          throw new ChromeDevToolsSessionClosedException(closedMessage());
         }
 
+        webSocketService.send(OBJECT_MAPPER.writeValueAsString(methodInvocation));
+
+        hasReceivedResponse =
+            invocationResult.waitForResult(configuration.getReadTimeout(), TimeUnit.SECONDS);
+      } finally {
+        invocationResultMap.remove(methodInvocation.getId());
+      }
+
+      if (!hasReceivedResponse) {
         throw new ChromeDevToolsInvocationException(
-            error.getCode(), errorMessageBuilder.toString());
+            "Timeout expired while waiting for server response.");
       }
+
+      if (invocationResult.getFailureReason() != null) {
+        throw new ChromeDevToolsSessionClosedException(invocationResult.getFailureReason());
+      }
+
+      return invocationResult;
     } catch (WebSocketServiceException e) {
       throw new ChromeDevToolsInvocationException("Failed sending web socket message.", e);
     } catch (InterruptedException e) {
       throw new ChromeDevToolsInvocationException("Interrupted while waiting response.", e);
-    } catch (IOException ex) {
-      throw new ChromeDevToolsInvocationException("Failed reading response message.", ex);
     }
   }
 
+  private ChromeDevToolsInvocationException createInvocationException(
+      InvocationResult invocationResult) throws IOException {
+    ErrorObject error = readJsonObject(ErrorObject.class, invocationResult.getResult());
+    StringBuilder errorMessageBuilder = new StringBuilder(error.getMessage());
+    if (error.getData() != null) {
+      errorMessageBuilder.append(": ");
+      errorMessageBuilder.append(error.getData());
+    }
+
+    return new ChromeDevToolsInvocationException(error.getCode(), errorMessageBuilder.toString());
+  }
+
+  /**
+   * Decodes a base64 json string value of a message straight into a channel. Escaped values, which
+   * Chrome does not send for base64 data, are read with json parser instead.
+   *
+   * @param message Message.
+   * @param offset Offset of the opening quote of a value.
+   * @param channel Channel.
+   * @return Number of bytes written.
+   * @throws IOException If writing to channel fails.
+   */
+  private static long writeBinaryValue(String message, int offset, WritableByteChannel channel)
+      throws IOException {
+    int end = offset + 1;
+    boolean escaped = false;
+    while (message.charAt(end) != '"') {
+      if (message.charAt(end) == '\\') {
+        escaped = true;
+        end++;
+      }
+      end++;
+    }
+
+    if (escaped) {
+      try (JsonParser parser =
+          OBJECT_MAPPER.getFactory().createParser(message.substring(offset, end + 1))) {
+        parser.nextToken();
+        String value = parser.getText();
+        return Base64Utils.decode(value, 0, value.length(), channel);
+      }
+    }
+
+    return Base64Utils.decode(message, offset + 1, end, channel);
+  }
+
   @Override
   public void close() {
-    if (!isClosed()) {
-      webSocketService.close();
+    if (parentService != null && !isClosed()) {
+      try {
+        parentService.getTarget().detachFromTarget(sessionId, null);
+      } catch (Exception e) {
+        LOGGER.debug("Failed detaching from session {}", sessionId, e);
+      }
+    }
+
+    close("Chrome DevTools service closed.");
+  }
+
+  /**
+   * Closes the service failing all in-flight invocations and event futures with a given reason.
+   *
+   * @param reason Close reason.
+   */
+  private void close(String reason) {
+    if (closed.compareAndSet(false, true)) {
+      closeReason = reason;
+
+      if (parentService == null) {
+        webSocketService.close();
+      } else {
+        sessions.remove(sessionId, this);
+      }
+
+      for (ChromeDevToolsServiceImpl childService : getChildSessions()) {
+        childService.close(reason);
+      }
 
       if (chromeService != null) {
         chromeService.clearChromeDevToolsServiceCache(chromeTab);
       }
 
-      eventExecutorService.shutdown();
+      // Event executor is shared with child sessions.
+      if (parentService == null) {
+        eventExecutorService.shutdown();
+      }
+
+      failPendingInvocations(reason);
 
       closeLatch.countDown();
     }
@@ -197,7 +456,7 @@ public abstract class ChromeDevToolsServiceImpl
 
   @Override
   public boolean isClosed() {
-    return closeLatch.getCount() == 0L;
+    return closed.get();
   }
 
   @Override
@@ -209,6 +468,42 @@ public abstract class ChromeDevToolsServiceImpl
     }
   }
 
+  @Override
+  public String getSessionId() {
+    return sessionId;
+  }
+
+  @Override
+  public void enableAutoAttach(ChildSessionListener listener) {
+    this.childSessionListener = listener;
+
+    getTarget().setAutoAttach(Boolean.TRUE, Boolean.TRUE, Boolean.TRUE);
+  }
+
+  @Override
+  public ChromeDevToolsService attachToTarget(String targetId) {
+    String childSessionId;
+
+    attachingTargetIds.add(targetId);
+    try {
+      childSessionId = getTarget().attachToTarget(targetId, Boolean.TRUE);
+    } finally {
+      attachingTargetIds.remove(targetId);
+    }
+
+    // Child session is usually created on attachedToTarget event which precedes the response.
+    ChromeDevToolsServiceImpl childService = sessions.get(childSessionId);
+    if (childService == null) {
+      childService = createChildSession(childSessionId, null);
+    }
+    return childService;
+  }
+
+  @Override
+  public List<ChromeDevToolsService> getChildServices() {
+    return new ArrayList<>(getChildSessions());
+  }
+
   @Override
   public EventListener addEventListener(
       String domainName, String eventName, EventHandler eventHandler, Class<?> eventType) {
@@ -220,8 +515,34 @@ public abstract class ChromeDevToolsServiceImpl
     return eventListener;
   }
 
+  @Override
+  public EventListener addRawEventListener(
+      String domainName, String eventName, RawEventHandler eventHandler) {
+    String name = domainName + "." + eventName;
+
+    RawEventListenerImpl eventListener = new RawEventListenerImpl(name, eventHandler, this);
+    eventNameToRawHandlersMap
+        .computeIfAbsent(name, this::createRawEventHandlerSet)
+        .add(eventListener);
+
+    return eventListener;
+  }
+
   @Override
   public void removeEventListener(EventListener eventListener) {
+    if (eventListener instanceof RawEventListenerImpl) {
+      RawEventListenerImpl rawEventListener = (RawEventListenerImpl) eventListener;
+
+      Set<RawEventListenerImpl> listeners =
+          eventNameToRawHandlersMap.get(rawEventListener.getKey());
+      if (listeners != null) {
+        synchronized (listeners) {
+          listeners.removeIf(next -> rawEventListener.getHandler().equals(next.getHandler()));
+        }
+      }
+      return;
+    }
+
     EventListenerImpl eventListenerImpl = (EventListenerImpl) eventListener;
 
     String name = eventListenerImpl.getKey();
@@ -235,46 +556,114 @@ public abstract class ChromeDevToolsServiceImpl
   }
 
   @Override
-  public void accept(String message) {
-    try {
-      JsonNode jsonNode = OBJECT_MAPPER.readTree(message);
+  public void removeAllEventListeners() {
+    eventNameToHandlersMap.clear();
+    eventNameToRawHandlersMap.clear();
 
-      JsonNode idNode = jsonNode.get(ID_PROPERTY);
-      if (idNode != null) {
-        Long id = idNode.asLong();
-        InvocationResult invocationResult = invocationResultMap.get(id);
+    for (CompletableFuture<?> future : pendingEventFutures) {
+      future.cancel(false);
+    }
+  }
 
-        if (invocationResult != null) {
-          JsonNode resultNode = jsonNode.get(RESULT_PROPERTY);
-          JsonNode errorNode = jsonNode.get(ERROR_PROPERTY);
+  @Override
+  public <T> CompletableFuture<T> nextEvent(
+      String domainName,
+      String eventName,
+      Class<T> eventType,
+      Predicate<T> predicate,
+      long timeout) {
+    return awaitEvent(
+        eventHandler -> addEventListener(domainName, eventName, eventHandler, eventType),
+        predicate,
+        timeout);
+  }
 
-          if (errorNode != null) {
-            invocationResult.signalResultReady(false, errorNode);
-          } else {
-            if (invocationResult.getReturnProperty() != null) {
-              if (resultNode != null) {
-                resultNode = resultNode.get(invocationResult.getReturnProperty());
-              }
-            }
+  @Override
+  public <T> CompletableFuture<T> awaitAfter(
+      Runnable trigger, Function<EventHandler<T>, EventListener> subscription) {
+    return awaitAfter(trigger, subscription, 0);
+  }
 
-            if (resultNode != null) {
-              invocationResult.signalResultReady(true, resultNode);
+  @Override
+  public <T> CompletableFuture<T> awaitAfter(
+      Runnable trigger, Function<EventHandler<T>, EventListener> subscription, long timeout) {
+    CompletableFuture<T> future = awaitEvent(subscription, null, timeout);
+
+    try {
+      trigger.run();
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+
+    return future;
+  }
+
+  @Override
+  public void accept(String message) {
+    try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(message)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        LOGGER.warn("Received unsupported web socket message {}", message);
+        return;
+      }
+
+      Long id = null;
+      String method = null;
+      String messageSessionId = null;
+      JsonNode resultNode = null;
+      JsonNode errorNode = null;
+      int binaryOffset = -1;
+      int paramsStart = -1;
+      int paramsEnd = -1;
+
+      // Read message envelope; params are skipped over and only their location is recorded.
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        parser.nextToken();
+
+        switch (fieldName) {
+          case ID_PROPERTY:
+            id = parser.getValueAsLong();
+            break;
+          case METHOD_PROPERTY:
+            method = parser.getValueAsString();
+            break;
+          case SESSION_ID_PROPERTY:
+            messageSessionId = parser.getValueAsString();
+            break;
+          case RESULT_PROPERTY:
+            String binaryProperty = id != null ? BINARY_INVOCATIONS.get(id) : null;
+            if (binaryProperty != null) {
+              binaryOffset = readBinaryOffset(parser, binaryProperty);
             } else {
-              invocationResult.signalResultReady(true, null);
+              resultNode = parser.readValueAsTree();
             }
-          }
-        } else {
-          LOGGER.warn(
-              "Received result response with unknown invocation id {}. {}", id, jsonNode.asText());
+            break;
+          case ERROR_PROPERTY:
+            errorNode = parser.readValueAsTree();
+            break;
+          case PARAMS_PROPERTY:
+            paramsStart = (int) parser.getTokenLocation().getCharOffset();
+            parser.skipChildren();
+            paramsEnd = (int) parser.getCurrentLocation().getCharOffset();
+            break;
+          default:
+            parser.skipChildren();
+            break;
         }
-      } else {
-        JsonNode methodNode = jsonNode.get(METHOD_PROPERTY);
-        JsonNode paramsNode = jsonNode.get(PARAMS_PROPERTY);
+      }
 
-        if (methodNode != null) {
-          handleEvent(methodNode.asText(), paramsNode);
+      // Messages of flat child sessions are received over this connection and routed by session id.
+      ChromeDevToolsServiceImpl targetService = this;
+      if (messageSessionId != null && !messageSessionId.equals(sessionId)) {
+        targetService = sessions.get(messageSessionId);
+        if (targetService == null) {
+          LOGGER.debug("Received message for unknown session {}. {}", messageSessionId, message);
+          return;
         }
       }
+
+      targetService.handleMessage(
+          message, id, method, resultNode, errorNode, binaryOffset, paramsStart, paramsEnd);
     } catch (IOException ex) {
       LOGGER.error("Failed reading web socket message!", ex);
     } catch (Exception ex) {
@@ -282,35 +671,358 @@ public abstract class ChromeDevToolsServiceImpl
     }
   }
 
-  @SuppressWarnings("unchecked")
-  private void handleEvent(String name, JsonNode params) {
-    Set<EventListenerImpl> listeners = eventNameToHandlersMap.get(name);
+  /**
+   * Reads the offset of a binary string value of a result object. Value itself is skipped, so it is
+   * never materialized as a string.
+   *
+   * @param parser Parser positioned at the result.
+   * @param property Property holding the binary value.
+   * @return Offset of the opening quote of a value or -1 if result has no such value.
+   * @throws IOException If result reading fails.
+   */
+  private static int readBinaryOffset(JsonParser parser, String property) throws IOException {
+    int offset = -1;
+    if (parser.currentToken() == JsonToken.START_OBJECT) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        if (parser.nextToken() == JsonToken.VALUE_STRING && property.equals(fieldName)) {
+          offset = (int) parser.getTokenLocation().getCharOffset();
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } else {
+      parser.skipChildren();
+    }
+    return offset;
+  }
 
-    if (listeners != null) {
-      final Set<EventListener> eventListeners;
-      synchronized (listeners) {
-        eventListeners = new HashSet<>(listeners);
+  /**
+   * Handles the message belonging to this session.
+   *
+   * @param message Message.
+   * @param id Invocation id. Could be null.
+   * @param method Event name. Could be null.
+   * @param resultNode Result node. Could be null.
+   * @param errorNode Error node. Could be null.
+   * @param binaryOffset Offset of a binary result value or -1.
+   * @param paramsStart Params start offset.
+   * @param paramsEnd Params end offset.
+   * @throws IOException If params reading fails.
+   */
+  private void handleMessage(
+      String message,
+      Long id,
+      String method,
+      JsonNode resultNode,
+      JsonNode errorNode,
+      int binaryOffset,
+      int paramsStart,
+      int paramsEnd)
+      throws IOException {
+    if (id != null) {
+      InvocationResult invocationResult = invocationResultMap.get(id);
+
+      if (invocationResult != null) {
+        if (errorNode != null) {
+          invocationResult.signalResultReady(false, errorNode);
+        } else if (binaryOffset != -1) {
+          invocationResult.signalBinaryResultReady(message, binaryOffset);
+        } else {
+          if (invocationResult.getReturnProperty() != null) {
+            if (resultNode != null) {
+              resultNode = resultNode.get(invocationResult.getReturnProperty());
+            }
+          }
+
+          if (resultNode != null) {
+            invocationResult.signalResultReady(true, resultNode);
+          } else {
+            invocationResult.signalResultReady(true, null);
+          }
+        }
+      } else {
+        LOGGER.warn("Received result response with unknown invocation id {}. {}", id, message);
       }
+    } else if (method != null) {
+      handleLifecycleEvent(method, message, paramsStart, paramsEnd);
+      handleEvent(method, message, paramsStart, paramsEnd);
+    }
+  }
+
+  /**
+   * Fails in-flight invocations if session gets detached or target crashes and tracks attached
+   * child sessions. This is handled on the receiving thread so callers are released even if event
+   * executor is busy and child sessions are registered before any of their messages arrive.
+   *
+   * @param name Event name.
+   * @param message Message.
+   * @param paramsStart Params start offset.
+   * @param paramsEnd Params end offset.
+   * @throws IOException If params reading fails.
+   */
+  private void handleLifecycleEvent(String name, String message, int paramsStart, int paramsEnd)
+      throws IOException {
+    switch (name) {
+      case INSPECTOR_DETACHED_EVENT:
+        close("Inspector detached: " + readParam(REASON_PROPERTY, message, paramsStart, paramsEnd));
+        break;
+      case INSPECTOR_TARGET_CRASHED_EVENT:
+        failPendingInvocations("Target crashed.");
+        break;
+      case TARGET_TARGET_CRASHED_EVENT:
+        String targetId = readParam(TARGET_ID_PROPERTY, message, paramsStart, paramsEnd);
+        if (targetId != null && targetId.equals(getTargetId())) {
+          failPendingInvocations("Target crashed.");
+        }
+        break;
+      case TARGET_ATTACHED_TO_TARGET_EVENT:
+        onAttachedToTarget(
+            (AttachedToTarget)
+                readEventParams(AttachedToTarget.class, message, paramsStart, paramsEnd));
+        break;
+      case TARGET_DETACHED_FROM_TARGET_EVENT:
+        onDetachedFromTarget(readParam(SESSION_ID_PROPERTY, message, paramsStart, paramsEnd));
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Creates a child session if target got attached by auto-attach or by {@link
+   * #attachToTarget(String)}. Attached targets are paused by auto-attach; the target is resumed
+   * once the child session listener returns.
+   *
+   * @param event Attached to target event.
+   */
+  private void onAttachedToTarget(AttachedToTarget event) {
+    final ChildSessionListener listener = childSessionListener;
+    final TargetInfo childTargetInfo = event.getTargetInfo();
+
+    boolean isRequested = attachingTargetIds.contains(childTargetInfo.getTargetId());
+    if ((listener == null && !isRequested) || sessions.containsKey(event.getSessionId())) {
+      return;
+    }
+
+    final ChromeDevToolsServiceImpl childService =
+        createChildSession(event.getSessionId(), childTargetInfo);
 
-      if (!eventListeners.isEmpty()) {
-        eventExecutorService.execute(
-            () -> {
-              Object event = null;
+    if (listener != null && !isRequested) {
+      final boolean isWaitingForDebugger = Boolean.TRUE.equals(event.getWaitingForDebugger());
 
-              for (EventListenerImpl listener : listeners) {
-                try {
-                  if (event == null) {
-                    event = readJsonObject(listener.getParamType(), params);
-                  }
+      eventExecutorService.execute(
+          () -> {
+            try {
+              listener.onAttached(childService, childTargetInfo);
+            } catch (Exception e) {
+              LOGGER.error("Error while processing attached target {}", event.getSessionId(), e);
+            }
+
+            if (isWaitingForDebugger) {
+              try {
+                childService.getRuntime().runIfWaitingForDebugger();
+              } catch (Exception e) {
+                LOGGER.error("Failed resuming attached target {}", event.getSessionId(), e);
+              }
+            }
+          });
+    }
+  }
+
+  /**
+   * Closes the child session given its session id.
+   *
+   * @param childSessionId Child session id.
+   */
+  private void onDetachedFromTarget(String childSessionId) {
+    final ChromeDevToolsServiceImpl childService =
+        childSessionId != null ? sessions.get(childSessionId) : null;
+    if (childService == null) {
+      return;
+    }
+
+    childService.close("Target detached.");
+
+    final ChildSessionListener listener = childSessionListener;
+    if (listener != null) {
+      eventExecutorService.execute(
+          () -> {
+            try {
+              listener.onDetached(childService, childService.targetInfo);
+            } catch (Exception e) {
+              LOGGER.error("Error while processing detached target {}", childSessionId, e);
+            }
+          });
+    }
+  }
+
+  private ChromeDevToolsServiceImpl createChildSession(
+      String childSessionId, TargetInfo childTargetInfo) {
+    ChromeDevToolsServiceImpl childService =
+        ChromeServiceImpl.createChromeDevToolsService(
+            new SessionWebSocketService(webSocketService), configuration);
+    childService.setParentSession(this, childSessionId, childTargetInfo);
+    return childService;
+  }
+
+  private List<ChromeDevToolsServiceImpl> getChildSessions() {
+    return sessions
+        .values()
+        .stream()
+        .filter(service -> service.parentService == this)
+        .collect(Collectors.toList());
+  }
+
+  private String getTargetId() {
+    if (chromeTab != null) {
+      return chromeTab.getId();
+    }
+    return targetInfo != null ? targetInfo.getTargetId() : null;
+  }
+
+  private void onWebSocketClose(Throwable cause) {
+    close("Web socket connection closed: " + cause.getMessage());
+  }
+
+  /**
+   * Fails all in-flight invocations and pending event futures.
+   *
+   * @param reason Failure reason.
+   */
+  private void failPendingInvocations(String reason) {
+    for (InvocationResult invocationResult : invocationResultMap.values()) {
+      invocationResult.signalFailure(reason);
+    }
+
+    for (CompletableFuture<?> future : pendingEventFutures) {
+      future.completeExceptionally(new ChromeDevToolsSessionClosedException(reason));
+    }
+  }
+
+  private String closedMessage() {
+    return closeReason != null ? closeReason : "Chrome DevTools service closed.";
+  }
 
-                  listener.getHandler().onEvent(event);
-                } catch (Exception e) {
-                  LOGGER.error("Error while processing event {}", name, e);
+  private static String readParam(String name, String message, int paramsStart, int paramsEnd)
+      throws IOException {
+    if (paramsStart == -1) {
+      return null;
+    }
+
+    return OBJECT_MAPPER
+        .readTree(message.substring(paramsStart, paramsEnd))
+        .path(name)
+        .asText(null);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void handleEvent(String name, String message, int paramsStart, int paramsEnd) {
+    final Set<EventListenerImpl> eventListeners = copyOf(eventNameToHandlersMap.get(name));
+    final Set<RawEventListenerImpl> rawEventListeners = copyOf(eventNameToRawHandlersMap.get(name));
+
+    if (eventListeners.isEmpty() && rawEventListeners.isEmpty()) {
+      return;
+    }
+
+    eventExecutorService.execute(
+        () -> {
+          for (RawEventListenerImpl listener : rawEventListeners) {
+            try {
+              CharBuffer params =
+                  paramsStart != -1
+                      ? CharBuffer.wrap(message, paramsStart, paramsEnd)
+                      : CharBuffer.wrap(EMPTY_PARAMS);
+              listener.getHandler().onEvent(params);
+            } catch (Exception e) {
+              LOGGER.error("Error while processing event {}", name, e);
+            }
+          }
+
+          Object event = null;
+
+          for (EventListenerImpl listener : eventListeners) {
+            try {
+              if (event == null) {
+                event = readEventParams(listener.getParamType(), message, paramsStart, paramsEnd);
+              }
+
+              listener.getHandler().onEvent(event);
+            } catch (Exception e) {
+              LOGGER.error("Error while processing event {}", name, e);
+            }
+          }
+        });
+  }
+
+  private Object readEventParams(Class<?> clazz, String message, int paramsStart, int paramsEnd)
+      throws IOException {
+    if (paramsStart == -1) {
+      throw new ChromeDevToolsInvocationException(
+          "Failed converting null response to clazz " + clazz.getName());
+    }
+
+    return OBJECT_MAPPER.readerFor(clazz).readValue(message.substring(paramsStart, paramsEnd));
+  }
+
+  private static <T> Set<T> copyOf(Set<T> listeners) {
+    if (listeners == null) {
+      return Collections.emptySet();
+    }
+
+    synchronized (listeners) {
+      return listeners.isEmpty() ? Collections.emptySet() : new HashSet<>(listeners);
+    }
+  }
+
+  /**
+   * Subscribes to an event using a given subscription and returns a future completed with the first
+   * event matching the predicate. The event listener is removed once future completes.
+   *
+   * @param subscription Event subscription.
+   * @param predicate Event predicate. Could be null.
+   * @param timeout Timeout in seconds. 0 for infinite timeout.
+   * @param <T> Type of an event.
+   * @return Event future.
+   */
+  private <T> CompletableFuture<T> awaitEvent(
+      Function<EventHandler<T>, EventListener> subscription, Predicate<T> predicate, long timeout) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    if (isClosed()) {
+      future.completeExceptionally(new ChromeDevToolsSessionClosedException(closedMessage()));
+      return future;
+    }
+
+    pendingEventFutures.add(future);
+    future.whenComplete((event, throwable) -> pendingEventFutures.remove(future));
+
+    final EventListener eventListener =
+        subscription.apply(
+            event -> {
+              try {
+                if (predicate == null || predicate.test(event)) {
+                  future.complete(event);
                 }
+              } catch (Exception e) {
+                future.completeExceptionally(e);
               }
             });
-      }
+
+    if (timeout > 0) {
+      final ScheduledFuture<?> timeoutFuture =
+          TimeoutScheduler.INSTANCE.schedule(
+              () ->
+                  future.completeExceptionally(
+                      new TimeoutException("Timeout expired while waiting for event.")),
+              timeout,
+              TimeUnit.SECONDS);
+
+      future.whenComplete((event, throwable) -> timeoutFuture.cancel(false));
     }
+
+    future.whenComplete((event, throwable) -> eventListener.unsubscribe());
+
+    return future;
   }
 
   private <T> T readJsonObject(
@@ -359,6 +1071,21 @@ public abstract class ChromeDevToolsServiceImpl
     return Collections.synchronizedSet(new HashSet<>());
   }
 
+  private Set<RawEventListenerImpl> createRawEventHandlerSet(String unused) {
+    return Collections.synchronizedSet(new HashSet<>());
+  }
+
+  /** Lazily created scheduler used to expire event futures. */
+  private static class TimeoutScheduler {
+    private static final ScheduledExecutorService INSTANCE =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "cdt-event-timeout");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
   /** Error object returned from dev tools. */
   private static class ErrorObject {
     private Long code;
@@ -382,7 +1109,10 @@ public abstract class ChromeDevToolsServiceImpl
   private static class InvocationResult {
     private String returnProperty;
     private JsonNode result;
+    private String message;
+    private int binaryOffset = -1;
     private boolean isSuccess;
+    private String failureReason;
     private CountDownLatch countDownLatch = new CountDownLatch(1);
 
     /**
@@ -412,6 +1142,24 @@ public abstract class ChromeDevToolsServiceImpl
       return result;
     }
 
+    /**
+     * Gets the message holding a binary result. Could be null.
+     *
+     * @return Message.
+     */
+    public String getMessage() {
+      return message;
+    }
+
+    /**
+     * Gets the offset of a binary result value in a message.
+     *
+     * @return Offset of the opening quote of a binary value.
+     */
+    public int getBinaryOffset() {
+      return binaryOffset;
+    }
+
     /**
      * Is invocation successful.
      *
@@ -421,6 +1169,26 @@ public abstract class ChromeDevToolsServiceImpl
       return isSuccess;
     }
 
+    /**
+     * Gets the failure reason if invocation failed without receiving a response. Could be null.
+     *
+     * @return Failure reason.
+     */
+    public String getFailureReason() {
+      return failureReason;
+    }
+
+    /**
+     * Signals invocation failed without response, ie. session was closed.
+     *
+     * @param failureReason Failure reason.
+     */
+    public void signalFailure(String failureReason) {
+      this.failureReason = failureReason;
+
+      countDownLatch.countDown();
+    }
+
     /** Signals result is ready for consumption. */
     public void signalResultReady(boolean isSuccess, JsonNode result) {
       this.isSuccess = isSuccess;
@@ -429,6 +1197,21 @@ public abstract class ChromeDevToolsServiceImpl
       countDownLatch.countDown();
     }
 
+    /**
+     * Signals binary result is ready for consumption. Value is decoded from the message by the
+     * invoking thread.
+     *
+     * @param message Message.
+     * @param binaryOffset Offset of the opening quote of a binary value.
+     */
+    public void signalBinaryResultReady(String message, int binaryOffset) {
+      this.isSuccess = true;
+      this.message = message;
+      this.binaryOffset = binaryOffset;
+
+      countDownLatch.countDown();
+    }
+
     /**
      * Waits until result is available.
      *
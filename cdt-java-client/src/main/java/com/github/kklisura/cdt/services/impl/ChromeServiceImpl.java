@@ -20,30 +20,41 @@ package com.github.kklisura.cdt.services.impl;
  * #L%
  */
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kklisura.cdt.dynamic.DynamicProtocol;
+import com.github.kklisura.cdt.dynamic.exceptions.DynamicProtocolException;
 import com.github.kklisura.cdt.services.ChromeDevToolsService;
 import com.github.kklisura.cdt.services.ChromeService;
+import com.github.kklisura.cdt.services.HttpClient;
 import com.github.kklisura.cdt.services.WebSocketService;
 import com.github.kklisura.cdt.services.config.ChromeDevToolsServiceConfiguration;
 import com.github.kklisura.cdt.services.exceptions.ChromeServiceException;
 import com.github.kklisura.cdt.services.exceptions.WebSocketServiceException;
 import com.github.kklisura.cdt.services.factory.WebSocketServiceFactory;
-import com.github.kklisura.cdt.services.invocation.CommandInvocationHandler;
 import com.github.kklisura.cdt.services.types.ChromeTab;
 import com.github.kklisura.cdt.services.types.ChromeVersion;
-import com.github.kklisura.cdt.services.utils.ProxyUtils;
+import com.github.kklisura.cdt.services.types.HttpResponse;
+import com.github.kklisura.cdt.services.utils.ConfigurationUtils;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Method;
 import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Chrome service implementation.
@@ -64,12 +75,27 @@ public class ChromeServiceImpl implements ChromeService {
   private static final String ACTIVATE_TAB = "json/activate";
   private static final String CLOSE_TAB = "json/close";
   private static final String VERSION = "json/version";
+  private static final String PROTOCOL = "json/protocol";
+
+  private static final String CONNECT_PARALLELISM_PROPERTY =
+      "com.github.kklisura.cdt.services.impl.connectParallelism";
+
+  private static final int CONNECT_PARALLELISM =
+      (int) ConfigurationUtils.systemProperty(CONNECT_PARALLELISM_PROPERTY, 8);
 
   private String host;
   private int port;
 
+  private String baseUrl;
+
+  private HttpClient httpClient;
+
   private WebSocketServiceFactory webSocketServiceFactory;
   private Map<String, ChromeDevToolsService> chromeDevToolServiceCache = new ConcurrentHashMap<>();
+  private Map<String, CompletableFuture<ChromeDevToolsService>> pendingConnections =
+      new ConcurrentHashMap<>();
+
+  private int connectParallelism = CONNECT_PARALLELISM;
 
   /**
    * Creates a new chrome service given a host, port and web service socket factory.
@@ -79,9 +105,27 @@ public class ChromeServiceImpl implements ChromeService {
    * @param webSocketServiceFactory Web socket service factory.
    */
   public ChromeServiceImpl(String host, int port, WebSocketServiceFactory webSocketServiceFactory) {
+    this(host, port, webSocketServiceFactory, new DefaultHttpClient());
+  }
+
+  /**
+   * Creates a new chrome service given a host, port, web service socket factory and http client.
+   *
+   * @param host Chrome host.
+   * @param port Chrome debugging port.
+   * @param webSocketServiceFactory Web socket service factory.
+   * @param httpClient Http client used for calling chrome HTTP endpoints.
+   */
+  public ChromeServiceImpl(
+      String host,
+      int port,
+      WebSocketServiceFactory webSocketServiceFactory,
+      HttpClient httpClient) {
     this.host = host;
     this.port = port;
+    this.baseUrl = "http://" + host + ":" + port + "/";
     this.webSocketServiceFactory = webSocketServiceFactory;
+    this.httpClient = httpClient;
   }
 
   /**
@@ -122,9 +166,36 @@ public class ChromeServiceImpl implements ChromeService {
     this.webSocketServiceFactory = webSocketServiceFactory;
   }
 
+  /**
+   * Sets http client used for calling chrome HTTP endpoints.
+   *
+   * @param httpClient Http client.
+   */
+  public void setHttpClient(HttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * Sets maximum number of tabs connected in parallel by {@link #createDevToolsServices(List)}.
+   * Default 8.
+   *
+   * @param connectParallelism Connect parallelism.
+   */
+  public void setConnectParallelism(int connectParallelism) {
+    if (connectParallelism < 1) {
+      throw new IllegalArgumentException("Connect parallelism must be at least 1.");
+    }
+    this.connectParallelism = connectParallelism;
+  }
+
   @Override
   public List<ChromeTab> getTabs() throws ChromeServiceException {
-    return Arrays.asList(request(ChromeTab[].class, "http://%s:%d/%s", host, port, LIST_TABS));
+    return Arrays.asList(request(ChromeTab[].class, baseUrl + LIST_TABS));
+  }
+
+  @Override
+  public CompletableFuture<List<ChromeTab>> getTabsAsync() {
+    return requestAsync(ChromeTab[].class, baseUrl + LIST_TABS).thenApply(Arrays::asList);
   }
 
   @Override
@@ -134,76 +205,155 @@ public class ChromeServiceImpl implements ChromeService {
 
   @Override
   public ChromeTab createTab(String tab) throws ChromeServiceException {
-    return request(ChromeTab.class, "http://%s:%d/%s?%s", host, port, CREATE_TAB, tab);
+    return request(ChromeTab.class, baseUrl + CREATE_TAB + "?" + tab);
+  }
+
+  @Override
+  public CompletableFuture<ChromeTab> createTabAsync() {
+    return createTabAsync(ABOUT_BLANK_PAGE);
+  }
+
+  @Override
+  public CompletableFuture<ChromeTab> createTabAsync(String tab) {
+    return requestAsync(ChromeTab.class, baseUrl + CREATE_TAB + "?" + tab);
   }
 
   @Override
   public void activateTab(ChromeTab tab) throws ChromeServiceException {
-    request(Void.class, "http://%s:%d/%s/%s", host, port, ACTIVATE_TAB, tab.getId());
+    request(Void.class, baseUrl + ACTIVATE_TAB + "/" + tab.getId());
   }
 
   @Override
   public void closeTab(ChromeTab tab) throws ChromeServiceException {
-    request(Void.class, "http://%s:%d/%s/%s", host, port, CLOSE_TAB, tab.getId());
+    request(Void.class, baseUrl + CLOSE_TAB + "/" + tab.getId());
 
     // Remove dev tools from cache.
     clearChromeDevToolsServiceCache(tab);
   }
 
+  @Override
+  public CompletableFuture<Void> closeTabAsync(ChromeTab tab) {
+    return requestAsync(Void.class, baseUrl + CLOSE_TAB + "/" + tab.getId())
+        .thenRun(() -> clearChromeDevToolsServiceCache(tab));
+  }
+
   @Override
   public ChromeVersion getVersion() throws ChromeServiceException {
-    return request(ChromeVersion.class, "http://%s:%d/%s", host, port, VERSION);
+    return request(ChromeVersion.class, baseUrl + VERSION);
   }
 
   @Override
-  public synchronized ChromeDevToolsService createDevToolsService(ChromeTab tab)
-      throws ChromeServiceException {
+  public DynamicProtocol getProtocol() throws ChromeServiceException {
+    JsonNode protocol = request(JsonNode.class, baseUrl + PROTOCOL);
+    try {
+      return DynamicProtocol.read(Collections.singletonList(protocol));
+    } catch (DynamicProtocolException ex) {
+      throw new ChromeServiceException("Failed reading protocol definition.", ex);
+    }
+  }
+
+  @Override
+  public ChromeDevToolsService createDevToolsService(ChromeTab tab) throws ChromeServiceException {
     return createDevToolsService(tab, new ChromeDevToolsServiceConfiguration());
   }
 
   @Override
-  public synchronized ChromeDevToolsService createDevToolsService(
+  public ChromeDevToolsService createDevToolsService(
       ChromeTab tab, ChromeDevToolsServiceConfiguration chromeDevToolsServiceConfiguration)
       throws ChromeServiceException {
+    ChromeDevToolsService cachedChromeDevToolsService = getCachedChromeDevToolsService(tab);
+    if (cachedChromeDevToolsService != null) {
+      return cachedChromeDevToolsService;
+    }
+
+    // Only one caller connects to a given tab, others wait for its connection.
+    CompletableFuture<ChromeDevToolsService> connection = new CompletableFuture<>();
+    CompletableFuture<ChromeDevToolsService> pendingConnection =
+        pendingConnections.putIfAbsent(tab.getId(), connection);
+    if (pendingConnection != null) {
+      return awaitConnection(pendingConnection);
+    }
+
     try {
-      if (isChromeDevToolsServiceCached(tab)) {
-        return getCachedChromeDevToolsService(tab);
+      // Connection might have been completed before we've registered ours.
+      cachedChromeDevToolsService = getCachedChromeDevToolsService(tab);
+      if (cachedChromeDevToolsService != null) {
+        connection.complete(cachedChromeDevToolsService);
+        return cachedChromeDevToolsService;
       }
 
-      // Connect to a tab via web socket
-      String webSocketDebuggerUrl = tab.getWebSocketDebuggerUrl();
-      WebSocketService webSocketService =
-          webSocketServiceFactory.createWebSocketService(webSocketDebuggerUrl);
+      ChromeDevToolsService chromeDevToolsService =
+          connectDevToolsService(tab, chromeDevToolsServiceConfiguration);
+      connection.complete(chromeDevToolsService);
+
+      return chromeDevToolsService;
+    } catch (RuntimeException ex) {
+      connection.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      pendingConnections.remove(tab.getId(), connection);
+    }
+  }
 
-      // Create invocation handler
-      CommandInvocationHandler commandInvocationHandler = new CommandInvocationHandler();
+  @Override
+  public List<ChromeDevToolsService> createDevToolsServices(List<ChromeTab> tabs)
+      throws ChromeServiceException {
+    return createDevToolsServices(tabs, new ChromeDevToolsServiceConfiguration());
+  }
 
-      // Setup command cache for this session
-      Map<Method, Object> commandsCache = new ConcurrentHashMap<>();
+  @Override
+  public List<ChromeDevToolsService> createDevToolsServices(
+      List<ChromeTab> tabs, ChromeDevToolsServiceConfiguration chromeDevToolsServiceConfiguration)
+      throws ChromeServiceException {
+    if (tabs.isEmpty()) {
+      return Collections.emptyList();
+    }
 
-      // Create dev tools service.
-      ChromeDevToolsServiceImpl chromeDevToolsService =
-          ProxyUtils.createProxyFromAbstract(
-              ChromeDevToolsServiceImpl.class,
-              new Class[] {WebSocketService.class, ChromeDevToolsServiceConfiguration.class},
-              new Object[] {webSocketService, chromeDevToolsServiceConfiguration},
-              (unused, method, args) ->
-                  commandsCache.computeIfAbsent(
-                      method,
-                      key -> {
-                        Class<?> returnType = method.getReturnType();
-                        return ProxyUtils.createProxy(returnType, commandInvocationHandler);
-                      }));
-
-      // Register dev tools service with invocation handler.
-      commandInvocationHandler.setChromeDevToolsService(chromeDevToolsService);
+    ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            Math.min(connectParallelism, tabs.size()),
+            runnable -> {
+              Thread thread = new Thread(runnable, "cdt-connect");
+              thread.setDaemon(true);
+              return thread;
+            });
 
-      // Cache it up.
-      cacheChromeDevToolsService(tab, chromeDevToolsService);
+    try {
+      List<Future<ChromeDevToolsService>> connections = new ArrayList<>(tabs.size());
+      for (ChromeTab tab : tabs) {
+        connections.add(
+            executorService.submit(
+                () -> createDevToolsService(tab, chromeDevToolsServiceConfiguration)));
+      }
 
-      return chromeDevToolsService;
+      List<ChromeDevToolsService> chromeDevToolsServices = new ArrayList<>(tabs.size());
+      for (Future<ChromeDevToolsService> connection : connections) {
+        chromeDevToolsServices.add(awaitConnection(connection));
+      }
+      return chromeDevToolsServices;
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Override
+  public ChromeDevToolsService createBrowserDevToolsService() throws ChromeServiceException {
+    return createBrowserDevToolsService(new ChromeDevToolsServiceConfiguration());
+  }
+
+  @Override
+  public ChromeDevToolsService createBrowserDevToolsService(
+      ChromeDevToolsServiceConfiguration chromeDevToolsServiceConfiguration)
+      throws ChromeServiceException {
+    try {
+      // Connect to a browser via web socket
+      String webSocketDebuggerUrl = getVersion().getWebSocketDebuggerUrl();
+      WebSocketService webSocketService =
+          webSocketServiceFactory.createWebSocketService(webSocketDebuggerUrl);
+
+      return createChromeDevToolsService(webSocketService, chromeDevToolsServiceConfiguration);
     } catch (WebSocketServiceException ex) {
-      throw new ChromeServiceException("Failed connecting to tab web socket.", ex);
+      throw new ChromeServiceException("Failed connecting to browser web socket.", ex);
     }
   }
 
@@ -238,8 +388,75 @@ public class ChromeServiceImpl implements ChromeService {
     }
   }
 
-  private boolean isChromeDevToolsServiceCached(ChromeTab tab) {
-    return chromeDevToolServiceCache.get(tab.getId()) != null;
+  /**
+   * Creates a dev tools service given a web socket service and a configuration. Domain getters of
+   * the returned service are backed by generated command implementations invoking the service
+   * itself.
+   *
+   * @param webSocketService Web socket service.
+   * @param configuration Dev tools service configuration.
+   * @return Dev tools service.
+   * @throws ChromeServiceException If registering with web socket service fails.
+   */
+  public static ChromeDevToolsServiceImpl createChromeDevToolsService(
+      WebSocketService webSocketService, ChromeDevToolsServiceConfiguration configuration) {
+    try {
+      return new ChromeDevToolsServiceImpl(webSocketService, configuration);
+    } catch (WebSocketServiceException e) {
+      throw new ChromeServiceException("Failed creating dev tools service.", e);
+    }
+  }
+
+  /**
+   * Connects to a tab via web socket and caches the resulting dev tools service.
+   *
+   * @param tab Chrome tab.
+   * @param configuration Dev tools service configuration.
+   * @return Dev tools service.
+   * @throws ChromeServiceException If connecting to tab web socket fails.
+   */
+  private ChromeDevToolsService connectDevToolsService(
+      ChromeTab tab, ChromeDevToolsServiceConfiguration configuration) {
+    try {
+      // Connect to a tab via web socket
+      String webSocketDebuggerUrl = tab.getWebSocketDebuggerUrl();
+      WebSocketService webSocketService =
+          webSocketServiceFactory.createWebSocketService(webSocketDebuggerUrl);
+
+      // Create dev tools service.
+      ChromeDevToolsServiceImpl chromeDevToolsService =
+          createChromeDevToolsService(webSocketService, configuration);
+      chromeDevToolsService.setChromeService(this);
+      chromeDevToolsService.setChromeTab(tab);
+
+      // Cache it up.
+      cacheChromeDevToolsService(tab, chromeDevToolsService);
+
+      return chromeDevToolsService;
+    } catch (WebSocketServiceException ex) {
+      throw new ChromeServiceException("Failed connecting to tab web socket.", ex);
+    }
+  }
+
+  /**
+   * Waits for a connection started by another caller.
+   *
+   * @param connection Connection future.
+   * @return Dev tools service.
+   * @throws ChromeServiceException If connection fails or waiting is interrupted.
+   */
+  private static ChromeDevToolsService awaitConnection(Future<ChromeDevToolsService> connection) {
+    try {
+      return connection.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new ChromeServiceException("Interrupted while connecting to tab web socket.", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof ChromeServiceException) {
+        throw (ChromeServiceException) ex.getCause();
+      }
+      throw new ChromeServiceException("Failed connecting to tab web socket.", ex.getCause());
+    }
   }
 
   private ChromeDevToolsService getCachedChromeDevToolsService(ChromeTab tab) {
@@ -255,54 +472,84 @@ public class ChromeServiceImpl implements ChromeService {
    * Sends a request and parses json response as type T.
    *
    * @param responseType Resulting class type.
-   * @param path Path with optional params similar to String.formats params.
-   * @param params Path params.
+   * @param url Request url.
    * @param <T> Type of response type.
    * @return Response object.
    * @throws ChromeServiceException If sending request fails due to any reason.
    */
-  private static <T> T request(Class<T> responseType, String path, Object... params)
-      throws ChromeServiceException {
-    HttpURLConnection connection = null;
-    InputStream inputStream = null;
-
+  private <T> T request(Class<T> responseType, String url) throws ChromeServiceException {
     try {
-      URL uri = new URL(String.format(path, params));
-      connection = (HttpURLConnection) uri.openConnection();
+      return readResponse(responseType, httpClient.get(url));
+    } catch (IOException ex) {
+      throw new ChromeServiceException("Failed sending HTTP request.", ex);
+    }
+  }
 
-      int responseCode = connection.getResponseCode();
-      if (HttpURLConnection.HTTP_OK == responseCode) {
-        if (Void.class.equals(responseType)) {
-          return null;
-        }
+  /**
+   * Sends a request asynchronously and parses json response as type T.
+   *
+   * @param responseType Resulting class type.
+   * @param url Request url.
+   * @param <T> Type of response type.
+   * @return Future completed with response object or exceptionally with {@link
+   *     ChromeServiceException} if sending request fails due to any reason.
+   */
+  private <T> CompletableFuture<T> requestAsync(Class<T> responseType, String url) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+
+    httpClient
+        .getAsync(url)
+        .whenComplete(
+            (response, throwable) -> {
+              if (throwable != null) {
+                Throwable cause =
+                    throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                future.completeExceptionally(
+                    new ChromeServiceException("Failed sending HTTP request.", cause));
+                return;
+              }
+
+              try {
+                future.complete(readResponse(responseType, response));
+              } catch (IOException ex) {
+                future.completeExceptionally(
+                    new ChromeServiceException("Failed sending HTTP request.", ex));
+              } catch (Exception ex) {
+                future.completeExceptionally(ex);
+              }
+            });
+
+    return future;
+  }
 
-        inputStream = connection.getInputStream();
-        return OBJECT_MAPPER.readerFor(responseType).readValue(inputStream);
+  /**
+   * Parses json response as type T.
+   *
+   * @param responseType Resulting class type.
+   * @param response Http response.
+   * @param <T> Type of response type.
+   * @return Response object.
+   * @throws ChromeServiceException If server responded with non-200 code.
+   * @throws IOException If parsing response fails.
+   */
+  private static <T> T readResponse(Class<T> responseType, HttpResponse response)
+      throws IOException {
+    int responseCode = response.getStatusCode();
+    if (HttpURLConnection.HTTP_OK == responseCode) {
+      if (Void.class.equals(responseType)) {
+        return null;
       }
 
-      inputStream = connection.getErrorStream();
-      final String responseBody = inputStreamToString(inputStream);
+      return OBJECT_MAPPER.readerFor(responseType).readValue(response.getBody());
+    }
 
-      String message =
-          MessageFormat.format(
-              "Server responded with non-200 code: {0} - {1}. {2}",
-              responseCode, connection.getResponseMessage(), responseBody);
-      throw new ChromeServiceException(message);
-    } catch (IOException ex) {
-      throw new ChromeServiceException("Failed sending HTTP request.", ex);
-    } finally {
-      if (inputStream != null) {
-        try {
-          inputStream.close();
-        } catch (IOException e) {
-          // We can ignore this.
-        }
-      }
+    final String responseBody = new String(response.getBody(), StandardCharsets.UTF_8);
 
-      if (connection != null) {
-        connection.disconnect();
-      }
-    }
+    String message =
+        MessageFormat.format(
+            "Server responded with non-200 code: {0} - {1}. {2}",
+            responseCode, response.getStatusMessage(), responseBody);
+    throw new ChromeServiceException(message);
   }
 
   /**
@@ -0,0 +1,142 @@
+package com.github.kklisura.cdt.services.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.services.HttpClient;
+import com.github.kklisura.cdt.services.types.HttpResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Default HTTP client based on {@link HttpURLConnection}.
+ *
+ * <p>Connections are never disconnected and response streams are always read fully and closed, so
+ * the underlying connections are returned to the JDK keep-alive cache and reused by subsequent
+ * requests to the same host.
+ *
+ * @author Kenan Klisura
+ */
+public class DefaultHttpClient implements HttpClient {
+  private static final int BUFFER_SIZE = 4096;
+
+  private Executor executor;
+
+  /** Creates a new HTTP client executing async requests on a shared pool of daemon threads. */
+  public DefaultHttpClient() {
+    this(null);
+  }
+
+  /**
+   * Creates a new HTTP client given an executor for async requests.
+   *
+   * @param executor Executor for async requests. If null, shared pool of daemon threads is used.
+   */
+  public DefaultHttpClient(Executor executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public HttpResponse get(String url) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+    connection.setUseCaches(false);
+
+    int responseCode = connection.getResponseCode();
+
+    InputStream inputStream =
+        responseCode < HttpURLConnection.HTTP_BAD_REQUEST
+            ? connection.getInputStream()
+            : connection.getErrorStream();
+
+    return new HttpResponse(
+        responseCode, connection.getResponseMessage(), readFullyAndClose(inputStream));
+  }
+
+  @Override
+  public CompletableFuture<HttpResponse> getAsync(String url) {
+    final CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+
+    try {
+      getExecutor()
+          .execute(
+              () -> {
+                try {
+                  future.complete(get(url));
+                } catch (Exception e) {
+                  future.completeExceptionally(e);
+                }
+              });
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+    }
+
+    return future;
+  }
+
+  private Executor getExecutor() {
+    return executor != null ? executor : SharedExecutor.INSTANCE;
+  }
+
+  /**
+   * Reads the input stream fully and closes it. Reading the stream to the end is required for the
+   * connection to be reused.
+   *
+   * @param inputStream Input stream. Could be null.
+   * @return Read bytes.
+   * @throws IOException If reading fails.
+   */
+  private static byte[] readFullyAndClose(InputStream inputStream) throws IOException {
+    if (inputStream == null) {
+      return new byte[0];
+    }
+
+    try {
+      int length;
+      byte[] buffer = new byte[BUFFER_SIZE];
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+      while ((length = inputStream.read(buffer)) != -1) {
+        result.write(buffer, 0, length);
+      }
+
+      return result.toByteArray();
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  /** Lazily created executor for async requests. */
+  private static class SharedExecutor {
+    private static final ExecutorService INSTANCE =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread = new Thread(runnable, "cdt-http-client");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+}
@@ -0,0 +1,71 @@
+package com.github.kklisura.cdt.services.impl;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.services.WebSocketService;
+import com.github.kklisura.cdt.services.exceptions.WebSocketServiceException;
+import java.net.URI;
+import java.util.function.Consumer;
+
+/**
+ * Web socket service of a flat child session. It sends messages over the parent web socket
+ * connection; received messages are routed to the child session by the parent dev tools service so
+ * message handlers are not registered with the connection.
+ *
+ * @author Kenan Klisura
+ */
+public class SessionWebSocketService implements WebSocketService {
+  private WebSocketService webSocketService;
+
+  /**
+   * Creates a new session web socket service given a parent web socket service.
+   *
+   * @param webSocketService Parent web socket service.
+   */
+  public SessionWebSocketService(WebSocketService webSocketService) {
+    this.webSocketService = webSocketService;
+  }
+
+  @Override
+  public void connect(URI uri) throws WebSocketServiceException {
+    throw new WebSocketServiceException("Session web socket service shares parent connection.");
+  }
+
+  @Override
+  public void send(String message) throws WebSocketServiceException {
+    webSocketService.send(message);
+  }
+
+  @Override
+  public void addMessageHandler(Consumer<String> consumer) {
+    // Messages are routed by the parent session.
+  }
+
+  @Override
+  public void close() {
+    // Parent connection is closed by the parent session.
+  }
+
+  @Override
+  public boolean closed() {
+    return webSocketService.closed();
+  }
+}
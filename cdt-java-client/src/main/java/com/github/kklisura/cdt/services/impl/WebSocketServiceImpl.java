@@ -29,6 +29,8 @@ import com.github.kklisura.cdt.services.factory.WebSocketContainerFactory;
 import com.github.kklisura.cdt.services.factory.impl.DefaultWebSocketContainerFactory;
 import java.io.IOException;
 import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import javax.websocket.CloseReason;
 import javax.websocket.DeploymentException;
@@ -54,10 +56,12 @@ public class WebSocketServiceImpl implements WebSocketService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketServiceImpl.class);
 
-  private static final WebSocketContainer WEB_SOCKET_CONTAINER = getWebSocketContainer();
-
   private Session session;
 
+  private WebSocketContainer webSocketContainer;
+
+  private List<Consumer<Throwable>> closeHandlers = new CopyOnWriteArrayList<>();
+
   /**
    * Instantiates a new Web socket service.
    *
@@ -67,9 +71,13 @@ public class WebSocketServiceImpl implements WebSocketService {
     this.session = session;
   }
 
-  /** Private ctor. */
-  private WebSocketServiceImpl() {
-    // Empty body.
+  /**
+   * Private ctor.
+   *
+   * @param webSocketContainer Web socket container used to connect.
+   */
+  private WebSocketServiceImpl(WebSocketContainer webSocketContainer) {
+    this.webSocketContainer = webSocketContainer;
   }
 
   /**
@@ -82,7 +90,24 @@ public class WebSocketServiceImpl implements WebSocketService {
    * @throws WebSocketServiceException If it fails to connect.
    */
   public static WebSocketService create(URI uri) throws WebSocketServiceException {
-    WebSocketServiceImpl webSocketService = new WebSocketServiceImpl();
+    return create(uri, DefaultWebSocketContainerHolder.WEB_SOCKET_CONTAINER);
+  }
+
+  /**
+   * Creates a web socket service implementation factory method.
+   *
+   * <p>Creates a WebSocketService and connects to a specified uri with a given web socket
+   * container. This does not look up the container factory reflectively, which makes it suitable
+   * for native images.
+   *
+   * @param uri URI to connect to.
+   * @param webSocketContainer Web socket container.
+   * @return WebSocketService implementation.
+   * @throws WebSocketServiceException If it fails to connect.
+   */
+  public static WebSocketService create(URI uri, WebSocketContainer webSocketContainer)
+      throws WebSocketServiceException {
+    WebSocketServiceImpl webSocketService = new WebSocketServiceImpl(webSocketContainer);
     webSocketService.connect(uri);
     return webSocketService;
   }
@@ -94,8 +119,12 @@ public class WebSocketServiceImpl implements WebSocketService {
     final WebSocketServiceImpl webSocketService = this;
 
     try {
+      if (webSocketContainer == null) {
+        webSocketContainer = DefaultWebSocketContainerHolder.WEB_SOCKET_CONTAINER;
+      }
+
       session =
-          WEB_SOCKET_CONTAINER.connectToServer(
+          webSocketContainer.connectToServer(
               new Endpoint() {
                 @Override
                 public void onOpen(Session session, EndpointConfig config) {
@@ -153,13 +182,23 @@ public class WebSocketServiceImpl implements WebSocketService {
         });
   }
 
+  @Override
+  public void addCloseHandler(Consumer<Throwable> handler) {
+    closeHandlers.add(handler);
+  }
+
   @Override
   public void close() {
+    final Session currentSession = session;
+    if (currentSession == null) {
+      return;
+    }
+
     try {
-      session.close();
       session = null;
+      currentSession.close();
     } catch (IOException e) {
-      LOGGER.error("Failed closing ws session on {}...", session.getRequestURI(), e);
+      LOGGER.error("Failed closing ws session on {}...", currentSession.getRequestURI(), e);
     }
   }
 
@@ -184,10 +223,29 @@ public class WebSocketServiceImpl implements WebSocketService {
               + "about to be received is larger than the incoming buffer in Tyrus client. "
               + "See DefaultWebSocketContainerFactory class source on how to increase the incoming buffer size in Tyrus or visit https://github.com/kklisura/chrome-devtools-java-client/blob/master/cdt-examples/src/main/java/com/github/kklisura/cdt/examples/IncreasedIncomingBufferInTyrusExample.java");
     }
+
+    notifyCloseHandlers(
+        new WebSocketServiceException(
+            "Web socket connection closed "
+                + closeReason.getCloseCode()
+                + ", "
+                + closeReason.getReasonPhrase()));
   }
 
   private void onError(Session session, Throwable thr) {
     LOGGER.error("Error in web socket session.", thr);
+
+    notifyCloseHandlers(thr);
+  }
+
+  private void notifyCloseHandlers(Throwable cause) {
+    for (Consumer<Throwable> closeHandler : closeHandlers) {
+      try {
+        closeHandler.accept(cause);
+      } catch (Exception e) {
+        LOGGER.error("Failed handling ws session close.", e);
+      }
+    }
   }
 
   /**
@@ -205,6 +263,11 @@ public class WebSocketServiceImpl implements WebSocketService {
       throw new RuntimeException(WEB_SOCKET_CONTAINER_FACTORY_PROPERTY + " property not set");
     }
 
+    // Default factory is created directly, so it does not need reflection metadata.
+    if (DEFAULT_WEB_SOCKET_CONTAINER_FACTORY.equals(containerFactoryClassName)) {
+      return new DefaultWebSocketContainerFactory().getWebSocketContainer();
+    }
+
     try {
       Class<WebSocketContainerFactory> containerFactoryClass =
           (Class<WebSocketContainerFactory>) Class.forName(containerFactoryClassName);
@@ -224,4 +287,9 @@ public class WebSocketServiceImpl implements WebSocketService {
           "Could not create instance of " + containerFactoryClassName + " class");
     }
   }
+
+  /** Holds the default web socket container, created on first use. */
+  private static class DefaultWebSocketContainerHolder {
+    private static final WebSocketContainer WEB_SOCKET_CONTAINER = getWebSocketContainer();
+  }
 }
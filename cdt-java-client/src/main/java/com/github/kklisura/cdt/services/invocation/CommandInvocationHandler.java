@@ -27,6 +27,7 @@ import com.github.kklisura.cdt.protocol.support.annotations.Returns;
 import com.github.kklisura.cdt.protocol.support.types.EventHandler;
 import com.github.kklisura.cdt.protocol.support.types.EventListener;
 import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.impl.ChromeDevToolsServiceImpl;
 import com.github.kklisura.cdt.services.types.MethodInvocation;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
@@ -34,7 +35,6 @@ import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Command invocation handler intercepts command requests and invokes the command using
@@ -45,8 +45,6 @@ import java.util.concurrent.atomic.AtomicLong;
 public class CommandInvocationHandler implements InvocationHandler {
   private static final String EVENT_LISTENER_PREFIX = "on";
 
-  private static final AtomicLong ID_SUPPLIER = new AtomicLong(1L);
-
   private ChromeDevToolsService chromeDevToolsService;
 
   /**
@@ -100,7 +98,7 @@ public class CommandInvocationHandler implements InvocationHandler {
     String methodName = method.getName();
 
     MethodInvocation methodInvocation = new MethodInvocation();
-    methodInvocation.setId(ID_SUPPLIER.getAndIncrement());
+    methodInvocation.setId(ChromeDevToolsServiceImpl.nextInvocationId());
     methodInvocation.setMethod(domainName + "." + methodName);
     methodInvocation.setParams(buildMethodParams(method, args));
 
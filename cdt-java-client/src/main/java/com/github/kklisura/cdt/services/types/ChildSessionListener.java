@@ -0,0 +1,52 @@
+package com.github.kklisura.cdt.services.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.types.target.TargetInfo;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+
+/**
+ * Child session listener receives lifecycle callbacks of auto-attached child targets, ie.
+ * out-of-process iframes, dedicated workers and service workers.
+ *
+ * @author Kenan Klisura
+ */
+public interface ChildSessionListener {
+  /**
+   * Called once a child target is attached. Child target is paused until this method returns so any
+   * domain can be enabled here without missing events, ie. network requests issued while the target
+   * is starting.
+   *
+   * @param childService Dev tools service of a child target.
+   * @param targetInfo Child target info.
+   */
+  void onAttached(ChromeDevToolsService childService, TargetInfo targetInfo);
+
+  /**
+   * Called once a child target is detached. Child service is already closed at this point.
+   *
+   * @param childService Dev tools service of a child target.
+   * @param targetInfo Child target info.
+   */
+  default void onDetached(ChromeDevToolsService childService, TargetInfo targetInfo) {
+    // Empty body.
+  }
+}
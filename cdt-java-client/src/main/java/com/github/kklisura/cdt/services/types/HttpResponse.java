@@ -0,0 +1,59 @@
+package com.github.kklisura.cdt.services.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * HTTP response model.
+ *
+ * @author Kenan Klisura
+ */
+public final class HttpResponse {
+  private final int statusCode;
+
+  private final String statusMessage;
+
+  private final byte[] body;
+
+  /**
+   * Creates a new HTTP response.
+   *
+   * @param statusCode Status code.
+   * @param statusMessage Status message. Could be null.
+   * @param body Response body.
+   */
+  public HttpResponse(int statusCode, String statusMessage, byte[] body) {
+    this.statusCode = statusCode;
+    this.statusMessage = statusMessage;
+    this.body = body;
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  public String getStatusMessage() {
+    return statusMessage;
+  }
+
+  public byte[] getBody() {
+    return body;
+  }
+}
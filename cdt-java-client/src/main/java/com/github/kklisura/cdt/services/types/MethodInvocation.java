@@ -34,6 +34,8 @@ public final class MethodInvocation {
 
   private Map<String, Object> params;
 
+  private String sessionId;
+
   public Long getId() {
     return id;
   }
@@ -57,4 +59,12 @@ public final class MethodInvocation {
   public void setParams(Map<String, Object> params) {
     this.params = params;
   }
+
+  public String getSessionId() {
+    return sessionId;
+  }
+
+  public void setSessionId(String sessionId) {
+    this.sessionId = sessionId;
+  }
 }
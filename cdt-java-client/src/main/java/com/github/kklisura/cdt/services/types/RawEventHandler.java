@@ -0,0 +1,40 @@
+package com.github.kklisura.cdt.services.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.CharBuffer;
+
+/**
+ * Raw event handler receives undecoded event params.
+ *
+ * @author Kenan Klisura
+ */
+@FunctionalInterface
+public interface RawEventHandler {
+  /**
+   * Handles the raw event params.
+   *
+   * @param params Read-only view on the params JSON object of the received message. The buffer is
+   *     not copied from the message so it can be consumed or streamed without additional
+   *     allocations.
+   */
+  void onEvent(CharBuffer params);
+}
@@ -0,0 +1,77 @@
+package com.github.kklisura.cdt.services.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+
+/**
+ * Raw event listener implementation.
+ *
+ * @author Kenan Klisura
+ */
+public class RawEventListenerImpl implements EventListener {
+  private ChromeDevToolsService service;
+
+  private String key;
+  private RawEventHandler handler;
+
+  /**
+   * Instantiates a new Raw event listener.
+   *
+   * @param key Domain.event key.
+   * @param handler Raw event handler.
+   * @param service Service.
+   */
+  public RawEventListenerImpl(String key, RawEventHandler handler, ChromeDevToolsService service) {
+    this.service = service;
+    this.key = key;
+    this.handler = handler;
+  }
+
+  @Override
+  public void off() {
+    unsubscribe();
+  }
+
+  @Override
+  public void unsubscribe() {
+    service.removeEventListener(this);
+  }
+
+  /**
+   * Gets the domain.event key.
+   *
+   * @return Key.
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Gets the raw event handler.
+   *
+   * @return Raw event handler.
+   */
+  public RawEventHandler getHandler() {
+    return handler;
+  }
+}
@@ -20,8 +20,11 @@ package com.github.kklisura.cdt.services.utils;
  * #L%
  */
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javassist.Modifier;
 import javassist.util.proxy.ProxyFactory;
 import org.slf4j.Logger;
@@ -35,6 +38,10 @@ import org.slf4j.LoggerFactory;
 public final class ProxyUtils {
   private static final Logger LOGGER = LoggerFactory.getLogger(ProxyUtils.class);
 
+  // Proxy classes are generated once per proxied class and shared between proxy instances.
+  private static final Map<Class<?>, Constructor<?>> PROXY_CONSTRUCTORS = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Class<?>> ABSTRACT_PROXY_CLASSES = new ConcurrentHashMap<>();
+
   /** Empty ctor. */
   private ProxyUtils() {
     // Empty ctor.
@@ -50,8 +57,15 @@ public final class ProxyUtils {
    */
   @SuppressWarnings("unchecked")
   public static <T> T createProxy(Class<T> clazz, InvocationHandler invocationHandler) {
-    return (T)
-        Proxy.newProxyInstance(clazz.getClassLoader(), new Class[] {clazz}, invocationHandler);
+    try {
+      return (T)
+          PROXY_CONSTRUCTORS
+              .computeIfAbsent(clazz, ProxyUtils::getProxyConstructor)
+              .newInstance(invocationHandler);
+    } catch (ReflectiveOperationException e) {
+      LOGGER.error("Failed creating proxy", e);
+      throw new RuntimeException("Failed creating proxy", e);
+    }
   }
 
   /**
@@ -68,18 +82,41 @@ public final class ProxyUtils {
   @SuppressWarnings("unchecked")
   public static <T> T createProxyFromAbstract(
       Class<T> clazz, Class[] paramTypes, Object[] args, InvocationHandler invocationHandler) {
-    ProxyFactory proxyFactory = new ProxyFactory();
-    proxyFactory.setSuperclass(clazz);
-    proxyFactory.setFilter(method -> Modifier.isAbstract(method.getModifiers()));
     try {
-      return (T)
-          proxyFactory.create(
-              paramTypes,
-              args,
+      Class<?> proxyClass =
+          ABSTRACT_PROXY_CLASSES.computeIfAbsent(clazz, ProxyUtils::createProxyClassFromAbstract);
+
+      T proxy = (T) proxyClass.getConstructor(paramTypes).newInstance(args);
+      ((javassist.util.proxy.Proxy) proxy)
+          .setHandler(
               (o, method, method1, objects) -> invocationHandler.invoke(o, method, objects));
+      return proxy;
     } catch (Exception e) {
       LOGGER.error("Failed creating proxy from abstract class", e);
       throw new RuntimeException("Failed creating proxy from abstract class", e);
     }
   }
+
+  @SuppressWarnings("deprecation")
+  private static Constructor<?> getProxyConstructor(Class<?> clazz) {
+    try {
+      Constructor<?> constructor =
+          Proxy.getProxyClass(clazz.getClassLoader(), clazz)
+              .getConstructor(InvocationHandler.class);
+      // Proxy classes for non-public interfaces are not public.
+      if (!java.lang.reflect.Modifier.isPublic(constructor.getDeclaringClass().getModifiers())) {
+        constructor.setAccessible(true);
+      }
+      return constructor;
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException("Proxy class is missing invocation handler ctor", e);
+    }
+  }
+
+  private static Class<?> createProxyClassFromAbstract(Class<?> clazz) {
+    ProxyFactory proxyFactory = new ProxyFactory();
+    proxyFactory.setSuperclass(clazz);
+    proxyFactory.setFilter(method -> Modifier.isAbstract(method.getModifiers()));
+    return proxyFactory.createClass();
+  }
 }
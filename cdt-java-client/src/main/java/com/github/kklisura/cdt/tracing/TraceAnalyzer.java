@@ -0,0 +1,522 @@
+package com.github.kklisura.cdt.tracing;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.kklisura.cdt.protocol.types.tracing.TraceConfig;
+import com.github.kklisura.cdt.tracing.types.LongTask;
+import com.github.kklisura.cdt.tracing.types.ScriptTime;
+import com.github.kklisura.cdt.tracing.types.TraceCategory;
+import com.github.kklisura.cdt.tracing.types.TraceSummary;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streaming trace analyzer. Trace json, either plain or gzip compressed, is read token by token so
+ * memory use does not depend on the trace size. Nesting of trace events is tracked with primitive
+ * per-thread stacks, which relies on the events of each thread being ordered by their start time,
+ * as they are in traces recorded by Chrome.
+ *
+ * <p>Summary covers the renderer main threads, ie. threads named {@code CrRendererMain}, or the
+ * busiest thread if the trace has no thread names. Use {@link #createTraceConfig()} to record
+ * traces with the categories the analyzer needs, ie.
+ *
+ * <pre>{@code
+ * TraceRecorder traceRecorder = new TraceRecorder(devToolsService);
+ * traceRecorder.setTraceConfig(TraceAnalyzer.createTraceConfig());
+ * }</pre>
+ *
+ * Analyzer is thread safe, so a single instance can analyze many traces in parallel, see {@link
+ * #analyzeAll(List, ForkJoinPool)}.
+ *
+ * @author Kenan Klisura
+ */
+public class TraceAnalyzer {
+  /** Default minimum duration of a long task, in microseconds. */
+  public static final long DEFAULT_LONG_TASK_THRESHOLD = 50000;
+
+  /** Default number of top scripts in summary. */
+  public static final int DEFAULT_TOP_SCRIPTS = 10;
+
+  private static final String MAIN_THREAD_NAME = "CrRendererMain";
+  private static final String THREAD_NAME_EVENT = "thread_name";
+  private static final String LAYOUT_EVENT = "Layout";
+  private static final String PAINT_EVENT = "Paint";
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private static final TraceCategory[] CATEGORIES = TraceCategory.values();
+
+  private final int topScripts;
+  private final long longTaskThreshold;
+
+  /** Creates a new trace analyzer with default top scripts count and long task threshold. */
+  public TraceAnalyzer() {
+    this(DEFAULT_TOP_SCRIPTS, DEFAULT_LONG_TASK_THRESHOLD);
+  }
+
+  /**
+   * Creates a new trace analyzer.
+   *
+   * @param topScripts Number of top scripts in summary.
+   * @param longTaskThreshold Minimum duration of a long task, in microseconds.
+   */
+  public TraceAnalyzer(int topScripts, long longTaskThreshold) {
+    this.topScripts = topScripts;
+    this.longTaskThreshold = longTaskThreshold;
+  }
+
+  /**
+   * Creates a trace config recording the categories used by the analyzer.
+   *
+   * @return Trace config.
+   */
+  public static TraceConfig createTraceConfig() {
+    TraceConfig traceConfig = new TraceConfig();
+    traceConfig.setExcludedCategories(Collections.singletonList("*"));
+    traceConfig.setIncludedCategories(
+        Arrays.asList(
+            "toplevel",
+            "devtools.timeline",
+            "disabled-by-default-devtools.timeline",
+            "v8.execute",
+            "blink.user_timing",
+            "loading",
+            "__metadata"));
+    return traceConfig;
+  }
+
+  /**
+   * Analyzes a trace file.
+   *
+   * @param file Trace file.
+   * @return Trace summary.
+   * @throws IOException If trace could not be read.
+   */
+  public TraceSummary analyze(Path file) throws IOException {
+    try (InputStream inputStream = Files.newInputStream(file)) {
+      return analyze(inputStream);
+    }
+  }
+
+  /**
+   * Analyzes a trace from an input stream, ie. {@link com.github.kklisura.cdt.utils.IOStream}. The
+   * input stream is not closed.
+   *
+   * @param inputStream Trace input stream.
+   * @return Trace summary.
+   * @throws IOException If trace could not be read.
+   */
+  public TraceSummary analyze(InputStream inputStream) throws IOException {
+    InputStream traceInputStream =
+        inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+
+    traceInputStream.mark(2);
+    boolean gzip = traceInputStream.read() == 0x1f && traceInputStream.read() == 0x8b;
+    traceInputStream.reset();
+
+    if (gzip) {
+      traceInputStream = new GZIPInputStream(traceInputStream);
+    }
+
+    Analysis analysis = new Analysis();
+    try (JsonParser parser = JSON_FACTORY.createParser(traceInputStream)) {
+      parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.START_ARRAY) {
+        readEvents(parser, analysis);
+      } else if (token == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String fieldName = parser.getCurrentName();
+          if (parser.nextToken() == JsonToken.START_ARRAY && "traceEvents".equals(fieldName)) {
+            readEvents(parser, analysis);
+          } else {
+            parser.skipChildren();
+          }
+        }
+      } else {
+        throw new IOException("Trace is neither a json array nor a json object.");
+      }
+    }
+
+    return analysis.summarize();
+  }
+
+  /**
+   * Analyzes trace files in parallel on a fork join pool.
+   *
+   * @param files Trace files.
+   * @param pool Fork join pool, ie. {@link ForkJoinPool#commonPool()}.
+   * @return Trace summaries, in the order of files.
+   * @throws IOException If any of the traces could not be read.
+   */
+  public List<TraceSummary> analyzeAll(List<Path> files, ForkJoinPool pool) throws IOException {
+    List<ForkJoinTask<TraceSummary>> tasks = new ArrayList<>(files.size());
+    for (Path file : files) {
+      tasks.add(pool.submit(() -> analyze(file)));
+    }
+
+    List<TraceSummary> summaries = new ArrayList<>(files.size());
+    for (int i = 0; i < tasks.size(); i++) {
+      try {
+        summaries.add(tasks.get(i).get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while analyzing traces.");
+      } catch (ExecutionException e) {
+        throw new IOException("Failed analyzing trace " + files.get(i) + ".", e.getCause());
+      }
+    }
+    return summaries;
+  }
+
+  private void readEvents(JsonParser parser, Analysis analysis) throws IOException {
+    TraceEvent event = new TraceEvent();
+
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+      if (token == JsonToken.START_OBJECT) {
+        event.reset();
+        readEvent(parser, event);
+        analysis.process(event);
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private static void readEvent(JsonParser parser, TraceEvent event) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+
+      switch (fieldName) {
+        case "ph":
+          if (token == JsonToken.VALUE_STRING && parser.getTextLength() > 0) {
+            event.phase = parser.getTextCharacters()[parser.getTextOffset()];
+          }
+          break;
+        case "name":
+          event.name = parser.getValueAsString();
+          break;
+        case "pid":
+          event.pid = parser.getValueAsLong();
+          break;
+        case "tid":
+          event.tid = parser.getValueAsLong();
+          break;
+        case "ts":
+          event.timestamp = parser.getValueAsLong();
+          break;
+        case "dur":
+          event.duration = parser.getValueAsLong();
+          break;
+        case "args":
+          if (token == JsonToken.START_OBJECT) {
+            readArgs(parser, event);
+          } else {
+            parser.skipChildren();
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+  }
+
+  private static void readArgs(JsonParser parser, TraceEvent event) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+
+      if (token == JsonToken.VALUE_STRING && "name".equals(fieldName)) {
+        event.argName = parser.getText();
+      } else if (token == JsonToken.START_OBJECT && "data".equals(fieldName)) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String dataFieldName = parser.getCurrentName();
+          if (parser.nextToken() == JsonToken.VALUE_STRING && "url".equals(dataFieldName)) {
+            event.url = parser.getText();
+          } else {
+            parser.skipChildren();
+          }
+        }
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  /** Reusable holder of the fields of a trace event. */
+  private static final class TraceEvent {
+    private char phase;
+    private String name;
+    private long pid;
+    private long tid;
+    private long timestamp;
+    private long duration;
+    private String argName;
+    private String url;
+
+    private void reset() {
+      phase = 0;
+      name = null;
+      pid = 0;
+      tid = 0;
+      timestamp = 0;
+      duration = 0;
+      argName = null;
+      url = null;
+    }
+  }
+
+  /** State of a single trace analysis. */
+  private final class Analysis {
+    private final Map<Long, ThreadState> threads = new HashMap<>();
+    private final Map<String, Integer> scriptIds = new HashMap<>();
+    private final List<String> scriptUrls = new ArrayList<>();
+    private long eventCount;
+
+    private void process(TraceEvent event) {
+      eventCount++;
+
+      switch (event.phase) {
+        case 'M':
+          if (THREAD_NAME_EVENT.equals(event.name)) {
+            getThread(event).name = event.argName;
+          }
+          break;
+        case 'X':
+          getThread(event).begin(event, event.timestamp + Math.max(0, event.duration));
+          break;
+        case 'B':
+          getThread(event).begin(event, Long.MAX_VALUE);
+          break;
+        case 'E':
+          getThread(event).end(event.timestamp);
+          break;
+        default:
+          break;
+      }
+    }
+
+    private ThreadState getThread(TraceEvent event) {
+      return threads.computeIfAbsent((event.pid << 32) ^ event.tid, key -> new ThreadState());
+    }
+
+    private int getScriptId(String url) {
+      Integer scriptId = scriptIds.get(url);
+      if (scriptId == null) {
+        scriptId = scriptUrls.size();
+        scriptIds.put(url, scriptId);
+        scriptUrls.add(url);
+      }
+      return scriptId;
+    }
+
+    private TraceSummary summarize() {
+      List<ThreadState> mainThreads = new ArrayList<>();
+      ThreadState busiestThread = null;
+      for (ThreadState thread : threads.values()) {
+        thread.finish();
+        if (MAIN_THREAD_NAME.equals(thread.name)) {
+          mainThreads.add(thread);
+        }
+        if (busiestThread == null || thread.busyTime > busiestThread.busyTime) {
+          busiestThread = thread;
+        }
+      }
+      if (mainThreads.isEmpty() && busiestThread != null) {
+        mainThreads.add(busiestThread);
+      }
+
+      long busyTime = 0;
+      long[] categoryTimes = new long[CATEGORIES.length];
+      long[] scriptTimes = new long[scriptUrls.size()];
+      List<LongTask> longTasks = new ArrayList<>();
+      int layoutCount = 0;
+      int paintCount = 0;
+
+      for (ThreadState thread : mainThreads) {
+        busyTime += thread.busyTime;
+        for (int i = 0; i < categoryTimes.length; i++) {
+          categoryTimes[i] += thread.categoryTimes[i];
+        }
+        for (int i = 0; i < Math.min(thread.scriptTimes.length, scriptTimes.length); i++) {
+          scriptTimes[i] += thread.scriptTimes[i];
+        }
+        longTasks.addAll(thread.longTasks);
+        layoutCount += thread.layoutCount;
+        paintCount += thread.paintCount;
+      }
+
+      longTasks.sort(Comparator.comparingLong(LongTask::getStartTime));
+
+      Map<TraceCategory, Long> categoryTimeMap = new EnumMap<>(TraceCategory.class);
+      for (TraceCategory category : CATEGORIES) {
+        categoryTimeMap.put(category, categoryTimes[category.ordinal()]);
+      }
+
+      List<ScriptTime> scripts = new ArrayList<>();
+      for (int i = 0; i < scriptTimes.length; i++) {
+        if (scriptTimes[i] > 0) {
+          scripts.add(new ScriptTime(scriptUrls.get(i), scriptTimes[i]));
+        }
+      }
+      scripts.sort(Comparator.comparingLong(ScriptTime::getSelfTime).reversed());
+
+      return new TraceSummary(
+          eventCount,
+          busyTime,
+          Collections.unmodifiableMap(categoryTimeMap),
+          Collections.unmodifiableList(longTasks),
+          layoutCount,
+          paintCount,
+          Collections.unmodifiableList(
+              new ArrayList<>(scripts.subList(0, Math.min(topScripts, scripts.size())))));
+    }
+
+    /** Per thread stack of open trace events and accumulated times. */
+    private final class ThreadState {
+      private String name;
+
+      private int depth;
+      private long[] starts = new long[16];
+      private long[] ends = new long[16];
+      private long[] childTimes = new long[16];
+      private int[] categories = new int[16];
+      private int[] scripts = new int[16];
+
+      private long lastTimestamp;
+      private long busyTime;
+      private final long[] categoryTimes = new long[CATEGORIES.length];
+      private long[] scriptTimes = new long[0];
+      private final List<LongTask> longTasks = new ArrayList<>();
+      private int layoutCount;
+      private int paintCount;
+
+      private void begin(TraceEvent event, long end) {
+        popUntil(event.timestamp);
+
+        if (depth == starts.length) {
+          int length = depth * 2;
+          starts = Arrays.copyOf(starts, length);
+          ends = Arrays.copyOf(ends, length);
+          childTimes = Arrays.copyOf(childTimes, length);
+          categories = Arrays.copyOf(categories, length);
+          scripts = Arrays.copyOf(scripts, length);
+        }
+
+        starts[depth] = event.timestamp;
+        ends[depth] = end;
+        childTimes[depth] = 0;
+        // Uncategorized events are attributed to the category of the enclosing event.
+        TraceCategory category = TraceCategory.forEventName(event.name);
+        categories[depth] =
+            category == TraceCategory.OTHER && depth > 0
+                ? categories[depth - 1]
+                : category.ordinal();
+        if (event.url != null && !event.url.isEmpty()) {
+          scripts[depth] = getScriptId(event.url);
+        } else {
+          scripts[depth] = depth > 0 ? scripts[depth - 1] : -1;
+        }
+        depth++;
+
+        if (LAYOUT_EVENT.equals(event.name)) {
+          layoutCount++;
+        } else if (PAINT_EVENT.equals(event.name)) {
+          paintCount++;
+        }
+
+        lastTimestamp = Math.max(lastTimestamp, end != Long.MAX_VALUE ? end : event.timestamp);
+      }
+
+      private void end(long timestamp) {
+        popUntil(timestamp);
+        if (depth > 0 && ends[depth - 1] == Long.MAX_VALUE) {
+          ends[depth - 1] = timestamp;
+          pop();
+        }
+        lastTimestamp = Math.max(lastTimestamp, timestamp);
+      }
+
+      private void finish() {
+        while (depth > 0) {
+          if (ends[depth - 1] == Long.MAX_VALUE) {
+            ends[depth - 1] = Math.max(lastTimestamp, starts[depth - 1]);
+          }
+          pop();
+        }
+      }
+
+      private void popUntil(long timestamp) {
+        while (depth > 0 && ends[depth - 1] <= timestamp) {
+          pop();
+        }
+      }
+
+      private void pop() {
+        depth--;
+
+        long duration = ends[depth] - starts[depth];
+        long selfTime = Math.max(0, duration - childTimes[depth]);
+
+        categoryTimes[categories[depth]] += selfTime;
+
+        int script = scripts[depth];
+        if (script != -1 && categories[depth] == TraceCategory.SCRIPTING.ordinal()) {
+          if (script >= scriptTimes.length) {
+            scriptTimes = Arrays.copyOf(scriptTimes, Math.max(script + 1, scriptTimes.length * 2));
+          }
+          scriptTimes[script] += selfTime;
+        }
+
+        if (depth > 0) {
+          childTimes[depth - 1] += duration;
+        } else {
+          busyTime += duration;
+          if (duration >= longTaskThreshold) {
+            longTasks.add(new LongTask(starts[depth], duration));
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,303 @@
+package com.github.kklisura.cdt.tracing;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.kklisura.cdt.protocol.commands.Tracing;
+import com.github.kklisura.cdt.protocol.events.tracing.DataCollected;
+import com.github.kklisura.cdt.protocol.events.tracing.TracingComplete;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.tracing.StartTransferMode;
+import com.github.kklisura.cdt.protocol.types.tracing.StreamCompression;
+import com.github.kklisura.cdt.protocol.types.tracing.TraceConfig;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.utils.IOStream;
+import com.github.kklisura.cdt.utils.IOStreams;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Records a trace directly to a file or a channel, ie.
+ *
+ * <pre>{@code
+ * TraceRecorder traceRecorder = new TraceRecorder(devToolsService);
+ * traceRecorder.start(Paths.get("trace.json"));
+ *
+ * devToolsService.awaitAfter(() -> page.navigate(url), page::onLoadEventFired).join();
+ *
+ * traceRecorder.stop();
+ * }</pre>
+ *
+ * By default the trace is returned as a stream, which is read through {@link IOStreams} once the
+ * tracing completes. In {@link StartTransferMode#REPORT_EVENTS} transfer mode the trace events are
+ * written as they are collected instead. In both modes the trace is never held in memory as a whole
+ * and the written trace is in the json trace format.
+ *
+ * <p>Event transfer mode relies on events being handled in order, which is the case with the
+ * default event executor service.
+ *
+ * @author Kenan Klisura
+ */
+public class TraceRecorder {
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+  private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+  private final ChromeDevToolsService devToolsService;
+
+  private TraceConfig traceConfig;
+  private StartTransferMode transferMode = StartTransferMode.RETURN_AS_STREAM;
+  private StreamCompression streamCompression = StreamCompression.NONE;
+  private long timeout;
+
+  private WritableByteChannel output;
+  private boolean ownsOutput;
+
+  private EventListener dataCollectedListener;
+  private volatile JsonGenerator eventGenerator;
+  private volatile IOException eventWriteException;
+
+  /**
+   * Creates a new trace recorder.
+   *
+   * @param devToolsService Dev tools service.
+   */
+  public TraceRecorder(ChromeDevToolsService devToolsService) {
+    this.devToolsService = devToolsService;
+  }
+
+  /**
+   * Sets the trace config. Chrome defaults are used if not set.
+   *
+   * @param traceConfig Trace config.
+   */
+  public void setTraceConfig(TraceConfig traceConfig) {
+    this.traceConfig = traceConfig;
+  }
+
+  /**
+   * Sets the transfer mode. Defaults to {@link StartTransferMode#RETURN_AS_STREAM}.
+   *
+   * @param transferMode Transfer mode.
+   */
+  public void setTransferMode(StartTransferMode transferMode) {
+    this.transferMode = transferMode;
+  }
+
+  /**
+   * Sets the compression of the written trace. Defaults to {@link StreamCompression#NONE}.
+   *
+   * @param streamCompression Stream compression.
+   */
+  public void setStreamCompression(StreamCompression streamCompression) {
+    this.streamCompression = streamCompression;
+  }
+
+  /**
+   * Sets the timeout for the tracing to complete once stopped. Defaults to 0, ie. infinite timeout.
+   *
+   * @param timeout Timeout in seconds.
+   */
+  public void setTimeout(long timeout) {
+    this.timeout = timeout;
+  }
+
+  /**
+   * Starts tracing into a file. The file is created or truncated and it is closed once the tracing
+   * is stopped.
+   *
+   * @param file Trace file.
+   * @throws IOException If file could not be opened.
+   */
+  public void start(Path file) throws IOException {
+    FileChannel fileChannel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    try {
+      start(fileChannel);
+    } catch (IOException | RuntimeException e) {
+      fileChannel.close();
+      throw e;
+    }
+    ownsOutput = true;
+  }
+
+  /**
+   * Starts tracing into a channel. The channel is not closed once the tracing is stopped.
+   *
+   * @param channel Trace channel.
+   * @throws IOException If trace could not be written to channel.
+   */
+  public void start(WritableByteChannel channel) throws IOException {
+    if (output != null) {
+      throw new IllegalStateException("Trace recorder is already started.");
+    }
+
+    Tracing tracing = devToolsService.getTracing();
+
+    if (StartTransferMode.REPORT_EVENTS.equals(transferMode)) {
+      eventGenerator = createEventGenerator(channel);
+      dataCollectedListener = tracing.onDataCollected(this::writeEvents);
+    }
+
+    try {
+      tracing.start(
+          null,
+          null,
+          null,
+          transferMode,
+          null,
+          StartTransferMode.RETURN_AS_STREAM.equals(transferMode) ? streamCompression : null,
+          traceConfig);
+    } catch (RuntimeException e) {
+      stopWritingEvents();
+      throw e;
+    }
+
+    output = channel;
+  }
+
+  /**
+   * Stops tracing and waits until the trace is written.
+   *
+   * @return Tracing complete event.
+   * @throws IOException If trace could not be written.
+   */
+  public TracingComplete stop() throws IOException {
+    if (output == null) {
+      throw new IllegalStateException("Trace recorder is not started.");
+    }
+
+    Tracing tracing = devToolsService.getTracing();
+
+    try {
+      TracingComplete tracingComplete =
+          devToolsService
+              .<TracingComplete>awaitAfter(tracing::end, tracing::onTracingComplete, timeout)
+              .get();
+
+      if (tracingComplete.getStream() != null) {
+        try (IOStream stream = IOStreams.open(devToolsService, tracingComplete.getStream())) {
+          transfer(stream, output);
+        }
+      } else if (eventGenerator != null) {
+        finishEvents();
+      } else {
+        throw new IOException("Tracing completed without returning a trace stream.");
+      }
+
+      return tracingComplete;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for tracing to complete.");
+    } catch (ExecutionException e) {
+      throw new IOException("Failed waiting for tracing to complete.", e.getCause());
+    } finally {
+      stopWritingEvents();
+      if (ownsOutput) {
+        output.close();
+      }
+      output = null;
+      ownsOutput = false;
+    }
+  }
+
+  private JsonGenerator createEventGenerator(WritableByteChannel channel) throws IOException {
+    OutputStream outputStream = Channels.newOutputStream(channel);
+    if (StreamCompression.GZIP.equals(streamCompression)) {
+      outputStream = new GZIPOutputStream(outputStream, TRANSFER_BUFFER_SIZE);
+    }
+
+    JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(outputStream);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    generator.writeStartObject();
+    generator.writeArrayFieldStart("traceEvents");
+    return generator;
+  }
+
+  private void writeEvents(DataCollected event) {
+    JsonGenerator generator = eventGenerator;
+    if (generator == null || event.getValue() == null || eventWriteException != null) {
+      return;
+    }
+
+    try {
+      for (Object traceEvent : event.getValue()) {
+        OBJECT_MAPPER.writeValue(generator, traceEvent);
+      }
+    } catch (IOException e) {
+      eventWriteException = e;
+    }
+  }
+
+  private void finishEvents() throws IOException {
+    if (eventWriteException != null) {
+      throw new IOException("Failed writing trace events.", eventWriteException);
+    }
+
+    eventGenerator.writeEndArray();
+    eventGenerator.writeEndObject();
+    eventGenerator.close();
+
+    OutputStream outputStream = (OutputStream) eventGenerator.getOutputTarget();
+    if (outputStream instanceof GZIPOutputStream) {
+      ((GZIPOutputStream) outputStream).finish();
+    }
+    outputStream.flush();
+  }
+
+  private void stopWritingEvents() {
+    if (dataCollectedListener != null) {
+      dataCollectedListener.unsubscribe();
+      dataCollectedListener = null;
+    }
+    eventGenerator = null;
+    eventWriteException = null;
+  }
+
+  private static void transfer(IOStream stream, WritableByteChannel channel) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+    while (stream.read(buffer) != -1) {
+      // Cast keeps Buffer return types when compiled with JDK 9+ for Java 8.
+      ((Buffer) buffer).flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      ((Buffer) buffer).clear();
+    }
+  }
+}
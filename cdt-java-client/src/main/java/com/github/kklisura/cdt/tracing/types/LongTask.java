@@ -0,0 +1,51 @@
+package com.github.kklisura.cdt.tracing.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Main thread task taking longer than the long task threshold.
+ *
+ * @author Kenan Klisura
+ */
+public final class LongTask {
+  private final long startTime;
+
+  private final long duration;
+
+  /**
+   * Instantiates a new long task.
+   *
+   * @param startTime Start time in microseconds, in trace clock.
+   * @param duration Duration in microseconds.
+   */
+  public LongTask(long startTime, long duration) {
+    this.startTime = startTime;
+    this.duration = duration;
+  }
+
+  public long getStartTime() {
+    return startTime;
+  }
+
+  public long getDuration() {
+    return duration;
+  }
+}
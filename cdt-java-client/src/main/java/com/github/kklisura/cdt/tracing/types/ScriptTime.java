@@ -0,0 +1,51 @@
+package com.github.kklisura.cdt.tracing.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Main thread self time spent in a script.
+ *
+ * @author Kenan Klisura
+ */
+public final class ScriptTime {
+  private final String url;
+
+  private final long selfTime;
+
+  /**
+   * Instantiates a new script time.
+   *
+   * @param url Script url.
+   * @param selfTime Self time in microseconds.
+   */
+  public ScriptTime(String url, long selfTime) {
+    this.url = url;
+    this.selfTime = selfTime;
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  public long getSelfTime() {
+    return selfTime;
+  }
+}
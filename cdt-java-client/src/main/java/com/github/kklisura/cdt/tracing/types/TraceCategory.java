@@ -0,0 +1,111 @@
+package com.github.kklisura.cdt.tracing.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Category of main thread work, grouped the same way as in the DevTools performance panel.
+ *
+ * @author Kenan Klisura
+ */
+public enum TraceCategory {
+  LOADING(
+      "ParseHTML",
+      "ParseAuthorStyleSheet",
+      "ResourceSendRequest",
+      "ResourceReceiveResponse",
+      "ResourceReceivedData",
+      "ResourceFinish"),
+  SCRIPTING(
+      "FunctionCall",
+      "EvaluateScript",
+      "v8.compile",
+      "v8.compileModule",
+      "v8.evaluateModule",
+      "v8.produceCache",
+      "V8.Execute",
+      "RunMicrotasks",
+      "TimerFire",
+      "TimerInstall",
+      "TimerRemove",
+      "EventDispatch",
+      "FireAnimationFrame",
+      "RequestAnimationFrame",
+      "CancelAnimationFrame",
+      "FireIdleCallback",
+      "XHRReadyStateChange",
+      "XHRLoad",
+      "MinorGC",
+      "MajorGC",
+      "BlinkGC.AtomicPhase",
+      "ThreadState::performIdleLazySweep"),
+  RENDERING(
+      "Layout",
+      "UpdateLayoutTree",
+      "RecalculateStyles",
+      "ScheduleStyleRecalculation",
+      "InvalidateLayout",
+      "HitTest",
+      "PrePaint",
+      "UpdateLayerTree",
+      "ScrollLayer",
+      "IntersectionObserverController::computeIntersections"),
+  PAINTING(
+      "Paint",
+      "PaintImage",
+      "PaintSetup",
+      "Layerize",
+      "UpdateLayer",
+      "CompositeLayers",
+      "RasterTask",
+      "Decode Image",
+      "Decode LazyPixelRef",
+      "Resize Image"),
+  OTHER;
+
+  private static final Map<String, TraceCategory> EVENT_CATEGORIES = new HashMap<>();
+
+  static {
+    for (TraceCategory category : values()) {
+      for (String eventName : category.eventNames) {
+        EVENT_CATEGORIES.put(eventName, category);
+      }
+    }
+  }
+
+  private final String[] eventNames;
+
+  TraceCategory(String... eventNames) {
+    this.eventNames = eventNames;
+  }
+
+  /**
+   * Returns the category of a trace event.
+   *
+   * @param eventName Trace event name.
+   * @return Category or {@link #OTHER} if event is not categorized.
+   */
+  public static TraceCategory forEventName(String eventName) {
+    return EVENT_CATEGORIES.getOrDefault(eventName, OTHER);
+  }
+}
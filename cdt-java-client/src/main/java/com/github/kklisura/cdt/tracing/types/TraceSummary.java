@@ -0,0 +1,101 @@
+package com.github.kklisura.cdt.tracing.types;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Performance summary of the main threads of a trace. All times are in microseconds.
+ *
+ * @author Kenan Klisura
+ */
+public final class TraceSummary {
+  private final long eventCount;
+
+  private final long busyTime;
+
+  private final Map<TraceCategory, Long> categoryTimes;
+
+  private final List<LongTask> longTasks;
+
+  private final int layoutCount;
+
+  private final int paintCount;
+
+  private final List<ScriptTime> topScripts;
+
+  /**
+   * Instantiates a new trace summary.
+   *
+   * @param eventCount Number of trace events read.
+   * @param busyTime Total duration of main thread top level tasks.
+   * @param categoryTimes Main thread self time per category.
+   * @param longTasks Main thread long tasks, ordered by start time.
+   * @param layoutCount Number of main thread layouts.
+   * @param paintCount Number of main thread paints.
+   * @param topScripts Scripts with the highest self time, highest first.
+   */
+  public TraceSummary(
+      long eventCount,
+      long busyTime,
+      Map<TraceCategory, Long> categoryTimes,
+      List<LongTask> longTasks,
+      int layoutCount,
+      int paintCount,
+      List<ScriptTime> topScripts) {
+    this.eventCount = eventCount;
+    this.busyTime = busyTime;
+    this.categoryTimes = categoryTimes;
+    this.longTasks = longTasks;
+    this.layoutCount = layoutCount;
+    this.paintCount = paintCount;
+    this.topScripts = topScripts;
+  }
+
+  public long getEventCount() {
+    return eventCount;
+  }
+
+  public long getBusyTime() {
+    return busyTime;
+  }
+
+  public Map<TraceCategory, Long> getCategoryTimes() {
+    return categoryTimes;
+  }
+
+  public List<LongTask> getLongTasks() {
+    return longTasks;
+  }
+
+  public int getLayoutCount() {
+    return layoutCount;
+  }
+
+  public int getPaintCount() {
+    return paintCount;
+  }
+
+  public List<ScriptTime> getTopScripts() {
+    return topScripts;
+  }
+}
@@ -0,0 +1,145 @@
+package com.github.kklisura.cdt.utils;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Base64 utils. Decodes base64 data straight from char sequences, such as received messages,
+ * without creating an intermediate string or decoded byte array.
+ *
+ * @author Kenan Klisura
+ */
+public final class Base64Utils {
+  private static final int[] BASE64_VALUES = new int[128];
+
+  // Number of chars decoded at once when writing to channel; multiple of 4 so blocks hold no
+  // padding.
+  private static final int DECODE_BLOCK_SIZE = 64 * 1024;
+
+  private static final ThreadLocal<ByteBuffer> DECODE_BUFFER =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocate(DECODE_BLOCK_SIZE / 4 * 3));
+
+  static {
+    String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+    Arrays.fill(BASE64_VALUES, -1);
+    for (int i = 0; i < alphabet.length(); i++) {
+      BASE64_VALUES[alphabet.charAt(i)] = i;
+    }
+  }
+
+  private Base64Utils() {
+    // Empty ctor.
+  }
+
+  /**
+   * Returns the number of bytes a base64 encoded data decodes to.
+   *
+   * @param data Base64 encoded data.
+   * @param start Start index, inclusive.
+   * @param end End index, exclusive.
+   * @return Decoded length.
+   */
+  public static int decodedLength(CharSequence data, int start, int end) {
+    int length = (end - start) / 4 * 3;
+    for (int i = end - 1; i >= start && data.charAt(i) == '='; i--) {
+      length--;
+    }
+    return length;
+  }
+
+  /**
+   * Decodes base64 data into a buffer. Decoding stops at padding.
+   *
+   * @param data Base64 encoded data.
+   * @param start Start index, inclusive.
+   * @param end End index, exclusive.
+   * @param buffer Buffer. It needs to fit {@link #decodedLength(CharSequence, int, int)} bytes.
+   * @param offset Buffer offset.
+   * @return Number of decoded bytes.
+   * @throws IllegalArgumentException If data is not valid base64.
+   */
+  public static int decode(CharSequence data, int start, int end, byte[] buffer, int offset) {
+    int position = offset;
+    int bits = 0;
+    int bitCount = 0;
+
+    for (int i = start; i < end; i++) {
+      char c = data.charAt(i);
+      if (c == '=') {
+        break;
+      }
+
+      int value = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+      if (value == -1) {
+        throw new IllegalArgumentException("Illegal base64 character " + c + ".");
+      }
+
+      bits = (bits << 6) | value;
+      bitCount += 6;
+      if (bitCount >= 8) {
+        bitCount -= 8;
+        buffer[position++] = (byte) (bits >> bitCount);
+      }
+    }
+    return position - offset;
+  }
+
+  /**
+   * Decodes base64 data into a channel. Data is decoded in blocks through a pooled per-thread
+   * buffer.
+   *
+   * @param data Base64 encoded data.
+   * @param start Start index, inclusive.
+   * @param end End index, exclusive.
+   * @param channel Channel.
+   * @return Number of bytes written.
+   * @throws IOException If writing to channel fails.
+   * @throws IllegalArgumentException If data is not valid base64.
+   */
+  public static long decode(CharSequence data, int start, int end, WritableByteChannel channel)
+      throws IOException {
+    ByteBuffer buffer = DECODE_BUFFER.get();
+
+    long written = 0;
+    for (int blockStart = start; blockStart < end; blockStart += DECODE_BLOCK_SIZE) {
+      int length =
+          decode(
+              data,
+              blockStart,
+              Math.min(end, blockStart + DECODE_BLOCK_SIZE),
+              buffer.array(),
+              buffer.arrayOffset());
+
+      // Cast keeps Buffer return types when compiled with JDK 9+ for Java 8.
+      ((Buffer) buffer).clear();
+      ((Buffer) buffer).limit(length);
+      while (buffer.hasRemaining()) {
+        written += channel.write(buffer);
+      }
+    }
+    return written;
+  }
+}
@@ -0,0 +1,121 @@
+package com.github.kklisura.cdt.utils;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.types.page.CaptureScreenshotFormat;
+import com.github.kklisura.cdt.protocol.types.page.Viewport;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Commands returning binary data, which is written to a channel instead of being returned as a
+ * base64 encoded string. Large screenshots and documents are decoded straight from the received
+ * message, so neither the encoded string nor the decoded bytes are held in memory as a whole.
+ *
+ * <pre>{@code
+ * try (FileChannel channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+ *   BinaryCommands.captureScreenshot(devToolsService, channel);
+ * }
+ * }</pre>
+ *
+ * @author Kenan Klisura
+ */
+public final class BinaryCommands {
+  private static final String DATA_PROPERTY = "data";
+
+  private BinaryCommands() {
+    // Empty ctor.
+  }
+
+  /**
+   * Captures page screenshot.
+   *
+   * @param devToolsService Dev tools service.
+   * @param channel Channel to which image data is written.
+   * @return Number of bytes written.
+   */
+  public static long captureScreenshot(
+      ChromeDevToolsService devToolsService, WritableByteChannel channel) {
+    return devToolsService.invokeBinary(
+        "Page.captureScreenshot", Collections.emptyMap(), DATA_PROPERTY, channel);
+  }
+
+  /**
+   * Captures page screenshot.
+   *
+   * @param devToolsService Dev tools service.
+   * @param format Image compression format (defaults to png).
+   * @param quality Compression quality from range [0..100] (jpeg only).
+   * @param clip Capture the screenshot of a given region only.
+   * @param fromSurface Capture the screenshot from the surface, rather than the view. Defaults to
+   *     true.
+   * @param channel Channel to which image data is written.
+   * @return Number of bytes written.
+   */
+  public static long captureScreenshot(
+      ChromeDevToolsService devToolsService,
+      CaptureScreenshotFormat format,
+      Integer quality,
+      Viewport clip,
+      Boolean fromSurface,
+      WritableByteChannel channel) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("format", format);
+    params.put("quality", quality);
+    params.put("clip", clip);
+    params.put("fromSurface", fromSurface);
+    return devToolsService.invokeBinary("Page.captureScreenshot", params, DATA_PROPERTY, channel);
+  }
+
+  /**
+   * Print page as PDF.
+   *
+   * @param devToolsService Dev tools service.
+   * @param channel Channel to which PDF data is written.
+   * @return Number of bytes written.
+   */
+  public static long printToPDF(
+      ChromeDevToolsService devToolsService, WritableByteChannel channel) {
+    return devToolsService.invokeBinary(
+        "Page.printToPDF", Collections.emptyMap(), DATA_PROPERTY, channel);
+  }
+
+  /**
+   * Print page as PDF. Params are named as in {@link
+   * com.github.kklisura.cdt.protocol.commands.Page#printToPDF}, for example {@code landscape} or
+   * {@code printBackground}. Documents too large for a single message should be printed with {@code
+   * ReturnAsStream} transfer mode and read with {@link IOStreams} instead.
+   *
+   * @param devToolsService Dev tools service.
+   * @param params Print params.
+   * @param channel Channel to which PDF data is written.
+   * @return Number of bytes written.
+   */
+  public static long printToPDF(
+      ChromeDevToolsService devToolsService,
+      Map<String, Object> params,
+      WritableByteChannel channel) {
+    return devToolsService.invokeBinary("Page.printToPDF", params, DATA_PROPERTY, channel);
+  }
+}
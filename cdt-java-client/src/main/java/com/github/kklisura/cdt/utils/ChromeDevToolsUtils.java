@@ -49,7 +49,9 @@ public final class ChromeDevToolsUtils {
   }
 
   /**
-   * Waits for event from a given event consumer.
+   * Waits for event from a given event consumer. This blocks the calling thread; see {@link
+   * com.github.kklisura.cdt.services.ChromeDevToolsService#awaitAfter} for a non-blocking
+   * alternative that subscribes before the event is triggered.
    *
    * @param eventConsumer Event consumer.
    * @param <T> Type of an event.
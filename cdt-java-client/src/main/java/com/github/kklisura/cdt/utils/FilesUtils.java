@@ -22,8 +22,14 @@ package com.github.kklisura.cdt.utils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
 
 /**
  * Files utils.
@@ -70,4 +76,39 @@ public final class FilesUtils {
       throw new RuntimeException("Failed creating temp directory for " + prefix, e);
     }
   }
+
+  /**
+   * Copies directory tree into target directory, skipping files with excluded names.
+   *
+   * @param source Source directory.
+   * @param target Target directory.
+   * @param excludedNames File names to skip.
+   * @throws IOException If copying fails.
+   */
+  public static void copyDirectory(
+      final Path source, final Path target, final Set<String> excludedNames) throws IOException {
+    Files.walkFileTree(
+        source,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
+              throws IOException {
+            Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+              throws IOException {
+            if (excludedNames.contains(file.getFileName().toString())) {
+              return FileVisitResult.CONTINUE;
+            }
+
+            Path targetFile = target.resolve(source.relativize(file).toString());
+            Files.copy(
+                file, targetFile, StandardCopyOption.COPY_ATTRIBUTES, LinkOption.NOFOLLOW_LINKS);
+            return FileVisitResult.CONTINUE;
+          }
+        });
+  }
 }
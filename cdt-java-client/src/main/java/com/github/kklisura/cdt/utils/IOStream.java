@@ -0,0 +1,382 @@
+package com.github.kklisura.cdt.utils;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.commands.IO;
+import com.github.kklisura.cdt.protocol.types.io.Read;
+import com.github.kklisura.cdt.services.exceptions.ChromeDevToolsInvocationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Input stream and readable byte channel over a dev tools stream handle. Chunks of the stream are
+ * read ahead with several outstanding {@link IO#read(String, Integer, Integer)} requests, decoded
+ * into pooled buffers and the stream handle is closed with {@link IO#close(String)} once the end of
+ * the stream is reached or the stream is closed. Instances are created with {@link IOStreams} and
+ * are not thread safe.
+ *
+ * <p>Outstanding reads request chunks at explicit offsets. First chunk is requested alone, and if
+ * chrome rejects the offset, ie. for pipe backed streams which do not support random access, the
+ * stream is read sequentially without offsets. Offsets are 32 bit, so the part of the stream past 2
+ * GiB is read sequentially as well.
+ *
+ * @author Kenan Klisura
+ */
+public class IOStream extends InputStream implements ReadableByteChannel {
+  private final IO io;
+  private final String handle;
+  private final int chunkSize;
+  private final int outstandingReads;
+  private final Executor executor;
+
+  private final Deque<PendingRead> pendingReads = new ArrayDeque<>();
+  private final Queue<byte[]> bufferPool = new ConcurrentLinkedQueue<>();
+
+  private final long maxOffset;
+
+  private long nextOffset;
+  private boolean sequential;
+  private boolean offsetReadsSupported;
+  private boolean endOfStream;
+  private boolean handleClosed;
+  private boolean closed;
+
+  private Chunk chunk;
+  private int chunkPosition;
+
+  /**
+   * Creates a new stream over a stream handle.
+   *
+   * @param io IO command.
+   * @param handle Stream handle.
+   * @param chunkSize Maximum number of bytes requested with a single read.
+   * @param outstandingReads Number of reads requested ahead. If 1, stream is read sequentially
+   *     without offsets.
+   * @param executor Executor running the read requests.
+   */
+  IOStream(IO io, String handle, int chunkSize, int outstandingReads, Executor executor) {
+    this(io, handle, chunkSize, outstandingReads, executor, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new stream over a stream handle.
+   *
+   * @param io IO command.
+   * @param handle Stream handle.
+   * @param chunkSize Maximum number of bytes requested with a single read.
+   * @param outstandingReads Number of reads requested ahead. If 1, stream is read sequentially
+   *     without offsets.
+   * @param executor Executor running the read requests.
+   * @param maxOffset Maximum offset a read can be requested at.
+   */
+  IOStream(
+      IO io,
+      String handle,
+      int chunkSize,
+      int outstandingReads,
+      Executor executor,
+      long maxOffset) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive.");
+    }
+    if (outstandingReads <= 0) {
+      throw new IllegalArgumentException("Outstanding reads must be positive.");
+    }
+
+    this.io = io;
+    this.handle = handle;
+    this.chunkSize = chunkSize;
+    this.outstandingReads = outstandingReads;
+    this.executor = executor;
+    this.maxOffset = maxOffset;
+    this.sequential = outstandingReads == 1;
+  }
+
+  /**
+   * Returns the stream handle.
+   *
+   * @return Stream handle.
+   */
+  public String getHandle() {
+    return handle;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureChunk()) {
+      return -1;
+    }
+    return chunk.data[chunkPosition++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (!ensureChunk()) {
+      return -1;
+    }
+
+    int count = Math.min(len, chunk.length - chunkPosition);
+    System.arraycopy(chunk.data, chunkPosition, b, off, count);
+    chunkPosition += count;
+    return count;
+  }
+
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    if (closed) {
+      throw new ClosedChannelException();
+    }
+    if (!dst.hasRemaining()) {
+      return 0;
+    }
+    if (!ensureChunk()) {
+      return -1;
+    }
+
+    int count = Math.min(dst.remaining(), chunk.length - chunkPosition);
+    dst.put(chunk.data, chunkPosition, count);
+    chunkPosition += count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return chunk != null ? chunk.length - chunkPosition : 0;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return !closed;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      closed = true;
+      releaseChunk();
+      discardPendingReads();
+      closeHandle();
+    }
+  }
+
+  private boolean ensureChunk() throws IOException {
+    if (closed) {
+      throw new IOException("Stream " + handle + " is closed.");
+    }
+
+    while (chunk == null || chunkPosition == chunk.length) {
+      releaseChunk();
+
+      requestReads();
+      PendingRead pendingRead = pendingReads.poll();
+      if (pendingRead == null) {
+        closeHandle();
+        return false;
+      }
+
+      Chunk nextChunk;
+      try {
+        nextChunk = await(pendingRead);
+      } catch (IOException e) {
+        if (isOffsetRejected(pendingRead, e)) {
+          // Stream does not support random access. Nothing has been read yet, so it is read
+          // sequentially from the start.
+          sequential = true;
+          continue;
+        }
+        throw e;
+      }
+
+      if (pendingRead.offset != null) {
+        offsetReadsSupported = true;
+      }
+
+      if (nextChunk.eof) {
+        endOfStream = true;
+        discardPendingReads();
+      } else if (!sequential && pendingRead.offset != null && nextChunk.length < pendingRead.size) {
+        // Short read leaves a gap before the next requested offset, which is requested first.
+        pendingReads.addFirst(
+            submit(pendingRead.offset + nextChunk.length, pendingRead.size - nextChunk.length));
+      }
+
+      chunk = nextChunk;
+      chunkPosition = 0;
+    }
+    return true;
+  }
+
+  private void requestReads() {
+    // Sequential reads continue from the end of the previous read, so they are requested one at a
+    // time. Offset reads are requested ahead once the first one succeeds.
+    int maxPendingReads = sequential || !offsetReadsSupported ? 1 : outstandingReads;
+
+    while (!endOfStream && pendingReads.size() < maxPendingReads) {
+      if (sequential) {
+        pendingReads.add(submit(null, chunkSize));
+      } else {
+        if (nextOffset + chunkSize > maxOffset) {
+          // Next offset would be out of range. Last offset read is requested once all other reads
+          // complete, so sequential reads continue from its end.
+          if (!pendingReads.isEmpty()) {
+            break;
+          }
+          sequential = true;
+        }
+        pendingReads.add(submit(nextOffset, chunkSize));
+        nextOffset += chunkSize;
+      }
+    }
+  }
+
+  private boolean isOffsetRejected(PendingRead pendingRead, IOException e) {
+    return !offsetReadsSupported
+        && !sequential
+        && pendingRead.offset != null
+        && pendingRead.offset == 0
+        && e.getCause() instanceof ChromeDevToolsInvocationException;
+  }
+
+  private PendingRead submit(Long offset, int size) {
+    final Integer readOffset = offset != null ? Math.toIntExact(offset) : null;
+    CompletableFuture<Chunk> future =
+        CompletableFuture.supplyAsync(() -> decode(io.read(handle, readOffset, size)), executor);
+    return new PendingRead(offset, size, future);
+  }
+
+  private Chunk await(PendingRead pendingRead) throws IOException {
+    try {
+      return pendingRead.future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while reading stream " + handle + ".");
+    } catch (ExecutionException e) {
+      discardPendingReads();
+      throw new IOException("Failed reading stream " + handle + ".", e.getCause());
+    }
+  }
+
+  private void discardPendingReads() {
+    PendingRead pendingRead;
+    while ((pendingRead = pendingReads.poll()) != null) {
+      pendingRead.future.thenAccept(this::release);
+    }
+  }
+
+  private void releaseChunk() {
+    if (chunk != null) {
+      release(chunk);
+      chunk = null;
+    }
+  }
+
+  private void release(Chunk releasedChunk) {
+    if (releasedChunk.data.length == chunkSize) {
+      bufferPool.offer(releasedChunk.data);
+    }
+  }
+
+  private void closeHandle() throws IOException {
+    if (!handleClosed) {
+      handleClosed = true;
+      try {
+        io.close(handle);
+      } catch (RuntimeException e) {
+        throw new IOException("Failed closing stream " + handle + ".", e);
+      }
+    }
+  }
+
+  private Chunk decode(Read read) {
+    String data = read.getData() != null ? read.getData() : "";
+    boolean eof = Boolean.TRUE.equals(read.getEof());
+
+    byte[] buffer = bufferPool.poll();
+    if (buffer == null) {
+      buffer = new byte[chunkSize];
+    }
+
+    int length;
+    if (Boolean.TRUE.equals(read.getBase64Encoded())) {
+      int decodedLength = Base64Utils.decodedLength(data, 0, data.length());
+      if (decodedLength > buffer.length) {
+        buffer = new byte[decodedLength];
+      }
+      length = Base64Utils.decode(data, 0, data.length(), buffer, 0);
+    } else {
+      ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+      CoderResult result =
+          StandardCharsets.UTF_8.newEncoder().encode(CharBuffer.wrap(data), byteBuffer, true);
+      if (result.isOverflow()) {
+        buffer = data.getBytes(StandardCharsets.UTF_8);
+        length = buffer.length;
+      } else {
+        length = byteBuffer.position();
+      }
+    }
+
+    return new Chunk(buffer, length, eof);
+  }
+
+  private static final class PendingRead {
+    private final Long offset;
+    private final int size;
+    private final CompletableFuture<Chunk> future;
+
+    private PendingRead(Long offset, int size, CompletableFuture<Chunk> future) {
+      this.offset = offset;
+      this.size = size;
+      this.future = future;
+    }
+  }
+
+  private static final class Chunk {
+    private final byte[] data;
+    private final int length;
+    private final boolean eof;
+
+    private Chunk(byte[] data, int length, boolean eof) {
+      this.data = data;
+      this.length = length;
+      this.eof = eof;
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.github.kklisura.cdt.utils;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.kklisura.cdt.protocol.ChromeDevTools;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Streams over dev tools stream handles, such as ones returned by {@link
+ * com.github.kklisura.cdt.protocol.commands.Tracing} in {@code ReturnAsStream} transfer mode,
+ * {@link com.github.kklisura.cdt.protocol.commands.Page#printToPDF} with {@code ReturnAsStream}
+ * transfer mode or {@link
+ * com.github.kklisura.cdt.protocol.commands.Fetch#takeResponseBodyAsStream(String)}.
+ *
+ * <pre>{@code
+ * try (InputStream inputStream = IOStreams.open(devToolsService, handle)) {
+ *   Files.copy(inputStream, path);
+ * }
+ * }</pre>
+ *
+ * @author Kenan Klisura
+ */
+public final class IOStreams {
+  /** Default maximum number of bytes requested with a single read. */
+  public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+  /** Default number of reads requested ahead. */
+  public static final int DEFAULT_OUTSTANDING_READS = 4;
+
+  private IOStreams() {
+    // Empty ctor.
+  }
+
+  /**
+   * Opens a stream over a stream handle with default chunk size and outstanding reads. The handle
+   * is closed when the end of the stream is reached or the stream is closed.
+   *
+   * @param devTools Dev tools.
+   * @param handle Stream handle.
+   * @return Stream.
+   */
+  public static IOStream open(ChromeDevTools devTools, String handle) {
+    return open(devTools, handle, DEFAULT_CHUNK_SIZE, DEFAULT_OUTSTANDING_READS);
+  }
+
+  /**
+   * Opens a stream over a stream handle. The handle is closed when the end of the stream is reached
+   * or the stream is closed. Outstanding reads request chunks at explicit offsets; streams which do
+   * not support random access are detected on the first read and read sequentially instead.
+   *
+   * <p>Up to {@code outstandingReads + 1} chunks are held in memory at once, regardless of the
+   * stream size.
+   *
+   * @param devTools Dev tools.
+   * @param handle Stream handle.
+   * @param chunkSize Maximum number of bytes requested with a single read.
+   * @param outstandingReads Number of reads requested ahead.
+   * @return Stream.
+   */
+  public static IOStream open(
+      ChromeDevTools devTools, String handle, int chunkSize, int outstandingReads) {
+    return new IOStream(
+        devTools.getIO(), handle, chunkSize, outstandingReads, SharedExecutor.INSTANCE);
+  }
+
+  /** Lazily created executor for stream reads. */
+  private static class SharedExecutor {
+    private static final ExecutorService INSTANCE =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread = new Thread(runnable, "cdt-io-stream");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+}
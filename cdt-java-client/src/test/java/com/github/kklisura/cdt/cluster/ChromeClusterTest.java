@@ -0,0 +1,361 @@
+package com.github.kklisura.cdt.cluster;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.github.kklisura.cdt.cluster.config.ChromeClusterConfiguration;
+import com.github.kklisura.cdt.cluster.exceptions.ChromeClusterException;
+import com.github.kklisura.cdt.launch.ChromeArguments;
+import com.github.kklisura.cdt.launch.ChromeLauncher;
+import com.github.kklisura.cdt.launch.ChromeLauncher.ShutdownHookRegistry;
+import com.github.kklisura.cdt.launch.config.ChromeLauncherConfiguration;
+import com.github.kklisura.cdt.launch.support.ProcessLauncher;
+import com.squareup.okhttp.mockwebserver.Dispatcher;
+import com.squareup.okhttp.mockwebserver.MockResponse;
+import com.squareup.okhttp.mockwebserver.MockWebServer;
+import com.squareup.okhttp.mockwebserver.RecordedRequest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Chrome cluster test.
+ *
+ * @author Kenan Klisura
+ */
+public class ChromeClusterTest {
+  private MockWebServer server;
+
+  private List<StubProcess> processes;
+
+  private AtomicInteger tabIds;
+
+  private ChromeClusterConfiguration configuration;
+
+  private ChromeCluster cluster;
+
+  @Before
+  public void setUp() throws Exception {
+    tabIds = new AtomicInteger();
+    processes = new CopyOnWriteArrayList<>();
+
+    server = new MockWebServer();
+    server.setDispatcher(
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            if (request.getPath().startsWith("/json/new")) {
+              return new MockResponse()
+                  .setBody(String.format("{\"id\":\"TAB%d\"}", tabIds.incrementAndGet()));
+            }
+            return new MockResponse();
+          }
+        });
+    server.start();
+
+    configuration = new ChromeClusterConfiguration();
+    configuration.setProcessCount(2);
+    configuration.setSupervisionInterval(0);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    if (cluster != null) {
+      cluster.close();
+    }
+    server.shutdown();
+  }
+
+  @Test
+  public void testLaunchesProcesses() {
+    cluster = createCluster();
+
+    assertEquals(2, processes.size());
+    assertEquals(2, cluster.getNodes().size());
+    assertTrue(cluster.getNodes().get(0).isAlive());
+    assertTrue(cluster.getNodes().get(1).isAlive());
+
+    cluster.close();
+
+    assertTrue(cluster.isClosed());
+    assertFalse(processes.get(0).isAlive());
+    assertFalse(processes.get(1).isAlive());
+  }
+
+  @Test
+  public void testCreateTabRoutesToLeastLoadedProcess() {
+    cluster = createCluster();
+
+    ChromeClusterNode node0 = cluster.getNodes().get(0);
+    ChromeClusterNode node1 = cluster.getNodes().get(1);
+
+    ChromeClusterTab tab1 = cluster.createTab();
+    ChromeClusterTab tab2 = cluster.createTab();
+    ChromeClusterTab tab3 = cluster.createTab();
+
+    assertSame(node0, tab1.getNode());
+    assertSame(node1, tab2.getNode());
+    assertSame(node0, tab3.getNode());
+    assertEquals("TAB1", tab1.getTab().getId());
+
+    assertEquals(2, node0.getActiveTabCount());
+    assertEquals(1, node1.getActiveTabCount());
+
+    tab1.close();
+    tab3.close();
+    // Closing again has no effect.
+    tab3.close();
+
+    assertEquals(0, node0.getActiveTabCount());
+    assertSame(node0, cluster.createTab().getNode());
+  }
+
+  @Test
+  public void testCreateTabRestartsCrashedProcess() throws InterruptedException {
+    cluster = createCluster();
+
+    ChromeClusterNode node0 = cluster.getNodes().get(0);
+    ChromeClusterNode node1 = cluster.getNodes().get(1);
+
+    ChromeClusterTab tab = cluster.createTab();
+    assertSame(node0, tab.getNode());
+    assertSame(node1, cluster.createTab().getNode());
+
+    processes.get(0).destroy();
+    assertFalse(node0.isAlive());
+
+    // Crashed process is skipped and restarted in the background.
+    assertSame(node1, cluster.createTab().getNode());
+
+    awaitRestart(node0);
+
+    assertEquals(3, processes.size());
+    assertTrue(node0.isAlive());
+    assertEquals(1, node0.getRestartCount());
+
+    // Tab of the crashed process is dropped without affecting the restarted process.
+    int activeTabs = node0.getActiveTabCount();
+    tab.close();
+    assertEquals(activeTabs, node0.getActiveTabCount());
+  }
+
+  @Test
+  public void testCreateTabRestartsProcessIfAllCrashed() {
+    cluster = createCluster();
+
+    processes.get(0).destroy();
+    processes.get(1).destroy();
+
+    ChromeClusterTab tab = cluster.createTab();
+
+    assertTrue(tab.getNode().isAlive());
+    assertEquals(1, tab.getNode().getRestartCount());
+  }
+
+  @Test
+  public void testRecyclesProcessAfterTabs() throws InterruptedException {
+    configuration.setProcessCount(1);
+    configuration.setRecycleAfterTabs(2);
+
+    cluster = createCluster();
+
+    ChromeClusterNode node = cluster.getNodes().get(0);
+
+    ChromeClusterTab tab1 = cluster.createTab();
+    ChromeClusterTab tab2 = cluster.createTab();
+
+    awaitRecycle(node);
+
+    assertEquals(2, processes.size());
+    assertEquals(1, node.getRetiringCount());
+    assertEquals(0, node.getActiveTabCount());
+    assertFalse(node.isDraining());
+
+    // Retired process keeps running until its tabs are closed.
+    assertTrue(processes.get(0).isAlive());
+
+    ChromeClusterTab tab3 = cluster.createTab();
+    assertNotSame(tab1.getChromeService(), tab3.getChromeService());
+    assertEquals(1, node.getActiveTabCount());
+
+    tab1.close();
+    assertTrue(processes.get(0).isAlive());
+
+    tab2.close();
+    assertFalse(processes.get(0).isAlive());
+    assertEquals(0, node.getRetiringCount());
+    assertTrue(processes.get(1).isAlive());
+  }
+
+  @Test
+  public void testRecycledProcessIsClosedAfterDrainTimeout() throws InterruptedException {
+    configuration.setProcessCount(1);
+    configuration.setRecycleAfterTabs(1);
+    configuration.setRecycleDrainTimeout(0);
+
+    cluster = createCluster();
+
+    ChromeClusterNode node = cluster.getNodes().get(0);
+
+    cluster.createTab();
+
+    awaitRecycle(node);
+
+    // Retired process is removed from the node before it is closed.
+    for (int i = 0; i < 100 && (node.getRetiringCount() != 0 || processes.get(0).isAlive()); i++) {
+      Thread.sleep(50);
+    }
+
+    assertEquals(0, node.getRetiringCount());
+    assertFalse(processes.get(0).isAlive());
+  }
+
+  @Test
+  public void testCreateTabFailsOnClosedCluster() {
+    cluster = createCluster();
+    cluster.close();
+
+    try {
+      cluster.createTab();
+      fail("Expected exception.");
+    } catch (ChromeClusterException e) {
+      assertEquals("Chrome cluster is closed.", e.getMessage());
+    }
+  }
+
+  private static void awaitRestart(ChromeClusterNode node) throws InterruptedException {
+    for (int i = 0; i < 100 && node.getRestartCount() == 0; i++) {
+      Thread.sleep(50);
+    }
+    assertEquals(1, node.getRestartCount());
+  }
+
+  private static void awaitRecycle(ChromeClusterNode node) throws InterruptedException {
+    for (int i = 0; i < 100 && node.getRecycleCount() == 0; i++) {
+      Thread.sleep(50);
+    }
+    assertEquals(1, node.getRecycleCount());
+  }
+
+  private ChromeCluster createCluster() {
+    ShutdownHookRegistry shutdownHookRegistry =
+        new ShutdownHookRegistry() {
+          @Override
+          public void register(Thread thread) {}
+
+          @Override
+          public void remove(Thread thread) {}
+        };
+
+    return new ChromeCluster(
+        configuration,
+        ChromeArguments.defaults(true).build(),
+        () -> {
+          // Nodes are launched in parallel, so processes are recorded in launcher creation order.
+          final StubProcess process = new StubProcess(server.getPort());
+          processes.add(process);
+
+          ProcessLauncher processLauncher =
+              new ProcessLauncher() {
+                @Override
+                public Process launch(String program, List<String> args) {
+                  return process;
+                }
+
+                @Override
+                public boolean isExecutable(String binaryPath) {
+                  return true;
+                }
+              };
+
+          return new ChromeLauncher(
+              processLauncher,
+              name -> "/usr/bin/chromium",
+              shutdownHookRegistry,
+              new ChromeLauncherConfiguration());
+        });
+  }
+
+  /** Process printing the dev tools listening line and running until destroyed. */
+  private static class StubProcess extends Process {
+    private final byte[] output;
+
+    private volatile boolean alive = true;
+
+    StubProcess(int port) {
+      output =
+          String.format("DevTools listening on ws://127.0.0.1:%d/devtools/browser/id%n", port)
+              .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return new ByteArrayOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return new ByteArrayInputStream(output);
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+      return new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Override
+    public int waitFor() {
+      return 0;
+    }
+
+    @Override
+    public int exitValue() {
+      if (alive) {
+        throw new IllegalThreadStateException();
+      }
+      return 0;
+    }
+
+    @Override
+    public boolean isAlive() {
+      return alive;
+    }
+
+    @Override
+    public void destroy() {
+      alive = false;
+    }
+  }
+}
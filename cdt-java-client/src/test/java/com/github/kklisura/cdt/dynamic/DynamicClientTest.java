@@ -0,0 +1,223 @@
+package com.github.kklisura.cdt.dynamic;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.services.impl.utils.TestUtils.getFixture;
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.github.kklisura.cdt.dynamic.exceptions.DynamicProtocolException;
+import com.github.kklisura.cdt.protocol.support.types.CommandInvoker;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.page.TransitionType;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.easymock.EasyMockRunner;
+import org.easymock.EasyMockSupport;
+import org.easymock.Mock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Dynamic client test.
+ *
+ * @author Kenan Klisura
+ */
+@RunWith(EasyMockRunner.class)
+public class DynamicClientTest extends EasyMockSupport {
+  @Mock private CommandInvoker commandInvoker;
+
+  @Mock private EventListener eventListener;
+
+  private DynamicClient client;
+
+  @Before
+  public void setUp() throws IOException {
+    client =
+        new DynamicClient(
+            commandInvoker, DynamicProtocol.read(getFixture("protocol/dynamic-protocol.json")));
+  }
+
+  @Test
+  public void testCall() {
+    JsonNode result = JsonNodeFactory.instance.objectNode().put("frameId", "1");
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", "https://github.com");
+    params.put("transitionType", "typed");
+    params.put("referrer", null);
+
+    expect(commandInvoker.invoke("Page.navigate", params, null, JsonNode.class, null))
+        .andReturn(result);
+    expect(commandInvoker.invoke("Page.enable", null, null, JsonNode.class, null)).andReturn(null);
+
+    replayAll();
+
+    assertSame(result, client.call("Page.navigate", params));
+    client.call("Page.enable");
+
+    verifyAll();
+  }
+
+  @Test
+  public void testCallWithReturnProperty() {
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", "https://github.com");
+    params.put("transitionType", TransitionType.LINK);
+
+    Map<String, Object> clip = new HashMap<>();
+    clip.put("x", 1);
+    clip.put("y", 2.5);
+
+    Map<String, Object> scriptIds = Collections.singletonMap("scriptIds", new String[] {"1", "2"});
+
+    expect(commandInvoker.invoke("Page.navigate", params, "frameId", String.class, null))
+        .andReturn("1");
+    expect(
+            commandInvoker.invoke(
+                "Page.captureScreenshot",
+                Collections.singletonMap("clip", clip),
+                "data",
+                String.class,
+                null))
+        .andReturn("data");
+    expect(commandInvoker.invoke("Runtime.getIsolateIds", scriptIds, null, JsonNode.class, null))
+        .andReturn(null);
+
+    replayAll();
+
+    assertEquals("1", client.call("Page.navigate", params, "frameId", String.class));
+    assertEquals(
+        "data",
+        client.call(
+            "Page.captureScreenshot",
+            Collections.singletonMap("clip", clip),
+            "data",
+            String.class));
+    client.call("Runtime.getIsolateIds", scriptIds);
+
+    verifyAll();
+  }
+
+  @Test
+  public void testCallValidation() {
+    replayAll();
+
+    assertCallFails("Unknown command Page.unknown.", "Page.unknown", Collections.emptyMap());
+    assertCallFails(
+        "Unknown parameter unknown of Page.enable.",
+        "Page.enable",
+        Collections.singletonMap("unknown", 1));
+    assertCallFails(
+        "Missing parameter url of Page.navigate.",
+        "Page.navigate",
+        Collections.singletonMap("referrer", "https://github.com"));
+    assertCallFails(
+        "Missing parameter url of Page.navigate.",
+        "Page.navigate",
+        Collections.singletonMap("url", null));
+    assertCallFails(
+        "Invalid value 1 of parameter url of Page.navigate, expected string.",
+        "Page.navigate",
+        Collections.singletonMap("url", 1));
+    assertCallFails(
+        "Invalid value 1.5 of parameter quality of Page.captureScreenshot, expected integer.",
+        "Page.captureScreenshot",
+        Collections.singletonMap("quality", 1.5));
+    assertCallFails(
+        "Invalid value true of parameter clip of Page.captureScreenshot, expected object.",
+        "Page.captureScreenshot",
+        Collections.singletonMap("clip", true));
+    assertCallFails(
+        "Invalid value 1 of parameter fromSurface of Page.captureScreenshot, expected boolean.",
+        "Page.captureScreenshot",
+        Collections.singletonMap("fromSurface", 1));
+    assertCallFails(
+        "Invalid value 1 of parameter scriptIds of Runtime.getIsolateIds, expected array.",
+        "Runtime.getIsolateIds",
+        Collections.singletonMap("scriptIds", "1"));
+    assertCallFails(
+        "Invalid value 2 of parameter scriptIds of Runtime.getIsolateIds, expected string.",
+        "Runtime.getIsolateIds",
+        Collections.singletonMap("scriptIds", Arrays.asList("1", 2)));
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("url", "https://github.com");
+    params.put("transitionType", "unknown");
+    assertCallFails(
+        "Invalid value unknown of parameter transitionType of Page.navigate, expected one of "
+            + "[link, typed, reload].",
+        "Page.navigate",
+        params);
+
+    try {
+      client.call(
+          "Page.navigate",
+          Collections.singletonMap("url", "https://github.com"),
+          "unknown",
+          String.class);
+      fail("Expected exception.");
+    } catch (DynamicProtocolException e) {
+      assertEquals("Unknown return value unknown of Page.navigate.", e.getMessage());
+    }
+
+    verifyAll();
+  }
+
+  @Test
+  public void testOn() {
+    EventHandler<JsonNode> eventHandler = event -> {};
+
+    expect(commandInvoker.addEventListener("Page", "loadEventFired", eventHandler, JsonNode.class))
+        .andReturn(eventListener);
+
+    replayAll();
+
+    assertSame(eventListener, client.on("Page.loadEventFired", eventHandler));
+
+    try {
+      client.on("Page.unknown", eventHandler);
+      fail("Expected exception.");
+    } catch (DynamicProtocolException e) {
+      assertEquals("Unknown event Page.unknown.", e.getMessage());
+    }
+
+    verifyAll();
+  }
+
+  private void assertCallFails(String message, String method, Map<String, Object> params) {
+    try {
+      client.call(method, params);
+      fail("Expected exception.");
+    } catch (DynamicProtocolException e) {
+      assertEquals(message, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.github.kklisura.cdt.dynamic;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.services.impl.utils.TestUtils.getFixture;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.github.kklisura.cdt.dynamic.exceptions.DynamicProtocolException;
+import com.github.kklisura.cdt.dynamic.types.MethodDescriptor;
+import com.github.kklisura.cdt.dynamic.types.ParameterDescriptor;
+import com.github.kklisura.cdt.dynamic.types.ValueType;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import org.junit.Test;
+
+/**
+ * Dynamic protocol test.
+ *
+ * @author Kenan Klisura
+ */
+public class DynamicProtocolTest {
+  @Test
+  public void testRead() throws IOException {
+    DynamicProtocol protocol = DynamicProtocol.read(getFixture("protocol/dynamic-protocol.json"));
+
+    assertEquals(4, protocol.getCommands().size());
+    assertEquals(1, protocol.getEvents().size());
+    assertNull(protocol.getCommand("Page.unknown"));
+    assertNull(protocol.getCommand("Page.loadEventFired"));
+
+    MethodDescriptor navigate = protocol.getCommand("Page.navigate");
+    assertEquals("Page", navigate.getDomain());
+    assertEquals("navigate", navigate.getName());
+    assertEquals("Page.navigate", navigate.getMethod());
+    assertFalse(navigate.isExperimental());
+    assertEquals(4, navigate.getParameters().size());
+
+    assertParameter(navigate.getParameter("url"), false, ValueType.STRING, null);
+    assertParameter(navigate.getParameter("frameId"), true, ValueType.STRING, null);
+    assertParameter(navigate.getParameter("transitionType"), true, ValueType.STRING, null);
+    assertEquals(
+        new HashSet<>(Arrays.asList("link", "typed", "reload")),
+        navigate.getParameter("transitionType").getEnumValues());
+    assertNull(navigate.getParameter("url").getEnumValues());
+
+    assertParameter(navigate.getReturn("frameId"), false, ValueType.STRING, null);
+    assertParameter(navigate.getReturn("errorText"), true, ValueType.STRING, null);
+
+    MethodDescriptor captureScreenshot = protocol.getCommand("Page.captureScreenshot");
+    assertTrue(captureScreenshot.isExperimental());
+    assertParameter(captureScreenshot.getParameter("quality"), true, ValueType.INTEGER, null);
+    assertParameter(captureScreenshot.getParameter("clip"), true, ValueType.OBJECT, null);
+    assertParameter(captureScreenshot.getParameter("fromSurface"), true, ValueType.BOOLEAN, null);
+    assertParameter(captureScreenshot.getReturn("data"), false, ValueType.STRING, null);
+
+    MethodDescriptor getIsolateIds = protocol.getCommand("Runtime.getIsolateIds");
+    assertTrue(getIsolateIds.isDeprecated());
+    assertTrue(getIsolateIds.getReturns().isEmpty());
+    assertParameter(
+        getIsolateIds.getParameter("scriptIds"), false, ValueType.ARRAY, ValueType.STRING);
+    assertParameter(getIsolateIds.getParameter("limits"), true, ValueType.ARRAY, ValueType.INTEGER);
+
+    MethodDescriptor loadEventFired = protocol.getEvent("Page.loadEventFired");
+    assertEquals("Page", loadEventFired.getDomain());
+    assertEquals("loadEventFired", loadEventFired.getName());
+    assertParameter(loadEventFired.getParameter("timestamp"), false, ValueType.NUMBER, null);
+  }
+
+  @Test
+  public void testReadMergesProtocols() throws IOException {
+    DynamicProtocol protocol =
+        DynamicProtocol.read(
+            getFixture("protocol/dynamic-protocol.json"),
+            toInputStream(
+                "{\"domains\":[{\"domain\":\"Log\",\"commands\":[{\"name\":\"enable\"}],"
+                    + "\"events\":[{\"name\":\"entryAdded\"}]}]}"));
+
+    assertEquals(5, protocol.getCommands().size());
+    assertEquals(2, protocol.getEvents().size());
+    assertTrue(protocol.getCommand("Log.enable").getParameters().isEmpty());
+    assertTrue(protocol.getEvent("Log.entryAdded").getParameters().isEmpty());
+  }
+
+  @Test
+  public void testReadFailsOnUnknownType() throws IOException {
+    try {
+      DynamicProtocol.read(
+          toInputStream(
+              "{\"domains\":[{\"domain\":\"Log\",\"commands\":[{\"name\":\"enable\","
+                  + "\"parameters\":[{\"name\":\"entry\",\"$ref\":\"Runtime.Entry\"}]}]}]}"));
+      fail("Expected exception.");
+    } catch (DynamicProtocolException e) {
+      assertEquals("Unknown type Runtime.Entry in Log.", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testReadFailsOnMissingDomains() throws IOException {
+    try {
+      DynamicProtocol.read(toInputStream("{\"version\":{}}"));
+      fail("Expected exception.");
+    } catch (DynamicProtocolException e) {
+      assertEquals("Protocol definition has no domains.", e.getMessage());
+    }
+  }
+
+  private static void assertParameter(
+      ParameterDescriptor parameter, boolean optional, ValueType type, ValueType itemType) {
+    assertEquals(optional, parameter.isOptional());
+    assertEquals(type, parameter.getType());
+    assertEquals(itemType, parameter.getItemType());
+  }
+
+  private static InputStream toInputStream(String value) {
+    return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
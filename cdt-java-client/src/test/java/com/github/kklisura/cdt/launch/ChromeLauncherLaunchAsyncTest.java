@@ -0,0 +1,207 @@
+package com.github.kklisura.cdt.launch;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.github.kklisura.cdt.launch.ChromeLauncher.ShutdownHookRegistry;
+import com.github.kklisura.cdt.launch.config.ChromeLauncherConfiguration;
+import com.github.kklisura.cdt.launch.exceptions.ChromeProcessException;
+import com.github.kklisura.cdt.launch.exceptions.ChromeProcessTimeoutException;
+import com.github.kklisura.cdt.launch.support.ProcessLauncher;
+import com.github.kklisura.cdt.services.impl.ChromeServiceImpl;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Chrome launcher async launch test.
+ *
+ * @author Kenan Klisura
+ */
+public class ChromeLauncherLaunchAsyncTest {
+  private static final String DEVTOOLS_ACTIVE_PORT = "DevToolsActivePort";
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path userDataDir;
+
+  private StubProcess process;
+
+  private ChromeLauncher launcher;
+
+  @Before
+  public void setUp() throws IOException {
+    userDataDir = temporaryFolder.newFolder("user-data-dir").toPath();
+    process = new StubProcess();
+  }
+
+  @After
+  public void tearDown() {
+    launcher.close();
+  }
+
+  @Test
+  public void testLaunchAsyncDetectsPortFromDevToolsActivePortFile() throws Exception {
+    launcher =
+        createLauncher(
+            stub -> writeDevToolsActivePort(userDataDir, 9333), new ChromeLauncherConfiguration());
+
+    ChromeServiceImpl chromeService =
+        (ChromeServiceImpl)
+            launcher.launchAsync(binaryPath(), arguments()).get(5, TimeUnit.SECONDS);
+
+    assertEquals(9333, chromeService.getPort());
+  }
+
+  @Test
+  public void testLaunchAsyncDetectsPortFromListeningLine() throws Exception {
+    launcher =
+        createLauncher(
+            stub -> stub.print("DevTools listening on ws://127.0.0.1:9123/devtools/browser/id"),
+            new ChromeLauncherConfiguration());
+
+    ChromeServiceImpl chromeService =
+        (ChromeServiceImpl)
+            launcher.launchAsync(binaryPath(), arguments()).get(5, TimeUnit.SECONDS);
+
+    assertEquals(9123, chromeService.getPort());
+  }
+
+  @Test
+  public void testLaunchAsyncIgnoresStaleDevToolsActivePortFile() throws Exception {
+    writeDevToolsActivePort(userDataDir, 1111);
+
+    launcher =
+        createLauncher(
+            stub -> stub.print("DevTools listening on ws://127.0.0.1:9123/devtools/browser/id"),
+            new ChromeLauncherConfiguration());
+
+    ChromeServiceImpl chromeService =
+        (ChromeServiceImpl)
+            launcher.launchAsync(binaryPath(), arguments()).get(5, TimeUnit.SECONDS);
+
+    assertEquals(9123, chromeService.getPort());
+    assertTrue(Files.notExists(userDataDir.resolve(DEVTOOLS_ACTIVE_PORT)));
+  }
+
+  @Test
+  public void testLaunchAsyncFailsOnTimeout() throws Exception {
+    ChromeLauncherConfiguration configuration = new ChromeLauncherConfiguration();
+    configuration.setStartupWaitTime(1);
+    configuration.setThreadWaitTime(1);
+
+    launcher = createLauncher(stub -> stub.print("test"), configuration);
+
+    try {
+      launcher.launchAsync(binaryPath(), arguments()).get(10, TimeUnit.SECONDS);
+      fail("Exception not thrown on timeout.");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof ChromeProcessTimeoutException);
+      assertEquals(
+          "Failed while waiting for chrome to start: Timeout expired! Chrome output: test",
+          e.getCause().getMessage());
+    }
+  }
+
+  @Test
+  public void testLaunchAsyncFailsOnChromeExit() throws Exception {
+    launcher =
+        createLauncher(
+            stub -> {
+              stub.print("crash");
+              stub.destroy();
+            },
+            new ChromeLauncherConfiguration());
+
+    try {
+      launcher.launchAsync(binaryPath(), arguments()).get(10, TimeUnit.SECONDS);
+      fail("Exception not thrown on chrome exit.");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof ChromeProcessException);
+      assertFalse(e.getCause() instanceof ChromeProcessTimeoutException);
+      assertEquals(
+          "Failed while waiting for chrome to start: "
+              + "Chrome exited before becoming ready! Chrome output: crash",
+          e.getCause().getMessage());
+    }
+  }
+
+  private ChromeLauncher createLauncher(
+      Consumer<StubProcess> onLaunch, ChromeLauncherConfiguration configuration) {
+    ProcessLauncher processLauncher =
+        new ProcessLauncher() {
+          @Override
+          public Process launch(String program, List<String> args) {
+            onLaunch.accept(process);
+            return process;
+          }
+
+          @Override
+          public boolean isExecutable(String binaryPath) {
+            return true;
+          }
+        };
+
+    ShutdownHookRegistry shutdownHookRegistry =
+        new ShutdownHookRegistry() {
+          @Override
+          public void register(Thread thread) {}
+
+          @Override
+          public void remove(Thread thread) {}
+        };
+
+    return new ChromeLauncher(processLauncher, name -> null, shutdownHookRegistry, configuration);
+  }
+
+  private ChromeArguments arguments() {
+    return ChromeArguments.builder().userDataDir(userDataDir.toString()).build();
+  }
+
+  private static Path binaryPath() {
+    return Paths.get("test-binary-path");
+  }
+
+  private static void writeDevToolsActivePort(Path userDataDir, int port) {
+    try {
+      Files.write(
+          userDataDir.resolve(DEVTOOLS_ACTIVE_PORT),
+          (port + "\n/devtools/browser/id\n").getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.github.kklisura.cdt.launch;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.github.kklisura.cdt.launch.ChromeLauncher.ShutdownHookRegistry;
+import com.github.kklisura.cdt.launch.config.ChromeLauncherConfiguration;
+import com.github.kklisura.cdt.launch.support.ProcessLauncher;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Chrome launcher output test.
+ *
+ * @author Kenan Klisura
+ */
+public class ChromeLauncherOutputTest {
+  private static final String LISTENING_LINE =
+      "DevTools listening on ws://127.0.0.1:9123/devtools/browser/id";
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ChromeLauncherConfiguration configuration;
+
+  private StubProcess process;
+
+  private ChromeLauncher launcher;
+
+  @Before
+  public void setUp() throws IOException {
+    configuration = new ChromeLauncherConfiguration();
+    process = new StubProcess();
+  }
+
+  @After
+  public void tearDown() {
+    if (launcher != null) {
+      launcher.close();
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void testOutputIsDrainedAfterLaunch() throws Exception {
+    configuration.setOutputBufferSize(3);
+
+    launch();
+
+    // Piped output buffer is only 1KB, so printing blocks unless output is drained.
+    for (int i = 0; i < 1000; i++) {
+      process.print("Chrome log line " + i);
+    }
+
+    awaitOutput("Chrome log line 999");
+    assertEquals(
+        Arrays.asList("Chrome log line 997", "Chrome log line 998", "Chrome log line 999"),
+        launcher.getChromeOutput());
+  }
+
+  @Test(timeout = 10000)
+  public void testOutputIsAvailableAfterCrash() throws Exception {
+    launch();
+
+    process.print("Crash line");
+    process.destroy();
+
+    awaitOutput("Crash line");
+    assertEquals(Arrays.asList(LISTENING_LINE, "Crash line"), launcher.getChromeOutput());
+  }
+
+  @Test(timeout = 10000)
+  public void testOutputIsWrittenToLogFile() throws Exception {
+    Path logFile = temporaryFolder.getRoot().toPath().resolve("logs").resolve("chrome.log");
+    configuration.setOutputLogFile(logFile.toString());
+
+    launch();
+
+    process.print("Chrome log line");
+    process.destroy();
+
+    awaitOutput("Chrome log line");
+    for (int i = 0; i < 100 && Files.readAllLines(logFile).size() < 2; i++) {
+      Thread.sleep(50);
+    }
+    assertEquals(Arrays.asList(LISTENING_LINE, "Chrome log line"), Files.readAllLines(logFile));
+  }
+
+  @Test
+  public void testGetChromeOutputBeforeLaunch() {
+    assertTrue(new ChromeLauncher(configuration).getChromeOutput().isEmpty());
+  }
+
+  private void awaitOutput(String line) throws InterruptedException {
+    while (!launcher.getChromeOutput().contains(line)) {
+      Thread.sleep(10);
+    }
+  }
+
+  private void launch() {
+    ProcessLauncher processLauncher =
+        new ProcessLauncher() {
+          @Override
+          public Process launch(String program, List<String> args) {
+            process.print(LISTENING_LINE);
+            return process;
+          }
+
+          @Override
+          public boolean isExecutable(String binaryPath) {
+            return true;
+          }
+        };
+
+    ShutdownHookRegistry shutdownHookRegistry =
+        new ShutdownHookRegistry() {
+          @Override
+          public void register(Thread thread) {}
+
+          @Override
+          public void remove(Thread thread) {}
+        };
+
+    launcher =
+        new ChromeLauncher(processLauncher, name -> null, shutdownHookRegistry, configuration);
+    launcher.launch(Paths.get("test-binary-path"), ChromeArguments.builder().build());
+  }
+}
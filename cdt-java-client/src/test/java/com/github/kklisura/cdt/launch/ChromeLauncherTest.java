@@ -36,6 +36,7 @@ import static org.powermock.api.easymock.PowerMock.replay;
 import com.github.kklisura.cdt.launch.ChromeLauncher.Environment;
 import com.github.kklisura.cdt.launch.ChromeLauncher.ShutdownHookRegistry;
 import com.github.kklisura.cdt.launch.config.ChromeLauncherConfiguration;
+import com.github.kklisura.cdt.launch.exceptions.ChromeProcessException;
 import com.github.kklisura.cdt.launch.exceptions.ChromeProcessTimeoutException;
 import com.github.kklisura.cdt.launch.support.ProcessLauncher;
 import com.github.kklisura.cdt.services.ChromeService;
@@ -475,7 +476,7 @@ public class ChromeLauncherTest extends EasyMockSupport {
   }
 
   @Test
-  public void testLaunchWithBinaryAndArgumentsThrowsExceptionOnTimeout()
+  public void testLaunchWithBinaryAndArgumentsThrowsExceptionOnChromeExit()
       throws IOException, InterruptedException {
     final Path binaryPath = Paths.get("test-binary-path");
 
@@ -513,10 +514,11 @@ public class ChromeLauncherTest extends EasyMockSupport {
 
     try {
       launcher.launch(binaryPath, chromeArguments);
-      fail("Exception not thrown on timeout.");
-    } catch (ChromeProcessTimeoutException e) {
+      fail("Exception not thrown on chrome exit.");
+    } catch (ChromeProcessException e) {
       assertEquals(
-          "Failed while waiting for chrome to start: Timeout expired! Chrome output: test\ntest",
+          "Failed while waiting for chrome to start: "
+              + "Chrome exited before becoming ready! Chrome output: test\ntest",
           e.getMessage());
     }
 
@@ -524,7 +526,7 @@ public class ChromeLauncherTest extends EasyMockSupport {
   }
 
   @Test
-  public void testLaunchWithBinaryAndArgumentsThrowsExceptionOnTimeoutForciblyClosingProcess()
+  public void testLaunchWithBinaryAndArgumentsThrowsExceptionOnChromeExitForciblyClosingProcess()
       throws IOException, InterruptedException {
     final Path binaryPath = Paths.get("test-binary-path");
 
@@ -564,10 +566,11 @@ public class ChromeLauncherTest extends EasyMockSupport {
 
     try {
       launcher.launch(binaryPath, chromeArguments);
-      fail("Exception not thrown on timeout.");
-    } catch (ChromeProcessTimeoutException e) {
+      fail("Exception not thrown on chrome exit.");
+    } catch (ChromeProcessException e) {
       assertEquals(
-          "Failed while waiting for chrome to start: Timeout expired! Chrome output: test\n",
+          "Failed while waiting for chrome to start: "
+              + "Chrome exited before becoming ready! Chrome output: test\n",
           e.getMessage());
     }
 
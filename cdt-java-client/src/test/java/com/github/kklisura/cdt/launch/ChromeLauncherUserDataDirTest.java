@@ -0,0 +1,184 @@
+package com.github.kklisura.cdt.launch;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.github.kklisura.cdt.launch.ChromeLauncher.ShutdownHookRegistry;
+import com.github.kklisura.cdt.launch.config.ChromeLauncherConfiguration;
+import com.github.kklisura.cdt.launch.config.ChromeLauncherConfiguration.UserDataDirCopyMode;
+import com.github.kklisura.cdt.launch.support.ProcessLauncher;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Chrome launcher user data dir test.
+ *
+ * @author Kenan Klisura
+ */
+public class ChromeLauncherUserDataDirTest {
+  private static final String USER_DATA_DIR_ARGUMENT = "--user-data-dir=";
+
+  private static final byte[] PREFERENCES = "{}".getBytes(StandardCharsets.UTF_8);
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path template;
+
+  private ChromeLauncherConfiguration configuration;
+
+  private Path userDataDir;
+
+  private ChromeLauncher launcher;
+
+  private Thread shutdownHook;
+
+  @Before
+  public void setUp() throws IOException {
+    template = temporaryFolder.newFolder("template").toPath();
+    Files.createDirectories(template.resolve("Default"));
+    Files.write(template.resolve("Default").resolve("Preferences"), PREFERENCES);
+    Files.write(template.resolve("SingletonLock"), new byte[0]);
+    Files.write(template.resolve("Local State"), PREFERENCES);
+
+    configuration = new ChromeLauncherConfiguration();
+    configuration.setUserDataDirTemplate(template.toString());
+  }
+
+  @After
+  public void tearDown() {
+    if (launcher != null) {
+      launcher.close();
+    }
+  }
+
+  @Test
+  public void testLaunchCopiesUserDataDirTemplate() throws IOException {
+    launch();
+
+    assertArrayEquals(
+        PREFERENCES, Files.readAllBytes(userDataDir.resolve("Default").resolve("Preferences")));
+    assertTrue(Files.exists(userDataDir.resolve("Local State")));
+    assertFalse(Files.exists(userDataDir.resolve("SingletonLock")));
+    assertFalse(
+        Files.isSameFile(template.resolve("Local State"), userDataDir.resolve("Local State")));
+  }
+
+  @Test
+  public void testLaunchReflinksUserDataDirTemplate() throws IOException {
+    configuration.setUserDataDirCopyMode(UserDataDirCopyMode.REFLINK);
+
+    launch();
+
+    assertArrayEquals(
+        PREFERENCES, Files.readAllBytes(userDataDir.resolve("Default").resolve("Preferences")));
+    assertFalse(Files.exists(userDataDir.resolve("SingletonLock")));
+  }
+
+  @Test
+  public void testCloseDeletesUserDataDirInBackground() throws Exception {
+    configuration.setAsyncUserDataDirCleanup(true);
+
+    launch();
+    launcher.close();
+
+    for (int i = 0; i < 100 && Files.exists(userDataDir); i++) {
+      Thread.sleep(50);
+    }
+    assertFalse(Files.exists(userDataDir));
+  }
+
+  @Test
+  public void testShutdownHookDeletesUserDataDirSynchronously() throws Exception {
+    configuration.setAsyncUserDataDirCleanup(true);
+
+    launch();
+
+    assertNotNull(shutdownHook);
+    shutdownHook.run();
+
+    assertFalse(Files.exists(userDataDir));
+  }
+
+  @Test
+  public void testCloseDeletesUserDataDirOfCrashedProcess() throws Exception {
+    StubProcess process = launch();
+
+    process.destroy();
+    launcher.close();
+
+    assertFalse(Files.exists(userDataDir));
+  }
+
+  private StubProcess launch() throws IOException {
+    final StubProcess process = new StubProcess();
+
+    ProcessLauncher processLauncher =
+        new ProcessLauncher() {
+          @Override
+          public Process launch(String program, List<String> args) {
+            for (String arg : args) {
+              if (arg.startsWith(USER_DATA_DIR_ARGUMENT)) {
+                userDataDir = Paths.get(arg.substring(USER_DATA_DIR_ARGUMENT.length()));
+              }
+            }
+
+            process.print("DevTools listening on ws://127.0.0.1:9123/devtools/browser/id");
+            return process;
+          }
+
+          @Override
+          public boolean isExecutable(String binaryPath) {
+            return true;
+          }
+        };
+
+    ShutdownHookRegistry shutdownHookRegistry =
+        new ShutdownHookRegistry() {
+          @Override
+          public void register(Thread thread) {
+            shutdownHook = thread;
+          }
+
+          @Override
+          public void remove(Thread thread) {}
+        };
+
+    launcher =
+        new ChromeLauncher(processLauncher, name -> null, shutdownHookRegistry, configuration);
+    launcher.launch(Paths.get("test-binary-path"), ChromeArguments.builder().build());
+
+    assertNotNull(userDataDir);
+    return process;
+  }
+}
@@ -0,0 +1,99 @@
+package com.github.kklisura.cdt.launch;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Chrome process stand-in whose output stays open until the process is destroyed.
+ *
+ * @author Kenan Klisura
+ */
+class StubProcess extends Process {
+  private final PipedOutputStream output = new PipedOutputStream();
+
+  private final PipedInputStream input;
+
+  private volatile boolean alive = true;
+
+  StubProcess() throws IOException {
+    input = new PipedInputStream(output);
+  }
+
+  void print(String line) {
+    try {
+      output.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+      output.flush();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public OutputStream getOutputStream() {
+    return new ByteArrayOutputStream();
+  }
+
+  @Override
+  public InputStream getInputStream() {
+    return input;
+  }
+
+  @Override
+  public InputStream getErrorStream() {
+    return new ByteArrayInputStream(new byte[0]);
+  }
+
+  @Override
+  public int waitFor() {
+    return 0;
+  }
+
+  @Override
+  public int exitValue() {
+    if (alive) {
+      throw new IllegalThreadStateException();
+    }
+    return 0;
+  }
+
+  @Override
+  public boolean isAlive() {
+    return alive;
+  }
+
+  @Override
+  public void destroy() {
+    alive = false;
+    try {
+      output.close();
+    } catch (IOException e) {
+      // Ignore this exception.
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.github.kklisura.cdt.launch.support;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Process output buffer test.
+ *
+ * @author Kenan Klisura
+ */
+public class ProcessOutputBufferTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testKeepsLastLines() {
+    ProcessOutputBuffer buffer = new ProcessOutputBuffer(2);
+    assertTrue(buffer.getLines().isEmpty());
+    assertEquals("", buffer.toString());
+
+    buffer.append("line 1");
+    buffer.append("line 2");
+    buffer.append("line 3");
+
+    assertEquals(Arrays.asList("line 2", "line 3"), buffer.getLines());
+    assertEquals("line 2" + System.lineSeparator() + "line 3", buffer.toString());
+  }
+
+  @Test
+  public void testZeroCapacity() {
+    ProcessOutputBuffer buffer = new ProcessOutputBuffer(0);
+    buffer.append("line 1");
+
+    assertEquals(Collections.emptyList(), buffer.getLines());
+  }
+
+  @Test
+  public void testIgnoresLinesAfterClose() {
+    ProcessOutputBuffer buffer = new ProcessOutputBuffer(2);
+    buffer.append("line 1");
+    buffer.close();
+    buffer.append("line 2");
+
+    assertEquals(Collections.singletonList("line 1"), buffer.getLines());
+  }
+
+  @Test
+  public void testRotatesLogFile() throws Exception {
+    Path logFile = temporaryFolder.getRoot().toPath().resolve("chrome.log");
+    int lineSize = ("line 1" + System.lineSeparator()).length();
+
+    ProcessOutputBuffer buffer = new ProcessOutputBuffer(1, logFile.toString(), 2 * lineSize, 2);
+    for (int i = 1; i <= 7; i++) {
+      buffer.append("line " + i);
+    }
+    buffer.close();
+
+    assertEquals(Collections.singletonList("line 7"), Files.readAllLines(logFile));
+    assertEquals(
+        Arrays.asList("line 5", "line 6"),
+        Files.readAllLines(logFile.resolveSibling("chrome.log.1")));
+    assertEquals(
+        Arrays.asList("line 3", "line 4"),
+        Files.readAllLines(logFile.resolveSibling("chrome.log.2")));
+    assertFalse(Files.exists(logFile.resolveSibling("chrome.log.3")));
+  }
+
+  @Test
+  public void testAppendsToExistingLogFile() throws Exception {
+    Path logFile = temporaryFolder.getRoot().toPath().resolve("chrome.log");
+    Files.write(logFile, Collections.singletonList("previous line"));
+
+    ProcessOutputBuffer buffer = new ProcessOutputBuffer(1, logFile.toString(), 0, 0);
+    buffer.append("line 1");
+    buffer.close();
+
+    assertEquals(Arrays.asList("previous line", "line 1"), Files.readAllLines(logFile));
+  }
+}
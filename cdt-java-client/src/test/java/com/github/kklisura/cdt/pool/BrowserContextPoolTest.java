@@ -0,0 +1,177 @@
+package com.github.kklisura.cdt.pool;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.github.kklisura.cdt.pool.config.BrowserContextPoolConfiguration;
+import com.github.kklisura.cdt.pool.exceptions.BrowserContextPoolException;
+import com.github.kklisura.cdt.protocol.commands.Target;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.ChromeService;
+import com.github.kklisura.cdt.services.exceptions.ChromeDevToolsInvocationException;
+import java.util.concurrent.TimeUnit;
+import org.easymock.EasyMockRunner;
+import org.easymock.EasyMockSupport;
+import org.easymock.Mock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Browser context pool test.
+ *
+ * @author Kenan Klisura
+ */
+@RunWith(EasyMockRunner.class)
+public class BrowserContextPoolTest extends EasyMockSupport {
+  @Mock private ChromeService chromeService;
+
+  @Mock private ChromeDevToolsService browserDevToolsService;
+
+  @Mock private ChromeDevToolsService tabDevToolsService;
+
+  @Mock private Target target;
+
+  private BrowserContextPoolConfiguration configuration;
+
+  @Before
+  public void setUp() {
+    configuration = new BrowserContextPoolConfiguration();
+    configuration.setMaxContexts(1);
+
+    expect(browserDevToolsService.getTarget()).andReturn(target).anyTimes();
+  }
+
+  @Test
+  public void testLeaseCreatesTabsAndDisposesContext() {
+    expect(target.createBrowserContext()).andReturn("context-id");
+    expect(target.createTarget("https://github.com", null, null, "context-id", null, null, null))
+        .andReturn("target-id");
+    expect(browserDevToolsService.attachToTarget("target-id")).andReturn(tabDevToolsService);
+
+    target.disposeBrowserContext("context-id");
+    expect(tabDevToolsService.isClosed()).andReturn(true);
+
+    replayAll();
+
+    BrowserContextPool pool = new BrowserContextPool(browserDevToolsService, configuration);
+
+    BrowserContextLease lease = pool.lease();
+    assertEquals("context-id", lease.getBrowserContextId());
+    assertEquals(1, pool.getLeasedCount());
+
+    assertSame(tabDevToolsService, lease.createTab("https://github.com"));
+    assertEquals(1, lease.getTabs().size());
+
+    lease.close();
+
+    // Releasing the lease again has no effect.
+    pool.release(lease);
+
+    assertEquals(0, pool.getLeasedCount());
+
+    try {
+      lease.createTab("https://github.com");
+      fail("Expected exception.");
+    } catch (BrowserContextPoolException e) {
+      assertEquals("Browser context lease is released.", e.getMessage());
+    }
+
+    verifyAll();
+  }
+
+  @Test
+  public void testLeaseTimeoutOnMaxContexts() {
+    expect(target.createBrowserContext()).andReturn("context-id");
+
+    replayAll();
+
+    BrowserContextPool pool = new BrowserContextPool(browserDevToolsService, configuration);
+    pool.lease();
+
+    try {
+      pool.lease(100, TimeUnit.MILLISECONDS);
+      fail("Expected exception.");
+    } catch (BrowserContextPoolException e) {
+      assertEquals("Timeout expired while waiting for a browser context.", e.getMessage());
+    }
+
+    verifyAll();
+  }
+
+  @Test
+  public void testLeaseReleasesPermitOnFailure() {
+    expect(target.createBrowserContext())
+        .andThrow(new ChromeDevToolsInvocationException("Failed."));
+    expect(target.createBrowserContext()).andReturn("context-id");
+
+    replayAll();
+
+    BrowserContextPool pool = new BrowserContextPool(browserDevToolsService, configuration);
+
+    try {
+      pool.lease();
+      fail("Expected exception.");
+    } catch (BrowserContextPoolException e) {
+      assertEquals("Failed creating browser context.", e.getMessage());
+    }
+
+    assertEquals("context-id", pool.lease().getBrowserContextId());
+
+    verifyAll();
+  }
+
+  @Test
+  public void testCloseDisposesContextsAndClosesOwnedBrowserService() {
+    expect(chromeService.createBrowserDevToolsService()).andReturn(browserDevToolsService);
+    expect(target.createBrowserContext()).andReturn("context-id");
+    target.disposeBrowserContext("context-id");
+    expectLastCall().andThrow(new ChromeDevToolsInvocationException("Failed."));
+
+    expect(browserDevToolsService.isClosed()).andReturn(false);
+    browserDevToolsService.close();
+
+    replayAll();
+
+    BrowserContextPool pool = new BrowserContextPool(chromeService, configuration);
+    pool.lease();
+
+    pool.close();
+
+    assertTrue(pool.isClosed());
+    assertEquals(0, pool.getLeasedCount());
+
+    try {
+      pool.lease();
+      fail("Expected exception.");
+    } catch (BrowserContextPoolException e) {
+      assertEquals("Browser context pool is closed.", e.getMessage());
+    }
+
+    verifyAll();
+  }
+}
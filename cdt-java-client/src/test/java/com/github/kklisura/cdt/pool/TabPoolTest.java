@@ -0,0 +1,343 @@
+package com.github.kklisura.cdt.pool;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.anyString;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
+import static org.easymock.EasyMock.isNull;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kklisura.cdt.pool.config.TabPoolConfiguration;
+import com.github.kklisura.cdt.pool.exceptions.TabPoolException;
+import com.github.kklisura.cdt.protocol.commands.Network;
+import com.github.kklisura.cdt.protocol.commands.Page;
+import com.github.kklisura.cdt.protocol.commands.Storage;
+import com.github.kklisura.cdt.protocol.events.network.RequestWillBeSent;
+import com.github.kklisura.cdt.protocol.events.page.FrameNavigated;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.types.network.Cookie;
+import com.github.kklisura.cdt.protocol.types.network.Request;
+import com.github.kklisura.cdt.protocol.types.page.Frame;
+import com.github.kklisura.cdt.protocol.types.page.FrameTree;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import com.github.kklisura.cdt.services.ChromeService;
+import com.github.kklisura.cdt.services.exceptions.ChromeDevToolsInvocationException;
+import com.github.kklisura.cdt.services.types.ChromeTab;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import org.easymock.Capture;
+import org.easymock.CaptureType;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tab pool test.
+ *
+ * @author Kenan Klisura
+ */
+public class TabPoolTest extends EasyMockSupport {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private ChromeService chromeService;
+
+  private ChromeDevToolsService devToolsService;
+
+  private Page page;
+
+  private Network network;
+
+  private Storage storage;
+
+  private ChromeTab tab;
+
+  private TabPoolConfiguration configuration;
+
+  @Before
+  public void setUp() throws IOException {
+    chromeService = createMock(ChromeService.class);
+    devToolsService = createNiceMock(ChromeDevToolsService.class);
+    page = createNiceMock(Page.class);
+    network = createNiceMock(Network.class);
+    storage = createNiceMock(Storage.class);
+
+    tab = createTab("tab-id");
+
+    configuration = new TabPoolConfiguration();
+    configuration.setPoolSize(1);
+    configuration.setLeaseTimeout(1);
+
+    expect(devToolsService.getPage()).andReturn(page).anyTimes();
+    expect(devToolsService.getNetwork()).andReturn(network).anyTimes();
+    expect(devToolsService.getStorage()).andReturn(storage).anyTimes();
+  }
+
+  @Test
+  public void testPoolCreatesTabsUpfront() throws IOException {
+    ChromeTab secondTab = createTab("second-tab-id");
+    ChromeDevToolsService secondDevToolsService = createNiceMock(ChromeDevToolsService.class);
+    expect(secondDevToolsService.getPage()).andReturn(page).anyTimes();
+    expect(secondDevToolsService.getNetwork()).andReturn(network).anyTimes();
+
+    expect(chromeService.createTab()).andReturn(tab);
+    expect(chromeService.createDevToolsService(anyObject(), anyObject()))
+        .andReturn(devToolsService);
+    expect(chromeService.createTab()).andReturn(secondTab);
+    expect(chromeService.createDevToolsService(anyObject(), anyObject()))
+        .andReturn(secondDevToolsService);
+
+    page.enable();
+    expectLastCall().times(2);
+    network.enable();
+    expectLastCall().times(2);
+
+    replayAll();
+
+    configuration.setPoolSize(2);
+    TabPool tabPool = new TabPool(chromeService, configuration);
+
+    verifyAll();
+
+    assertEquals(2, tabPool.getIdleCount());
+    assertEquals(0, tabPool.getLeasedCount());
+  }
+
+  @Test
+  public void testReleaseResetsTab() {
+    Capture<EventHandler<FrameNavigated>> frameNavigatedCapture = Capture.newInstance();
+    Capture<EventHandler<RequestWillBeSent>> requestWillBeSentCapture = Capture.newInstance();
+
+    expectTabCreated(tab, devToolsService);
+    expect(page.onFrameNavigated(capture(frameNavigatedCapture))).andReturn(null).times(2);
+    expect(network.onRequestWillBeSent(capture(requestWillBeSentCapture))).andReturn(null).times(2);
+    expect(page.getFrameTree()).andReturn(createFrameTree("https://iframe.com", "://"));
+
+    Capture<String> deletedCookiesCapture = Capture.newInstance(CaptureType.ALL);
+
+    devToolsService.removeAllEventListeners();
+    expect(page.navigate("about:blank")).andReturn(null);
+    expect(network.getAllCookies())
+        .andReturn(
+            Arrays.asList(
+                createCookie("session", ".example.com", "/"),
+                createCookie("account", "www.example.com", "/account"),
+                createCookie("tracker", ".tracker.com", "/"),
+                createCookie("other", "other.com", "/")));
+    network.deleteCookies(capture(deletedCookiesCapture), isNull(), anyString(), anyString());
+    expectLastCall().times(3);
+    storage.clearDataForOrigin("https://www.example.com", "all");
+    storage.clearDataForOrigin("https://iframe.com", "all");
+
+    replayAll();
+
+    TabPool tabPool = new TabPool(chromeService, configuration);
+
+    TabLease lease = tabPool.lease();
+    assertSame(tab, lease.getTab());
+    assertSame(devToolsService, lease.getDevToolsService());
+    assertEquals(0, tabPool.getIdleCount());
+    assertEquals(1, tabPool.getLeasedCount());
+
+    frameNavigatedCapture.getValue().onEvent(createFrameNavigated("https://www.example.com"));
+    requestWillBeSentCapture
+        .getValue()
+        .onEvent(createRequestWillBeSent("https://cdn.tracker.com/pixel.gif"));
+
+    lease.close();
+
+    // Releasing the lease again has no effect.
+    tabPool.release(lease);
+
+    assertEquals(1, tabPool.getIdleCount());
+    assertEquals(0, tabPool.getLeasedCount());
+
+    TabLease nextLease = tabPool.lease();
+    assertSame(tab, nextLease.getTab());
+
+    verifyAll();
+
+    // Path scoped cookie and cookie of subresource request are deleted as well.
+    assertEquals(
+        new HashSet<>(Arrays.asList("session", "account", "tracker")),
+        new HashSet<>(deletedCookiesCapture.getValues()));
+  }
+
+  @Test
+  public void testReleaseDiscardsTabOnFailedReset() throws IOException {
+    ChromeTab replacementTab = createTab("replacement-tab-id");
+    ChromeDevToolsService replacementDevToolsService = createNiceMock(ChromeDevToolsService.class);
+    expect(replacementDevToolsService.getPage()).andReturn(page).anyTimes();
+    expect(replacementDevToolsService.getNetwork()).andReturn(network).anyTimes();
+
+    expectTabCreated(tab, devToolsService);
+
+    expect(page.navigate("about:blank"))
+        .andThrow(new ChromeDevToolsInvocationException("Target crashed."));
+
+    devToolsService.close();
+    chromeService.closeTab(tab);
+
+    expectTabCreated(replacementTab, replacementDevToolsService);
+
+    replayAll();
+
+    TabPool tabPool = new TabPool(chromeService, configuration);
+
+    tabPool.lease().close();
+
+    assertEquals(1, tabPool.getIdleCount());
+    assertSame(replacementTab, tabPool.lease().getTab());
+
+    verifyAll();
+  }
+
+  @Test
+  public void testReleaseRecyclesTabAfterMaxUses() throws IOException {
+    ChromeTab replacementTab = createTab("replacement-tab-id");
+    ChromeDevToolsService replacementDevToolsService = createNiceMock(ChromeDevToolsService.class);
+    expect(replacementDevToolsService.getPage()).andReturn(page).anyTimes();
+    expect(replacementDevToolsService.getNetwork()).andReturn(network).anyTimes();
+
+    expectTabCreated(tab, devToolsService);
+
+    devToolsService.close();
+    chromeService.closeTab(tab);
+
+    expectTabCreated(replacementTab, replacementDevToolsService);
+
+    replayAll();
+
+    configuration.setMaxUses(1);
+    TabPool tabPool = new TabPool(chromeService, configuration);
+
+    tabPool.lease().close();
+
+    assertSame(replacementTab, tabPool.lease().getTab());
+
+    verifyAll();
+  }
+
+  @Test
+  public void testLeaseTimeout() {
+    expectTabCreated(tab, devToolsService);
+
+    replayAll();
+
+    TabPool tabPool = new TabPool(chromeService, configuration);
+    tabPool.lease();
+
+    try {
+      tabPool.lease(100, TimeUnit.MILLISECONDS);
+      fail("Expected exception.");
+    } catch (TabPoolException e) {
+      assertEquals("Timeout expired while waiting for a tab.", e.getMessage());
+    }
+
+    verifyAll();
+  }
+
+  @Test
+  public void testClose() {
+    expectTabCreated(tab, devToolsService);
+
+    devToolsService.close();
+    chromeService.closeTab(tab);
+
+    replayAll();
+
+    TabPool tabPool = new TabPool(chromeService, configuration);
+    tabPool.close();
+
+    assertTrue(tabPool.isClosed());
+    assertEquals(0, tabPool.getIdleCount());
+
+    try {
+      tabPool.lease();
+      fail("Expected exception.");
+    } catch (TabPoolException e) {
+      assertEquals("Tab pool is closed.", e.getMessage());
+    }
+
+    verifyAll();
+  }
+
+  private void expectTabCreated(ChromeTab chromeTab, ChromeDevToolsService chromeDevToolsService) {
+    expect(chromeService.createTab()).andReturn(chromeTab);
+    expect(chromeService.createDevToolsService(anyObject(), anyObject()))
+        .andReturn(chromeDevToolsService);
+  }
+
+  private static ChromeTab createTab(String id) throws IOException {
+    return OBJECT_MAPPER.readerFor(ChromeTab.class).readValue("{\"id\":\"" + id + "\"}");
+  }
+
+  private static FrameNavigated createFrameNavigated(String origin) {
+    Frame frame = new Frame();
+    frame.setSecurityOrigin(origin);
+
+    FrameNavigated frameNavigated = new FrameNavigated();
+    frameNavigated.setFrame(frame);
+    return frameNavigated;
+  }
+
+  private static RequestWillBeSent createRequestWillBeSent(String url) {
+    Request request = new Request();
+    request.setUrl(url);
+
+    RequestWillBeSent requestWillBeSent = new RequestWillBeSent();
+    requestWillBeSent.setRequest(request);
+    return requestWillBeSent;
+  }
+
+  private static Cookie createCookie(String name, String domain, String path) {
+    Cookie cookie = new Cookie();
+    cookie.setName(name);
+    cookie.setDomain(domain);
+    cookie.setPath(path);
+    return cookie;
+  }
+
+  private static FrameTree createFrameTree(String childOrigin, String origin) {
+    Frame childFrame = new Frame();
+    childFrame.setSecurityOrigin(childOrigin);
+
+    FrameTree childFrameTree = new FrameTree();
+    childFrameTree.setFrame(childFrame);
+
+    Frame frame = new Frame();
+    frame.setSecurityOrigin(origin);
+
+    FrameTree frameTree = new FrameTree();
+    frameTree.setFrame(frame);
+    frameTree.setChildFrames(Collections.singletonList(childFrameTree));
+    return frameTree;
+  }
+}
@@ -0,0 +1,242 @@
+package com.github.kklisura.cdt.protocol.codecs;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.services.impl.utils.TestUtils.getFixture;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kklisura.cdt.protocol.events.dom.SetChildNodes;
+import com.github.kklisura.cdt.protocol.support.codecs.JsonCodecs;
+import com.github.kklisura.cdt.protocol.types.debugger.CallFrame;
+import com.github.kklisura.cdt.protocol.types.dom.Node;
+import com.github.kklisura.cdt.protocol.types.dom.PseudoType;
+import com.github.kklisura.cdt.protocol.types.dom.ShadowRootType;
+import com.github.kklisura.cdt.protocol.types.domsnapshot.LayoutTreeSnapshot;
+import com.github.kklisura.cdt.protocol.types.network.Response;
+import com.github.kklisura.cdt.protocol.types.runtime.RemoteObject;
+import com.github.kklisura.cdt.protocol.types.runtime.RemoteObjectType;
+import com.github.kklisura.cdt.protocol.types.security.SecurityState;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+/**
+ * Protocol codecs test. Codecs should bind types the same way as reflective binding does.
+ *
+ * @author Kenan Klisura
+ */
+public class ProtocolCodecsTest {
+  private static final ObjectMapper REFLECTIVE_MAPPER =
+      new ObjectMapper()
+          .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private static final ObjectMapper CODEC_MAPPER =
+      new ObjectMapper()
+          .registerModule(ProtocolCodecs.createModule())
+          .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  @Test
+  public void testReadNodeTree() throws IOException {
+    Node node = read("protocol/dom-node.json", Node.class);
+
+    assertEquals(
+        REFLECTIVE_MAPPER.valueToTree(
+            read(REFLECTIVE_MAPPER, "protocol/dom-node.json", Node.class)),
+        REFLECTIVE_MAPPER.valueToTree(node));
+
+    assertEquals("#document", node.getNodeName());
+    assertEquals(2, node.getChildren().size());
+    assertEquals(Arrays.asList("lang", "en"), node.getChildren().get(1).getAttributes());
+
+    Node body = node.getChildren().get(1).getChildren().get(0);
+    assertEquals(Collections.emptyList(), body.getAttributes());
+    assertEquals(PseudoType.BEFORE, body.getPseudoElements().get(0).getPseudoType());
+    assertEquals(ShadowRootType.USER_AGENT, body.getShadowRoots().get(0).getShadowRootType());
+    assertNull(body.getShadowRoots().get(0).getChildren());
+  }
+
+  @Test
+  public void testReadResponse() throws IOException {
+    Response response = read("protocol/network-response.json", Response.class);
+
+    assertEquals(
+        REFLECTIVE_MAPPER.valueToTree(
+            read(REFLECTIVE_MAPPER, "protocol/network-response.json", Response.class)),
+        REFLECTIVE_MAPPER.valueToTree(response));
+
+    assertEquals(Integer.valueOf(200), response.getStatus());
+    assertEquals(Double.valueOf(26), response.getConnectionId());
+    assertEquals("text/html; charset=UTF-8", response.getHeaders().get("content-type"));
+    assertEquals(SecurityState.SECURE, response.getSecurityState());
+    assertEquals(Double.valueOf(-1), response.getTiming().getProxyStart());
+  }
+
+  @Test
+  public void testWrite() throws IOException {
+    Node node = read("protocol/dom-node.json", Node.class);
+    Response response = read("protocol/network-response.json", Response.class);
+
+    assertEquals(
+        REFLECTIVE_MAPPER.valueToTree(node),
+        REFLECTIVE_MAPPER.readTree(CODEC_MAPPER.writeValueAsString(node)));
+    assertEquals(
+        REFLECTIVE_MAPPER.valueToTree(response),
+        REFLECTIVE_MAPPER.readTree(CODEC_MAPPER.writeValueAsString(response)));
+  }
+
+  @Test
+  public void testReadAndWriteKeywordProperty() throws IOException {
+    CallFrame callFrame =
+        CODEC_MAPPER
+            .readerFor(CallFrame.class)
+            .readValue(
+                "{\"callFrameId\":\"1\",\"this\":{\"type\":\"object\",\"objectId\":\"2\","
+                    + "\"value\":{\"a\":[1,2.5,null]}}}");
+
+    assertEquals("1", callFrame.getCallFrameId());
+    assertEquals(RemoteObjectType.OBJECT, callFrame.getThat().getType());
+    assertEquals("2", callFrame.getThat().getObjectId());
+    assertEquals(
+        Collections.singletonMap("a", Arrays.asList(1, 2.5, null)), callFrame.getThat().getValue());
+
+    JsonNode written = REFLECTIVE_MAPPER.readTree(CODEC_MAPPER.writeValueAsString(callFrame));
+    assertEquals("2", written.get("this").get("objectId").asText());
+    assertEquals(2.5, written.get("this").get("value").get("a").get(1).asDouble(), 0);
+  }
+
+  @Test
+  public void testReadAndWriteUntypedValues() throws IOException {
+    String json =
+        "{\"type\":\"object\",\"value\":{\"int\":1,\"long\":12345678901,"
+            + "\"big\":123456789012345678901,\"double\":1.5,\"flag\":true,"
+            + "\"text\":\"a\",\"empty\":null,\"nested\":{\"list\":[{},[false]]}}}";
+
+    RemoteObject reflective = REFLECTIVE_MAPPER.readerFor(RemoteObject.class).readValue(json);
+    RemoteObject remoteObject = CODEC_MAPPER.readerFor(RemoteObject.class).readValue(json);
+
+    assertEquals(reflective.getValue(), remoteObject.getValue());
+    assertEquals(
+        REFLECTIVE_MAPPER.readTree(REFLECTIVE_MAPPER.writeValueAsString(reflective)),
+        REFLECTIVE_MAPPER.readTree(CODEC_MAPPER.writeValueAsString(remoteObject)));
+  }
+
+  @Test
+  public void testReadNestedLists() throws IOException {
+    LayoutTreeSnapshot snapshot =
+        CODEC_MAPPER
+            .readerFor(LayoutTreeSnapshot.class)
+            .readValue("{\"styles\":[[1,2],[],[3]],\"bounds\":[[0.5,1]]}");
+
+    assertEquals(
+        Arrays.asList(Arrays.asList(1, 2), Collections.emptyList(), Collections.singletonList(3)),
+        snapshot.getStyles());
+    assertEquals(Collections.singletonList(Arrays.asList(0.5, 1.0)), snapshot.getBounds());
+  }
+
+  @Test
+  public void testReadAndWritePrimitiveArrays() throws IOException {
+    JsonFactory jsonFactory = new JsonFactory();
+
+    int[] indexes = new int[40];
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = i * 3;
+    }
+
+    try (JsonParser parser = jsonFactory.createParser(Arrays.toString(indexes))) {
+      parser.nextToken();
+      assertArrayEquals(indexes, JsonCodecs.readIntArray(parser));
+    }
+
+    double[][] bounds;
+    try (JsonParser parser = jsonFactory.createParser("[[0.5,1],[],null]")) {
+      parser.nextToken();
+      bounds = JsonCodecs.readDoubleArrays(parser);
+    }
+
+    assertEquals(3, bounds.length);
+    assertArrayEquals(new double[] {0.5, 1}, bounds[0], 0);
+    assertEquals(0, bounds[1].length);
+    assertNull(bounds[2]);
+
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+      JsonCodecs.writeDoubleArrays(generator, bounds);
+    }
+    assertEquals("[[0.5,1.0],[],null]", writer.toString());
+  }
+
+  @Test
+  public void testReadEvent() throws IOException {
+    SetChildNodes event =
+        CODEC_MAPPER
+            .readerFor(SetChildNodes.class)
+            .readValue("{\"parentId\":1,\"nodes\":[{\"nodeId\":2,\"pseudoType\":\"after\"}]}");
+
+    assertEquals(Integer.valueOf(1), event.getParentId());
+    assertEquals(Integer.valueOf(2), event.getNodes().get(0).getNodeId());
+    assertEquals(PseudoType.AFTER, event.getNodes().get(0).getPseudoType());
+  }
+
+  @Test
+  public void testReadUnknownEnumValueFails() throws IOException {
+    try {
+      CODEC_MAPPER.readerFor(Node.class).readValue("{\"nodeId\":1,\"pseudoType\":\"unknown\"}");
+      fail("Expected exception.");
+    } catch (JsonParseException e) {
+      assertTrue(e.getMessage().startsWith("Unknown PseudoType value unknown."));
+    }
+  }
+
+  @Test
+  public void testReadUnexpectedTokenFails() throws IOException {
+    try {
+      CODEC_MAPPER.readerFor(Node.class).readValue("{\"nodeId\":{\"a\":1}}");
+      fail("Expected exception.");
+    } catch (JsonParseException e) {
+      assertTrue(e.getMessage().startsWith("Unexpected token START_OBJECT"));
+    }
+  }
+
+  private static <T> T read(String fixture, Class<T> clazz) throws IOException {
+    return read(CODEC_MAPPER, fixture, clazz);
+  }
+
+  private static <T> T read(ObjectMapper objectMapper, String fixture, Class<T> clazz)
+      throws IOException {
+    return objectMapper.readerFor(clazz).readValue(getFixture(fixture));
+  }
+}
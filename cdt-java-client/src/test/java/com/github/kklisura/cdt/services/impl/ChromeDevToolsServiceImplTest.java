@@ -23,22 +23,39 @@ package com.github.kklisura.cdt.services.impl;
 import static org.easymock.EasyMock.*;
 import static org.junit.Assert.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.kklisura.cdt.protocol.commands.Page;
 import com.github.kklisura.cdt.protocol.support.types.EventHandler;
 import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.target.TargetInfo;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
 import com.github.kklisura.cdt.services.WebSocketService;
 import com.github.kklisura.cdt.services.config.ChromeDevToolsServiceConfiguration;
 import com.github.kklisura.cdt.services.exceptions.ChromeDevToolsInvocationException;
+import com.github.kklisura.cdt.services.exceptions.ChromeDevToolsSessionClosedException;
 import com.github.kklisura.cdt.services.exceptions.WebSocketServiceException;
 import com.github.kklisura.cdt.services.executors.EventExecutorService;
+import com.github.kklisura.cdt.services.invocation.CommandInvocationHandler;
+import com.github.kklisura.cdt.services.types.ChildSessionListener;
 import com.github.kklisura.cdt.services.types.ChromeTab;
 import com.github.kklisura.cdt.services.types.EventListenerImpl;
 import com.github.kklisura.cdt.services.types.MethodInvocation;
+import com.github.kklisura.cdt.services.types.RawEventHandler;
 import com.github.kklisura.cdt.services.utils.ProxyUtils;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import org.easymock.Capture;
+import org.easymock.CaptureType;
 import org.easymock.EasyMockRunner;
 import org.easymock.EasyMockSupport;
 import org.easymock.Mock;
@@ -64,9 +81,14 @@ public class ChromeDevToolsServiceImplTest extends EasyMockSupport {
 
   private ChromeDevToolsServiceImpl service;
 
+  private Capture<Consumer<Throwable>> closeHandlerCapture;
+
   @Before
   public void setUp() throws Exception {
+    closeHandlerCapture = Capture.newInstance();
+
     webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(capture(closeHandlerCapture));
     replayAll();
 
     ChromeDevToolsServiceConfiguration configuration = new ChromeDevToolsServiceConfiguration();
@@ -306,6 +328,142 @@ public class ChromeDevToolsServiceImplTest extends EasyMockSupport {
     assertEquals(methodInvocation.getParams(), sentInvocation.getParams());
   }
 
+  @Test
+  public void testInvokeGeneratedCommand() throws WebSocketServiceException, IOException {
+    Capture<String> messageCapture = Capture.newInstance();
+    webSocketService.send(capture(messageCapture));
+    expectLastCall()
+        .andAnswer(
+            () -> {
+              JsonNode sent = OBJECT_MAPPER.readTree(messageCapture.getValue());
+              resolveMessage(
+                  "{\"id\":" + sent.get("id").asLong() + ",\"result\":{\"frameId\":\"F1\"}}");
+              return null;
+            });
+
+    replayAll();
+
+    assertSame(service.getPage(), service.getPage());
+    assertEquals("F1", service.getPage().navigate("http://example.com").getFrameId());
+
+    verifyAll();
+
+    MethodInvocation sentInvocation =
+        OBJECT_MAPPER.readerFor(MethodInvocation.class).readValue(messageCapture.getValue());
+    assertEquals("Page.navigate", sentInvocation.getMethod());
+    assertEquals("http://example.com", sentInvocation.getParams().get("url"));
+  }
+
+  @Test
+  public void testInvokeProxyAndGeneratedCommands() throws WebSocketServiceException, IOException {
+    List<Long> sentIds = new CopyOnWriteArrayList<>();
+    Capture<String> messageCapture = Capture.newInstance(CaptureType.ALL);
+    webSocketService.send(capture(messageCapture));
+    expectLastCall()
+        .andAnswer(
+            () -> {
+              List<String> messages = messageCapture.getValues();
+              long id =
+                  OBJECT_MAPPER.readTree(messages.get(messages.size() - 1)).get("id").asLong();
+              sentIds.add(id);
+              resolveMessage("{\"id\":" + id + ",\"result\":{\"frameId\":\"F" + id + "\"}}");
+              return null;
+            })
+        .times(2);
+
+    replayAll();
+
+    CommandInvocationHandler invocationHandler = new CommandInvocationHandler();
+    invocationHandler.setChromeDevToolsService(service);
+    Page proxyPage = ProxyUtils.createProxy(Page.class, invocationHandler);
+
+    String proxyFrameId = proxyPage.navigate("http://example.com").getFrameId();
+    String generatedFrameId = service.getPage().navigate("http://example.com").getFrameId();
+
+    verifyAll();
+
+    // Proxy and generated invocations share one id sequence.
+    assertEquals(sentIds.get(0) + 1, (long) sentIds.get(1));
+    assertEquals("F" + sentIds.get(0), proxyFrameId);
+    assertEquals("F" + sentIds.get(1), generatedFrameId);
+  }
+
+  @Test
+  public void testInvokeBinary() throws WebSocketServiceException, IOException {
+    expectBinaryResponse("{\"other\":{\"data\":\"b3RoZXI=\"},\"data\":\"AAEC/w==\",\"size\":4}");
+
+    replayAll();
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    long written =
+        service.invokeBinary(
+            "Page.captureScreenshot", new HashMap<>(), "data", Channels.newChannel(outputStream));
+
+    verifyAll();
+
+    assertEquals(4, written);
+    assertArrayEquals(new byte[] {0, 1, 2, (byte) 255}, outputStream.toByteArray());
+  }
+
+  @Test
+  public void testInvokeBinaryWithEscapedValue() throws WebSocketServiceException, IOException {
+    expectBinaryResponse("{\"data\":\"AAEC\\/w==\"}");
+
+    replayAll();
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    long written =
+        service.invokeBinary(
+            "Page.captureScreenshot", null, "data", Channels.newChannel(outputStream));
+
+    verifyAll();
+
+    assertEquals(4, written);
+    assertArrayEquals(new byte[] {0, 1, 2, (byte) 255}, outputStream.toByteArray());
+  }
+
+  @Test(expected = ChromeDevToolsInvocationException.class)
+  public void testInvokeBinaryWithMissingValue() throws WebSocketServiceException, IOException {
+    expectBinaryResponse("{\"size\":4}");
+
+    replayAll();
+
+    service.invokeBinary(
+        "Page.captureScreenshot", null, "data", Channels.newChannel(new ByteArrayOutputStream()));
+  }
+
+  @Test
+  public void testInvokeBinaryWithError() throws WebSocketServiceException, IOException {
+    Capture<String> messageCapture = Capture.newInstance();
+    webSocketService.send(capture(messageCapture));
+    expectLastCall()
+        .andAnswer(
+            () -> {
+              JsonNode sent = OBJECT_MAPPER.readTree(messageCapture.getValue());
+              resolveMessage(
+                  "{\"id\":"
+                      + sent.get("id").asLong()
+                      + ",\"error\":{\"code\":1,\"message\":\"Error message\"}}");
+              return null;
+            });
+
+    replayAll();
+
+    ChromeDevToolsInvocationException capturedException = null;
+    try {
+      service.invokeBinary(
+          "Page.printToPDF", null, "data", Channels.newChannel(new ByteArrayOutputStream()));
+    } catch (ChromeDevToolsInvocationException ex) {
+      capturedException = ex;
+    }
+    assertNotNull(capturedException);
+
+    verifyAll();
+
+    assertEquals(1L, (long) capturedException.getCode());
+    assertEquals("Error message", capturedException.getMessage());
+  }
+
   @Test(expected = ChromeDevToolsInvocationException.class)
   public void testInvokeStringMethodWithNullResult() throws WebSocketServiceException, IOException {
     MethodInvocation methodInvocation = new MethodInvocation();
@@ -386,6 +544,7 @@ public class ChromeDevToolsServiceImplTest extends EasyMockSupport {
   public void testInvokeTestMessageMethodWithBadJson()
       throws WebSocketServiceException, IOException {
     webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
     replayAll();
 
     ChromeDevToolsServiceConfiguration configuration = new ChromeDevToolsServiceConfiguration();
@@ -709,6 +868,500 @@ public class ChromeDevToolsServiceImplTest extends EasyMockSupport {
     assertEquals("testValue", testMessageCapture.getValue().getTestProperty());
   }
 
+  @Test
+  public void testRemoveAllEventListeners() {
+    EventHandler<TestMessage> eventHandler = event -> fail("Event should not be received.");
+    RawEventHandler rawEventHandler = params -> fail("Event should not be received.");
+
+    replayAll();
+
+    service.addEventListener("Domain", "name", eventHandler, TestMessage.class);
+    service.addRawEventListener("Domain", "name", rawEventHandler);
+    CompletableFuture<TestMessage> future =
+        service.nextEvent("Domain", "name", TestMessage.class, null, 0);
+
+    service.removeAllEventListeners();
+
+    service.accept("{\"method\":\"Domain.name\",\"params\":{\"testProperty\":\"value\"}}");
+
+    verifyAll();
+
+    assertTrue(future.isCancelled());
+  }
+
+  @Test
+  public void testNextEvent() throws Exception {
+    CompletableFuture<TestMessage> future =
+        service.nextEvent(
+            "Domain",
+            "name",
+            TestMessage.class,
+            event -> "second".equals(event.getTestProperty()),
+            0);
+
+    expectEventExecutorCall(2);
+
+    replayAll();
+
+    service.accept("{\"method\":\"Domain.name\",\"params\":{\"testProperty\":\"first\"}}");
+    assertFalse(future.isDone());
+
+    service.accept("{\"method\":\"Domain.name\",\"params\":{\"testProperty\":\"second\"}}");
+    assertTrue(future.isDone());
+    assertEquals("second", future.get().getTestProperty());
+
+    // Listener is removed after completion.
+    service.accept("{\"method\":\"Domain.name\",\"params\":{\"testProperty\":\"third\"}}");
+
+    verifyAll();
+  }
+
+  @Test
+  public void testNextEventTimeout() throws Exception {
+    CompletableFuture<TestMessage> future =
+        service.nextEvent("Domain", "name", TestMessage.class, null, 1);
+
+    try {
+      future.get();
+      fail("Expected timeout.");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof TimeoutException);
+    }
+  }
+
+  @Test
+  public void testAwaitAfter() throws Exception {
+    expectEventExecutorCall(1);
+
+    replayAll();
+
+    CompletableFuture<TestMessage> future =
+        service.awaitAfter(
+            () ->
+                service.accept(
+                    "{\"method\":\"Domain.name\",\"params\":{\"testProperty\":\"value\"}}"),
+            (EventHandler<TestMessage> eventHandler) ->
+                service.addEventListener("Domain", "name", eventHandler, TestMessage.class));
+
+    assertTrue(future.isDone());
+    assertEquals("value", future.get().getTestProperty());
+
+    verifyAll();
+  }
+
+  @Test
+  public void testAwaitAfterTriggerThrowsException() throws Exception {
+    RuntimeException exception = new RuntimeException("test");
+
+    CompletableFuture<TestMessage> future =
+        service.awaitAfter(
+            () -> {
+              throw exception;
+            },
+            (EventHandler<TestMessage> eventHandler) ->
+                service.addEventListener("Domain", "name", eventHandler, TestMessage.class));
+
+    try {
+      future.get();
+      fail("Expected exception.");
+    } catch (ExecutionException e) {
+      assertEquals(exception, e.getCause());
+    }
+
+    replayAll();
+
+    service.accept("{\"method\":\"Domain.name\",\"params\":{\"testProperty\":\"value\"}}");
+
+    verifyAll();
+  }
+
+  @Test
+  public void testRawEventReceived() {
+    Capture<String> rawParamsCapture = Capture.newInstance();
+    Capture<TestMessage> testMessageCapture = Capture.newInstance();
+
+    EventListener rawEventListener =
+        service.addRawEventListener(
+            "Domain", "name", params -> rawParamsCapture.setValue(params.toString()));
+    EventHandler<TestMessage> eventHandler = testMessageCapture::setValue;
+    service.addEventListener("Domain", "name", eventHandler, TestMessage.class);
+
+    expectEventExecutorCall(1);
+
+    replayAll();
+
+    service.accept(
+        "{\"params\":{\"testProperty\":\"test}Value\",\"nested\":[{}]},\"method\":\"Domain.name\"}");
+
+    verifyAll();
+    resetAll();
+
+    assertEquals("{\"testProperty\":\"test}Value\",\"nested\":[{}]}", rawParamsCapture.getValue());
+    assertEquals("test}Value", testMessageCapture.getValue().getTestProperty());
+
+    rawParamsCapture.reset();
+    testMessageCapture.reset();
+
+    rawEventListener.unsubscribe();
+
+    expectEventExecutorCall(1);
+
+    replayAll();
+
+    service.accept("{\"method\":\"Domain.name\",\"params\":{\"testProperty\":\"testValue\"}}");
+
+    verifyAll();
+
+    assertFalse(rawParamsCapture.hasCaptured());
+    assertEquals("testValue", testMessageCapture.getValue().getTestProperty());
+  }
+
+  @Test
+  public void testRawEventReceivedWithoutParams() {
+    Capture<String> rawParamsCapture = Capture.newInstance();
+
+    service.addRawEventListener(
+        "Domain", "name", params -> rawParamsCapture.setValue(params.toString()));
+
+    expectEventExecutorCall(1);
+
+    replayAll();
+
+    service.accept("{\"method\":\"Domain.name\"}");
+
+    verifyAll();
+
+    assertEquals("{}", rawParamsCapture.getValue());
+  }
+
+  @Test
+  public void testInvokeFailsOnWebSocketClose() throws WebSocketServiceException {
+    MethodInvocation methodInvocation = createMethodInvocation();
+
+    webSocketService.send(anyObject());
+    webSocketService.close();
+    eventExecutorService.shutdown();
+
+    replayAll();
+
+    runDelayed(
+        () ->
+            closeHandlerCapture
+                .getValue()
+                .accept(new WebSocketServiceException("Web socket connection closed 1006")));
+
+    ChromeDevToolsSessionClosedException capturedException = null;
+    try {
+      service.invoke(null, Void.TYPE, null, methodInvocation);
+    } catch (ChromeDevToolsSessionClosedException ex) {
+      capturedException = ex;
+    }
+
+    verifyAll();
+
+    assertNotNull(capturedException);
+    assertEquals(
+        "Web socket connection closed: Web socket connection closed 1006",
+        capturedException.getMessage());
+    assertTrue(service.isClosed());
+  }
+
+  @Test
+  public void testInvokeFailsOnInspectorDetached() throws WebSocketServiceException {
+    MethodInvocation methodInvocation = createMethodInvocation();
+
+    webSocketService.send(anyObject());
+    webSocketService.close();
+    eventExecutorService.shutdown();
+
+    replayAll();
+
+    resolveMessage("{\"method\":\"Inspector.detached\",\"params\":{\"reason\":\"target_closed\"}}");
+
+    ChromeDevToolsSessionClosedException capturedException = null;
+    try {
+      service.invoke(null, Void.TYPE, null, methodInvocation);
+    } catch (ChromeDevToolsSessionClosedException ex) {
+      capturedException = ex;
+    }
+
+    verifyAll();
+
+    assertNotNull(capturedException);
+    assertEquals("Inspector detached: target_closed", capturedException.getMessage());
+    assertTrue(service.isClosed());
+  }
+
+  @Test
+  public void testInvokeFailsOnTargetCrashed() throws WebSocketServiceException, IOException {
+    ChromeTab chromeTab = OBJECT_MAPPER.readerFor(ChromeTab.class).readValue("{\"id\":\"tab-id\"}");
+    service.setChromeTab(chromeTab);
+
+    MethodInvocation methodInvocation = createMethodInvocation();
+
+    webSocketService.send(anyObject());
+
+    replayAll();
+
+    resolveMessage(
+        "{\"method\":\"Target.targetCrashed\",\"params\":{\"targetId\":\"tab-id\",\"status\":\"crashed\",\"errorCode\":1}}");
+
+    ChromeDevToolsSessionClosedException capturedException = null;
+    try {
+      service.invoke(null, Void.TYPE, null, methodInvocation);
+    } catch (ChromeDevToolsSessionClosedException ex) {
+      capturedException = ex;
+    }
+
+    verifyAll();
+
+    assertNotNull(capturedException);
+    assertEquals("Target crashed.", capturedException.getMessage());
+    assertFalse(service.isClosed());
+  }
+
+  @Test
+  public void testInvokeOnClosedServiceFails() {
+    webSocketService.close();
+    eventExecutorService.shutdown();
+
+    replayAll();
+
+    service.close();
+
+    try {
+      service.invoke(null, Void.TYPE, null, createMethodInvocation());
+      fail("Expected exception.");
+    } catch (ChromeDevToolsSessionClosedException ex) {
+      assertEquals("Chrome DevTools service closed.", ex.getMessage());
+    }
+
+    CompletableFuture<TestMessage> future =
+        service.nextEvent("Domain", "name", TestMessage.class, null, 0);
+    assertTrue(future.isCompletedExceptionally());
+
+    verifyAll();
+  }
+
+  @Test
+  public void testCloseFailsPendingEventFutures() throws Exception {
+    webSocketService.close();
+    eventExecutorService.shutdown();
+
+    replayAll();
+
+    CompletableFuture<TestMessage> future =
+        service.nextEvent("Domain", "name", TestMessage.class, null, 0);
+
+    service.close();
+
+    try {
+      future.get();
+      fail("Expected exception.");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof ChromeDevToolsSessionClosedException);
+    }
+
+    verifyAll();
+  }
+
+  @Test
+  public void testAutoAttachCreatesChildSessions() throws WebSocketServiceException {
+    List<JsonNode> sentMessages = new CopyOnWriteArrayList<>();
+    List<String> attachedTargets = new CopyOnWriteArrayList<>();
+    List<String> detachedTargets = new CopyOnWriteArrayList<>();
+    List<TestMessage> childEvents = new CopyOnWriteArrayList<>();
+
+    ChromeDevToolsServiceImpl rootService = createRootService();
+
+    eventExecutorService.execute(anyObject());
+    expectLastCall().andDelegateTo(immediateEventExecutorService).anyTimes();
+    expectSentMessagesAnswered(rootService, sentMessages);
+
+    replayAll();
+
+    rootService.enableAutoAttach(
+        new ChildSessionListener() {
+          @Override
+          public void onAttached(ChromeDevToolsService childService, TargetInfo targetInfo) {
+            attachedTargets.add(targetInfo.getTargetId());
+            childService.addEventListener(
+                "Domain", "name", event -> childEvents.add((TestMessage) event), TestMessage.class);
+          }
+
+          @Override
+          public void onDetached(ChromeDevToolsService childService, TargetInfo targetInfo) {
+            detachedTargets.add(targetInfo.getTargetId());
+          }
+        });
+
+    assertEquals(1, sentMessages.size());
+    assertEquals("Target.setAutoAttach", sentMessages.get(0).get("method").asText());
+    assertTrue(sentMessages.get(0).get("params").get("flatten").asBoolean());
+
+    rootService.accept(
+        "{\"method\":\"Target.attachedToTarget\",\"params\":{\"sessionId\":\"child-session\","
+            + "\"targetInfo\":{\"targetId\":\"child-target\",\"type\":\"iframe\",\"title\":\"\","
+            + "\"url\":\"https://example.com\",\"attached\":true},\"waitingForDebugger\":true}}");
+
+    assertEquals(1, attachedTargets.size());
+    assertEquals("child-target", attachedTargets.get(0));
+
+    assertEquals(2, sentMessages.size());
+    assertEquals("Runtime.runIfWaitingForDebugger", sentMessages.get(1).get("method").asText());
+    assertEquals("child-session", sentMessages.get(1).get("sessionId").asText());
+
+    List<ChromeDevToolsService> childServices = rootService.getChildServices();
+    assertEquals(1, childServices.size());
+    assertEquals("child-session", childServices.get(0).getSessionId());
+    assertNull(rootService.getSessionId());
+
+    // Events are routed to the session they belong to.
+    rootService.accept("{\"method\":\"Domain.name\",\"params\":{\"testProperty\":\"root\"}}");
+    rootService.accept(
+        "{\"method\":\"Domain.name\",\"sessionId\":\"child-session\",\"params\":{\"testProperty\":\"child\"}}");
+
+    assertEquals(1, childEvents.size());
+    assertEquals("child", childEvents.get(0).getTestProperty());
+
+    rootService.accept(
+        "{\"method\":\"Target.detachedFromTarget\",\"params\":{\"sessionId\":\"child-session\"}}");
+
+    verifyAll();
+
+    assertTrue(childServices.get(0).isClosed());
+    assertTrue(rootService.getChildServices().isEmpty());
+    assertEquals(1, detachedTargets.size());
+    assertEquals("child-target", detachedTargets.get(0));
+    assertFalse(rootService.isClosed());
+  }
+
+  @Test
+  public void testAttachToTargetAndClose() throws WebSocketServiceException {
+    List<JsonNode> sentMessages = new CopyOnWriteArrayList<>();
+
+    ChromeDevToolsServiceImpl rootService = createRootService();
+
+    expectSentMessagesAnswered(rootService, sentMessages);
+
+    webSocketService.close();
+    eventExecutorService.shutdown();
+
+    replayAll();
+
+    ChromeDevToolsService firstChild = rootService.attachToTarget("first");
+    ChromeDevToolsService secondChild = rootService.attachToTarget("second");
+
+    assertEquals("first-session", firstChild.getSessionId());
+    assertEquals("second-session", secondChild.getSessionId());
+    assertEquals(2, rootService.getChildServices().size());
+
+    secondChild.getPage().enable();
+
+    JsonNode enableMessage = sentMessages.get(sentMessages.size() - 1);
+    assertEquals("Page.enable", enableMessage.get("method").asText());
+    assertEquals("second-session", enableMessage.get("sessionId").asText());
+
+    firstChild.close();
+
+    JsonNode detachMessage = sentMessages.get(sentMessages.size() - 1);
+    assertEquals("Target.detachFromTarget", detachMessage.get("method").asText());
+    assertEquals("first-session", detachMessage.get("params").get("sessionId").asText());
+    assertNull(detachMessage.get("sessionId"));
+
+    assertTrue(firstChild.isClosed());
+    assertFalse(secondChild.isClosed());
+    assertEquals(1, rootService.getChildServices().size());
+
+    rootService.close();
+
+    verifyAll();
+
+    assertTrue(rootService.isClosed());
+    assertTrue(secondChild.isClosed());
+    assertTrue(rootService.getChildServices().isEmpty());
+  }
+
+  private ChromeDevToolsServiceImpl createRootService() throws WebSocketServiceException {
+    webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
+    replayAll();
+
+    ChromeDevToolsServiceConfiguration configuration = new ChromeDevToolsServiceConfiguration();
+    configuration.setEventExecutorService(eventExecutorService);
+    configuration.setReadTimeout(5);
+
+    ChromeDevToolsServiceImpl rootService =
+        ChromeServiceImpl.createChromeDevToolsService(webSocketService, configuration);
+
+    verifyAll();
+    resetAll();
+
+    return rootService;
+  }
+
+  private void expectSentMessagesAnswered(
+      ChromeDevToolsServiceImpl rootService, List<JsonNode> sentMessages)
+      throws WebSocketServiceException {
+    webSocketService.send(anyString());
+    expectLastCall()
+        .andAnswer(
+            () -> {
+              JsonNode message = OBJECT_MAPPER.readTree((String) getCurrentArguments()[0]);
+              sentMessages.add(message);
+
+              ObjectNode response = OBJECT_MAPPER.createObjectNode();
+              response.put("id", message.get("id").asLong());
+              if (message.has("sessionId")) {
+                response.put("sessionId", message.get("sessionId").asText());
+              }
+
+              ObjectNode result = response.putObject("result");
+              if ("Target.attachToTarget".equals(message.get("method").asText())) {
+                result.put(
+                    "sessionId", message.get("params").get("targetId").asText() + "-session");
+              }
+
+              String responseMessage = response.toString();
+              new Thread(() -> rootService.accept(responseMessage)).start();
+              return null;
+            })
+        .anyTimes();
+  }
+
+  private void expectBinaryResponse(String result) throws WebSocketServiceException {
+    Capture<String> messageCapture = Capture.newInstance();
+    webSocketService.send(capture(messageCapture));
+    expectLastCall()
+        .andAnswer(
+            () -> {
+              JsonNode sent = OBJECT_MAPPER.readTree(messageCapture.getValue());
+              resolveMessage("{\"id\":" + sent.get("id").asLong() + ",\"result\":" + result + "}");
+              return null;
+            });
+  }
+
+  private MethodInvocation createMethodInvocation() {
+    MethodInvocation methodInvocation = new MethodInvocation();
+    methodInvocation.setId(1L);
+    methodInvocation.setMethod("SomeMethod");
+    methodInvocation.setParams(new HashMap<>());
+    return methodInvocation;
+  }
+
+  private void runDelayed(Runnable runnable) {
+    new Thread(
+            () -> {
+              try {
+                Thread.sleep(500);
+                runnable.run();
+              } catch (InterruptedException e) {
+                // We can ignore this
+              }
+            })
+        .start();
+  }
+
   private void resolveMessage(String message) {
     new Thread(
             () -> {
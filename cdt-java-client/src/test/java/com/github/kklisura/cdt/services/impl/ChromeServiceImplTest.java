@@ -26,8 +26,10 @@ import static org.easymock.EasyMock.expect;
 import static org.junit.Assert.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kklisura.cdt.dynamic.DynamicProtocol;
 import com.github.kklisura.cdt.protocol.ChromeDevTools;
 import com.github.kklisura.cdt.protocol.commands.Network;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
 import com.github.kklisura.cdt.services.WebSocketService;
 import com.github.kklisura.cdt.services.exceptions.ChromeServiceException;
 import com.github.kklisura.cdt.services.exceptions.WebSocketServiceException;
@@ -40,7 +42,13 @@ import com.squareup.okhttp.mockwebserver.RecordedRequest;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.easymock.EasyMockRunner;
 import org.easymock.EasyMockSupport;
 import org.easymock.Mock;
@@ -253,6 +261,7 @@ public class ChromeServiceImplTest extends EasyMockSupport {
         .andReturn(webSocketService);
 
     webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
     webSocketService.close();
 
     replayAll();
@@ -328,6 +337,202 @@ public class ChromeServiceImplTest extends EasyMockSupport {
     server.shutdown();
   }
 
+  @Test
+  public void testGetProtocol() throws IOException, ChromeServiceException, InterruptedException {
+    MockWebServer server = new MockWebServer();
+
+    InputStream fixture = getFixture("protocol/dynamic-protocol.json");
+    server.enqueue(new MockResponse().setBody(ChromeServiceImpl.inputStreamToString(fixture)));
+    server.enqueue(new MockResponse().setBody("{\"domains\":[{\"commands\":[]}]}"));
+
+    server.start();
+
+    ChromeServiceImpl service = new ChromeServiceImpl(server.getHostName(), server.getPort());
+
+    DynamicProtocol protocol = service.getProtocol();
+
+    RecordedRequest request = server.takeRequest();
+    assertEquals("GET /json/protocol HTTP/1.1", request.getRequestLine());
+
+    assertEquals(4, protocol.getCommands().size());
+    assertEquals("Page", protocol.getCommand("Page.navigate").getDomain());
+    assertNotNull(protocol.getEvent("Page.loadEventFired"));
+
+    try {
+      service.getProtocol();
+      fail("Expected exception.");
+    } catch (ChromeServiceException e) {
+      assertEquals("Failed reading protocol definition.", e.getMessage());
+    }
+
+    server.shutdown();
+  }
+
+  @Test
+  public void testRequestsReuseConnection()
+      throws IOException, ChromeServiceException, InterruptedException {
+    MockWebServer server = new MockWebServer();
+
+    String tabs = ChromeServiceImpl.inputStreamToString(getFixture("chrome/tabs.json"));
+    server.enqueue(new MockResponse().setBody(tabs));
+    server.enqueue(
+        new MockResponse().setResponseCode(HttpURLConnection.HTTP_NOT_FOUND).setBody("Not found"));
+    server.enqueue(new MockResponse().setBody(tabs));
+
+    server.start();
+
+    ChromeServiceImpl service = new ChromeServiceImpl(server.getHostName(), server.getPort());
+
+    assertEquals(2, service.getTabs().size());
+
+    try {
+      service.activateTab(service.getTabs().get(0));
+      fail("Expected exception.");
+    } catch (ChromeServiceException ex) {
+      assertTrue(ex.getMessage().startsWith("Server responded with non-200 code: 404"));
+      assertTrue(ex.getMessage().endsWith("Not found"));
+    }
+
+    assertEquals(2, service.getTabs().size());
+
+    assertEquals(0, server.takeRequest().getSequenceNumber());
+    assertEquals(1, server.takeRequest().getSequenceNumber());
+    assertEquals(2, server.takeRequest().getSequenceNumber());
+    assertEquals(3, server.getRequestCount());
+
+    server.shutdown();
+  }
+
+  @Test
+  public void testGetTabsAsync() throws Exception {
+    MockWebServer server = new MockWebServer();
+
+    InputStream fixture = getFixture("chrome/tabs.json");
+    server.enqueue(new MockResponse().setBody(ChromeServiceImpl.inputStreamToString(fixture)));
+
+    server.start();
+
+    ChromeServiceImpl service = new ChromeServiceImpl(server.getHostName(), server.getPort());
+
+    List<ChromeTab> tabs = service.getTabsAsync().get();
+
+    RecordedRequest request = server.takeRequest();
+    assertEquals("GET /json/list HTTP/1.1", request.getRequestLine());
+
+    assertEquals(2, tabs.size());
+    assertEquals("(2C5C79DD1137419CC8839D61D91CEB2A)", tabs.get(0).getId());
+
+    server.shutdown();
+  }
+
+  @Test
+  public void testCreateTabAsync() throws Exception {
+    MockWebServer server = new MockWebServer();
+
+    InputStream fixture = getFixture("chrome/tab.json");
+    server.enqueue(new MockResponse().setBody(ChromeServiceImpl.inputStreamToString(fixture)));
+
+    server.start();
+
+    ChromeServiceImpl service = new ChromeServiceImpl(server.getHostName(), server.getPort());
+
+    ChromeTab tab = service.createTabAsync().get();
+
+    RecordedRequest request = server.takeRequest();
+    assertEquals("GET /json/new?about:blank HTTP/1.1", request.getRequestLine());
+
+    assertEquals("(2C5C79DD1137419CC8839D61D91CEB2A)", tab.getId());
+
+    server.shutdown();
+  }
+
+  @Test
+  public void testCreateTabAsyncOnNotFoundResponse() throws Exception {
+    MockWebServer server = new MockWebServer();
+
+    server.enqueue(new MockResponse().setResponseCode(HttpURLConnection.HTTP_NOT_FOUND));
+    server.start();
+
+    ChromeServiceImpl service = new ChromeServiceImpl(server.getHostName(), server.getPort());
+
+    try {
+      service.createTabAsync("some-tab-name").get();
+      fail("Expected exception.");
+    } catch (ExecutionException ex) {
+      assertTrue(ex.getCause() instanceof ChromeServiceException);
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void testCloseTabAsyncClearsDevTools() throws Exception {
+    MockWebServer server = new MockWebServer();
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    ChromeTab tab =
+        objectMapper.readerFor(ChromeTab.class).readValue(getFixture("chrome/tab.json"));
+
+    server.enqueue(new MockResponse());
+    server.start();
+
+    expect(webSocketServiceFactory.createWebSocketService(tab.getWebSocketDebuggerUrl()))
+        .andReturn(webSocketService);
+
+    webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
+    webSocketService.close();
+
+    replayAll();
+
+    ChromeServiceImpl service =
+        new ChromeServiceImpl(server.getHostName(), server.getPort(), webSocketServiceFactory);
+
+    service.createDevToolsService(tab);
+
+    service.closeTabAsync(tab).get();
+
+    RecordedRequest request = server.takeRequest();
+    assertEquals(
+        "GET /json/close/(2C5C79DD1137419CC8839D61D91CEB2A) HTTP/1.1", request.getRequestLine());
+
+    server.shutdown();
+
+    verifyAll();
+  }
+
+  @Test
+  public void testCreateBrowserDevToolsService() throws Exception {
+    MockWebServer server = new MockWebServer();
+
+    InputStream fixture = getFixture("chrome/version.json");
+    server.enqueue(new MockResponse().setBody(ChromeServiceImpl.inputStreamToString(fixture)));
+
+    server.start();
+
+    expect(
+            webSocketServiceFactory.createWebSocketService(
+                "ws://localhost:9222/devtools/browser/63318df0-09e4-4143-910e-f89525dda26b"))
+        .andReturn(webSocketService);
+
+    webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
+
+    replayAll();
+
+    ChromeServiceImpl service =
+        new ChromeServiceImpl(server.getHostName(), server.getPort(), webSocketServiceFactory);
+
+    assertNotNull(service.createBrowserDevToolsService());
+
+    RecordedRequest request = server.takeRequest();
+    assertEquals("GET /json/version HTTP/1.1", request.getRequestLine());
+
+    server.shutdown();
+
+    verifyAll();
+  }
+
   @Test
   public void testGetDevTools()
       throws IOException, ChromeServiceException, WebSocketServiceException {
@@ -341,6 +546,7 @@ public class ChromeServiceImplTest extends EasyMockSupport {
         .andReturn(webSocketService);
 
     webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
 
     replayAll();
 
@@ -364,6 +570,7 @@ public class ChromeServiceImplTest extends EasyMockSupport {
         .andReturn(webSocketService);
 
     webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
 
     replayAll();
 
@@ -383,6 +590,7 @@ public class ChromeServiceImplTest extends EasyMockSupport {
         .andReturn(webSocketService);
 
     webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
 
     replayAll();
 
@@ -404,6 +612,7 @@ public class ChromeServiceImplTest extends EasyMockSupport {
         .andReturn(webSocketService);
 
     webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
 
     replayAll();
 
@@ -429,6 +638,7 @@ public class ChromeServiceImplTest extends EasyMockSupport {
         .andReturn(webSocketService);
 
     webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
     webSocketService.close();
 
     replayAll();
@@ -440,12 +650,170 @@ public class ChromeServiceImplTest extends EasyMockSupport {
     verifyAll();
   }
 
+  @Test
+  public void testGetDevToolsConcurrentlyConnectsOncePerTab() throws Exception {
+    ChromeTab tab = createChromeTab("TAB", "ws://localhost:9222/devtools/page/TAB");
+
+    CountDownLatch connecting = new CountDownLatch(1);
+    CountDownLatch connected = new CountDownLatch(1);
+    AtomicInteger connections = new AtomicInteger();
+
+    ChromeServiceImpl service =
+        new ChromeServiceImpl(
+            9222,
+            wsUrl -> {
+              connections.incrementAndGet();
+              connecting.countDown();
+              awaitLatch(connected);
+              return createNiceMock(WebSocketService.class);
+            });
+
+    CompletableFuture<ChromeDevToolsService> first =
+        CompletableFuture.supplyAsync(() -> service.createDevToolsService(tab));
+    assertTrue(connecting.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<ChromeDevToolsService> second =
+        CompletableFuture.supplyAsync(() -> service.createDevToolsService(tab));
+
+    Thread.sleep(100);
+    assertFalse(second.isDone());
+
+    connected.countDown();
+
+    assertTrue(first.get(5, TimeUnit.SECONDS) == second.get(5, TimeUnit.SECONDS));
+    assertEquals(1, connections.get());
+  }
+
+  @Test
+  public void testGetDevToolsConnectsDifferentTabsInParallel() throws Exception {
+    ChromeTab tab1 = createChromeTab("TAB1", "ws://localhost:9222/devtools/page/TAB1");
+    ChromeTab tab2 = createChromeTab("TAB2", "ws://localhost:9222/devtools/page/TAB2");
+
+    CountDownLatch connecting = new CountDownLatch(2);
+
+    ChromeServiceImpl service =
+        new ChromeServiceImpl(
+            9222,
+            wsUrl -> {
+              // Both connections need to be in flight at the same time to proceed.
+              connecting.countDown();
+              awaitLatch(connecting);
+              return createNiceMock(WebSocketService.class);
+            });
+
+    CompletableFuture<ChromeDevToolsService> first =
+        CompletableFuture.supplyAsync(() -> service.createDevToolsService(tab1));
+    CompletableFuture<ChromeDevToolsService> second =
+        CompletableFuture.supplyAsync(() -> service.createDevToolsService(tab2));
+
+    assertNotNull(first.get(5, TimeUnit.SECONDS));
+    assertNotNull(second.get(5, TimeUnit.SECONDS));
+    assertTrue(first.get() != second.get());
+  }
+
+  @Test
+  public void testGetDevToolsFailureIsSharedAndNotCached() throws Exception {
+    ChromeTab tab = createChromeTab("TAB", "ws://localhost:9222/devtools/page/TAB");
+
+    expect(webSocketServiceFactory.createWebSocketService(tab.getWebSocketDebuggerUrl()))
+        .andThrow(new WebSocketServiceException("Connection refused."));
+    expect(webSocketServiceFactory.createWebSocketService(tab.getWebSocketDebuggerUrl()))
+        .andReturn(webSocketService);
+
+    webSocketService.addMessageHandler(anyObject());
+    webSocketService.addCloseHandler(anyObject());
+
+    replayAll();
+
+    ChromeServiceImpl service = new ChromeServiceImpl(9222, webSocketServiceFactory);
+
+    try {
+      service.createDevToolsService(tab);
+      fail("Expected connection failure.");
+    } catch (ChromeServiceException ex) {
+      assertEquals("Failed connecting to tab web socket.", ex.getMessage());
+    }
+
+    assertNotNull(service.createDevToolsService(tab));
+
+    verifyAll();
+  }
+
+  @Test
+  public void testCreateDevToolsServices() throws Exception {
+    ChromeTab tab1 = createChromeTab("TAB1", "ws://localhost:9222/devtools/page/TAB1");
+    ChromeTab tab2 = createChromeTab("TAB2", "ws://localhost:9222/devtools/page/TAB2");
+    ChromeTab tab3 = createChromeTab("TAB3", "ws://localhost:9222/devtools/page/TAB3");
+
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+
+    ChromeServiceImpl service =
+        new ChromeServiceImpl(
+            9222,
+            wsUrl -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              try {
+                Thread.sleep(50);
+              } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+              }
+              inFlight.decrementAndGet();
+              return createNiceMock(WebSocketService.class);
+            });
+    service.setConnectParallelism(2);
+
+    List<ChromeDevToolsService> devTools =
+        service.createDevToolsServices(Arrays.asList(tab1, tab2, tab3));
+
+    assertEquals(3, devTools.size());
+    assertTrue(devTools.get(0) == service.createDevToolsService(tab1));
+    assertTrue(devTools.get(1) == service.createDevToolsService(tab2));
+    assertTrue(devTools.get(2) == service.createDevToolsService(tab3));
+    assertTrue(maxInFlight.get() <= 2);
+  }
+
+  @Test(expected = ChromeServiceException.class)
+  public void testCreateDevToolsServicesFailsConnect() throws Exception {
+    ChromeTab tab1 = createChromeTab("TAB1", "ws://localhost:9222/devtools/page/TAB1");
+    ChromeTab tab2 = createChromeTab("TAB2", "ws://localhost:9222/devtools/page/TAB2");
+
+    ChromeServiceImpl service =
+        new ChromeServiceImpl(
+            9222,
+            wsUrl -> {
+              if (wsUrl.endsWith("TAB2")) {
+                throw new WebSocketServiceException("Connection refused.");
+              }
+              return createNiceMock(WebSocketService.class);
+            });
+
+    service.createDevToolsServices(Arrays.asList(tab1, tab2));
+  }
+
   @Test
   public void testClearChromeDevToolsServiceCache() throws IOException {
     ChromeServiceImpl service = new ChromeServiceImpl(9222, webSocketServiceFactory);
     service.clearChromeDevToolsServiceCache(createChromeTab("UNUSED"));
   }
 
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static ChromeTab createChromeTab(String id, String webSocketDebuggerUrl)
+      throws IOException {
+    return new ObjectMapper()
+        .readerFor(ChromeTab.class)
+        .readValue(
+            String.format(
+                "{\"id\":\"%s\",\"webSocketDebuggerUrl\":\"%s\"}", id, webSocketDebuggerUrl));
+  }
+
   private static ChromeTab createChromeTab(String id) throws IOException {
     return new ObjectMapper()
         .readerFor(ChromeTab.class)
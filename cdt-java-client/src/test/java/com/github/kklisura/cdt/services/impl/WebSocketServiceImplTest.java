@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.websocket.*;
 import javax.websocket.server.ServerEndpoint;
@@ -107,6 +108,33 @@ public class WebSocketServiceImplTest extends EasyMockSupport {
     assertTrue("Failed sending/receiving ws messages.", isSuccess.get());
   }
 
+  @Test
+  public void testConnectionWithWebSocketContainer()
+      throws WebSocketServiceException, InterruptedException {
+    final CountDownLatch countDownLatch = new CountDownLatch(1);
+    final Server server = startServer();
+
+    final WebSocketService webSocketService =
+        WebSocketServiceImpl.create(createURI(server.getPort()), ClientManager.createClient());
+
+    webSocketService.addMessageHandler(
+        message -> {
+          if (PONG.equals(message)) {
+            countDownLatch.countDown();
+          }
+        });
+
+    webSocketService.send(PING);
+
+    try {
+      assertTrue(
+          "Failed sending/receiving ws messages.", countDownLatch.await(5, TimeUnit.SECONDS));
+    } finally {
+      webSocketService.close();
+      server.stop();
+    }
+  }
+
   @Test(expected = WebSocketServiceException.class)
   public void testConnectionAndMessageSendFails()
       throws WebSocketServiceException, InterruptedException {
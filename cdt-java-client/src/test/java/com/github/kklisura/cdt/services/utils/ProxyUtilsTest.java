@@ -20,9 +20,17 @@ package com.github.kklisura.cdt.services.utils;
  * #L%
  */
 
+import static com.github.kklisura.cdt.services.utils.ProxyUtils.createProxy;
 import static com.github.kklisura.cdt.services.utils.ProxyUtils.createProxyFromAbstract;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import com.github.kklisura.cdt.services.WebSocketService;
+import com.github.kklisura.cdt.services.config.ChromeDevToolsServiceConfiguration;
 import com.github.kklisura.cdt.services.impl.ChromeDevToolsServiceImpl;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
 import org.junit.Test;
 
 /**
@@ -39,4 +47,40 @@ public class ProxyUtilsTest {
         new Object[] {},
         (unused, method, args) -> null);
   }
+
+  @Test
+  public void testCreateProxyFromAbstractReusesProxyClass() {
+    WebSocketService webSocketService = createProxy(WebSocketService.class, (p, m, a) -> null);
+
+    assertProxyClassReused(() -> createService(webSocketService));
+  }
+
+  @Test
+  public void testCreateProxyReusesProxyClass() {
+    assertProxyClassReused(() -> createProxy(Runnable.class, (proxy, method, args) -> null));
+  }
+
+  private static void assertProxyClassReused(Supplier<Object> proxySupplier) {
+    final Class<?> proxyClass = proxySupplier.get().getClass();
+
+    final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+    final long loadedClasses = classLoading.getTotalLoadedClassCount();
+
+    for (int i = 0; i < 10000; i++) {
+      assertSame(proxyClass, proxySupplier.get().getClass());
+    }
+
+    // No classes are generated per proxy instance, so metaspace stays flat.
+    assertTrue(classLoading.getTotalLoadedClassCount() - loadedClasses < 100);
+  }
+
+  private static ChromeDevToolsServiceImpl createService(WebSocketService webSocketService) {
+    return createProxyFromAbstract(
+        ChromeDevToolsServiceImpl.class,
+        new Class[] {WebSocketService.class, ChromeDevToolsServiceConfiguration.class},
+        new Object[] {webSocketService, new ChromeDevToolsServiceConfiguration()},
+        (proxy, method, args) -> {
+          throw new RuntimeException("This should not be called during testing");
+        });
+  }
 }
@@ -0,0 +1,134 @@
+package com.github.kklisura.cdt.tracing;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.services.impl.utils.TestUtils.getFixture;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.github.kklisura.cdt.tracing.types.TraceCategory;
+import com.github.kklisura.cdt.tracing.types.TraceSummary;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
+import org.junit.Test;
+
+/**
+ * Trace analyzer test.
+ *
+ * @author Kenan Klisura
+ */
+public class TraceAnalyzerTest {
+  private final TraceAnalyzer traceAnalyzer = new TraceAnalyzer();
+
+  @Test
+  public void testAnalyze() throws IOException {
+    TraceSummary summary;
+    try (InputStream inputStream = getFixture("tracing/trace.json")) {
+      summary = traceAnalyzer.analyze(inputStream);
+    }
+
+    assertSummary(summary);
+  }
+
+  @Test
+  public void testAnalyzeGzipTraceEventsArray() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (OutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+      gzipOutputStream.write(
+          ("[{\"pid\":1,\"tid\":1,\"ts\":0,\"ph\":\"X\",\"name\":\"RunTask\",\"dur\":20},"
+                  + "{\"pid\":1,\"tid\":1,\"ts\":5,\"ph\":\"X\",\"name\":\"Layout\",\"dur\":5}]")
+              .getBytes(StandardCharsets.UTF_8));
+    }
+
+    TraceSummary summary =
+        traceAnalyzer.analyze(new ByteArrayInputStream(outputStream.toByteArray()));
+
+    assertEquals(2, summary.getEventCount());
+    assertEquals(20, summary.getBusyTime());
+    assertEquals(Long.valueOf(15), summary.getCategoryTimes().get(TraceCategory.OTHER));
+    assertEquals(Long.valueOf(5), summary.getCategoryTimes().get(TraceCategory.RENDERING));
+    assertEquals(1, summary.getLayoutCount());
+    assertTrue(summary.getLongTasks().isEmpty());
+  }
+
+  @Test
+  public void testAnalyzeAll() throws IOException {
+    Path file = Files.createTempFile("trace", ".json");
+    try {
+      try (InputStream inputStream = getFixture("tracing/trace.json")) {
+        Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+
+      ForkJoinPool pool = new ForkJoinPool(2);
+      try {
+        List<TraceSummary> summaries = traceAnalyzer.analyzeAll(Arrays.asList(file, file), pool);
+
+        assertEquals(2, summaries.size());
+        assertSummary(summaries.get(0));
+        assertSummary(summaries.get(1));
+      } finally {
+        pool.shutdown();
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testAnalyzeInvalidTrace() throws IOException {
+    traceAnalyzer.analyze(new ByteArrayInputStream("\"trace\"".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static void assertSummary(TraceSummary summary) {
+    assertEquals(12, summary.getEventCount());
+    assertEquals(70000, summary.getBusyTime());
+
+    assertEquals(Long.valueOf(15000), summary.getCategoryTimes().get(TraceCategory.OTHER));
+    assertEquals(Long.valueOf(40000), summary.getCategoryTimes().get(TraceCategory.SCRIPTING));
+    assertEquals(Long.valueOf(5000), summary.getCategoryTimes().get(TraceCategory.RENDERING));
+    assertEquals(Long.valueOf(8000), summary.getCategoryTimes().get(TraceCategory.LOADING));
+    assertEquals(Long.valueOf(2000), summary.getCategoryTimes().get(TraceCategory.PAINTING));
+
+    assertEquals(1, summary.getLongTasks().size());
+    assertEquals(0, summary.getLongTasks().get(0).getStartTime());
+    assertEquals(60000, summary.getLongTasks().get(0).getDuration());
+
+    assertEquals(1, summary.getLayoutCount());
+    assertEquals(1, summary.getPaintCount());
+
+    assertEquals(2, summary.getTopScripts().size());
+    assertEquals("https://example.com/a.js", summary.getTopScripts().get(0).getUrl());
+    assertEquals(35000, summary.getTopScripts().get(0).getSelfTime());
+    assertEquals("https://example.com/b.js", summary.getTopScripts().get(1).getUrl());
+    assertEquals(5000, summary.getTopScripts().get(1).getSelfTime());
+  }
+}
@@ -0,0 +1,242 @@
+package com.github.kklisura.cdt.tracing;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.easymock.EasyMock.anyInt;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.getCurrentArguments;
+import static org.easymock.EasyMock.isNull;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kklisura.cdt.protocol.commands.IO;
+import com.github.kklisura.cdt.protocol.commands.Tracing;
+import com.github.kklisura.cdt.protocol.events.tracing.DataCollected;
+import com.github.kklisura.cdt.protocol.events.tracing.TracingComplete;
+import com.github.kklisura.cdt.protocol.support.types.EventHandler;
+import com.github.kklisura.cdt.protocol.support.types.EventListener;
+import com.github.kklisura.cdt.protocol.types.io.Read;
+import com.github.kklisura.cdt.protocol.types.tracing.StartTransferMode;
+import com.github.kklisura.cdt.protocol.types.tracing.StreamCompression;
+import com.github.kklisura.cdt.protocol.types.tracing.TraceConfig;
+import com.github.kklisura.cdt.services.ChromeDevToolsService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import org.easymock.Capture;
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Trace recorder test.
+ *
+ * @author Kenan Klisura
+ */
+public class TraceRecorderTest extends EasyMockSupport {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private ChromeDevToolsService devToolsService;
+
+  private Tracing tracing;
+
+  private IO io;
+
+  private Path file;
+
+  @Before
+  public void setUp() throws IOException {
+    devToolsService = createMock(ChromeDevToolsService.class);
+    tracing = createMock(Tracing.class);
+    io = createMock(IO.class);
+
+    file = Files.createTempFile("trace", ".json");
+
+    expect(devToolsService.getTracing()).andReturn(tracing).anyTimes();
+    expect(devToolsService.getIO()).andReturn(io).anyTimes();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void testRecordStream() throws IOException {
+    String trace = "{\"traceEvents\":[{\"name\":\"Layout\"}]}";
+
+    TraceConfig traceConfig = new TraceConfig();
+
+    TracingComplete tracingComplete = new TracingComplete();
+    tracingComplete.setStream("stream-1");
+
+    tracing.start(
+        isNull(),
+        isNull(),
+        isNull(),
+        eq(StartTransferMode.RETURN_AS_STREAM),
+        isNull(),
+        eq(StreamCompression.NONE),
+        eq(traceConfig));
+    expectTracingComplete(tracingComplete);
+
+    expect(io.read(eq("stream-1"), anyInt(), anyInt()))
+        .andAnswer(
+            () -> {
+              Read read = new Read();
+              read.setBase64Encoded(true);
+              read.setEof(true);
+              read.setData(
+                  Integer.valueOf(0).equals(getCurrentArguments()[1])
+                      ? Base64.getEncoder().encodeToString(trace.getBytes(StandardCharsets.UTF_8))
+                      : "");
+              return read;
+            })
+        .anyTimes();
+    io.close("stream-1");
+
+    replayAll();
+
+    TraceRecorder traceRecorder = new TraceRecorder(devToolsService);
+    traceRecorder.setTraceConfig(traceConfig);
+    traceRecorder.start(file);
+
+    assertSame(tracingComplete, traceRecorder.stop());
+
+    verifyAll();
+
+    assertEquals(trace, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testRecordEvents() throws IOException {
+    Capture<EventHandler<DataCollected>> dataCollectedHandler = Capture.newInstance();
+    EventListener dataCollectedListener = createMock(EventListener.class);
+
+    expect(tracing.onDataCollected(capture(dataCollectedHandler))).andReturn(dataCollectedListener);
+    tracing.start(
+        isNull(),
+        isNull(),
+        isNull(),
+        eq(StartTransferMode.REPORT_EVENTS),
+        isNull(),
+        isNull(),
+        isNull());
+    expectTracingComplete(new TracingComplete());
+    dataCollectedListener.unsubscribe();
+
+    replayAll();
+
+    TraceRecorder traceRecorder = new TraceRecorder(devToolsService);
+    traceRecorder.setTransferMode(StartTransferMode.REPORT_EVENTS);
+    traceRecorder.setStreamCompression(StreamCompression.GZIP);
+    traceRecorder.start(file);
+
+    dataCollectedHandler
+        .getValue()
+        .onEvent(
+            createDataCollected(
+                Collections.singletonMap("name", "Layout"),
+                Collections.singletonMap("name", "Paint")));
+    dataCollectedHandler
+        .getValue()
+        .onEvent(createDataCollected(Collections.singletonMap("name", "Composite")));
+
+    traceRecorder.stop();
+
+    verifyAll();
+
+    JsonNode trace;
+    try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(file))) {
+      trace = OBJECT_MAPPER.readTree(inputStream);
+    }
+
+    assertEquals(3, trace.get("traceEvents").size());
+    assertEquals("Paint", trace.get("traceEvents").get(1).get("name").asText());
+    assertEquals("Composite", trace.get("traceEvents").get(2).get("name").asText());
+  }
+
+  @Test
+  public void testRecordStreamWithoutStreamHandle() throws IOException {
+    tracing.start(
+        isNull(),
+        isNull(),
+        isNull(),
+        eq(StartTransferMode.RETURN_AS_STREAM),
+        isNull(),
+        eq(StreamCompression.NONE),
+        isNull());
+    expectTracingComplete(new TracingComplete());
+
+    replayAll();
+
+    TraceRecorder traceRecorder = new TraceRecorder(devToolsService);
+    traceRecorder.start(file);
+
+    try {
+      traceRecorder.stop();
+      fail("Expected exception.");
+    } catch (IOException e) {
+      assertEquals("Tracing completed without returning a trace stream.", e.getMessage());
+    }
+
+    verifyAll();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testStopBeforeStart() throws IOException {
+    replayAll();
+
+    new TraceRecorder(devToolsService).stop();
+  }
+
+  private void expectTracingComplete(TracingComplete tracingComplete) {
+    tracing.end();
+    expect(
+            devToolsService.<TracingComplete>awaitAfter(
+                anyObject(Runnable.class), anyObject(), eq(0L)))
+        .andAnswer(
+            () -> {
+              ((Runnable) getCurrentArguments()[0]).run();
+              return CompletableFuture.completedFuture(tracingComplete);
+            });
+  }
+
+  private static DataCollected createDataCollected(Object... traceEvents) {
+    DataCollected dataCollected = new DataCollected();
+    dataCollected.setValue(Arrays.asList(traceEvents));
+    return dataCollected;
+  }
+}
@@ -0,0 +1,76 @@
+package com.github.kklisura.cdt.utils;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Base64 utils test.
+ *
+ * @author Kenan Klisura
+ */
+public class Base64UtilsTest {
+  @Test
+  public void testDecode() {
+    for (int length = 0; length < 8; length++) {
+      byte[] content = createContent(length);
+      String data = "\"" + Base64.getEncoder().encodeToString(content) + "\"";
+
+      assertEquals(length, Base64Utils.decodedLength(data, 1, data.length() - 1));
+
+      byte[] buffer = new byte[length + 2];
+      assertEquals(length, Base64Utils.decode(data, 1, data.length() - 1, buffer, 2));
+      assertArrayEquals(content, Arrays.copyOfRange(buffer, 2, buffer.length));
+    }
+  }
+
+  @Test
+  public void testDecodeToChannel() throws IOException {
+    byte[] content = createContent(200 * 1024 + 1);
+    String data = Base64.getEncoder().encodeToString(content);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    long written = Base64Utils.decode(data, 0, data.length(), Channels.newChannel(outputStream));
+
+    assertEquals(content.length, written);
+    assertArrayEquals(content, outputStream.toByteArray());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDecodeIllegalCharacter() {
+    Base64Utils.decode("AA\\/", 0, 4, new byte[3], 0);
+  }
+
+  private static byte[] createContent(int length) {
+    byte[] content = new byte[length];
+    new Random(length).nextBytes(content);
+    return content;
+  }
+}
@@ -0,0 +1,244 @@
+package com.github.kklisura.cdt.utils;
+
+/*-
+ * #%L
+ * cdt-java-client
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.github.kklisura.cdt.protocol.commands.IO;
+import com.github.kklisura.cdt.protocol.types.io.Read;
+import com.github.kklisura.cdt.services.exceptions.ChromeDevToolsInvocationException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * IO stream test.
+ *
+ * @author Kenan Klisura
+ */
+public class IOStreamTest {
+  private static final String HANDLE = "stream-1";
+
+  @Test
+  public void testReadBase64Stream() throws IOException {
+    byte[] content = createContent(1000);
+    TestIO io = new TestIO(content, true, Integer.MAX_VALUE);
+
+    IOStream stream = new IOStream(io, HANDLE, 64, 4, Runnable::run);
+    assertArrayEquals(content, readFully(stream));
+
+    assertEquals(Arrays.asList(0, 64, 128, 192), io.offsets.subList(0, 4));
+    assertEquals(1, io.closeCount);
+
+    stream.close();
+    assertEquals(1, io.closeCount);
+    assertFalse(stream.isOpen());
+  }
+
+  @Test
+  public void testReadShortChunks() throws IOException {
+    byte[] content = createContent(300);
+    TestIO io = new TestIO(content, true, 50);
+
+    IOStream stream = new IOStream(io, HANDLE, 64, 3, Runnable::run);
+    assertArrayEquals(content, readFully(stream));
+    assertTrue(io.offsets.contains(50));
+    assertTrue(io.offsets.contains(114));
+  }
+
+  @Test
+  public void testReadSequentialTextStream() throws IOException {
+    byte[] content = "{\"traceEvents\":[{\"name\":\"Layout\"}]}".getBytes(StandardCharsets.UTF_8);
+    TestIO io = new TestIO(content, false, Integer.MAX_VALUE);
+
+    IOStream stream = new IOStream(io, HANDLE, 8, 1, Runnable::run);
+
+    ByteBuffer buffer = ByteBuffer.allocate(content.length);
+    while (buffer.hasRemaining()) {
+      assertTrue(stream.read(buffer) > 0);
+    }
+
+    assertArrayEquals(content, buffer.array());
+    assertEquals(-1, stream.read(ByteBuffer.allocate(1)));
+    for (Integer offset : io.offsets) {
+      assertNull(offset);
+    }
+    assertEquals(1, io.closeCount);
+  }
+
+  @Test
+  public void testReadStreamWithoutRandomAccess() throws IOException {
+    byte[] content = createContent(300);
+    TestIO io = new TestIO(content, true, 50);
+    io.randomAccess = false;
+
+    IOStream stream = new IOStream(io, HANDLE, 64, 4, Runnable::run);
+    assertArrayEquals(content, readFully(stream));
+
+    // Only the first read is requested at an offset.
+    assertEquals(Integer.valueOf(0), io.offsets.get(0));
+    for (Integer offset : io.offsets.subList(1, io.offsets.size())) {
+      assertNull(offset);
+    }
+    assertEquals(1, io.closeCount);
+  }
+
+  @Test
+  public void testReadPastMaxOffset() throws IOException {
+    byte[] content = createContent(1000);
+    TestIO io = new TestIO(content, true, 50);
+
+    IOStream stream = new IOStream(io, HANDLE, 64, 4, Runnable::run, 300);
+    assertArrayEquals(content, readFully(stream));
+
+    int sequentialReads = 0;
+    for (Integer offset : io.offsets) {
+      if (offset == null) {
+        sequentialReads++;
+      } else {
+        assertEquals("Offset reads follow sequential reads.", 0, sequentialReads);
+        assertTrue(offset <= 300);
+      }
+    }
+    assertTrue(sequentialReads > 0);
+    assertEquals(1, io.closeCount);
+  }
+
+  @Test
+  public void testReadFailure() throws IOException {
+    TestIO io = new TestIO(createContent(100), true, Integer.MAX_VALUE);
+    io.failingOffset = 32;
+
+    IOStream stream = new IOStream(io, HANDLE, 16, 2, Runnable::run);
+    try {
+      readFully(stream);
+      fail("Expected exception.");
+    } catch (IOException e) {
+      assertEquals("Failed reading stream stream-1.", e.getMessage());
+      assertEquals("Read failed.", e.getCause().getMessage());
+    }
+
+    assertEquals(0, io.closeCount);
+    stream.close();
+    assertEquals(1, io.closeCount);
+
+    try {
+      stream.read();
+      fail("Expected exception.");
+    } catch (IOException e) {
+      assertEquals("Stream stream-1 is closed.", e.getMessage());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidOutstandingReads() {
+    new IOStream(new TestIO(new byte[0], true, 1), HANDLE, 16, 0, Runnable::run);
+  }
+
+  private static byte[] readFully(IOStream stream) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[100];
+    int count;
+    while ((count = stream.read(buffer, 0, buffer.length)) != -1) {
+      outputStream.write(buffer, 0, count);
+    }
+    return outputStream.toByteArray();
+  }
+
+  private static byte[] createContent(int size) {
+    byte[] content = new byte[size];
+    new Random(size).nextBytes(content);
+    return content;
+  }
+
+  private static class TestIO implements IO {
+    private final byte[] content;
+    private final boolean base64;
+    private final int maxReadSize;
+
+    private final List<Integer> offsets = new ArrayList<>();
+    private Integer failingOffset;
+    private boolean randomAccess = true;
+    private int position;
+    private int closeCount;
+
+    private TestIO(byte[] content, boolean base64, int maxReadSize) {
+      this.content = content;
+      this.base64 = base64;
+      this.maxReadSize = maxReadSize;
+    }
+
+    @Override
+    public void close(String handle) {
+      assertEquals(HANDLE, handle);
+      closeCount++;
+    }
+
+    @Override
+    public Read read(String handle) {
+      return read(handle, null, null);
+    }
+
+    @Override
+    public Read read(String handle, Integer offset, Integer size) {
+      assertEquals(HANDLE, handle);
+      offsets.add(offset);
+      if (offset != null && !randomAccess) {
+        throw new ChromeDevToolsInvocationException(-32602L, "Invalid offset");
+      }
+      if (offset != null && offset.equals(failingOffset)) {
+        throw new IllegalStateException("Read failed.");
+      }
+
+      int start = offset != null ? offset : position;
+      int end = Math.min(content.length, start + Math.min(size, maxReadSize));
+      position = end;
+
+      byte[] data = Arrays.copyOfRange(content, Math.min(start, end), end);
+
+      Read read = new Read();
+      read.setBase64Encoded(base64);
+      read.setData(
+          base64
+              ? Base64.getEncoder().encodeToString(data)
+              : new String(data, StandardCharsets.UTF_8));
+      read.setEof(end == content.length);
+      return read;
+    }
+
+    @Override
+    public String resolveBlob(String objectId) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
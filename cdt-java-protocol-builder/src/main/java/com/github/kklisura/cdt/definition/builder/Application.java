@@ -30,9 +30,13 @@ import com.github.kklisura.cdt.definition.builder.support.java.builder.impl.Java
 import com.github.kklisura.cdt.definition.builder.support.java.builder.impl.JavaEnumBuilderImpl;
 import com.github.kklisura.cdt.definition.builder.support.java.builder.impl.JavaInterfaceBuilderImpl;
 import com.github.kklisura.cdt.definition.builder.support.java.builder.impl.SourceProjectImpl;
+import com.github.kklisura.cdt.definition.builder.support.protocol.builder.CodecBuilder;
 import com.github.kklisura.cdt.definition.builder.support.protocol.builder.CommandBuilder;
+import com.github.kklisura.cdt.definition.builder.support.protocol.builder.CommandImplementationBuilder;
 import com.github.kklisura.cdt.definition.builder.support.protocol.builder.EventBuilder;
+import com.github.kklisura.cdt.definition.builder.support.protocol.builder.NativeImageConfigBuilder;
 import com.github.kklisura.cdt.definition.builder.support.protocol.builder.TypesBuilder;
+import com.github.kklisura.cdt.definition.builder.support.protocol.builder.support.DomainTypeResolver;
 import com.github.kklisura.cdt.definition.builder.support.utils.DomainUtils;
 import com.github.kklisura.cdt.definition.builder.support.utils.StringUtils;
 import com.github.kklisura.cdt.protocol.definition.DevToolsProtocol;
@@ -44,7 +48,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.kohsuke.args4j.CmdLineException;
 import org.kohsuke.args4j.CmdLineParser;
 import org.kohsuke.args4j.ParserProperties;
@@ -58,12 +67,30 @@ public class Application {
   private static final String TYPES_PACKAGE = "types";
   private static final String EVENTS_PACKAGE = "events";
   private static final String COMMANDS_PACKAGE = "commands";
+  private static final String COMMANDS_IMPLEMENTATION_PACKAGE = "commands.impl";
   private static final String SUPPORT_ANNOTATIONS_PACKAGE = "support.annotations";
   private static final String SUPPORT_TYPE_PACKAGE = "support.types";
+  private static final String CODECS_PACKAGE = "codecs";
+  private static final String SUPPORT_CODECS_PACKAGE = "support.codecs";
+
+  // Domains used by hand-written client code, ie. services, pools, cluster and tracing support.
+  private static final List<String> CLIENT_DOMAINS =
+      Arrays.asList(
+          "Browser",
+          "IO",
+          "Network",
+          "Page",
+          "Runtime",
+          "Storage",
+          "SystemInfo",
+          "Target",
+          "Tracing");
 
   private static final String COMMAND_FACTORY_NAME = "ChromeDevTools";
 
   private static final String SRC_MAIN = "src/main/java";
+  private static final String SRC_MAIN_RESOURCES = "src/main/resources";
+  private static final String NATIVE_IMAGE_CONFIG = "META-INF/native-image";
 
   /**
    * Applications main entry point.
@@ -90,16 +117,46 @@ public class Application {
         StringUtils.buildPackageName(configuration.getBasePackage(), EVENTS_PACKAGE);
     final String commandPackageName =
         StringUtils.buildPackageName(configuration.getBasePackage(), COMMANDS_PACKAGE);
+    final String commandImplementationPackageName =
+        StringUtils.buildPackageName(
+            configuration.getBasePackage(), COMMANDS_IMPLEMENTATION_PACKAGE);
 
     final String supportTypesPackageName =
         StringUtils.buildPackageName(configuration.getBasePackage(), SUPPORT_TYPE_PACKAGE);
     final String supportAnnotationsPackageName =
         StringUtils.buildPackageName(configuration.getBasePackage(), SUPPORT_ANNOTATIONS_PACKAGE);
 
-    final DevToolsProtocol protocol = readDevToolsProtocolFiles(configuration);
+    final String codecsPackageName =
+        StringUtils.buildPackageName(configuration.getBasePackage(), CODECS_PACKAGE);
+
+    DevToolsProtocol protocol =
+        readDevToolsProtocolFiles(
+            configuration.getJsProtocolFile(), configuration.getBrowserProtocolFile());
+
+    Predicate<Domain> changedDomainFilter = domain -> true;
+    if (configuration.getPreviousJsProtocolFile() != null) {
+      final DevToolsProtocol previousProtocol =
+          readDevToolsProtocolFiles(
+              configuration.getPreviousJsProtocolFile(),
+              configuration.getPreviousBrowserProtocolFile());
+      final Set<String> changedDomains = DomainUtils.changedDomains(previousProtocol, protocol);
+      changedDomainFilter = domain -> changedDomains.contains(domain.getDomain());
+    }
+
+    // Trim protocol to included domains and the types they reference
+    final Set<String> commandDomains = getCommandDomains(configuration, protocol);
+    if (configuration.getIncludeDomains() != null || configuration.getExcludeDomains() != null) {
+      protocol = DomainUtils.subsetProtocol(protocol, commandDomains);
+    }
 
     Path outputLocation = configuration.getOutputProjectLocation().toPath().resolve(SRC_MAIN);
-    SourceProject sourceProject = new SourceProjectImpl(outputLocation);
+    // Generated packages are fully owned by the generator, so sources of removed types, events,
+    // commands and domains are removed from them on save.
+    SourceProject sourceProject =
+        new SourceProjectImpl(
+            outputLocation,
+            Arrays.asList(
+                typesPackageName, eventPackageName, commandPackageName, codecsPackageName));
 
     JavaBuilderFactory javaBuilderFactory =
         new JavaBuilderFactory() {
@@ -121,9 +178,15 @@ public class Application {
           }
         };
 
-    final TypesBuilder typesBuilder = new TypesBuilder(typesPackageName, javaBuilderFactory);
+    final TypesBuilder typesBuilder =
+        new TypesBuilder(
+            typesPackageName, javaBuilderFactory, false, false, configuration.isPrimitiveArrays());
     final EventBuilder eventBuilder =
-        new EventBuilder(eventPackageName, javaBuilderFactory, typesPackageName);
+        new EventBuilder(
+            eventPackageName,
+            javaBuilderFactory,
+            typesPackageName,
+            configuration.isPrimitiveArrays());
     final CommandBuilder commandBuilder =
         new CommandBuilder(
             commandPackageName,
@@ -131,20 +194,78 @@ public class Application {
             typesPackageName,
             eventPackageName,
             supportTypesPackageName);
+    final CommandImplementationBuilder commandImplementationBuilder =
+        new CommandImplementationBuilder(
+            commandPackageName, commandImplementationPackageName, supportTypesPackageName);
 
-    List<Builder> builderList = new ArrayList<>();
+    final DomainTypeResolver domainTypeResolver = DomainUtils.devToolsProtocolResolver(protocol);
+    final List<Domain> domains = protocol.getDomains();
+
+    // Create domain type builders. Domains are independent of each other, so they are created in
+    // parallel.
+    final List<List<Builder>> domainBuilderList =
+        domains
+            .parallelStream()
+            .map(
+                domain -> {
+                  List<Builder> domainBuilders = new ArrayList<>();
+                  domainBuilders.addAll(typesBuilder.build(domain, domainTypeResolver));
+                  if (commandDomains.contains(domain.getDomain())) {
+                    domainBuilders.addAll(eventBuilder.build(domain, domainTypeResolver));
+                    domainBuilders.add(commandBuilder.build(domain, domainTypeResolver));
+                    domainBuilders.add(commandImplementationBuilder.build(domain));
+                  }
+                  return domainBuilders;
+                })
+            .collect(Collectors.toList());
+
+    // Build domain items. Items of unchanged domains are only used to build other items.
+    for (int i = 0; i < domains.size(); i++) {
+      final SourceProject domainSourceProject =
+          changedDomainFilter.test(domains.get(i)) ? sourceProject : sourceProject.unsavedView();
 
-    // Create domain type builders
-    for (Domain domain : protocol.getDomains()) {
-      builderList.addAll(
-          typesBuilder.build(domain, DomainUtils.devToolsProtocolResolver(protocol)));
-      builderList.addAll(
-          eventBuilder.build(domain, DomainUtils.devToolsProtocolResolver(protocol)));
-      builderList.add(commandBuilder.build(domain, DomainUtils.devToolsProtocolResolver(protocol)));
+      for (Builder builder : domainBuilderList.get(i)) {
+        builder.build(domainSourceProject);
+      }
     }
 
+    List<Builder> builderList = new ArrayList<>();
+
     // Build command factory
-    builderList.add(buildCommandFactory(protocol.getDomains(), configuration.getBasePackage()));
+    final List<Domain> factoryDomains =
+        domains
+            .stream()
+            .filter(domain -> commandDomains.contains(domain.getDomain()))
+            .collect(Collectors.toList());
+    builderList.add(buildCommandFactory(factoryDomains, configuration.getBasePackage()));
+    builderList.add(
+        commandImplementationBuilder.buildCommandFactory(
+            factoryDomains, configuration.getBasePackage(), COMMAND_FACTORY_NAME));
+
+    // Build type and event codecs. Client binds protocol types and events with them, so they are
+    // always generated along with the types.
+    final CodecBuilder codecBuilder =
+        new CodecBuilder(
+            codecsPackageName,
+            typesPackageName,
+            eventPackageName,
+            StringUtils.buildPackageName(configuration.getBasePackage(), SUPPORT_CODECS_PACKAGE));
+    builderList.add(codecBuilder.build(domains, changedDomainFilter));
+
+    // Build native image reflection config
+    if (configuration.isGenerateNativeImageConfig()) {
+      final Path nativeImageConfigLocation =
+          configuration
+              .getOutputProjectLocation()
+              .toPath()
+              .resolve(SRC_MAIN_RESOURCES)
+              .resolve(NATIVE_IMAGE_CONFIG)
+              .resolve(configuration.getBasePackage());
+      final NativeImageConfigBuilder nativeImageConfigBuilder =
+          new NativeImageConfigBuilder(
+              nativeImageConfigLocation, typesPackageName, eventPackageName);
+      builderList.add(nativeImageConfigBuilder.build(domains));
+    }
 
     // Build all items
     for (Builder builder : builderList) {
@@ -171,11 +292,49 @@ public class Application {
     return factoryInterfaceBuilder;
   }
 
-  private static DevToolsProtocol readDevToolsProtocolFiles(Configuration configuration)
-      throws IOException {
-    DevToolsProtocol jsProtocol = readDevToolsProtocolFile(configuration.getJsProtocolFile());
-    DevToolsProtocol browserProtocol =
-        readDevToolsProtocolFile(configuration.getBrowserProtocolFile());
+  private static Set<String> getCommandDomains(
+      Configuration configuration, DevToolsProtocol protocol) {
+    Set<String> commandDomains = new LinkedHashSet<>();
+    if (configuration.getIncludeDomains() != null) {
+      // Client does not compile without domains it uses, so they are always generated.
+      commandDomains.addAll(CLIENT_DOMAINS);
+      commandDomains.addAll(splitDomains(configuration.getIncludeDomains()));
+    } else {
+      for (Domain domain : protocol.getDomains()) {
+        commandDomains.add(domain.getDomain());
+      }
+
+      if (configuration.getExcludeDomains() != null) {
+        Set<String> excludeDomains = splitDomains(configuration.getExcludeDomains());
+        for (String excludeDomain : excludeDomains) {
+          if (!commandDomains.contains(excludeDomain)) {
+            throw new RuntimeException("Domain " + excludeDomain + " not found!");
+          }
+          if (CLIENT_DOMAINS.contains(excludeDomain)) {
+            throw new RuntimeException(
+                "Domain " + excludeDomain + " is used by the client and cannot be excluded!");
+          }
+        }
+        commandDomains.removeAll(excludeDomains);
+      }
+    }
+    return commandDomains;
+  }
+
+  private static Set<String> splitDomains(String domains) {
+    Set<String> result = new LinkedHashSet<>();
+    for (String domain : domains.split(",")) {
+      if (!domain.trim().isEmpty()) {
+        result.add(domain.trim());
+      }
+    }
+    return result;
+  }
+
+  private static DevToolsProtocol readDevToolsProtocolFiles(
+      File jsProtocolFile, File browserProtocolFile) throws IOException {
+    DevToolsProtocol jsProtocol = readDevToolsProtocolFile(jsProtocolFile);
+    DevToolsProtocol browserProtocol = readDevToolsProtocolFile(browserProtocolFile);
 
     return mergeProtocols(jsProtocol, browserProtocol);
   }
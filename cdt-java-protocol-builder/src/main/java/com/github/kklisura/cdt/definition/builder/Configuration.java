@@ -57,6 +57,55 @@ public class Configuration {
   )
   private File browserProtocolFile;
 
+  @Option(
+    name = "--previous-js-protocol",
+    usage = "Previous JS JSON protocol file. Only the sources of domains changed since are saved.",
+    metaVar = "JS_PROTOCOL_JSON",
+    depends = "--previous-browser-protocol"
+  )
+  private File previousJsProtocolFile;
+
+  @Option(
+    name = "--previous-browser-protocol",
+    usage =
+        "Previous browser JSON protocol file. Only the sources of domains changed since are saved.",
+    metaVar = "BROWSER_PROTOCOL_JSON",
+    depends = "--previous-js-protocol"
+  )
+  private File previousBrowserProtocolFile;
+
+  @Option(
+    name = "--include-domains",
+    usage =
+        "Comma separated domains to generate, in addition to domains used by the client. Types "
+            + "of other domains are generated only if referenced by included domains.",
+    metaVar = "DOMAINS",
+    forbids = "--exclude-domains"
+  )
+  private String includeDomains;
+
+  @Option(
+    name = "--exclude-domains",
+    usage =
+        "Comma separated domains to skip. Domains used by the client cannot be skipped. Types "
+            + "of excluded domains are generated only if referenced by other domains.",
+    metaVar = "DOMAINS",
+    forbids = "--include-domains"
+  )
+  private String excludeDomains;
+
   @Option(name = "--output", usage = "Output project location.", metaVar = "DIR", required = true)
   private File outputProjectLocation;
+
+  @Option(
+    name = "--generate-native-image-config",
+    usage = "Generate GraalVM native-image reflection config for protocol types and events."
+  )
+  private boolean generateNativeImageConfig;
+
+  @Option(
+    name = "--primitive-arrays",
+    usage = "Map integer and number arrays of types and events to int[] and double[] arrays."
+  )
+  private boolean primitiveArrays;
 }
@@ -21,6 +21,7 @@ package com.github.kklisura.cdt.definition.builder.support.java.builder;
  */
 
 import com.github.javaparser.ast.CompilationUnit;
+import java.util.List;
 
 /**
  * Source project.
@@ -37,6 +38,34 @@ public interface SourceProject {
    */
   void addCompilationUnit(String packageName, String name, CompilationUnit compilationUnit);
 
-  /** Saves all compilation units. */
+  /**
+   * Returns a previously added compilation unit.
+   *
+   * @param packageName Compilation unit package name.
+   * @param name Name.
+   * @return Compilation unit or null if it has not been added.
+   */
+  CompilationUnit getCompilationUnit(String packageName, String name);
+
+  /**
+   * Returns previously added compilation units of a package, ordered by name.
+   *
+   * @param packageName Package name.
+   * @return Compilation units or empty list if there are none.
+   */
+  List<CompilationUnit> getCompilationUnits(String packageName);
+
+  /**
+   * Returns a view of this source project. Compilation units added through the view are available
+   * to other builders, but are not saved.
+   *
+   * @return Source project view.
+   */
+  SourceProject unsavedView();
+
+  /**
+   * Saves all compilation units. Sources are written only if their content has changed and sources
+   * no longer generated into the packages of compilation units are removed.
+   */
   void saveAll();
 }
@@ -191,6 +191,21 @@ public class JavaClassBuilderImpl extends BaseBuilder implements JavaClassBuilde
     return KEYWORD_TO_FIELD_MAPPING.getOrDefault(input, input);
   }
 
+  /**
+   * Returns a property name given a field name. This is the reverse of keyword field renaming.
+   *
+   * @param fieldName Field name.
+   * @return Property name.
+   */
+  public static String getPropertyName(String fieldName) {
+    for (Map.Entry<String, String> entry : KEYWORD_TO_FIELD_MAPPING.entrySet()) {
+      if (entry.getValue().equals(fieldName)) {
+        return entry.getKey();
+      }
+    }
+    return fieldName;
+  }
+
   /**
    * Registers keyword mapping. This is used to rename a field that belongs to a keyword to some
    * other name (mapping).
@@ -30,10 +30,22 @@ import com.github.kklisura.cdt.definition.builder.support.java.builder.SourcePro
 import com.google.googlejavaformat.java.Formatter;
 import com.google.googlejavaformat.java.FormatterException;
 import com.google.googlejavaformat.java.JavaFormatterOptions;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Source project implementation.
@@ -41,23 +53,107 @@ import java.util.function.Function;
  * @author Kenan Klisura
  */
 public class SourceProjectImpl implements SourceProject {
+  private static final String JAVA_FILE_EXTENSION = ".java";
+
+  // License header added to generated sources by license-maven-plugin of the target project. Header
+  // tags are split so the plugin does not mistake them for the header of this file.
+  private static final Pattern LICENSE_HEADER_PATTERN =
+      Pattern.compile("/\\*-\\R \\* #" + "%L\\R.*? \\* #" + "L%\\R \\*/\\R\\R", Pattern.DOTALL);
+
   private SourceRoot sourceRoot;
 
+  private Collection<String> generatedPackages;
+
   private Map<String, CompilationUnit> compilationUnitCache;
+  private Set<String> unsavedCompilationUnits;
 
   public SourceProjectImpl(Path outputLocation) {
     this(new SourceRoot(outputLocation));
   }
 
+  /**
+   * Creates a source project owning the generated packages. Sources in generated packages and their
+   * subpackages which are no longer generated are removed on save.
+   *
+   * @param outputLocation Output location.
+   * @param generatedPackages Generated package names.
+   */
+  public SourceProjectImpl(Path outputLocation, Collection<String> generatedPackages) {
+    this(new SourceRoot(outputLocation), generatedPackages);
+  }
+
   public SourceProjectImpl(SourceRoot sourceRoot) {
+    this(sourceRoot, Collections.emptyList());
+  }
+
+  public SourceProjectImpl(SourceRoot sourceRoot, Collection<String> generatedPackages) {
     this.sourceRoot = sourceRoot;
+    this.generatedPackages = generatedPackages;
     this.compilationUnitCache = new HashMap<>();
+    this.unsavedCompilationUnits = new HashSet<>();
   }
 
   @Override
   public void addCompilationUnit(String packageName, String name, CompilationUnit compilationUnit) {
+    addCompilationUnit(packageName, name, compilationUnit, true);
+  }
+
+  @Override
+  public CompilationUnit getCompilationUnit(String packageName, String name) {
+    return compilationUnitCache.get(packageName + "." + name);
+  }
+
+  @Override
+  public List<CompilationUnit> getCompilationUnits(String packageName) {
+    String packagePrefix = packageName + ".";
+
+    return compilationUnitCache
+        .entrySet()
+        .stream()
+        .filter(
+            entry ->
+                entry.getKey().startsWith(packagePrefix)
+                    && entry.getKey().indexOf('.', packagePrefix.length()) == -1)
+        .sorted(Map.Entry.comparingByKey())
+        .map(Map.Entry::getValue)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public SourceProject unsavedView() {
+    return new UnsavedSourceProject();
+  }
+
+  @Override
+  public void saveAll() {
+    PrettyPrinterConfiguration prettyPrinterConfiguration = new PrettyPrinterConfiguration();
+    prettyPrinterConfiguration.setIndent("\t");
+    prettyPrinterConfiguration.setPrintComments(true);
+    prettyPrinterConfiguration.setPrintJavadoc(true);
+    prettyPrinterConfiguration.setOrderImports(true);
+
+    PrettyPrinter prettyPrinter = new PrettyPrinter(prettyPrinterConfiguration);
+
+    JavaFormatterOptions javaFormatterOptions =
+        JavaFormatterOptions.builder().style(JavaFormatterOptions.Style.GOOGLE).build();
+
+    Function<CompilationUnit, String> printer =
+        googleCodeFormatter(javaFormatterOptions, prettyPrinter::print);
+
+    // Formatting is the most expensive part of code generation, so units are saved in parallel.
+    compilationUnitCache
+        .entrySet()
+        .parallelStream()
+        .filter(entry -> !unsavedCompilationUnits.contains(entry.getKey()))
+        .forEach(entry -> save(entry.getValue(), printer));
+
+    removeStaleSources();
+  }
+
+  private void addCompilationUnit(
+      String packageName, String name, CompilationUnit compilationUnit, boolean saved) {
     Path path = sourceRoot.getRoot().resolve(packageToPath(packageName));
-    compilationUnit.setStorage(path.resolve(name + ".java"));
+    compilationUnit.setStorage(path.resolve(name + JAVA_FILE_EXTENSION));
 
     String compilationCacheKey = packageName + "." + name;
 
@@ -71,24 +167,122 @@ public class SourceProjectImpl implements SourceProject {
     }
     compilationUnitCache.put(compilationCacheKey, compilationUnit);
 
+    if (saved) {
+      unsavedCompilationUnits.remove(compilationCacheKey);
+    } else {
+      unsavedCompilationUnits.add(compilationCacheKey);
+    }
+
     sourceRoot.add(compilationUnit);
   }
 
-  @Override
-  public void saveAll() {
-    PrettyPrinterConfiguration prettyPrinterConfiguration = new PrettyPrinterConfiguration();
-    prettyPrinterConfiguration.setIndent("\t");
-    prettyPrinterConfiguration.setPrintComments(true);
-    prettyPrinterConfiguration.setPrintJavadoc(true);
-    prettyPrinterConfiguration.setOrderImports(true);
+  /**
+   * Saves a compilation unit if its source differs from the source already on disk. Leaving
+   * unchanged sources untouched keeps their timestamps, so they are not recompiled. License header
+   * of existing source is ignored when comparing.
+   *
+   * @param compilationUnit Compilation unit.
+   * @param printer Source printer.
+   */
+  private static void save(
+      CompilationUnit compilationUnit, Function<CompilationUnit, String> printer) {
+    Path path = getPath(compilationUnit);
+    String source = printer.apply(compilationUnit);
 
-    PrettyPrinter prettyPrinter = new PrettyPrinter(prettyPrinterConfiguration);
+    try {
+      if (Files.exists(path)) {
+        String existingSource = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        if (source.equals(LICENSE_HEADER_PATTERN.matcher(existingSource).replaceFirst(""))) {
+          return;
+        }
+      }
 
-    JavaFormatterOptions javaFormatterOptions =
-        JavaFormatterOptions.builder().style(JavaFormatterOptions.Style.GOOGLE).build();
+      Files.createDirectories(path.getParent());
+      Files.write(path, source.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new RuntimeException("Failed saving source " + path + ".", e);
+    }
+  }
+
+  /**
+   * Removes sources which are no longer generated, ie. the types removed from the protocol, from
+   * the packages of compilation units and from generated packages. Generated packages are cleaned
+   * recursively and directories left empty, ie. of removed domains, are removed as well.
+   */
+  private void removeStaleSources() {
+    Set<Path> generatedSources = new HashSet<>();
+    for (CompilationUnit compilationUnit : compilationUnitCache.values()) {
+      generatedSources.add(getPath(compilationUnit));
+    }
+
+    Set<Path> packageLocations =
+        generatedSources.stream().map(Path::getParent).collect(Collectors.toSet());
 
-    sourceRoot.setPrinter(googleCodeFormatter(javaFormatterOptions, prettyPrinter::print));
-    sourceRoot.saveAll(sourceRoot.getRoot());
+    for (Path packageLocation : packageLocations) {
+      if (!Files.isDirectory(packageLocation)) {
+        continue;
+      }
+
+      try (Stream<Path> sources = Files.list(packageLocation)) {
+        deleteStaleSources(sources, generatedSources);
+      } catch (IOException e) {
+        throw new RuntimeException("Failed removing stale sources in " + packageLocation + ".", e);
+      }
+    }
+
+    for (String generatedPackage : generatedPackages) {
+      Path packageLocation = sourceRoot.getRoot().resolve(packageToPath(generatedPackage));
+      if (!Files.isDirectory(packageLocation)) {
+        continue;
+      }
+
+      try {
+        try (Stream<Path> sources = Files.walk(packageLocation)) {
+          deleteStaleSources(sources, generatedSources);
+        }
+
+        List<Path> directories;
+        try (Stream<Path> paths = Files.walk(packageLocation)) {
+          directories =
+              paths
+                  .filter(Files::isDirectory)
+                  .sorted(Comparator.reverseOrder())
+                  .collect(Collectors.toList());
+        }
+
+        for (Path directory : directories) {
+          if (!directory.equals(packageLocation) && isEmptyDirectory(directory)) {
+            Files.delete(directory);
+          }
+        }
+      } catch (IOException e) {
+        throw new RuntimeException("Failed removing stale sources in " + packageLocation + ".", e);
+      }
+    }
+  }
+
+  private static void deleteStaleSources(Stream<Path> sources, Set<Path> generatedSources)
+      throws IOException {
+    List<Path> staleSources =
+        sources
+            .filter(source -> source.toString().endsWith(JAVA_FILE_EXTENSION))
+            .filter(Files::isRegularFile)
+            .filter(source -> !generatedSources.contains(source))
+            .collect(Collectors.toList());
+
+    for (Path staleSource : staleSources) {
+      Files.delete(staleSource);
+    }
+  }
+
+  private static boolean isEmptyDirectory(Path directory) throws IOException {
+    try (Stream<Path> entries = Files.list(directory)) {
+      return !entries.findAny().isPresent();
+    }
+  }
+
+  private static Path getPath(CompilationUnit compilationUnit) {
+    return compilationUnit.getStorage().get().getPath();
   }
 
   private static Function<CompilationUnit, String> googleCodeFormatter(
@@ -103,4 +297,33 @@ public class SourceProjectImpl implements SourceProject {
       }
     };
   }
+
+  /** Source project view adding compilation units which are not saved. */
+  private class UnsavedSourceProject implements SourceProject {
+    @Override
+    public void addCompilationUnit(
+        String packageName, String name, CompilationUnit compilationUnit) {
+      SourceProjectImpl.this.addCompilationUnit(packageName, name, compilationUnit, false);
+    }
+
+    @Override
+    public CompilationUnit getCompilationUnit(String packageName, String name) {
+      return SourceProjectImpl.this.getCompilationUnit(packageName, name);
+    }
+
+    @Override
+    public List<CompilationUnit> getCompilationUnits(String packageName) {
+      return SourceProjectImpl.this.getCompilationUnits(packageName);
+    }
+
+    @Override
+    public SourceProject unsavedView() {
+      return this;
+    }
+
+    @Override
+    public void saveAll() {
+      SourceProjectImpl.this.saveAll();
+    }
+  }
 }
@@ -0,0 +1,592 @@
+package com.github.kklisura.cdt.definition.builder.support.protocol.builder;
+
+/*-
+ * #%L
+ * cdt-java-protocol-builder
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.definition.builder.support.java.builder.utils.JavadocUtils.INDENTATION_NO_INDENTATION;
+import static com.github.kklisura.cdt.definition.builder.support.java.builder.utils.JavadocUtils.INDENTATION_TAB;
+import static com.github.kklisura.cdt.definition.builder.support.utils.StringUtils.buildPackageName;
+import static com.github.kklisura.cdt.definition.builder.support.utils.StringUtils.capitalize;
+import static com.github.kklisura.cdt.definition.builder.support.utils.StringUtils.toEnumClass;
+import static com.github.kklisura.cdt.definition.builder.support.utils.StringUtils.toEnumConstant;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.EnumConstantDeclaration;
+import com.github.javaparser.ast.body.EnumDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.ArrayInitializerExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.SingleMemberAnnotationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.nodeTypes.NodeWithName;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.ast.type.VoidType;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.Builder;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.SourceProject;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.impl.JavaClassBuilderImpl;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.utils.JavadocUtils;
+import com.github.kklisura.cdt.protocol.definition.types.Domain;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Builds streaming json codecs for protocol types and events. Codecs are generated from previously
+ * built type and event classes. Readers switch on field names over a json parser, writers write
+ * non-null fields to a json generator and enums are written through precomputed value tables.
+ *
+ * @author Kenan Klisura
+ */
+public class CodecBuilder {
+  public static final String CODECS_SUFFIX = "Codecs";
+  public static final String CODECS_FACTORY_NAME = "ProtocolCodecs";
+
+  private static final String CODEC_MODULE = "CodecModule";
+  private static final String JSON_CODECS = "JsonCodecs";
+
+  private static final String JSON_PACKAGE = "com.fasterxml.jackson.core";
+  private static final String JSON_PARSER = "JsonParser";
+  private static final String JSON_GENERATOR = "JsonGenerator";
+  private static final String JSON_TOKEN = "JsonToken";
+
+  private static final String JSON_PROPERTY_ANNOTATION = "JsonProperty";
+
+  private static final String PARSER = "parser";
+  private static final String GENERATOR = "generator";
+  private static final String MODULE = "module";
+  private static final String VALUE = "value";
+  private static final String RESULT = "result";
+
+  private static final String READ_PREFIX = "read";
+  private static final String WRITE_PREFIX = "write";
+
+  private static final String LIST_TYPE = TypesBuilder.LIST_CLASS_NAME;
+
+  private static final Map<String, String> TYPE_TO_READER = new HashMap<>();
+  private static final Map<String, String> TYPE_TO_WRITER = new HashMap<>();
+
+  // Register java types handled by support codecs.
+  static {
+    registerSupportType("String", "String", "String");
+    registerSupportType("Integer", "Integer", "Integer");
+    registerSupportType("Double", "Double", "Double");
+    registerSupportType("Boolean", "Boolean", "Boolean");
+    registerSupportType("Object", "Object", "Object");
+    registerSupportType(TypesBuilder.MAP_CLASS_NAME, "Map", "Object");
+    registerSupportType("int[]", "IntArray", "IntArray");
+    registerSupportType("double[]", "DoubleArray", "DoubleArray");
+    registerSupportType("int[][]", "IntArrays", "IntArrays");
+    registerSupportType("double[][]", "DoubleArrays", "DoubleArrays");
+  }
+
+  private String codecsPackageName;
+  private String typesPackageName;
+  private String eventsPackageName;
+  private String supportCodecsPackageName;
+
+  /**
+   * Creates a new codec builder.
+   *
+   * @param codecsPackageName Package name for generated codecs.
+   * @param typesPackageName Package name where types reside.
+   * @param eventsPackageName Package name where events reside.
+   * @param supportCodecsPackageName Package name where support codec classes reside.
+   */
+  public CodecBuilder(
+      String codecsPackageName,
+      String typesPackageName,
+      String eventsPackageName,
+      String supportCodecsPackageName) {
+    this.codecsPackageName = codecsPackageName;
+    this.typesPackageName = typesPackageName;
+    this.eventsPackageName = eventsPackageName;
+    this.supportCodecsPackageName = supportCodecsPackageName;
+  }
+
+  /**
+   * Builds a codecs class per domain and a codecs factory creating a codec module with all the
+   * codecs. Types and events of all domains need to be built into source project before this
+   * builder.
+   *
+   * @param domains Domains.
+   * @return Builder.
+   */
+  public Builder build(List<Domain> domains) {
+    return build(domains, domain -> true);
+  }
+
+  /**
+   * Builds a codecs class per domain and a codecs factory creating a codec module with all the
+   * codecs. Codecs of domains not accepted by the filter are built, but not saved.
+   *
+   * @param domains Domains.
+   * @param savedDomainFilter Filter accepting domains whose codecs are saved.
+   * @return Builder.
+   */
+  public Builder build(List<Domain> domains, Predicate<Domain> savedDomainFilter) {
+    return sourceProject -> {
+      Map<String, String> codecsByPackage = new HashMap<>();
+      for (Domain domain : domains) {
+        String codecsName = toCodecsName(domain);
+        codecsByPackage.put(getDomainPackageName(typesPackageName, domain), codecsName);
+        codecsByPackage.put(getDomainPackageName(eventsPackageName, domain), codecsName);
+      }
+
+      List<String> codecsNames = new ArrayList<>();
+      for (Domain domain : domains) {
+        List<CompilationUnit> typeUnits =
+            sourceProject.getCompilationUnits(getDomainPackageName(typesPackageName, domain));
+        List<CompilationUnit> eventUnits =
+            sourceProject.getCompilationUnits(getDomainPackageName(eventsPackageName, domain));
+
+        if (typeUnits.isEmpty() && eventUnits.isEmpty()) {
+          continue;
+        }
+
+        String codecsName = toCodecsName(domain);
+        DomainCodecs domainCodecs = new DomainCodecs(domain, codecsName, codecsByPackage);
+        typeUnits.forEach(unit -> domainCodecs.addCodec(unit, true));
+        eventUnits.forEach(unit -> domainCodecs.addCodec(unit, false));
+
+        SourceProject domainSourceProject =
+            savedDomainFilter.test(domain) ? sourceProject : sourceProject.unsavedView();
+        domainSourceProject.addCompilationUnit(
+            codecsPackageName, codecsName, domainCodecs.getCompilationUnit());
+        codecsNames.add(codecsName);
+      }
+
+      sourceProject.addCompilationUnit(
+          codecsPackageName, CODECS_FACTORY_NAME, buildCodecsFactory(codecsNames));
+    };
+  }
+
+  private CompilationUnit buildCodecsFactory(List<String> codecsNames) {
+    CompilationUnit compilationUnit = new CompilationUnit(codecsPackageName);
+    compilationUnit.addImport(supportCodecsPackageName + "." + CODEC_MODULE);
+
+    ClassOrInterfaceDeclaration declaration =
+        compilationUnit.addClass(CODECS_FACTORY_NAME, Modifier.PUBLIC, Modifier.FINAL);
+    declaration.setJavadocComment(
+        JavadocUtils.createJavadocComment(
+            "Protocol codecs. Creates a codec module binding all protocol types and events to "
+                + "their streaming codecs.",
+            INDENTATION_NO_INDENTATION));
+    declaration.addConstructor(Modifier.PRIVATE);
+
+    MethodDeclaration createModule =
+        declaration.addMethod("createModule", Modifier.PUBLIC, Modifier.STATIC);
+    createModule.setJavadocComment(
+        JavadocUtils.createJavadocComment(
+            "Creates a codec module with codecs of all protocol types and events.\r\n\r\n"
+                + "@return Codec module.",
+            INDENTATION_TAB));
+    createModule.setType(CODEC_MODULE);
+
+    StringBuilder body = new StringBuilder("{");
+    body.append(String.format("%1$s %2$s = new %1$s();", CODEC_MODULE, MODULE));
+    for (String codecsName : codecsNames) {
+      body.append(String.format("%s.register(%s);", codecsName, MODULE));
+    }
+    body.append("return ").append(MODULE).append("; }");
+
+    createModule.setBody(JavaParser.parseBlock(body.toString()));
+
+    return compilationUnit;
+  }
+
+  private static String getDomainPackageName(String packageName, Domain domain) {
+    return buildPackageName(packageName, domain.getDomain().toLowerCase());
+  }
+
+  private static String toCodecsName(Domain domain) {
+    return toEnumClass(domain.getDomain()) + CODECS_SUFFIX;
+  }
+
+  private static String quote(String value) {
+    return "\"" + value + "\"";
+  }
+
+  private static void registerSupportType(String javaType, String reader, String writer) {
+    TYPE_TO_READER.put(javaType, reader);
+    TYPE_TO_WRITER.put(javaType, writer);
+  }
+
+  /** Codecs class of a single domain. */
+  private class DomainCodecs {
+    private final String domainName;
+    private final String codecsName;
+    private final Map<String, String> codecsByPackage;
+
+    private final CompilationUnit compilationUnit;
+    private final ClassOrInterfaceDeclaration declaration;
+
+    private final StringBuilder registerBody = new StringBuilder();
+    private final Set<String> typeNames = new HashSet<>();
+
+    private int tableCount;
+
+    private DomainCodecs(Domain domain, String codecsName, Map<String, String> codecsByPackage) {
+      this.domainName = domain.getDomain();
+      this.codecsName = codecsName;
+      this.codecsByPackage = codecsByPackage;
+
+      compilationUnit = new CompilationUnit(codecsPackageName);
+      compilationUnit.addImport(JSON_PACKAGE + "." + JSON_PARSER);
+      compilationUnit.addImport(JSON_PACKAGE + "." + JSON_GENERATOR);
+      compilationUnit.addImport(JSON_PACKAGE + "." + JSON_TOKEN);
+      compilationUnit.addImport(IOException.class);
+      compilationUnit.addImport(supportCodecsPackageName + "." + CODEC_MODULE);
+      compilationUnit.addImport(supportCodecsPackageName + "." + JSON_CODECS);
+
+      declaration = compilationUnit.addClass(codecsName, Modifier.PUBLIC, Modifier.FINAL);
+      declaration.setJavadocComment(
+          JavadocUtils.createJavadocComment(
+              String.format("%s domain type and event codecs.", domainName),
+              INDENTATION_NO_INDENTATION));
+      declaration.addConstructor(Modifier.PRIVATE);
+    }
+
+    private CompilationUnit getCompilationUnit() {
+      MethodDeclaration register =
+          new MethodDeclaration(
+              EnumSet.of(Modifier.PUBLIC, Modifier.STATIC), new VoidType(), "register");
+      register.addParameter(CODEC_MODULE, MODULE);
+      register.setJavadocComment(
+          JavadocUtils.createJavadocComment(
+              String.format(
+                  "Registers %s codecs with a codec module.\r\n\r\n@param %s Codec module.",
+                  domainName, MODULE),
+              INDENTATION_TAB));
+      register.setBody(JavaParser.parseBlock("{" + registerBody + "}"));
+
+      // Register method goes right after the tables and constructor.
+      declaration.getMembers().add(tableCount + 1, register);
+
+      return compilationUnit;
+    }
+
+    /**
+     * Adds codec of a type or event. Events are only ever read so they get no writers.
+     *
+     * @param unit Type or event compilation unit.
+     * @param withWriter True if writer should be generated.
+     */
+    private void addCodec(CompilationUnit unit, boolean withWriter) {
+      TypeDeclaration<?> type = unit.getType(0);
+      String name = type.getNameAsString();
+
+      if (!typeNames.add(name)) {
+        throw new IllegalStateException("Duplicate type " + name + " in " + codecsName + ".");
+      }
+
+      String packageName =
+          unit.getPackageDeclaration()
+              .orElseThrow(() -> new IllegalStateException("Missing package on " + name))
+              .getNameAsString();
+      compilationUnit.addImport(packageName + "." + name);
+
+      if (type.isEnumDeclaration()) {
+        addEnumCodec(type.asEnumDeclaration(), withWriter);
+      } else {
+        addClassCodec(unit, type.asClassOrInterfaceDeclaration(), withWriter);
+      }
+
+      String readerRef = codecsName + "::" + READ_PREFIX + name;
+      if (withWriter) {
+        registerBody.append(
+            String.format(
+                "%s.addCodec(%s.class, %s, %s::%s%s);",
+                MODULE, name, readerRef, codecsName, WRITE_PREFIX, name));
+      } else {
+        registerBody.append(String.format("%s.addReader(%s.class, %s);", MODULE, name, readerRef));
+      }
+    }
+
+    private void addEnumCodec(EnumDeclaration enumDeclaration, boolean withWriter) {
+      String name = enumDeclaration.getNameAsString();
+
+      StringBuilder reader = new StringBuilder("{");
+      reader.append(String.format("String %s = %s.readString(%s);", VALUE, JSON_CODECS, PARSER));
+      reader.append(String.format("if (%s == null) { return null; }", VALUE));
+      reader.append(String.format("switch (%s) {", VALUE));
+
+      NodeList<Expression> values = new NodeList<>();
+      for (EnumConstantDeclaration constant : enumDeclaration.getEntries()) {
+        String value = getEnumValue(constant);
+        values.add(new StringLiteralExpr(value));
+
+        reader.append(
+            String.format(
+                "case %s: return %s.%s;", quote(value), name, constant.getNameAsString()));
+      }
+      reader.append(
+          String.format(
+              "default: throw %s.unknownEnumValue(%s, %s.class, %s); } }",
+              JSON_CODECS, PARSER, name, VALUE));
+
+      addReader(name, reader.toString());
+
+      if (withWriter) {
+        String tableName = toEnumConstant(name) + "_VALUES";
+
+        FieldDeclaration table =
+            new FieldDeclaration(
+                EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL),
+                new VariableDeclarator(
+                    JavaParser.parseType("String[]"), tableName, new ArrayInitializerExpr(values)));
+        declaration.getMembers().add(tableCount++, table);
+
+        addWriter(
+            name,
+            String.format("{ %s.writeString(%s[%s.ordinal()]); }", GENERATOR, tableName, VALUE));
+      }
+    }
+
+    private void addClassCodec(
+        CompilationUnit unit, ClassOrInterfaceDeclaration classDeclaration, boolean withWriter) {
+      String name = classDeclaration.getNameAsString();
+
+      StringBuilder reader = new StringBuilder("{");
+      reader.append(
+          String.format(
+              "if (%s.currentToken() == %s.VALUE_NULL) { return null; }", PARSER, JSON_TOKEN));
+      reader.append(String.format("%1$s %2$s = new %1$s();", name, RESULT));
+      reader.append(
+          String.format(
+              "for (String field = %1$s.firstFieldName(%2$s); field != null; "
+                  + "field = %2$s.nextFieldName()) {",
+              JSON_CODECS, PARSER));
+      reader.append(String.format("%s.nextToken();", PARSER));
+
+      StringBuilder writer = new StringBuilder("{");
+      writer.append(String.format("%s.writeStartObject();", GENERATOR));
+
+      List<VariableDeclarator> fields = new ArrayList<>();
+      classDeclaration.getFields().forEach(field -> fields.addAll(field.getVariables()));
+
+      if (fields.isEmpty()) {
+        reader.append(String.format("%s.skipChildren();", PARSER));
+      } else {
+        reader.append("switch (field) {");
+      }
+
+      for (VariableDeclarator field : fields) {
+        String fieldName = field.getNameAsString();
+        String propertyName = JavaClassBuilderImpl.getPropertyName(fieldName);
+        String getter = String.format("%s.get%s()", VALUE, capitalize(fieldName));
+
+        reader.append(
+            String.format(
+                "case %s: %s.set%s(%s); break;",
+                quote(propertyName),
+                RESULT,
+                capitalize(fieldName),
+                buildRead(unit, field.getType())));
+
+        writer.append(
+            String.format(
+                "if (%1$s != null) { %2$s.writeFieldName(%3$s); %4$s; }",
+                getter, GENERATOR, quote(propertyName), buildWrite(unit, field.getType(), getter)));
+      }
+
+      if (!fields.isEmpty()) {
+        reader.append(String.format("default: %s.skipChildren(); }", PARSER));
+      }
+      reader.append("} return ").append(RESULT).append("; }");
+
+      writer.append(String.format("%s.writeEndObject(); }", GENERATOR));
+
+      addReader(name, reader.toString());
+      if (withWriter) {
+        addWriter(name, writer.toString());
+      }
+    }
+
+    private void addReader(String name, String body) {
+      MethodDeclaration method =
+          declaration.addMethod(READ_PREFIX + name, Modifier.PUBLIC, Modifier.STATIC);
+      method.setType(name);
+      method.addParameter(JSON_PARSER, PARSER);
+      method.addThrownException(IOException.class);
+      method.setBody(JavaParser.parseBlock(body));
+    }
+
+    private void addWriter(String name, String body) {
+      MethodDeclaration method =
+          declaration.addMethod(WRITE_PREFIX + name, Modifier.PUBLIC, Modifier.STATIC);
+      method.addParameter(JSON_GENERATOR, GENERATOR);
+      method.addParameter(name, VALUE);
+      method.addThrownException(IOException.class);
+      method.setBody(JavaParser.parseBlock(body));
+    }
+
+    private String buildRead(CompilationUnit unit, Type type) {
+      String typeName = getTypeName(type);
+
+      if (LIST_TYPE.equals(typeName)) {
+        return String.format(
+            "%s.readList(%s, %s)", JSON_CODECS, PARSER, buildReaderRef(unit, getItemType(type)));
+      }
+      if (TYPE_TO_READER.containsKey(typeName)) {
+        return String.format("%s.read%s(%s)", JSON_CODECS, TYPE_TO_READER.get(typeName), PARSER);
+      }
+      return String.format(
+          "%s%s%s(%s)",
+          getCodecsQualifier(unit, type.asClassOrInterfaceType()), READ_PREFIX, typeName, PARSER);
+    }
+
+    private String buildReaderRef(CompilationUnit unit, Type type) {
+      String typeName = getTypeName(type);
+
+      if (LIST_TYPE.equals(typeName)) {
+        return String.format(
+            "%s.listReader(%s)", JSON_CODECS, buildReaderRef(unit, getItemType(type)));
+      }
+      if (TYPE_TO_READER.containsKey(typeName)) {
+        return String.format("%s::read%s", JSON_CODECS, TYPE_TO_READER.get(typeName));
+      }
+      return String.format(
+          "%s::%s%s", getCodecsName(unit, type.asClassOrInterfaceType()), READ_PREFIX, typeName);
+    }
+
+    private String buildWrite(CompilationUnit unit, Type type, String value) {
+      String typeName = getTypeName(type);
+
+      if (LIST_TYPE.equals(typeName)) {
+        return String.format(
+            "%s.writeList(%s, %s, %s)",
+            JSON_CODECS, GENERATOR, value, buildWriterRef(unit, getItemType(type)));
+      }
+      if (TYPE_TO_WRITER.containsKey(typeName)) {
+        return String.format(
+            "%s.write%s(%s, %s)", JSON_CODECS, TYPE_TO_WRITER.get(typeName), GENERATOR, value);
+      }
+      return String.format(
+          "%s%s%s(%s, %s)",
+          getCodecsQualifier(unit, type.asClassOrInterfaceType()),
+          WRITE_PREFIX,
+          typeName,
+          GENERATOR,
+          value);
+    }
+
+    private String buildWriterRef(CompilationUnit unit, Type type) {
+      String typeName = getTypeName(type);
+
+      if (LIST_TYPE.equals(typeName)) {
+        return String.format(
+            "%s.listWriter(%s)", JSON_CODECS, buildWriterRef(unit, getItemType(type)));
+      }
+      if (TYPE_TO_WRITER.containsKey(typeName)) {
+        return String.format("%s::write%s", JSON_CODECS, TYPE_TO_WRITER.get(typeName));
+      }
+      return String.format(
+          "%s::%s%s", getCodecsName(unit, type.asClassOrInterfaceType()), WRITE_PREFIX, typeName);
+    }
+
+    private String getCodecsQualifier(CompilationUnit unit, ClassOrInterfaceType type) {
+      String typeCodecsName = getCodecsName(unit, type);
+      return codecsName.equals(typeCodecsName) ? "" : typeCodecsName + ".";
+    }
+
+    /**
+     * Returns a name of codecs class handling a referenced type. Type package is resolved from the
+     * imports of a unit referencing it.
+     *
+     * @param unit Compilation unit referencing a type.
+     * @param type Referenced type.
+     * @return Codecs name.
+     */
+    private String getCodecsName(CompilationUnit unit, ClassOrInterfaceType type) {
+      String typeName = type.getNameAsString();
+      String packageName =
+          type.getScope()
+              .map(ClassOrInterfaceType::asString)
+              .orElseGet(() -> getImportedPackageName(unit, typeName));
+
+      String typeCodecsName = codecsByPackage.get(packageName);
+      if (typeCodecsName == null) {
+        throw new IllegalStateException(
+            "Unknown type " + packageName + "." + typeName + " in " + codecsName + ".");
+      }
+      return typeCodecsName;
+    }
+  }
+
+  private static String getImportedPackageName(CompilationUnit unit, String typeName) {
+    for (ImportDeclaration importDeclaration : unit.getImports()) {
+      if (!importDeclaration.isAsterisk()
+          && !importDeclaration.isStatic()
+          && typeName.equals(importDeclaration.getName().getIdentifier())) {
+        return importDeclaration.getName().getQualifier().map(Object::toString).orElse(null);
+      }
+    }
+
+    return unit.getPackageDeclaration().map(NodeWithName::getNameAsString).orElse(null);
+  }
+
+  /**
+   * Returns a type name without type arguments. Primitive arrays are named by their java type, ie.
+   * double[].
+   *
+   * @param type Type.
+   * @return Type name.
+   */
+  private static String getTypeName(Type type) {
+    if (type.isArrayType()) {
+      return type.asString();
+    }
+    return type.asClassOrInterfaceType().getNameAsString();
+  }
+
+  private static Type getItemType(Type listType) {
+    NodeList<Type> typeArguments =
+        listType
+            .asClassOrInterfaceType()
+            .getTypeArguments()
+            .orElseThrow(() -> new IllegalStateException("Missing item type on " + listType));
+    return typeArguments.get(0);
+  }
+
+  private static String getEnumValue(EnumConstantDeclaration constant) {
+    return constant
+        .getAnnotationByName(JSON_PROPERTY_ANNOTATION)
+        .filter(SingleMemberAnnotationExpr.class::isInstance)
+        .map(expr -> ((SingleMemberAnnotationExpr) expr).getMemberValue())
+        .filter(StringLiteralExpr.class::isInstance)
+        .map(expr -> ((StringLiteralExpr) expr).getValue())
+        .orElse(constant.getNameAsString());
+  }
+}
@@ -0,0 +1,366 @@
+package com.github.kklisura.cdt.definition.builder.support.protocol.builder;
+
+/*-
+ * #%L
+ * cdt-java-protocol-builder
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.definition.builder.support.java.builder.utils.JavadocUtils.INDENTATION_NO_INDENTATION;
+import static com.github.kklisura.cdt.definition.builder.support.utils.StringUtils.toEnumClass;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.ArrayInitializerExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.SingleMemberAnnotationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.Builder;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.SourceProject;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.utils.JavadocUtils;
+import com.github.kklisura.cdt.protocol.definition.types.Domain;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Builds domain command implementations. Implementations are generated from previously built
+ * command interfaces and invoke each command with straight-line code through a command invoker,
+ * without any proxies or reflection at runtime.
+ *
+ * @author Kenan Klisura
+ */
+public class CommandImplementationBuilder {
+  public static final String IMPLEMENTATION_SUFFIX = "Impl";
+
+  private static final String COMMAND_INVOKER = "CommandInvoker";
+  private static final String INVOKER_FIELD = "invoker";
+
+  private static final String OVERRIDE_ANNOTATION = "Override";
+
+  private static final String PARAMS_VARIABLE = "params";
+
+  private String basePackageName;
+  private String implementationPackageName;
+  private String supportTypesPackageName;
+
+  /**
+   * Creates a new command implementation builder.
+   *
+   * @param basePackageName Package name of command interfaces.
+   * @param implementationPackageName Package name for command implementations.
+   * @param supportTypesPackageName Support types package name.
+   */
+  public CommandImplementationBuilder(
+      String basePackageName, String implementationPackageName, String supportTypesPackageName) {
+    this.basePackageName = basePackageName;
+    this.implementationPackageName = implementationPackageName;
+    this.supportTypesPackageName = supportTypesPackageName;
+  }
+
+  /**
+   * Builds an implementation of domain command interface. Command interface needs to be built into
+   * source project before this builder.
+   *
+   * @param domain Domain.
+   * @return Builder.
+   */
+  public Builder build(Domain domain) {
+    final String interfaceName = toEnumClass(domain.getDomain());
+
+    return sourceProject -> {
+      CompilationUnit interfaceUnit = getCompilationUnit(sourceProject, interfaceName);
+
+      String className = interfaceName + IMPLEMENTATION_SUFFIX;
+      sourceProject.addCompilationUnit(
+          implementationPackageName,
+          className,
+          buildImplementation(interfaceUnit, interfaceName, className));
+    };
+  }
+
+  /**
+   * Builds an abstract implementation of command factory, ie. ChromeDevTools. Domain getters lazily
+   * create domain command implementations, invoking commands through the factory itself.
+   *
+   * @param domains Domains.
+   * @param factoryPackageName Command factory package name.
+   * @param factoryName Command factory name.
+   * @return Builder.
+   */
+  public Builder buildCommandFactory(
+      List<Domain> domains, String factoryPackageName, String factoryName) {
+    return sourceProject -> {
+      String className = factoryName + IMPLEMENTATION_SUFFIX;
+
+      CompilationUnit compilationUnit = new CompilationUnit(factoryPackageName);
+      compilationUnit.addImport(supportTypesPackageName + "." + COMMAND_INVOKER);
+
+      ClassOrInterfaceDeclaration declaration =
+          compilationUnit.addClass(className, Modifier.PUBLIC, Modifier.ABSTRACT);
+      declaration.setJavadocComment(
+          JavadocUtils.createJavadocComment(
+              String.format(
+                  "%s implementation. Domain commands are created on first access and invoke "
+                      + "commands through this command invoker.",
+                  factoryName),
+              INDENTATION_NO_INDENTATION));
+      declaration.addImplementedType(factoryName);
+      declaration.addImplementedType(COMMAND_INVOKER);
+
+      for (Domain domain : domains) {
+        String interfaceName = toEnumClass(domain.getDomain());
+        String implementationName = interfaceName + IMPLEMENTATION_SUFFIX;
+        String fieldName = toFieldName(interfaceName);
+
+        compilationUnit.addImport(basePackageName + "." + interfaceName);
+        compilationUnit.addImport(implementationPackageName + "." + implementationName);
+
+        declaration.addField(interfaceName, fieldName, Modifier.PRIVATE);
+
+        // Implementations are stateless, so racing getters at worst create an extra instance.
+        MethodDeclaration getter = declaration.addMethod("get" + interfaceName, Modifier.PUBLIC);
+        getter.addMarkerAnnotation(OVERRIDE_ANNOTATION);
+        getter.setType(interfaceName);
+        getter.setBody(
+            JavaParser.parseBlock(
+                String.format(
+                    "{ if (%1$s == null) { %1$s = new %2$s(this); } return %1$s; }",
+                    fieldName, implementationName)));
+      }
+
+      sourceProject.addCompilationUnit(factoryPackageName, className, compilationUnit);
+    };
+  }
+
+  private CompilationUnit getCompilationUnit(SourceProject sourceProject, String interfaceName) {
+    CompilationUnit compilationUnit =
+        sourceProject.getCompilationUnit(basePackageName, interfaceName);
+    if (compilationUnit == null) {
+      throw new IllegalStateException(
+          "Command interface " + interfaceName + " needs to be built before its implementation.");
+    }
+    return compilationUnit;
+  }
+
+  private CompilationUnit buildImplementation(
+      CompilationUnit interfaceUnit, String interfaceName, String className) {
+    CompilationUnit compilationUnit = new CompilationUnit(implementationPackageName);
+
+    interfaceUnit
+        .getImports()
+        .forEach(importDeclaration -> compilationUnit.addImport(importDeclaration.clone()));
+    compilationUnit.addImport(basePackageName + "." + interfaceName);
+    compilationUnit.addImport(supportTypesPackageName + "." + COMMAND_INVOKER);
+    compilationUnit.addImport(Collections.class);
+    compilationUnit.addImport(HashMap.class);
+    compilationUnit.addImport(Map.class);
+
+    ClassOrInterfaceDeclaration declaration = compilationUnit.addClass(className);
+    declaration.setJavadocComment(
+        JavadocUtils.createJavadocComment(
+            String.format("%s command implementation.", interfaceName),
+            INDENTATION_NO_INDENTATION));
+    declaration.addImplementedType(interfaceName);
+    declaration.addField(COMMAND_INVOKER, INVOKER_FIELD, Modifier.PRIVATE, Modifier.FINAL);
+
+    ConstructorDeclaration constructor = declaration.addConstructor(Modifier.PUBLIC);
+    constructor.addParameter(COMMAND_INVOKER, INVOKER_FIELD);
+    constructor.setBody(
+        JavaParser.parseBlock(String.format("{ this.%1$s = %1$s; }", INVOKER_FIELD)));
+
+    ClassOrInterfaceDeclaration interfaceDeclaration =
+        interfaceUnit
+            .getInterfaceByName(interfaceName)
+            .orElseThrow(
+                () -> new IllegalStateException("Missing " + interfaceName + " interface."));
+
+    for (MethodDeclaration method : interfaceDeclaration.getMethods()) {
+      declaration.addMember(buildMethod(interfaceName, method));
+    }
+
+    return compilationUnit;
+  }
+
+  private static MethodDeclaration buildMethod(String interfaceName, MethodDeclaration method) {
+    MethodDeclaration result =
+        new MethodDeclaration(
+            EnumSet.of(Modifier.PUBLIC), method.getType().clone(), method.getNameAsString());
+
+    result.addMarkerAnnotation(OVERRIDE_ANNOTATION);
+    if (method.getAnnotationByName(TypesBuilder.DEPRECATED_ANNOTATION).isPresent()) {
+      result.addMarkerAnnotation(TypesBuilder.DEPRECATED_ANNOTATION);
+    }
+
+    for (Parameter parameter : method.getParameters()) {
+      result.addParameter(parameter.getType().clone(), parameter.getNameAsString());
+    }
+
+    Optional<String> eventName = getAnnotationValue(method, TypesBuilder.EVENT_NAME);
+    if (eventName.isPresent()) {
+      result.setBody(JavaParser.parseBlock(buildEventBody(interfaceName, eventName.get(), method)));
+    } else {
+      result.setBody(JavaParser.parseBlock(buildCommandBody(interfaceName, method)));
+    }
+
+    return result;
+  }
+
+  private static String buildEventBody(
+      String interfaceName, String eventName, MethodDeclaration method) {
+    Parameter eventHandler = method.getParameter(0);
+    Type eventType =
+        eventHandler
+            .getType()
+            .asClassOrInterfaceType()
+            .getTypeArguments()
+            .orElseThrow(() -> new IllegalStateException("Missing event type on " + method))
+            .get(0);
+
+    return String.format(
+        "{ return %s.addEventListener(\"%s\", \"%s\", %s, %s.class); }",
+        INVOKER_FIELD,
+        interfaceName,
+        eventName,
+        eventHandler.getNameAsString(),
+        eventType.asString());
+  }
+
+  private static String buildCommandBody(String interfaceName, MethodDeclaration method) {
+    StringBuilder body = new StringBuilder("{");
+
+    String params = "Collections.emptyMap()";
+    if (!method.getParameters().isEmpty()) {
+      params = PARAMS_VARIABLE;
+      body.append("Map<String, Object> ").append(PARAMS_VARIABLE).append(" = new HashMap<>();");
+
+      for (Parameter parameter : method.getParameters()) {
+        String paramName =
+            getAnnotationValue(parameter.getAnnotationByName(TypesBuilder.PARAM_NAME_ANNOTATION))
+                .orElse(parameter.getNameAsString());
+
+        body.append(
+            String.format(
+                "%s.put(\"%s\", %s);", PARAMS_VARIABLE, paramName, parameter.getNameAsString()));
+      }
+    }
+
+    String returnProperty =
+        getAnnotationValue(method, TypesBuilder.RETURNS_ANNOTATION)
+            .map(value -> "\"" + value + "\"")
+            .orElse("null");
+
+    String returnTypeClasses =
+        method
+            .getAnnotationByName(TypesBuilder.RETURN_TYPE_PARAMETER_ANNOTATION)
+            .map(CommandImplementationBuilder::buildReturnTypeClasses)
+            .orElse("null");
+
+    Type returnType = method.getType();
+    if (!returnType.isVoidType()) {
+      body.append("return ");
+    }
+
+    body.append(
+        String.format(
+            "%s.invoke(\"%s.%s\", %s, %s, %s, %s); }",
+            INVOKER_FIELD,
+            interfaceName,
+            method.getNameAsString(),
+            params,
+            returnProperty,
+            buildReturnClass(returnType),
+            returnTypeClasses));
+
+    return body.toString();
+  }
+
+  private static String buildReturnClass(Type returnType) {
+    if (returnType.isVoidType()) {
+      return "Void.TYPE";
+    }
+
+    if (returnType.isClassOrInterfaceType()) {
+      ClassOrInterfaceType classType = returnType.asClassOrInterfaceType().clone();
+      classType.removeTypeArguments();
+      return classType.asString() + ".class";
+    }
+
+    return returnType.asString() + ".class";
+  }
+
+  private static String buildReturnTypeClasses(AnnotationExpr annotation) {
+    Expression value = ((SingleMemberAnnotationExpr) annotation).getMemberValue();
+
+    List<Expression> classes = Collections.singletonList(value);
+    if (value instanceof ArrayInitializerExpr) {
+      classes = ((ArrayInitializerExpr) value).getValues();
+    }
+
+    return classes
+        .stream()
+        .map(Expression::toString)
+        .collect(Collectors.joining(", ", "new Class<?>[] {", "}"));
+  }
+
+  private static Optional<String> getAnnotationValue(
+      MethodDeclaration method, String annotationName) {
+    return getAnnotationValue(method.getAnnotationByName(annotationName));
+  }
+
+  private static Optional<String> getAnnotationValue(Optional<AnnotationExpr> annotation) {
+    return annotation
+        .filter(SingleMemberAnnotationExpr.class::isInstance)
+        .map(expr -> ((SingleMemberAnnotationExpr) expr).getMemberValue())
+        .filter(StringLiteralExpr.class::isInstance)
+        .map(expr -> ((StringLiteralExpr) expr).getValue());
+  }
+
+  /**
+   * Returns a field name for a domain, ie. Page to page, CSS to css and DOMDebugger to domDebugger.
+   *
+   * @param domain Domain.
+   * @return Field name.
+   */
+  static String toFieldName(String domain) {
+    int upperCaseCount = 0;
+    while (upperCaseCount < domain.length()
+        && Character.isUpperCase(domain.charAt(upperCaseCount))) {
+      upperCaseCount++;
+    }
+
+    // Keep the last upper case letter of an acronym followed by a word, ie. DOMDebugger.
+    int lowerCaseCount = upperCaseCount;
+    if (upperCaseCount > 1 && upperCaseCount < domain.length()) {
+      lowerCaseCount--;
+    }
+
+    return domain.substring(0, lowerCaseCount).toLowerCase() + domain.substring(lowerCaseCount);
+  }
+}
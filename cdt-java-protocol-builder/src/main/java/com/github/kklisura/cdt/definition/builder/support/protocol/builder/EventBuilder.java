@@ -53,7 +53,24 @@ public class EventBuilder extends TypesBuilder {
    */
   public EventBuilder(
       String basePackageName, JavaBuilderFactory javaBuilderFactory, String typesPackageName) {
-    super(basePackageName, javaBuilderFactory, true);
+    this(basePackageName, javaBuilderFactory, typesPackageName, false);
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param basePackageName Package name for events.
+   * @param javaBuilderFactory Builder factory.
+   * @param typesPackageName Package name where types reside.
+   * @param primitiveArrays True if integer and number arrays should be mapped to int[] and double[]
+   *     instead of boxed lists.
+   */
+  public EventBuilder(
+      String basePackageName,
+      JavaBuilderFactory javaBuilderFactory,
+      String typesPackageName,
+      boolean primitiveArrays) {
+    super(basePackageName, javaBuilderFactory, true, false, primitiveArrays);
     this.typesPackageName = typesPackageName;
   }
 
@@ -0,0 +1,114 @@
+package com.github.kklisura.cdt.definition.builder.support.protocol.builder;
+
+/*-
+ * #%L
+ * cdt-java-protocol-builder
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.definition.builder.support.utils.StringUtils.buildPackageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.Builder;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.SourceProject;
+import com.github.kklisura.cdt.protocol.definition.types.Domain;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds GraalVM native-image reflection metadata for protocol types and events. Types and events
+ * are registered with their constructors, fields and public methods, so that reflective json
+ * binding keeps working in a native executable. Commands need no metadata since they are generated
+ * as concrete classes.
+ *
+ * @author Kenan Klisura
+ */
+public class NativeImageConfigBuilder {
+  public static final String REFLECT_CONFIG_FILE = "reflect-config.json";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private Path configLocation;
+  private String typesPackageName;
+  private String eventsPackageName;
+
+  /**
+   * Creates a new native image config builder.
+   *
+   * @param configLocation Directory where native image config files are written.
+   * @param typesPackageName Package name where types reside.
+   * @param eventsPackageName Package name where events reside.
+   */
+  public NativeImageConfigBuilder(
+      Path configLocation, String typesPackageName, String eventsPackageName) {
+    this.configLocation = configLocation;
+    this.typesPackageName = typesPackageName;
+    this.eventsPackageName = eventsPackageName;
+  }
+
+  /**
+   * Builds a reflection config with all the types and events. Types and events of all domains need
+   * to be built into source project before this builder.
+   *
+   * @param domains Domains.
+   * @return Builder.
+   */
+  public Builder build(List<Domain> domains) {
+    return sourceProject -> {
+      List<Map<String, Object>> reflectConfig = new ArrayList<>();
+      for (Domain domain : domains) {
+        addClasses(reflectConfig, sourceProject, getDomainPackageName(typesPackageName, domain));
+        addClasses(reflectConfig, sourceProject, getDomainPackageName(eventsPackageName, domain));
+      }
+
+      byte[] content =
+          OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(reflectConfig);
+
+      // Config is written only if changed, so that unchanged resources are not processed again.
+      Path configFile = configLocation.resolve(REFLECT_CONFIG_FILE);
+      if (!Files.exists(configFile) || !Arrays.equals(content, Files.readAllBytes(configFile))) {
+        Files.createDirectories(configLocation);
+        Files.write(configFile, content);
+      }
+    };
+  }
+
+  private static void addClasses(
+      List<Map<String, Object>> reflectConfig, SourceProject sourceProject, String packageName) {
+    for (CompilationUnit compilationUnit : sourceProject.getCompilationUnits(packageName)) {
+      for (TypeDeclaration<?> typeDeclaration : compilationUnit.getTypes()) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("name", packageName + "." + typeDeclaration.getNameAsString());
+        entry.put("allDeclaredConstructors", true);
+        entry.put("allDeclaredFields", true);
+        entry.put("allPublicMethods", true);
+        reflectConfig.add(entry);
+      }
+    }
+  }
+
+  private static String getDomainPackageName(String packageName, Domain domain) {
+    return buildPackageName(packageName, domain.getDomain().toLowerCase());
+  }
+}
@@ -69,6 +69,9 @@ public class TypesBuilder {
   private static final Map<Class, String> PROPERTY_TO_JAVA_TYPE_MAP = new HashMap<>();
   private static final Map<Class, String> ARRAY_ITEM_TYPE_TO_JAVA_TYPE_MAP = new HashMap<>();
   private static final Map<Class, String> ARRAY_TYPE_ITEM_TYPE_TO_JAVA_TYPE_MAP = new HashMap<>();
+  private static final Map<String, String> ITEM_TYPE_TO_PRIMITIVE_ARRAY_TYPE_MAP = new HashMap<>();
+
+  private static final String PRIMITIVE_ARRAY_SUFFIX = "[]";
 
   private final Map<Class, Function<TypeBuildRequest, TypeHandlerResult>> typeHandlers =
       new HashMap<>();
@@ -82,6 +85,7 @@ public class TypesBuilder {
 
   private boolean generateEmptyClasses;
   private boolean importFullyQualifiedSameRefs;
+  private boolean primitiveArrays;
 
   // Register property class to java type mapping.
   static {
@@ -129,6 +133,12 @@ public class TypesBuilder {
         "Integer");
   }
 
+  // Registers integer and number array item java types to primitive java arrays.
+  static {
+    ITEM_TYPE_TO_PRIMITIVE_ARRAY_TYPE_MAP.put("Integer", "int[]");
+    ITEM_TYPE_TO_PRIMITIVE_ARRAY_TYPE_MAP.put("Double", "double[]");
+  }
+
   // Register type class mapping to java types.
   static {
     registerType(StringType.class, "String");
@@ -150,16 +160,42 @@ public class TypesBuilder {
    * @param generateEmptyClasses True if we should generate empty classes.
    * @param importFullyQualifiedSameRefs True if same-package names should be used as
    *     fully-qualified types.
+   * @param primitiveArrays True if integer and number arrays should be mapped to int[] and double[]
+   *     instead of boxed lists.
    */
   public TypesBuilder(
       String basePackageName,
       JavaBuilderFactory javaBuilderFactory,
       boolean generateEmptyClasses,
-      boolean importFullyQualifiedSameRefs) {
+      boolean importFullyQualifiedSameRefs,
+      boolean primitiveArrays) {
     this.basePackageName = basePackageName;
     this.javaBuilderFactory = javaBuilderFactory;
     this.generateEmptyClasses = generateEmptyClasses;
     this.importFullyQualifiedSameRefs = importFullyQualifiedSameRefs;
+    this.primitiveArrays = primitiveArrays;
+  }
+
+  /**
+   * Ctor.
+   *
+   * @param basePackageName Package name for all types.
+   * @param javaBuilderFactory Builder factory.
+   * @param generateEmptyClasses True if we should generate empty classes.
+   * @param importFullyQualifiedSameRefs True if same-package names should be used as
+   *     fully-qualified types.
+   */
+  public TypesBuilder(
+      String basePackageName,
+      JavaBuilderFactory javaBuilderFactory,
+      boolean generateEmptyClasses,
+      boolean importFullyQualifiedSameRefs) {
+    this(
+        basePackageName,
+        javaBuilderFactory,
+        generateEmptyClasses,
+        importFullyQualifiedSameRefs,
+        false);
   }
 
   /**
@@ -405,11 +441,13 @@ public class TypesBuilder {
       result.setSubType(itemResult.getSubType());
     } else {
       final String subType = getArrayItemJavaType(arrayItem);
-      result.setType(buildArrayJavaType(subType));
+      result.setType(buildItemArrayJavaType(subType));
       result.setSubType(subType);
     }
 
-    request.getImportAwareBuilder().addImport(UTILS_PACKAGE, LIST_CLASS_NAME);
+    if (!isPrimitiveArrayJavaType(result.getType())) {
+      request.getImportAwareBuilder().addImport(UTILS_PACKAGE, LIST_CLASS_NAME);
+    }
 
     return result;
   }
@@ -426,7 +464,7 @@ public class TypesBuilder {
             request.getDomainTypeResolver());
 
     ArrayItemHandlerResult result = new ArrayItemHandlerResult();
-    result.setType(buildArrayJavaType(objectName));
+    result.setType(buildItemArrayJavaType(objectName));
     result.setTyped(true);
     result.setSubType(objectName);
     return result;
@@ -478,8 +516,6 @@ public class TypesBuilder {
     // java types.
     Type type = domainTypeResolver.resolve(namespace, ref);
     if (isArrayType(type)) {
-      importAwareBuilder.addImport(UTILS_PACKAGE, LIST_CLASS_NAME);
-
       ArrayType arrayType = (ArrayType) type;
       String arrayItemType = null;
 
@@ -496,7 +532,12 @@ public class TypesBuilder {
         arrayItemType = getArrayItemJavaType(arrayType.getItems());
       }
 
-      return buildArrayJavaType(arrayItemType);
+      String arrayJavaType = buildItemArrayJavaType(arrayItemType);
+      if (!isPrimitiveArrayJavaType(arrayJavaType)) {
+        importAwareBuilder.addImport(UTILS_PACKAGE, LIST_CLASS_NAME);
+      }
+
+      return arrayJavaType;
     }
     if (!isComplexType(type)) {
       return getTypeJavaType(type);
@@ -568,9 +609,31 @@ public class TypesBuilder {
   }
 
   protected static String buildArrayJavaType(String type) {
+    // Arrays of primitive arrays are primitive arrays themselves, ie. double[][].
+    if (isPrimitiveArrayJavaType(type)) {
+      return type + PRIMITIVE_ARRAY_SUFFIX;
+    }
     return LIST_CLASS_NAME + "<" + type + ">";
   }
 
+  /**
+   * Returns an array java type given an item type. Integer and number items are mapped to primitive
+   * arrays if primitive arrays are enabled.
+   *
+   * @param type Item type.
+   * @return Array java type.
+   */
+  protected String buildItemArrayJavaType(String type) {
+    if (primitiveArrays && ITEM_TYPE_TO_PRIMITIVE_ARRAY_TYPE_MAP.containsKey(type)) {
+      return ITEM_TYPE_TO_PRIMITIVE_ARRAY_TYPE_MAP.get(type);
+    }
+    return buildArrayJavaType(type);
+  }
+
+  protected static boolean isPrimitiveArrayJavaType(String type) {
+    return type != null && type.endsWith(PRIMITIVE_ARRAY_SUFFIX);
+  }
+
   /**
    * Register array item to java type mapping.
    *
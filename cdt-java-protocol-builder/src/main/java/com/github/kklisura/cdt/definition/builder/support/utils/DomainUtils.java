@@ -20,10 +20,24 @@ package com.github.kklisura.cdt.definition.builder.support.utils;
  * #L%
  */
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.kklisura.cdt.definition.builder.support.protocol.builder.support.DomainTypeResolver;
 import com.github.kklisura.cdt.protocol.definition.DevToolsProtocol;
 import com.github.kklisura.cdt.protocol.definition.types.Domain;
 import com.github.kklisura.cdt.protocol.definition.types.Type;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -33,6 +47,12 @@ import lombok.experimental.UtilityClass;
  */
 @UtilityClass
 public class DomainUtils {
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+  private static final Pattern REF_DOMAIN_PATTERN = Pattern.compile("\"\\$ref\":\"(\\w+)\\.");
+  private static final Pattern REF_PATTERN = Pattern.compile("\"\\$ref\":\"(?:(\\w+)\\.)?(\\w+)\"");
+
   /**
    * Builds a resolver based on dev tools protocol.
    *
@@ -56,4 +76,150 @@ public class DomainUtils {
       throw new RuntimeException("Type " + object + " on domain " + domain + " not found!");
     });
   }
+
+  /**
+   * Returns names of the domains which changed between previous and current protocol. Domains
+   * referencing types of changed domains are considered changed as well, since their generated code
+   * depends on the referenced types. Domains removed from current protocol are not returned.
+   *
+   * @param previousProtocol Previous dev tools protocol.
+   * @param protocol Current dev tools protocol.
+   * @return Changed domain names.
+   * @throws IOException If domains could not be serialized.
+   */
+  public static Set<String> changedDomains(
+      DevToolsProtocol previousProtocol, DevToolsProtocol protocol) throws IOException {
+    Map<String, String> previousDomains = new HashMap<>();
+    for (Domain domain : previousProtocol.getDomains()) {
+      previousDomains.put(domain.getDomain(), OBJECT_MAPPER.writeValueAsString(domain));
+    }
+
+    Set<String> changedDomains = new HashSet<>();
+    Map<String, Set<String>> referencedDomains = new HashMap<>();
+
+    for (Domain domain : protocol.getDomains()) {
+      String value = OBJECT_MAPPER.writeValueAsString(domain);
+      if (!value.equals(previousDomains.get(domain.getDomain()))) {
+        changedDomains.add(domain.getDomain());
+      }
+
+      Set<String> references = new HashSet<>();
+      Matcher matcher = REF_DOMAIN_PATTERN.matcher(value);
+      while (matcher.find()) {
+        references.add(matcher.group(1));
+      }
+      referencedDomains.put(domain.getDomain(), references);
+    }
+
+    boolean updated = true;
+    while (updated) {
+      updated = false;
+      for (Map.Entry<String, Set<String>> entry : referencedDomains.entrySet()) {
+        if (!changedDomains.contains(entry.getKey())
+            && entry.getValue().stream().anyMatch(changedDomains::contains)) {
+          changedDomains.add(entry.getKey());
+          updated = true;
+        }
+      }
+    }
+
+    return changedDomains;
+  }
+
+  /**
+   * Returns a subset of the protocol with given domains. Other domains are reduced to the types
+   * which given domains reference, directly or through other referenced types, and have neither
+   * commands nor events. Domains of a subset keep their order in the protocol.
+   *
+   * @param protocol Dev tools protocol.
+   * @param domainNames Names of domains to include.
+   * @return Protocol subset.
+   * @throws IOException If domains could not be serialized.
+   */
+  public static DevToolsProtocol subsetProtocol(DevToolsProtocol protocol, Set<String> domainNames)
+      throws IOException {
+    Set<String> protocolDomainNames = new HashSet<>();
+    for (Domain domain : protocol.getDomains()) {
+      protocolDomainNames.add(domain.getDomain());
+    }
+    for (String domainName : domainNames) {
+      if (!protocolDomainNames.contains(domainName)) {
+        throw new RuntimeException("Domain " + domainName + " not found!");
+      }
+    }
+
+    DomainTypeResolver resolver = devToolsProtocolResolver(protocol);
+
+    Map<String, Set<String>> referencedTypes = new HashMap<>();
+    Deque<String[]> pendingTypes = new ArrayDeque<>();
+
+    for (Domain domain : protocol.getDomains()) {
+      if (domainNames.contains(domain.getDomain())) {
+        addReferencedTypes(domain.getDomain(), domain, domainNames, referencedTypes, pendingTypes);
+      }
+    }
+
+    while (!pendingTypes.isEmpty()) {
+      String[] pendingType = pendingTypes.pop();
+      Type type = resolver.resolve(pendingType[0], pendingType[1]);
+      addReferencedTypes(pendingType[0], type, domainNames, referencedTypes, pendingTypes);
+    }
+
+    List<Domain> domains = new ArrayList<>();
+    for (Domain domain : protocol.getDomains()) {
+      if (domainNames.contains(domain.getDomain())) {
+        domains.add(domain);
+      } else if (referencedTypes.containsKey(domain.getDomain())) {
+        Set<String> typeIds = referencedTypes.get(domain.getDomain());
+
+        Domain typesDomain = new Domain();
+        typesDomain.setDomain(domain.getDomain());
+        typesDomain.setDescription(domain.getDescription());
+        typesDomain.setExperimental(domain.getExperimental());
+        typesDomain.setDeprecated(domain.getDeprecated());
+        typesDomain.setTypes(
+            domain
+                .getTypes()
+                .stream()
+                .filter(type -> typeIds.contains(type.getId()))
+                .collect(Collectors.toList()));
+        domains.add(typesDomain);
+      }
+    }
+
+    DevToolsProtocol result = new DevToolsProtocol();
+    result.setVersion(protocol.getVersion());
+    result.setDomains(domains);
+    return result;
+  }
+
+  /**
+   * Adds types referenced by a protocol object to referenced types. Types of given domains are
+   * skipped, since given domains are included as a whole.
+   *
+   * @param domainName Domain of a protocol object, used for unqualified references.
+   * @param object Protocol object, ie. domain or type.
+   * @param domainNames Included domains.
+   * @param referencedTypes Referenced type ids by domain.
+   * @param pendingTypes Newly referenced types, as domain and type id pairs.
+   * @throws IOException If object could not be serialized.
+   */
+  private static void addReferencedTypes(
+      String domainName,
+      Object object,
+      Set<String> domainNames,
+      Map<String, Set<String>> referencedTypes,
+      Deque<String[]> pendingTypes)
+      throws IOException {
+    Matcher matcher = REF_PATTERN.matcher(OBJECT_MAPPER.writeValueAsString(object));
+    while (matcher.find()) {
+      String refDomain = matcher.group(1) != null ? matcher.group(1) : domainName;
+      String refType = matcher.group(2);
+
+      if (!domainNames.contains(refDomain)
+          && referencedTypes.computeIfAbsent(refDomain, key -> new HashSet<>()).add(refType)) {
+        pendingTypes.push(new String[] {refDomain, refType});
+      }
+    }
+  }
 }
@@ -22,7 +22,10 @@ package com.github.kklisura.cdt.definition.builder.support.java.builder.impl;
 
 import static org.easymock.EasyMock.expect;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.github.javaparser.ast.CompilationUnit;
@@ -32,9 +35,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
 import org.easymock.EasyMockRunner;
 import org.easymock.EasyMockSupport;
 import org.easymock.Mock;
@@ -86,6 +93,64 @@ public class SourceProjectImplTest extends EasyMockSupport {
             .endsWith("source-project/main/com/github/kklisura/name.java"));
   }
 
+  @Test
+  public void testGetCompilationUnit() {
+    CompilationUnit compilationUnit1 = new CompilationUnit();
+
+    expect(path.resolve("com/github/kklisura"))
+        .andReturn(Paths.get("source-project/main/com/github/kklisura"));
+
+    expect(sourceRoot.getRoot()).andReturn(path);
+
+    expect(sourceRoot.add(compilationUnit1)).andReturn(sourceRoot);
+
+    replayAll();
+
+    assertNull(sourceProject.getCompilationUnit("com.github.kklisura", "name"));
+
+    sourceProject.addCompilationUnit("com.github.kklisura", "name", compilationUnit1);
+
+    verifyAll();
+
+    assertSame(compilationUnit1, sourceProject.getCompilationUnit("com.github.kklisura", "name"));
+    assertNull(sourceProject.getCompilationUnit("com.github.kklisura", "other"));
+  }
+
+  @Test
+  public void testGetCompilationUnits() {
+    CompilationUnit compilationUnit1 = new CompilationUnit("package1");
+    CompilationUnit compilationUnit2 = new CompilationUnit("package2");
+    CompilationUnit compilationUnit3 = new CompilationUnit("package3");
+
+    expect(path.resolve("com/github/kklisura"))
+        .andReturn(Paths.get("source-project/main/com/github/kklisura"))
+        .times(2);
+    expect(path.resolve("com/github/kklisura/sub"))
+        .andReturn(Paths.get("source-project/main/com/github/kklisura/sub"));
+
+    expect(sourceRoot.getRoot()).andReturn(path).times(3);
+
+    expect(sourceRoot.add(compilationUnit1)).andReturn(sourceRoot);
+    expect(sourceRoot.add(compilationUnit2)).andReturn(sourceRoot);
+    expect(sourceRoot.add(compilationUnit3)).andReturn(sourceRoot);
+
+    replayAll();
+
+    sourceProject.addCompilationUnit("com.github.kklisura", "name2", compilationUnit2);
+    sourceProject.addCompilationUnit("com.github.kklisura", "name1", compilationUnit1);
+    sourceProject.addCompilationUnit("com.github.kklisura.sub", "name3", compilationUnit3);
+
+    verifyAll();
+
+    assertEquals(
+        Arrays.asList(compilationUnit1, compilationUnit2),
+        sourceProject.getCompilationUnits("com.github.kklisura"));
+    assertEquals(
+        Collections.singletonList(compilationUnit3),
+        sourceProject.getCompilationUnits("com.github.kklisura.sub"));
+    assertTrue(sourceProject.getCompilationUnits("com.github").isEmpty());
+  }
+
   @Test(expected = RuntimeException.class)
   public void testAddCompilationUnitThrowsExceptionWhenAddingDuplicateCompilationUnit() {
     CompilationUnit compilationUnit1 = new CompilationUnit();
@@ -175,4 +240,131 @@ public class SourceProjectImplTest extends EasyMockSupport {
       file.delete();
     }
   }
+
+  @Test
+  public void testSaveAllSkipsUnchangedSources() throws IOException {
+    Path path = Files.createTempDirectory("cdt-test-dir");
+
+    sourceProject = new SourceProjectImpl(path);
+    sourceProject.addCompilationUnit("com.github.kklisura", "TestClass", createTestClass());
+    sourceProject.saveAll();
+
+    Path file = path.resolve("com/github/kklisura/TestClass.java");
+    String source = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+    String licensedSource =
+        source.replace(
+            "package com.github.kklisura;\n",
+            "package com.github.kklisura;\n\n"
+                + "/*-\n * #"
+                + "%L\n * cdt-java-client\n * %%\n * Copyright (C) 2018 Kenan Klisura\n"
+                + " * %%\n * #"
+                + "L%\n */\n");
+    Files.write(file, licensedSource.getBytes(StandardCharsets.UTF_8));
+
+    FileTime lastModifiedTime = FileTime.fromMillis(1000);
+    Files.setLastModifiedTime(file, lastModifiedTime);
+
+    sourceProject = new SourceProjectImpl(path);
+    sourceProject.addCompilationUnit("com.github.kklisura", "TestClass", createTestClass());
+    sourceProject.saveAll();
+
+    assertEquals(lastModifiedTime, Files.getLastModifiedTime(file));
+    assertEquals(licensedSource, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+
+    CompilationUnit changedCompilationUnit = createTestClass();
+    changedCompilationUnit.getClassByName("TestClass").get().addPrivateField("Type", "other");
+
+    sourceProject = new SourceProjectImpl(path);
+    sourceProject.addCompilationUnit("com.github.kklisura", "TestClass", changedCompilationUnit);
+    sourceProject.saveAll();
+
+    assertTrue(
+        new String(Files.readAllBytes(file), StandardCharsets.UTF_8)
+            .contains("private Type other;"));
+  }
+
+  @Test
+  public void testSaveAllRemovesStaleSources() throws IOException {
+    Path path = Files.createTempDirectory("cdt-test-dir");
+
+    Path staleFile = path.resolve("com/github/kklisura/StaleClass.java");
+    Path otherFile = path.resolve("com/github/kklisura/other.txt");
+    Path otherPackageFile = path.resolve("com/github/OtherClass.java");
+    Files.createDirectories(staleFile.getParent());
+    Files.write(staleFile, new byte[0]);
+    Files.write(otherFile, new byte[0]);
+    Files.write(otherPackageFile, new byte[0]);
+
+    sourceProject = new SourceProjectImpl(path);
+    sourceProject.addCompilationUnit("com.github.kklisura", "TestClass", createTestClass());
+    sourceProject.saveAll();
+
+    assertTrue(Files.exists(path.resolve("com/github/kklisura/TestClass.java")));
+    assertFalse(Files.exists(staleFile));
+    assertTrue(Files.exists(otherFile));
+    assertTrue(Files.exists(otherPackageFile));
+  }
+
+  @Test
+  public void testSaveAllRemovesStaleSourcesOfGeneratedPackages() throws IOException {
+    Path path = Files.createTempDirectory("cdt-test-dir");
+
+    Path staleFile = path.resolve("com/github/kklisura/types/removed/StaleClass.java");
+    Path staleSubpackageFile = path.resolve("com/github/kklisura/types/kept/StaleClass.java");
+    Path otherPackageFile = path.resolve("com/github/kklisura/support/SupportClass.java");
+    Files.createDirectories(staleFile.getParent());
+    Files.createDirectories(staleSubpackageFile.getParent());
+    Files.createDirectories(otherPackageFile.getParent());
+    Files.write(staleFile, new byte[0]);
+    Files.write(staleSubpackageFile, new byte[0]);
+    Files.write(otherPackageFile, new byte[0]);
+
+    CompilationUnit compilationUnit = new CompilationUnit("com.github.kklisura.types.kept");
+    compilationUnit.addClass("TestClass");
+
+    sourceProject =
+        new SourceProjectImpl(path, Collections.singletonList("com.github.kklisura.types"));
+    sourceProject.addCompilationUnit(
+        "com.github.kklisura.types.kept", "TestClass", compilationUnit);
+    sourceProject.saveAll();
+
+    assertTrue(Files.exists(path.resolve("com/github/kklisura/types/kept/TestClass.java")));
+    assertFalse(Files.exists(staleSubpackageFile));
+    assertFalse(Files.exists(staleFile.getParent()));
+    assertTrue(Files.exists(otherPackageFile));
+  }
+
+  @Test
+  public void testUnsavedView() throws IOException {
+    Path path = Files.createTempDirectory("cdt-test-dir");
+
+    Path unsavedFile = path.resolve("com/github/kklisura/UnsavedClass.java");
+    Files.createDirectories(unsavedFile.getParent());
+    Files.write(unsavedFile, new byte[0]);
+
+    CompilationUnit unsavedCompilationUnit = new CompilationUnit("com.github.kklisura");
+    unsavedCompilationUnit.addClass("UnsavedClass");
+
+    sourceProject = new SourceProjectImpl(path);
+    sourceProject.addCompilationUnit("com.github.kklisura", "TestClass", createTestClass());
+    sourceProject
+        .unsavedView()
+        .addCompilationUnit("com.github.kklisura", "UnsavedClass", unsavedCompilationUnit);
+
+    assertSame(
+        unsavedCompilationUnit,
+        sourceProject.getCompilationUnit("com.github.kklisura", "UnsavedClass"));
+
+    sourceProject.saveAll();
+
+    assertTrue(Files.exists(path.resolve("com/github/kklisura/TestClass.java")));
+    assertEquals(0, Files.size(unsavedFile));
+  }
+
+  private static CompilationUnit createTestClass() {
+    CompilationUnit compilationUnit = new CompilationUnit("com.github.kklisura");
+    compilationUnit.addClass("TestClass").addPrivateField("FieldType", "fieldName");
+    return compilationUnit;
+  }
 }
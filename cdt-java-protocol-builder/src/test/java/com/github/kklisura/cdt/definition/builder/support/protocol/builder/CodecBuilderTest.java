@@ -0,0 +1,253 @@
+package com.github.kklisura.cdt.definition.builder.support.protocol.builder;
+
+/*-
+ * #%L
+ * cdt-java-protocol-builder
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.SourceProject;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.impl.JavaClassBuilderImpl;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.impl.JavaEnumBuilderImpl;
+import com.github.kklisura.cdt.protocol.definition.types.Domain;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.easymock.Capture;
+import org.easymock.EasyMockRunner;
+import org.easymock.EasyMockSupport;
+import org.easymock.Mock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Codec builder test.
+ *
+ * @author Kenan Klisura
+ */
+@RunWith(EasyMockRunner.class)
+public class CodecBuilderTest extends EasyMockSupport {
+  private static final String CODECS_PACKAGE_NAME = "com.github.kklisura.codecs";
+  private static final String TYPES_PACKAGE_NAME = "com.github.kklisura.types";
+  private static final String EVENTS_PACKAGE_NAME = "com.github.kklisura.events";
+  private static final String SUPPORT_CODECS_PACKAGE_NAME = "com.github.kklisura.support.codecs";
+  private static final String ANNOTATIONS_PACKAGE_NAME = "com.github.kklisura.support.annotations";
+
+  @Mock private SourceProject sourceProject;
+
+  @Mock private SourceProject unsavedSourceProject;
+
+  private CodecBuilder codecBuilder;
+
+  @Before
+  public void setUp() {
+    codecBuilder =
+        new CodecBuilder(
+            CODECS_PACKAGE_NAME,
+            TYPES_PACKAGE_NAME,
+            EVENTS_PACKAGE_NAME,
+            SUPPORT_CODECS_PACKAGE_NAME);
+  }
+
+  @Test
+  public void testBuild() throws IOException {
+    Domain dom = new Domain();
+    dom.setDomain("DOM");
+
+    Domain runtime = new Domain();
+    runtime.setDomain("Runtime");
+
+    JavaEnumBuilderImpl pseudoType =
+        new JavaEnumBuilderImpl(TYPES_PACKAGE_NAME + ".dom", "PseudoType");
+    pseudoType.addEnumConstant("FIRST_LINE", "first-line");
+    pseudoType.addEnumConstant("BEFORE", "before");
+
+    JavaClassBuilderImpl node =
+        new JavaClassBuilderImpl(TYPES_PACKAGE_NAME + ".dom", "Node", ANNOTATIONS_PACKAGE_NAME);
+    node.addImport("java.util", "List");
+    node.addImport(TYPES_PACKAGE_NAME + ".runtime", "RemoteObject");
+    node.addPrivateField("nodeId", "Integer", null);
+    node.addPrivateField("children", "List<Node>", null);
+    node.addPrivateField("pseudoType", "PseudoType", null);
+    node.addPrivateField("quads", "List<List<Double>>", null);
+    node.addPrivateField("this", "RemoteObject", null);
+    node.addPrivateField("childIndexes", "int[]", null);
+    node.addPrivateField("bounds", "double[][]", null);
+    node.generateGettersAndSetters();
+
+    JavaClassBuilderImpl documentUpdated =
+        new JavaClassBuilderImpl(
+            EVENTS_PACKAGE_NAME + ".dom", "DocumentUpdated", ANNOTATIONS_PACKAGE_NAME);
+
+    Capture<CompilationUnit> domCodecsCapture = Capture.newInstance();
+    Capture<CompilationUnit> protocolCodecsCapture = Capture.newInstance();
+
+    expect(sourceProject.getCompilationUnits(TYPES_PACKAGE_NAME + ".dom"))
+        .andReturn(Arrays.asList(node.getCompilationUnit(), pseudoType.getCompilationUnit()));
+    expect(sourceProject.getCompilationUnits(EVENTS_PACKAGE_NAME + ".dom"))
+        .andReturn(Collections.singletonList(documentUpdated.getCompilationUnit()));
+    expect(sourceProject.getCompilationUnits(TYPES_PACKAGE_NAME + ".runtime"))
+        .andReturn(Collections.emptyList());
+    expect(sourceProject.getCompilationUnits(EVENTS_PACKAGE_NAME + ".runtime"))
+        .andReturn(Collections.emptyList());
+
+    sourceProject.addCompilationUnit(
+        eq(CODECS_PACKAGE_NAME), eq("DOMCodecs"), capture(domCodecsCapture));
+    sourceProject.addCompilationUnit(
+        eq(CODECS_PACKAGE_NAME), eq("ProtocolCodecs"), capture(protocolCodecsCapture));
+
+    replayAll();
+
+    codecBuilder.build(Arrays.asList(dom, runtime)).build(sourceProject);
+
+    verifyAll();
+
+    String source = domCodecsCapture.getValue().toString();
+
+    assertTrue(source.contains("import " + TYPES_PACKAGE_NAME + ".dom.Node;"));
+    assertTrue(source.contains("import " + EVENTS_PACKAGE_NAME + ".dom.DocumentUpdated;"));
+    assertTrue(source.contains("import " + SUPPORT_CODECS_PACKAGE_NAME + ".JsonCodecs;"));
+    assertTrue(source.contains("public final class DOMCodecs {"));
+
+    assertTrue(
+        source.contains("module.addCodec(Node.class, DOMCodecs::readNode, DOMCodecs::writeNode);"));
+    assertTrue(
+        source.contains(
+            "module.addReader(DocumentUpdated.class, DOMCodecs::readDocumentUpdated);"));
+
+    // Reader
+    assertTrue(
+        source.contains("public static Node readNode(JsonParser parser) throws IOException"));
+    assertTrue(source.contains("result.setNodeId(JsonCodecs.readInteger(parser));"));
+    assertTrue(
+        source.contains("result.setChildren(JsonCodecs.readList(parser, DOMCodecs::readNode));"));
+    assertTrue(source.contains("result.setPseudoType(readPseudoType(parser));"));
+    assertTrue(
+        source.contains(
+            "result.setQuads(JsonCodecs.readList(parser, "
+                + "JsonCodecs.listReader(JsonCodecs::readDouble)));"));
+    assertTrue(source.contains("case \"this\":"));
+    assertTrue(source.contains("result.setThat(RuntimeCodecs.readRemoteObject(parser));"));
+    assertTrue(source.contains("parser.skipChildren();"));
+    assertTrue(source.contains("result.setChildIndexes(JsonCodecs.readIntArray(parser));"));
+    assertTrue(source.contains("result.setBounds(JsonCodecs.readDoubleArrays(parser));"));
+
+    // Writer
+    assertTrue(
+        source.contains(
+            "public static void writeNode(JsonGenerator generator, Node value) throws IOException"));
+    assertTrue(source.contains("generator.writeFieldName(\"this\");"));
+    assertTrue(source.contains("RuntimeCodecs.writeRemoteObject(generator, value.getThat());"));
+    assertTrue(source.contains("JsonCodecs.writeDoubleArrays(generator, value.getBounds());"));
+    assertTrue(
+        source.contains(
+            "JsonCodecs.writeList(generator, value.getQuads(), "
+                + "JsonCodecs.listWriter(JsonCodecs::writeDouble));"));
+
+    // Enum
+    assertTrue(
+        source.contains(
+            "private static final String[] PSEUDO_TYPE_VALUES = { \"first-line\", \"before\" };"));
+    assertTrue(
+        source.contains("case \"first-line\":\n                return PseudoType.FIRST_LINE;"));
+    assertTrue(
+        source.contains("throw JsonCodecs.unknownEnumValue(parser, PseudoType.class, value);"));
+    assertTrue(source.contains("generator.writeString(PSEUDO_TYPE_VALUES[value.ordinal()]);"));
+
+    // Events are only read.
+    assertTrue(source.contains("public static DocumentUpdated readDocumentUpdated("));
+    assertFalse(source.contains("writeDocumentUpdated"));
+
+    String factorySource = protocolCodecsCapture.getValue().toString();
+    assertTrue(factorySource.contains("public final class ProtocolCodecs {"));
+    assertTrue(factorySource.contains("DOMCodecs.register(module);"));
+    assertFalse(factorySource.contains("RuntimeCodecs"));
+  }
+
+  @Test
+  public void testBuildWithSavedDomainFilter() throws IOException {
+    Domain dom = new Domain();
+    dom.setDomain("DOM");
+
+    Domain runtime = new Domain();
+    runtime.setDomain("Runtime");
+
+    JavaClassBuilderImpl node =
+        new JavaClassBuilderImpl(TYPES_PACKAGE_NAME + ".dom", "Node", ANNOTATIONS_PACKAGE_NAME);
+    node.addPrivateField("nodeId", "Integer", null);
+
+    JavaClassBuilderImpl remoteObject =
+        new JavaClassBuilderImpl(
+            TYPES_PACKAGE_NAME + ".runtime", "RemoteObject", ANNOTATIONS_PACKAGE_NAME);
+    remoteObject.addPrivateField("objectId", "String", null);
+
+    expect(sourceProject.getCompilationUnits(TYPES_PACKAGE_NAME + ".dom"))
+        .andReturn(Collections.singletonList(node.getCompilationUnit()));
+    expect(sourceProject.getCompilationUnits(EVENTS_PACKAGE_NAME + ".dom"))
+        .andReturn(Collections.emptyList());
+    expect(sourceProject.getCompilationUnits(TYPES_PACKAGE_NAME + ".runtime"))
+        .andReturn(Collections.singletonList(remoteObject.getCompilationUnit()));
+    expect(sourceProject.getCompilationUnits(EVENTS_PACKAGE_NAME + ".runtime"))
+        .andReturn(Collections.emptyList());
+
+    expect(sourceProject.unsavedView()).andReturn(unsavedSourceProject);
+
+    unsavedSourceProject.addCompilationUnit(
+        eq(CODECS_PACKAGE_NAME), eq("DOMCodecs"), anyObject(CompilationUnit.class));
+    sourceProject.addCompilationUnit(
+        eq(CODECS_PACKAGE_NAME), eq("RuntimeCodecs"), anyObject(CompilationUnit.class));
+    sourceProject.addCompilationUnit(
+        eq(CODECS_PACKAGE_NAME), eq("ProtocolCodecs"), anyObject(CompilationUnit.class));
+
+    replayAll();
+
+    codecBuilder
+        .build(Arrays.asList(dom, runtime), domain -> "Runtime".equals(domain.getDomain()))
+        .build(sourceProject);
+
+    verifyAll();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testBuildFailsOnUnknownType() throws IOException {
+    Domain dom = new Domain();
+    dom.setDomain("DOM");
+
+    JavaClassBuilderImpl node =
+        new JavaClassBuilderImpl(TYPES_PACKAGE_NAME + ".dom", "Node", ANNOTATIONS_PACKAGE_NAME);
+    node.addImport("com.github.kklisura.unknown", "Unknown");
+    node.addPrivateField("unknown", "Unknown", null);
+
+    expect(sourceProject.getCompilationUnits(TYPES_PACKAGE_NAME + ".dom"))
+        .andReturn(Collections.singletonList(node.getCompilationUnit()));
+    expect(sourceProject.getCompilationUnits(EVENTS_PACKAGE_NAME + ".dom"))
+        .andReturn(Collections.emptyList());
+
+    replayAll();
+
+    codecBuilder.build(Collections.singletonList(dom)).build(sourceProject);
+  }
+}
@@ -0,0 +1,211 @@
+package com.github.kklisura.cdt.definition.builder.support.protocol.builder;
+
+/*-
+ * #%L
+ * cdt-java-protocol-builder
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static com.github.kklisura.cdt.definition.builder.support.protocol.builder.CommandImplementationBuilder.toFieldName;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.SourceProject;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.impl.JavaInterfaceBuilderImpl;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.support.MethodParam;
+import com.github.kklisura.cdt.protocol.definition.types.Domain;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.easymock.Capture;
+import org.easymock.EasyMockRunner;
+import org.easymock.EasyMockSupport;
+import org.easymock.Mock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Command implementation builder test.
+ *
+ * @author Kenan Klisura
+ */
+@RunWith(EasyMockRunner.class)
+public class CommandImplementationBuilderTest extends EasyMockSupport {
+  private static final String BASE_PACKAGE_NAME = "com.github.kklisura.commands";
+  private static final String IMPLEMENTATION_PACKAGE_NAME = "com.github.kklisura.commands.impl";
+  private static final String SUPPORT_TYPES_PACKAGE_NAME = "com.github.kklisura.support.types";
+  private static final String ANNOTATIONS_PACKAGE_NAME = "com.github.kklisura.support.annotations";
+
+  @Mock private SourceProject sourceProject;
+
+  private CommandImplementationBuilder commandImplementationBuilder;
+
+  @Before
+  public void setUp() {
+    commandImplementationBuilder =
+        new CommandImplementationBuilder(
+            BASE_PACKAGE_NAME, IMPLEMENTATION_PACKAGE_NAME, SUPPORT_TYPES_PACKAGE_NAME);
+  }
+
+  @Test
+  public void testBuildDomainImplementation() throws IOException {
+    Domain domain = new Domain();
+    domain.setDomain("Page");
+
+    JavaInterfaceBuilderImpl interfaceBuilder =
+        new JavaInterfaceBuilderImpl(BASE_PACKAGE_NAME, "Page", ANNOTATIONS_PACKAGE_NAME);
+    interfaceBuilder.addImport("java.util", "List");
+
+    interfaceBuilder.addMethod("enable", "Enables page.", null, null);
+
+    interfaceBuilder.addMethod(
+        "navigate",
+        "Navigates page.",
+        Arrays.asList(methodParam("url", "String"), methodParam("frameId", "String")),
+        "String");
+    interfaceBuilder.addParametrizedMethodAnnotation("navigate", "Returns", "frameId");
+    interfaceBuilder.addMethodAnnotation("navigate", "Deprecated");
+
+    interfaceBuilder.addMethod("getQuads", "Returns quads.", null, "List<List<Double>>");
+    interfaceBuilder.addParametrizedMethodAnnotation("getQuads", "Returns", "quads");
+    interfaceBuilder.addParametrizedMethodAnnotation(
+        "getQuads", "ReturnTypeParameter", "{List.class, Double.class}");
+
+    MethodParam eventListener = new MethodParam();
+    eventListener.setName("eventListener");
+    eventListener.setType("EventHandler<LoadEventFired>");
+    interfaceBuilder.addMethod(
+        "onLoadEventFired",
+        "Load event.",
+        Collections.singletonList(eventListener),
+        "EventListener");
+    interfaceBuilder.addParametrizedMethodAnnotation(
+        "onLoadEventFired", "EventName", "loadEventFired");
+
+    Capture<CompilationUnit> compilationUnitCapture = Capture.newInstance();
+
+    expect(sourceProject.getCompilationUnit(BASE_PACKAGE_NAME, "Page"))
+        .andReturn(interfaceBuilder.getCompilationUnit());
+    sourceProject.addCompilationUnit(
+        eq(IMPLEMENTATION_PACKAGE_NAME), eq("PageImpl"), capture(compilationUnitCapture));
+
+    replayAll();
+
+    commandImplementationBuilder.build(domain).build(sourceProject);
+
+    verifyAll();
+
+    String source = compilationUnitCapture.getValue().toString();
+
+    assertTrue(source.contains("import " + BASE_PACKAGE_NAME + ".Page;"));
+    assertTrue(source.contains("import " + SUPPORT_TYPES_PACKAGE_NAME + ".CommandInvoker;"));
+    assertTrue(source.contains("public class PageImpl implements Page {"));
+    assertTrue(source.contains("public PageImpl(CommandInvoker invoker) {"));
+
+    assertTrue(
+        source.contains(
+            "invoker.invoke(\"Page.enable\", Collections.emptyMap(), null, Void.TYPE, null);"));
+
+    assertTrue(
+        source.contains("@Deprecated\n    public String navigate(String url, String frameId)"));
+    assertTrue(source.contains("params.put(\"url\", url);"));
+    assertTrue(source.contains("params.put(\"frameId\", frameId);"));
+    assertTrue(
+        source.contains(
+            "return invoker.invoke(\"Page.navigate\", params, \"frameId\", String.class, null);"));
+
+    assertTrue(
+        source.contains(
+            "return invoker.invoke(\"Page.getQuads\", Collections.emptyMap(), \"quads\", "
+                + "List.class, new Class<?>[] { List.class, Double.class });"));
+
+    assertTrue(
+        source.contains(
+            "return invoker.addEventListener(\"Page\", \"loadEventFired\", eventListener, "
+                + "LoadEventFired.class);"));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testBuildDomainImplementationWithoutInterface() throws IOException {
+    Domain domain = new Domain();
+    domain.setDomain("Page");
+
+    expect(sourceProject.getCompilationUnit(BASE_PACKAGE_NAME, "Page")).andReturn(null);
+
+    replayAll();
+
+    commandImplementationBuilder.build(domain).build(sourceProject);
+  }
+
+  @Test
+  public void testBuildCommandFactory() throws IOException {
+    Domain page = new Domain();
+    page.setDomain("Page");
+
+    Domain domDebugger = new Domain();
+    domDebugger.setDomain("DOMDebugger");
+
+    Capture<CompilationUnit> compilationUnitCapture = Capture.newInstance();
+
+    sourceProject.addCompilationUnit(
+        eq("com.github.kklisura"), eq("ChromeDevToolsImpl"), capture(compilationUnitCapture));
+
+    replayAll();
+
+    commandImplementationBuilder
+        .buildCommandFactory(
+            Arrays.asList(page, domDebugger), "com.github.kklisura", "ChromeDevTools")
+        .build(sourceProject);
+
+    verifyAll();
+
+    String source = compilationUnitCapture.getValue().toString();
+
+    assertTrue(
+        source.contains(
+            "public abstract class ChromeDevToolsImpl implements ChromeDevTools, CommandInvoker {"));
+    assertTrue(source.contains("import " + IMPLEMENTATION_PACKAGE_NAME + ".PageImpl;"));
+    assertTrue(source.contains("private Page page;"));
+    assertTrue(source.contains("public Page getPage() {"));
+    assertTrue(source.contains("page = new PageImpl(this);"));
+    assertTrue(source.contains("private DOMDebugger domDebugger;"));
+    assertTrue(source.contains("domDebugger = new DOMDebuggerImpl(this);"));
+  }
+
+  @Test
+  public void testToFieldName() {
+    assertEquals("page", toFieldName("Page"));
+    assertEquals("css", toFieldName("CSS"));
+    assertEquals("io", toFieldName("IO"));
+    assertEquals("domDebugger", toFieldName("DOMDebugger"));
+    assertEquals("headlessExperimental", toFieldName("HeadlessExperimental"));
+  }
+
+  private static MethodParam methodParam(String name, String type) {
+    MethodParam methodParam = new MethodParam();
+    methodParam.setName(name);
+    methodParam.setType(type);
+    methodParam.setAnnotations(
+        Collections.singletonList(new MethodParam.Annotation("ParamName", name)));
+    return methodParam;
+  }
+}
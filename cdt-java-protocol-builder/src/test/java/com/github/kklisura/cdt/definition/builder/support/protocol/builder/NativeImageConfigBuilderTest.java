@@ -0,0 +1,110 @@
+package com.github.kklisura.cdt.definition.builder.support.protocol.builder;
+
+/*-
+ * #%L
+ * cdt-java-protocol-builder
+ * %%
+ * Copyright (C) 2018 Kenan Klisura
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.SourceProject;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.impl.JavaClassBuilderImpl;
+import com.github.kklisura.cdt.definition.builder.support.java.builder.impl.JavaEnumBuilderImpl;
+import com.github.kklisura.cdt.protocol.definition.types.Domain;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import org.easymock.EasyMockRunner;
+import org.easymock.EasyMockSupport;
+import org.easymock.Mock;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+/**
+ * Native image config builder test.
+ *
+ * @author Kenan Klisura
+ */
+@RunWith(EasyMockRunner.class)
+public class NativeImageConfigBuilderTest extends EasyMockSupport {
+  private static final String TYPES_PACKAGE_NAME = "com.github.kklisura.types";
+  private static final String EVENTS_PACKAGE_NAME = "com.github.kklisura.events";
+  private static final String ANNOTATIONS_PACKAGE_NAME = "com.github.kklisura.support.annotations";
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Mock private SourceProject sourceProject;
+
+  @Test
+  public void testBuild() throws IOException {
+    Domain dom = new Domain();
+    dom.setDomain("DOM");
+
+    Domain runtime = new Domain();
+    runtime.setDomain("Runtime");
+
+    JavaClassBuilderImpl node =
+        new JavaClassBuilderImpl(TYPES_PACKAGE_NAME + ".dom", "Node", ANNOTATIONS_PACKAGE_NAME);
+    JavaEnumBuilderImpl pseudoType =
+        new JavaEnumBuilderImpl(TYPES_PACKAGE_NAME + ".dom", "PseudoType");
+    JavaClassBuilderImpl documentUpdated =
+        new JavaClassBuilderImpl(
+            EVENTS_PACKAGE_NAME + ".dom", "DocumentUpdated", ANNOTATIONS_PACKAGE_NAME);
+
+    expect(sourceProject.getCompilationUnits(TYPES_PACKAGE_NAME + ".dom"))
+        .andReturn(Arrays.asList(node.getCompilationUnit(), pseudoType.getCompilationUnit()));
+    expect(sourceProject.getCompilationUnits(EVENTS_PACKAGE_NAME + ".dom"))
+        .andReturn(Collections.singletonList(documentUpdated.getCompilationUnit()));
+    expect(sourceProject.getCompilationUnits(TYPES_PACKAGE_NAME + ".runtime"))
+        .andReturn(Collections.emptyList());
+    expect(sourceProject.getCompilationUnits(EVENTS_PACKAGE_NAME + ".runtime"))
+        .andReturn(Collections.emptyList());
+
+    replayAll();
+
+    Path configLocation = temporaryFolder.getRoot().toPath().resolve("META-INF/native-image");
+    new NativeImageConfigBuilder(configLocation, TYPES_PACKAGE_NAME, EVENTS_PACKAGE_NAME)
+        .build(Arrays.asList(dom, runtime))
+        .build(sourceProject);
+
+    verifyAll();
+
+    JsonNode reflectConfig =
+        new ObjectMapper()
+            .readTree(
+                configLocation.resolve(NativeImageConfigBuilder.REFLECT_CONFIG_FILE).toFile());
+
+    assertEquals(3, reflectConfig.size());
+    assertEquals(TYPES_PACKAGE_NAME + ".dom.Node", reflectConfig.get(0).get("name").asText());
+    assertEquals(TYPES_PACKAGE_NAME + ".dom.PseudoType", reflectConfig.get(1).get("name").asText());
+    assertEquals(
+        EVENTS_PACKAGE_NAME + ".dom.DocumentUpdated", reflectConfig.get(2).get("name").asText());
+
+    JsonNode entry = reflectConfig.get(0);
+    assertTrue(entry.get("allDeclaredConstructors").asBoolean());
+    assertTrue(entry.get("allDeclaredFields").asBoolean());
+    assertTrue(entry.get("allPublicMethods").asBoolean());
+  }
+}
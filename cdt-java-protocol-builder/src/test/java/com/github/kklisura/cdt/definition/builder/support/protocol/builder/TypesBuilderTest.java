@@ -34,6 +34,7 @@ import com.github.kklisura.cdt.protocol.definition.types.Domain;
 import com.github.kklisura.cdt.protocol.definition.types.Type;
 import com.github.kklisura.cdt.protocol.definition.types.type.ArrayType;
 import com.github.kklisura.cdt.protocol.definition.types.type.EnumType;
+import com.github.kklisura.cdt.protocol.definition.types.type.IntegerType;
 import com.github.kklisura.cdt.protocol.definition.types.type.NumberType;
 import com.github.kklisura.cdt.protocol.definition.types.type.StringType;
 import com.github.kklisura.cdt.protocol.definition.types.type.object.ObjectType;
@@ -670,6 +671,72 @@ public class TypesBuilderTest extends EasyMockSupport {
     assertEquals(javaClassBuilder1, builderList.get(0));
   }
 
+  @Test
+  public void testTypesGeneratorGeneratesPrimitiveArrays()
+      throws InstantiationException, IllegalAccessException {
+    builder = new TypesBuilder(BASE_PACKAGE_NAME, javaBuilderFactory, false, false, true);
+
+    ArrayProperty nodeIndex = createProperty(ArrayProperty.class, "nodeIndex");
+    nodeIndex.setItems(new IntegerArrayItem());
+
+    RefArrayItem rectangleItem = new RefArrayItem();
+    rectangleItem.setRef("Rectangle");
+
+    ArrayProperty bounds = createProperty(ArrayProperty.class, "bounds");
+    bounds.setItems(rectangleItem);
+
+    RefProperty quad = createProperty(RefProperty.class, "quad");
+    quad.setRef("Quad");
+
+    RefArrayItem stringIndexItem = new RefArrayItem();
+    stringIndexItem.setRef("StringIndex");
+
+    ArrayProperty text = createProperty(ArrayProperty.class, "text");
+    text.setItems(stringIndexItem);
+
+    ArrayProperty names = createProperty(ArrayProperty.class, "names");
+    names.setItems(new StringArrayItem());
+
+    ObjectType objectType = createObjectType("someObjectType1", "Description1");
+    objectType.setProperties(Arrays.asList(nodeIndex, bounds, quad, text, names));
+
+    Domain domain = new Domain();
+    domain.setDomain("domain-name");
+    domain.setTypes(Collections.singletonList(objectType));
+
+    expect(javaBuilderFactory.createClassBuilder("my.test.package.domain-name", "SomeObjectType1"))
+        .andReturn(javaClassBuilder1);
+    javaClassBuilder1.setJavaDoc("Description1");
+
+    javaClassBuilder1.addPrivateField("nodeIndex", "int[]", "nodeIndexDescription");
+    javaClassBuilder1.addPrivateField("bounds", "double[][]", "boundsDescription");
+    javaClassBuilder1.addPrivateField("quad", "double[]", "quadDescription");
+    javaClassBuilder1.addPrivateField("text", "int[]", "textDescription");
+    javaClassBuilder1.addPrivateField("names", "List<String>", "namesDescription");
+
+    javaClassBuilder1.generateGettersAndSetters();
+
+    // Only the string array is still a list.
+    javaClassBuilder1.addImport("java.util", "List");
+
+    ArrayType numberArrayType = new ArrayType();
+    numberArrayType.setItems(
+        new com.github.kklisura.cdt.protocol.definition.types.type.array.items.NumberArrayItem());
+
+    expect(resolver.resolve("domain-name", "Rectangle")).andReturn(numberArrayType);
+    expect(resolver.resolve("domain-name", "Quad")).andReturn(numberArrayType);
+    expect(resolver.resolve("domain-name", "StringIndex")).andReturn(new IntegerType());
+
+    replayAll();
+
+    List<Builder> builderList = builder.build(domain, resolver);
+
+    verifyAll();
+
+    assertEquals(1, builderList.size());
+    assertEquals(javaClassBuilder1, builderList.get(0));
+  }
+
   @Test
   public void testTypesGeneratorGeneratesCorrectTypesOnClassTypeWithRefPropertyToPrimitiveType()
       throws InstantiationException, IllegalAccessException {
@@ -21,13 +21,19 @@ package com.github.kklisura.cdt.definition.builder.support.utils;
  */
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import com.github.kklisura.cdt.protocol.definition.DevToolsProtocol;
+import com.github.kklisura.cdt.protocol.definition.types.Command;
 import com.github.kklisura.cdt.protocol.definition.types.Domain;
 import com.github.kklisura.cdt.protocol.definition.types.Type;
 import com.github.kklisura.cdt.protocol.definition.types.type.StringType;
+import com.github.kklisura.cdt.protocol.definition.types.type.object.ObjectType;
+import com.github.kklisura.cdt.protocol.definition.types.type.object.properties.RefProperty;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import org.junit.Test;
 
 /**
@@ -72,4 +78,110 @@ public class DomainUtilsTest {
 
     assertEquals(type, resolvedType);
   }
+
+  @Test
+  public void testChangedDomains() throws IOException {
+    DevToolsProtocol previousProtocol = new DevToolsProtocol();
+    previousProtocol.setDomains(
+        Arrays.asList(
+            createDomain("DOM", "Node id."),
+            createRefDomain("CSS", "DOM.NodeId"),
+            createRefDomain("Overlay", "CSS.Style"),
+            createDomain("Log", "Log entry."),
+            createDomain("Removed", "Removed type.")));
+
+    DevToolsProtocol protocol = new DevToolsProtocol();
+    protocol.setDomains(
+        Arrays.asList(
+            createDomain("DOM", "Unique node id."),
+            createRefDomain("CSS", "DOM.NodeId"),
+            createRefDomain("Overlay", "CSS.Style"),
+            createDomain("Log", "Log entry."),
+            createDomain("Added", "Added type.")));
+
+    assertEquals(
+        new HashSet<>(Arrays.asList("DOM", "CSS", "Overlay", "Added")),
+        DomainUtils.changedDomains(previousProtocol, protocol));
+
+    assertEquals(
+        Collections.emptySet(), DomainUtils.changedDomains(previousProtocol, previousProtocol));
+  }
+
+  @Test
+  public void testSubsetProtocol() throws IOException {
+    Domain css = createRefDomain("CSS", "Value");
+    css.setTypes(
+        Arrays.asList(
+            css.getTypes().get(0),
+            createDomain("CSS", "Unused type.").getTypes().get(0),
+            createStringType("Value")));
+    css.setCommands(Collections.singletonList(new Command()));
+
+    Domain log = createDomain("Log", "Log entry.");
+    log.setCommands(Collections.singletonList(new Command()));
+
+    DevToolsProtocol protocol = new DevToolsProtocol();
+    protocol.setDomains(
+        Arrays.asList(
+            createDomain("DOM", "Node id."),
+            css,
+            createRefDomain("Overlay", "CSS.Style"),
+            log,
+            createRefDomain("Animation", "DOM.NodeId")));
+
+    DevToolsProtocol subset =
+        DomainUtils.subsetProtocol(protocol, new HashSet<>(Arrays.asList("Overlay", "Animation")));
+
+    assertEquals(4, subset.getDomains().size());
+
+    Domain subsetCss = subset.getDomains().get(1);
+    assertEquals("CSS", subsetCss.getDomain());
+    assertEquals(2, subsetCss.getTypes().size());
+    assertEquals("Style", subsetCss.getTypes().get(0).getId());
+    assertEquals("Value", subsetCss.getTypes().get(1).getId());
+    assertNull(subsetCss.getCommands());
+
+    assertEquals("DOM", subset.getDomains().get(0).getDomain());
+    assertEquals(protocol.getDomains().get(2), subset.getDomains().get(2));
+    assertEquals(protocol.getDomains().get(4), subset.getDomains().get(3));
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testSubsetProtocolOnNonExistingDomain() throws IOException {
+    DevToolsProtocol protocol = new DevToolsProtocol();
+    protocol.setDomains(Collections.singletonList(createDomain("DOM", "Node id.")));
+    DomainUtils.subsetProtocol(protocol, Collections.singleton("CSS"));
+  }
+
+  private static Type createStringType(String id) {
+    Type type = new StringType();
+    type.setId(id);
+    return type;
+  }
+
+  private static Domain createDomain(String name, String typeDescription) {
+    Type type = new StringType();
+    type.setId("NodeId");
+    type.setDescription(typeDescription);
+
+    Domain domain = new Domain();
+    domain.setDomain(name);
+    domain.setTypes(Collections.singletonList(type));
+    return domain;
+  }
+
+  private static Domain createRefDomain(String name, String ref) {
+    RefProperty property = new RefProperty();
+    property.setName("property");
+    property.setRef(ref);
+
+    ObjectType type = new ObjectType();
+    type.setId("Style");
+    type.setProperties(Collections.singletonList(property));
+
+    Domain domain = new Domain();
+    domain.setDomain(name);
+    domain.setTypes(Collections.singletonList(type));
+    return domain;
+  }
 }